@@ -0,0 +1,1831 @@
+/**
+ * CFS Command & Data Dictionary benchmark handler.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator
+ * of the National Aeronautics and Space Administration. No copyright is
+ * claimed in the United States under Title 17, U.S. Code. All Other Rights
+ * Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.BULK_IMPORT_TABLE_LIMIT;
+import static CCDD.CcddConstants.DB_CONNECTION_POOL_SIZE;
+import static CCDD.CcddConstants.MACRO_IDENTIFIER;
+import static CCDD.CcddConstants.NUM_HIDDEN_COLUMNS;
+import static CCDD.CcddConstants.WEB_SERVER_MAX_THREADS;
+import static CCDD.CcddConstants.EventLogMessageType.STATUS_MSG;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.PrintWriter;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import CCDD.CcddClasses.CCDDException;
+import CCDD.CcddClasses.TableInformation;
+import CCDD.CcddClasses.TableMembers;
+import CCDD.CcddClasses.TableModification;
+import CCDD.CcddClasses.ToolTipTreeNode;
+import CCDD.CcddConstants.FileExtension;
+import CCDD.CcddConstants.InputDataType;
+import CCDD.CcddConstants.InternalTable;
+import CCDD.CcddConstants.InternalTable.MacrosColumn;
+import CCDD.CcddConstants.InternalTable.ValuesColumn;
+import CCDD.CcddConstants.SearchType;
+import CCDD.CcddConstants.TableMemberType;
+import CCDD.CcddConstants.TableTreeType;
+import CCDD.CcddTableTypeHandler.TypeDefinition;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary benchmark handler class. Measures the time and
+ * number of database statements required by alternative methods of performing
+ * the same operation on the currently open project, and logs the results to
+ * the session event log. Each method is performed once to prime the database
+ * server's caches, then again to obtain the measurement. Benchmarks that
+ * modify the project operate only on scratch tables that the benchmark
+ * creates and then deletes, so the user's tables are never changed
+ *****************************************************************************/
+public class CcddBenchmarkHandler
+{
+    // Class references
+    private final CcddMain ccddMain;
+    private final CcddDbCommandHandler dbCommand;
+    private final CcddDbTableCommandHandler dbTable;
+    private final CcddEventLogDialog eventLog;
+
+    // Prefix for the names of the scratch tables created by the benchmarks
+    private static final String SCRATCH_PREFIX = "ccdd_benchmark_";
+
+    // Number of variables in the scratch structure modified by the table
+    // modification benchmark
+    private static final int MODIFY_NUM_VARIABLES = 500;
+
+    // Number of variables in the scratch structure read by the web data access
+    // benchmark, and the number of requests made for each number of threads
+    private static final int WEB_NUM_VARIABLES = 200;
+    private static final int WEB_NUM_REQUESTS = 300;
+
+    // Number of macros defined, and the number of cells (and distinct cell
+    // values) expanded, by the macro expansion benchmark
+    private static final int MACRO_NUM_MACROS = 1000;
+    private static final int MACRO_NUM_CELLS = 100000;
+    private static final int MACRO_NUM_DISTINCT_CELLS = 5000;
+
+    // Numbers of structures in the synthetic projects used by the table member
+    // graph benchmark, and the number of primitive variables in each structure
+    private static final int[] GRAPH_NUM_STRUCTURES = {1000, 10000, 100000};
+    private static final int GRAPH_NUM_VARIABLES = 4;
+
+    // Number of variables in the scratch child structure, the number of
+    // instances of it in the scratch parent structure (a custom value is
+    // stored for each variable in each instance), and the number of instances
+    // loaded by the custom values benchmark
+    private static final int VALUES_NUM_VARIABLES = 50;
+    private static final int VALUES_NUM_INSTANCES = 10000;
+    private static final int VALUES_NUM_LOADS = 200;
+
+    // Size, in bytes, of the scratch CSV file imported by the import
+    // throughput benchmark, and the number of rows in each table in the file
+    private static final long IMPORT_FILE_SIZE = 2L * 1024 * 1024 * 1024;
+    private static final int IMPORT_TABLE_ROWS = 10000;
+
+    // Number of scratch structure tables exported by the export scaling
+    // benchmark, and the number of variables in each table
+    private static final int EXPORT_NUM_TABLES = 10000;
+    private static final int EXPORT_NUM_VARIABLES = 20;
+
+    // Number of database statements executed by worker threads during the
+    // operation being measured. Statement counts are kept per thread, so the
+    // workers add theirs to this total
+    private final AtomicLong workerStatements = new AtomicLong();
+
+    /**************************************************************************
+     * Benchmark operation interface
+     *************************************************************************/
+    private interface BenchmarkOperation
+    {
+        /**********************************************************************
+         * Perform the operation being measured
+         *
+         * @throws Exception
+         *             If an error occurs performing the operation
+         *********************************************************************/
+        void perform() throws Exception;
+    }
+
+    /**************************************************************************
+     * Benchmark handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *************************************************************************/
+    CcddBenchmarkHandler(CcddMain ccddMain)
+    {
+        this.ccddMain = ccddMain;
+        dbCommand = ccddMain.getDbCommandHandler();
+        dbTable = ccddMain.getDbTableCommandHandler();
+        eventLog = ccddMain.getSessionEventLog();
+    }
+
+    /**************************************************************************
+     * Perform the specified benchmarks on the currently open project
+     *
+     * @param benchmarks
+     *            comma-separated list of benchmark names: load (table loading,
+     *            per-table versus batch), modify (table row modification, with
+     *            versus without the internal table reference updates), and
+     *            search (table search, with versus without the search
+     *            indices), web (web data access requests made in parallel
+     *            by an increasing number of threads), macro (macro
+     *            expansion, with versus without the stored expansions), and
+     *            graph (table member graph and table tree builds for 1k, 10k,
+     *            and 100k structures), and values (instance table loads with
+     *            500k custom values, using the parent path index versus a
+     *            regular expression scan), import (bulk import of a 2 GB CSV
+     *            file of structure tables), and export (export of 10k tables
+     *            to separate files by an increasing number of worker
+     *            threads). The
+     *            load and search benchmarks read the project's tables; the
+     *            others operate on scratch tables or data
+     *
+     * @return true if an error occurred performing a benchmark or a benchmark
+     *         name isn't recognized
+     *************************************************************************/
+    protected boolean runBenchmarks(String benchmarks)
+    {
+        boolean isError = false;
+
+        // Step through each benchmark name
+        for (String benchmark : benchmarks.split(","))
+        {
+            try
+            {
+                switch (benchmark.trim().toLowerCase())
+                {
+                    case "load":
+                        benchmarkTableLoading();
+                        break;
+
+                    case "modify":
+                        benchmarkTableModification();
+                        break;
+
+                    case "search":
+                        benchmarkTableSearch();
+                        break;
+
+                    case "web":
+                        benchmarkWebDataAccess();
+                        break;
+
+                    case "macro":
+                        benchmarkMacroExpansion();
+                        break;
+
+                    case "graph":
+                        benchmarkMemberGraph();
+                        break;
+
+                    case "values":
+                        benchmarkCustomValues();
+                        break;
+
+                    case "import":
+                        benchmarkImport();
+                        break;
+
+                    case "export":
+                        benchmarkExport();
+                        break;
+
+                    default:
+                        throw new CCDDException("unrecognized benchmark '"
+                                                + benchmark.trim()
+                                                + "'");
+                }
+            }
+            catch (Exception e)
+            {
+                // Inform the user that the benchmark failed
+                eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                      "Benchmark failed; cause '"
+                                                               + e.getMessage()
+                                                               + "'",
+                                      "<html><b>Benchmark failed");
+                isError = true;
+            }
+        }
+
+        return isError;
+    }
+
+    /**************************************************************************
+     * Measure loading every table in the project, first with a call to
+     * loadTableData() for each table path and then with a single call to
+     * loadTableDataBatch()
+     *
+     * @throws Exception
+     *             If an error occurs loading the tables
+     *************************************************************************/
+    private void benchmarkTableLoading() throws Exception
+    {
+        // Get the path for every prototype and instance table in the project
+        CcddTableTreeHandler tableTree = new CcddTableTreeHandler(ccddMain,
+                                                                  TableTreeType.INSTANCE_TABLES,
+                                                                  ccddMain.getMainFrame());
+        final List<String> tablePaths = tableTree.getTableTreePathList(null,
+                                                                       (ToolTipTreeNode) tableTree.getRootNode(),
+                                                                       -1);
+
+        // Measure loading the tables one at a time
+        measure("table loading",
+                "per-table loadTableData",
+                tablePaths.size(),
+                "table",
+                new BenchmarkOperation()
+                {
+                    @Override
+                    public void perform()
+                    {
+                        // Step through each table path
+                        for (String tablePath : tablePaths)
+                        {
+                            // Load the table's data
+                            dbTable.loadTableData(tablePath,
+                                                  false,
+                                                  false,
+                                                  false,
+                                                  false,
+                                                  ccddMain.getMainFrame());
+                        }
+                    }
+                });
+
+        // Measure loading the tables in a batch
+        measure("table loading",
+                "loadTableDataBatch",
+                tablePaths.size(),
+                "table",
+                new BenchmarkOperation()
+                {
+                    @Override
+                    public void perform()
+                    {
+                        // Load the data for all of the tables
+                        dbTable.loadTableDataBatch(tablePaths,
+                                                   null,
+                                                   false,
+                                                   false,
+                                                   false,
+                                                   ccddMain.getMainFrame());
+                    }
+                });
+    }
+
+    /**************************************************************************
+     * Measure modifying the rows of a scratch structure prototype table, first
+     * with and then without the updates to the references to the table's
+     * variables in the internal tables (custom values, groups, data fields,
+     * column orders, script associations, links, and telemetry scheduler). A
+     * scratch parent structure contains an instance of the scratch table, and
+     * the instance's variables have custom values, so that the internal table
+     * updates have references to change. Each variable is renamed and then
+     * restored to its original name. The scratch tables, and the references
+     * to them, are deleted once the benchmark completes
+     *
+     * @throws Exception
+     *             If an error occurs modifying the table
+     *************************************************************************/
+    private void benchmarkTableModification() throws Exception
+    {
+        // Get the structure table type and primitive data type used by the
+        // scratch tables
+        TypeDefinition typeDefn = getStructureTypeDefinition();
+        String dataType = getPrimitiveDataType();
+
+        // Create the names of the scratch tables and the path to the instance
+        // of the modified table
+        String childName = SCRATCH_PREFIX + "child";
+        String parentName = SCRATCH_PREFIX + "parent";
+        String instancePath = parentName + "," + childName + ".child";
+        List<String> tableNames = Arrays.asList(childName, parentName);
+
+        List<String[]> childMembers = new ArrayList<String[]>();
+        List<Object[]> customValues = new ArrayList<Object[]>();
+        int descIndex = typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION);
+
+        // Step through each variable to create in the modified table
+        for (int index = 0; index < MODIFY_NUM_VARIABLES; index++)
+        {
+            // Add the variable to the table's members
+            String variable = "var" + index;
+            childMembers.add(new String[] {variable, dataType});
+
+            // Check if the table type has a description column
+            if (descIndex != -1)
+            {
+                // Add a custom description for the variable in the instance
+                customValues.add(new Object[] {instancePath
+                                               + ","
+                                               + dataType
+                                               + "."
+                                               + variable,
+                                               typeDefn.getColumnNamesUser()[descIndex],
+                                               "benchmark"});
+            }
+        }
+
+        // Check that the scratch tables don't exist
+        checkScratchTables(tableNames);
+
+        try
+        {
+            // Create the scratch tables and store the instance's custom values
+            createScratchStructures(typeDefn,
+                                    tableNames,
+                                    Arrays.asList(childMembers,
+                                                  Arrays.asList(new String[][] {{"child",
+                                                                                 childName}})));
+            dbCommand.executeDbCopy(InternalTable.VALUES.getTableName(),
+                                    new String[] {ValuesColumn.TABLE_PATH.getColumnName(),
+                                                  ValuesColumn.COLUMN_NAME.getColumnName(),
+                                                  ValuesColumn.VALUE.getColumnName()},
+                                    customValues,
+                                    ccddMain.getMainFrame());
+
+            // Load the scratch table to modify
+            TableInformation tableInfo = dbTable.loadTableData(childName,
+                                                               false,
+                                                               false,
+                                                               false,
+                                                               false,
+                                                               ccddMain.getMainFrame());
+
+            // Check if the table failed to load
+            if (tableInfo.isErrorFlag())
+            {
+                throw new CCDDException("cannot load table '"
+                                        + childName
+                                        + "'");
+            }
+
+            // Measure modifying the table
+            measureTableModification(tableInfo, typeDefn);
+        }
+        finally
+        {
+            // Delete the scratch tables and the references to them
+            deleteScratchTables(tableNames);
+        }
+    }
+
+    /**************************************************************************
+     * Measure modifying the rows of the specified structure table, first with
+     * and then without the updates to the references to the table's variables
+     * in the internal tables
+     *
+     * @param tableInfo
+     *            information for the table to modify
+     *
+     * @param typeDefn
+     *            table's type definition
+     *
+     * @throws Exception
+     *             If an error occurs modifying the table
+     *************************************************************************/
+    private void measureTableModification(TableInformation tableInfo,
+                                          TypeDefinition typeDefn) throws Exception
+    {
+        // Get the indices of the columns used to update the internal table
+        // references
+        int variableIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+        int dataTypeIndex = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
+        int arraySizeIndex = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
+        int bitLengthIndex = typeDefn.getColumnIndexByInputType(InputDataType.BIT_LENGTH);
+        List<Integer> rateIndices = typeDefn.getColumnIndicesByInputType(InputDataType.RATE);
+
+        // Create copies of the table's rows in which each variable is renamed.
+        // The suffix is inserted ahead of any array index so that an array's
+        // members remain consistent with its definition
+        final String[][] orgData = tableInfo.getData();
+        final String[][] newData = new String[orgData.length][];
+        final List<TableModification> renames = new ArrayList<TableModification>();
+        final List<TableModification> restores = new ArrayList<TableModification>();
+
+        // Step through each row in the table
+        for (int row = 0; row < orgData.length; row++)
+        {
+            // Rename the row's variable
+            newData[row] = orgData[row].clone();
+            newData[row][variableIndex] = orgData[row][variableIndex].replaceFirst("^([^\\[]+)",
+                                                                                   "$1_bm");
+
+            // Store the modifications to rename the variable and to restore
+            // its original name
+            renames.add(new TableModification(newData[row],
+                                              orgData[row],
+                                              variableIndex,
+                                              dataTypeIndex,
+                                              arraySizeIndex,
+                                              bitLengthIndex,
+                                              rateIndices));
+            restores.add(new TableModification(orgData[row],
+                                               newData[row],
+                                               variableIndex,
+                                               dataTypeIndex,
+                                               arraySizeIndex,
+                                               bitLengthIndex,
+                                               rateIndices));
+        }
+
+        // Measure modifying the rows, updating the internal table references
+        measure("table modification",
+                "with internal table updates",
+                renames.size() * 2,
+                "row",
+                new ModifyOperation(tableInfo, orgData, newData, renames, restores, false));
+
+        // Measure modifying the rows without updating the internal table
+        // references
+        measure("table modification",
+                "without internal table updates",
+                renames.size() * 2,
+                "row",
+                new ModifyOperation(tableInfo, orgData, newData, renames, restores, true));
+    }
+
+    /**************************************************************************
+     * Get the type definition of the first structure table type
+     *
+     * @return Type definition of the first structure table type
+     *
+     * @throws CCDDException
+     *             If the project has no structure table type
+     *************************************************************************/
+    private TypeDefinition getStructureTypeDefinition() throws CCDDException
+    {
+        String[] structureTypes = ccddMain.getTableTypeHandler().getStructureTableTypes();
+
+        // Check if the project has no structure table type
+        if (structureTypes.length == 0)
+        {
+            throw new CCDDException("project contains no structure table type");
+        }
+
+        return ccddMain.getTableTypeHandler().getTypeDefinition(structureTypes[0]);
+    }
+
+    /**************************************************************************
+     * Get the name of the first primitive data type
+     *
+     * @return Name of the first primitive data type
+     *
+     * @throws CCDDException
+     *             If the project has no primitive data type
+     *************************************************************************/
+    private String getPrimitiveDataType() throws CCDDException
+    {
+        List<String[]> dataTypes = ccddMain.getDataTypeHandler().getDataTypeData();
+
+        // Check if the project has no data type
+        if (dataTypes.isEmpty())
+        {
+            throw new CCDDException("project contains no data type");
+        }
+
+        return CcddDataTypeHandler.getDataTypeName(dataTypes.get(0));
+    }
+
+    /**************************************************************************
+     * Check that none of the specified scratch tables exists in the project
+     *
+     * @param tableNames
+     *            list of the scratch table names
+     *
+     * @throws CCDDException
+     *             If a table with one of the names exists
+     *************************************************************************/
+    private void checkScratchTables(List<String> tableNames) throws CCDDException
+    {
+        Set<String> existingNames = new HashSet<String>();
+
+        // Step through each table in the project
+        for (String tableName : dbTable.queryTableList(ccddMain.getMainFrame()))
+        {
+            // Add the table name to the set
+            existingNames.add(tableName.toLowerCase());
+        }
+
+        // Step through each scratch table name
+        for (String tableName : tableNames)
+        {
+            // Check if a table with this name exists
+            if (existingNames.contains(tableName.toLowerCase()))
+            {
+                throw new CCDDException("table '"
+                                        + tableName
+                                        + "' already exists");
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Create scratch structure prototype tables
+     *
+     * @param typeDefn
+     *            structure table type definition
+     *
+     * @param tableNames
+     *            list of the scratch table names
+     *
+     * @param members
+     *            list containing the members of each table, in the same order
+     *            as the table names. Each member consists of the variable name
+     *            and data type, optionally followed by the value for the first
+     *            rate column
+     *
+     * @throws CCDDException
+     *             If an error occurs creating the tables
+     *************************************************************************/
+    private void createScratchStructures(TypeDefinition typeDefn,
+                                         List<String> tableNames,
+                                         List<List<String[]>> members) throws CCDDException
+    {
+        List<TableInformation> tableInfo = new ArrayList<TableInformation>();
+        List<List<String>> cellData = new ArrayList<List<String>>();
+        int variableIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE)
+                            - NUM_HIDDEN_COLUMNS;
+        int dataTypeIndex = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT)
+                            - NUM_HIDDEN_COLUMNS;
+        int rateIndex = typeDefn.getColumnIndexByInputType(InputDataType.RATE)
+                        - NUM_HIDDEN_COLUMNS;
+
+        // Step through each scratch table
+        for (int index = 0; index < tableNames.size(); index++)
+        {
+            // Add the table's information
+            tableInfo.add(new TableInformation(typeDefn.getName(),
+                                               tableNames.get(index),
+                                               new String[0][0],
+                                               ccddMain.getTableTypeHandler().getDefaultColumnOrder(typeDefn.getName()),
+                                               "",
+                                               true));
+
+            List<String> data = new ArrayList<String>();
+
+            // Step through each of the table's members
+            for (String[] member : members.get(index))
+            {
+                // Add a row containing the member's variable name and data
+                // type, with the remaining columns blank
+                String[] row = new String[typeDefn.getColumnCountVisible()];
+                Arrays.fill(row, "");
+                row[variableIndex] = member[0];
+                row[dataTypeIndex] = member[1];
+
+                // Check if a rate is supplied and the table has a rate column
+                if (member.length > 2 && rateIndex >= 0)
+                {
+                    row[rateIndex] = member[2];
+                }
+
+                data.addAll(Arrays.asList(row));
+            }
+
+            cellData.add(data);
+        }
+
+        // Create the tables and stream their rows to the database
+        if (dbTable.createTablesInBulk(tableInfo,
+                                       cellData,
+                                       ccddMain.getMainFrame()))
+        {
+            throw new CCDDException("cannot create scratch tables");
+        }
+    }
+
+    /**************************************************************************
+     * Delete the scratch tables, and the references to them in the internal
+     * tables
+     *
+     * @param tableNames
+     *            list of the scratch table names
+     *
+     * @throws CCDDException
+     *             If an error occurs deleting the tables
+     *************************************************************************/
+    private void deleteScratchTables(List<String> tableNames) throws CCDDException
+    {
+        // Step through the table names, a group at a time
+        for (int index = 0; index < tableNames.size(); index += BULK_IMPORT_TABLE_LIMIT)
+        {
+            // Delete the tables in the group
+            if (dbTable.deleteTable(tableNames.subList(index,
+                                                       Math.min(index
+                                                                + BULK_IMPORT_TABLE_LIMIT,
+                                                                tableNames.size()))
+                                              .toArray(new String[0]),
+                                    true,
+                                    ccddMain.getMainFrame()))
+            {
+                throw new CCDDException("cannot delete scratch tables");
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Table modification benchmark operation class. Renames the table's
+     * variables, then restores their original names
+     *************************************************************************/
+    private class ModifyOperation implements BenchmarkOperation
+    {
+        private final TableInformation tableInfo;
+        private final String[][] orgData;
+        private final String[][] newData;
+        private final List<TableModification> renames;
+        private final List<TableModification> restores;
+        private final boolean skipInternalTables;
+
+        /**********************************************************************
+         * Table modification benchmark operation class constructor
+         *
+         * @param tableInfo
+         *            information for the table to modify
+         *
+         * @param orgData
+         *            table's original rows
+         *
+         * @param newData
+         *            table's rows with the variables renamed
+         *
+         * @param renames
+         *            modifications to rename the variables
+         *
+         * @param restores
+         *            modifications to restore the variables' original names
+         *
+         * @param skipInternalTables
+         *            true to not update the internal table references to the
+         *            table's variables
+         *********************************************************************/
+        ModifyOperation(TableInformation tableInfo,
+                        String[][] orgData,
+                        String[][] newData,
+                        List<TableModification> renames,
+                        List<TableModification> restores,
+                        boolean skipInternalTables)
+        {
+            this.tableInfo = tableInfo;
+            this.orgData = orgData;
+            this.newData = newData;
+            this.renames = renames;
+            this.restores = restores;
+            this.skipInternalTables = skipInternalTables;
+        }
+
+        /**********************************************************************
+         * Rename the table's variables, then restore their original names
+         *
+         * @throws CCDDException
+         *             If an error occurs modifying the table
+         *********************************************************************/
+        @Override
+        public void perform() throws CCDDException
+        {
+            // Rename the variables
+            boolean isError = modify(renames);
+
+            // Check if the variables were renamed
+            if (!isError)
+            {
+                // Update the table information's rows to match the stored
+                // table, then restore the original names
+                tableInfo.setData(newData);
+                isError = modify(restores);
+                tableInfo.setData(orgData);
+            }
+
+            // Check if an error occurred modifying the table
+            if (isError)
+            {
+                throw new CCDDException("cannot modify table '"
+                                        + tableInfo.getTablePath()
+                                        + "'");
+            }
+        }
+
+        /**********************************************************************
+         * Store the specified row modifications in the table
+         *
+         * @param modifications
+         *            list of row modifications
+         *
+         * @return true if an error occurs while updating the table
+         *********************************************************************/
+        private boolean modify(List<TableModification> modifications)
+        {
+            return dbTable.modifyTableData(tableInfo,
+                                           new ArrayList<TableModification>(),
+                                           modifications,
+                                           new ArrayList<TableModification>(),
+                                           true,
+                                           skipInternalTables,
+                                           false,
+                                           false,
+                                           false,
+                                           null,
+                                           null,
+                                           ccddMain.getMainFrame());
+        }
+    }
+
+    /**************************************************************************
+     * Measure searching every table in the project, first with the search
+     * indices and then without them. The name of the first data table is used
+     * as the search text since it's likely referenced in other tables. The
+     * search indices are excluded by disabling bitmap scans (the only means
+     * by which the database server uses the trigram indices) on the database
+     * connection used for the search
+     *
+     * @throws Exception
+     *             If an error occurs searching the tables
+     *************************************************************************/
+    private void benchmarkTableSearch() throws Exception
+    {
+        // Get the names of the data tables in the project
+        final String[] tableNames = dbTable.queryTableList(ccddMain.getMainFrame());
+
+        // Check if the project has no data tables
+        if (tableNames.length == 0)
+        {
+            throw new CCDDException("project contains no data tables");
+        }
+
+        // Create the search operation
+        BenchmarkOperation search = new BenchmarkOperation()
+        {
+            @Override
+            public void perform()
+            {
+                // Search the tables for the text, ignoring case
+                ccddMain.getSearchIndexHandler().searchTables(tableNames[0],
+                                                              true,
+                                                              false,
+                                                              SearchType.ALL.toString(),
+                                                              "",
+                                                              ccddMain.getMainFrame());
+            }
+        };
+
+        // Obtain a read-only database connection so that the setting change
+        // applies to the connection used by the searches
+        dbCommand.acquireReadOnlyConnection(ccddMain.getMainFrame());
+
+        try
+        {
+            // Measure searching the tables using the search indices
+            measure("table search",
+                    "search with indices",
+                    tableNames.length,
+                    "table",
+                    search);
+
+            // Measure searching the tables without using the search indices
+            setBitmapScan(false);
+            measure("table search",
+                    "search without indices",
+                    tableNames.length,
+                    "table",
+                    search);
+        }
+        finally
+        {
+            try
+            {
+                // Restore the setting
+                setBitmapScan(true);
+            }
+            finally
+            {
+                // Release the read-only database connection
+                dbCommand.releaseReadOnlyConnection();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Measure processing web data access requests made in parallel by 1, 2,
+     * 4, ... threads (up to the web server's maximum number of threads). Table
+     * data, telemetry, and command requests are made; the table requests are
+     * for a scratch structure, which has a rate assigned to each variable so
+     * that the variables are also included in the telemetry response. The
+     * response to each request is compared to the response to the same
+     * request made by a single thread, so that a request corrupted by another
+     * request in progress is detected
+     *
+     * @throws Exception
+     *             If an error occurs creating the scratch table or processing
+     *             a request, or if a response is incorrect
+     *************************************************************************/
+    private void benchmarkWebDataAccess() throws Exception
+    {
+        // Get the structure table type and primitive data type used by the
+        // scratch table
+        TypeDefinition typeDefn = getStructureTypeDefinition();
+        String dataType = getPrimitiveDataType();
+        String tableName = SCRATCH_PREFIX + "web";
+        List<String> tableNames = Arrays.asList(tableName);
+        List<String[]> members = new ArrayList<String[]>();
+
+        // Step through each variable to create
+        for (int index = 0; index < WEB_NUM_VARIABLES; index++)
+        {
+            // Add the variable, with a rate, to the table's members
+            members.add(new String[] {"var" + index, dataType, "1"});
+        }
+
+        // Create the requests, as component and query pairs
+        final String[][] requests = new String[][] {{"table",
+                                                     "all=" + tableName},
+                                                    {"telemetry", ""},
+                                                    {"command", ""}};
+
+        // Check that the scratch table doesn't exist
+        checkScratchTables(tableNames);
+
+        try
+        {
+            // Create the scratch table
+            createScratchStructures(typeDefn,
+                                    tableNames,
+                                    Arrays.asList(members));
+
+            // Create a web data access handler using the current project
+            final CcddWebDataAccessHandler accessHandler = new CcddWebDataAccessHandler(ccddMain);
+            accessHandler.setHandlers();
+
+            // Get the expected response to each request
+            final String[] expected = new String[requests.length];
+
+            // Step through each request
+            for (int index = 0; index < requests.length; index++)
+            {
+                expected[index] = accessHandler.processRequest(requests[index][0],
+                                                               requests[index][1]);
+
+                // Check if the request failed
+                if (expected[index] == null)
+                {
+                    throw new CCDDException("web request '"
+                                            + requests[index][0]
+                                            + "' failed");
+                }
+            }
+
+            // Step through each number of threads
+            for (int numThreads = 1; numThreads <= WEB_SERVER_MAX_THREADS; numThreads *= 2)
+            {
+                final AtomicInteger numIncorrect = new AtomicInteger();
+                final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+
+                try
+                {
+                    // Measure making the requests in parallel
+                    measure("web data access",
+                            numThreads + " thread(s)",
+                            WEB_NUM_REQUESTS,
+                            "request",
+                            new BenchmarkOperation()
+                            {
+                                @Override
+                                public void perform() throws Exception
+                                {
+                                    List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+
+                                    // Step through each request to make
+                                    for (int index = 0; index < WEB_NUM_REQUESTS; index++)
+                                    {
+                                        final int request = index % requests.length;
+
+                                        // Create a task to make the request
+                                        // and check the response
+                                        tasks.add(new Callable<Void>()
+                                        {
+                                            @Override
+                                            public Void call()
+                                            {
+                                                long startCount = dbCommand.getStatementCount();
+
+                                                // Check if the response
+                                                // doesn't match the expected
+                                                // response
+                                                if (!expected[request].equals(accessHandler.processRequest(requests[request][0],
+                                                                                                           requests[request][1])))
+                                                {
+                                                    numIncorrect.incrementAndGet();
+                                                }
+
+                                                // Add the thread's statements
+                                                // to the total
+                                                workerStatements.addAndGet(dbCommand.getStatementCount()
+                                                                           - startCount);
+                                                return null;
+                                            }
+                                        });
+                                    }
+
+                                    // Make the requests and wait for them to
+                                    // complete. Step through the result from
+                                    // each request
+                                    for (Future<Void> result : executor.invokeAll(tasks))
+                                    {
+                                        try
+                                        {
+                                            // Check if the request terminated
+                                            // due to an error
+                                            result.get();
+                                        }
+                                        catch (ExecutionException ee)
+                                        {
+                                            throw new CCDDException("web request failed; cause '"
+                                                                    + ee.getCause().getMessage()
+                                                                    + "'");
+                                        }
+                                    }
+                                }
+                            });
+                }
+                finally
+                {
+                    // Stop the worker threads
+                    executor.shutdownNow();
+                }
+
+                // Check if any response was incorrect
+                if (numIncorrect.get() != 0)
+                {
+                    throw new CCDDException(numIncorrect.get()
+                                            + " incorrect web response(s) with "
+                                            + numThreads
+                                            + " thread(s)");
+                }
+            }
+        }
+        finally
+        {
+            // Delete the scratch table
+            deleteScratchTables(tableNames);
+        }
+    }
+
+    /**************************************************************************
+     * Measure expanding the macros in a set of table cells, first with no
+     * stored expansions (so that every distinct cell value is scanned for
+     * macros) and then with the expansions stored. The macros and cells are
+     * synthetic: the cells contain plain text, single and multiple macro
+     * references, and references to undefined macros, and as in a project's
+     * tables the same cell values recur. A separate macro handler is used so
+     * that the project's macros are unaffected
+     *
+     * @throws Exception
+     *             If an error occurs expanding the macros
+     *************************************************************************/
+    private void benchmarkMacroExpansion() throws Exception
+    {
+        final List<String[]> macros = new ArrayList<String[]>();
+
+        // Step through each macro to create
+        for (int index = 0; index < MACRO_NUM_MACROS; index++)
+        {
+            // Add the macro name and value
+            String[] macro = new String[MacrosColumn.values().length];
+            macro[MacrosColumn.MACRO_NAME.ordinal()] = "BM_MACRO_" + index;
+            macro[MacrosColumn.VALUE.ordinal()] = String.valueOf(index);
+            macros.add(macro);
+        }
+
+        final List<String> cells = new ArrayList<String>(MACRO_NUM_CELLS);
+
+        // Step through each cell to create
+        for (int index = 0; index < MACRO_NUM_CELLS; index++)
+        {
+            // Get the cell's value index; values repeat once all of the
+            // distinct values are used
+            int value = index % MACRO_NUM_DISTINCT_CELLS;
+
+            // Create the cell based on its value index
+            switch (value % 4)
+            {
+                case 0:
+                    // Plain text
+                    cells.add("variable_" + value);
+                    break;
+
+                case 1:
+                    // Single macro reference
+                    cells.add(getBenchmarkMacro(value));
+                    break;
+
+                case 2:
+                    // Multiple macro references
+                    cells.add(getBenchmarkMacro(value)
+                              + " * "
+                              + getBenchmarkMacro(value + 1)
+                              + " + "
+                              + value);
+                    break;
+
+                default:
+                    // Reference to an undefined macro
+                    cells.add("text "
+                              + MACRO_IDENTIFIER
+                              + "undefined_"
+                              + value
+                              + MACRO_IDENTIFIER);
+                    break;
+            }
+        }
+
+        // Create the macro handler
+        final CcddMacroHandler macroHandler = new CcddMacroHandler(macros);
+
+        // Measure expanding the cells with no stored expansions
+        measure("macro expansion",
+                "without stored expansions",
+                cells.size(),
+                "cell",
+                new BenchmarkOperation()
+                {
+                    @Override
+                    public void perform()
+                    {
+                        // Reset the macros, which discards the stored
+                        // expansions
+                        macroHandler.setMacroData(macros);
+
+                        // Step through each cell
+                        for (String cell : cells)
+                        {
+                            // Expand the macros in the cell
+                            macroHandler.getMacroExpansion(cell);
+                        }
+                    }
+                });
+
+        // Measure expanding the cells using the stored expansions
+        measure("macro expansion",
+                "with stored expansions",
+                cells.size(),
+                "cell",
+                new BenchmarkOperation()
+                {
+                    @Override
+                    public void perform()
+                    {
+                        // Step through each cell
+                        for (String cell : cells)
+                        {
+                            // Expand the macros in the cell
+                            macroHandler.getMacroExpansion(cell);
+                        }
+                    }
+                });
+    }
+
+    /**************************************************************************
+     * Get a reference to one of the macros created by the macro expansion
+     * benchmark
+     *
+     * @param index
+     *            index used to select the macro
+     *
+     * @return Macro name, including the delimiters
+     *************************************************************************/
+    private String getBenchmarkMacro(int index)
+    {
+        return MACRO_IDENTIFIER
+               + "BM_MACRO_"
+               + (index % MACRO_NUM_MACROS)
+               + MACRO_IDENTIFIER;
+    }
+
+    /**************************************************************************
+     * Measure building the structure and variable paths for synthetic projects
+     * of 1k, 10k, and 100k scratch structures, first from the table member
+     * graph and then by creating a table tree of the structure instances and
+     * their variables. The scratch structures form a binary tree: each
+     * contains primitive variables and instances of the next two structures,
+     * so that every structure except the first is an instance within the
+     * first. The members are loaded from the database for each table tree
+     * build, but only once for the member graph builds. The table tree also
+     * includes the project's own structures. The scratch structures are
+     * deleted after each project size is measured
+     *
+     * @throws Exception
+     *             If an error occurs creating the scratch tables or building
+     *             the paths
+     *************************************************************************/
+    private void benchmarkMemberGraph() throws Exception
+    {
+        // Get the structure table type and primitive data type used by the
+        // scratch tables
+        TypeDefinition typeDefn = getStructureTypeDefinition();
+        String dataType = getPrimitiveDataType();
+
+        // Step through each project size
+        for (int numStructures : GRAPH_NUM_STRUCTURES)
+        {
+            List<String> tableNames = new ArrayList<String>(numStructures);
+            List<List<String[]>> members = new ArrayList<List<String[]>>(numStructures);
+
+            // Step through each structure to create
+            for (int index = 0; index < numStructures; index++)
+            {
+                // Add the structure name
+                tableNames.add(SCRATCH_PREFIX + "graph_" + index);
+            }
+
+            // Step through each structure to create
+            for (int index = 0; index < numStructures; index++)
+            {
+                List<String[]> structMembers = new ArrayList<String[]>();
+
+                // Step through each primitive variable to create
+                for (int variable = 0; variable < GRAPH_NUM_VARIABLES; variable++)
+                {
+                    // Add the primitive variable
+                    structMembers.add(new String[] {"var" + variable,
+                                                    dataType});
+                }
+
+                // Step through the structure's two child structures
+                for (int child = index * 2 + 1; child <= index * 2 + 2 && child < numStructures; child++)
+                {
+                    // Add an instance of the child structure
+                    structMembers.add(new String[] {"s" + child,
+                                                    tableNames.get(child)});
+                }
+
+                members.add(structMembers);
+            }
+
+            // Check that the scratch tables don't exist
+            checkScratchTables(tableNames);
+
+            try
+            {
+                // Create the scratch tables
+                createScratchStructures(typeDefn, tableNames, members);
+
+                // Load the members of every table
+                final List<TableMembers> tableMembers = dbTable.loadTableMembers(TableMemberType.INCLUDE_PRIMITIVES,
+                                                                                 false,
+                                                                                 ccddMain.getMainFrame());
+
+                // Check if the members failed to load
+                if (tableMembers == null)
+                {
+                    throw new CCDDException("cannot load table members");
+                }
+
+                final String rootName = tableNames.get(0);
+                int numPaths = numStructures * (GRAPH_NUM_VARIABLES + 1);
+
+                // Measure building the paths from the member graph
+                measure("member graph",
+                        "member graph, " + numStructures + " structures",
+                        numPaths,
+                        "path",
+                        new BenchmarkOperation()
+                        {
+                            @Override
+                            public void perform()
+                            {
+                                // Create the member graph and get the paths
+                                // within the first scratch structure
+                                CcddTableMemberGraph memberGraph = new CcddTableMemberGraph(ccddMain,
+                                                                                            tableMembers);
+                                memberGraph.getVariablePaths(memberGraph.getMembers(rootName));
+                            }
+                        });
+
+                // Measure building the table tree
+                measure("member graph",
+                        "table tree, " + numStructures + " structures",
+                        numPaths,
+                        "path",
+                        new BenchmarkOperation()
+                        {
+                            @Override
+                            public void perform()
+                            {
+                                // Create the tree of structure instances and
+                                // their variables
+                                new CcddTableTreeHandler(ccddMain,
+                                                         TableTreeType.INSTANCE_STRUCTURES_WITH_PRIMITIVES,
+                                                         ccddMain.getMainFrame());
+                            }
+                        });
+            }
+            finally
+            {
+                // Delete the scratch tables
+                deleteScratchTables(tableNames);
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Measure loading instance tables when the custom values table contains
+     * 500k scratch rows, first by loading the tables (which select the
+     * instances' custom values using the parent path index) and then by
+     * selecting the instances' custom values with the regular expression
+     * match on the table path used before the index was added. A scratch
+     * parent structure contains 10k instances of a scratch child structure,
+     * and a custom description is stored for each variable in each instance.
+     * The scratch tables and their custom values are deleted once the
+     * benchmark completes
+     *
+     * @throws Exception
+     *             If an error occurs creating the scratch tables or loading
+     *             the instances
+     *************************************************************************/
+    private void benchmarkCustomValues() throws Exception
+    {
+        // Get the structure table type and primitive data type used by the
+        // scratch tables
+        TypeDefinition typeDefn = getStructureTypeDefinition();
+        String dataType = getPrimitiveDataType();
+        int descIndex = typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION);
+
+        // Check if the structure table type has no description column
+        if (descIndex == -1)
+        {
+            throw new CCDDException("structure table type '"
+                                    + typeDefn.getName()
+                                    + "' has no description column");
+        }
+
+        String childName = SCRATCH_PREFIX + "values_child";
+        String parentName = SCRATCH_PREFIX + "values_parent";
+        List<String> tableNames = Arrays.asList(childName, parentName);
+        List<String[]> childMembers = new ArrayList<String[]>();
+        List<String[]> parentMembers = new ArrayList<String[]>();
+        List<Object[]> customValues = new ArrayList<Object[]>(VALUES_NUM_VARIABLES
+                                                              * VALUES_NUM_INSTANCES);
+        final List<String> instancePaths = new ArrayList<String>();
+
+        // Step through each variable in the child structure
+        for (int variable = 0; variable < VALUES_NUM_VARIABLES; variable++)
+        {
+            // Add the variable to the child structure
+            childMembers.add(new String[] {"var" + variable, dataType});
+        }
+
+        // Step through each instance of the child structure
+        for (int instance = 0; instance < VALUES_NUM_INSTANCES; instance++)
+        {
+            // Add the instance to the parent structure
+            String instancePath = parentName
+                                  + ","
+                                  + childName
+                                  + ".s"
+                                  + instance;
+            parentMembers.add(new String[] {"s" + instance, childName});
+
+            // Check if this is one of the instances to load
+            if (instance % (VALUES_NUM_INSTANCES / VALUES_NUM_LOADS) == 0)
+            {
+                instancePaths.add(instancePath);
+            }
+
+            // Step through each variable in the instance
+            for (int variable = 0; variable < VALUES_NUM_VARIABLES; variable++)
+            {
+                // Add a custom description for the variable
+                customValues.add(new Object[] {instancePath
+                                               + ","
+                                               + dataType
+                                               + ".var"
+                                               + variable,
+                                               typeDefn.getColumnNamesUser()[descIndex],
+                                               "benchmark " + instance});
+            }
+        }
+
+        // Check that the scratch tables don't exist
+        checkScratchTables(tableNames);
+
+        try
+        {
+            // Create the scratch tables and store the instances' custom values
+            createScratchStructures(typeDefn,
+                                    tableNames,
+                                    Arrays.asList(childMembers, parentMembers));
+            dbCommand.executeDbCopy(InternalTable.VALUES.getTableName(),
+                                    new String[] {ValuesColumn.TABLE_PATH.getColumnName(),
+                                                  ValuesColumn.COLUMN_NAME.getColumnName(),
+                                                  ValuesColumn.VALUE.getColumnName()},
+                                    customValues,
+                                    ccddMain.getMainFrame());
+
+            // Update the custom values table's statistics so that the
+            // database server's query plans reflect the added rows
+            dbCommand.executeDbUpdate("ANALYZE "
+                                      + InternalTable.VALUES.getTableName()
+                                      + ";",
+                                      ccddMain.getMainFrame());
+
+            // Measure loading the instances
+            measure("custom values",
+                    "loadTableData (parent path index), "
+                                     + customValues.size()
+                                     + " values",
+                    instancePaths.size(),
+                    "instance",
+                    new BenchmarkOperation()
+                    {
+                        @Override
+                        public void perform() throws CCDDException
+                        {
+                            // Step through each instance to load
+                            for (String instancePath : instancePaths)
+                            {
+                                // Load the instance and check if an error
+                                // occurred
+                                if (dbTable.loadTableData(instancePath,
+                                                          false,
+                                                          false,
+                                                          false,
+                                                          false,
+                                                          ccddMain.getMainFrame())
+                                           .isErrorFlag())
+                                {
+                                    throw new CCDDException("cannot load table '"
+                                                            + instancePath
+                                                            + "'");
+                                }
+                            }
+                        }
+                    });
+
+            // Measure selecting the instances' custom values using a regular
+            // expression match on the table path
+            measure("custom values",
+                    "table path regular expression, "
+                                     + customValues.size()
+                                     + " values",
+                    instancePaths.size(),
+                    "instance",
+                    new BenchmarkOperation()
+                    {
+                        @Override
+                        public void perform() throws SQLException
+                        {
+                            // Step through each instance to load
+                            for (String instancePath : instancePaths)
+                            {
+                                // Select and read the instance's custom values
+                                ResultSet result = dbCommand.executeDbQuery("SELECT * FROM "
+                                                                            + InternalTable.VALUES.getTableName()
+                                                                            + " WHERE "
+                                                                            + ValuesColumn.TABLE_PATH.getColumnName()
+                                                                            + " ~ E'^"
+                                                                            + instancePath
+                                                                            + ",[^,]+$' AND "
+                                                                            + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                                            + " != '';",
+                                                                            ccddMain.getMainFrame());
+
+                                // Step through each custom value selected
+                                while (result.next())
+                                {
+                                    // Read the value, as when applying it to
+                                    // the instance
+                                    result.getString(ValuesColumn.VALUE.getColumnName());
+                                }
+
+                                result.close();
+                            }
+                        }
+                    });
+        }
+        finally
+        {
+            // Delete the scratch tables and their custom values
+            deleteScratchTables(tableNames);
+        }
+    }
+
+    /**************************************************************************
+     * Measure the throughput of the bulk table import. A scratch CSV file of
+     * 2 GB is generated containing scratch structure tables, then the file is
+     * imported with the tables created and their rows loaded using the
+     * database's bulk copy operation. The import is performed once, since
+     * a second pass would find the tables already exist. The scratch tables
+     * and the file are deleted once the benchmark completes
+     *
+     * @throws Exception
+     *             If an error occurs generating or importing the file
+     *************************************************************************/
+    private void benchmarkImport() throws Exception
+    {
+        // Get the structure table type and primitive data type used by the
+        // scratch tables
+        TypeDefinition typeDefn = getStructureTypeDefinition();
+        String dataType = getPrimitiveDataType();
+        String[] columnNames = typeDefn.getColumnNamesUser();
+        int descIndex = typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION);
+
+        // Get the names of the columns for which values are supplied: the
+        // variable name, data type, and, if the type has one, description
+        List<String> importColumns = new ArrayList<String>();
+        importColumns.add(columnNames[typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE)]);
+        importColumns.add(columnNames[typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT)]);
+
+        // Check if the structure table type has a description column
+        if (descIndex != -1)
+        {
+            importColumns.add(columnNames[descIndex]);
+        }
+
+        List<String> tableNames = new ArrayList<String>();
+        long numRows = 0;
+        long fileSize = 0;
+        File importFile = File.createTempFile(SCRATCH_PREFIX,
+                                              FileExtension.CSV.getExtension());
+        PrintWriter pw = null;
+
+        try
+        {
+            pw = new PrintWriter(new BufferedWriter(new FileWriter(importFile)));
+
+            // Continue to add tables to the file until it reaches the target
+            // size
+            while (fileSize < IMPORT_FILE_SIZE)
+            {
+                String tableName = SCRATCH_PREFIX + "import_" + tableNames.size();
+                tableNames.add(tableName);
+
+                // Output the table name and type, and the names of the
+                // columns for which values are supplied
+                String header = CcddCSVHandler.CSVTags.NAME_TYPE.getTag()
+                                + "\n"
+                                + CcddUtilities.addEmbeddedQuotesAndCommas(tableName,
+                                                                           typeDefn.getName())
+                                + "\n"
+                                + CcddCSVHandler.CSVTags.COLUMN_NAMES.getTag()
+                                + "\n"
+                                + CcddUtilities.addEmbeddedQuotesAndCommas(importColumns.toArray(new String[0]))
+                                + "\n";
+                pw.print(header);
+                fileSize += header.length();
+
+                // Step through each row in the table
+                for (int row = 0; row < IMPORT_TABLE_ROWS; row++)
+                {
+                    // Output the row's variable name, data type, and
+                    // description (ignored if the type has no description
+                    // column)
+                    String line = CcddUtilities.addEmbeddedQuotesAndCommas(Arrays.copyOf(new String[] {"var" + row,
+                                                                                                       dataType,
+                                                                                                       "benchmark row " + row},
+                                                                                         importColumns.size()))
+                                  + "\n";
+                    pw.print(line);
+                    fileSize += line.length();
+                }
+
+                numRows += IMPORT_TABLE_ROWS;
+            }
+
+            pw.close();
+            pw = null;
+
+            // Check that the scratch tables don't exist
+            checkScratchTables(tableNames);
+
+            try
+            {
+                final File file = importFile;
+
+                // Measure importing the file
+                double elapsedTime = measureOnce("import",
+                                                 "bulk CSV import, "
+                                                           + tableNames.size()
+                                                           + " tables",
+                                                 numRows,
+                                                 "row",
+                                                 new BenchmarkOperation()
+                                                 {
+                                                     @Override
+                                                     public void perform() throws Exception
+                                                     {
+                                                         // Import the file
+                                                         ccddMain.getFileIOHandler().importCSVInBulk(file,
+                                                                                                     ccddMain.getMainFrame());
+                                                     }
+                                                 });
+
+                // Log the rate at which the file was read
+                eventLog.logEvent(STATUS_MSG,
+                                  "Benchmark 'import', bulk CSV import: "
+                                              + String.format("%.1f",
+                                                              fileSize / (1024.0 * 1024.0))
+                                              + " MB, "
+                                              + String.format("%.1f",
+                                                              elapsedTime == 0.0
+                                                                                 ? 0.0
+                                                                                 : fileSize * 1000.0
+                                                                                   / (1024.0 * 1024.0)
+                                                                                   / elapsedTime)
+                                              + " MB/sec");
+            }
+            finally
+            {
+                // Delete the scratch tables
+                deleteScratchTables(tableNames);
+            }
+        }
+        finally
+        {
+            // Check if the file is still open
+            if (pw != null)
+            {
+                pw.close();
+            }
+
+            // Delete the scratch file
+            importFile.delete();
+        }
+    }
+
+    /**************************************************************************
+     * Measure how exporting tables to separate files scales with the number of
+     * worker threads. 10k scratch structure tables are created, then exported
+     * to CSV files in a scratch folder by 1, 2, 4, ... worker threads, up to
+     * the number of processors (the number of workers is also limited by the
+     * size of the database connection pool). The scratch tables and files are
+     * deleted once the benchmark completes
+     *
+     * @throws Exception
+     *             If an error occurs creating or exporting the scratch tables
+     *************************************************************************/
+    private void benchmarkExport() throws Exception
+    {
+        // Get the structure table type and primitive data type used by the
+        // scratch tables
+        TypeDefinition typeDefn = getStructureTypeDefinition();
+        String dataType = getPrimitiveDataType();
+
+        final List<String> tableNames = new ArrayList<String>();
+        List<List<String[]>> members = new ArrayList<List<String[]>>();
+        List<String[]> tableMembers = new ArrayList<String[]>();
+
+        // Step through each variable in a scratch table
+        for (int variable = 0; variable < EXPORT_NUM_VARIABLES; variable++)
+        {
+            // Add the variable to the table's members
+            tableMembers.add(new String[] {"var" + variable, dataType});
+        }
+
+        // Step through each scratch table
+        for (int table = 0; table < EXPORT_NUM_TABLES; table++)
+        {
+            // Add the table, with the same members as the others
+            tableNames.add(SCRATCH_PREFIX + "export_" + table);
+            members.add(tableMembers);
+        }
+
+        // Check that the scratch tables don't exist
+        checkScratchTables(tableNames);
+
+        final File exportFolder = File.createTempFile(SCRATCH_PREFIX, "");
+
+        try
+        {
+            // Replace the temporary file with a folder of the same name in
+            // which to store the exported files
+            if (!exportFolder.delete() || !exportFolder.mkdir())
+            {
+                throw new CCDDException("cannot create folder '"
+                                        + exportFolder.getAbsolutePath()
+                                        + "'");
+            }
+
+            try
+            {
+                // Create the scratch tables
+                createScratchStructures(typeDefn, tableNames, members);
+
+                int maxWorkers = Math.min(Runtime.getRuntime().availableProcessors(),
+                                          DB_CONNECTION_POOL_SIZE);
+                List<Integer> workerCounts = new ArrayList<Integer>();
+
+                // Add the numbers of workers, doubling the number each time
+                // and ending with the maximum
+                for (int numWorkers = 1; numWorkers < maxWorkers; numWorkers *= 2)
+                {
+                    workerCounts.add(numWorkers);
+                }
+
+                workerCounts.add(maxWorkers);
+
+                // Step through each number of workers
+                for (final int workers : workerCounts)
+                {
+                    // Measure exporting the tables. The database statements
+                    // are made by the export's worker threads, so these
+                    // aren't included in the statement count
+                    measure("export",
+                            workers
+                                      + " worker(s) of "
+                                      + Runtime.getRuntime().availableProcessors()
+                                      + " processor(s)",
+                            tableNames.size(),
+                            "table",
+                            new BenchmarkOperation()
+                            {
+                                @Override
+                                public void perform() throws CCDDException
+                                {
+                                    // Export the tables to separate files
+                                    if (ccddMain.getFileIOHandler().exportTablesToSeparateFiles(exportFolder.getAbsolutePath()
+                                                                                                + File.separator,
+                                                                                                tableNames.toArray(new String[0]),
+                                                                                                FileExtension.CSV,
+                                                                                                workers,
+                                                                                                ccddMain.getMainFrame()))
+                                    {
+                                        throw new CCDDException("cannot export scratch tables");
+                                    }
+                                }
+                            });
+                }
+            }
+            finally
+            {
+                // Delete the scratch tables
+                deleteScratchTables(tableNames);
+            }
+        }
+        finally
+        {
+            // Check if the scratch folder exists
+            if (exportFolder.isDirectory())
+            {
+                // Step through each exported file
+                for (File file : exportFolder.listFiles())
+                {
+                    // Delete the file
+                    file.delete();
+                }
+            }
+
+            // Delete the scratch folder
+            exportFolder.delete();
+        }
+    }
+
+    /**************************************************************************
+     * Enable or disable the use of bitmap scans by the database server for
+     * queries made on the current database connection
+     *
+     * @param enable
+     *            true to enable bitmap scans; false to disable them
+     *
+     * @throws SQLException
+     *             If an error occurs changing the setting
+     *************************************************************************/
+    private void setBitmapScan(boolean enable) throws SQLException
+    {
+        // Change the setting. A query is used so that the read-only database
+        // connection, if any, is the one changed
+        ResultSet result = dbCommand.executeDbQuery("SELECT set_config('enable_bitmapscan', '"
+                                                    + (enable
+                                                              ? "on"
+                                                              : "off")
+                                                    + "', false);",
+                                                    ccddMain.getMainFrame());
+        result.close();
+    }
+
+    /**************************************************************************
+     * Perform an operation twice, measuring the second performance, and log
+     * the elapsed time, the number of database statements executed (by the
+     * calling thread and any worker threads), and the rate at which the items
+     * were processed
+     *
+     * @param benchmark
+     *            benchmark name
+     *
+     * @param method
+     *            name of the method being measured
+     *
+     * @param numItems
+     *            number of items processed by the operation
+     *
+     * @param itemName
+     *            name of the items processed by the operation
+     *
+     * @param operation
+     *            operation to measure
+     *
+     * @throws Exception
+     *             If an error occurs performing the operation
+     *************************************************************************/
+    private void measure(String benchmark,
+                         String method,
+                         int numItems,
+                         String itemName,
+                         BenchmarkOperation operation) throws Exception
+    {
+        // Perform the operation to prime the database server's caches
+        operation.perform();
+
+        // Perform the operation again, measuring it
+        measureOnce(benchmark, method, numItems, itemName, operation);
+    }
+
+    /**************************************************************************
+     * Perform an operation once, measuring the performance, and log the
+     * elapsed time, the number of database statements executed (by the
+     * calling thread and any worker threads), and the rate at which the items
+     * were processed
+     *
+     * @param benchmark
+     *            benchmark name
+     *
+     * @param method
+     *            name of the method being measured
+     *
+     * @param numItems
+     *            number of items processed by the operation
+     *
+     * @param itemName
+     *            name of the items processed by the operation
+     *
+     * @param operation
+     *            operation to measure
+     *
+     * @return Elapsed time, in milliseconds
+     *
+     * @throws Exception
+     *             If an error occurs performing the operation
+     *************************************************************************/
+    private double measureOnce(String benchmark,
+                               String method,
+                               long numItems,
+                               String itemName,
+                               BenchmarkOperation operation) throws Exception
+    {
+        // Perform the operation, measuring the elapsed time and the number of
+        // database statements executed
+        long startCount = dbCommand.getStatementCount();
+        workerStatements.set(0);
+        long startTime = System.nanoTime();
+        operation.perform();
+        double elapsedTime = (System.nanoTime() - startTime) / 1000000.0;
+        long numStatements = dbCommand.getStatementCount()
+                             - startCount
+                             + workerStatements.get();
+
+        // Log the results
+        eventLog.logEvent(STATUS_MSG,
+                          "Benchmark '"
+                                      + benchmark
+                                      + "', "
+                                      + method
+                                      + ": "
+                                      + numItems
+                                      + " "
+                                      + itemName
+                                      + "(s), "
+                                      + numStatements
+                                      + " database statement(s), "
+                                      + String.format("%.3f", elapsedTime)
+                                      + " msec, "
+                                      + String.format("%.1f",
+                                                      elapsedTime == 0.0
+                                                                         ? 0.0
+                                                                         : numItems * 1000.0 / elapsedTime)
+                                      + " "
+                                      + itemName
+                                      + "(s)/sec");
+
+        return elapsedTime;
+    }
+}
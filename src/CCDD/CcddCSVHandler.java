@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
 
@@ -66,7 +67,7 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
     /**************************************************************************
      * CSV data type tags
      *************************************************************************/
-    private enum CSVTags
+    protected enum CSVTags
     {
         COLUMN_NAMES("_column_data_"),
         CELL_DATA(""),
@@ -192,656 +193,592 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
             List<String[]> reservedMsgIDDefns = new ArrayList<String[]>();
             tableDefinitions = new ArrayList<TableDefinition>();
 
-            // Make two passes through the file, first to get the table types,
-            // data types, and macros, then a second pass to read the table
-            // data and fields
-            for (int loop = 1; loop <= 2; loop++)
+            // Create storage for the lines containing the information for
+            // tables whose type isn't yet defined, and the positions in the
+            // table definitions list at which these tables belong. The table
+            // type definitions normally follow the tables in the file, so
+            // these tables are processed once the end of the file is reached
+            List<String> deferredLines = new ArrayList<String>();
+            List<Integer> deferredIndices = new ArrayList<Integer>();
+            int numLinesReplayed = 0;
+            int numTablesReplayed = 0;
+
+            // Flag indicating if the deferred table information is being
+            // processed
+            boolean isReplay = false;
+
+            // Flag indicating if the remaining tables in the file are ignored
+            boolean skipTables = false;
+
+            // Create the pattern for removing trailing empty columns from a
+            // row
+            Pattern trailingColumns = Pattern.compile("(?:[,\\s]|\\\"\\s*\\\")*$");
+
+            int columnNumber = 0;
+
+            // Create a buffered reader to read the file. The file is read in a
+            // single pass
+            br = new BufferedReader(new FileReader(importFile));
+
+            // Flags indicating if importing should continue after an input
+            // error is detected
+            boolean continueOnTableTypeError = false;
+            boolean continueOnDataTypeError = false;
+            boolean continueOnMacroError = false;
+            boolean continueOnColumnError = false;
+            boolean continueOnDataFieldError = false;
+            boolean continueOnReservedMsgIDError = false;
+            boolean continueOnTableTypeFieldError = false;
+
+            TableTypeDefinition tableTypeDefn = null;
+
+            // Flag that indicates if a table type row is the type name and
+            // description or a column definition
+            boolean isTypeName = false;
+
+            // Initialize the input tag
+            CSVTags importTag = null;
+
+            // Read first line in file
+            String line = br.readLine();
+
+            // Continue to read the file until EOF is reached or an error
+            // is detected. This outer while loop accounts for multiple
+            // table definitions within a single file
+            while (line != null)
             {
-                int columnNumber = 0;
-
-                // Create a buffered reader to read the file
-                br = new BufferedReader(new FileReader(importFile));
-
-                // Flags indicating if importing should continue after an input
-                // error is detected
-                boolean continueOnTableTypeError = false;
-                boolean continueOnDataTypeError = false;
-                boolean continueOnMacroError = false;
-                boolean continueOnColumnError = false;
-                boolean continueOnDataFieldError = false;
-                boolean continueOnReservedMsgIDError = false;
-                boolean continueOnTableTypeFieldError = false;
-
-                // Initialize the input tag
-                CSVTags importTag = null;
-
-                // Read first line in file
-                String line = br.readLine();
-
-                // Continue to read the file until EOF is reached or an error
-                // is detected. This outer while loop accounts for multiple
-                // table definitions within a single file
-                while (line != null)
-                {
-                    TableTypeDefinition tableTypeDefn = null;
+                // Initialize the table information
+                int numColumns = 0;
+                String tablePath = "";
 
-                    // Initialize the table information
-                    int numColumns = 0;
-                    String tablePath = "";
+                // Create empty table information and table type
+                // definition references
+                TypeDefinition typeDefn = null;
 
-                    // Create empty table information and table type
-                    // definition references
-                    TypeDefinition typeDefn = null;
+                // Storage for column indices
+                int[] columnIndex = null;
 
-                    // Storage for column indices
-                    int[] columnIndex = null;
+                // Initialize the number of matching columns and the cell
+                // data storage
+                String[] columnValues = null;
 
-                    // Initialize the number of matching columns and the cell
-                    // data storage
-                    String[] columnValues = null;
+                // Create a table definition to contain the table's
+                // information
+                TableDefinition tableDefn = new TableDefinition();
 
-                    // Create a table definition to contain the table's
-                    // information
-                    TableDefinition tableDefn = new TableDefinition();
+                // Flag that indicates if the table's information is
+                // deferred until the table types in the file are added
+                boolean isDeferred = false;
 
-                    // Flag that indicates if a table type row is the type name
-                    // and description or a column definition
-                    boolean isTypeName = false;
+                // Flag that indicates if this table's information was
+                // deferred
+                boolean isReplayed = isReplay;
 
-                    // Continue to read the file until EOF is reached or an
-                    // error is detected. This inner while loop reads the
-                    // information for a single table in the file
-                    while (line != null)
+                // Continue to read the file until EOF is reached or an
+                // error is detected. This inner while loop reads the
+                // information for a single table in the file
+                while (line != null)
+                {
+                    // Remove any trailing commas, empty quotes, and
+                    // leading/trailing white space characters from the
+                    // row. If the CSV file is generated from a spreadsheet
+                    // application then extra commas are appended to a row
+                    // if needed for the number of columns to be equal with
+                    // the other rows. These empty trailing columns are
+                    // ignored
+                    line = trailingColumns.matcher(line).replaceAll("");
+
+                    // Check that the row isn't empty and isn't a comment
+                    // line (starts with a # character)
+                    if (!line.isEmpty() && !line.startsWith("#"))
                     {
-                        // Remove any trailing commas, empty quotes, and
-                        // leading/trailing white space characters from the
-                        // row. If the CSV file is generated from a spreadsheet
-                        // application then extra commas are appended to a row
-                        // if needed for the number of columns to be equal with
-                        // the other rows. These empty trailing columns are
-                        // ignored
-                        line = line.replaceAll("(?:[,\\s]|\\\"\\s*\\\")*$", "");
-
-                        // Check that the row isn't empty and isn't a comment
-                        // line (starts with a # character)
-                        if (!line.isEmpty() && !line.startsWith("#"))
+                        // Parse the import data. The values are comma-
+                        // separated; however, commas within quotes are
+                        // ignored - this allows commas to be included in
+                        // the data values
+                        columnValues = CcddUtilities.splitAndRemoveQuotes(line);
+
+                        // Remove any leading/trailing white space
+                        // characters from the first column value
+                        String firstColumn = columnValues[0].trim();
+
+                        // Check if this is the table name and table type
+                        // tag
+                        if (firstColumn.equalsIgnoreCase(CSVTags.NAME_TYPE.getTag()))
                         {
-                            // Parse the import data. The values are comma-
-                            // separated; however, commas within quotes are
-                            // ignored - this allows commas to be included in
-                            // the data values
-                            columnValues = CcddUtilities.splitAndRemoveQuotes(line);
-
-                            // Remove any leading/trailing white space
-                            // characters from the first column value
-                            String firstColumn = columnValues[0].trim();
-
-                            // Check if this is the table name and table type
-                            // tag
-                            if (firstColumn.equalsIgnoreCase(CSVTags.NAME_TYPE.getTag()))
-                            {
-                                // Set the input type to look for the table
-                                // name and table type
-                                importTag = CSVTags.NAME_TYPE;
-
-                                // Check if this is the second pass and if the
-                                // name and type are already set; if so, this
-                                // is the beginning of another table's
-                                // information
-                                if (loop == 2 && !tablePath.isEmpty())
-                                {
-                                    // Stop processing the file in order to
-                                    // create the table prior to beginning
-                                    // another one
-                                    break;
-                                }
-                            }
-                            // Check if this is the table column name tag and
-                            // that a table name and type are defined
-                            else if (firstColumn.equalsIgnoreCase(CSVTags.COLUMN_NAMES.getTag())
-                                     && !tablePath.isEmpty())
+                            // Set the input type to look for the table
+                            // name and table type
+                            importTag = CSVTags.NAME_TYPE;
+
+                            // Check if the name and type are already set;
+                            // if so, this is the beginning of another
+                            // table's information
+                            if (!tablePath.isEmpty())
                             {
-                                // Set the input type to look for the table
-                                // column names
-                                importTag = CSVTags.COLUMN_NAMES;
+                                // Stop processing the file in order to
+                                // create the table prior to beginning
+                                // another one
+                                break;
                             }
-                            // Check if this is the table description tag and
-                            // that a table name and type are defined
-                            else if (firstColumn.equalsIgnoreCase(CSVTags.DESCRIPTION.getTag())
-                                     && !tablePath.isEmpty())
-                            {
-                                // Set the input type to look for the table
-                                // description
-                                importTag = CSVTags.DESCRIPTION;
-                            }
-                            // Check if this is the data field tag and that a
-                            // table name and type are defined
-                            else if (firstColumn.equalsIgnoreCase(CSVTags.DATA_FIELD.getTag())
-                                     && !tablePath.isEmpty())
-                            {
-                                // Set the input type to look for the data
-                                // field(s)
-                                importTag = CSVTags.DATA_FIELD;
-                            }
-                            // Check if this is the table type tag
-                            else if (firstColumn.equalsIgnoreCase(CSVTags.TABLE_TYPE.getTag()))
-                            {
-                                // Set the input type to look for the table
-                                // type definition
-                                importTag = CSVTags.TABLE_TYPE;
+                        }
+                        // Check if this is the table column name tag and
+                        // that a table name and type are defined
+                        else if (firstColumn.equalsIgnoreCase(CSVTags.COLUMN_NAMES.getTag())
+                                 && !tablePath.isEmpty())
+                        {
+                            // Set the input type to look for the table
+                            // column names
+                            importTag = CSVTags.COLUMN_NAMES;
+                        }
+                        // Check if this is the table description tag and
+                        // that a table name and type are defined
+                        else if (firstColumn.equalsIgnoreCase(CSVTags.DESCRIPTION.getTag())
+                                 && !tablePath.isEmpty())
+                        {
+                            // Set the input type to look for the table
+                            // description
+                            importTag = CSVTags.DESCRIPTION;
+                        }
+                        // Check if this is the data field tag and that a
+                        // table name and type are defined
+                        else if (firstColumn.equalsIgnoreCase(CSVTags.DATA_FIELD.getTag())
+                                 && !tablePath.isEmpty())
+                        {
+                            // Set the input type to look for the data
+                            // field(s)
+                            importTag = CSVTags.DATA_FIELD;
+                        }
+                        // Check if this is the table type tag
+                        else if (firstColumn.equalsIgnoreCase(CSVTags.TABLE_TYPE.getTag()))
+                        {
+                            // Set the input type to look for the table
+                            // type definition
+                            importTag = CSVTags.TABLE_TYPE;
 
-                                // Set the flag so that the next row is treated
-                                // as the table type name and description
-                                isTypeName = true;
-                            }
-                            // Check if this is the table type data field tag
-                            // and that a table type is defined
-                            else if (firstColumn.equalsIgnoreCase(CSVTags.TABLE_TYPE_DATA_FIELD.getTag())
-                                     && tableTypeDefn != null)
-                            {
-                                // Set the input type to look for the table
-                                // type data field(s)
-                                importTag = CSVTags.TABLE_TYPE_DATA_FIELD;
-                            }
-                            // Check if this is the data type tag
-                            else if (firstColumn.equalsIgnoreCase(CSVTags.DATA_TYPE.getTag()))
-                            {
-                                // Set the input type to look for the data
-                                // type(s)
-                                importTag = CSVTags.DATA_TYPE;
-                            }
-                            // Check if this is the macro tag
-                            else if (firstColumn.equalsIgnoreCase(CSVTags.MACRO.getTag()))
-                            {
-                                // Set the input type to look for the macro(s)
-                                importTag = CSVTags.MACRO;
-                            }
-                            // Check if this is the reserved message IDs tag
-                            else if (firstColumn.equalsIgnoreCase(CSVTags.RESERVED_MSG_IDS.getTag()))
-                            {
-                                // Set the input type to look for the reserved
-                                // IDs
-                                importTag = CSVTags.RESERVED_MSG_IDS;
-                            }
-                            // Not a tag (or no table name and type are
-                            // defined); read in the information based on the
-                            // last tag read
-                            else
+                            // Set the flag so that the next row is treated
+                            // as the table type name and description
+                            isTypeName = true;
+                        }
+                        // Check if this is the table type data field tag
+                        // and that a table type is defined
+                        else if (firstColumn.equalsIgnoreCase(CSVTags.TABLE_TYPE_DATA_FIELD.getTag())
+                                 && tableTypeDefn != null)
+                        {
+                            // Set the input type to look for the table
+                            // type data field(s)
+                            importTag = CSVTags.TABLE_TYPE_DATA_FIELD;
+                        }
+                        // Check if this is the data type tag
+                        else if (firstColumn.equalsIgnoreCase(CSVTags.DATA_TYPE.getTag()))
+                        {
+                            // Set the input type to look for the data
+                            // type(s)
+                            importTag = CSVTags.DATA_TYPE;
+                        }
+                        // Check if this is the macro tag
+                        else if (firstColumn.equalsIgnoreCase(CSVTags.MACRO.getTag()))
+                        {
+                            // Set the input type to look for the macro(s)
+                            importTag = CSVTags.MACRO;
+                        }
+                        // Check if this is the reserved message IDs tag
+                        else if (firstColumn.equalsIgnoreCase(CSVTags.RESERVED_MSG_IDS.getTag()))
+                        {
+                            // Set the input type to look for the reserved
+                            // IDs
+                            importTag = CSVTags.RESERVED_MSG_IDS;
+                        }
+                        // Not a tag (or no table name and type are
+                        // defined); read in the information based on the
+                        // last tag read
+                        else
+                        {
+                            // Check if this is a table type, data type,
+                            // macro, or reserved message ID definition
+                            if (!isTableInformation(importTag))
                             {
-                                // Check if this is the first pass
-                                if (loop == 1)
+                                switch (importTag)
                                 {
-                                    switch (importTag)
-                                    {
-                                        case TABLE_TYPE:
-                                            // Check if this is the table type
-                                            // name and description
-                                            if (isTypeName)
+                                    case TABLE_TYPE:
+                                        // Check if this is the table type
+                                        // name and description
+                                        if (isTypeName)
+                                        {
+                                            // Reset the flag so that
+                                            // subsequent rows are treated
+                                            // as column definitions
+                                            isTypeName = false;
+                                            columnNumber = NUM_HIDDEN_COLUMNS;
+
+                                            // Check if the expected number
+                                            // of inputs is present
+                                            if (columnValues.length == 2
+                                                || columnValues.length == 1)
                                             {
-                                                // Reset the flag so that
-                                                // subsequent rows are treated
-                                                // as column definitions
-                                                isTypeName = false;
-                                                columnNumber = NUM_HIDDEN_COLUMNS;
-
-                                                // Check if the expected number
-                                                // of inputs is present
-                                                if (columnValues.length == 2
-                                                    || columnValues.length == 1)
-                                                {
-                                                    // Add the table type
-                                                    // definition
-                                                    tableTypeDefn = new TableTypeDefinition(columnValues[0],
-                                                                                            (columnValues.length == 2
-                                                                                                                      ? columnValues[1]
-                                                                                                                      : ""));
-                                                    tableTypeDefns.add(tableTypeDefn);
-                                                }
-                                                // The number of inputs is
-                                                // incorrect
-                                                else
-                                                {
-                                                    // Check if the error
-                                                    // should be ignored or the
-                                                    // import canceled
-                                                    continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
-                                                                                                "<html><b>Missing table type name in import file '</b>"
-                                                                                                                          + importFile.getAbsolutePath()
-                                                                                                                          + "<b>'; continue?",
-                                                                                                "Table Type Error",
-                                                                                                "Ignore this table type",
-                                                                                                "Ignore this and any remaining invalid table types",
-                                                                                                "Stop importing",
-                                                                                                parent);
-                                                }
+                                                // Add the table type
+                                                // definition
+                                                tableTypeDefn = new TableTypeDefinition(columnValues[0],
+                                                                                        (columnValues.length == 2
+                                                                                                                  ? columnValues[1]
+                                                                                                                  : ""));
+                                                tableTypeDefns.add(tableTypeDefn);
                                             }
-                                            // This is a column definition
+                                            // The number of inputs is
+                                            // incorrect
                                             else
                                             {
-                                                // Check if the expected number
-                                                // of inputs is present
-                                                if (columnValues.length == TableTypeEditorColumnInfo.values().length - 1)
-                                                {
-                                                    // Add the table type
-                                                    // column definition,
-                                                    // checking for (and if
-                                                    // possible, correcting)
-                                                    // errors
-                                                    continueOnTableTypeError = addImportedTableTypeDefinition(continueOnTableTypeError,
-                                                                                                              tableTypeDefn,
-                                                                                                              new String[] {String.valueOf(columnNumber),
-                                                                                                                            columnValues[TableTypeEditorColumnInfo.NAME.ordinal() - 1],
-                                                                                                                            columnValues[TableTypeEditorColumnInfo.DESCRIPTION.ordinal() - 1],
-                                                                                                                            columnValues[TableTypeEditorColumnInfo.INPUT_TYPE.ordinal() - 1],
-                                                                                                                            columnValues[TableTypeEditorColumnInfo.UNIQUE.ordinal() - 1],
-                                                                                                                            columnValues[TableTypeEditorColumnInfo.REQUIRED.ordinal() - 1],
-                                                                                                                            columnValues[TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.ordinal() - 1],
-                                                                                                                            columnValues[TableTypeEditorColumnInfo.POINTER_ALLOWED.ordinal() - 1]},
-                                                                                                              importFile.getAbsolutePath(),
-                                                                                                              parent);
-
-                                                    // Update the column index
-                                                    // number for the next
-                                                    // column definition
-                                                    columnNumber++;
-                                                }
-                                                // The number of inputs is
-                                                // incorrect
-                                                else
-                                                {
-                                                    // Check if the error
-                                                    // should be ignored or the
-                                                    // import canceled
-                                                    continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
-                                                                                                "<html><b>Table type '"
-                                                                                                                          + tableTypeDefn.getTypeName()
-                                                                                                                          + "' definition has missing or extra "
-                                                                                                                          + "input(s) in import file '</b>"
-                                                                                                                          + importFile.getAbsolutePath()
-                                                                                                                          + "<b>'; continue?",
-                                                                                                "Table Type Error",
-                                                                                                "Ignore this table type",
-                                                                                                "Ignore this and any remaining invalid table types",
-                                                                                                "Stop importing",
-                                                                                                parent);
-                                                }
-                                            }
-
-                                            break;
-
-                                        case TABLE_TYPE_DATA_FIELD:
-                                            // Check if all definitions are to
-                                            // be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
-                                            {
-                                                // Check if the expected number
-                                                // of inputs is present
-                                                if (columnValues.length == FieldsColumn.values().length - 1)
-                                                {
-                                                    // Add the data field
-                                                    // definition, checking for
-                                                    // (and if possible,
-                                                    // correcting) errors
-                                                    continueOnTableTypeFieldError = addImportedDataFieldDefinition(continueOnTableTypeFieldError,
-                                                                                                                   tableTypeDefn,
-                                                                                                                   new String[] {CcddFieldHandler.getFieldTypeName(tableTypeDefn.getTypeName()),
-                                                                                                                                 columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                                 columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                                 columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                                 columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                                 columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                                 columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                                 columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1]},
-                                                                                                                   importFile.getAbsolutePath(),
-                                                                                                                   parent);
-                                                }
-                                                // The number of inputs is
-                                                // incorrect
-                                                else
-                                                {
-                                                    // Check if the error
-                                                    // should be ignored or the
-                                                    // import canceled
-                                                    continueOnTableTypeFieldError = getErrorResponse(continueOnTableTypeFieldError,
-                                                                                                     "<html><b>Table type '</b>"
-                                                                                                                                    + tableTypeDefn.getTypeName()
-                                                                                                                                    + "<b>' has missing or extra data field "
-                                                                                                                                    + "input(s) in import file '</b>"
-                                                                                                                                    + importFile.getAbsolutePath()
-                                                                                                                                    + "<b>'; continue?",
-                                                                                                     "Data Field Error",
-                                                                                                     "Ignore this invalid data field",
-                                                                                                     "Ignore this and any remaining invalid data fields",
-                                                                                                     "Stop importing",
-                                                                                                     parent);
-                                                }
+                                                // Check if the error
+                                                // should be ignored or the
+                                                // import canceled
+                                                continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
+                                                                                            "<html><b>Missing table type name in import file '</b>"
+                                                                                                                      + importFile.getAbsolutePath()
+                                                                                                                      + "<b>'; continue?",
+                                                                                            "Table Type Error",
+                                                                                            "Ignore this table type",
+                                                                                            "Ignore this and any remaining invalid table types",
+                                                                                            "Stop importing",
+                                                                                            parent);
                                             }
-
-                                            break;
-
-                                        case DATA_TYPE:
-                                            // Check if all definitions are to
-                                            // be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                        }
+                                        // This is a column definition
+                                        else
+                                        {
+                                            // Check if the expected number
+                                            // of inputs is present
+                                            if (columnValues.length == TableTypeEditorColumnInfo.values().length - 1)
                                             {
-                                                // Check if the expected number
-                                                // of inputs is present
-                                                if (columnValues.length == 4)
-                                                {
-                                                    // Add the data type
-                                                    // definition (add a blank
-                                                    // to represent the OID)
-                                                    dataTypeDefns.add(new String[] {columnValues[DataTypesColumn.USER_NAME.ordinal()],
-                                                                                    columnValues[DataTypesColumn.C_NAME.ordinal()],
-                                                                                    columnValues[DataTypesColumn.SIZE.ordinal()],
-                                                                                    columnValues[DataTypesColumn.BASE_TYPE.ordinal()],
-                                                                                    ""});
-                                                }
-                                                // The number of inputs is
-                                                // incorrect
-                                                else
-                                                {
-                                                    // Check if the error
-                                                    // should be ignored or the
-                                                    // import canceled
-                                                    continueOnDataTypeError = getErrorResponse(continueOnDataTypeError,
-                                                                                               "<html><b>Missing or extra data type definition "
-                                                                                                                        + "input(s) in import file '</b>"
-                                                                                                                        + importFile.getAbsolutePath()
-                                                                                                                        + "<b>'; continue?",
-                                                                                               "Data Type Error",
-                                                                                               "Ignore this data type",
-                                                                                               "Ignore this and any remaining invalid data types",
-                                                                                               "Stop importing",
-                                                                                               parent);
-                                                }
+                                                // Add the table type
+                                                // column definition,
+                                                // checking for (and if
+                                                // possible, correcting)
+                                                // errors
+                                                continueOnTableTypeError = addImportedTableTypeDefinition(continueOnTableTypeError,
+                                                                                                          tableTypeDefn,
+                                                                                                          new String[] {String.valueOf(columnNumber),
+                                                                                                                        columnValues[TableTypeEditorColumnInfo.NAME.ordinal() - 1],
+                                                                                                                        columnValues[TableTypeEditorColumnInfo.DESCRIPTION.ordinal() - 1],
+                                                                                                                        columnValues[TableTypeEditorColumnInfo.INPUT_TYPE.ordinal() - 1],
+                                                                                                                        columnValues[TableTypeEditorColumnInfo.UNIQUE.ordinal() - 1],
+                                                                                                                        columnValues[TableTypeEditorColumnInfo.REQUIRED.ordinal() - 1],
+                                                                                                                        columnValues[TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.ordinal() - 1],
+                                                                                                                        columnValues[TableTypeEditorColumnInfo.POINTER_ALLOWED.ordinal() - 1]},
+                                                                                                          importFile.getAbsolutePath(),
+                                                                                                          parent);
+
+                                                // Update the column index
+                                                // number for the next
+                                                // column definition
+                                                columnNumber++;
                                             }
-
-                                            break;
-
-                                        case MACRO:
-                                            // Check if all definitions are to
-                                            // be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // The number of inputs is
+                                            // incorrect
+                                            else
                                             {
-                                                // Check if the expected number
-                                                // of inputs is present
-                                                if (columnValues.length == 2
-                                                    || columnValues.length == 1)
-
-                                                {
-                                                    // Add the macro definition
-                                                    // (add a blank to
-                                                    // represent the OID)
-                                                    macroDefns.add(new String[] {columnValues[0],
-                                                                                 (columnValues.length == 2
-                                                                                                           ? columnValues[1]
-                                                                                                           : ""),
-                                                                                 ""});
-                                                }
-                                                // The number of inputs is
-                                                // incorrect
-                                                else
-                                                {
-                                                    // Check if the error
-                                                    // should be ignored or the
-                                                    // import canceled
-                                                    continueOnMacroError = getErrorResponse(continueOnMacroError,
-                                                                                            "<html><b>Missing or extra macro definition "
-                                                                                                                  + "input(s) in import file '</b>"
-                                                                                                                  + importFile.getAbsolutePath()
-                                                                                                                  + "<b>'; continue?",
-                                                                                            "Macro Error",
-                                                                                            "Ignore this macro",
-                                                                                            "Ignore this and any remaining invalid macros",
+                                                // Check if the error
+                                                // should be ignored or the
+                                                // import canceled
+                                                continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
+                                                                                            "<html><b>Table type '"
+                                                                                                                      + tableTypeDefn.getTypeName()
+                                                                                                                      + "' definition has missing or extra "
+                                                                                                                      + "input(s) in import file '</b>"
+                                                                                                                      + importFile.getAbsolutePath()
+                                                                                                                      + "<b>'; continue?",
+                                                                                            "Table Type Error",
+                                                                                            "Ignore this table type",
+                                                                                            "Ignore this and any remaining invalid table types",
                                                                                             "Stop importing",
                                                                                             parent);
-                                                }
                                             }
-
-                                            break;
-
-                                        case RESERVED_MSG_IDS:
-                                            // Check if all definitions are to
-                                            // be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                        }
+
+                                        break;
+
+                                    case TABLE_TYPE_DATA_FIELD:
+                                        // Check if all definitions are to
+                                        // be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number
+                                            // of inputs is present
+                                            if (columnValues.length == FieldsColumn.values().length - 1)
                                             {
-                                                // Check if the expected number
-                                                // of inputs is present
-                                                if (columnValues.length == 2)
-                                                {
-                                                    // Add the reserved message
-                                                    // ID definition (add a
-                                                    // blank to represent the
-                                                    // OID)
-                                                    reservedMsgIDDefns.add(new String[] {columnValues[ReservedMsgIDsColumn.MSG_ID.ordinal()],
-                                                                                         columnValues[ReservedMsgIDsColumn.DESCRIPTION.ordinal()],
-                                                                                         ""});
-                                                }
-                                                // The number of inputs is
-                                                // incorrect
-                                                else
-                                                {
-                                                    // Check if the error
-                                                    // should be ignored or the
-                                                    // import canceled
-                                                    continueOnReservedMsgIDError = getErrorResponse(continueOnReservedMsgIDError,
-                                                                                                    "<html><b>Missing or extra reserved message ID "
-                                                                                                                                  + "definition input(s) in import file '</b>"
-                                                                                                                                  + importFile.getAbsolutePath()
-                                                                                                                                  + "<b>'; continue?",
-                                                                                                    "Reserved Message ID Error",
-                                                                                                    "Ignore this data type",
-                                                                                                    "Ignore this and any remaining invalid reserved message IDs",
-                                                                                                    "Stop importing",
-                                                                                                    parent);
-                                                }
+                                                // Add the data field
+                                                // definition, checking for
+                                                // (and if possible,
+                                                // correcting) errors
+                                                continueOnTableTypeFieldError = addImportedDataFieldDefinition(continueOnTableTypeFieldError,
+                                                                                                               tableTypeDefn,
+                                                                                                               new String[] {CcddFieldHandler.getFieldTypeName(tableTypeDefn.getTypeName()),
+                                                                                                                             columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                             columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                             columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                             columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                             columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                             columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                             columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1]},
+                                                                                                               importFile.getAbsolutePath(),
+                                                                                                               parent);
                                             }
-
-                                            break;
-
-                                        case CELL_DATA:
-                                        case COLUMN_NAMES:
-                                        case DATA_FIELD:
-                                        case DESCRIPTION:
-                                        case NAME_TYPE:
-                                            break;
-
-                                        default:
-                                            // Inform the user that no tag
-                                            // appears in the file before other
-                                            // data
-                                            throw new CCDDException("Import file '</b>"
-                                                                    + importFile.getAbsolutePath()
-                                                                    + "<b>' information missing");
-                                    }
-                                }
-                                // This is the second pass
-                                else
-                                {
-                                    switch (importTag)
-                                    {
-                                        case NAME_TYPE:
-                                            // Check if the expected number of
-                                            // inputs is present (the third
-                                            // value, the system name, is
-                                            // optional and not used)
-                                            if (columnValues.length == 2
-                                                || columnValues.length == 3)
+                                            // The number of inputs is
+                                            // incorrect
+                                            else
                                             {
-                                                // Use the table name (with
-                                                // path, if applicable) and
-                                                // type to build the parent,
-                                                // path, and type for the table
-                                                // information class
-                                                tablePath = columnValues[0];
-                                                tableDefn.setName(tablePath);
-                                                tableDefn.setTypeName(columnValues[1]);
-
-                                                // Get the table's type
-                                                // definition
-                                                typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getTypeName());
-
-                                                // Check if the table type
-                                                // doesn't exist
-                                                if (typeDefn == null)
-                                                {
-                                                    throw new CCDDException("Unknown table type '"
-                                                                            + tableDefn.getTypeName()
-                                                                            + "'");
-                                                }
-
-                                                // Get the number of expected
-                                                // columns (the hidden columns,
-                                                // primary key and row index,
-                                                // should not be included in
-                                                // the CSV file)
-                                                numColumns = typeDefn.getColumnCountVisible();
+                                                // Check if the error
+                                                // should be ignored or the
+                                                // import canceled
+                                                continueOnTableTypeFieldError = getErrorResponse(continueOnTableTypeFieldError,
+                                                                                                 "<html><b>Table type '</b>"
+                                                                                                                                + tableTypeDefn.getTypeName()
+                                                                                                                                + "<b>' has missing or extra data field "
+                                                                                                                                + "input(s) in import file '</b>"
+                                                                                                                                + importFile.getAbsolutePath()
+                                                                                                                                + "<b>'; continue?",
+                                                                                                 "Data Field Error",
+                                                                                                 "Ignore this invalid data field",
+                                                                                                 "Ignore this and any remaining invalid data fields",
+                                                                                                 "Stop importing",
+                                                                                                 parent);
                                             }
-                                            // Incorrect number of inputs
+                                        }
+
+                                        break;
+
+                                    case DATA_TYPE:
+                                        // Check if all definitions are to
+                                        // be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number
+                                            // of inputs is present
+                                            if (columnValues.length == 4)
+                                            {
+                                                // Add the data type
+                                                // definition (add a blank
+                                                // to represent the OID)
+                                                dataTypeDefns.add(new String[] {columnValues[DataTypesColumn.USER_NAME.ordinal()],
+                                                                                columnValues[DataTypesColumn.C_NAME.ordinal()],
+                                                                                columnValues[DataTypesColumn.SIZE.ordinal()],
+                                                                                columnValues[DataTypesColumn.BASE_TYPE.ordinal()],
+                                                                                ""});
+                                            }
+                                            // The number of inputs is
+                                            // incorrect
                                             else
                                             {
-                                                throw new CCDDException("Too many/few table name and type inputs");
+                                                // Check if the error
+                                                // should be ignored or the
+                                                // import canceled
+                                                continueOnDataTypeError = getErrorResponse(continueOnDataTypeError,
+                                                                                           "<html><b>Missing or extra data type definition "
+                                                                                                                    + "input(s) in import file '</b>"
+                                                                                                                    + importFile.getAbsolutePath()
+                                                                                                                    + "<b>'; continue?",
+                                                                                           "Data Type Error",
+                                                                                           "Ignore this data type",
+                                                                                           "Ignore this and any remaining invalid data types",
+                                                                                           "Stop importing",
+                                                                                           parent);
                                             }
+                                        }
 
-                                            break;
+                                        break;
 
-                                        case DESCRIPTION:
-                                            // Store the table description
-                                            tableDefn.setDescription(columnValues[0]);
-                                            break;
+                                    case MACRO:
+                                        // Check if all definitions are to
+                                        // be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number
+                                            // of inputs is present
+                                            if (columnValues.length == 2
+                                                || columnValues.length == 1)
 
-                                        case COLUMN_NAMES:
-                                            // Check if any column names exist
-                                            if (columnValues.length != 0)
                                             {
-                                                // Number of columns in an
-                                                // import file that match the
-                                                // target table
-                                                int numValidColumns = 0;
-
-                                                // Create storage for the
-                                                // column indices
-                                                columnIndex = new int[columnValues.length];
-
-                                                // Step through each column
-                                                // name
-                                                for (int index = 0; index < columnValues.length; index++)
-                                                {
-                                                    // Get the index for this
-                                                    // column name
-                                                    columnIndex[index] = typeDefn.getVisibleColumnIndexByUserName(columnValues[index]);
-
-                                                    // Check if the column name
-                                                    // in the file matches that
-                                                    // of a column in the table
-                                                    if (columnIndex[index] != -1)
-                                                    {
-                                                        // Increment the
-                                                        // counter that tracks
-                                                        // the number of
-                                                        // matched columns
-                                                        numValidColumns++;
-                                                    }
-                                                    // The number of inputs is
-                                                    // incorrect
-                                                    else
-                                                    {
-                                                        // Check if the error
-                                                        // should be ignored or
-                                                        // the import canceled
-                                                        continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                                                 "<html><b>Table '</b>"
-                                                                                                                        + tableDefn.getName()
-                                                                                                                        + "<b>' column name '</b>"
-                                                                                                                        + columnValues[index]
-                                                                                                                        + "<b>' unrecognized in import file '</b>"
-                                                                                                                        + importFile.getAbsolutePath()
-                                                                                                                        + "<b>'; continue?",
-                                                                                                 "Column Error",
-                                                                                                 "Ignore this invalid column name",
-                                                                                                 "Ignore this and any remaining invalid column names",
-                                                                                                 "Stop importing",
-                                                                                                 parent);
-                                                    }
-                                                }
-
-                                                // Check if no column names in
-                                                // the file match those in the
-                                                // table
-                                                if (numValidColumns == 0)
-                                                {
-                                                    throw new CCDDException("No columns in import file '</b>"
-                                                                            + importFile.getAbsolutePath()
-                                                                            + "<b>' match those in the target table",
-                                                                            JOptionPane.WARNING_MESSAGE);
-                                                }
+                                                // Add the macro definition
+                                                // (add a blank to
+                                                // represent the OID)
+                                                macroDefns.add(new String[] {columnValues[0],
+                                                                             (columnValues.length == 2
+                                                                                                       ? columnValues[1]
+                                                                                                       : ""),
+                                                                             ""});
                                             }
-                                            // The file contains no column data
+                                            // The number of inputs is
+                                            // incorrect
                                             else
                                             {
-                                                throw new CCDDException("Format invalid for import file '</b>"
-                                                                        + importFile.getAbsolutePath()
-                                                                        + "<b>'");
+                                                // Check if the error
+                                                // should be ignored or the
+                                                // import canceled
+                                                continueOnMacroError = getErrorResponse(continueOnMacroError,
+                                                                                        "<html><b>Missing or extra macro definition "
+                                                                                                              + "input(s) in import file '</b>"
+                                                                                                              + importFile.getAbsolutePath()
+                                                                                                              + "<b>'; continue?",
+                                                                                        "Macro Error",
+                                                                                        "Ignore this macro",
+                                                                                        "Ignore this and any remaining invalid macros",
+                                                                                        "Stop importing",
+                                                                                        parent);
                                             }
+                                        }
+
+                                        break;
+
+                                    case RESERVED_MSG_IDS:
+                                        // Check if all definitions are to
+                                        // be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number
+                                            // of inputs is present
+                                            if (columnValues.length == 2)
+                                            {
+                                                // Add the reserved message
+                                                // ID definition (add a
+                                                // blank to represent the
+                                                // OID)
+                                                reservedMsgIDDefns.add(new String[] {columnValues[ReservedMsgIDsColumn.MSG_ID.ordinal()],
+                                                                                     columnValues[ReservedMsgIDsColumn.DESCRIPTION.ordinal()],
+                                                                                     ""});
+                                            }
+                                            // The number of inputs is
+                                            // incorrect
+                                            else
+                                            {
+                                                // Check if the error
+                                                // should be ignored or the
+                                                // import canceled
+                                                continueOnReservedMsgIDError = getErrorResponse(continueOnReservedMsgIDError,
+                                                                                                "<html><b>Missing or extra reserved message ID "
+                                                                                                                              + "definition input(s) in import file '</b>"
+                                                                                                                              + importFile.getAbsolutePath()
+                                                                                                                              + "<b>'; continue?",
+                                                                                                "Reserved Message ID Error",
+                                                                                                "Ignore this data type",
+                                                                                                "Ignore this and any remaining invalid reserved message IDs",
+                                                                                                "Stop importing",
+                                                                                                parent);
+                                            }
+                                        }
 
-                                            // Set the input type to look for
-                                            // cell data
-                                            importTag = CSVTags.CELL_DATA;
-                                            break;
-
-                                        case CELL_DATA:
-                                            // Create storage for the row of
-                                            // cell data and initialize the
-                                            // values to blanks
-                                            String[] rowData = new String[numColumns];
-                                            Arrays.fill(rowData, "");
+                                        break;
 
-                                            // Step through each column in the
-                                            // row
-                                            for (int index = 0; index < columnValues.length; index++)
+                                    default:
+                                        // Inform the user that no tag
+                                        // appears in the file before other
+                                        // data
+                                        throw new CCDDException("Import file '</b>"
+                                                                + importFile.getAbsolutePath()
+                                                                + "<b>' information missing");
+                                }
+                            }
+                            // This is table information; check if the
+                            // table isn't deferred or skipped
+                            else if (!isDeferred && !skipTables)
+                            {
+                                switch (importTag)
+                                {
+                                    case NAME_TYPE:
+                                        // Check if the expected number of
+                                        // inputs is present (the third
+                                        // value, the system name, is
+                                        // optional and not used)
+                                        if (columnValues.length == 2
+                                            || columnValues.length == 3)
+                                        {
+                                            // Use the table name (with
+                                            // path, if applicable) and
+                                            // type to build the parent,
+                                            // path, and type for the table
+                                            // information class
+                                            tablePath = columnValues[0];
+                                            tableDefn.setName(tablePath);
+                                            tableDefn.setTypeName(columnValues[1]);
+
+                                            // Get the table's type
+                                            // definition
+                                            typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getTypeName());
+
+                                            // Check if the table type
+                                            // doesn't exist and the table
+                                            // types in the file have been
+                                            // added
+                                            if (typeDefn == null && isReplay)
                                             {
-                                                // Check if the column exists
-                                                if (index < columnIndex.length
-                                                    && columnIndex[index] != -1)
-                                                {
-                                                    // Store the cell data in
-                                                    // the column matching the
-                                                    // one in the target table
-                                                    rowData[columnIndex[index]] = columnValues[index];
-                                                }
+                                                throw new CCDDException("Unknown table type '"
+                                                                        + tableDefn.getTypeName()
+                                                                        + "'");
                                             }
 
-                                            // Add the row of data read in from
-                                            // the file to the cell data list
-                                            tableDefn.addData(rowData);
-                                            break;
-
-                                        case DATA_FIELD:
-                                            // Check if all definitions are to
-                                            // be loaded
-                                            if (importType == ImportType.IMPORT_ALL)
+                                            // Check if the table type
+                                            // isn't yet defined
+                                            if (typeDefn == null)
+                                            {
+                                                // Defer processing the
+                                                // table's information
+                                                // until the table types in
+                                                // the file are added
+                                                isDeferred = true;
+                                                deferredLines.add(CSVTags.NAME_TYPE.getTag());
+                                            }
+                                            else
+                                            {
+                                                // Get the number of
+                                                // expected columns (the
+                                                // hidden columns, primary
+                                                // key and row index,
+                                                // should not be included
+                                                // in the CSV file)
+                                                numColumns = typeDefn.getColumnCountVisible();
+                                            }
+                                        }
+                                        // Incorrect number of inputs
+                                        else
+                                        {
+                                            throw new CCDDException("Too many/few table name and type inputs");
+                                        }
+
+                                        break;
+
+                                    case DESCRIPTION:
+                                        // Store the table description
+                                        tableDefn.setDescription(columnValues[0]);
+                                        break;
+
+                                    case COLUMN_NAMES:
+                                        // Check if any column names exist
+                                        if (columnValues.length != 0)
+                                        {
+                                            // Number of columns in an
+                                            // import file that match the
+                                            // target table
+                                            int numValidColumns = 0;
+
+                                            // Create storage for the
+                                            // column indices
+                                            columnIndex = new int[columnValues.length];
+
+                                            // Step through each column
+                                            // name
+                                            for (int index = 0; index < columnValues.length; index++)
                                             {
-                                                // Check if the expected number
-                                                // of inputs is present
-                                                if (columnValues.length == FieldsColumn.values().length - 1)
+                                                // Get the index for this
+                                                // column name
+                                                columnIndex[index] = typeDefn.getVisibleColumnIndexByUserName(columnValues[index]);
+
+                                                // Check if the column name
+                                                // in the file matches that
+                                                // of a column in the table
+                                                if (columnIndex[index] != -1)
                                                 {
-                                                    // Add the data field
-                                                    // definition, checking for
-                                                    // (and if possible,
-                                                    // correcting) errors
-                                                    continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
-                                                                                                              tableDefn,
-                                                                                                              new String[] {tableDefn.getName(),
-                                                                                                                            columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
-                                                                                                                            columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
-                                                                                                                            columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
-                                                                                                                            columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
-                                                                                                                            columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
-                                                                                                                            columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
-                                                                                                                            columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1]},
-                                                                                                              importFile.getAbsolutePath(),
-                                                                                                              parent);
+                                                    // Increment the
+                                                    // counter that tracks
+                                                    // the number of
+                                                    // matched columns
+                                                    numValidColumns++;
                                                 }
                                                 // The number of inputs is
                                                 // incorrect
@@ -850,112 +787,229 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
                                                     // Check if the error
                                                     // should be ignored or
                                                     // the import canceled
-                                                    continueOnDataFieldError = getErrorResponse(continueOnDataFieldError,
-                                                                                                "<html><b>Table '</b>"
-                                                                                                                          + tableDefn.getName()
-                                                                                                                          + "<b>' has missing or extra data field "
-                                                                                                                          + "input(s) in import file '</b>"
-                                                                                                                          + importFile.getAbsolutePath()
-                                                                                                                          + "<b>'; continue?",
-                                                                                                "Data Field Error",
-                                                                                                "Ignore this invalid data field",
-                                                                                                "Ignore this and any remaining invalid data fields",
-                                                                                                "Stop importing",
-                                                                                                parent);
+                                                    continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                                             "<html><b>Table '</b>"
+                                                                                                                    + tableDefn.getName()
+                                                                                                                    + "<b>' column name '</b>"
+                                                                                                                    + columnValues[index]
+                                                                                                                    + "<b>' unrecognized in import file '</b>"
+                                                                                                                    + importFile.getAbsolutePath()
+                                                                                                                    + "<b>'; continue?",
+                                                                                             "Column Error",
+                                                                                             "Ignore this invalid column name",
+                                                                                             "Ignore this and any remaining invalid column names",
+                                                                                             "Stop importing",
+                                                                                             parent);
                                                 }
                                             }
 
-                                            break;
+                                            // Check if no column names in
+                                            // the file match those in the
+                                            // table
+                                            if (numValidColumns == 0)
+                                            {
+                                                throw new CCDDException("No columns in import file '</b>"
+                                                                        + importFile.getAbsolutePath()
+                                                                        + "<b>' match those in the target table",
+                                                                        JOptionPane.WARNING_MESSAGE);
+                                            }
+                                        }
+                                        // The file contains no column data
+                                        else
+                                        {
+                                            throw new CCDDException("Format invalid for import file '</b>"
+                                                                    + importFile.getAbsolutePath()
+                                                                    + "<b>'");
+                                        }
+
+                                        // Set the input type to look for
+                                        // cell data
+                                        importTag = CSVTags.CELL_DATA;
+                                        break;
+
+                                    case CELL_DATA:
+                                        // Create storage for the row of
+                                        // cell data and initialize the
+                                        // values to blanks
+                                        String[] rowData = new String[numColumns];
+                                        Arrays.fill(rowData, "");
+
+                                        // Step through each column in the
+                                        // row
+                                        for (int index = 0; index < columnValues.length; index++)
+                                        {
+                                            // Check if the column exists
+                                            if (index < columnIndex.length
+                                                && columnIndex[index] != -1)
+                                            {
+                                                // Store the cell data in
+                                                // the column matching the
+                                                // one in the target table
+                                                rowData[columnIndex[index]] = columnValues[index];
+                                            }
+                                        }
+
+                                        // Add the row of data read in from
+                                        // the file to the cell data list
+                                        tableDefn.addData(rowData);
+                                        break;
+
+                                    case DATA_FIELD:
+                                        // Check if all definitions are to
+                                        // be loaded
+                                        if (importType == ImportType.IMPORT_ALL)
+                                        {
+                                            // Check if the expected number
+                                            // of inputs is present
+                                            if (columnValues.length == FieldsColumn.values().length - 1)
+                                            {
+                                                // Add the data field
+                                                // definition, checking for
+                                                // (and if possible,
+                                                // correcting) errors
+                                                continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
+                                                                                                          tableDefn,
+                                                                                                          new String[] {tableDefn.getName(),
+                                                                                                                        columnValues[FieldsColumn.FIELD_NAME.ordinal() - 1],
+                                                                                                                        columnValues[FieldsColumn.FIELD_DESC.ordinal() - 1],
+                                                                                                                        columnValues[FieldsColumn.FIELD_SIZE.ordinal() - 1],
+                                                                                                                        columnValues[FieldsColumn.FIELD_TYPE.ordinal() - 1],
+                                                                                                                        columnValues[FieldsColumn.FIELD_REQUIRED.ordinal() - 1],
+                                                                                                                        columnValues[FieldsColumn.FIELD_APPLICABILITY.ordinal() - 1],
+                                                                                                                        columnValues[FieldsColumn.FIELD_VALUE.ordinal() - 1]},
+                                                                                                          importFile.getAbsolutePath(),
+                                                                                                          parent);
+                                            }
+                                            // The number of inputs is
+                                            // incorrect
+                                            else
+                                            {
+                                                // Check if the error
+                                                // should be ignored or
+                                                // the import canceled
+                                                continueOnDataFieldError = getErrorResponse(continueOnDataFieldError,
+                                                                                            "<html><b>Table '</b>"
+                                                                                                                      + tableDefn.getName()
+                                                                                                                      + "<b>' has missing or extra data field "
+                                                                                                                      + "input(s) in import file '</b>"
+                                                                                                                      + importFile.getAbsolutePath()
+                                                                                                                      + "<b>'; continue?",
+                                                                                            "Data Field Error",
+                                                                                            "Ignore this invalid data field",
+                                                                                            "Ignore this and any remaining invalid data fields",
+                                                                                            "Stop importing",
+                                                                                            parent);
+                                            }
+                                        }
 
-                                        case DATA_TYPE:
-                                        case MACRO:
-                                        case TABLE_TYPE:
-                                        case TABLE_TYPE_DATA_FIELD:
-                                        case RESERVED_MSG_IDS:
-                                            break;
+                                        break;
 
-                                        default:
-                                            // Inform the user that no tag
-                                            // appears in the file before other
-                                            // data
-                                            throw new CCDDException("Import file '</b>"
-                                                                    + importFile.getAbsolutePath()
-                                                                    + "<b>' information missing");
-                                    }
+                                    default:
+                                        break;
                                 }
                             }
                         }
 
-                        // Read next line in file
-                        line = br.readLine();
+                        // Check if this line is part of a deferred
+                        // table's information
+                        if (isDeferred && isTableInformation(importTag))
+                        {
+                            // Store the line so that it's processed once
+                            // the table types are added
+                            deferredLines.add(line);
+                        }
                     }
 
-                    // Check if this is the second pass
-                    if (loop == 2)
+                    // Check if the deferred table information is being
+                    // processed
+                    if (isReplay)
                     {
-                        // Add the table's definition to the list
-                        tableDefinitions.add(tableDefn);
+                        // Get the next deferred line, if any, and release
+                        // the stored copy
+                        line = numLinesReplayed < deferredLines.size()
+                                                                       ? deferredLines.set(numLinesReplayed++, null)
+                                                                       : null;
+                    }
+                    // The file is being read
+                    else
+                    {
+                        // Read next line in file
+                        line = br.readLine();
 
-                        // Check if only the data from the first table is to be
-                        // read
-                        if (importType == ImportType.FIRST_DATA_ONLY)
+                        // Check if the end of the file is reached
+                        if (line == null)
                         {
-                            // Stop reading table definitions
+                            // Add the table types, data types, macros, and
+                            // reserved message IDs from the file
+                            updateProjectDefinitions(tableTypeDefns,
+                                                     dataTypeDefns,
+                                                     macroDefns,
+                                                     reservedMsgIDDefns,
+                                                     importType);
+
+                            // Process the information for any tables
+                            // whose type wasn't defined when the table
+                            // was read
+                            isReplay = true;
+                            line = numLinesReplayed < deferredLines.size()
+                                                                           ? deferredLines.set(numLinesReplayed++, null)
+                                                                           : null;
+
+                            // Stop processing the current table so that
+                            // each deferred table begins with its name
+                            // and type
                             break;
                         }
                     }
                 }
 
-                // Check if this is the first pass
-                if (loop == 1)
+                // Check if the table's information is deferred until the
+                // table types are added
+                if (isDeferred)
                 {
-                    // Add the table type if it's new or match it to an
-                    // existing one with the same name if the type definitions
-                    // are the same
-                    String badDefn = tableTypeHandler.updateTableTypes(tableTypeDefns,
-                                                                       fieldHandler);
-
-                    // Check if a table type isn't new and doesn't match an
-                    // existing one with the same name
-                    if (badDefn != null)
+                    // Store the position at which the table belongs in
+                    // the list of table definitions
+                    deferredIndices.add(tableDefinitions.size());
+
+                    // Check if only the data from the first table is to be
+                    // read
+                    if (importType == ImportType.FIRST_DATA_ONLY)
                     {
-                        throw new CCDDException("Imported table type '"
-                                                + badDefn
-                                                + "' doesn't match the existing definition");
+                        // Ignore the remaining tables. The file is still
+                        // read in order to obtain the table types
+                        skipTables = true;
                     }
-
-                    // Check if all definitions are to be loaded
-                    if (importType == ImportType.IMPORT_ALL)
+                }
+                // Check if the table isn't being ignored
+                else if (isReplayed || !skipTables)
+                {
+                    // Check if the table's information was deferred and
+                    // the table definitions are stored
+                    if (isReplayed && !isTableDefinitionListenerSet())
                     {
-                        // Add the data type if it's new or match it to an
-                        // existing one with the same name if the type
-                        // definitions are the same
-                        badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
-
-                        // Check if a data type isn't new and doesn't match an
-                        // existing one with the same name
-                        if (badDefn != null)
-                        {
-                            throw new CCDDException("Imported data type '"
-                                                    + badDefn
-                                                    + "' doesn't match the existing definition");
-                        }
-
-                        // Add the macro if it's new or match it to an existing
-                        // one with the same name if the values are the same
-                        badDefn = macroHandler.updateMacros(macroDefns);
-
-                        // Check if a macro isn't new and doesn't match an
-                        // existing one with the same name
-                        if (badDefn != null)
-                        {
-                            throw new CCDDException("Imported macro '"
-                                                    + badDefn
-                                                    + "' doesn't match the existing definition");
-                        }
+                        // Add the table's definition to the list at the
+                        // position it occupied in the file
+                        tableDefinitions.add(deferredIndices.get(numTablesReplayed)
+                                             + numTablesReplayed,
+                                             tableDefn);
+                        numTablesReplayed++;
+                    }
+                    // The table was processed when read, or the table
+                    // definitions are handed to a listener
+                    else
+                    {
+                        // Add the table's definition to the list, or hand it
+                        // to the listener so that the table can be created
+                        // while the remainder of the file is read
+                        addTableDefinition(tableDefinitions, tableDefn);
+                    }
 
-                        // Add the reserved message ID if it's new
-                        rsvMsgIDHandler.updateReservedMsgIDs(reservedMsgIDDefns);
+                    // Check if only the data from the first table is to be
+                    // read
+                    if (importType == ImportType.FIRST_DATA_ONLY)
+                    {
+                        // Stop reading table definitions
+                        break;
                     }
                 }
             }
@@ -986,6 +1040,106 @@ public class CcddCSVHandler extends CcddImportSupportHandler implements CcddImpo
         }
     }
 
+    /**************************************************************************
+     * Add the table type, data type, macro, and reserved message ID
+     * definitions read from the import file
+     *
+     * @param tableTypeDefns
+     *            list of table type definitions
+     *
+     * @param dataTypeDefns
+     *            list of data type definitions
+     *
+     * @param macroDefns
+     *            list of macro definitions
+     *
+     * @param reservedMsgIDDefns
+     *            list of reserved message ID definitions
+     *
+     * @param importType
+     *            ImportType.IMPORT_ALL to add the data type, macro, and
+     *            reserved message ID definitions along with the table types;
+     *            ImportType.FIRST_DATA_ONLY to add only the table types
+     *
+     * @throws CCDDException
+     *             If a definition doesn't match the existing one with the same
+     *             name
+     *************************************************************************/
+    private void updateProjectDefinitions(List<TableTypeDefinition> tableTypeDefns,
+                                          List<String[]> dataTypeDefns,
+                                          List<String[]> macroDefns,
+                                          List<String[]> reservedMsgIDDefns,
+                                          ImportType importType) throws CCDDException
+    {
+        // Add the table type if it's new or match it to an
+        // existing one with the same name if the type definitions
+        // are the same
+        String badDefn = tableTypeHandler.updateTableTypes(tableTypeDefns,
+                                                           fieldHandler);
+
+        // Check if a table type isn't new and doesn't match an
+        // existing one with the same name
+        if (badDefn != null)
+        {
+            throw new CCDDException("Imported table type '"
+                                    + badDefn
+                                    + "' doesn't match the existing definition");
+        }
+
+        // Check if all definitions are to be loaded
+        if (importType == ImportType.IMPORT_ALL)
+        {
+            // Add the data type if it's new or match it to an
+            // existing one with the same name if the type
+            // definitions are the same
+            badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
+
+            // Check if a data type isn't new and doesn't match an
+            // existing one with the same name
+            if (badDefn != null)
+            {
+                throw new CCDDException("Imported data type '"
+                                        + badDefn
+                                        + "' doesn't match the existing definition");
+            }
+
+            // Add the macro if it's new or match it to an existing
+            // one with the same name if the values are the same
+            badDefn = macroHandler.updateMacros(macroDefns);
+
+            // Check if a macro isn't new and doesn't match an
+            // existing one with the same name
+            if (badDefn != null)
+            {
+                throw new CCDDException("Imported macro '"
+                                        + badDefn
+                                        + "' doesn't match the existing definition");
+            }
+
+            // Add the reserved message ID if it's new
+            rsvMsgIDHandler.updateReservedMsgIDs(reservedMsgIDDefns);
+        }
+    }
+
+    /**************************************************************************
+     * Determine if the specified input tag identifies information belonging
+     * to a table (its name and type, description, column names, cell data, or
+     * data fields)
+     *
+     * @param importTag
+     *            input tag; null if no tag has been read
+     *
+     * @return true if the tag identifies table information
+     *************************************************************************/
+    private boolean isTableInformation(CSVTags importTag)
+    {
+        return importTag == CSVTags.NAME_TYPE
+               || importTag == CSVTags.DESCRIPTION
+               || importTag == CSVTags.COLUMN_NAMES
+               || importTag == CSVTags.CELL_DATA
+               || importTag == CSVTags.DATA_FIELD;
+    }
+
     /**************************************************************************
      * Export the project in CSV format to the specified file
      *
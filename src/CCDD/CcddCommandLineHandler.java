@@ -716,6 +716,62 @@ public class CcddCommandLineHandler
                 shutdownWhenComplete = true;
             }
         });
+
+        // Benchmark command
+        argument.add(new CommandHandler("benchmark",
+                                        "Perform benchmark(s)",
+                                        "benchmark1[,...[,benchmarkN]] (load, modify, search, web, macro, graph, values, import, export)",
+                                        CommandLineType.NAME,
+                                        10)
+        {
+            /******************************************************************
+             * Perform one or more benchmarks on the project database and log
+             * the results. The application exits following completion of
+             * this command
+             *****************************************************************/
+            @Override
+            protected void doCommand(Object parmVal)
+            {
+                // Set the flag that hides the GUI so that dialog messages are
+                // redirected to the command line
+                ccddMain.setGUIHidden(true);
+
+                // Check if a project database, user, and host are specified
+                // and if the project database opens successfully
+                if (!ccddMain.getDbControlHandler().getDatabase().isEmpty()
+                    && !ccddMain.getDbControlHandler().getDatabase().equals(DEFAULT_DATABASE)
+                    && !ccddMain.getDbControlHandler().getUser().isEmpty()
+                    && !ccddMain.getDbControlHandler().getHost().isEmpty()
+                    && !ccddMain.getDbControlHandler().openDatabase(ccddMain.getDbControlHandler().getDatabase())
+                    && ccddMain.getDbControlHandler().isDatabaseConnected())
+                {
+                    // Perform the benchmark(s) and check if an error occurred
+                    if (new CcddBenchmarkHandler(ccddMain).runBenchmarks(parmVal.toString()))
+                    {
+                        // Set the application return value to indicate a
+                        // failure
+                        scriptExitStatus = 1;
+                    }
+                }
+                // Missing project database, user, or host, or the project
+                // database failed to open
+                else
+                {
+                    // Set the application return value to indicate a failure
+                    scriptExitStatus = 1;
+
+                    // Inform the user that the project database can't be
+                    // accessed
+                    ccddMain.getSessionEventLog().logFailEvent(ccddMain.getMainFrame(),
+                                                               "Project database, user name, and/or host missing, or project can't be opened",
+                                                               "<html><b>Project database, user name, and/or host missing, or project can't be opened");
+                }
+
+                // Set the flag that indicates the application should exit
+                // following the benchmark(s)
+                shutdownWhenComplete = true;
+            }
+        });
     }
 
     /**************************************************************************
@@ -47,6 +47,24 @@ public class CcddConstants
     protected static final String DEFAULT_SERVER = "PostgreSQL";
     protected static final String DEFAULT_WEB_SERVER_PORT = "7070";
 
+    // Web server request thread pool parameters: minimum and maximum number of
+    // threads, idle thread timeout (msec), and the maximum number of requests
+    // queued while waiting for a thread
+    protected static final int WEB_SERVER_MIN_THREADS = 4;
+    protected static final int WEB_SERVER_MAX_THREADS = 32;
+    protected static final int WEB_SERVER_THREAD_IDLE_TIMEOUT = 60000;
+    protected static final int WEB_SERVER_MAX_QUEUED_REQUESTS = 256;
+
+    // Maximum number of web server responses stored in the response cache
+    protected static final int WEB_SERVER_RESPONSE_CACHE_SIZE = 100;
+
+    // Size, in bytes, of the buffer used when writing a web server response
+    protected static final int WEB_SERVER_OUTPUT_BUFFER_SIZE = 65536;
+
+    // Minimum size, in characters, of a web server response before it's
+    // compressed (if the requester accepts compressed responses)
+    protected static final int WEB_SERVER_COMPRESSION_THRESHOLD = 1024;
+
     // Create the database driver class name
     protected static final String DATABASE_DRIVER = "org.postgresql.Driver";
 
@@ -74,13 +92,48 @@ public class CcddConstants
     protected static final String TYPE_NAME_SEPARATOR = "TypeNameSeparator";
     protected static final String HIDE_DATA_TYPE = "HideDataType";
     protected static final String HIDE_SCRIPT_PATH = "HideScriptPath";
+    protected static final String SEARCH_INDEX = "SearchIndex";
 
     // Prefix assigned to internally created CCDD database tables
     protected static final String INTERNAL_TABLE_PREFIX = "__";
 
+    // Database schema and table containing the structure table member
+    // catalog. The catalog is placed outside the public schema so that it
+    // isn't treated as a project table
+    protected static final String MEMBER_CATALOG_SCHEMA = "ccdd_catalog";
+    protected static final String MEMBER_CATALOG_TABLE = MEMBER_CATALOG_SCHEMA + ".table_members";
+
+    // Custom values table index names and the expression used to extract the
+    // path of the table instance to which a custom value belongs (the value's
+    // table path with the final variable name removed). Queries for an
+    // instance's custom values must use this expression verbatim in order for
+    // the database to use the parent path index
+    protected static final String VALUES_PATH_INDEX = INTERNAL_TABLE_PREFIX + "values_path_idx";
+    protected static final String VALUES_PARENT_INDEX = INTERNAL_TABLE_PREFIX + "values_parent_idx";
+    protected static final String VALUES_PARENT_PATH = "regexp_replace(table_path, E',[^,]+$', '')";
+
     // Name of the database save point
     protected static final String DB_SAVE_POINT_NAME = "ccdd_savepoint";
 
+    // Maximum number of prototype tables combined into a single query when
+    // loading multiple tables
+    protected static final int BATCH_LOAD_TABLE_LIMIT = 500;
+
+    // Number of characters of comma-separated row data accumulated before
+    // the data is sent to the server during a bulk (COPY) table load
+    protected static final int COPY_BUFFER_SIZE = 65536;
+
+    // Maximum number of tables created, or whose data fields are updated,
+    // by a single database command during a bulk table import
+    protected static final int BULK_IMPORT_TABLE_LIMIT = 200;
+
+    // Number of cells of table data read from the import file(s) that are
+    // held before the tables are created during a bulk table import
+    protected static final int BULK_IMPORT_CELL_LIMIT = 1000000;
+
+    // Maximum number of read-only connections in the database connection pool
+    protected static final int DB_CONNECTION_POOL_SIZE = 4;
+
     // Script description text tag
     protected static final String SCRIPT_DESCRIPTION_TAG = "description:";
 
@@ -141,6 +194,10 @@ public class CcddConstants
     // Characters used to encompass a macro name
     protected static final String MACRO_IDENTIFIER = "##";
 
+    // Maximum number of macro expansions stored by the macro handler. The
+    // stored expansions are discarded when the limit is reached
+    protected static final int MACRO_EXPANSION_CACHE_SIZE = 10000;
+
     // Regular expression to detect reserved characters. The backslash
     // character as a reserved character isn't included here
     protected static final String POSTGRESQL_RESERVED_CHARS = "(.*?)([\\[\\]\\(\\)\\{\\}\\.\\+\\*\\^\\$\\|\\?\\-])(.*?)";
@@ -3354,7 +3411,19 @@ public class CcddConstants
                                 ValuesColumn.COLUMN_NAME.dataType},
                                {ValuesColumn.VALUE.columnName,
                                 ValuesColumn.VALUE.dataType}},
-               "",
+               "; CREATE INDEX "
+                   + VALUES_PATH_INDEX
+                   + " ON "
+                   + INTERNAL_TABLE_PREFIX
+                   + "values ("
+                   + ValuesColumn.TABLE_PATH.columnName
+                   + " text_pattern_ops); CREATE INDEX "
+                   + VALUES_PARENT_INDEX
+                   + " ON "
+                   + INTERNAL_TABLE_PREFIX
+                   + "values (("
+                   + VALUES_PARENT_PATH
+                   + "))",
                "");
 
         /**********************************************************************
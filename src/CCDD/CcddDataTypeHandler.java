@@ -36,7 +36,6 @@ import javax.swing.text.BadLocationException;
 
 import CCDD.CcddClasses.PaddedComboBox;
 import CCDD.CcddConstants.BaseDataTypeInfo;
-import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.DataTypesColumn;
@@ -53,7 +52,6 @@ public class CcddDataTypeHandler
     // Class references
     private CcddMain ccddMain;
     private CcddDbTableCommandHandler dbTable;
-    private CcddDbCommandHandler dbCommand;
     private CcddTableTypeHandler tableTypeHandler;
 
     // Pop-up combo box for displaying the structure names and the dialog to
@@ -95,7 +93,6 @@ public class CcddDataTypeHandler
         // Get references to make subsequent calls shorter
         this.ccddMain = ccddMain;
         dbTable = ccddMain.getDbTableCommandHandler();
-        dbCommand = ccddMain.getDbCommandHandler();
         tableTypeHandler = ccddMain.getTableTypeHandler();
     }
 
@@ -497,18 +494,12 @@ public class CcddDataTypeHandler
     {
         // Get the references in the prototype tables that match the specified
         // data type name
-        List<String> matches = new ArrayList<String>(Arrays.asList(dbCommand.getList(DatabaseListCommand.SEARCH,
-                                                                                     new String[][] {{"_search_text_",
-                                                                                                      dataTypeName},
-                                                                                                     {"_case_insensitive_",
-                                                                                                      "true"},
-                                                                                                     {"_allow_regex_",
-                                                                                                      "false"},
-                                                                                                     {"_selected_tables_",
-                                                                                                      SearchType.PROTO.toString()},
-                                                                                                     {"_columns_",
-                                                                                                      ""}},
-                                                                                     parent)));
+        List<String> matches = new ArrayList<String>(Arrays.asList(ccddMain.getSearchIndexHandler().searchTables(dataTypeName,
+                                                                                                                 true,
+                                                                                                                 false,
+                                                                                                                 SearchType.PROTO.toString(),
+                                                                                                                 "",
+                                                                                                                 parent)));
 
         // Step through each match (in reverse since an entry in the list may
         // need to be removed)
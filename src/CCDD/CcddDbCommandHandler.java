@@ -8,17 +8,25 @@
  */
 package CCDD;
 
+import static CCDD.CcddConstants.COPY_BUFFER_SIZE;
 import static CCDD.CcddConstants.DB_SAVE_POINT_NAME;
 import static CCDD.CcddConstants.EventLogMessageType.COMMAND_MSG;
+import static CCDD.CcddConstants.EventLogMessageType.STATUS_MSG;
 
 import java.awt.Component;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
 import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.DbCommandType;
 
@@ -31,21 +39,233 @@ public class CcddDbCommandHandler
     private final CcddMain ccddMain;
     private CcddEventLogDialog eventLog;
 
-    // PostgreSQL database connection
+    // PostgreSQL database connection. Database changes are made using this
+    // connection
     private Connection connection;
 
-    // PostgreSQL database statement
-    private Statement statement;
+    // Pool of read-only connections to the database
+    private CcddDbConnectionPool connectionPool;
+
+    // Read-only connection obtained from the pool for use by the current
+    // thread; null if the thread hasn't obtained one
+    private final ThreadLocal<Connection> readOnlyConnection;
+
+    // Number of nested read-only connection requests made by the current
+    // thread
+    private final ThreadLocal<Integer> readOnlyDepth;
+
+    // Number of database statements executed by the current thread
+    private final ThreadLocal<Long> statementCount;
+
+    // Transaction currently in progress; null if no transaction is active.
+    // While a transaction is active only the thread that owns it can change
+    // the database
+    private volatile Transaction activeTransaction;
 
     // Command to create a save point
     private static final String SAVE_POINT_COMMAND = "SAVEPOINT " + DB_SAVE_POINT_NAME + ";";
 
-    // Flag to enable/disable creating a save point prior to a transaction
-    private boolean savePointEnabled;
+    // Command to revert to the save point
+    private static final String ROLLBACK_COMMAND = "ROLLBACK TO SAVEPOINT " + DB_SAVE_POINT_NAME + ";";
+
+    /**************************************************************************
+     * Database transaction class. A transaction groups a series of database
+     * changes so that these can be committed or reverted together. A save
+     * point is created prior to execution of the first command in the
+     * transaction; reverting the transaction returns the database to the
+     * state at the save point. Only one transaction can be active at a time.
+     * The transaction is owned by the thread that begins it; database changes
+     * made by any other thread are rejected while the transaction is active
+     *************************************************************************/
+    protected class Transaction
+    {
+        // Flag indicating that a save point has been created for this
+        // transaction
+        private boolean isSavePointCreated;
+
+        // Thread that owns the transaction
+        private volatile Thread owner;
+
+        /**********************************************************************
+         * Database transaction class constructor. The calling thread owns the
+         * transaction
+         *********************************************************************/
+        private Transaction()
+        {
+            isSavePointCreated = false;
+            owner = Thread.currentThread();
+        }
+
+        /**********************************************************************
+         * Make the calling thread the owner of the transaction. This allows a
+         * transaction begun by a background command's execute() method to be
+         * continued and committed by its complete() method, which runs on the
+         * event dispatch thread
+         *********************************************************************/
+        protected void transferToCurrentThread()
+        {
+            owner = Thread.currentThread();
+        }
+
+        /**********************************************************************
+         * Check if the calling thread owns the transaction
+         *
+         * @return true if the calling thread owns the transaction
+         *********************************************************************/
+        protected boolean isOwnedByCurrentThread()
+        {
+            return owner == Thread.currentThread();
+        }
+
+        /**********************************************************************
+         * Create the save point for this transaction if it hasn't already been
+         * created
+         *
+         * @param component
+         *            GUI component over which to center any error dialog
+         *
+         * @throws SQLException
+         *             If the save point can't be created
+         *********************************************************************/
+        private void createSavePoint(Component component) throws SQLException
+        {
+            // Check if the save point hasn't already been created
+            if (!isSavePointCreated)
+            {
+                // Execute the command to create a save point
+                executeOnConnection(connection,
+                                    DbCommandType.COMMAND,
+                                    SAVE_POINT_COMMAND,
+                                    component);
+
+                // Set the flag to indicate the save point has been created
+                isSavePointCreated = true;
+            }
+        }
+
+        /**********************************************************************
+         * Check if a save point exists for this transaction
+         *
+         * @return true if a save point has been created for this transaction
+         *********************************************************************/
+        protected boolean isSavePointCreated()
+        {
+            return isSavePointCreated;
+        }
+
+        /**********************************************************************
+         * Commit the changes made during the transaction to the database
+         *
+         * @throws SQLException
+         *             If the changes can't be committed
+         *********************************************************************/
+        protected void commit() throws SQLException
+        {
+            connection.commit();
+        }
+
+        /**********************************************************************
+         * Revert the changes made during the transaction. The database is
+         * returned to its state at the save point. This has no effect if no
+         * commands have been executed during the transaction
+         *
+         * @param component
+         *            GUI component over which to center any error dialog
+         *
+         * @throws SQLException
+         *             If the changes can't be reverted
+         *********************************************************************/
+        protected void rollback(Component component) throws SQLException
+        {
+            // Check if a save point exists to which to revert
+            if (isSavePointCreated)
+            {
+                // Revert the changes to the save point
+                executeOnConnection(connection,
+                                    DbCommandType.COMMAND,
+                                    ROLLBACK_COMMAND,
+                                    component);
+            }
+        }
+
+        /**********************************************************************
+         * End the transaction. Subsequent database commands are committed
+         * individually
+         *********************************************************************/
+        protected void end()
+        {
+            // Check if this is the active transaction
+            if (activeTransaction == this)
+            {
+                activeTransaction = null;
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Database batch command class. A batch command is either a single SQL
+     * command string or a parameterized SQL command that is executed once for
+     * each set of parameter values using a prepared statement batch. The
+     * parameter values are passed to the database untyped so that the server
+     * converts them to the column types, as it does for quoted literals
+     *************************************************************************/
+    protected static class BatchCommand
+    {
+        private final String command;
+        private final List<Object[]> parameters;
+
+        /**********************************************************************
+         * Database batch command class constructor for a command without
+         * parameters
+         *
+         * @param command
+         *            SQL command(s) to execute
+         *********************************************************************/
+        protected BatchCommand(String command)
+        {
+            this.command = command;
+            parameters = null;
+        }
+
+        /**********************************************************************
+         * Database batch command class constructor for a parameterized command
+         *
+         * @param command
+         *            SQL command containing a '?' placeholder for each
+         *            parameter
+         *
+         * @param parameters
+         *            list containing the parameter values for each execution
+         *            of the command; an empty list if the command isn't
+         *            executed
+         *********************************************************************/
+        protected BatchCommand(String command, List<Object[]> parameters)
+        {
+            this.command = command;
+            this.parameters = parameters;
+        }
+
+        /**********************************************************************
+         * Get the SQL command
+         *
+         * @return SQL command
+         *********************************************************************/
+        protected String getCommand()
+        {
+            return command;
+        }
 
-    // Flag indicating that a save point has been created for this transaction
-    // block
-    private boolean isSavePointCreated;
+        /**********************************************************************
+         * Get the parameter values for each execution of the command
+         *
+         * @return List containing the parameter values for each execution of
+         *         the command; null if the command has no parameters
+         *********************************************************************/
+        protected List<Object[]> getParameters()
+        {
+            return parameters;
+        }
+    }
 
     /**************************************************************************
      * Database command handler class constructor
@@ -56,9 +276,10 @@ public class CcddDbCommandHandler
     protected CcddDbCommandHandler(CcddMain ccddMain)
     {
         this.ccddMain = ccddMain;
-
-        // Initialize the save point flags
-        setSavePointEnable(false);
+        readOnlyConnection = new ThreadLocal<Connection>();
+        readOnlyDepth = new ThreadLocal<Integer>();
+        statementCount = new ThreadLocal<Long>();
+        activeTransaction = null;
     }
 
     /**************************************************************************
@@ -93,14 +314,134 @@ public class CcddDbCommandHandler
     }
 
     /**************************************************************************
-     * Set the connection statement
+     * Set the pool of read-only connections to the database. Any existing pool
+     * is closed
      *
-     * @param statement
-     *            connection statement
+     * @param connectionPool
+     *            read-only database connection pool; null if no pool is used
      *************************************************************************/
-    protected void setStatement(Statement statement)
+    protected void setConnectionPool(CcddDbConnectionPool connectionPool)
     {
-        this.statement = statement;
+        // Check if a pool already exists
+        if (this.connectionPool != null)
+        {
+            // Log the pool usage statistics and close the pool
+            eventLog.logEvent(STATUS_MSG,
+                              "Database connection pool closed; "
+                                          + this.connectionPool.getStatistics());
+            this.connectionPool.close();
+        }
+
+        this.connectionPool = connectionPool;
+    }
+
+    /**************************************************************************
+     * Get the pool of read-only connections to the database
+     *
+     * @return Read-only database connection pool; null if no pool is used
+     *************************************************************************/
+    protected CcddDbConnectionPool getConnectionPool()
+    {
+        return connectionPool;
+    }
+
+    /**************************************************************************
+     * Obtain a read-only connection from the connection pool for use by the
+     * current thread. Until the connection is released, database queries
+     * executed by the thread use this connection, which allows them to
+     * execute concurrently with those made by other threads. Other database
+     * commands continue to use the primary connection. Requests may be
+     * nested; the connection is returned to the pool when the outermost
+     * request is released. If no pool exists or a connection can't be
+     * obtained then the thread's queries use the primary connection. Each
+     * call to this method must be paired with a call to
+     * releaseReadOnlyConnection()
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *************************************************************************/
+    protected void acquireReadOnlyConnection(Component component)
+    {
+        Integer depth = readOnlyDepth.get();
+        Transaction transaction = activeTransaction;
+
+        // Check if this is the outermost request, the connection pool exists,
+        // and the thread doesn't own the transaction in progress, if any
+        // (queries made by the transaction's owner must see the transaction's
+        // changes)
+        if (depth == null
+            && connectionPool != null
+            && (transaction == null || !transaction.isOwnedByCurrentThread()))
+        {
+            try
+            {
+                // Obtain a connection from the pool for this thread
+                readOnlyConnection.set(connectionPool.acquire());
+            }
+            catch (SQLException se)
+            {
+                // Inform the user that a pooled connection is unavailable
+                eventLog.logFailEvent(component,
+                                      "Cannot obtain pooled database connection; cause '"
+                                                 + se.getMessage()
+                                                 + "'",
+                                      "<html><b>Cannot obtain pooled database connection");
+            }
+        }
+
+        // Update the request nesting depth
+        readOnlyDepth.set(depth == null ? 1 : depth + 1);
+    }
+
+    /**************************************************************************
+     * Release the read-only connection obtained by the current thread. The
+     * connection is returned to the pool when the outermost request is
+     * released
+     *************************************************************************/
+    protected void releaseReadOnlyConnection()
+    {
+        Integer depth = readOnlyDepth.get();
+
+        // Check if this is the outermost request
+        if (depth == null || depth <= 1)
+        {
+            Connection poolConnection = readOnlyConnection.get();
+
+            // Check if the thread obtained a connection from the pool
+            if (poolConnection != null)
+            {
+                // Return the connection to the pool
+                readOnlyConnection.remove();
+
+                // Check if the pool still exists
+                if (connectionPool != null)
+                {
+                    connectionPool.release(poolConnection);
+                }
+            }
+
+            readOnlyDepth.remove();
+        }
+        // This is a nested request
+        else
+        {
+            // Update the request nesting depth
+            readOnlyDepth.set(depth - 1);
+        }
+    }
+
+    /**************************************************************************
+     * Get the number of database query, update, and command statements
+     * executed by the current thread. The difference between two calls is the
+     * number of database round trips made by the thread in between
+     *
+     * @return Number of database statements executed by the current thread
+     *************************************************************************/
+    protected long getStatementCount()
+    {
+        Long count = statementCount.get();
+
+        return count == null ? 0 : count;
     }
 
     /**************************************************************************
@@ -165,9 +506,337 @@ public class CcddDbCommandHandler
                                             component);
     }
 
+    /**************************************************************************
+     * Execute a series of database update commands as a single change and log
+     * the commands to the session log. Parameterized commands are executed
+     * using prepared statement batches. If a transaction is in progress its
+     * save point is created prior to executing the first command; otherwise
+     * the changes are committed once all of the commands complete, or are
+     * reverted if any command fails
+     *
+     * @param commands
+     *            list of commands to execute, in the order of execution
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *
+     * @return Total number of rows affected by the commands
+     *
+     * @throws SQLException
+     *             If no connection exists or a command fails
+     *************************************************************************/
+    protected int executeDbBatchUpdate(List<BatchCommand> commands,
+                                       Component component) throws SQLException
+    {
+        int numRows = 0;
+
+        // Check if no valid database connection exists
+        if (connection == null)
+        {
+            throw new SQLException("no database connection");
+        }
+
+        // Get a reference to the active transaction to prevent it changing
+        // while the commands execute
+        Transaction transaction = activeTransaction;
+
+        // Check that the transaction in progress, if any, is owned by this
+        // thread
+        checkTransactionOwner(transaction);
+
+        // Check if a transaction is in progress
+        if (transaction != null)
+        {
+            // Create the transaction's save point, if not already created
+            transaction.createSavePoint(component);
+        }
+
+        try
+        {
+            // Step through each command
+            for (BatchCommand batchCommand : commands)
+            {
+                // Check if the command has no parameters
+                if (batchCommand.getParameters() == null)
+                {
+                    // Check if the command isn't blank
+                    if (!batchCommand.getCommand().trim().isEmpty())
+                    {
+                        // Log and execute the command
+                        eventLog.logEvent(COMMAND_MSG, batchCommand.getCommand());
+                        Statement statement = connection.createStatement();
+
+                        try
+                        {
+                            statement.execute(batchCommand.getCommand());
+                        }
+                        finally
+                        {
+                            statement.close();
+                        }
+                    }
+                }
+                // Check if the command is executed at least once
+                else if (!batchCommand.getParameters().isEmpty())
+                {
+                    // Log the command and the number of times it's executed
+                    eventLog.logEvent(COMMAND_MSG,
+                                      batchCommand.getCommand()
+                                                   + " ["
+                                                   + batchCommand.getParameters().size()
+                                                   + " row(s)]");
+                    PreparedStatement statement = connection.prepareStatement(batchCommand.getCommand());
+
+                    try
+                    {
+                        // Step through each set of parameter values
+                        for (Object[] parameters : batchCommand.getParameters())
+                        {
+                            // Step through each parameter value
+                            for (int index = 0; index < parameters.length; index++)
+                            {
+                                // Set the parameter value. The value's type
+                                // is left unspecified so that the server
+                                // converts it to the column's type
+                                statement.setObject(index + 1,
+                                                    parameters[index] == null
+                                                                              ? null
+                                                                              : parameters[index].toString(),
+                                                    Types.OTHER);
+                            }
+
+                            statement.addBatch();
+                        }
+
+                        // Execute the batch and total the affected rows
+                        for (int count : statement.executeBatch())
+                        {
+                            // Check if the number of affected rows is known
+                            if (count > 0)
+                            {
+                                numRows += count;
+                            }
+                        }
+                    }
+                    finally
+                    {
+                        statement.close();
+                    }
+                }
+            }
+
+            // Check if auto-commit is disabled and no transaction is in
+            // progress
+            if (connection.getAutoCommit() == false && transaction == null)
+            {
+                // Commit the changes to the database
+                connection.commit();
+            }
+        }
+        catch (SQLException se)
+        {
+            // Check if no transaction is in progress
+            if (transaction == null)
+            {
+                // The commands failed to complete successfully; revert the
+                // changes to the database
+                rollbackCommand(component);
+            }
+
+            // Get the cause of a batch failure if available since the batch
+            // exception itself doesn't identify the failed command
+            String message = se.getNextException() != null
+                                                            ? se.getNextException().getMessage()
+                                                            : se.getMessage();
+
+            // Re-throw the exception so that the caller can handle it
+            throw new SQLException(message, se.getSQLState(), se);
+        }
+
+        return numRows;
+    }
+
+    /**************************************************************************
+     * Stream rows into a database table using the PostgreSQL COPY protocol
+     * and log the command to the session log. The rows are sent to the server
+     * as comma-separated values in a single COPY operation instead of as one
+     * INSERT statement per row. If a transaction is in progress its save
+     * point is created prior to starting the copy
+     *
+     * @param tableName
+     *            name of the table into which to copy the rows
+     *
+     * @param columnNames
+     *            array of the names of the columns into which the row values
+     *            are copied. Columns not included are set to their default
+     *            values
+     *
+     * @param rows
+     *            list of rows to copy. Each row contains one value per column
+     *            name, in the same order; a null value stores a database null
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *
+     * @return Number of rows copied into the table
+     *
+     * @throws SQLException
+     *             If no connection exists to the server or the copy fails
+     *************************************************************************/
+    protected long executeDbCopy(String tableName,
+                                 String[] columnNames,
+                                 List<Object[]> rows,
+                                 Component component) throws SQLException
+    {
+        long numRows = 0;
+
+        // Check if no valid database connection exists
+        if (connection == null)
+        {
+            throw new SQLException("no database connection");
+        }
+
+        // Check if there are no rows to copy
+        if (rows.isEmpty())
+        {
+            return numRows;
+        }
+
+        // Build the copy command
+        StringBuilder command = new StringBuilder("COPY " + tableName + " (");
+
+        // Step through each column name
+        for (String columnName : columnNames)
+        {
+            command.append(columnName).append(", ");
+        }
+
+        command.setLength(command.length() - 2);
+        command.append(") FROM STDIN WITH (FORMAT csv);");
+
+        // Log the command and the number of rows copied
+        eventLog.logEvent(COMMAND_MSG,
+                          command.toString() + " [" + rows.size() + " row(s)]");
+
+        // Get a reference to the active transaction to prevent it changing
+        // while the copy executes
+        Transaction transaction = activeTransaction;
+
+        // Check that the transaction in progress, if any, is owned by this
+        // thread
+        checkTransactionOwner(transaction);
+
+        // Check if a transaction is in progress
+        if (transaction != null)
+        {
+            // Create the transaction's save point, if not already created
+            transaction.createSavePoint(component);
+        }
+
+        CopyIn copyIn = null;
+
+        try
+        {
+            // Start the copy operation
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(command.toString());
+
+            StringBuilder buffer = new StringBuilder();
+
+            // Step through each row
+            for (Object[] row : rows)
+            {
+                // Step through each column value in the row
+                for (int column = 0; column < row.length; column++)
+                {
+                    // Check if this isn't the first column
+                    if (column != 0)
+                    {
+                        buffer.append(',');
+                    }
+
+                    // Check if the value isn't null. An unquoted empty value
+                    // is stored as a null
+                    if (row[column] != null)
+                    {
+                        // Add the value, quoted, with any embedded quotes
+                        // doubled
+                        buffer.append('"')
+                              .append(row[column].toString().replace("\"", "\"\""))
+                              .append('"');
+                    }
+                }
+
+                buffer.append('\n');
+                numRows++;
+
+                // Check if the buffer has reached the size at which it's sent
+                // to the server
+                if (buffer.length() >= COPY_BUFFER_SIZE)
+                {
+                    // Send the buffered rows and empty the buffer
+                    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                    buffer.setLength(0);
+                }
+            }
+
+            // Check if any rows remain in the buffer
+            if (buffer.length() != 0)
+            {
+                // Send the remaining rows
+                byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+
+            // Complete the copy operation
+            copyIn.endCopy();
+            copyIn = null;
+
+            // Check if auto-commit is disabled and no transaction is in
+            // progress
+            if (connection.getAutoCommit() == false && transaction == null)
+            {
+                // Commit the changes to the database
+                connection.commit();
+            }
+        }
+        catch (SQLException se)
+        {
+            // Check if the copy operation is still active
+            if (copyIn != null && copyIn.isActive())
+            {
+                try
+                {
+                    // Abandon the copy operation
+                    copyIn.cancelCopy();
+                }
+                catch (SQLException se2)
+                {
+                    // Ignore the error; the original cause is reported below
+                }
+            }
+
+            // Check if no transaction is in progress
+            if (transaction == null)
+            {
+                // The copy failed to complete successfully; revert the
+                // changes to the database
+                rollbackCommand(component);
+            }
+
+            // Re-throw the exception so that the caller can handle it
+            throw se;
+        }
+
+        return numRows;
+    }
+
     /**************************************************************************
      * Execute a database update statement and log the command to the session
-     * log
+     * log. A query is executed using the current thread's read-only pooled
+     * connection, if it has one; otherwise the command is executed using the
+     * primary connection. If a transaction is in progress its save point is
+     * created prior to executing the first command on the primary connection
      *
      * @param commandType
      *            command type (DbCommandType)
@@ -186,38 +855,132 @@ public class CcddDbCommandHandler
                                         String command,
                                         Component component) throws SQLException
     {
-        Object result = null;
+        // Get the read-only connection for this thread, if one exists
+        Connection poolConnection = readOnlyConnection.get();
+
+        // Check if this is a query and the thread has a read-only connection
+        if (commandType == DbCommandType.QUERY && poolConnection != null)
+        {
+            // Execute the query using the read-only connection
+            return executeOnConnection(poolConnection,
+                                       commandType,
+                                       command,
+                                       component);
+        }
+
+        // Get a reference to the active transaction to prevent it changing
+        // while the command executes
+        Transaction transaction = activeTransaction;
+
+        // Check if a transaction owned by another thread is in progress
+        if (transaction != null && !transaction.isOwnedByCurrentThread())
+        {
+            // Check if the command isn't a query
+            if (commandType != DbCommandType.QUERY)
+            {
+                // Reject the change since it would become part of the other
+                // thread's transaction
+                checkTransactionOwner(transaction);
+            }
 
-        // Check if creation of a save point is enabled and a save point hasn't
-        // already been created
-        if (savePointEnabled && !isSavePointCreated)
+            // Execute the query without committing, since committing would
+            // commit the other thread's transaction
+            return executeOnConnection(connection,
+                                       commandType,
+                                       command,
+                                       component);
+        }
+
+        // Check if a transaction is in progress
+        if (transaction != null)
         {
-            // Execute the command to create a save point
-            statement.execute(SAVE_POINT_COMMAND);
+            // Create the transaction's save point, if not already created
+            transaction.createSavePoint(component);
+        }
 
-            // Log the save point command
-            eventLog.logEvent(COMMAND_MSG, SAVE_POINT_COMMAND);
+        Object result = executeOnConnection(connection,
+                                            commandType,
+                                            command,
+                                            component);
 
-            // Set the flag to indicate the save point command has been created
-            isSavePointCreated = true;
+        // Check if auto-commit is disabled and no transaction is in progress
+        if (connection.getAutoCommit() == false && transaction == null)
+        {
+            try
+            {
+                // Commit the change to the database
+                connection.commit();
+            }
+            catch (SQLException se)
+            {
+                // Revert the change and inform the caller
+                rollbackCommand(component);
+                throw se;
+            }
         }
 
-        // Log the command
+        return result;
+    }
+
+    /**************************************************************************
+     * Execute a database statement on the specified connection and log the
+     * command to the session log. A new statement is created for each command
+     * so that commands from different threads don't interfere with one
+     * another. The statement for a query is closed when its result set is
+     * closed; the statement for any other command is closed once the command
+     * completes
+     *
+     * @param dbConnection
+     *            database connection on which to execute the command
+     *
+     * @param commandType
+     *            command type (DbCommandType)
+     *
+     * @param command
+     *            SQL command to execute
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *
+     * @return Command result (content is dependent on the command type)
+     *
+     * @throws SQLException
+     *             If no connection exists or the command fails
+     *************************************************************************/
+    private Object executeOnConnection(Connection dbConnection,
+                                       DbCommandType commandType,
+                                       String command,
+                                       Component component) throws SQLException
+    {
+        Object result = null;
+
+        // Log the command and update the number of statements executed by
+        // this thread
         eventLog.logEvent(COMMAND_MSG, command);
+        Long count = statementCount.get();
+        statementCount.set(count == null ? 1 : count + 1);
 
         // Check if no valid database connection exists
-        if (statement == null)
+        if (dbConnection == null)
         {
             throw new SQLException("no database connection");
         }
 
+        Statement statement = null;
+
         try
         {
+            // Create the statement for this command
+            statement = dbConnection.createStatement();
+
             switch (commandType)
             {
                 case QUERY:
-                    // Execute the query command
+                    // Execute the query command. The statement is closed when
+                    // the result set is closed
                     result = statement.executeQuery(command);
+                    statement.closeOnCompletion();
+                    statement = null;
                     break;
 
                 case COMMAND:
@@ -230,65 +993,113 @@ public class CcddDbCommandHandler
                     result = statement.executeUpdate(command);
                     break;
             }
-
-            // Check if auto-commit is disabled and a save point isn't
-            // established
-            if (connection.getAutoCommit() == false && !savePointEnabled)
+        }
+        catch (SQLException se)
+        {
+            // Check if the command was executed on the primary connection and
+            // no transaction is in progress
+            if (dbConnection == connection && activeTransaction == null)
             {
-                // Commit the change to the database
-                connection.commit();
+                // The command failed to complete successfully; revert the
+                // change to the database
+                rollbackCommand(component);
             }
+
+            // Re-throw the exception so that the caller can handle it
+            throw se;
         }
-        catch (SQLException se)
+        finally
         {
-            // Check if auto-commit is disabled and a save point isn't
-            // established
-            if (connection.getAutoCommit() == false && !savePointEnabled)
+            // Check if the statement should be closed
+            if (statement != null)
             {
                 try
                 {
-                    // The command failed to complete successfully; revert the
-                    // change to the database
-                    connection.rollback();
+                    statement.close();
                 }
-                catch (SQLException se2)
+                catch (SQLException se)
                 {
-                    // Inform the user that rolling back the changes failed
-                    eventLog.logFailEvent(component,
-                                          "Cannot revert changes project; cause '"
-                                                     + se2.getMessage()
-                                                     + "'",
-                                          "<html><b>Cannot revert changes to project");
+                    // Ignore the error since the statement is no longer needed
                 }
             }
-
-            // Re-throw the exception so that the caller can handle it
-            throw new SQLException(se.getMessage());
         }
 
         return result;
     }
 
     /**************************************************************************
-     * Get the save point status
+     * Check that the specified transaction, if any, is owned by the calling
+     * thread. A change made by another thread while the transaction is active
+     * would be committed or reverted along with the transaction's changes, so
+     * it's rejected
+     *
+     * @param transaction
+     *            transaction in progress; null if no transaction is active
+     *
+     * @throws SQLException
+     *             If a transaction owned by another thread is in progress
+     *************************************************************************/
+    private void checkTransactionOwner(Transaction transaction) throws SQLException
+    {
+        // Check if a transaction owned by another thread is in progress
+        if (transaction != null && !transaction.isOwnedByCurrentThread())
+        {
+            throw new SQLException("database transaction in progress on another thread");
+        }
+    }
+
+    /**************************************************************************
+     * Revert the uncommitted changes made using the primary connection if
+     * auto-commit is disabled
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *************************************************************************/
+    private void rollbackCommand(Component component)
+    {
+        try
+        {
+            // Check if auto-commit is disabled
+            if (connection.getAutoCommit() == false)
+            {
+                // Revert the change to the database
+                connection.rollback();
+            }
+        }
+        catch (SQLException se2)
+        {
+            // Inform the user that rolling back the changes failed
+            eventLog.logFailEvent(component,
+                                  "Cannot revert changes project; cause '"
+                                             + se2.getMessage()
+                                             + "'",
+                                  "<html><b>Cannot revert changes to project");
+        }
+    }
+
+    /**************************************************************************
+     * Begin a transaction. Database changes made after this call aren't
+     * committed individually; instead these are committed or reverted as a
+     * group using the returned transaction. The transaction must be ended when
+     * no longer needed
      *
-     * @return true if a save point is enabled and exists
+     * @return New transaction
      *************************************************************************/
-    protected boolean getSavePointEnable()
+    protected Transaction beginTransaction()
     {
-        return savePointEnabled && isSavePointCreated;
+        activeTransaction = new Transaction();
+        return activeTransaction;
     }
 
     /**************************************************************************
-     * Enable or disable creation of a save point prior to a transaction
+     * Get the transaction currently in progress
      *
-     * @param enable
-     *            true to enable creating a save point
+     * @return Transaction currently in progress; null if no transaction is
+     *         active
      *************************************************************************/
-    protected void setSavePointEnable(boolean enable)
+    protected Transaction getActiveTransaction()
     {
-        savePointEnabled = enable;
-        isSavePointCreated = false;
+        return activeTransaction;
     }
 
     /**************************************************************************
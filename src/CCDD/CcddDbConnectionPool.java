@@ -0,0 +1,399 @@
+/**
+ * CFS Command & Data Dictionary database connection pool.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator
+ * of the National Aeronautics and Space Administration. No copyright is
+ * claimed in the United States under Title 17, U.S. Code. All Other Rights
+ * Reserved.
+ */
+package CCDD;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary database connection pool class. The pool
+ * maintains a set of read-only connections to the currently open database.
+ * These are used by the database command handler to perform read-only queries
+ * (e.g., those from the web server, script data access, and search) so that
+ * these can execute concurrently with each other and with database changes
+ * made via the primary connection. Connections are created as needed, up to
+ * the pool size; a request for a connection when all of the pool's
+ * connections are in use waits until one is released. Statistics for the
+ * number of requests and the time spent waiting for a connection are
+ * maintained
+ *****************************************************************************/
+public class CcddDbConnectionPool
+{
+    // Database URL, user name, and password used to create the connections
+    private final String databaseURL;
+    private final String user;
+    private final String password;
+
+    // Maximum number of connections in the pool
+    private final int poolSize;
+
+    // Connections that are available for use
+    private final Deque<Connection> idleConnections;
+
+    // All connections created by the pool
+    private final List<Connection> allConnections;
+
+    // Number of connections currently in use
+    private int inUseCount;
+
+    // Number of connections currently being created. A slot in the pool is
+    // reserved for each
+    private int createCount;
+
+    // Flag indicating that the pool is closed
+    private boolean isClosed;
+
+    // Number of connection requests, the total and maximum times (in
+    // nanoseconds) spent waiting for a connection, and the maximum number of
+    // connections in use at one time
+    private long requestCount;
+    private long totalWaitTime;
+    private long maxWaitTime;
+    private int peakInUseCount;
+
+    /**************************************************************************
+     * Database connection pool class constructor
+     *
+     * @param databaseURL
+     *            URL of the database to which to connect
+     *
+     * @param user
+     *            user name
+     *
+     * @param password
+     *            user password
+     *
+     * @param poolSize
+     *            maximum number of connections in the pool
+     *************************************************************************/
+    CcddDbConnectionPool(String databaseURL,
+                         String user,
+                         String password,
+                         int poolSize)
+    {
+        this.databaseURL = databaseURL;
+        this.user = user;
+        this.password = password;
+        this.poolSize = poolSize;
+        idleConnections = new ArrayDeque<Connection>();
+        allConnections = new ArrayList<Connection>();
+        inUseCount = 0;
+        createCount = 0;
+        isClosed = false;
+    }
+
+    /**************************************************************************
+     * Get a connection from the pool. A new connection is created if none are
+     * available and the pool isn't full; otherwise the calling thread waits
+     * until a connection is released back to the pool. A new connection is
+     * created without holding the pool's lock so that other threads can
+     * obtain and release connections while the connection is made
+     *
+     * @return Read-only database connection
+     *
+     * @throws SQLException
+     *             If the pool is closed, a new connection can't be created, or
+     *             the thread is interrupted while waiting for a connection
+     *************************************************************************/
+    protected Connection acquire() throws SQLException
+    {
+        Connection connection = null;
+        boolean isCreate = false;
+        long startTime = System.nanoTime();
+
+        synchronized (this)
+        {
+            try
+            {
+                // Continue to look for a connection until one is obtained or
+                // a slot for a new connection is reserved
+                while (connection == null && !isCreate)
+                {
+                    // Check if the pool is closed
+                    if (isClosed)
+                    {
+                        throw new SQLException("connection pool is closed");
+                    }
+
+                    // Check if a connection is available
+                    if (!idleConnections.isEmpty())
+                    {
+                        // Get the most recently released connection
+                        connection = idleConnections.pop();
+
+                        // Check if the connection is no longer usable
+                        if (connection.isClosed())
+                        {
+                            // Remove the connection from the pool and look
+                            // for another
+                            allConnections.remove(connection);
+                            connection = null;
+                        }
+                    }
+                    // Check if the pool isn't full
+                    else if (allConnections.size() + createCount < poolSize)
+                    {
+                        // Reserve a slot in the pool for a new connection
+                        createCount++;
+                        isCreate = true;
+                    }
+                    // All of the pool's connections are in use
+                    else
+                    {
+                        // Wait for a connection to be released
+                        wait();
+                    }
+                }
+            }
+            catch (InterruptedException ie)
+            {
+                // Restore the interrupt status and inform the caller that no
+                // connection was obtained
+                Thread.currentThread().interrupt();
+                throw new SQLException("interrupted while waiting for a database connection");
+            }
+        }
+
+        // Check if a new connection is to be created
+        if (isCreate)
+        {
+            try
+            {
+                // Create the connection outside of the pool's lock
+                connection = createConnection();
+            }
+            finally
+            {
+                synchronized (this)
+                {
+                    // Release the reserved slot
+                    createCount--;
+
+                    // Check if the connection couldn't be created
+                    if (connection == null)
+                    {
+                        // Alert any thread waiting for a connection that the
+                        // slot is available
+                        notifyAll();
+                    }
+                    // Check if the pool was closed while the connection was
+                    // created
+                    else if (isClosed)
+                    {
+                        // Discard the connection
+                        closeConnection(connection);
+                        connection = null;
+                    }
+                    // The connection was created and the pool is open
+                    else
+                    {
+                        // Add the connection to the pool
+                        allConnections.add(connection);
+                    }
+                }
+            }
+
+            // Check if the pool was closed while the connection was created
+            if (connection == null)
+            {
+                throw new SQLException("connection pool is closed");
+            }
+        }
+
+        synchronized (this)
+        {
+            // Update the connection usage statistics
+            long waitTime = System.nanoTime() - startTime;
+            requestCount++;
+            totalWaitTime += waitTime;
+            maxWaitTime = Math.max(maxWaitTime, waitTime);
+            inUseCount++;
+            peakInUseCount = Math.max(peakInUseCount, inUseCount);
+        }
+
+        return connection;
+    }
+
+    /**************************************************************************
+     * Release a connection obtained from the pool so that it can be reused
+     *
+     * @param connection
+     *            connection to release
+     *************************************************************************/
+    protected synchronized void release(Connection connection)
+    {
+        // Check if the connection belongs to this pool
+        if (allConnections.contains(connection))
+        {
+            inUseCount--;
+
+            // Check if the pool has been closed
+            if (isClosed)
+            {
+                // Close the connection since it's no longer needed
+                closeConnection(connection);
+            }
+            // The pool is open
+            else
+            {
+                // Return the connection to the pool and alert any thread
+                // waiting for a connection
+                idleConnections.push(connection);
+                notifyAll();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Close the pool and its idle connections. Connections in use are closed
+     * when they're released
+     *************************************************************************/
+    protected synchronized void close()
+    {
+        isClosed = true;
+
+        // Step through each idle connection
+        for (Connection connection : idleConnections)
+        {
+            // Close the connection
+            closeConnection(connection);
+        }
+
+        idleConnections.clear();
+
+        // Alert any thread waiting for a connection that the pool is closed
+        notifyAll();
+    }
+
+    /**************************************************************************
+     * Get the maximum number of connections in the pool
+     *
+     * @return Maximum number of connections in the pool
+     *************************************************************************/
+    protected int getPoolSize()
+    {
+        return poolSize;
+    }
+
+    /**************************************************************************
+     * Get the number of connections currently in use
+     *
+     * @return Number of connections currently in use
+     *************************************************************************/
+    protected synchronized int getInUseCount()
+    {
+        return inUseCount;
+    }
+
+    /**************************************************************************
+     * Get the number of connection requests made to the pool
+     *
+     * @return Number of connection requests made to the pool
+     *************************************************************************/
+    protected synchronized long getRequestCount()
+    {
+        return requestCount;
+    }
+
+    /**************************************************************************
+     * Get the average time spent waiting for a connection
+     *
+     * @return Average time, in milliseconds, spent waiting for a connection
+     *************************************************************************/
+    protected synchronized double getAverageWaitTime()
+    {
+        return requestCount == 0
+                                 ? 0.0
+                                 : totalWaitTime / (requestCount * 1000000.0);
+    }
+
+    /**************************************************************************
+     * Get the maximum time spent waiting for a connection
+     *
+     * @return Maximum time, in milliseconds, spent waiting for a connection
+     *************************************************************************/
+    protected synchronized double getMaximumWaitTime()
+    {
+        return maxWaitTime / 1000000.0;
+    }
+
+    /**************************************************************************
+     * Get the connection pool statistics
+     *
+     * @return String containing the pool size, number of connections created
+     *         and in use, and the connection request and wait time statistics
+     *************************************************************************/
+    protected synchronized String getStatistics()
+    {
+        return "pool size "
+               + poolSize
+               + ", created "
+               + allConnections.size()
+               + ", in use "
+               + inUseCount
+               + " (peak "
+               + peakInUseCount
+               + "), requests "
+               + requestCount
+               + ", wait time avg "
+               + String.format("%.3f", getAverageWaitTime())
+               + " msec / max "
+               + String.format("%.3f", getMaximumWaitTime())
+               + " msec";
+    }
+
+    /**************************************************************************
+     * Create a read-only connection to the database
+     *
+     * @return New database connection
+     *
+     * @throws SQLException
+     *             If the connection can't be created
+     *************************************************************************/
+    private Connection createConnection() throws SQLException
+    {
+        // Connect to the database
+        Connection connection = DriverManager.getConnection(databaseURL,
+                                                            user,
+                                                            password);
+
+        // Each query is independent, so allow the database to commit each
+        // automatically, and prevent the connection from being used to alter
+        // the database
+        connection.setAutoCommit(true);
+        connection.setReadOnly(true);
+
+        return connection;
+    }
+
+    /**************************************************************************
+     * Close the specified connection and remove it from the pool
+     *
+     * @param connection
+     *            connection to close
+     *************************************************************************/
+    private void closeConnection(Connection connection)
+    {
+        allConnections.remove(connection);
+
+        try
+        {
+            connection.close();
+        }
+        catch (SQLException se)
+        {
+            // Ignore the error since the connection is no longer needed
+        }
+    }
+}
@@ -12,11 +12,14 @@ import static CCDD.CcddConstants.CCDD_PROJECT_IDENTIFIER;
 import static CCDD.CcddConstants.DATABASE;
 import static CCDD.CcddConstants.DATABASE_COMMENT_SEPARATOR;
 import static CCDD.CcddConstants.DATABASE_DRIVER;
+import static CCDD.CcddConstants.DB_CONNECTION_POOL_SIZE;
 import static CCDD.CcddConstants.DEFAULT_DATABASE;
 import static CCDD.CcddConstants.DEFAULT_POSTGRESQL_HOST;
 import static CCDD.CcddConstants.DEFAULT_POSTGRESQL_PORT;
 import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
 import static CCDD.CcddConstants.MACRO_IDENTIFIER;
+import static CCDD.CcddConstants.MEMBER_CATALOG_SCHEMA;
+import static CCDD.CcddConstants.MEMBER_CATALOG_TABLE;
 import static CCDD.CcddConstants.OK_BUTTON;
 import static CCDD.CcddConstants.POSTGRESQL_SERVER_HOST;
 import static CCDD.CcddConstants.POSTGRESQL_SERVER_PORT;
@@ -27,12 +30,16 @@ import static CCDD.CcddConstants.ConnectionType.NO_CONNECTION;
 import static CCDD.CcddConstants.ConnectionType.TO_DATABASE;
 import static CCDD.CcddConstants.ConnectionType.TO_SERVER_ONLY;
 import static CCDD.CcddConstants.EventLogMessageType.COMMAND_MSG;
+import static CCDD.CcddConstants.EventLogMessageType.STATUS_MSG;
 import static CCDD.CcddConstants.EventLogMessageType.SUCCESS_MSG;
 
 import java.awt.Component;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
@@ -942,33 +949,36 @@ public class CcddDbControlHandler
 
         try
         {
+            // Create storage for the function creation commands. The
+            // functions are created using a single command, and only if the
+            // function definitions have changed
+            StringBuilder command = new StringBuilder();
+
             // Send command to create the procedural language in the database
             // if it does not already exists
-            dbCommand.executeDbCommand("CREATE OR REPLACE FUNCTION make_plpgsql() "
-                                       + "RETURNS VOID LANGUAGE SQL AS $$ "
-                                       + "CREATE LANGUAGE plpgsql; $$; "
-                                       + "SELECT CASE WHEN EXISTS(SELECT 1 "
-                                       + "FROM pg_catalog.pg_language "
-                                       + "WHERE lanname = 'plpgsql') "
-                                       + "THEN NULL ELSE make_plpgsql() END; "
-                                       + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                           "make_plpgsql()")
-                                       + "DROP FUNCTION make_plpgsql();",
-                                       ccddMain.getMainFrame());
+            command.append("CREATE OR REPLACE FUNCTION make_plpgsql() "
+                           + "RETURNS VOID LANGUAGE SQL AS $$ "
+                           + "CREATE LANGUAGE plpgsql; $$; "
+                           + "SELECT CASE WHEN EXISTS(SELECT 1 "
+                           + "FROM pg_catalog.pg_language "
+                           + "WHERE lanname = 'plpgsql') "
+                           + "THEN NULL ELSE make_plpgsql() END; "
+                           + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                               "make_plpgsql()")
+                           + "DROP FUNCTION make_plpgsql();");
 
             // Create function to delete functions whether or not the input
             // parameters match
-            dbCommand.executeDbCommand("CREATE OR REPLACE FUNCTION delete_function("
-                                       + "function_name text) RETURNS VOID AS $$ "
-                                       + "BEGIN EXECUTE (SELECT 'DROP FUNCTION ' "
-                                       + "|| oid::regproc || '(' || "
-                                       + "pg_get_function_identity_arguments(oid) "
-                                       + "|| ');' || E'\n' FROM pg_proc WHERE "
-                                       + "proname = function_name AND "
-                                       + "pg_function_is_visible(oid)); END $$ LANGUAGE plpgsql; "
-                                       + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                           "delete_function(function_name text)"),
-                                       ccddMain.getMainFrame());
+            command.append("CREATE OR REPLACE FUNCTION delete_function("
+                           + "function_name text) RETURNS VOID AS $$ "
+                           + "BEGIN EXECUTE (SELECT 'DROP FUNCTION ' "
+                           + "|| oid::regproc || '(' || "
+                           + "pg_get_function_identity_arguments(oid) "
+                           + "|| ');' || E'\n' FROM pg_proc WHERE "
+                           + "proname = function_name AND "
+                           + "pg_function_is_visible(oid)); END $$ LANGUAGE plpgsql; "
+                           + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                               "delete_function(function_name text)"));
 
             // Step through each internal table type
             for (InternalTable intTable : InternalTable.values())
@@ -999,115 +1009,186 @@ public class CcddDbControlHandler
             // table giving the unique schema, table, column name, table
             // comment, and contents of the columns in the table row where the
             // text is found
-            dbCommand.executeDbCommand(deleteFunction("search_tables")
-                                       + "CREATE OR REPLACE FUNCTION search_tables("
-                                       + "search_text text, no_case boolean, "
-                                       + "allow_regex boolean, selected_tables text, "
-                                       + "columns name[] DEFAULT '{}', all_schema "
-                                       + "name[] DEFAULT '{public}') RETURNS table("
-                                       + "schema_name text, table_name text, column_name "
-                                       + "text, table_description text, column_value "
-                                       + "text) AS $$ DECLARE search_text text := "
-                                       + "regexp_replace(search_text, E'([^a-zA-Z0-9 ])', "
-                                       + "E'\\\\\\\\\\\\1'); BEGIN FOR schema_name, "
-                                       + "table_name, table_description, column_name IN "
-                                       + "SELECT c.table_schema, c.table_name, "
-                                       + "coalesce(d.description,''), c.column_name "
-                                       + "FROM information_schema.columns c JOIN "
-                                       + "information_schema.tables AS t ON "
-                                       + "(t.table_name = c.table_name AND "
-                                       + "t.table_schema = c.table_schema), "
-                                       + "pg_description AS d RIGHT JOIN pg_class "
-                                       + "ON d.objoid = pg_class.oid RIGHT JOIN "
-                                       + "pg_namespace ON pg_class.relnamespace = "
-                                       + "pg_namespace.oid WHERE (selected_tables ~* '"
-                                       + SearchType.ALL.toString()
-                                       + "' OR (selected_tables ~* '"
-                                       + SearchType.PROTO.toString()
-                                       + "' AND c.table_name !~ E'^"
-                                       + INTERNAL_TABLE_PREFIX
-                                       + ".*$') OR (selected_tables ~* '"
-                                       + SearchType.DATA.toString()
-                                       + "' AND c.table_name !~ E'^"
-                                       + INTERNAL_TABLE_PREFIX
-                                       + "((?!"
-                                       + InternalTable.VALUES.getTableName().replaceFirst("^"
-                                                                                          + INTERNAL_TABLE_PREFIX, "")
-                                       + ").)*$') OR (selected_tables ~* '"
-                                       + SearchType.SCRIPT.toString()
-                                       + "' AND c.table_name ~ E'^"
-                                       + InternalTable.SCRIPT.getTableName()
-                                       + ".*')) AND (array_length(columns, 1) IS NULL "
-                                       + "OR c.column_name = ANY(columns)) AND "
-                                       + "c.table_schema = ANY(all_schema) AND "
-                                       + "t.table_type = 'BASE TABLE' AND relname = "
-                                       + "t.table_name AND nspname = t.table_schema "
-                                       + "AND (d.objsubid = '0' OR d.objsubid IS "
-                                       + "NULL) LOOP DECLARE the_row RECORD; BEGIN "
-                                       + "FOR the_row IN EXECUTE 'SELECT * FROM ' || "
-                                       + "quote_ident(schema_name) || '.' || "
-                                       + "quote_ident(table_name) || ' WHERE (' || "
-                                       + "quote_nullable(allow_regex) || ' = ''false'' "
-                                       + "AND ((' || quote_nullable(no_case) || ' = "
-                                       + "''true'' AND cast(' || quote_ident("
-                                       + "column_name) || ' AS text) ~* ' || "
-                                       + "quote_nullable(search_text) || ') OR (' || "
-                                       + "quote_nullable(no_case) || ' = ''false'' AND "
-                                       + "cast(' || quote_ident(column_name) || ' AS "
-                                       + "text) ~ ' || quote_nullable(search_text) || "
-                                       + "'))) OR (' || quote_nullable(allow_regex) || "
-                                       + "' = ''true'' AND ((' || quote_nullable("
-                                       + "no_case) || ' = ''true'' AND cast(' || "
-                                       + "quote_ident(column_name) || ' AS text) ~* "
-                                       + "E''' || search_text || ''') OR (' || "
-                                       + "quote_nullable(no_case) || ' = ''false'' AND "
-                                       + "cast(' || quote_ident(column_name) || ' AS "
-                                       + "text) ~ E''' || search_text || ''')))' LOOP "
-                                       + "SELECT * FROM regexp_replace(the_row::text, "
-                                       + "E'^\\\\(|(\\\\)$)', '', 'g') INTO "
-                                       + "column_value; RETURN NEXT; END LOOP; END; "
-                                       + "END LOOP; END; $$ LANGUAGE plpgsql; "
-                                       + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                           "search_tables(search_text "
-                                                                                    + "text, no_case boolean, "
-                                                                                    + "allow_regex boolean, "
-                                                                                    + "selected_tables text, "
-                                                                                    + "columns name[],"
-                                                                                    + "all_schema name[])"),
-                                       ccddMain.getMainFrame());
+            command.append(deleteFunction("search_tables")
+                           + "CREATE OR REPLACE FUNCTION search_tables("
+                           + "search_text text, no_case boolean, "
+                           + "allow_regex boolean, selected_tables text, "
+                           + "columns name[] DEFAULT '{}', all_schema "
+                           + "name[] DEFAULT '{public}') RETURNS table("
+                           + "schema_name text, table_name text, column_name "
+                           + "text, table_description text, column_value "
+                           + "text) AS $$ DECLARE search_text text := "
+                           + "regexp_replace(search_text, E'([^a-zA-Z0-9 ])', "
+                           + "E'\\\\\\\\\\\\1'); BEGIN FOR schema_name, "
+                           + "table_name, table_description, column_name IN "
+                           + "SELECT c.table_schema, c.table_name, "
+                           + "coalesce(d.description,''), c.column_name "
+                           + "FROM information_schema.columns c JOIN "
+                           + "information_schema.tables AS t ON "
+                           + "(t.table_name = c.table_name AND "
+                           + "t.table_schema = c.table_schema), "
+                           + "pg_description AS d RIGHT JOIN pg_class "
+                           + "ON d.objoid = pg_class.oid RIGHT JOIN "
+                           + "pg_namespace ON pg_class.relnamespace = "
+                           + "pg_namespace.oid WHERE (selected_tables ~* '"
+                           + SearchType.ALL.toString()
+                           + "' OR (selected_tables ~* '"
+                           + SearchType.PROTO.toString()
+                           + "' AND c.table_name !~ E'^"
+                           + INTERNAL_TABLE_PREFIX
+                           + ".*$') OR (selected_tables ~* '"
+                           + SearchType.DATA.toString()
+                           + "' AND c.table_name !~ E'^"
+                           + INTERNAL_TABLE_PREFIX
+                           + "((?!"
+                           + InternalTable.VALUES.getTableName().replaceFirst("^"
+                                                                              + INTERNAL_TABLE_PREFIX, "")
+                           + ").)*$') OR (selected_tables ~* '"
+                           + SearchType.SCRIPT.toString()
+                           + "' AND c.table_name ~ E'^"
+                           + InternalTable.SCRIPT.getTableName()
+                           + ".*')) AND (array_length(columns, 1) IS NULL "
+                           + "OR c.column_name = ANY(columns)) AND "
+                           + "c.table_schema = ANY(all_schema) AND "
+                           + "t.table_type = 'BASE TABLE' AND relname = "
+                           + "t.table_name AND nspname = t.table_schema "
+                           + "AND (d.objsubid = '0' OR d.objsubid IS "
+                           + "NULL) LOOP DECLARE the_row RECORD; BEGIN "
+                           + "FOR the_row IN EXECUTE 'SELECT * FROM ' || "
+                           + "quote_ident(schema_name) || '.' || "
+                           + "quote_ident(table_name) || ' WHERE (' || "
+                           + "quote_nullable(allow_regex) || ' = ''false'' "
+                           + "AND ((' || quote_nullable(no_case) || ' = "
+                           + "''true'' AND cast(' || quote_ident("
+                           + "column_name) || ' AS text) ~* ' || "
+                           + "quote_nullable(search_text) || ') OR (' || "
+                           + "quote_nullable(no_case) || ' = ''false'' AND "
+                           + "cast(' || quote_ident(column_name) || ' AS "
+                           + "text) ~ ' || quote_nullable(search_text) || "
+                           + "'))) OR (' || quote_nullable(allow_regex) || "
+                           + "' = ''true'' AND ((' || quote_nullable("
+                           + "no_case) || ' = ''true'' AND cast(' || "
+                           + "quote_ident(column_name) || ' AS text) ~* "
+                           + "E''' || search_text || ''') OR (' || "
+                           + "quote_nullable(no_case) || ' = ''false'' AND "
+                           + "cast(' || quote_ident(column_name) || ' AS "
+                           + "text) ~ E''' || search_text || ''')))' LOOP "
+                           + "SELECT * FROM regexp_replace(the_row::text, "
+                           + "E'^\\\\(|(\\\\)$)', '', 'g') INTO "
+                           + "column_value; RETURN NEXT; END LOOP; END; "
+                           + "END LOOP; END; $$ LANGUAGE plpgsql; "
+                           + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                               "search_tables(search_text "
+                                                                        + "text, no_case boolean, "
+                                                                        + "allow_regex boolean, "
+                                                                        + "selected_tables text, "
+                                                                        + "columns name[],"
+                                                                        + "all_schema name[])"));
+
+            // Create function to create a trigram index on each column read by
+            // the table, macro, and data type searches (the text columns of
+            // the data tables and the value column of the custom values
+            // table) of the specified tables (all tables if none are
+            // specified) that doesn't already have one. The indices allow the
+            // table search function to locate matching text without scanning
+            // every row, and are maintained by the database server as the
+            // tables are modified. No indices are created if the pg_trgm
+            // extension isn't installed in the database. The function
+            // executes with the privileges of the database owner so that any
+            // user can create the indices. Returns the number of indices
+            // created
+            command.append(deleteFunction("create_search_indices")
+                           + "CREATE OR REPLACE FUNCTION create_search_indices("
+                           + "table_names text[] DEFAULT NULL) RETURNS "
+                           + "integer AS $$ DECLARE col record; trgm_schema "
+                           + "name; num_created integer := 0; BEGIN SELECT "
+                           + "n.nspname INTO trgm_schema FROM pg_opclass o "
+                           + "JOIN pg_namespace n ON n.oid = o.opcnamespace "
+                           + "WHERE o.opcname = 'gin_trgm_ops' LIMIT 1; IF "
+                           + "trgm_schema IS NOT NULL THEN FOR col IN SELECT "
+                           + "c.relname, a.attname FROM pg_class c JOIN "
+                           + "pg_namespace n ON n.oid = c.relnamespace JOIN "
+                           + "pg_attribute a ON a.attrelid = c.oid WHERE "
+                           + "n.nspname = 'public' AND c.relkind = 'r' AND "
+                           + "(table_names IS NULL OR c.relname = ANY("
+                           + "table_names)) AND (c.relname !~ E'^"
+                           + INTERNAL_TABLE_PREFIX
+                           + "' OR (c.relname = '"
+                           + InternalTable.VALUES.getTableName()
+                           + "' AND a.attname = '"
+                           + ValuesColumn.VALUE.getColumnName()
+                           + "')) AND a.attnum > 0 AND NOT "
+                           + "a.attisdropped AND a.atttypid IN ('text'::"
+                           + "regtype, 'varchar'::regtype) AND NOT EXISTS ("
+                           + "SELECT 1 FROM pg_index i JOIN pg_opclass io ON "
+                           + "io.oid = i.indclass[0] WHERE i.indrelid = "
+                           + "c.oid AND i.indnatts = 1 AND i.indkey[0] = "
+                           + "a.attnum AND io.opcname = 'gin_trgm_ops') LOOP "
+                           + "EXECUTE 'CREATE INDEX ON public.' || "
+                           + "quote_ident(col.relname) || ' USING gin (' || "
+                           + "quote_ident(col.attname) || ' ' || "
+                           + "quote_ident(trgm_schema) || '.gin_trgm_ops)'; "
+                           + "num_created := num_created + 1; END LOOP; END "
+                           + "IF; RETURN num_created; END; $$ LANGUAGE "
+                           + "plpgsql SECURITY DEFINER SET search_path = "
+                           + "pg_catalog, pg_temp; "
+                           + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                               "create_search_indices("
+                                                                        + "table_names text[])"));
+
+            // Create function to remove the trigram indices from the tables.
+            // The function executes with the privileges of the database owner
+            // so that any user can remove the indices. Returns the number of
+            // indices removed
+            command.append(deleteFunction("drop_search_indices")
+                           + "CREATE OR REPLACE FUNCTION drop_search_indices() "
+                           + "RETURNS integer AS $$ DECLARE idx record; "
+                           + "num_dropped integer := 0; BEGIN FOR idx IN "
+                           + "SELECT ic.relname FROM pg_index i JOIN "
+                           + "pg_class ic ON ic.oid = i.indexrelid JOIN "
+                           + "pg_namespace n ON n.oid = ic.relnamespace JOIN "
+                           + "pg_opclass io ON io.oid = i.indclass[0] WHERE "
+                           + "n.nspname = 'public' AND i.indnatts = 1 AND "
+                           + "io.opcname = 'gin_trgm_ops' LOOP EXECUTE "
+                           + "'DROP INDEX public.' || quote_ident(idx.relname)"
+                           + "; num_dropped := num_dropped + 1; END LOOP; "
+                           + "RETURN num_dropped; END; $$ LANGUAGE plpgsql "
+                           + "SECURITY DEFINER SET search_path = pg_catalog, "
+                           + "pg_temp; "
+                           + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                               "drop_search_indices()"));
 
             // Create function to retrieve all table names and column values
             // for the tables with the specified column name currently in use
             // (i.e., blank column values are ignored) in the tables of the
             // specified table type(s)
-            dbCommand.executeDbCommand(deleteFunction("find_prototype_columns_by_name")
-                                       + "CREATE OR REPLACE FUNCTION find_prototype_columns_by_name("
-                                       + "column_name_db text, table_types text[]) RETURNS "
-                                       + "table(owner_name text, column_value text) AS $$ "
-                                       + "BEGIN DECLARE row record; BEGIN DROP TABLE IF EXISTS "
-                                       + TEMP_TABLES
-                                       + "; CREATE TEMP TABLE "
-                                       + TEMP_TABLES
-                                       + " AS SELECT tbl_name FROM (SELECT split_part("
-                                       + "obj_description, ',', 1) AS tbl_name, split_part("
-                                       + "obj_description, ',', 2) AS tbl_type FROM (SELECT "
-                                       + "obj_description(oid) FROM pg_class WHERE relkind = "
-                                       + "'r' AND obj_description(oid) != '') AS tbl_desc) AS "
-                                       + "tbl_name WHERE table_types @> ARRAY[tbl_type] ORDER "
-                                       + "BY tbl_name ASC; FOR row IN SELECT tbl_name FROM "
-                                       + TEMP_TABLES
-                                       + " LOOP IF EXISTS (SELECT 1 FROM "
-                                       + "information_schema.columns WHERE table_name = "
-                                       + "lower(row.tbl_name) AND column_name = E'' || "
-                                       + "column_name_db || E'') THEN RETURN QUERY EXECUTE "
-                                       + "E'SELECT ''' || row.tbl_name || '''::text, ' || "
-                                       + "column_name_db || E' FROM ' || row.tbl_name || "
-                                       + "E' WHERE ' || column_name_db || E' != '''''; "
-                                       + "END IF; END LOOP; END; END; $$ LANGUAGE plpgsql; "
-                                       + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                           "find_prototype_columns_by_name(column_name_db "
-                                                                                    + "text, table_types text[])"),
-                                       ccddMain.getMainFrame());
+            command.append(deleteFunction("find_prototype_columns_by_name")
+                           + "CREATE OR REPLACE FUNCTION find_prototype_columns_by_name("
+                           + "column_name_db text, table_types text[]) RETURNS "
+                           + "table(owner_name text, column_value text) AS $$ "
+                           + "BEGIN DECLARE row record; BEGIN DROP TABLE IF EXISTS "
+                           + TEMP_TABLES
+                           + "; CREATE TEMP TABLE "
+                           + TEMP_TABLES
+                           + " AS SELECT tbl_name FROM (SELECT split_part("
+                           + "obj_description, ',', 1) AS tbl_name, split_part("
+                           + "obj_description, ',', 2) AS tbl_type FROM (SELECT "
+                           + "obj_description(oid) FROM pg_class WHERE relkind = "
+                           + "'r' AND obj_description(oid) != '') AS tbl_desc) AS "
+                           + "tbl_name WHERE table_types @> ARRAY[tbl_type] ORDER "
+                           + "BY tbl_name ASC; FOR row IN SELECT tbl_name FROM "
+                           + TEMP_TABLES
+                           + " LOOP IF EXISTS (SELECT 1 FROM "
+                           + "information_schema.columns WHERE table_name = "
+                           + "lower(row.tbl_name) AND column_name = E'' || "
+                           + "column_name_db || E'') THEN RETURN QUERY EXECUTE "
+                           + "E'SELECT ''' || row.tbl_name || '''::text, ' || "
+                           + "column_name_db || E' FROM ' || row.tbl_name || "
+                           + "E' WHERE ' || column_name_db || E' != '''''; "
+                           + "END IF; END LOOP; END; END; $$ LANGUAGE plpgsql; "
+                           + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                               "find_prototype_columns_by_name(column_name_db "
+                                                                        + "text, table_types text[])"));
 
             // Create function to retrieve all table names and column values
             // for the tables with the specified column name currently in use
@@ -1115,71 +1196,77 @@ public class CcddDbControlHandler
             // specified table type(s). Include columns from both the prototype
             // and custom values tables. Use SELECT DISTINCT on the results to
             // eliminate duplicate table names and/or column values
-            dbCommand.executeDbCommand(deleteFunction("find_columns_by_name")
-                                       + "CREATE OR REPLACE FUNCTION find_columns_by_name("
-                                       + "column_name_user text, column_name_db text, "
-                                       + "table_types text[]) RETURNS table(owner_name "
-                                       + "text, column_value text) AS $$ BEGIN RETURN "
-                                       + "QUERY EXECUTE E'SELECT owner_name, column_value "
-                                       + "FROM (SELECT owner_name, column_value FROM "
-                                       + "find_prototype_columns_by_name(''' || "
-                                       + "column_name_db || E''', ''' || "
-                                       + "table_types::text || E''') UNION ALL (SELECT "
-                                       + ValuesColumn.TABLE_PATH.getColumnName()
-                                       + ", "
-                                       + ValuesColumn.VALUE.getColumnName()
-                                       + " FROM "
-                                       + InternalTable.VALUES.getTableName()
-                                       + " WHERE column_name = ''' || column_name_user || "
-                                       + "E''')) AS name_and_value ORDER BY owner_name;'; END; $$ "
-                                       + "LANGUAGE plpgsql; "
-                                       + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                           "find_columns_by_name(column_name_user "
-                                                                                    + "text, column_name_db text, "
-                                                                                    + "table_types text[])"),
-                                       ccddMain.getMainFrame());
+            command.append(deleteFunction("find_columns_by_name")
+                           + "CREATE OR REPLACE FUNCTION find_columns_by_name("
+                           + "column_name_user text, column_name_db text, "
+                           + "table_types text[]) RETURNS table(owner_name "
+                           + "text, column_value text) AS $$ BEGIN RETURN "
+                           + "QUERY EXECUTE E'SELECT owner_name, column_value "
+                           + "FROM (SELECT owner_name, column_value FROM "
+                           + "find_prototype_columns_by_name(''' || "
+                           + "column_name_db || E''', ''' || "
+                           + "table_types::text || E''') UNION ALL (SELECT "
+                           + ValuesColumn.TABLE_PATH.getColumnName()
+                           + ", "
+                           + ValuesColumn.VALUE.getColumnName()
+                           + " FROM "
+                           + InternalTable.VALUES.getTableName()
+                           + " WHERE column_name = ''' || column_name_user || "
+                           + "E''')) AS name_and_value ORDER BY owner_name;'; END; $$ "
+                           + "LANGUAGE plpgsql; "
+                           + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                               "find_columns_by_name(column_name_user "
+                                                                        + "text, column_name_db text, "
+                                                                        + "table_types text[])"));
 
             // Create function to reset the rate for a link that no longer has
             // any member variables
-            dbCommand.executeDbCommand(deleteFunction("reset_link_rate")
-                                       + "CREATE FUNCTION reset_link_rate() RETURNS VOID AS "
-                                       + "$$ BEGIN DECLARE row record; BEGIN DROP TABLE IF EXISTS "
-                                       + TEMP_TABLES
-                                       + "; CREATE TEMP TABLE "
-                                       + TEMP_TABLES
-                                       + " AS SELECT "
-                                       + LinksColumn.LINK_NAME.getColumnName()
-                                       + " AS link_defn FROM (SELECT "
-                                       + LinksColumn.LINK_NAME.getColumnName()
-                                       + ", regexp_replace("
-                                       + LinksColumn.MEMBER.getColumnName()
-                                       + ", E'^([0-9])*.*', E'\\\\1') AS rate FROM "
-                                       + InternalTable.LINKS.getTableName()
-                                       + ") AS result WHERE rate != '' AND "
-                                       + "rate != '0'; FOR row IN SELECT * FROM "
-                                       + TEMP_TABLES
-                                       + " LOOP IF EXISTS (SELECT * FROM (SELECT COUNT(*) FROM "
-                                       + InternalTable.LINKS.getTableName()
-                                       + " WHERE "
-                                       + LinksColumn.LINK_NAME.getColumnName()
-                                       + " = row.link_defn ) AS alias1 WHERE "
-                                       + "count = '1') THEN EXECUTE E'UPDATE "
-                                       + InternalTable.LINKS.getTableName()
-                                       + " SET "
-                                       + LinksColumn.MEMBER.getColumnName()
-                                       + " = regexp_replace("
-                                       + LinksColumn.MEMBER.getColumnName()
-                                       + ", E''^\\\\\\\\d+'', ''0'') WHERE "
-                                       + LinksColumn.LINK_NAME.getColumnName()
-                                       + " = ''' || row.link_defn || ''''; END IF; "
-                                       + "END LOOP; END; END; $$ LANGUAGE plpgsql; "
-                                       + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                           "reset_link_rate()"),
-                                       ccddMain.getMainFrame());
+            command.append(deleteFunction("reset_link_rate")
+                           + "CREATE FUNCTION reset_link_rate() RETURNS VOID AS "
+                           + "$$ BEGIN DECLARE row record; BEGIN DROP TABLE IF EXISTS "
+                           + TEMP_TABLES
+                           + "; CREATE TEMP TABLE "
+                           + TEMP_TABLES
+                           + " AS SELECT "
+                           + LinksColumn.LINK_NAME.getColumnName()
+                           + " AS link_defn FROM (SELECT "
+                           + LinksColumn.LINK_NAME.getColumnName()
+                           + ", regexp_replace("
+                           + LinksColumn.MEMBER.getColumnName()
+                           + ", E'^([0-9])*.*', E'\\\\1') AS rate FROM "
+                           + InternalTable.LINKS.getTableName()
+                           + ") AS result WHERE rate != '' AND "
+                           + "rate != '0'; FOR row IN SELECT * FROM "
+                           + TEMP_TABLES
+                           + " LOOP IF EXISTS (SELECT * FROM (SELECT COUNT(*) FROM "
+                           + InternalTable.LINKS.getTableName()
+                           + " WHERE "
+                           + LinksColumn.LINK_NAME.getColumnName()
+                           + " = row.link_defn ) AS alias1 WHERE "
+                           + "count = '1') THEN EXECUTE E'UPDATE "
+                           + InternalTable.LINKS.getTableName()
+                           + " SET "
+                           + LinksColumn.MEMBER.getColumnName()
+                           + " = regexp_replace("
+                           + LinksColumn.MEMBER.getColumnName()
+                           + ", E''^\\\\\\\\d+'', ''0'') WHERE "
+                           + LinksColumn.LINK_NAME.getColumnName()
+                           + " = ''' || row.link_defn || ''''; END IF; "
+                           + "END LOOP; END; END; $$ LANGUAGE plpgsql; "
+                           + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                               "reset_link_rate()"));
+
+            // Create the functions if their definitions changed
+            boolean isChanged = createFunctionsIfChanged(command,
+                                                         "reset_link_rate",
+                                                         "reset_link_rate()");
 
             // Inform the user that the database table function creation
             // succeeded
-            eventLog.logEvent(SUCCESS_MSG, "Database tables and functions created");
+            eventLog.logEvent(SUCCESS_MSG,
+                              isChanged
+                                        ? "Database tables and functions created"
+                                        : "Database tables created; functions unchanged");
         }
         catch (SQLException se)
         {
@@ -1203,11 +1290,31 @@ public class CcddDbControlHandler
 
     /**************************************************************************
      * Create the reusable database functions for obtaining structure table
-     * members and structure-defining column values
+     * members and structure-defining column values, and rebuild the table
+     * member catalog
      *
      * @return true if an error occurs creating the structure functions
      *************************************************************************/
     protected boolean createStructureColumnFunctions()
+    {
+        return createStructureColumnFunctions(true);
+    }
+
+    /**************************************************************************
+     * Create the reusable database functions for obtaining structure table
+     * members and structure-defining column values. The functions are only
+     * created if their definitions changed
+     *
+     * @param rebuildCatalog
+     *            true to rebuild the table member catalog even if the
+     *            functions are unchanged (e.g., following a table type change
+     *            that alters which tables are structures); false to rebuild
+     *            the catalog only if the functions changed or the catalog
+     *            doesn't exist
+     *
+     * @return true if an error occurs creating the structure functions
+     *************************************************************************/
+    private boolean createStructureColumnFunctions(boolean rebuildCatalog)
     {
         boolean errorFlag = false;
 
@@ -1216,6 +1323,9 @@ public class CcddDbControlHandler
         {
             try
             {
+                // Create storage for the function creation commands
+                StringBuilder command = new StringBuilder();
+
                 // Structure-defining column names, as used by the database
                 String dbVariableName = null;
                 String dbDataType = null;
@@ -1299,52 +1409,110 @@ public class CcddDbControlHandler
                     compareColumns = CcddUtilities.removeTrailer(compareColumns, " OR ");
                 }
 
-                // Create functions for gathering the structure table member
-                // information sorted alphabetically by name or numerically by
-                // row index
+                // Remove the functions that gathered the structure table
+                // member information by scanning every table; the members are
+                // now read from the table member catalog
                 for (String[] functionParm : functionParameters)
                 {
-                    // Create function to get the table name, data type,
-                    // variable name, bit length, sample rate, and enumeration
-                    // for all structure tables that contain at least one row,
-                    // sorted by table name or index, and then by variable
-                    // name. For arrays, only the members are retrieved; the
-                    // array definitions are ignored
-                    dbCommand.executeDbCommand(deleteFunction("get_table_members_by_"
-                                                              + functionParm[0])
-                                               + "CREATE FUNCTION get_table_members_by_"
-                                               + functionParm[0]
-                                               + "() RETURNS TABLE(tbl_name text, data_type "
-                                               + "text, variable_name text, bit_length text, "
-                                               + "rate text, enumeration text) AS $$ BEGIN "
-                                               + "DECLARE row record; BEGIN DROP TABLE IF EXISTS "
-                                               + TEMP_TABLES
-                                               + "; CREATE TEMP TABLE "
-                                               + TEMP_TABLES
-                                               + " AS SELECT t.tablename AS real_name FROM "
-                                               + "pg_tables AS t WHERE t.schemaname = 'public' "
-                                               + "AND substr(t.tablename, 1, 2) != '"
-                                               + INTERNAL_TABLE_PREFIX
-                                               + "' ORDER BY real_name ASC; FOR row IN SELECT * FROM "
-                                               + TEMP_TABLES
-                                               + " LOOP IF EXISTS (SELECT * FROM "
-                                               + "(SELECT COUNT(*) FROM information_schema.columns "
-                                               + "WHERE table_name = row.real_name AND ("
-                                               + compareColumns
-                                               + ")) AS alias1 WHERE count = '"
-                                               + DefaultColumn.getProtectedColumnCount(TYPE_STRUCTURE)
-                                               + "') THEN RETURN QUERY EXECUTE E'SELECT ''' || "
-                                               + "row.real_name || '''::text, * FROM get_def_columns_by_"
-                                               + functionParm[0]
-                                               + "(''' || row.real_name || ''')'; END IF; "
-                                               + "END LOOP; END; END; $$ LANGUAGE plpgsql; "
-                                               + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                                   "get_table_members_by_"
-                                                                                            + functionParm[0]
-                                                                                            + "()"),
-                                               ccddMain.getMainFrame());
+                    command.append(deleteFunction("get_table_members_by_"
+                                                  + functionParm[0]));
                 }
 
+                // Create function to update the table member catalog entries
+                // for the specified table. The table's existing entries are
+                // removed, then, if the table exists and is a structure table,
+                // the table name, row order, data type, variable name, bit
+                // length, sample rate, and enumeration for each member are
+                // added. For arrays, only the members are stored; the array
+                // definitions are ignored. The function executes with the
+                // privileges of the database owner so that any user that can
+                // modify a table can update the catalog; the search path is
+                // fixed, and the objects it uses are schema-qualified, so
+                // that a user can't substitute their own objects
+                command.append(deleteFunction("refresh_table_members")
+                               + "CREATE FUNCTION refresh_table_members(tbl "
+                               + "text) RETURNS void AS $$ BEGIN tbl := "
+                               + "pg_catalog.lower(tbl); DELETE FROM "
+                               + MEMBER_CATALOG_TABLE
+                               + " WHERE tbl_name = tbl; IF pg_catalog.substr("
+                               + "tbl, 1, "
+                               + INTERNAL_TABLE_PREFIX.length()
+                               + ") != '"
+                               + INTERNAL_TABLE_PREFIX
+                               + "' AND EXISTS (SELECT * FROM (SELECT "
+                               + "COUNT(*) FROM information_schema.columns "
+                               + "WHERE table_schema = 'public' AND "
+                               + "table_name = tbl AND ("
+                               + compareColumns
+                               + ")) AS alias1 WHERE count = '"
+                               + DefaultColumn.getProtectedColumnCount(TYPE_STRUCTURE)
+                               + "') THEN INSERT INTO "
+                               + MEMBER_CATALOG_TABLE
+                               + " SELECT tbl, pg_catalog.row_number() OVER "
+                               + "(), def.* FROM public.get_def_columns_by_index("
+                               + "tbl) AS def; END IF; END; $$ LANGUAGE "
+                               + "plpgsql SECURITY DEFINER SET search_path = "
+                               + "pg_catalog, public, pg_temp; "
+                               + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                                   "refresh_table_members(tbl text)"));
+
+                // Create function to update the table member catalog when a
+                // table is renamed. The renamed table's entries are replaced
+                // and the references to the table as a data type are changed
+                // to the new name (matching the changes made to the tables by
+                // update_data_type_names()). As with refresh_table_members()
+                // the search path is fixed and the objects are
+                // schema-qualified
+                command.append(deleteFunction("rename_table_members")
+                               + "CREATE FUNCTION rename_table_members(oldName "
+                               + "text, newName text) RETURNS void AS $$ BEGIN "
+                               + "DELETE FROM "
+                               + MEMBER_CATALOG_TABLE
+                               + " WHERE tbl_name = pg_catalog.lower(oldName); "
+                               + "UPDATE "
+                               + MEMBER_CATALOG_TABLE
+                               + " SET data_type = newName WHERE data_type = "
+                               + "oldName; PERFORM public.refresh_table_members("
+                               + "newName); END; $$ LANGUAGE plpgsql SECURITY "
+                               + "DEFINER SET search_path = pg_catalog, public, "
+                               + "pg_temp; "
+                               + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                                   "rename_table_members(oldName text, "
+                                                                            + "newName text)"));
+
+                // Create function to (re)build the table member catalog from
+                // every data table. The catalog is indexed by table name and
+                // row order so that the members of all tables are read in a
+                // single query
+                command.append(deleteFunction("rebuild_table_members")
+                               + "CREATE FUNCTION rebuild_table_members() "
+                               + "RETURNS void AS $$ DECLARE row record; "
+                               + "BEGIN CREATE SCHEMA IF NOT EXISTS "
+                               + MEMBER_CATALOG_SCHEMA
+                               + "; DROP TABLE IF EXISTS "
+                               + MEMBER_CATALOG_TABLE
+                               + "; CREATE TABLE "
+                               + MEMBER_CATALOG_TABLE
+                               + " (tbl_name text, member_index bigint, "
+                               + "data_type text, variable_name text, "
+                               + "bit_length text, rate text, enumeration "
+                               + "text); FOR row IN SELECT t.tablename AS "
+                               + "real_name FROM pg_tables AS t WHERE "
+                               + "t.schemaname = 'public' AND substr("
+                               + "t.tablename, 1, "
+                               + INTERNAL_TABLE_PREFIX.length()
+                               + ") != '"
+                               + INTERNAL_TABLE_PREFIX
+                               + "' LOOP PERFORM public.refresh_table_members("
+                               + "row.real_name); END LOOP; CREATE INDEX ON "
+                               + MEMBER_CATALOG_TABLE
+                               + " (tbl_name, member_index); ANALYZE "
+                               + MEMBER_CATALOG_TABLE
+                               + "; END; $$ LANGUAGE plpgsql SECURITY DEFINER "
+                               + "SET search_path = pg_catalog, public, pg_temp; "
+                               + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                                   "rebuild_table_members()"));
+
                 String rateCol = "";
                 String rateJoin = "";
 
@@ -1444,87 +1612,107 @@ public class CcddDbControlHandler
                     // column data for the specified table, sorted by variable
                     // name. For arrays, only the members are retrieved; the
                     // array definitions are ignored
-                    dbCommand.executeDbCommand(deleteFunction("get_def_columns_by_"
-                                                              + functionParm[0])
-                                               + "CREATE FUNCTION get_def_columns_by_"
-                                               + functionParm[0]
-                                               + "(name text) RETURNS TABLE(data_type "
-                                               + "text, variable_name text, bit_length text, "
-                                               + "rate text, enumeration text) AS $$ "
-                                               + "BEGIN RETURN QUERY EXECUTE 'SELECT "
-                                               + dbDataType
-                                               + ", "
-                                               + dbVariableName
-                                               + ", "
-                                               + dbBitLength
-                                               + ", "
-                                               + rateCol
-                                               + ", "
-                                               + enumCol
-                                               + " FROM ' || name || '"
-                                               + rateJoin
-                                               + enumJoin
-                                               + " WHERE "
-                                               + dbArraySize
-                                               + " = E'''' OR (array_size ~ E''^"
-                                               + MACRO_IDENTIFIER
-                                               + "'' AND (SELECT EXISTS (SELECT "
-                                               + MacrosColumn.VALUE.getColumnName()
-                                               + " FROM "
-                                               + InternalTable.MACROS.getTableName()
-                                               + " WHERE "
-                                               + MacrosColumn.MACRO_NAME.getColumnName()
-                                               + " = replace('''' || array_size || '''', ''"
-                                               + MACRO_IDENTIFIER
-                                               + "'', '''') AND "
-                                               + MacrosColumn.VALUE.getColumnName()
-                                               + " = ''''))) OR "
-                                               + dbVariableName
-                                               + " ~ E''^.+]'' ORDER BY "
-                                               + functionParm[1]
-                                               + " ASC'; END $$ LANGUAGE plpgsql; "
-                                               + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                                   "get_def_columns_by_"
-                                                                                            + functionParm[0]
-                                                                                            + "(name text)"),
-                                               ccddMain.getMainFrame());
+                    command.append(deleteFunction("get_def_columns_by_"
+                                                  + functionParm[0])
+                                   + "CREATE FUNCTION get_def_columns_by_"
+                                   + functionParm[0]
+                                   + "(name text) RETURNS TABLE(data_type "
+                                   + "text, variable_name text, bit_length text, "
+                                   + "rate text, enumeration text) AS $$ "
+                                   + "BEGIN RETURN QUERY EXECUTE 'SELECT "
+                                   + dbDataType
+                                   + ", "
+                                   + dbVariableName
+                                   + ", "
+                                   + dbBitLength
+                                   + ", "
+                                   + rateCol
+                                   + ", "
+                                   + enumCol
+                                   + " FROM ' || name || '"
+                                   + rateJoin
+                                   + enumJoin
+                                   + " WHERE "
+                                   + dbArraySize
+                                   + " = E'''' OR (array_size ~ E''^"
+                                   + MACRO_IDENTIFIER
+                                   + "'' AND (SELECT EXISTS (SELECT "
+                                   + MacrosColumn.VALUE.getColumnName()
+                                   + " FROM "
+                                   + InternalTable.MACROS.getTableName()
+                                   + " WHERE "
+                                   + MacrosColumn.MACRO_NAME.getColumnName()
+                                   + " = replace('''' || array_size || '''', ''"
+                                   + MACRO_IDENTIFIER
+                                   + "'', '''') AND "
+                                   + MacrosColumn.VALUE.getColumnName()
+                                   + " = ''''))) OR "
+                                   + dbVariableName
+                                   + " ~ E''^.+]'' ORDER BY "
+                                   + functionParm[1]
+                                   + " ASC'; END $$ LANGUAGE plpgsql; "
+                                   + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                                       "get_def_columns_by_"
+                                                                                + functionParm[0]
+                                                                                + "(name text)"));
                 }
 
                 // Database function to search for all tables containing a data
                 // type column, and replace a target value with a new value
-                dbCommand.executeDbCommand(deleteFunction("update_data_type_names")
-                                           + "CREATE FUNCTION update_data_type_names(oldType text, "
-                                           + "newType text) RETURNS VOID AS $$ BEGIN DECLARE row "
-                                           + "record; BEGIN DROP TABLE IF EXISTS "
-                                           + TEMP_TABLES
-                                           + "; CREATE TEMP TABLE "
-                                           + TEMP_TABLES
-                                           + " AS SELECT t.tablename AS real_name "
-                                           + "FROM pg_tables AS t WHERE t.schemaname = 'public' "
-                                           + "AND substr(t.tablename, 1, "
-                                           + INTERNAL_TABLE_PREFIX.length()
-                                           + ") != '"
-                                           + INTERNAL_TABLE_PREFIX
-                                           + "'; FOR row IN SELECT * FROM "
-                                           + TEMP_TABLES
-                                           + " LOOP IF EXISTS (SELECT 1 FROM "
-                                           + "information_schema.columns WHERE table_name = "
-                                           + "row.real_name AND column_name = '"
-                                           + dbDataType
-                                           + "') THEN EXECUTE E'UPDATE ' || row.real_name || E' SET "
-                                           + dbDataType
-                                           + " = ''' || newType || E''' WHERE "
-                                           + dbDataType
-                                           + " = ''' || oldType || E''''; END IF; "
-                                           + "END LOOP; END; END; $$ LANGUAGE plpgsql; "
-                                           + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                               "update_data_type_names(oldType text,"
-                                                                                        + " newType text)"),
-                                           ccddMain.getMainFrame());
+                command.append(deleteFunction("update_data_type_names")
+                               + "CREATE FUNCTION update_data_type_names(oldType text, "
+                               + "newType text) RETURNS VOID AS $$ BEGIN DECLARE row "
+                               + "record; BEGIN DROP TABLE IF EXISTS "
+                               + TEMP_TABLES
+                               + "; CREATE TEMP TABLE "
+                               + TEMP_TABLES
+                               + " AS SELECT t.tablename AS real_name "
+                               + "FROM pg_tables AS t WHERE t.schemaname = 'public' "
+                               + "AND substr(t.tablename, 1, "
+                               + INTERNAL_TABLE_PREFIX.length()
+                               + ") != '"
+                               + INTERNAL_TABLE_PREFIX
+                               + "'; FOR row IN SELECT * FROM "
+                               + TEMP_TABLES
+                               + " LOOP IF EXISTS (SELECT 1 FROM "
+                               + "information_schema.columns WHERE table_name = "
+                               + "row.real_name AND column_name = '"
+                               + dbDataType
+                               + "') THEN EXECUTE E'UPDATE ' || row.real_name || E' SET "
+                               + dbDataType
+                               + " = ''' || newType || E''' WHERE "
+                               + dbDataType
+                               + " = ''' || oldType || E''''; END IF; "
+                               + "END LOOP; END; END; $$ LANGUAGE plpgsql; "
+                               + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                                   "update_data_type_names(oldType text,"
+                                                                            + " newType text)"));
+
+                // Create the functions if their definitions changed
+                boolean isChanged = createFunctionsIfChanged(command,
+                                                             "update_data_type_names",
+                                                             "update_data_type_names(oldType text,"
+                                                                                       + " newType text)");
+
+                // Check if the functions changed (in which case the
+                // structure-defining columns used to populate the catalog may
+                // have changed), if the catalog rebuild is requested, or if
+                // the catalog doesn't exist
+                if (isChanged
+                    || rebuildCatalog
+                    || !isMemberCatalogExists())
+                {
+                    // Rebuild the table member catalog
+                    dbCommand.executeDbCommand("SELECT rebuild_table_members();",
+                                               ccddMain.getMainFrame());
+                }
 
                 // Inform the user that the database function creation
                 // succeeded
-                eventLog.logEvent(SUCCESS_MSG, "Database structure functions created");
+                eventLog.logEvent(SUCCESS_MSG,
+                                  isChanged
+                                            ? "Database structure functions created"
+                                            : "Database structure functions unchanged");
             }
             catch (SQLException se)
             {
@@ -1547,6 +1735,190 @@ public class CcddDbControlHandler
         return errorFlag;
     }
 
+    /**************************************************************************
+     * Get the fingerprint of a set of database function definitions. The
+     * fingerprint is the SHA-256 hash of the commands that create the
+     * functions and the CCDD version. The commands include the table type,
+     * rate column, and enumeration column information that the functions
+     * depend on, so any change to these alters the fingerprint
+     *
+     * @param command
+     *            commands to create the database functions
+     *
+     * @return Fingerprint of the function definitions, as a hexadecimal
+     *         string
+     *************************************************************************/
+    private String getFunctionFingerprint(String command)
+    {
+        StringBuilder fingerprint = new StringBuilder();
+
+        try
+        {
+            // Hash the CCDD version and the function commands
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(ccddMain.getCCDDVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update(command.getBytes(StandardCharsets.UTF_8));
+
+            // Step through each byte in the hash
+            for (byte hashByte : digest.digest())
+            {
+                // Convert the byte to hexadecimal
+                fingerprint.append(String.format("%02x", hashByte));
+            }
+        }
+        catch (NoSuchAlgorithmException nsae)
+        {
+            // The hash algorithm is required to be present in every Java
+            // implementation; return a blank so that the functions are
+            // always created
+        }
+
+        return fingerprint.toString();
+    }
+
+    /**************************************************************************
+     * Get the comment stored for the specified database function
+     *
+     * @param functionName
+     *            name of the database function
+     *
+     * @return Comment stored for the function; null if the function doesn't
+     *         exist, has no comment, or the comment can't be retrieved
+     *************************************************************************/
+    protected String getFunctionComment(String functionName)
+    {
+        String comment = null;
+
+        try
+        {
+            // Get the comment for the function
+            ResultSet resultSet = dbCommand.executeDbQuery("SELECT obj_description(oid, "
+                                                           + "'pg_proc') FROM pg_proc "
+                                                           + "WHERE proname = '"
+                                                           + functionName
+                                                           + "' AND pg_function_is_visible(oid);",
+                                                           ccddMain.getMainFrame());
+
+            // Check if the function exists
+            if (resultSet.next())
+            {
+                comment = resultSet.getString(1);
+            }
+
+            resultSet.close();
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that the function comment can't be retrieved
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot retrieve comment for function '"
+                                                           + functionName
+                                                           + "'; cause '"
+                                                           + se.getMessage()
+                                                           + "'",
+                                  "<html><b>Cannot retrieve comment for function '</b>"
+                                                                  + functionName
+                                                                  + "<b>'");
+        }
+
+        return comment;
+    }
+
+    /**************************************************************************
+     * Build the command to store a comment for the specified database
+     * function
+     *
+     * @param functionSignature
+     *            database function name and argument list
+     *
+     * @param comment
+     *            comment to store
+     *
+     * @return Command to store the function comment
+     *************************************************************************/
+    protected String buildFunctionComment(String functionSignature,
+                                          String comment)
+    {
+        return "COMMENT ON FUNCTION "
+               + functionSignature
+               + " IS "
+               + ccddMain.getDbTableCommandHandler().delimitText(comment)
+               + "; ";
+    }
+
+    /**************************************************************************
+     * Execute the commands to create a set of database functions if the
+     * function definitions differ from those already in the project database.
+     * The fingerprint of the definitions is stored as the comment for one of
+     * the functions. Older versions of CCDD recreate the functions each time
+     * the project is opened, which removes the fingerprint, so the functions
+     * are recreated the next time this version opens the project
+     *
+     * @param command
+     *            commands to create the database functions
+     *
+     * @param functionName
+     *            name of the database function in which to store the
+     *            fingerprint
+     *
+     * @param functionSignature
+     *            name and argument list of the database function in which to
+     *            store the fingerprint
+     *
+     * @return true if the functions are created; false if the functions are
+     *         unchanged
+     *
+     * @throws SQLException
+     *             If an error occurs creating the functions
+     *************************************************************************/
+    private boolean createFunctionsIfChanged(StringBuilder command,
+                                             String functionName,
+                                             String functionSignature) throws SQLException
+    {
+        // Get the fingerprint of the function definitions and check if it
+        // differs from the one stored with the functions
+        String fingerprint = getFunctionFingerprint(command.toString());
+        boolean isChanged = fingerprint.isEmpty()
+                            || !fingerprint.equals(getFunctionComment(functionName));
+
+        // Check if the function definitions changed
+        if (isChanged)
+        {
+            // Create the functions and store the fingerprint
+            dbCommand.executeDbCommand(command.toString()
+                                       + buildFunctionComment(functionSignature,
+                                                              fingerprint),
+                                       ccddMain.getMainFrame());
+        }
+
+        return isChanged;
+    }
+
+    /**************************************************************************
+     * Check if the table member catalog exists in the project database
+     *
+     * @return true if the table member catalog exists
+     *
+     * @throws SQLException
+     *             If an error occurs querying the database
+     *************************************************************************/
+    private boolean isMemberCatalogExists() throws SQLException
+    {
+        // Query the database for the catalog table
+        ResultSet resultSet = dbCommand.executeDbQuery("SELECT 1 FROM pg_tables WHERE "
+                                                       + "schemaname = '"
+                                                       + MEMBER_CATALOG_SCHEMA
+                                                       + "' AND schemaname || '.' || "
+                                                       + "tablename = '"
+                                                       + MEMBER_CATALOG_TABLE
+                                                       + "';",
+                                                       ccddMain.getMainFrame());
+        boolean isExists = resultSet.next();
+        resultSet.close();
+
+        return isExists;
+    }
+
     /**************************************************************************
      * Build the command to delete a database function. This deletes the
      * function whether or not the input parameters match
@@ -1657,7 +2029,6 @@ public class CcddDbControlHandler
             connection = DriverManager.getConnection(getDatabaseURL(databaseName),
                                                      activeUser,
                                                      activePassword);
-            dbCommand.setStatement(connection.createStatement());
 
             // Reset the flag that indicates a connection failure occurred due
             // to a missing password
@@ -1755,6 +2126,14 @@ public class CcddDbControlHandler
                 // connected
                 connectionStatus = TO_DATABASE;
 
+                // Create the pool of read-only connections to the database
+                // used for queries that can execute concurrently with database
+                // changes
+                dbCommand.setConnectionPool(new CcddDbConnectionPool(getDatabaseURL(databaseName),
+                                                                     activeUser,
+                                                                     activePassword,
+                                                                     DB_CONNECTION_POOL_SIZE));
+
                 // Check if an automatic backup was scheduled via the command
                 // line argument
                 if (!backupFileName.isEmpty())
@@ -1928,6 +2307,10 @@ public class CcddDbControlHandler
                     // Register the JDBC driver
                     Class.forName(DATABASE_DRIVER);
 
+                    // Store the start time of the project open so that the
+                    // time needed for each phase can be logged
+                    long startTime = System.currentTimeMillis();
+
                     // Check if the attempt to connect to the database fails
                     if (connectToDatabase(databaseName))
                     {
@@ -1938,6 +2321,8 @@ public class CcddDbControlHandler
                     // not just the server (default database)
                     if (isDatabaseConnected())
                     {
+                        long connectTime = System.currentTimeMillis();
+
                         // Check if the database functions should be created;
                         // if so create the internal tables and database
                         // functions, and check if an error occurs creating
@@ -1947,20 +2332,27 @@ public class CcddDbControlHandler
                             throw new CCDDException();
                         }
 
+                        long functionTime = System.currentTimeMillis();
+
                         // Read the table types, macros, and rate parameters
                         // from the database
                         ccddMain.setDbSpecificHandlers();
 
+                        long handlerTime = System.currentTimeMillis();
+
                         // Check if the database functions should be created;
                         // if so create the database functions that collect
                         // structure table members and structure-defining
                         // column data, and check if an error occurred creating
-                        // them
-                        if (createFunctions && createStructureColumnFunctions())
+                        // them. The table member catalog is only rebuilt if
+                        // the functions changed
+                        if (createFunctions && createStructureColumnFunctions(false))
                         {
                             throw new CCDDException();
                         }
 
+                        long structureTime = System.currentTimeMillis();
+
                         // Check if the web server is enabled
                         if (ccddMain.isWebServer())
                         {
@@ -1972,6 +2364,27 @@ public class CcddDbControlHandler
                         // to the latest schema
                         new CcddPatchHandler(ccddMain);
 
+                        long patchTime = System.currentTimeMillis();
+
+                        // Log the time needed for each phase of opening the
+                        // project database
+                        eventLog.logEvent(STATUS_MSG,
+                                          "Project database '"
+                                                      + databaseName
+                                                      + "' opened in "
+                                                      + (patchTime - startTime)
+                                                      + " msec; connect: "
+                                                      + (connectTime - startTime)
+                                                      + ", functions: "
+                                                      + (functionTime - connectTime)
+                                                      + ", handlers: "
+                                                      + (handlerTime - functionTime)
+                                                      + ", structure functions: "
+                                                      + (structureTime - handlerTime)
+                                                      + ", patches: "
+                                                      + (patchTime - structureTime)
+                                                      + " msec");
+
                         // Check if the GUI is visible. If the application is
                         // started with the GUI hidden (for command line script
                         // execution or as a web server) then the project
@@ -2475,7 +2888,8 @@ public class CcddDbControlHandler
                     }
                 }
 
-                // Close the database
+                // Close the read-only connection pool and the database
+                dbCommand.setConnectionPool(null);
                 connection.close();
 
                 // Inform the user that closing the database succeeded and
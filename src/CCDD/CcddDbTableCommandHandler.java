@@ -9,8 +9,10 @@
 package CCDD;
 
 import static CCDD.CcddConstants.ASSN_TABLE_SEPARATOR;
-import static CCDD.CcddConstants.DB_SAVE_POINT_NAME;
+import static CCDD.CcddConstants.BATCH_LOAD_TABLE_LIMIT;
+import static CCDD.CcddConstants.BULK_IMPORT_TABLE_LIMIT;
 import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
+import static CCDD.CcddConstants.MEMBER_CATALOG_TABLE;
 import static CCDD.CcddConstants.NUM_HIDDEN_COLUMNS;
 import static CCDD.CcddConstants.OK_BUTTON;
 import static CCDD.CcddConstants.PATH_IDENT;
@@ -20,6 +22,8 @@ import static CCDD.CcddConstants.TLM_SCH_SEPARATOR;
 import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_OTHER;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
+import static CCDD.CcddConstants.VALUES_PARENT_PATH;
+import static CCDD.CcddConstants.EventLogMessageType.STATUS_MSG;
 import static CCDD.CcddConstants.EventLogMessageType.SUCCESS_MSG;
 
 import java.awt.Component;
@@ -29,14 +33,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
 import javax.swing.SwingWorker;
 
 import CCDD.CcddBackgroundCommand.BackgroundCommand;
-import CCDD.CcddClasses.ArrayListMultiple;
 import CCDD.CcddClasses.ArrayVariable;
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.NodeIndex;
@@ -67,6 +74,8 @@ import CCDD.CcddConstants.SearchResultsQueryColumn;
 import CCDD.CcddConstants.TableCommentIndex;
 import CCDD.CcddConstants.TableMemberType;
 import CCDD.CcddConstants.TableTreeType;
+import CCDD.CcddDbCommandHandler.BatchCommand;
+import CCDD.CcddDbCommandHandler.Transaction;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /******************************************************************************
@@ -79,6 +88,8 @@ public class CcddDbTableCommandHandler
     private final CcddDbCommandHandler dbCommand;
     private final CcddDbControlHandler dbControl;
     private final CcddEventLogDialog eventLog;
+    private final CcddProjectSnapshotHandler snapshot;
+    private final CcddSearchIndexHandler searchIndexHandler;
     private CcddTableTypeHandler tableTypeHandler;
     private CcddMacroHandler macroHandler;
     private CcddRateParameterHandler rateHandler;
@@ -109,6 +120,8 @@ public class CcddDbTableCommandHandler
         dbCommand = ccddMain.getDbCommandHandler();
         dbControl = ccddMain.getDbControlHandler();
         eventLog = ccddMain.getSessionEventLog();
+        snapshot = ccddMain.getProjectSnapshotHandler();
+        searchIndexHandler = ccddMain.getSearchIndexHandler();
 
         // Escape any special characters in the script associations and
         // telemetry scheduler table
@@ -632,22 +645,40 @@ public class CcddDbTableCommandHandler
      *************************************************************************/
     protected String[][] queryDataTableComments(Component parent)
     {
-        // Get the array of comment strings for every data table
-        String[] comments = dbCommand.getList(DatabaseListCommand.TABLE_COMMENTS,
-                                              null,
-                                              parent);
+        // Get the parsed comments from the project snapshot
+        String[][] parsedComments = snapshot.getTableComments();
+
+        // Check if the comments aren't stored in the snapshot
+        if (parsedComments == null)
+        {
+            // Get the snapshot revision prior to querying the database
+            long revision = snapshot.getRevision();
 
-        // Create storage for the parsed comments
-        String[][] parsedComments = new String[comments.length][];
+            // Get the array of comment strings for every data table
+            String[] comments = dbCommand.getList(DatabaseListCommand.TABLE_COMMENTS,
+                                                  null,
+                                                  parent);
 
-        int index = 0;
+            // Create storage for the parsed comments
+            parsedComments = new String[comments.length][];
 
-        // Step through each comment
-        for (String comment : comments)
-        {
-            // Parse the comment into its separate parameters
-            parsedComments[index] = comment.split(",");
-            index++;
+            int index = 0;
+
+            // Step through each comment
+            for (String comment : comments)
+            {
+                // Parse the comment into its separate parameters
+                parsedComments[index] = comment.split(",");
+                index++;
+            }
+
+            // Check if any comments were loaded. An empty list isn't stored
+            // since it's also returned if the query fails
+            if (parsedComments.length != 0)
+            {
+                // Store the parsed comments in the project snapshot
+                snapshot.setTableComments(parsedComments, revision);
+            }
         }
 
         return parsedComments;
@@ -750,31 +781,45 @@ public class CcddDbTableCommandHandler
      *************************************************************************/
     protected String[][] queryTableDescriptions(Component parent)
     {
-        String[][] tableDescriptions;
-
-        // Get the array containing the table descriptions and names
-        String[] descriptions = dbCommand.getList(DatabaseListCommand.TABLE_DESCRIPTIONS,
-                                                  null,
-                                                  parent);
+        // Get the table descriptions from the project snapshot
+        String[][] tableDescriptions = snapshot.getTableDescriptions();
 
-        // Check that table descriptions were loaded
-        if (descriptions.length != 0)
+        // Check if the descriptions aren't stored in the snapshot
+        if (tableDescriptions == null)
         {
-            tableDescriptions = new String[descriptions.length][3];
+            // Get the snapshot revision prior to querying the database
+            long revision = snapshot.getRevision();
 
-            // Step through each description
-            for (int index = 0; index < descriptions.length; index++)
+            // Get the array containing the table descriptions and names
+            String[] descriptions = dbCommand.getList(DatabaseListCommand.TABLE_DESCRIPTIONS,
+                                                      null,
+                                                      parent);
+
+            // Check that table descriptions were loaded
+            if (descriptions.length != 0)
             {
-                // Split the description into the table path and description
-                tableDescriptions[index] = descriptions[index].split(Pattern.quote(TABLE_DESCRIPTION_SEPARATOR),
-                                                                     2);
+                tableDescriptions = new String[descriptions.length][3];
+
+                // Step through each description
+                for (int index = 0; index < descriptions.length; index++)
+                {
+                    // Split the description into the table path and
+                    // description
+                    tableDescriptions[index] = descriptions[index].split(Pattern.quote(TABLE_DESCRIPTION_SEPARATOR),
+                                                                         2);
+                }
+
+                // Store the descriptions in the project snapshot. An empty
+                // list isn't stored since it's also returned if the query
+                // fails
+                snapshot.setTableDescriptions(tableDescriptions, revision);
+            }
+            // No descriptions were loaded
+            else
+            {
+                // Create an empty array
+                tableDescriptions = new String[0][0];
             }
-        }
-        // No descriptions were loaded
-        else
-        {
-            // Create an empty array
-            tableDescriptions = new String[0][0];
         }
 
         return tableDescriptions;
@@ -985,6 +1030,10 @@ public class CcddDbTableCommandHandler
             dbCommand.executeDbUpdate(buildTableComment(tableName, comment),
                                       parent);
 
+            // Discard the project snapshot since it no longer reflects the
+            // database contents
+            snapshot.invalidate();
+
             // Inform the user that the update succeeded
             eventLog.logEvent(SUCCESS_MSG,
                               "Table '"
@@ -1142,9 +1191,18 @@ public class CcddDbTableCommandHandler
                                               parent);
             }
 
+            // Add the commands to update the table member catalog and to
+            // create the search indices for the new table(s)
+            command += refreshMemberCatalogCommand(tableNames)
+                       + searchIndexHandler.buildCreateIndicesCommand(tableNames);
+
             // Execute the database update
             dbCommand.executeDbUpdate(command, parent);
 
+            // Discard the project snapshot since it no longer reflects the
+            // database contents
+            snapshot.invalidate();
+
             // Inform the user that the update succeeded
             eventLog.logEvent(SUCCESS_MSG,
                               "Table(s) '"
@@ -1239,6 +1297,314 @@ public class CcddDbTableCommandHandler
         return command.toString();
     }
 
+    /**************************************************************************
+     * Create one or more prototype tables and populate them with the supplied
+     * cell data using the PostgreSQL COPY protocol. This is intended for
+     * importing a large number of tables: the table rows and the tables' data
+     * field, description, and column order entries are streamed to the
+     * database instead of being inserted one statement at a time. The tables
+     * are created without their primary key constraints; these, the table
+     * comments, and the table member catalog entries are applied once all of
+     * the rows are loaded. The cell data isn't validated, and the internal
+     * table references of existing structures aren't updated to reflect the
+     * new tables, so the tables must not already exist
+     *
+     * @param tableInformation
+     *            list containing the table information for the tables to
+     *            create. The table path, type, description, column order, and
+     *            data field information are used
+     *
+     * @param cellData
+     *            list containing the cell data for each table, in the same
+     *            order as the table information. The cell data for a table
+     *            consists of the visible column values for each row, in
+     *            column order
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return true if an error occurred when creating or populating a table
+     *************************************************************************/
+    protected boolean createTablesInBulk(List<TableInformation> tableInformation,
+                                         List<List<String>> cellData,
+                                         Component parent)
+    {
+        boolean errorFlag = false;
+        long startTime = System.currentTimeMillis();
+        long numRows = 0;
+        List<String> tableNames = new ArrayList<String>();
+
+        // Step through each table to create
+        for (TableInformation tableInfo : tableInformation)
+        {
+            // Add the table name to the list
+            tableNames.add(tableInfo.getPrototypeName());
+        }
+
+        // Convert the array of names into a single string, separated by commas
+        String allNames = getShortenedTableNames(tableNames.toArray(new String[0]));
+
+        try
+        {
+            StringBuilder command = new StringBuilder();
+
+            // Step through each table to create
+            for (int index = 0; index < tableInformation.size(); index++)
+            {
+                TableInformation tableInfo = tableInformation.get(index);
+                String dbTableName = tableInfo.getPrototypeName().toLowerCase();
+                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+                // Build the table creation command
+                command.append("CREATE TABLE " + dbTableName + " (");
+
+                // Step through each column name
+                for (int column = 0; column < typeDefn.getColumnNamesDatabase().length; column++)
+                {
+                    // Add the column identifier and column data type to the
+                    // command. The primary key constraint is added after the
+                    // table's rows are loaded
+                    command.append("\""
+                                   + typeDefn.getColumnNamesDatabase()[column]
+                                   + "\" "
+                                   + DefaultColumn.getColumnDbType(column).replace(" PRIMARY KEY", "")
+                                   + ", ");
+                }
+
+                // Remove the trailing comma and space, then append the closing
+                // portion of the command and set the table's owner
+                command = CcddUtilities.removeTrailer(command, ", ");
+                command.append("); "
+                               + dbControl.buildOwnerCommand(DatabaseObject.TABLE,
+                                                             dbTableName));
+
+                // Check if the maximum number of tables per command is reached
+                // or if this is the last table
+                if ((index + 1) % BULK_IMPORT_TABLE_LIMIT == 0
+                    || index == tableInformation.size() - 1)
+                {
+                    // Create the tables
+                    dbCommand.executeDbUpdate(command.toString(), parent);
+                    command.setLength(0);
+                }
+            }
+
+            List<Object[]> fieldRows = new ArrayList<Object[]>();
+            List<Object[]> valuesRows = new ArrayList<Object[]>();
+            List<Object[]> orderRows = new ArrayList<Object[]>();
+
+            // Step through each table to populate
+            for (int index = 0; index < tableInformation.size(); index++)
+            {
+                TableInformation tableInfo = tableInformation.get(index);
+                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+                int numColumns = typeDefn.getColumnCountVisible();
+
+                // Get the visible index of the variable path column, if
+                // present. The path is constructed on-the-fly for display so
+                // it isn't stored in the database
+                int variablePathIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE_PATH)
+                                        - NUM_HIDDEN_COLUMNS;
+
+                // Get the names of the columns into which the rows are copied.
+                // The primary key value is generated by the database
+                String[] columnNames = new String[numColumns + 1];
+
+                // Step through each column following the primary key
+                for (int column = DefaultColumn.ROW_INDEX.ordinal(); column < typeDefn.getColumnNamesDatabase().length; column++)
+                {
+                    // Add the column identifier to the list
+                    columnNames[column - DefaultColumn.ROW_INDEX.ordinal()] = "\""
+                                                                              + typeDefn.getColumnNamesDatabase()[column]
+                                                                              + "\"";
+                }
+
+                List<Object[]> rows = new ArrayList<Object[]>();
+                List<String> data = cellData.get(index);
+
+                // Step through each row of the cell data
+                for (int cellIndex = 0; cellIndex < data.size(); cellIndex += numColumns)
+                {
+                    Object[] row = new Object[numColumns + 1];
+                    boolean isEmpty = true;
+
+                    // Step through each column in the row
+                    for (int column = 0; column < numColumns; column++)
+                    {
+                        // Get the cell value; a missing or null value is
+                        // stored as a blank
+                        String value = cellIndex + column < data.size()
+                                       && data.get(cellIndex + column) != null
+                                       && column != variablePathIndex
+                                                                      ? data.get(cellIndex + column)
+                                                                      : "";
+                        row[column + 1] = value;
+
+                        // Check if the cell isn't blank
+                        if (!value.isEmpty())
+                        {
+                            isEmpty = false;
+                        }
+                    }
+
+                    // Check if the row has a value in at least one column.
+                    // Empty rows aren't stored
+                    if (!isEmpty)
+                    {
+                        // Set the row index and add the row to the list
+                        row[0] = rows.size() + 1;
+                        rows.add(row);
+                    }
+                }
+
+                // Stream the table's rows to the database
+                numRows += dbCommand.executeDbCopy(tableInfo.getPrototypeName().toLowerCase(),
+                                                   columnNames,
+                                                   rows,
+                                                   parent);
+
+                // Step through each of the table's data fields
+                for (FieldInformation fieldInfo : tableInfo.getFieldHandler().getFieldInformation())
+                {
+                    // Add the field definition to the list
+                    fieldRows.add(new Object[] {tableInfo.getTablePath(),
+                                                fieldInfo.getFieldName(),
+                                                fieldInfo.getDescription(),
+                                                fieldInfo.getSize(),
+                                                fieldInfo.getInputType().getInputName(),
+                                                fieldInfo.isRequired(),
+                                                fieldInfo.getApplicabilityType().getApplicabilityName(),
+                                                fieldInfo.getValue()});
+                }
+
+                // Check if the table has a description
+                if (!tableInfo.getDescription().isEmpty())
+                {
+                    // Add the description to the list
+                    valuesRows.add(new Object[] {tableInfo.getTablePath(),
+                                                 "",
+                                                 tableInfo.getDescription()});
+                }
+
+                // Add the column order to the list
+                orderRows.add(new Object[] {dbControl.getUser(),
+                                            tableInfo.getTablePath(),
+                                            tableInfo.getColumnOrder()});
+
+                // Check if the number of tables for a progress update is
+                // reached
+                if ((index + 1) % BULK_IMPORT_TABLE_LIMIT == 0)
+                {
+                    // Inform the user of the import progress
+                    eventLog.logEvent(STATUS_MSG,
+                                      "Bulk import loaded "
+                                                  + (index + 1)
+                                                  + " of "
+                                                  + tableInformation.size()
+                                                  + " table(s)");
+                }
+            }
+
+            // Stream the data field, description, and column order entries to
+            // their internal tables
+            dbCommand.executeDbCopy(InternalTable.FIELDS.getTableName(),
+                                    new String[] {FieldsColumn.OWNER_NAME.getColumnName(),
+                                                  FieldsColumn.FIELD_NAME.getColumnName(),
+                                                  FieldsColumn.FIELD_DESC.getColumnName(),
+                                                  FieldsColumn.FIELD_SIZE.getColumnName(),
+                                                  FieldsColumn.FIELD_TYPE.getColumnName(),
+                                                  FieldsColumn.FIELD_REQUIRED.getColumnName(),
+                                                  FieldsColumn.FIELD_APPLICABILITY.getColumnName(),
+                                                  FieldsColumn.FIELD_VALUE.getColumnName()},
+                                    fieldRows,
+                                    parent);
+            dbCommand.executeDbCopy(InternalTable.VALUES.getTableName(),
+                                    new String[] {ValuesColumn.TABLE_PATH.getColumnName(),
+                                                  ValuesColumn.COLUMN_NAME.getColumnName(),
+                                                  ValuesColumn.VALUE.getColumnName()},
+                                    valuesRows,
+                                    parent);
+            dbCommand.executeDbCopy(InternalTable.ORDERS.getTableName(),
+                                    new String[] {OrdersColumn.USER_NAME.getColumnName(),
+                                                  OrdersColumn.TABLE_PATH.getColumnName(),
+                                                  OrdersColumn.COLUMN_ORDER.getColumnName()},
+                                    orderRows,
+                                    parent);
+
+            // Step through each new table
+            for (int index = 0; index < tableInformation.size(); index++)
+            {
+                TableInformation tableInfo = tableInformation.get(index);
+                String dbTableName = tableInfo.getPrototypeName().toLowerCase();
+
+                // Add the commands to apply the primary key constraint and the
+                // table comment, to update the table member catalog, and to
+                // create the search indices. The indices are created after the
+                // rows are loaded since this is faster than updating them as
+                // each row is added
+                command.append("ALTER TABLE "
+                               + dbTableName
+                               + " ADD PRIMARY KEY (\""
+                               + tableTypeHandler.getTypeDefinition(tableInfo.getType()).getColumnNamesDatabase()[DefaultColumn.PRIMARY_KEY.ordinal()]
+                               + "\"); "
+                               + buildDataTableComment(tableInfo.getPrototypeName(),
+                                                       tableInfo.getType())
+                               + refreshMemberCatalogCommand(dbTableName)
+                               + searchIndexHandler.buildCreateIndicesCommand(dbTableName));
+
+                // Check if the maximum number of tables per command is reached
+                // or if this is the last table
+                if ((index + 1) % BULK_IMPORT_TABLE_LIMIT == 0
+                    || index == tableInformation.size() - 1)
+                {
+                    // Apply the constraints, comments, and catalog updates
+                    dbCommand.executeDbUpdate(command.toString(), parent);
+                    command.setLength(0);
+                }
+            }
+
+            // Discard the project snapshot since it no longer reflects the
+            // database contents
+            snapshot.invalidate();
+
+            // Log the number of tables and rows loaded and the time needed to
+            // load them
+            long elapsed = Math.max(System.currentTimeMillis() - startTime, 1);
+            eventLog.logEvent(STATUS_MSG,
+                              "Bulk import loaded "
+                                          + tableInformation.size()
+                                          + " table(s) with "
+                                          + numRows
+                                          + " row(s) in "
+                                          + elapsed
+                                          + " msec ("
+                                          + (numRows * 1000L / elapsed)
+                                          + " rows/sec)");
+
+            // Inform the user that the update succeeded
+            eventLog.logEvent(SUCCESS_MSG,
+                              "Table(s) '"
+                                           + allNames
+                                           + "' created");
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that the database command failed
+            eventLog.logFailEvent(parent,
+                                  "Cannot create table(s) '"
+                                          + allNames
+                                          + "'; cause '"
+                                          + se.getMessage()
+                                          + "'",
+                                  "<html><b>Cannot create table(s) '</b>"
+                                                 + allNames
+                                                 + "<b>'");
+            errorFlag = true;
+        }
+
+        return errorFlag;
+    }
+
     /**************************************************************************
      * Change the name of a table. Only prototype tables can be renamed using
      * this method (instances are renamed by changing the variable name in the
@@ -1344,6 +1710,10 @@ public class CcddDbTableCommandHandler
                     // those tables containing a data type column and replace
                     // the references with the new table name
                     command += "SELECT update_data_type_names('"
+                               + tableName
+                               + "', '"
+                               + newName
+                               + "'); SELECT rename_table_members('"
                                + tableName
                                + "', '"
                                + newName
@@ -1354,6 +1724,10 @@ public class CcddDbTableCommandHandler
                     // to all lower case) that's stored as a comment
                     dbCommand.executeDbCommand(command, tableDialog);
 
+                    // Discard the project snapshot since it no longer reflects the
+                    // database contents
+                    snapshot.invalidate();
+
                     // Log that renaming the table succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table '"
@@ -1550,16 +1924,24 @@ public class CcddDbTableCommandHandler
                                + buildColumnOrder(newName,
                                                   columnOrder);
 
-                    // Copy the table's data field entries for the new table
+                    // Copy the table's data field entries for the new table,
+                    // update the table member catalog for the new table, and
+                    // create the search indices for the new table
                     command += copyDataFieldCommand(tableName,
                                                     newName,
-                                                    tableDialog);
+                                                    tableDialog)
+                               + refreshMemberCatalogCommand(newName)
+                               + searchIndexHandler.buildCreateIndicesCommand(newName);
 
                     // Execute the command to copy the table, including the
                     // table's original name (before conversion to all lower
                     // case) that's stored as a comment
                     dbCommand.executeDbCommand(command, tableDialog);
 
+                    // Discard the project snapshot since it no longer reflects the
+                    // database contents
+                    snapshot.invalidate();
+
                     // Log that renaming the table succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table '"
@@ -1688,6 +2070,33 @@ public class CcddDbTableCommandHandler
     protected boolean deleteTable(String[] tableNames,
                                   CcddTableManagerDialog dialog,
                                   Component parent)
+    {
+        // Delete the table(s). If the table manager called this method (dialog
+        // isn't null) then these are data tables
+        return deleteTable(tableNames, dialog != null, parent);
+    }
+
+    /**************************************************************************
+     * Delete one or more prototype or script tables. The selected tables(s)
+     * are deleted from the database and, for data tables, all references to
+     * the table are deleted from the internal tables
+     *
+     * @param tableNames
+     *            array of names of the tables to delete
+     *
+     * @param isDataTable
+     *            true if the table(s) to be deleted are data tables; false if
+     *            the tables are scripts, or are data tables that are replaced
+     *            (so that the internal table references are retained)
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return true if an error occurred when deleting a table
+     *************************************************************************/
+    protected boolean deleteTable(String[] tableNames,
+                                  boolean isDataTable,
+                                  Component parent)
     {
         boolean errorFlag = false;
 
@@ -1696,17 +2105,18 @@ public class CcddDbTableCommandHandler
 
         try
         {
-            // Build the command and delete the table(s). If the table manager
-            // called this method (dialog isn't null) then these are data
-            // tables
+            // Build the command and delete the table(s)
             dbCommand.executeDbUpdate(deleteTableCommand(tableNames,
-                                                         dialog != null),
+                                                         isDataTable)
+                                      + refreshMemberCatalogCommand(tableNames),
                                       parent);
 
-            // Check if the deletion is for a data table. If the table manager
-            // called this method (dialog isn't null) then these are data
-            // tables
-            if (dialog != null)
+            // Discard the project snapshot since it no longer reflects the
+            // database contents
+            snapshot.invalidate();
+
+            // Check if the deletion is for a data table
+            if (isDataTable)
             {
                 // Execute the command to reset the rate for links that no
                 // longer contain any variables
@@ -2113,6 +2523,62 @@ public class CcddDbTableCommandHandler
                                              boolean loadColumnOrder,
                                              boolean loadFieldInfo,
                                              Component parent)
+    {
+        return loadTableData(tablePath,
+                             isRootStructure,
+                             loadDescription,
+                             loadColumnOrder,
+                             loadFieldInfo,
+                             null,
+                             parent);
+    }
+
+    /**************************************************************************
+     * Perform the database query to load the contents of a database table,
+     * retrieving only the specified columns. The data is sorted in ascending
+     * numerical order based on the index (primary key) column. The table data
+     * contains every column in the table's type definition; those columns not
+     * retrieved are blank. The primary key, row index, variable name, and data
+     * type columns are always retrieved since these are needed to apply any
+     * custom values
+     *
+     * @param tablePath
+     *            table path in the format
+     *            rootTable[,dataType1.variable1[,dataType2 .variable2[,...]]]
+     *
+     * @param isRootStructure
+     *            true if the table is a root table of type 'structure'
+     *
+     * @param loadDescription
+     *            true to load the table's description
+     *
+     * @param loadColumnOrder
+     *            true to load the table's column order
+     *
+     * @param loadFieldInfo
+     *            true to retrieve the data field information to include with
+     *            the table information; false to not load the field
+     *            information
+     *
+     * @param columnNames
+     *            array of the (user) names of the columns to retrieve; null to
+     *            retrieve all columns. Column names that don't exist in the
+     *            table's type definition are ignored
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return TableInformation class containing the table data from the
+     *         database. If the error flag is set the an error occurred and the
+     *         data is invalid
+     *************************************************************************/
+    protected TableInformation loadTableData(String tablePath,
+                                             boolean isRootStructure,
+                                             boolean loadDescription,
+                                             boolean loadColumnOrder,
+                                             boolean loadFieldInfo,
+                                             String[] columnNames,
+                                             Component parent)
     {
         // Create an empty table information class
         TableInformation tableInfo = new TableInformation(tablePath);
@@ -2136,15 +2602,26 @@ public class CcddDbTableCommandHandler
                 // Get the table type definition for this table
                 TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(comment[TableCommentIndex.TYPE.ordinal()]);
 
-                // Get a comma-separated list of the columns for this table's
-                // type
-                String columnNames = CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabase());
+                // Get the indices of the columns to retrieve
+                List<Integer> columns = getLoadColumnIndices(typeDefn,
+                                                             columnNames);
+
+                // Build a comma-separated list of the columns to retrieve
+                StringBuilder dbColumnNames = new StringBuilder();
+
+                for (int column : columns)
+                {
+                    dbColumnNames.append(dbColumnNames.length() == 0
+                                                                     ? ""
+                                                                     : ", ")
+                                 .append(typeDefn.getColumnNamesDatabase()[column]);
+                }
 
                 // Get the table's row information for the specified columns.
                 // The table must have all of its table type's columns or else
                 // it fails to load
                 ResultSet rowData = dbCommand.executeDbQuery("SELECT "
-                                                             + columnNames
+                                                             + dbColumnNames
                                                              + " FROM "
                                                              + dbTableName
                                                              + " ORDER BY "
@@ -2158,21 +2635,23 @@ public class CcddDbTableCommandHandler
                 // Step through each of the query results
                 while (rowData.next())
                 {
-                    // Create an array to contain the column values
+                    // Create an array to contain the column values. Any
+                    // column not retrieved is left blank
                     String[] columnValues = new String[typeDefn.getColumnCountDatabase()];
+                    Arrays.fill(columnValues, "");
 
-                    // Step through each column in the row
-                    for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
+                    // Step through each retrieved column in the row
+                    for (int index = 0; index < columns.size(); index++)
                     {
-                        // Add the column value to the array. Note that the
-                        // first column's index in the database is 1, not 0
-                        columnValues[column] = rowData.getString(column + 1);
+                        // Get the column value. Note that the first column's
+                        // index in the database is 1, not 0
+                        String value = rowData.getString(index + 1);
 
-                        // Check if the value is null
-                        if (columnValues[column] == null)
+                        // Check if the value isn't null
+                        if (value != null)
                         {
-                            // Replace the null with a blank
-                            columnValues[column] = "";
+                            // Add the column value to the array
+                            columnValues[columns.get(index)] = value;
                         }
                     }
 
@@ -2197,7 +2676,7 @@ public class CcddDbTableCommandHandler
                                                                   : ""),
                                                  isRootStructure,
                                                  (loadFieldInfo
-                                                                ? retrieveInformationTable(InternalTable.FIELDS,
+                                                                ? retrieveFieldDefinitions(tablePath,
                                                                                            parent).toArray(new String[0][0])
                                                                 : null));
 
@@ -2212,24 +2691,19 @@ public class CcddDbTableCommandHandler
                     && dataTypeIndex != -1
                     && tablePath.contains(","))
                 {
-                    // Place double back slashes before each square brace
-                    // character in an array index so that the brackets are
-                    // interpreted correctly in the query's regular
-                    // expression comparisons
-                    tablePath = tablePath.replaceAll("\\[(\\d+)\\]",
-                                                     "\\\\\\\\[$1\\\\\\\\]");
-
                     // Get the rows from the custom values table that match
                     // the specified parent table and variable path. These
                     // values replace those loaded for the prototype of
-                    // this table
+                    // this table. The parent path expression matches the
+                    // custom values table's index so that only the
+                    // instance's rows are read
                     rowData = dbCommand.executeDbQuery("SELECT * FROM "
                                                        + InternalTable.VALUES.getTableName()
                                                        + " WHERE "
-                                                       + ValuesColumn.TABLE_PATH.getColumnName()
-                                                       + " ~ E'^"
+                                                       + VALUES_PARENT_PATH
+                                                       + " = '"
                                                        + tablePath
-                                                       + ",[^,]+$' AND "
+                                                       + "' AND "
                                                        + ValuesColumn.COLUMN_NAME.getColumnName()
                                                        + " != '';",
                                                        parent);
@@ -2237,44 +2711,14 @@ public class CcddDbTableCommandHandler
                     // Step through each of the query results
                     while (rowData.next())
                     {
-                        // Get the variable name that will have its value
-                        // replaced
-                        String variableName = rowData.getString(ValuesColumn.TABLE_PATH.getColumnName());
-
-                        // Get the index of the last data type/variable name
-                        // separator character (if present)
-                        int varIndex = variableName.lastIndexOf(".");
-
-                        // Check if a variable name exists
-                        if (varIndex != -1)
-                        {
-                            // Get the row index for the referenced variable
-                            int row = typeDefn.getRowIndexByColumnValue(tableInfo.getData(),
-                                                                        variableName.substring(varIndex + 1),
-                                                                        varNameIndex);
-
-                            // Check if the table contains the variable and if
-                            // the data type of the variable in the table
-                            // matches the data type in the path from the
-                            // custom values table
-                            if (row != -1
-                                && tableInfo.getData()[row][dataTypeIndex].equals(variableName.subSequence(variableName.lastIndexOf(",")
-                                                                                                           + 1,
-                                                                                                           varIndex)))
-                            {
-                                // Get the index of the column that will have
-                                // its data replaced
-                                int column = typeDefn.getColumnIndexByUserName(rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()));
-
-                                // Check if the table contains the column
-                                if (column != -1)
-                                {
-                                    // Replace the value in the table with the
-                                    // one from the custom values table
-                                    tableInfo.getData()[row][column] = rowData.getString(ValuesColumn.VALUE.getColumnName());
-                                }
-                            }
-                        }
+                        // Replace the prototype's value with the custom value
+                        applyCustomValue(tableInfo,
+                                         typeDefn,
+                                         varNameIndex,
+                                         dataTypeIndex,
+                                         rowData.getString(ValuesColumn.TABLE_PATH.getColumnName()),
+                                         rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
+                                         rowData.getString(ValuesColumn.VALUE.getColumnName()));
                     }
 
                     rowData.close();
@@ -2304,6 +2748,609 @@ public class CcddDbTableCommandHandler
         return tableInfo;
     }
 
+    /**************************************************************************
+     * Get the indices of the columns to retrieve when loading a table's data
+     *
+     * @param typeDefn
+     *            table's type definition
+     *
+     * @param columnNames
+     *            array of the (user) names of the columns to retrieve; null to
+     *            retrieve all columns
+     *
+     * @return List containing the indices, in ascending order, of the columns
+     *         to retrieve. The primary key, row index, variable name, and data
+     *         type columns are always included
+     *************************************************************************/
+    private List<Integer> getLoadColumnIndices(TypeDefinition typeDefn,
+                                               String[] columnNames)
+    {
+        List<Integer> columns = new ArrayList<Integer>();
+
+        // Step through each column in the table's type definition
+        for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
+        {
+            // Check if all columns are retrieved or if this is a column that's
+            // required to load the table
+            if (columnNames == null
+                || column < NUM_HIDDEN_COLUMNS
+                || typeDefn.getInputTypes()[column] == InputDataType.VARIABLE
+                || typeDefn.getInputTypes()[column] == InputDataType.PRIM_AND_STRUCT)
+            {
+                columns.add(column);
+            }
+        }
+
+        // Check if only the specified columns are retrieved
+        if (columnNames != null)
+        {
+            // Step through each specified column name
+            for (String columnName : columnNames)
+            {
+                // Get the column's index
+                int column = typeDefn.getColumnIndexByUserName(columnName);
+
+                // Check if the column exists and isn't already included
+                if (column != -1 && !columns.contains(column))
+                {
+                    columns.add(column);
+                }
+            }
+
+            Collections.sort(columns);
+        }
+
+        return columns;
+    }
+
+    /**************************************************************************
+     * Replace the value in a table instance's data with the corresponding
+     * value from the custom values table
+     *
+     * @param tableInfo
+     *            reference to the table's information
+     *
+     * @param typeDefn
+     *            table's type definition
+     *
+     * @param varNameIndex
+     *            index of the variable name column
+     *
+     * @param dataTypeIndex
+     *            index of the data type column
+     *
+     * @param valuePath
+     *            table path from the custom values table, ending with the
+     *            data type and variable name of the variable that will have
+     *            its value replaced
+     *
+     * @param columnName
+     *            name of the column that will have its value replaced
+     *
+     * @param value
+     *            custom value
+     *************************************************************************/
+    private void applyCustomValue(TableInformation tableInfo,
+                                  TypeDefinition typeDefn,
+                                  int varNameIndex,
+                                  int dataTypeIndex,
+                                  String valuePath,
+                                  String columnName,
+                                  String value)
+    {
+        // Get the index of the last data type/variable name separator
+        // character (if present)
+        int varIndex = valuePath.lastIndexOf(".");
+
+        // Check if a variable name exists
+        if (varIndex != -1)
+        {
+            // Get the row index for the referenced variable
+            int row = typeDefn.getRowIndexByColumnValue(tableInfo.getData(),
+                                                        valuePath.substring(varIndex + 1),
+                                                        varNameIndex);
+
+            // Check if the table contains the variable and if the data type of
+            // the variable in the table matches the data type in the path from
+            // the custom values table
+            if (row != -1
+                && tableInfo.getData()[row][dataTypeIndex].equals(valuePath.subSequence(valuePath.lastIndexOf(",")
+                                                                                        + 1,
+                                                                                        varIndex)))
+            {
+                // Get the index of the column that will have its data replaced
+                int column = typeDefn.getColumnIndexByUserName(columnName);
+
+                // Check if the table contains the column
+                if (column != -1)
+                {
+                    // Replace the value in the table with the one from the
+                    // custom values table
+                    tableInfo.getData()[row][column] = value;
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Perform the database queries to load the contents of multiple database
+     * tables. This produces the same table information as calling
+     * loadTableData() for each table path, but the prototype table rows, table
+     * comments, custom values, and (if requested) descriptions, column orders,
+     * and data fields are retrieved using a fixed number of queries
+     * independent of the number of tables. The prototype tables are read using
+     * one query per table type (per BATCH_LOAD_TABLE_LIMIT prototypes), and
+     * the prototype data is shared by all instances of the prototype. The data
+     * in each table is sorted in ascending numerical order based on the index
+     * (primary key) column
+     *
+     * @param tablePaths
+     *            list of table paths in the format
+     *            rootTable[,dataType1.variable1[,dataType2
+     *            .variable2[,...]]]
+     *
+     * @param rootStructures
+     *            list of root structure table names; null if none of the
+     *            tables are to be flagged as a root structure
+     *
+     * @param loadDescription
+     *            true to load the tables' descriptions
+     *
+     * @param loadColumnOrder
+     *            true to load the tables' column orders
+     *
+     * @param loadFieldInfo
+     *            true to retrieve the data field information to include with
+     *            the table information; false to not load the field
+     *            information
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return List of TableInformation references containing the table data
+     *         from the database, in the same order as the supplied table
+     *         paths. If a table's error flag is set then an error occurred and
+     *         its data is invalid
+     *************************************************************************/
+    protected List<TableInformation> loadTableDataBatch(List<String> tablePaths,
+                                                        List<String> rootStructures,
+                                                        boolean loadDescription,
+                                                        boolean loadColumnOrder,
+                                                        boolean loadFieldInfo,
+                                                        Component parent)
+    {
+        List<TableInformation> tableInfoList = new ArrayList<TableInformation>(tablePaths.size());
+        long startTime = System.currentTimeMillis();
+        long startCount = dbCommand.getStatementCount();
+
+        try
+        {
+            // Get the comments for all data tables and store them by the
+            // table's database name
+            Map<String, String[]> comments = new HashMap<String, String[]>();
+
+            for (String[] comment : queryDataTableComments(parent))
+            {
+                comments.put(comment[TableCommentIndex.NAME.ordinal()].toLowerCase(),
+                             getTableComment(comment[TableCommentIndex.NAME.ordinal()].toLowerCase(),
+                                             new String[][] {comment}));
+            }
+
+            // Create storage for the prototype table names, grouped by table
+            // type, and for the paths that reference instance tables
+            Map<String, List<String>> prototypesByType = new LinkedHashMap<String, List<String>>();
+            List<String> instancePaths = new ArrayList<String>();
+
+            // Step through each table path
+            for (String tablePath : tablePaths)
+            {
+                // Get the prototype's database name and comment
+                String dbTableName = TableInformation.getPrototypeName(tablePath).toLowerCase();
+                String[] comment = comments.get(dbTableName);
+
+                // Check if the table exists in the database
+                if (comment != null)
+                {
+                    // Get the list of prototypes for this table's type
+                    List<String> prototypes = prototypesByType.get(comment[TableCommentIndex.TYPE.ordinal()]);
+
+                    // Check if this is the first table of this type
+                    if (prototypes == null)
+                    {
+                        // Create the list for the prototypes of this type
+                        prototypes = new ArrayList<String>();
+                        prototypesByType.put(comment[TableCommentIndex.TYPE.ordinal()],
+                                             prototypes);
+                    }
+
+                    // Check if the prototype isn't already in the list
+                    if (!prototypes.contains(dbTableName))
+                    {
+                        prototypes.add(dbTableName);
+                    }
+
+                    // Check if the path references an instance table
+                    if (tablePath.contains(","))
+                    {
+                        instancePaths.add(tablePath);
+                    }
+                }
+            }
+
+            // Create storage for each prototype's rows, stored by the table's
+            // database name
+            Map<String, List<String[]>> prototypeRows = new HashMap<String, List<String[]>>();
+
+            // Step through each table type referenced by the table paths
+            for (Entry<String, List<String>> typeEntry : prototypesByType.entrySet())
+            {
+                // Get the table type definition for the tables of this type
+                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(typeEntry.getKey());
+
+                // Get a comma-separated list of the columns for this table
+                // type
+                String columnNames = CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabase());
+
+                // Step through the prototypes of this type, combining up to
+                // the maximum number of tables into a single query
+                for (int start = 0; start < typeEntry.getValue().size(); start += BATCH_LOAD_TABLE_LIMIT)
+                {
+                    StringBuilder command = new StringBuilder();
+
+                    // Step through each prototype in this group
+                    for (String dbTableName : typeEntry.getValue().subList(start,
+                                                                             Math.min(start
+                                                                                      + BATCH_LOAD_TABLE_LIMIT,
+                                                                                      typeEntry.getValue().size())))
+                    {
+                        // Add the query for this table's rows. The table name
+                        // is included in order to separate the results. Every
+                        // table of the same type has the same columns so the
+                        // queries can be combined
+                        command.append(command.length() == 0
+                                                             ? "SELECT "
+                                                             : " UNION ALL SELECT ")
+                               .append("'")
+                               .append(dbTableName)
+                               .append("' AS batch_table, ")
+                               .append(columnNames)
+                               .append(" FROM ")
+                               .append(dbTableName);
+
+                        // Create the storage for the table's rows
+                        prototypeRows.put(dbTableName, new ArrayList<String[]>());
+                    }
+
+                    command.append(" ORDER BY batch_table, ")
+                           .append(DefaultColumn.ROW_INDEX.getDbName())
+                           .append(";");
+
+                    // Get the tables' row information for the specified
+                    // columns
+                    ResultSet rowData = dbCommand.executeDbQuery(command.toString(),
+                                                                 parent);
+
+                    // Step through each of the query results
+                    while (rowData.next())
+                    {
+                        // Create an array to contain the column values
+                        String[] columnValues = new String[typeDefn.getColumnCountDatabase()];
+
+                        // Step through each column in the row
+                        for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
+                        {
+                            // Add the column value to the array. The first
+                            // query column is the table name, and the first
+                            // column's index in the database is 1, not 0
+                            columnValues[column] = rowData.getString(column + 2);
+
+                            // Check if the value is null
+                            if (columnValues[column] == null)
+                            {
+                                // Replace the null with a blank
+                                columnValues[column] = "";
+                            }
+                        }
+
+                        // Add the row data to the table's list
+                        prototypeRows.get(rowData.getString(1)).add(columnValues);
+                    }
+
+                    rowData.close();
+                }
+            }
+
+            // Create storage for the custom values, stored by the path of the
+            // table instance to which the values belong
+            Map<String, List<String[]>> customValues = new HashMap<String, List<String[]>>();
+
+            // Check if any of the paths references an instance table
+            if (!instancePaths.isEmpty())
+            {
+                StringBuilder pathList = new StringBuilder();
+
+                // Step through each instance table path
+                for (String instancePath : instancePaths)
+                {
+                    // Add the path to the list of paths to match, delimited
+                    // in case it contains quotes or backslashes
+                    pathList.append(delimitText(instancePath)).append(", ");
+                }
+
+                // Get the custom values for the table cells in the instance
+                // tables. The parent path expression matches the custom
+                // values table's index so that only the rows belonging to the
+                // instances are read
+                ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
+                                                             + InternalTable.VALUES.getTableName()
+                                                             + " WHERE "
+                                                             + VALUES_PARENT_PATH
+                                                             + " IN ("
+                                                             + CcddUtilities.removeTrailer(pathList.toString(),
+                                                                                           ", ")
+                                                             + ") AND "
+                                                             + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                             + " != '';",
+                                                             parent);
+
+                // Step through each of the query results
+                while (rowData.next())
+                {
+                    // Get the path of the variable that has its value
+                    // replaced, and the separator between the variable and
+                    // the path of the table instance containing it
+                    String valuePath = rowData.getString(ValuesColumn.TABLE_PATH.getColumnName());
+                    int pathIndex = valuePath.lastIndexOf(",");
+
+                    // Check if the variable is in a table instance
+                    if (pathIndex != -1)
+                    {
+                        // Get the list of custom values for the table instance
+                        String instancePath = valuePath.substring(0, pathIndex);
+                        List<String[]> values = customValues.get(instancePath);
+
+                        // Check if this is the first value for this instance
+                        if (values == null)
+                        {
+                            // Create the list for the instance's values
+                            values = new ArrayList<String[]>();
+                            customValues.put(instancePath, values);
+                        }
+
+                        // Add the custom value to the instance's list
+                        values.add(new String[] {valuePath,
+                                                 rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
+                                                 rowData.getString(ValuesColumn.VALUE.getColumnName())});
+                    }
+                }
+
+                rowData.close();
+            }
+
+            // Create storage for the table descriptions, stored by table path
+            Map<String, String> descriptions = new HashMap<String, String>();
+
+            // Check if the descriptions are to be loaded
+            if (loadDescription)
+            {
+                // Step through each table description
+                for (String[] description : queryTableDescriptions(parent))
+                {
+                    // Check that the description is present
+                    if (description.length == 2)
+                    {
+                        descriptions.put(description[0], description[1].trim());
+                    }
+                }
+            }
+
+            // Create storage for the current user's table column orders, stored
+            // by table path
+            Map<String, String> columnOrders = new HashMap<String, String>();
+
+            // Check if the column orders are to be loaded
+            if (loadColumnOrder)
+            {
+                // Get the current user's column order for every table
+                ResultSet orderData = dbCommand.executeDbQuery("SELECT "
+                                                               + OrdersColumn.TABLE_PATH.getColumnName()
+                                                               + ", "
+                                                               + OrdersColumn.COLUMN_ORDER.getColumnName()
+                                                               + " FROM "
+                                                               + InternalTable.ORDERS.getTableName()
+                                                               + " WHERE "
+                                                               + OrdersColumn.USER_NAME.getColumnName()
+                                                               + " = '"
+                                                               + dbControl.getUser()
+                                                               + "';",
+                                                               parent);
+
+                // Step through each of the query results
+                while (orderData.next())
+                {
+                    columnOrders.put(orderData.getString(1),
+                                     orderData.getString(2));
+                }
+
+                orderData.close();
+            }
+
+            // Check if the data field information is requested
+            if (loadFieldInfo)
+            {
+                // Load the data fields table once for all of the tables. Each
+                // table's fields are then obtained from the project snapshot's
+                // owner index
+                retrieveInformationTable(InternalTable.FIELDS, parent);
+            }
+
+            // Step through each table path
+            for (String tablePath : tablePaths)
+            {
+                // Get the prototype's database name and comment
+                String dbTableName = TableInformation.getPrototypeName(tablePath).toLowerCase();
+                String[] comment = comments.get(dbTableName);
+
+                // Check if the table doesn't exist in the database
+                if (comment == null)
+                {
+                    // Add an information reference with the error flag set
+                    tableInfoList.add(new TableInformation(tablePath));
+                    continue;
+                }
+
+                // Get the table type definition for this table
+                String tableType = comment[TableCommentIndex.TYPE.ordinal()];
+                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableType);
+
+                // Copy the prototype's rows so that custom values applied to
+                // this table don't alter the data for other instances
+                List<String[]> protoRows = prototypeRows.get(dbTableName);
+                String[][] tableData = new String[protoRows.size()][];
+
+                for (int row = 0; row < protoRows.size(); row++)
+                {
+                    tableData[row] = Arrays.copyOf(protoRows.get(row),
+                                                   protoRows.get(row).length);
+                }
+
+                // Get the description for the table; use the prototype's
+                // description if the instance's is missing or blank, as when
+                // the description is queried for a single table
+                String description = "";
+
+                if (loadDescription)
+                {
+                    description = descriptions.get(tablePath);
+
+                    if ((description == null || description.isEmpty())
+                        && tablePath.contains(","))
+                    {
+                        description = descriptions.get(TableInformation.getPrototypeName(tablePath));
+                    }
+
+                    if (description == null)
+                    {
+                        description = "";
+                    }
+                }
+
+                // Get the column order for the table; use the default order
+                // for the table's type if none is stored
+                String columnOrder = "";
+
+                if (loadColumnOrder)
+                {
+                    columnOrder = columnOrders.get(tablePath);
+
+                    if (columnOrder == null)
+                    {
+                        columnOrder = tableTypeHandler.getDefaultColumnOrder(tableType);
+                    }
+                }
+
+                // Create the table information handler for this table
+                TableInformation tableInfo = new TableInformation(tableType,
+                                                                  tablePath,
+                                                                  tableData,
+                                                                  columnOrder,
+                                                                  description,
+                                                                  rootStructures != null
+                                                                               && rootStructures.contains(tablePath),
+                                                                  loadFieldInfo
+                                                                                ? retrieveFieldDefinitions(tablePath,
+                                                                                                           parent).toArray(new String[0][0])
+                                                                                : null);
+
+                // Get the index of the variable name and data type columns
+                int varNameIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+                int dataTypeIndex = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
+
+                // Check if the variable name and data type columns exist, and
+                // if the table has a path. If so it may have values in the
+                // custom values table that must be applied
+                if (varNameIndex != -1
+                    && dataTypeIndex != -1
+                    && tablePath.contains(",")
+                    && customValues.containsKey(tablePath))
+                {
+                    // Step through each custom value for this table instance
+                    for (String[] value : customValues.get(tablePath))
+                    {
+                        // Replace the prototype's value with the custom value
+                        applyCustomValue(tableInfo,
+                                         typeDefn,
+                                         varNameIndex,
+                                         dataTypeIndex,
+                                         value[0],
+                                         value[1],
+                                         value[2]);
+                    }
+                }
+
+                tableInfoList.add(tableInfo);
+            }
+
+            // Log the number of tables loaded, the number of database queries
+            // executed, and the elapsed time
+            eventLog.logEvent(STATUS_MSG,
+                              "Loaded "
+                                          + tablePaths.size()
+                                          + " table(s) using "
+                                          + (dbCommand.getStatementCount() - startCount)
+                                          + " database queries in "
+                                          + (System.currentTimeMillis() - startTime)
+                                          + " msec");
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that loading the tables failed
+            eventLog.logFailEvent(parent,
+                                  "Cannot load tables; cause '"
+                                          + se.getMessage()
+                                          + "'",
+                                  "<html><b>Cannot load tables");
+
+            // Flag every table as having failed to load
+            flagTablesNotLoaded(tableInfoList, tablePaths);
+        }
+        catch (Exception e)
+        {
+            // Display a dialog providing details on the unanticipated error
+            CcddUtilities.displayException(e, parent);
+
+            // Flag every table as having failed to load
+            flagTablesNotLoaded(tableInfoList, tablePaths);
+        }
+
+        return tableInfoList;
+    }
+
+    /**************************************************************************
+     * Replace the contents of the table information list with a reference for
+     * each table path that has the error flag set. This is used when loading
+     * the tables fails so that the list's members still correspond to the
+     * table paths by position
+     *
+     * @param tableInfoList
+     *            list of table information references
+     *
+     * @param tablePaths
+     *            list of table paths
+     *************************************************************************/
+    private void flagTablesNotLoaded(List<TableInformation> tableInfoList,
+                                     List<String> tablePaths)
+    {
+        tableInfoList.clear();
+
+        // Step through each table path
+        for (String tablePath : tablePaths)
+        {
+            // Add an information reference with the error flag set
+            tableInfoList.add(new TableInformation(tablePath));
+        }
+    }
+
     /**************************************************************************
      * Perform the database query to load the rows from the custom values table
      * that match the specified column name and column value
@@ -2318,61 +3365,67 @@ public class CcddDbTableCommandHandler
      * @param parent
      *            GUI component calling this method
      *
-     * @return List containing arrays with the row data (table path, column
-     *         name, and value) from the custom values table for those rows
-     *         that match the specified column name and column value
+     * @return Read-only list containing arrays with the row data (table
+     *         path, column name, and value) from the custom values table for
+     *         those rows that match the specified column name and column
+     *         value
      *************************************************************************/
     protected List<String[]> getCustomValues(String columnName,
                                              String columnValue,
                                              Component parent)
     {
-        List<String[]> customValues = new ArrayListMultiple();
+        // Get the rows for the column name from the project snapshot's
+        // column name index
+        List<String[]> columnRows = snapshot.getCustomValues(columnName);
 
-        try
+        // Check if the custom values table isn't stored in the snapshot
+        if (columnRows == null)
         {
-            // Get the row data from the custom values table for all
-            // columns
-            // with a matching column name and column value
-            ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
-                                                         + InternalTable.VALUES.getTableName()
-                                                         + " WHERE "
-                                                         + ValuesColumn.COLUMN_NAME.getColumnName()
-                                                         + " = '"
-                                                         + columnName
-                                                         + "'"
-                                                         + (columnValue == null
-                                                            || columnValue.isEmpty()
-                                                                                     ? ""
-                                                                                     : " AND "
-                                                                                       + ValuesColumn.VALUE.getColumnName()
-                                                                                       + " = '"
-                                                                                       + columnValue
-                                                                                       + "'")
-                                                         + ";",
-                                                         parent);
+            // Load the custom values table; this stores it in the snapshot
+            List<String[]> values = retrieveInformationTable(InternalTable.VALUES,
+                                                             parent);
 
-            // Step through each of the query results
-            while (rowData.next())
+            // Get the rows for the column name from the project snapshot
+            columnRows = snapshot.getCustomValues(columnName);
+
+            // Check if the table couldn't be stored in the snapshot (e.g., a
+            // change was made while it was loading)
+            if (columnRows == null)
             {
-                // Add the row data from the matching row to the array list
-                customValues.add(new String[] {rowData.getString(ValuesColumn.TABLE_PATH.getColumnName()),
-                                               rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
-                                               rowData.getString(ValuesColumn.VALUE.getColumnName())});
-            }
+                columnRows = new ArrayList<String[]>();
 
-            rowData.close();
+                // Step through each row in the custom values table
+                for (String[] row : values)
+                {
+                    // Check if the column name matches
+                    if (row[ValuesColumn.COLUMN_NAME.ordinal()].equals(columnName))
+                    {
+                        columnRows.add(row);
+                    }
+                }
+            }
         }
-        catch (SQLException se)
+
+        List<String[]> customValues = columnRows;
+
+        // Check if a column value is specified
+        if (columnValue != null && !columnValue.isEmpty())
         {
-            // Inform the user that loading the custom values failed
-            eventLog.logFailEvent(parent,
-                                  "Cannot load data from the custom values table; cause '"
-                                          + se.getMessage()
-                                          + "'",
-                                  "<html><b>Cannot load data from the custom values table");
+            customValues = new ArrayList<String[]>();
+
+            // Step through each row for the column name
+            for (String[] row : columnRows)
+            {
+                // Check if the value matches
+                if (row[ValuesColumn.VALUE.ordinal()].equals(columnValue))
+                {
+                    // Add the row data from the matching row to the list
+                    customValues.add(row);
+                }
+            }
         }
 
-        return customValues;
+        return Collections.unmodifiableList(customValues);
     }
 
     /**************************************************************************
@@ -2414,11 +3467,67 @@ public class CcddDbTableCommandHandler
     }
 
     /**************************************************************************
-     * Create a list of all prototype tables with their child tables
-     * (prototypes and instances), and primitive variables (if specified). The
-     * table must contain all of the protected columns defined for a structure
-     * in order for its members to be determined. Non-structure tables are
-     * included in the returned list, but by definition have no members
+     * Create a list of all prototype tables with their child tables
+     * (prototypes and instances), and primitive variables (if specified). The
+     * table must contain all of the protected columns defined for a structure
+     * in order for its members to be determined. Non-structure tables are
+     * included in the returned list, but by definition have no members
+     *
+     * @param memberType
+     *            Type of table members to load: TABLES_ONLY to exclude
+     *            primitive variables or INCLUDE_PRIMITIVES to include tables
+     *            and primitive variables
+     *
+     * @param sortByName
+     *            true to return the table members in alphabetical order (e.g.,
+     *            for use in a tree); false to return the members sorted by row
+     *            index (e.g., for use in determining the variable offsets in
+     *            the structure)
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return List containing the table member information. For structure
+     *         tables the member tables are included, along with primitive
+     *         variables (if specified), sorted by variable name or row index
+     *         as specified
+     *************************************************************************/
+    protected List<TableMembers> loadTableMembers(TableMemberType memberType,
+                                                  boolean sortByName,
+                                                  final Component parent)
+    {
+        // Get the table members from the project snapshot
+        List<TableMembers> tableMembers = snapshot.getTableMembers(memberType,
+                                                                   sortByName);
+
+        // Check if the members aren't stored in the snapshot
+        if (tableMembers == null)
+        {
+            // Get the snapshot revision prior to querying the database
+            long revision = snapshot.getRevision();
+
+            // Load the table members from the database
+            tableMembers = loadTableMembersFromDatabase(memberType,
+                                                        sortByName,
+                                                        parent);
+
+            // Check if the members loaded successfully
+            if (tableMembers != null)
+            {
+                // Store the members in the project snapshot
+                snapshot.setTableMembers(memberType,
+                                         sortByName,
+                                         tableMembers,
+                                         revision);
+            }
+        }
+
+        return tableMembers;
+    }
+
+    /**************************************************************************
+     * Load the list of all prototype tables with their child tables and
+     * primitive variables (if specified) from the database
      *
      * @param memberType
      *            Type of table members to load: TABLES_ONLY to exclude
@@ -2426,22 +3535,18 @@ public class CcddDbTableCommandHandler
      *            and primitive variables
      *
      * @param sortByName
-     *            true to return the table members in alphabetical order (e.g.,
-     *            for use in a tree); false to return the members sorted by row
-     *            index (e.g., for use in determining the variable offsets in
-     *            the structure)
+     *            true to return the table members in alphabetical order;
+     *            false to return the members sorted by row index
      *
      * @param parent
      *            GUI component calling this method
      *
-     * @return List containing the table member information. For structure
-     *         tables the member tables are included, along with primitive
-     *         variables (if specified), sorted by variable name or row index
-     *         as specified
+     * @return List containing the table member information; null if an error
+     *         occurs loading the members
      *************************************************************************/
-    protected List<TableMembers> loadTableMembers(TableMemberType memberType,
-                                                  boolean sortByName,
-                                                  final Component parent)
+    private List<TableMembers> loadTableMembersFromDatabase(TableMemberType memberType,
+                                                            boolean sortByName,
+                                                            final Component parent)
     {
         List<TableMembers> tableMembers = new ArrayList<TableMembers>();
 
@@ -2453,17 +3558,22 @@ public class CcddDbTableCommandHandler
             // Get the comments for all data tables
             String[][] comments = queryDataTableComments(parent);
 
-            // Get the table members of all structure tables by extracting the
-            // values from the table's data type and variable name columns, if
-            // present, sorted by variable name or table index. Non-structure
-            // tables and structure tables with no rows are skipped. The
-            // information returned by the PostgreSQL function also returns the
-            // bit length, rate(s), and enumeration(s) for each member; the
-            // enumeration information currently isn't used
-            ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
+            // Get the table members of all structure tables from the table
+            // member catalog, sorted by table name and then by variable name
+            // or table index. The catalog contains the values from each
+            // structure table's data type and variable name columns;
+            // non-structure tables and structure tables with no rows aren't
+            // included. The catalog also contains the bit length, rate(s),
+            // and enumeration(s) for each member; the enumeration information
+            // currently isn't used
+            ResultSet rowData = dbCommand.executeDbQuery("SELECT tbl_name, data_type, "
+                                                         + "variable_name, bit_length, "
+                                                         + "rate, enumeration FROM "
+                                                         + MEMBER_CATALOG_TABLE
+                                                         + " ORDER BY tbl_name, "
                                                          + (sortByName
-                                                                       ? "get_table_members_by_name();"
-                                                                       : "get_table_members_by_index();"),
+                                                                       ? "variable_name;"
+                                                                       : "member_index;"),
                                                          parent);
 
             // Create a list to contain the database table member data types,
@@ -2900,27 +4010,41 @@ public class CcddDbTableCommandHandler
                 }
             }
 
+            // Create storage for the parameterized commands that add,
+            // modify, and delete the table rows and the instance table custom
+            // values, and for those that update the references to the table's
+            // variables in the internal tables. These are executed as prepared
+            // statement batches
+            List<BatchCommand> rowCommands = new ArrayList<BatchCommand>();
+            List<BatchCommand> internalCommands = new ArrayList<BatchCommand>();
+
             // Build the commands to add, modify, and delete table rows
-            String command = buildAdditionCommand(tableInfo,
-                                                  additions,
-                                                  dbTableName,
-                                                  typeDefinition,
-                                                  rootTables,
-                                                  skipInternalTables)
-                             + buildModificationCommand(tableInfo,
-                                                        modifications,
-                                                        typeDefinition,
-                                                        newDataTypeHandler,
-                                                        newMacroHandler,
-                                                        tableTree,
-                                                        rootTables,
-                                                        skipInternalTables)
-                             + buildDeletionCommand(tableInfo,
-                                                    deletions,
-                                                    dbTableName,
-                                                    typeDefinition,
-                                                    tableTree,
-                                                    skipInternalTables);
+            buildAdditionCommand(tableInfo,
+                                 additions,
+                                 dbTableName,
+                                 typeDefinition,
+                                 rootTables,
+                                 skipInternalTables,
+                                 rowCommands,
+                                 internalCommands);
+            buildModificationCommand(tableInfo,
+                                     modifications,
+                                     typeDefinition,
+                                     newDataTypeHandler,
+                                     newMacroHandler,
+                                     tableTree,
+                                     rootTables,
+                                     skipInternalTables,
+                                     rowCommands,
+                                     internalCommands);
+            buildDeletionCommand(tableInfo,
+                                 deletions,
+                                 dbTableName,
+                                 typeDefinition,
+                                 tableTree,
+                                 skipInternalTables,
+                                 rowCommands,
+                                 internalCommands);
 
             // Get the table's description
             String description = tableInfo.getDescription();
@@ -2936,19 +4060,61 @@ public class CcddDbTableCommandHandler
                 description = "";
             }
 
-            // Combine the table, data fields table, table description, and
-            // column order update commands, then execute the commands
-            dbCommand.executeDbUpdate(command
-                                      + (updateFieldInfo ? modifyFieldsCommand(tableInfo.getTablePath(),
-                                                                               tableInfo.getFieldHandler().getFieldInformation())
-                                                         : "")
-                                      + (updateDescription ? buildTableDescription(tableInfo.getTablePath(),
-                                                                                   description)
-                                                           : "")
-                                      + (updateColumnOrder ? buildColumnOrder(tableInfo.getTablePath(),
-                                                                              tableInfo.getColumnOrder())
-                                                           : ""),
-                                      parent);
+            // Add the internal table update commands, then combine the data
+            // fields table, table description, and column order update
+            // commands. These follow the table row commands so that the
+            // member catalog is refreshed using the updated rows
+            rowCommands.addAll(internalCommands);
+            rowCommands.add(new BatchCommand((updateFieldInfo ? modifyFieldsCommand(tableInfo.getTablePath(),
+                                                                                      tableInfo.getFieldHandler().getFieldInformation())
+                                                                : "")
+                                             + (updateDescription ? buildTableDescription(tableInfo.getTablePath(),
+                                                                                          description)
+                                                                  : "")
+                                             + (updateColumnOrder ? buildColumnOrder(tableInfo.getTablePath(),
+                                                                                     tableInfo.getColumnOrder())
+                                                                  : "")
+                                             + (tableInfo.isPrototype()
+                                                && typeDefinition.isStructure()
+                                                                                ? refreshMemberCatalogCommand(dbTableName)
+                                                                                : "")));
+
+            long startTime = System.currentTimeMillis();
+
+            // Execute the commands as a single change
+            dbCommand.executeDbBatchUpdate(rowCommands, parent);
+
+            // Log the number of rows changed and the time needed to store the
+            // changes
+            int numRows = additions.size() + modifications.size() + deletions.size();
+            long elapsed = Math.max(System.currentTimeMillis() - startTime, 1);
+            eventLog.logEvent(STATUS_MSG,
+                              "Stored "
+                                          + numRows
+                                          + " row change(s) to table '"
+                                          + tableInfo.getProtoVariableName()
+                                          + "' in "
+                                          + elapsed
+                                          + " msec ("
+                                          + (numRows * 1000L / elapsed)
+                                          + " rows/sec)");
+
+            // Update the project snapshot's data fields, custom values (and
+            // the table descriptions stored in them), and, if the internal
+            // table references to the table's variables are updated, groups
+            // that refer to the table. Every path that refers to the table or
+            // one of its variables includes the prototype's name, so only the
+            // rows containing it are reloaded. The table members change only
+            // if the table is a structure prototype
+            patchSnapshotReferences(new String[] {tableInfo.getPrototypeName()},
+                                    skipInternalTables
+                                                       ? new InternalTable[] {InternalTable.FIELDS,
+                                                                              InternalTable.VALUES}
+                                                       : new InternalTable[] {InternalTable.FIELDS,
+                                                                              InternalTable.GROUPS,
+                                                                              InternalTable.VALUES},
+                                    tableInfo.isPrototype() && typeDefinition.isStructure(),
+                                    parent);
 
             // Check if references in the internal tables are to be updated
             if (!skipInternalTables && typeDefinition.isStructure())
@@ -2960,9 +4126,9 @@ public class CcddDbTableCommandHandler
                     // Build the command delete bit-packed variable references
                     // in the links and telemetry scheduler tables that changed
                     // due to the table modifications
-                    command = updateLinksAndTlmForPackingChange(tableTree,
-                                                                orgTableNode,
-                                                                parent);
+                    String command = updateLinksAndTlmForPackingChange(tableTree,
+                                                                       orgTableNode,
+                                                                       parent);
 
                     // Check if there are any bit-packed variable references to
                     // delete
@@ -2987,6 +4153,11 @@ public class CcddDbTableCommandHandler
                 // Execute the command to reset the rate for links that no
                 // longer contain any variables
                 dbCommand.executeDbQuery("SELECT reset_link_rate();", parent);
+
+                // Discard the project snapshot's links since the link
+                // references to the table's variables are updated and the
+                // rate reset can alter any link
+                snapshot.invalidateInformationTable(InternalTable.LINKS);
             }
 
             // Check if this is a prototype table and that new rows were added.
@@ -3084,41 +4255,56 @@ public class CcddDbTableCommandHandler
      *            only the data type name has changed in order to speed up the
      *            operation
      *
-     * @return Table row addition command
+     * @param rowCommands
+     *            list to which the parameterized command to insert the table
+     *            rows is added
+     *
+     * @param internalCommands
+     *            list to which the parameterized commands to update the
+     *            internal tables for the row additions are added
      *************************************************************************/
-    private String buildAdditionCommand(TableInformation tableInfo,
-                                        List<TableModification> additions,
-                                        String dbTableName,
-                                        TypeDefinition typeDefn,
-                                        List<String> rootTables,
-                                        boolean skipInternalTables)
+    private void buildAdditionCommand(TableInformation tableInfo,
+                                      List<TableModification> additions,
+                                      String dbTableName,
+                                      TypeDefinition typeDefn,
+                                      List<String> rootTables,
+                                      boolean skipInternalTables,
+                                      List<BatchCommand> rowCommands,
+                                      List<BatchCommand> internalCommands)
     {
-        StringBuilder addCmd = new StringBuilder("");
-
         // Check if there are any table additions
         if (!additions.isEmpty())
         {
             List<String> stringArrays = new ArrayList<String>();
-            StringBuilder valuesAddCmd = new StringBuilder("");
-            StringBuilder groupsAddCmd = new StringBuilder("");
-            StringBuilder fieldsAddCmd = new StringBuilder("");
-            StringBuilder ordersAddCmd = new StringBuilder("");
-            StringBuilder assnsAddCmd = new StringBuilder("");
-            StringBuilder linksDelCmd = new StringBuilder("");
-            StringBuilder tlmDelCmd = new StringBuilder("");
-
-            // Create the insert table data command. The array of column names
-            // is converted to a string
-            addCmd.append("INSERT INTO "
-                          + dbTableName
-                          + " ("
-                          + CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabase())
-                          + ") VALUES ");
+            List<BatchCommand> valuesAddCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> groupsAddCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> fieldsAddCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> ordersAddCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> assnsAddCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> linksDelCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> tlmDelCmds = new ArrayList<BatchCommand>();
+
+            List<Object[]> rowValues = new ArrayList<Object[]>();
+            StringBuilder columnNames = new StringBuilder();
+            StringBuilder placeholders = new StringBuilder();
+
+            // Step through each column in the table
+            for (int column = 0; column < typeDefn.getColumnNamesDatabase().length; column++)
+            {
+                // Check that this isn't the primary key column. The primary
+                // key value is generated by the database
+                if (column != DefaultColumn.PRIMARY_KEY.ordinal())
+                {
+                    // Add the column name and its value placeholder
+                    columnNames.append(typeDefn.getColumnNamesDatabase()[column] + ", ");
+                    placeholders.append("?, ");
+                }
+            }
 
             // Step through each addition
             for (TableModification add : additions)
             {
-                addCmd.append("(DEFAULT, ");
+                List<Object> values = new ArrayList<Object>();
 
                 // For each column in the matching row
                 for (int column = 0; column < add.getRowData().length; column++)
@@ -3126,15 +4312,13 @@ public class CcddDbTableCommandHandler
                     // Check that this isn't the primary key column
                     if (column != DefaultColumn.PRIMARY_KEY.ordinal())
                     {
-                        // Append the column value
-                        addCmd.append(delimitText(add.getRowData()[column]) + ", ");
+                        // Add the column value
+                        values.add(add.getRowData()[column]);
                     }
                 }
 
-                // Remove the ending comma and space, append the closing
-                // parenthesis, and add the command to add this row
-                addCmd = CcddUtilities.removeTrailer(addCmd, ", ");
-                addCmd.append("), ");
+                // Add the row's values to the insert command's parameters
+                rowValues.add(values.toArray());
 
                 // Check if internal tables are to be updated and the parent
                 // table is a structure
@@ -3163,81 +4347,53 @@ public class CcddDbTableCommandHandler
                         // are transferred to its new parent structure.
                         // References in the other internal tables are also
                         // changed to the structure's new path as a child
-                        valuesAddCmd.append("UPDATE "
-                                            + InternalTable.VALUES.getTableName()
-                                            + " SET "
-                                            + ValuesColumn.TABLE_PATH.getColumnName()
-                                            + " = regexp_replace("
-                                            + ValuesColumn.TABLE_PATH.getColumnName()
-                                            + ", E'^"
-                                            + dataType
-                                            + ",', E'"
-                                            + newVariablePath
-                                            + ",'); ");
-                        groupsAddCmd.append("UPDATE "
-                                            + InternalTable.GROUPS.getTableName()
-                                            + " SET "
-                                            + GroupsColumn.MEMBERS.getColumnName()
-                                            + " = regexp_replace("
-                                            + GroupsColumn.MEMBERS.getColumnName()
-                                            + ", E'^"
-                                            + dataType
-                                            + "(,|$)', E'"
-                                            + newVariablePath
-                                            + "\\\\1'); ");
-                        fieldsAddCmd.append("UPDATE "
-                                            + InternalTable.FIELDS.getTableName()
-                                            + " SET "
-                                            + FieldsColumn.OWNER_NAME.getColumnName()
-                                            + " = regexp_replace("
-                                            + FieldsColumn.OWNER_NAME.getColumnName()
-                                            + ", E'^"
-                                            + dataType
-                                            + "(,|$)', E'"
-                                            + newVariablePath
-                                            + "\\\\1'); ");
-                        ordersAddCmd.append("UPDATE "
-                                            + InternalTable.ORDERS.getTableName()
-                                            + " SET "
-                                            + OrdersColumn.TABLE_PATH.getColumnName()
-                                            + " = regexp_replace("
-                                            + OrdersColumn.TABLE_PATH.getColumnName()
-                                            + ", E'^"
-                                            + dataType
-                                            + "(,|$)', E'"
-                                            + newVariablePath
-                                            + "\\\\1'); ");
+                        addPathUpdateCommand(valuesAddCmds,
+                                             InternalTable.VALUES.getTableName(),
+                                             ValuesColumn.TABLE_PATH.getColumnName(),
+                                             "^" + dataType + ",",
+                                             newVariablePath + ",");
+                        addPathUpdateCommand(groupsAddCmds,
+                                             InternalTable.GROUPS.getTableName(),
+                                             GroupsColumn.MEMBERS.getColumnName(),
+                                             "^" + dataType + "(,|$)",
+                                             newVariablePath + "\\\\1");
+                        addPathUpdateCommand(fieldsAddCmds,
+                                             InternalTable.FIELDS.getTableName(),
+                                             FieldsColumn.OWNER_NAME.getColumnName(),
+                                             "^" + dataType + "(,|$)",
+                                             newVariablePath + "\\\\1");
+                        addPathUpdateCommand(ordersAddCmds,
+                                             InternalTable.ORDERS.getTableName(),
+                                             OrdersColumn.TABLE_PATH.getColumnName(),
+                                             "^" + dataType + "(,|$)",
+                                             newVariablePath + "\\\\1");
                         String orgPathWithChildren = dataType
                                                      + "(,"
                                                      + PATH_IDENT
                                                      + ")?";
-                        assnsAddCmd.append("UPDATE "
-                                           + InternalTable.ASSOCIATIONS.getTableName()
-                                           + " SET "
-                                           + AssociationsColumn.MEMBERS.getColumnName()
-                                           + " = regexp_replace("
-                                           + AssociationsColumn.MEMBERS.getColumnName()
-                                           + ", E'(?:^"
-                                           + orgPathWithChildren
-                                           + "|("
-                                           + assnsSeparator
-                                           + ")"
-                                           + orgPathWithChildren
-                                           + ")', E'\\\\2"
-                                           + newVariablePath
-                                           + "\\\\1\\\\3', 'g'); ");
+                        addAssociationUpdateCommand(assnsAddCmds,
+                                                    "(?:^"
+                                                                   + orgPathWithChildren
+                                                                   + "|("
+                                                                   + assnsSeparator
+                                                                   + ")"
+                                                                   + orgPathWithChildren
+                                                                   + ")",
+                                                    "\\\\2"
+                                                                   + newVariablePath
+                                                                   + "\\\\1\\\\3");
 
                         // References in the links and telemetry scheduler to
                         // the root structure and its children are not
                         // automatically amended to include the new parent
                         // structure path, but are instead removed
-                        linksDelCmd = deleteLinkPathRef("^"
-                                                        + dataType
-                                                        + "(?:,|\\\\.|$)",
-                                                        linksDelCmd);
-                        tlmDelCmd = deleteTlmPathRef(dataType
-                                                     + "(?:,|\\\\.|$)",
-                                                     tlmDelCmd);
+                        deleteLinkPathRef("^"
+                                          + dataType
+                                          + "(?:,|\\\\.|$)",
+                                          linksDelCmds);
+                        deleteTlmPathRef(dataType
+                                         + "(?:,|\\\\.|$)",
+                                         tlmDelCmds);
                     }
 
                     // Check if the added variable is a string array member
@@ -3264,42 +4420,33 @@ public class CcddDbTableCommandHandler
 
                             // Remove all references to the string array from
                             // the telemetry scheduler table
-                            tlmDelCmd = deleteTlmPathRef(stringArrayDefn
-                                                         + "(?:,|:|$)",
-                                                         tlmDelCmd);
+                            deleteTlmPathRef(stringArrayDefn
+                                             + "(?:,|:|$)",
+                                             tlmDelCmds);
                         }
                     }
                 }
             }
 
-            // Check if a change to the links table exists
-            if (linksDelCmd.length() != 0)
-            {
-                // Terminate the command
-                linksDelCmd.append("; ");
-            }
-
-            // Check if a change to the telemetry scheduler table exists
-            if (tlmDelCmd.length() != 0)
-            {
-                // Terminate the command
-                tlmDelCmd.append("; ");
-            }
-
-            // Remove the ending comma and space, and append the command's
-            // closing semi-colon
-            addCmd = CcddUtilities.removeTrailer(addCmd, ", ");
-            addCmd.append("; "
-                          + valuesAddCmd.toString()
-                          + groupsAddCmd.toString()
-                          + fieldsAddCmd.toString()
-                          + ordersAddCmd.toString()
-                          + assnsAddCmd.toString()
-                          + linksDelCmd.toString()
-                          + tlmDelCmd.toString());
+            // Add the command to insert the table rows
+            rowCommands.add(new BatchCommand("INSERT INTO "
+                                             + dbTableName
+                                             + " ("
+                                             + CcddUtilities.removeTrailer(columnNames.toString(), ", ")
+                                             + ") VALUES ("
+                                             + CcddUtilities.removeTrailer(placeholders.toString(), ", ")
+                                             + ")",
+                                             rowValues));
+
+            // Add the commands to update the internal tables
+            internalCommands.addAll(valuesAddCmds);
+            internalCommands.addAll(groupsAddCmds);
+            internalCommands.addAll(fieldsAddCmds);
+            internalCommands.addAll(ordersAddCmds);
+            internalCommands.addAll(assnsAddCmds);
+            internalCommands.addAll(linksDelCmds);
+            internalCommands.addAll(tlmDelCmds);
         }
-
-        return addCmd.toString();
     }
 
     /**************************************************************************
@@ -3331,24 +4478,37 @@ public class CcddDbTableCommandHandler
      *            only the data type name has changed in order to speed up the
      *            operation
      *
-     * @return Table row modification command
+     * @param rowCommands
+     *            list to which the parameterized commands to update the table
+     *            rows, or the custom values for an instance table, are added
+     *
+     * @param internalCommands
+     *            list to which the parameterized commands to update the
+     *            internal tables for the row modifications are added
      *************************************************************************/
-    private String buildModificationCommand(TableInformation tableInfo,
-                                            List<TableModification> modifications,
-                                            TypeDefinition typeDefn,
-                                            CcddDataTypeHandler newDataTypeHandler,
-                                            CcddMacroHandler newMacroHandler,
-                                            CcddTableTreeHandler tableTree,
-                                            List<String> rootTables,
-                                            boolean skipInternalTables)
+    private void buildModificationCommand(TableInformation tableInfo,
+                                          List<TableModification> modifications,
+                                          TypeDefinition typeDefn,
+                                          CcddDataTypeHandler newDataTypeHandler,
+                                          CcddMacroHandler newMacroHandler,
+                                          CcddTableTreeHandler tableTree,
+                                          List<String> rootTables,
+                                          boolean skipInternalTables,
+                                          List<BatchCommand> rowCommands,
+                                          List<BatchCommand> internalCommands)
     {
-        StringBuilder modCmd = new StringBuilder("");
-
         // Check that there are modifications
         if (!modifications.isEmpty())
         {
-            StringBuilder linksDelCmd = new StringBuilder("");
-            StringBuilder tlmDelCmd = new StringBuilder("");
+            List<BatchCommand> linksDelCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> tlmDelCmds = new ArrayList<BatchCommand>();
+
+            // Create storage for the row update parameters, grouped by the
+            // update command (rows with the same changed columns share a
+            // command), and for the custom values to delete and insert
+            Map<String, List<Object[]>> rowUpdates = new LinkedHashMap<String, List<Object[]>>();
+            List<Object[]> valueDeletions = new ArrayList<Object[]>();
+            Map<String, Object[]> valueInsertions = new LinkedHashMap<String, Object[]>();
 
             // Check if no updated data type handler is provided. This implies
             // the modifications are not due to an update in the data type
@@ -3374,18 +4534,16 @@ public class CcddDbTableCommandHandler
                 // to the table)
                 if (tableInfo.isPrototype())
                 {
-                    StringBuilder valuesModCmd = new StringBuilder("");
-                    StringBuilder linksModCmd = new StringBuilder("");
-                    StringBuilder tlmModCmd = new StringBuilder("");
-                    StringBuilder groupsModCmd = new StringBuilder("");
-                    StringBuilder fieldsModCmd = new StringBuilder("");
-                    StringBuilder ordersModCmd = new StringBuilder("");
-                    StringBuilder assnsModCmd = new StringBuilder("");
-
-                    // Build the update command
-                    modCmd.append("UPDATE "
-                                  + tableInfo.getProtoVariableName().toLowerCase()
-                                  + " SET ");
+                    List<BatchCommand> valuesModCmds = new ArrayList<BatchCommand>();
+                    List<BatchCommand> linksModCmds = new ArrayList<BatchCommand>();
+                    List<BatchCommand> tlmModCmds = new ArrayList<BatchCommand>();
+                    List<BatchCommand> groupsModCmds = new ArrayList<BatchCommand>();
+                    List<BatchCommand> fieldsModCmds = new ArrayList<BatchCommand>();
+                    List<BatchCommand> ordersModCmds = new ArrayList<BatchCommand>();
+                    List<BatchCommand> assnsModCmds = new ArrayList<BatchCommand>();
+
+                    StringBuilder setColumns = new StringBuilder("");
+                    List<Object> values = new ArrayList<Object>();
 
                     // Step through each changed column
                     for (int column = 0; column < mod.getRowData().length; column++)
@@ -3394,11 +4552,11 @@ public class CcddDbTableCommandHandler
                         if (mod.getOriginalRowData()[column] == null
                             || !mod.getOriginalRowData()[column].equals(mod.getRowData()[column]))
                         {
-                            // Build the command to change the column value
-                            modCmd.append(typeDefn.getColumnNamesDatabase()[column]
-                                          + " = "
-                                          + delimitText(mod.getRowData()[column])
-                                          + ", ");
+                            // Add the column to those changed and store the
+                            // new value
+                            setColumns.append(typeDefn.getColumnNamesDatabase()[column]
+                                              + " = ?, ");
+                            values.add(mod.getRowData()[column]);
                         }
                     }
 
@@ -3476,40 +4634,24 @@ public class CcddDbTableCommandHandler
                                 // References in the other internal tables are
                                 // also changed to the structure's new path as
                                 // a child
-                                valuesModCmd.append("UPDATE "
-                                                    + InternalTable.VALUES.getTableName()
-                                                    + " SET "
-                                                    + ValuesColumn.TABLE_PATH.getColumnName()
-                                                    + " = regexp_replace("
-                                                    + ValuesColumn.TABLE_PATH.getColumnName()
-                                                    + ", E'^"
-                                                    + newDataType
-                                                    + ",', E'"
-                                                    + newVariablePath
-                                                    + ",'); ");
-                                groupsModCmd.append("UPDATE "
-                                                    + InternalTable.GROUPS.getTableName()
-                                                    + " SET "
-                                                    + GroupsColumn.MEMBERS.getColumnName()
-                                                    + " = regexp_replace("
-                                                    + GroupsColumn.MEMBERS.getColumnName()
-                                                    + ", E'^"
-                                                    + newDataType
-                                                    + "(,|$)', E'"
-                                                    + newVariablePath
-                                                    + "\\\\1'); ");
+                                addPathUpdateCommand(valuesModCmds,
+                                                     InternalTable.VALUES.getTableName(),
+                                                     ValuesColumn.TABLE_PATH.getColumnName(),
+                                                     "^" + newDataType + ",",
+                                                     newVariablePath + ",");
+                                addPathUpdateCommand(groupsModCmds,
+                                                     InternalTable.GROUPS.getTableName(),
+                                                     GroupsColumn.MEMBERS.getColumnName(),
+                                                     "^" + newDataType + "(,|$)",
+                                                     newVariablePath + "\\\\1");
 
                                 // Build the command to copy the data fields
                                 // from the table's prototype
-                                fieldsModCmd.append("INSERT INTO "
-                                                    + InternalTable.FIELDS.getTableName()
-                                                    + " SELECT regexp_replace("
-                                                    + FieldsColumn.OWNER_NAME.getColumnName()
-                                                    + ", E'^"
-                                                    + newDataType
-                                                    + "(,|$)', E'"
-                                                    + newVariablePath
-                                                    + "\\\\1')");
+                                StringBuilder fieldsCopyCmd = new StringBuilder("INSERT INTO "
+                                                                                + InternalTable.FIELDS.getTableName()
+                                                                                + " SELECT regexp_replace("
+                                                                                + FieldsColumn.OWNER_NAME.getColumnName()
+                                                                                + ", ?, ?)");
 
                                 // Step through each column in the data field
                                 // table
@@ -3521,8 +4663,8 @@ public class CcddDbTableCommandHandler
                                     {
                                         // Add the column name to those to be
                                         // copied
-                                        fieldsModCmd.append(", "
-                                                            + fldCol.getColumnName());
+                                        fieldsCopyCmd.append(", "
+                                                             + fldCol.getColumnName());
                                     }
                                 }
 
@@ -3530,61 +4672,57 @@ public class CcddDbTableCommandHandler
                                 // fields to the child. Do not copy fields
                                 // flagged as being applicable only to root
                                 // tables
-                                fieldsModCmd.append(" FROM "
-                                                    + InternalTable.FIELDS.getTableName()
-                                                    + " WHERE "
-                                                    + FieldsColumn.OWNER_NAME.getColumnName()
-                                                    + " = '"
-                                                    + newDataType
-                                                    + "' AND "
-                                                    + FieldsColumn.FIELD_APPLICABILITY.getColumnName()
-                                                    + " != '"
-                                                    + ApplicabilityType.ROOT_ONLY.getApplicabilityName()
-                                                    + "'; ");
-
-                                ordersModCmd.append("UPDATE "
-                                                    + InternalTable.ORDERS.getTableName()
-                                                    + " SET "
-                                                    + OrdersColumn.TABLE_PATH.getColumnName()
-                                                    + " = regexp_replace("
-                                                    + OrdersColumn.TABLE_PATH.getColumnName()
-                                                    + ", E'^"
-                                                    + newDataType
-                                                    + "(,|$)', E'"
-                                                    + newVariablePath
-                                                    + "\\\\1'); ");
+                                fieldsCopyCmd.append(" FROM "
+                                                     + InternalTable.FIELDS.getTableName()
+                                                     + " WHERE "
+                                                     + FieldsColumn.OWNER_NAME.getColumnName()
+                                                     + " = ? AND "
+                                                     + FieldsColumn.FIELD_APPLICABILITY.getColumnName()
+                                                     + " != '"
+                                                     + ApplicabilityType.ROOT_ONLY.getApplicabilityName()
+                                                     + "'");
+                                addParameterizedCommand(fieldsModCmds,
+                                                        fieldsCopyCmd.toString(),
+                                                        getEscapeStringValue("^"
+                                                                             + newDataType
+                                                                             + "(,|$)"),
+                                                        getEscapeStringValue(newVariablePath
+                                                                             + "\\\\1"),
+                                                        newDataType);
+
+                                addPathUpdateCommand(ordersModCmds,
+                                                     InternalTable.ORDERS.getTableName(),
+                                                     OrdersColumn.TABLE_PATH.getColumnName(),
+                                                     "^" + newDataType + "(,|$)",
+                                                     newVariablePath + "\\\\1");
                                 String orgPathWithChildren = newDataType
                                                              + "(,"
                                                              + PATH_IDENT
                                                              + ")?";
-                                assnsModCmd.append("UPDATE "
-                                                   + InternalTable.ASSOCIATIONS.getTableName()
-                                                   + " SET "
-                                                   + AssociationsColumn.MEMBERS.getColumnName()
-                                                   + " = regexp_replace("
-                                                   + AssociationsColumn.MEMBERS.getColumnName()
-                                                   + ", E'(?:^"
-                                                   + orgPathWithChildren
-                                                   + "|("
-                                                   + assnsSeparator
-                                                   + ")"
-                                                   + orgPathWithChildren
-                                                   + ")', E'\\\\2"
-                                                   + newVariablePath
-                                                   + "\\\\1\\\\3', 'g'); ");
+                                addAssociationUpdateCommand(assnsModCmds,
+                                                            "(?:^"
+                                                                          + orgPathWithChildren
+                                                                          + "|("
+                                                                          + assnsSeparator
+                                                                          + ")"
+                                                                          + orgPathWithChildren
+                                                                          + ")",
+                                                            "\\\\2"
+                                                                          + newVariablePath
+                                                                          + "\\\\1\\\\3");
 
                                 // References in the links and telemetry
                                 // scheduler to the root structure and its
                                 // children are not automatically amended to
                                 // include the new parent structure path, but
                                 // are instead removed
-                                linksDelCmd = deleteLinkPathRef("^"
-                                                                + newDataType
-                                                                + "(?:,|\\\\.|$)",
-                                                                linksDelCmd);
-                                tlmDelCmd = deleteTlmPathRef(newDataType
-                                                             + "(?:,|\\\\.|$)",
-                                                             tlmDelCmd);
+                                deleteLinkPathRef("^"
+                                                  + newDataType
+                                                  + "(?:,|\\\\.|$)",
+                                                  linksDelCmds);
+                                deleteTlmPathRef(newDataType
+                                                 + "(?:,|\\\\.|$)",
+                                                 tlmDelCmds);
                             }
 
                             // Create a list of table path arrays that are
@@ -3636,53 +4774,53 @@ public class CcddDbTableCommandHandler
                                     // internal tables for instances of
                                     // non-array member variables of the
                                     // prototype table
-                                    valuesModCmd.append(updateVarNameAndDataType(orgVarPathEsc,
-                                                                                 newVariablePath,
-                                                                                 InternalTable.VALUES.getTableName(),
-                                                                                 ValuesColumn.TABLE_PATH.getColumnName(),
-                                                                                 "",
-                                                                                 "",
-                                                                                 true));
-                                    groupsModCmd.append(updateVarNameAndDataType(orgVarPathEsc,
-                                                                                 newVariablePath,
-                                                                                 InternalTable.GROUPS.getTableName(),
-                                                                                 GroupsColumn.MEMBERS.getColumnName(),
-                                                                                 "",
-                                                                                 "",
-                                                                                 true));
-                                    fieldsModCmd.append(updateVarNameAndDataType(orgVarPathEsc,
-                                                                                 newVariablePath,
-                                                                                 InternalTable.FIELDS.getTableName(),
-                                                                                 FieldsColumn.OWNER_NAME.getColumnName(),
-                                                                                 "",
-                                                                                 "",
-                                                                                 true));
-                                    ordersModCmd.append(updateVarNameAndDataType(orgVarPathEsc,
-                                                                                 newVariablePath,
-                                                                                 InternalTable.ORDERS.getTableName(),
-                                                                                 OrdersColumn.TABLE_PATH.getColumnName(),
-                                                                                 "",
-                                                                                 "",
-                                                                                 true));
+                                    updateVarNameAndDataType(valuesModCmds,
+                                                             orgVarPathEsc,
+                                                             newVariablePath,
+                                                             InternalTable.VALUES.getTableName(),
+                                                             ValuesColumn.TABLE_PATH.getColumnName(),
+                                                             "",
+                                                             "",
+                                                             true);
+                                    updateVarNameAndDataType(groupsModCmds,
+                                                             orgVarPathEsc,
+                                                             newVariablePath,
+                                                             InternalTable.GROUPS.getTableName(),
+                                                             GroupsColumn.MEMBERS.getColumnName(),
+                                                             "",
+                                                             "",
+                                                             true);
+                                    updateVarNameAndDataType(fieldsModCmds,
+                                                             orgVarPathEsc,
+                                                             newVariablePath,
+                                                             InternalTable.FIELDS.getTableName(),
+                                                             FieldsColumn.OWNER_NAME.getColumnName(),
+                                                             "",
+                                                             "",
+                                                             true);
+                                    updateVarNameAndDataType(ordersModCmds,
+                                                             orgVarPathEsc,
+                                                             newVariablePath,
+                                                             InternalTable.ORDERS.getTableName(),
+                                                             OrdersColumn.TABLE_PATH.getColumnName(),
+                                                             "",
+                                                             "",
+                                                             true);
                                     String orgPathWithChildren = orgVarPathEsc
                                                                  + "(,"
                                                                  + PATH_IDENT
                                                                  + ")?";
-                                    assnsModCmd.append("UPDATE "
-                                                       + InternalTable.ASSOCIATIONS.getTableName()
-                                                       + " SET "
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + " = regexp_replace("
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + ", E'(?:^"
-                                                       + orgPathWithChildren
-                                                       + "|("
-                                                       + assnsSeparator
-                                                       + ")"
-                                                       + orgPathWithChildren
-                                                       + ")', E'\\\\2"
-                                                       + newVariablePath
-                                                       + "\\\\1\\\\3', 'g'); ");
+                                    addAssociationUpdateCommand(assnsModCmds,
+                                                                "(?:^"
+                                                                              + orgPathWithChildren
+                                                                              + "|("
+                                                                              + assnsSeparator
+                                                                              + ")"
+                                                                              + orgPathWithChildren
+                                                                              + ")",
+                                                                "\\\\2"
+                                                                              + newVariablePath
+                                                                              + "\\\\1\\\\3");
 
                                     // Check if the data type, bit length, and
                                     // rate didn't also change (updates to the
@@ -3696,25 +4834,27 @@ public class CcddDbTableCommandHandler
                                         // Create the command to update the
                                         // links table for instances of
                                         // variables of the prototype table
-                                        linksModCmd.append(updateVarNameAndDataType(orgVarPathEsc,
-                                                                                    newVariablePath,
-                                                                                    InternalTable.LINKS.getTableName(),
-                                                                                    LinksColumn.MEMBER.getColumnName(),
-                                                                                    "",
-                                                                                    "",
-                                                                                    true));
+                                        updateVarNameAndDataType(linksModCmds,
+                                                                 orgVarPathEsc,
+                                                                 newVariablePath,
+                                                                 InternalTable.LINKS.getTableName(),
+                                                                 LinksColumn.MEMBER.getColumnName(),
+                                                                 "",
+                                                                 "",
+                                                                 true);
                                         // Since the variable still fits
                                         // within any message in the
                                         // telemetry scheduler table to
                                         // which it's assigned just change
                                         // all references to the variable
-                                        tlmModCmd.append(updateVarNameAndDataType(orgVarPathEsc,
-                                                                                  newVariablePath,
-                                                                                  InternalTable.TLM_SCHEDULER.getTableName(),
-                                                                                  TlmSchedulerColumn.MEMBER.getColumnName(),
-                                                                                  "(.*" + tlmSchSeparator + ")",
-                                                                                  "\\\\1",
-                                                                                  true));
+                                        updateVarNameAndDataType(tlmModCmds,
+                                                                 orgVarPathEsc,
+                                                                 newVariablePath,
+                                                                 InternalTable.TLM_SCHEDULER.getTableName(),
+                                                                 TlmSchedulerColumn.MEMBER.getColumnName(),
+                                                                 "(.*" + tlmSchSeparator + ")",
+                                                                 "\\\\1",
+                                                                 true);
                                     }
                                 }
 
@@ -3742,20 +4882,22 @@ public class CcddDbTableCommandHandler
                                     // bit length update then the affected
                                     // variables are subsequently removed from
                                     // the links and telemetry scheduler tables
-                                    linksModCmd.append(updateVarNameAndDataType(orgVarPathEscBit,
-                                                                                newVariablePathBit,
-                                                                                InternalTable.LINKS.getTableName(),
-                                                                                LinksColumn.MEMBER.getColumnName(),
-                                                                                "",
-                                                                                "",
-                                                                                true));
-                                    tlmModCmd.append(updateVarNameAndDataType(orgVarPathEscBit,
-                                                                              newVariablePathBit,
-                                                                              InternalTable.TLM_SCHEDULER.getTableName(),
-                                                                              TlmSchedulerColumn.MEMBER.getColumnName(),
-                                                                              "(.*" + tlmSchSeparator + ")",
-                                                                              "\\\\1",
-                                                                              true));
+                                    updateVarNameAndDataType(linksModCmds,
+                                                             orgVarPathEscBit,
+                                                             newVariablePathBit,
+                                                             InternalTable.LINKS.getTableName(),
+                                                             LinksColumn.MEMBER.getColumnName(),
+                                                             "",
+                                                             "",
+                                                             true);
+                                    updateVarNameAndDataType(tlmModCmds,
+                                                             orgVarPathEscBit,
+                                                             newVariablePathBit,
+                                                             InternalTable.TLM_SCHEDULER.getTableName(),
+                                                             TlmSchedulerColumn.MEMBER.getColumnName(),
+                                                             "(.*" + tlmSchSeparator + ")",
+                                                             "\\\\1",
+                                                             true);
                                 }
 
                                 // Check if the data type changed from a
@@ -3768,79 +4910,51 @@ public class CcddDbTableCommandHandler
                                     // to any children of the original
                                     // structure path and change the data type
                                     // for references to the structure itself
-                                    valuesModCmd.append("DELETE FROM "
-                                                        + InternalTable.VALUES.getTableName()
-                                                        + " WHERE "
-                                                        + ValuesColumn.TABLE_PATH.getColumnName()
-                                                        + " ~ E'^"
-                                                        + orgVarPathEsc
-                                                        + ",'; "
-                                                        + updateVarNameAndDataType(orgVarPathEsc,
-                                                                                   newVariablePath,
-                                                                                   InternalTable.VALUES.getTableName(),
-                                                                                   ValuesColumn.TABLE_PATH.getColumnName(),
-                                                                                   "",
-                                                                                   "",
-                                                                                   false));
+                                    addPathDeleteCommand(valuesModCmds,
+                                                         InternalTable.VALUES.getTableName(),
+                                                         ValuesColumn.TABLE_PATH.getColumnName(),
+                                                         "^" + orgVarPathEsc + ",");
+                                    updateVarNameAndDataType(valuesModCmds,
+                                                             orgVarPathEsc,
+                                                             newVariablePath,
+                                                             InternalTable.VALUES.getTableName(),
+                                                             ValuesColumn.TABLE_PATH.getColumnName(),
+                                                             "",
+                                                             "",
+                                                             false);
 
                                     // Build a regular expression for
                                     // locating references to the original
                                     // variable path
-                                    String pathMatch = orgVarPathEsc + "(?:,|$)";
+                                    String pathMatch = "^" + orgVarPathEsc + "(?:,|$)";
 
                                     // Remove all references to the
                                     // structure and its children
-                                    groupsModCmd.append("DELETE FROM "
-                                                        + InternalTable.GROUPS.getTableName()
-                                                        + " WHERE "
-                                                        + GroupsColumn.MEMBERS.getColumnName()
-                                                        + " ~ E'^"
-                                                        + pathMatch
-                                                        + "'; ");
-                                    fieldsModCmd.append("DELETE FROM "
-                                                        + InternalTable.FIELDS.getTableName()
-                                                        + " WHERE "
-                                                        + FieldsColumn.OWNER_NAME.getColumnName()
-                                                        + " ~ E'^"
-                                                        + pathMatch
-                                                        + "'; ");
-                                    ordersModCmd.append("DELETE FROM "
-                                                        + InternalTable.ORDERS.getTableName()
-                                                        + " WHERE "
-                                                        + OrdersColumn.TABLE_PATH.getColumnName()
-                                                        + " ~ E'^"
-                                                        + pathMatch
-                                                        + "'; ");
+                                    addPathDeleteCommand(groupsModCmds,
+                                                         InternalTable.GROUPS.getTableName(),
+                                                         GroupsColumn.MEMBERS.getColumnName(),
+                                                         pathMatch);
+                                    addPathDeleteCommand(fieldsModCmds,
+                                                         InternalTable.FIELDS.getTableName(),
+                                                         FieldsColumn.OWNER_NAME.getColumnName(),
+                                                         pathMatch);
+                                    addPathDeleteCommand(ordersModCmds,
+                                                         InternalTable.ORDERS.getTableName(),
+                                                         OrdersColumn.TABLE_PATH.getColumnName(),
+                                                         pathMatch);
                                     String orgPathWithChildren = orgVarPathEsc
                                                                  + "(?:,"
                                                                  + PATH_IDENT
                                                                  + ")?";
-                                    assnsModCmd.append("UPDATE "
-                                                       + InternalTable.ASSOCIATIONS.getTableName()
-                                                       + " SET "
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + " = regexp_replace("
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + ", E'^"
-                                                       + orgPathWithChildren
-                                                       + "', E'', 'g'); UPDATE "
-                                                       + InternalTable.ASSOCIATIONS.getTableName()
-                                                       + " SET "
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + " = regexp_replace("
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + ", E'"
-                                                       + assnsSeparator
-                                                       + orgPathWithChildren
-                                                       + "', E'', 'g'); UPDATE "
-                                                       + InternalTable.ASSOCIATIONS.getTableName()
-                                                       + " SET "
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + " = regexp_replace("
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + ", E'^"
-                                                       + assnsSeparator
-                                                       + "', E'', 'g'); ");
+                                    addAssociationUpdateCommand(assnsModCmds,
+                                                                "^" + orgPathWithChildren,
+                                                                "");
+                                    addAssociationUpdateCommand(assnsModCmds,
+                                                                assnsSeparator + orgPathWithChildren,
+                                                                "");
+                                    addAssociationUpdateCommand(assnsModCmds,
+                                                                "^" + assnsSeparator,
+                                                                "");
 
                                     // Check if the rate didn't change as well
                                     // (if the rate changed then updates to the
@@ -3866,84 +4980,51 @@ public class CcddDbTableCommandHandler
                                 {
                                     // Remove all references to the structure's
                                     // children, but not the structure itself
-                                    valuesModCmd.append("DELETE FROM "
-                                                        + InternalTable.VALUES.getTableName()
-                                                        + " WHERE "
-                                                        + ValuesColumn.TABLE_PATH.getColumnName()
-                                                        + " ~ E'^"
-                                                        + orgVarPathEsc
-                                                        + "(?:,|\\\\[)"
-                                                        + "'; ");
+                                    addPathDeleteCommand(valuesModCmds,
+                                                         InternalTable.VALUES.getTableName(),
+                                                         ValuesColumn.TABLE_PATH.getColumnName(),
+                                                         "^" + orgVarPathEsc + "(?:,|\\\\[)");
 
                                     // Build a regular expression for locating
                                     // references to the original variable
                                     // path and any children
-                                    String pathMatch = orgVarPathEsc + "(?:,|\\\\[|$)";
+                                    String pathMatch = "^" + orgVarPathEsc + "(?:,|\\\\[|$)";
 
                                     // Remove all references to the structure
                                     // and its children
-                                    groupsModCmd.append("DELETE FROM "
-                                                        + InternalTable.GROUPS.getTableName()
-                                                        + " WHERE "
-                                                        + GroupsColumn.MEMBERS.getColumnName()
-                                                        + " ~ E'^"
-                                                        + pathMatch
-                                                        + "'; ");
-                                    fieldsModCmd.append("DELETE FROM "
-                                                        + InternalTable.FIELDS.getTableName()
-                                                        + " WHERE "
-                                                        + FieldsColumn.OWNER_NAME.getColumnName()
-                                                        + " ~ E'^"
-                                                        + pathMatch
-                                                        + "'; ");
-                                    ordersModCmd.append("DELETE FROM "
-                                                        + InternalTable.ORDERS.getTableName()
-                                                        + " WHERE "
-                                                        + OrdersColumn.TABLE_PATH.getColumnName()
-                                                        + " ~ E'^"
-                                                        + pathMatch
-                                                        + "'; ");
+                                    addPathDeleteCommand(groupsModCmds,
+                                                         InternalTable.GROUPS.getTableName(),
+                                                         GroupsColumn.MEMBERS.getColumnName(),
+                                                         pathMatch);
+                                    addPathDeleteCommand(fieldsModCmds,
+                                                         InternalTable.FIELDS.getTableName(),
+                                                         FieldsColumn.OWNER_NAME.getColumnName(),
+                                                         pathMatch);
+                                    addPathDeleteCommand(ordersModCmds,
+                                                         InternalTable.ORDERS.getTableName(),
+                                                         OrdersColumn.TABLE_PATH.getColumnName(),
+                                                         pathMatch);
                                     String orgPathWithChildren = orgVarPathEsc
-                                                                 + "(?:,|\\\\[\\d+\\\\])"
+                                                                 + "(?:,|\\\\[\\\\d+\\\\])"
                                                                  + PATH_IDENT;
-                                    assnsModCmd.append("UPDATE "
-                                                       + InternalTable.ASSOCIATIONS.getTableName()
-                                                       + " SET "
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + " = regexp_replace("
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + ", E'^"
-                                                       + orgPathWithChildren
-                                                       + "', E'', 'g'); UPDATE "
-                                                       + InternalTable.ASSOCIATIONS.getTableName()
-                                                       + " SET "
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + " = regexp_replace("
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + ", E'"
-                                                       + assnsSeparator
-                                                       + orgPathWithChildren
-                                                       + "', E'', 'g'); UPDATE "
-                                                       + InternalTable.ASSOCIATIONS.getTableName()
-                                                       + " SET "
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + " = regexp_replace("
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + ", E'(?:^|"
-                                                       + assnsSeparator
-                                                       + ")"
-                                                       + orgVarPathEsc
-                                                       + "(?:"
-                                                       + assnsSeparator
-                                                       + "|$)', E'', 'g'); UPDATE "
-                                                       + InternalTable.ASSOCIATIONS.getTableName()
-                                                       + " SET "
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + " = regexp_replace("
-                                                       + AssociationsColumn.MEMBERS.getColumnName()
-                                                       + ", E'^"
-                                                       + assnsSeparator
-                                                       + "', E'', 'g'); ");
+                                    addAssociationUpdateCommand(assnsModCmds,
+                                                                "^" + orgPathWithChildren,
+                                                                "");
+                                    addAssociationUpdateCommand(assnsModCmds,
+                                                                assnsSeparator + orgPathWithChildren,
+                                                                "");
+                                    addAssociationUpdateCommand(assnsModCmds,
+                                                                "(?:^|"
+                                                                              + assnsSeparator
+                                                                              + ")"
+                                                                              + orgVarPathEsc
+                                                                              + "(?:"
+                                                                              + assnsSeparator
+                                                                              + "|$)",
+                                                                "");
+                                    addAssociationUpdateCommand(assnsModCmds,
+                                                                "^" + assnsSeparator,
+                                                                "");
 
                                     // Check if the rate didn't change as well
                                     // (if the rate changed then updates to the
@@ -3968,34 +5049,55 @@ public class CcddDbTableCommandHandler
                                     // Remove all references to the structure
                                     // and its children from the links and
                                     // telemetry scheduler tables
-                                    linksDelCmd = deleteLinkPathRef("^"
-                                                                    + orgVarPathEsc
-                                                                    + "(?:,|:|$)",
-                                                                    linksDelCmd);
-                                    tlmDelCmd = deleteTlmPathRef(orgVarPathEsc
-                                                                 + "(?:,|:|$)",
-                                                                 tlmDelCmd);
+                                    deleteLinkPathRef("^"
+                                                      + orgVarPathEsc
+                                                      + "(?:,|:|$)",
+                                                      linksDelCmds);
+                                    deleteTlmPathRef(orgVarPathEsc
+                                                     + "(?:,|:|$)",
+                                                     tlmDelCmds);
                                 }
                             }
                         }
                     }
 
-                    // Remove the trailing comma and space, then add the
-                    // condition based on the row's primary key, and add the
-                    // commands to update the internal tables
-                    modCmd = CcddUtilities.removeTrailer(modCmd, ", ");
-                    modCmd.append(" WHERE "
-                                  + typeDefn.getColumnNamesDatabase()[DefaultColumn.PRIMARY_KEY.ordinal()]
-                                  + " = "
-                                  + mod.getRowData()[DefaultColumn.PRIMARY_KEY.ordinal()]
-                                  + "; "
-                                  + valuesModCmd.toString()
-                                  + groupsModCmd.toString()
-                                  + fieldsModCmd.toString()
-                                  + ordersModCmd.toString()
-                                  + assnsModCmd.toString()
-                                  + linksModCmd.toString()
-                                  + tlmModCmd.toString());
+                    // Check if any column value changed
+                    if (setColumns.length() != 0)
+                    {
+                        // Build the update command for the changed columns,
+                        // with the condition based on the row's primary key
+                        String updateCmd = "UPDATE "
+                                           + tableInfo.getProtoVariableName().toLowerCase()
+                                           + " SET "
+                                           + CcddUtilities.removeTrailer(setColumns.toString(), ", ")
+                                           + " WHERE "
+                                           + typeDefn.getColumnNamesDatabase()[DefaultColumn.PRIMARY_KEY.ordinal()]
+                                           + " = ?";
+
+                        // Get the list of rows updated using this command
+                        List<Object[]> updates = rowUpdates.get(updateCmd);
+
+                        // Check if this is the first row using this command
+                        if (updates == null)
+                        {
+                            // Create the list for the command's rows
+                            updates = new ArrayList<Object[]>();
+                            rowUpdates.put(updateCmd, updates);
+                        }
+
+                        // Add the row's changed values and primary key
+                        values.add(mod.getRowData()[DefaultColumn.PRIMARY_KEY.ordinal()]);
+                        updates.add(values.toArray());
+                    }
+
+                    // Add the commands to update the internal tables
+                    addParameterizedCommands(internalCommands, valuesModCmds);
+                    addParameterizedCommands(internalCommands, groupsModCmds);
+                    addParameterizedCommands(internalCommands, fieldsModCmds);
+                    addParameterizedCommands(internalCommands, ordersModCmds);
+                    addParameterizedCommands(internalCommands, assnsModCmds);
+                    addParameterizedCommands(internalCommands, linksModCmds);
+                    addParameterizedCommands(internalCommands, tlmModCmds);
                 }
                 // Not a prototype table, so modifications are made to the
                 // custom values table if internal tables are to be updated,
@@ -4015,42 +5117,38 @@ public class CcddDbTableCommandHandler
                         // Check if the column value changed
                         if (!mod.getOriginalRowData()[column].equals(mod.getRowData()[column]))
                         {
-                            // Build the command to delete the old value in the
-                            // custom values table (in case it already exists),
-                            // then insert the (new) value into the custom
-                            // values table
-                            modCmd.append("DELETE FROM "
-                                          + InternalTable.VALUES.getTableName()
-                                          + " WHERE "
-                                          + ValuesColumn.TABLE_PATH.getColumnName()
-                                          + " = '"
-                                          + variablePath
-                                          + "' AND "
-                                          + ValuesColumn.COLUMN_NAME.getColumnName()
-                                          + " = '"
-                                          + typeDefn.getColumnNamesUser()[column]
-                                          + "';");
+                            // Store the parameters to delete the old value in
+                            // the custom values table (in case it already
+                            // exists)
+                            valueDeletions.add(new Object[] {variablePath,
+                                                             typeDefn.getColumnNamesUser()[column]});
+
+                            // Build the key identifying the value's path and
+                            // column
+                            String valueKey = variablePath
+                                              + ","
+                                              + typeDefn.getColumnNamesUser()[column];
 
                             // Check if the new value does not begin with the
                             // flag that indicates the existing custom value
                             // should be removed
                             if (!mod.getRowData()[column].toString().startsWith(REPLACE_INDICATOR))
                             {
-                                modCmd.append(" INSERT INTO "
-                                              + InternalTable.VALUES.getTableName()
-                                              + " ("
-                                              + ValuesColumn.TABLE_PATH.getColumnName()
-                                              + ", "
-                                              + ValuesColumn.COLUMN_NAME.getColumnName()
-                                              + ", "
-                                              + ValuesColumn.VALUE.getColumnName()
-                                              + ") VALUES ('"
-                                              + variablePath
-                                              + "', '"
-                                              + typeDefn.getColumnNamesUser()[column]
-                                              + "', '"
-                                              + mod.getRowData()[column]
-                                              + "'); ");
+                                // Store the parameters to insert the (new)
+                                // value into the custom values table. This
+                                // replaces any earlier value for the same
+                                // path and column
+                                valueInsertions.put(valueKey,
+                                                    new Object[] {variablePath,
+                                                                  typeDefn.getColumnNamesUser()[column],
+                                                                  mod.getRowData()[column]});
+                            }
+                            // The existing custom value is removed
+                            else
+                            {
+                                // Discard any earlier value for the same path
+                                // and column
+                                valueInsertions.remove(valueKey);
                             }
                         }
                     }
@@ -4072,37 +5170,53 @@ public class CcddDbTableCommandHandler
                             // Remove all references to the structure and its
                             // children from the links and telemetry scheduler
                             // tables
-                            linksDelCmd = deleteLinkPathRef("^"
-                                                            + variablePath
-                                                            + "(?:,|:|$)",
-                                                            linksDelCmd);
-                            tlmDelCmd = deleteTlmPathRef(variablePath
-                                                         + "(?:,|:|$)",
-                                                         tlmDelCmd);
+                            deleteLinkPathRef("^"
+                                              + variablePath
+                                              + "(?:,|:|$)",
+                                              linksDelCmds);
+                            deleteTlmPathRef(variablePath
+                                             + "(?:,|:|$)",
+                                             tlmDelCmds);
                             break;
                         }
                     }
                 }
             }
 
-            // Check if a change to the links table exists
-            if (linksDelCmd.length() != 0)
-            {
-                // Terminate the links table command and add it to the
-                // modification command
-                modCmd.append(linksDelCmd.append("; "));
-            }
+            // Add the commands to delete the links and telemetry scheduler
+            // table references
+            internalCommands.addAll(linksDelCmds);
+            internalCommands.addAll(tlmDelCmds);
 
-            // Check if a change to the telemetry scheduler table exists
-            if (tlmDelCmd.length() != 0)
+            // Step through each row update command
+            for (Entry<String, List<Object[]>> update : rowUpdates.entrySet())
             {
-                // Terminate the telemetry scheduler table command and add it
-                // to the modification command
-                modCmd.append(tlmDelCmd.append("; "));
+                // Add the command to update the rows
+                rowCommands.add(new BatchCommand(update.getKey(),
+                                                 update.getValue()));
             }
-        }
 
-        return modCmd.toString();
+            // Add the commands to delete the old custom values and insert the
+            // new ones
+            rowCommands.add(new BatchCommand("DELETE FROM "
+                                             + InternalTable.VALUES.getTableName()
+                                             + " WHERE "
+                                             + ValuesColumn.TABLE_PATH.getColumnName()
+                                             + " = ? AND "
+                                             + ValuesColumn.COLUMN_NAME.getColumnName()
+                                             + " = ?",
+                                             valueDeletions));
+            rowCommands.add(new BatchCommand("INSERT INTO "
+                                             + InternalTable.VALUES.getTableName()
+                                             + " ("
+                                             + ValuesColumn.TABLE_PATH.getColumnName()
+                                             + ", "
+                                             + ValuesColumn.COLUMN_NAME.getColumnName()
+                                             + ", "
+                                             + ValuesColumn.VALUE.getColumnName()
+                                             + ") VALUES (?, ?, ?)",
+                                             new ArrayList<Object[]>(valueInsertions.values())));
+        }
     }
 
     /**************************************************************************
@@ -4130,40 +5244,41 @@ public class CcddDbTableCommandHandler
      *            only the data type name has changed in order to speed up the
      *            operation
      *
-     * @return Table row deletion command
+     * @param rowCommands
+     *            list to which the parameterized command to delete the table
+     *            rows is added
+     *
+     * @param internalCommands
+     *            list to which the parameterized commands to update the
+     *            internal tables for the row deletions are added
      *************************************************************************/
-    private String buildDeletionCommand(TableInformation tableInfo,
-                                        List<TableModification> deletions,
-                                        String dbTableName,
-                                        TypeDefinition typeDefn,
-                                        CcddTableTreeHandler tableTree,
-                                        boolean skipInternalTables)
+    private void buildDeletionCommand(TableInformation tableInfo,
+                                      List<TableModification> deletions,
+                                      String dbTableName,
+                                      TypeDefinition typeDefn,
+                                      CcddTableTreeHandler tableTree,
+                                      boolean skipInternalTables,
+                                      List<BatchCommand> rowCommands,
+                                      List<BatchCommand> internalCommands)
     {
-        StringBuilder delCmd = new StringBuilder("");
-
         // Check if there are any table deletions
         if (!deletions.isEmpty())
         {
-            StringBuilder valuesDelCmd = new StringBuilder("");
-            StringBuilder groupsDelCmd = new StringBuilder("");
-            StringBuilder fieldsDelCmd = new StringBuilder("");
-            StringBuilder ordersDelCmd = new StringBuilder("");
-            StringBuilder assnsDelCmd = new StringBuilder("");
-            StringBuilder linksDelCmd = new StringBuilder("");
-            StringBuilder tlmDelCmd = new StringBuilder("");
+            List<BatchCommand> valuesDelCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> groupsDelCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> fieldsDelCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> ordersDelCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> assnsDelCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> linksDelCmds = new ArrayList<BatchCommand>();
+            List<BatchCommand> tlmDelCmds = new ArrayList<BatchCommand>();
+
+            List<Object[]> primaryKeys = new ArrayList<Object[]>();
 
             // Step through each deletion
             for (TableModification del : deletions)
             {
-                // Add the table row deletion command
-                delCmd.append((delCmd.length() == 0
-                                                    ? "DELETE FROM "
-                                                      + dbTableName
-                                                      + " WHERE "
-                                                    : " OR ")
-                              + typeDefn.getColumnNamesDatabase()[DefaultColumn.PRIMARY_KEY.ordinal()]
-                              + " = "
-                              + del.getRowData()[DefaultColumn.PRIMARY_KEY.ordinal()]);
+                // Store the primary key of the row to delete
+                primaryKeys.add(new Object[] {del.getRowData()[DefaultColumn.PRIMARY_KEY.ordinal()]});
 
                 // Check if the internal tables are to be updated and the
                 // table represents a structure
@@ -4193,163 +5308,287 @@ public class CcddDbTableCommandHandler
                                                                                              + "."
                                                                                              + variableName);
 
-                        // Create or add to the command to update the custom
-                        // values table for instances of variables of the
-                        // prototype table
-                        valuesDelCmd.append((valuesDelCmd.length() == 0
-                                                                        ? "DELETE FROM "
-                                                                          + InternalTable.VALUES.getTableName()
-                                                                          + " WHERE"
-                                                                        : " OR")
-                                            + " "
-                                            + ValuesColumn.TABLE_PATH.getColumnName()
-                                            + " ~ E'^"
-                                            + variablePathEsc
-                                            + "(?:,|:|$)'");
-
-                        // Create or add to the commands to update the links
-                        // and telemetry scheduler tables for instances of
+                        // Add to the command to update the custom values
+                        // table for instances of variables of the prototype
+                        // table
+                        addPathDeleteCommand(valuesDelCmds,
+                                             InternalTable.VALUES.getTableName(),
+                                             ValuesColumn.TABLE_PATH.getColumnName(),
+                                             "^" + variablePathEsc + "(?:,|:|$)");
+
+                        // Add to the commands to update the links and
+                        // telemetry scheduler tables for instances of
                         // variables of the prototype table
-                        linksDelCmd = deleteLinkPathRef("^"
-                                                        + variablePathEsc
-                                                        + "(?:,|:|$)",
-                                                        linksDelCmd);
-                        tlmDelCmd = deleteTlmPathRef(variablePathEsc
-                                                     + "(?:,|:|$)",
-                                                     tlmDelCmd);
+                        deleteLinkPathRef("^"
+                                          + variablePathEsc
+                                          + "(?:,|:|$)",
+                                          linksDelCmds);
+                        deleteTlmPathRef(variablePathEsc
+                                         + "(?:,|:|$)",
+                                         tlmDelCmds);
 
                         // Check if the data type represents a structure
                         if (!dataTypeHandler.isPrimitive(dataType))
                         {
-                            // Create or add to the commands to update the
-                            // internal tables for instances of variables of
-                            // the prototype table
-                            groupsDelCmd.append((groupsDelCmd.length() == 0
-                                                                            ? "DELETE FROM "
-                                                                              + InternalTable.GROUPS.getTableName()
-                                                                              + " WHERE"
-                                                                            : " OR")
-                                                + " "
-                                                + GroupsColumn.MEMBERS.getColumnName()
-                                                + " ~ E'^"
-                                                + variablePathEsc
-                                                + "(?:,|$)'");
-                            fieldsDelCmd.append((fieldsDelCmd.length() == 0
-                                                                            ? "DELETE FROM "
-                                                                              + InternalTable.FIELDS.getTableName()
-                                                                              + " WHERE"
-                                                                            : " OR")
-                                                + " "
-                                                + FieldsColumn.OWNER_NAME.getColumnName()
-                                                + " ~ E'^"
-                                                + variablePathEsc
-                                                + "(?:,|$)'");
-                            ordersDelCmd.append((ordersDelCmd.length() == 0
-                                                                            ? "DELETE FROM "
-                                                                              + InternalTable.ORDERS.getTableName()
-                                                                              + " WHERE"
-                                                                            : " OR")
-                                                + " "
-                                                + OrdersColumn.TABLE_PATH.getColumnName()
-                                                + " ~ E'^"
-                                                + variablePathEsc
-                                                + "(?:,|$)'");
+                            // Add to the commands to update the internal
+                            // tables for instances of variables of the
+                            // prototype table
+                            String pathMatch = "^" + variablePathEsc + "(?:,|$)";
+                            addPathDeleteCommand(groupsDelCmds,
+                                                 InternalTable.GROUPS.getTableName(),
+                                                 GroupsColumn.MEMBERS.getColumnName(),
+                                                 pathMatch);
+                            addPathDeleteCommand(fieldsDelCmds,
+                                                 InternalTable.FIELDS.getTableName(),
+                                                 FieldsColumn.OWNER_NAME.getColumnName(),
+                                                 pathMatch);
+                            addPathDeleteCommand(ordersDelCmds,
+                                                 InternalTable.ORDERS.getTableName(),
+                                                 OrdersColumn.TABLE_PATH.getColumnName(),
+                                                 pathMatch);
                             String pathWithChildren = variablePathEsc
                                                       + "(?:,"
                                                       + PATH_IDENT
                                                       + ")?";
-                            assnsDelCmd.append("UPDATE "
-                                               + InternalTable.ASSOCIATIONS.getTableName()
-                                               + " SET "
-                                               + AssociationsColumn.MEMBERS.getColumnName()
-                                               + " = regexp_replace("
-                                               + AssociationsColumn.MEMBERS.getColumnName()
-                                               + ", E'^"
-                                               + pathWithChildren
-                                               + "', E'', 'g'); UPDATE "
-                                               + InternalTable.ASSOCIATIONS.getTableName()
-                                               + " SET "
-                                               + AssociationsColumn.MEMBERS.getColumnName()
-                                               + " = regexp_replace("
-                                               + AssociationsColumn.MEMBERS.getColumnName()
-                                               + ", E'"
-                                               + assnsSeparator
-                                               + pathWithChildren
-                                               + "', E'', 'g'); UPDATE "
-                                               + InternalTable.ASSOCIATIONS.getTableName()
-                                               + " SET "
-                                               + AssociationsColumn.MEMBERS.getColumnName()
-                                               + " = regexp_replace("
-                                               + AssociationsColumn.MEMBERS.getColumnName()
-                                               + ", E'^"
-                                               + assnsSeparator
-                                               + "', E'', 'g'); ");
+                            addAssociationUpdateCommand(assnsDelCmds,
+                                                        "^" + pathWithChildren,
+                                                        "");
+                            addAssociationUpdateCommand(assnsDelCmds,
+                                                        assnsSeparator + pathWithChildren,
+                                                        "");
+                            addAssociationUpdateCommand(assnsDelCmds,
+                                                        "^" + assnsSeparator,
+                                                        "");
                         }
                     }
                 }
             }
 
-            // Check if a change to the values table exists
-            if (valuesDelCmd.length() != 0)
-            {
-                // Terminate the command
-                valuesDelCmd.append("; ");
-            }
+            // Add the command to delete the table rows
+            rowCommands.add(new BatchCommand("DELETE FROM "
+                                             + dbTableName
+                                             + " WHERE "
+                                             + typeDefn.getColumnNamesDatabase()[DefaultColumn.PRIMARY_KEY.ordinal()]
+                                             + " = ?",
+                                             primaryKeys));
+
+            // Add the commands to update the internal tables
+            internalCommands.addAll(valuesDelCmds);
+            internalCommands.addAll(groupsDelCmds);
+            internalCommands.addAll(fieldsDelCmds);
+            internalCommands.addAll(ordersDelCmds);
+            internalCommands.addAll(assnsDelCmds);
+            internalCommands.addAll(linksDelCmds);
+            internalCommands.addAll(tlmDelCmds);
+        }
+    }
 
-            // Check if a change to the groups table exists
-            if (groupsDelCmd.length() != 0)
-            {
-                // Terminate the command
-                groupsDelCmd.append("; ");
-            }
+    /**************************************************************************
+     * Get the value of the text of a PostgreSQL escape string constant (e.g.,
+     * the text between the quotes in E'^a\\.b'). The regular expressions
+     * for the internal table references are built as escape string text, in
+     * which each backslash is doubled; these are reduced to single backslashes
+     * so that the expressions can be passed to the database as command
+     * parameters
+     *
+     * @param text
+     *            escape string constant text
+     *
+     * @return Value represented by the escape string constant text
+     *************************************************************************/
+    private static String getEscapeStringValue(String text)
+    {
+        return text.replace("\\\\", "\\");
+    }
 
-            // Check if a change to the fields table exists
-            if (fieldsDelCmd.length() != 0)
-            {
-                // Terminate the command
-                fieldsDelCmd.append("; ");
-            }
+    /**************************************************************************
+     * Add a parameterized command to a list of commands. If the last command
+     * in the list is the same command then the parameter values are added to
+     * it so that the executions are performed in a single prepared statement
+     * batch; otherwise the command is added to the end of the list. In either
+     * case the order in which the commands execute is unchanged
+     *
+     * @param commands
+     *            list of commands to which to add the command
+     *
+     * @param command
+     *            SQL command containing a '?' placeholder for each parameter
+     *
+     * @param parameters
+     *            parameter values for this execution of the command
+     *************************************************************************/
+    private void addParameterizedCommand(List<BatchCommand> commands,
+                                         String command,
+                                         Object... parameters)
+    {
+        // Check if the last command in the list isn't the same parameterized
+        // command
+        if (commands.isEmpty()
+            || commands.get(commands.size() - 1).getParameters() == null
+            || !commands.get(commands.size() - 1).getCommand().equals(command))
+        {
+            // Add the command to the list
+            commands.add(new BatchCommand(command, new ArrayList<Object[]>()));
+        }
 
-            // Check if a change to the orders table exists
-            if (ordersDelCmd.length() != 0)
-            {
-                // Terminate the command
-                ordersDelCmd.append("; ");
-            }
+        // Add the parameter values to the last command's executions
+        commands.get(commands.size() - 1).getParameters().add(parameters);
+    }
 
-            // Check if a change to the links table exists
-            if (linksDelCmd.length() != 0)
+    /**************************************************************************
+     * Add the commands in one list to the end of another list of commands.
+     * Parameterized commands are combined with the same command at the end of
+     * the list when possible (see addParameterizedCommand())
+     *
+     * @param commands
+     *            list of commands to which to add the commands
+     *
+     * @param additions
+     *            list of commands to add
+     *************************************************************************/
+    private void addParameterizedCommands(List<BatchCommand> commands,
+                                          List<BatchCommand> additions)
+    {
+        // Step through each command to add
+        for (BatchCommand addition : additions)
+        {
+            // Check if the command has no parameters
+            if (addition.getParameters() == null)
             {
-                // Terminate the command
-                linksDelCmd.append("; ");
+                // Add the command to the list
+                commands.add(addition);
             }
-
-            // Check if a change to the telemetry scheduler table exists
-            if (tlmDelCmd.length() != 0)
+            // The command is parameterized
+            else
             {
-                // Terminate the command
-                tlmDelCmd.append("; ");
+                // Step through each set of parameter values
+                for (Object[] parameters : addition.getParameters())
+                {
+                    // Add the command's execution to the list
+                    addParameterizedCommand(commands,
+                                            addition.getCommand(),
+                                            parameters);
+                }
             }
-
-            // Append the command's closing semi-colon and add the commands to
-            // update the internal tables to the delete command
-            delCmd.append("; "
-                          + valuesDelCmd.toString()
-                          + groupsDelCmd.toString()
-                          + fieldsDelCmd.toString()
-                          + ordersDelCmd.toString()
-                          + assnsDelCmd.toString()
-                          + linksDelCmd.toString()
-                          + tlmDelCmd.toString());
         }
+    }
+
+    /**************************************************************************
+     * Add the command to replace the table/variable paths in an internal
+     * table column that match a regular expression to the list of commands.
+     * The regular expression and replacement text are passed as parameters of
+     * the command
+     *
+     * @param commands
+     *            list of commands to which to add the update command
+     *
+     * @param tableName
+     *            name of the internal table to update
+     *
+     * @param columnName
+     *            name of the column in the internal table that contains the
+     *            table/variable path
+     *
+     * @param pattern
+     *            regular expression matching the path(s) to replace, as escape
+     *            string constant text
+     *
+     * @param replacement
+     *            replacement text, as escape string constant text
+     *************************************************************************/
+    private void addPathUpdateCommand(List<BatchCommand> commands,
+                                      String tableName,
+                                      String columnName,
+                                      String pattern,
+                                      String replacement)
+    {
+        addParameterizedCommand(commands,
+                                "UPDATE "
+                                          + tableName
+                                          + " SET "
+                                          + columnName
+                                          + " = regexp_replace("
+                                          + columnName
+                                          + ", ?, ?)",
+                                getEscapeStringValue(pattern),
+                                getEscapeStringValue(replacement));
+    }
+
+    /**************************************************************************
+     * Add the command to delete the rows in an internal table for which the
+     * table/variable path matches a regular expression to the list of
+     * commands. The regular expression is passed as a parameter of the command
+     *
+     * @param commands
+     *            list of commands to which to add the deletion command
+     *
+     * @param tableName
+     *            name of the internal table from which to delete the rows
+     *
+     * @param columnName
+     *            name of the column in the internal table that contains the
+     *            table/variable path
+     *
+     * @param pattern
+     *            regular expression matching the path(s) to delete, as escape
+     *            string constant text
+     *************************************************************************/
+    private void addPathDeleteCommand(List<BatchCommand> commands,
+                                      String tableName,
+                                      String columnName,
+                                      String pattern)
+    {
+        addParameterizedCommand(commands,
+                                "DELETE FROM "
+                                          + tableName
+                                          + " WHERE "
+                                          + columnName
+                                          + " ~ ?",
+                                getEscapeStringValue(pattern));
+    }
 
-        return delCmd.toString();
+    /**************************************************************************
+     * Add the command to replace every occurrence of a regular expression in
+     * the script associations table members column to the list of commands.
+     * The regular expression and replacement text are passed as parameters of
+     * the command
+     *
+     * @param commands
+     *            list of commands to which to add the update command
+     *
+     * @param pattern
+     *            regular expression matching the member(s) to replace, as
+     *            escape string constant text
+     *
+     * @param replacement
+     *            replacement text, as escape string constant text; blank to
+     *            remove the matching member(s)
+     *************************************************************************/
+    private void addAssociationUpdateCommand(List<BatchCommand> commands,
+                                             String pattern,
+                                             String replacement)
+    {
+        addParameterizedCommand(commands,
+                                "UPDATE "
+                                          + InternalTable.ASSOCIATIONS.getTableName()
+                                          + " SET "
+                                          + AssociationsColumn.MEMBERS.getColumnName()
+                                          + " = regexp_replace("
+                                          + AssociationsColumn.MEMBERS.getColumnName()
+                                          + ", ?, ?, 'g')",
+                                getEscapeStringValue(pattern),
+                                getEscapeStringValue(replacement));
     }
 
     /**************************************************************************
-     * Build the command to update the variable name and/or the data type.
-     * Combine updates to array members into a single command by using a
-     * regular expression to match the array indices
+     * Add the command to update the variable name and/or the data type to the
+     * list of commands. Combine updates to array members into a single
+     * command by using a regular expression to match the array indices. The
+     * regular expression and replacement text are passed as parameters of the
+     * command
+     *
+     * @param commands
+     *            list of commands to which to add the update command
      *
      * @param orgVariablePath
      *            original variable path
@@ -4374,18 +5613,18 @@ public class CcddDbTableCommandHandler
      *
      * @param includeChildren
      *            true to include child tables of the variable paths
-     *
-     * @return Command to update the variable name and/or the data type
      *************************************************************************/
-    private String updateVarNameAndDataType(String orgVariablePath,
-                                            String newVariablePath,
-                                            String tableName,
-                                            String columnName,
-                                            String captureIn,
-                                            String captureOut,
-                                            boolean includeChildren)
+    private void updateVarNameAndDataType(List<BatchCommand> commands,
+                                          String orgVariablePath,
+                                          String newVariablePath,
+                                          String tableName,
+                                          String columnName,
+                                          String captureIn,
+                                          String captureOut,
+                                          boolean includeChildren)
     {
-        String command = "";
+        String pattern = null;
+        String replacement = null;
 
         // Initialize the regular expression capture group index
         int captureGrp = captureIn.isEmpty() ? 1 : 2;
@@ -4417,58 +5656,53 @@ public class CcddDbTableCommandHandler
                     captureGrp++;
                 }
 
-                // Create the command to update the internal table for
-                // instances of array variables of the prototype table
-                command = "UPDATE "
-                          + tableName
-                          + " SET "
-                          + columnName
-                          + " = regexp_replace("
-                          + columnName
-                          + ", E'^"
+                // Build the expression and replacement to update the internal
+                // table for instances of array variables of the prototype
+                // table
+                pattern = "^"
                           + captureIn
                           + orgVariablePath
                           + (includeChildren
                                              ? "(,.*|$)"
-                                             : "$")
-                          + "', E'"
-                          + captureOut
-                          + newVariablePath
-                          + (includeChildren
-                                             ? "\\\\"
-                                               + captureGrp
-                                             : "")
-                          + "'); ";
+                                             : "$");
+                replacement = captureOut
+                              + newVariablePath
+                              + (includeChildren
+                                                 ? "\\\\"
+                                                   + captureGrp
+                                                 : "");
             }
         }
         // The path doesn't contain an array member
         else
         {
-            // Create the command to update the custom values table for
-            // instances of non-array member variables of the prototype table
-            command = "UPDATE "
-                      + tableName
-                      + " SET "
-                      + columnName
-                      + " = regexp_replace("
-                      + columnName
-                      + ", E'^"
+            // Build the expression and replacement to update the internal
+            // table for instances of non-array member variables of the
+            // prototype table
+            pattern = "^"
                       + captureIn
                       + orgVariablePath
                       + (includeChildren
                                          ? "(,.*|:\\\\d+|$)"
-                                         : "$")
-                      + "', E'"
-                      + captureOut
-                      + newVariablePath
-                      + (includeChildren
-                                         ? "\\\\"
-                                           + captureGrp
-                                         : "")
-                      + "'); ";
+                                         : "$");
+            replacement = captureOut
+                          + newVariablePath
+                          + (includeChildren
+                                             ? "\\\\"
+                                               + captureGrp
+                                             : "");
         }
 
-        return command;
+        // Check if the path requires an update
+        if (pattern != null)
+        {
+            // Add the command to update the internal table
+            addPathUpdateCommand(commands,
+                                 tableName,
+                                 columnName,
+                                 pattern,
+                                 replacement);
+        }
     }
 
     /**************************************************************************
@@ -4841,6 +6075,61 @@ public class CcddDbTableCommandHandler
         return tlmCmd;
     }
 
+    /**************************************************************************
+     * Add the command to delete the specified table/variable references from
+     * the links table to the list of commands. The regular expression is
+     * passed as a parameter of the command
+     *
+     * @param linksPath
+     *            table/variable path to remove from the links table. Leading
+     *            or trailing regular expression constructs must surround the
+     *            path, and any reserved PostgreSQL characters in the path must
+     *            be escaped
+     *
+     * @param linksCmds
+     *            list of commands to which to add the links table deletion
+     *            command
+     *************************************************************************/
+    private void deleteLinkPathRef(String linksPath,
+                                   List<BatchCommand> linksCmds)
+    {
+        addParameterizedCommand(linksCmds,
+                                "DELETE FROM "
+                                           + InternalTable.LINKS.getTableName()
+                                           + " WHERE "
+                                           + LinksColumn.MEMBER.getColumnName()
+                                           + " ~ ?",
+                                getEscapeStringValue(linksPath));
+    }
+
+    /**************************************************************************
+     * Add the command to delete the specified table/variable references from
+     * the telemetry scheduler table to the list of commands. The regular
+     * expression is passed as a parameter of the command
+     *
+     * @param tlmPath
+     *            table/variable path to remove from the telemetry scheduler
+     *            table. Leading or trailing regular expression constructs must
+     *            surround the path, and any reserved PostgreSQL characters in
+     *            the path must be escaped
+     *
+     * @param tlmCmds
+     *            list of commands to which to add the telemetry scheduler
+     *            table deletion command
+     *************************************************************************/
+    private void deleteTlmPathRef(String tlmPath, List<BatchCommand> tlmCmds)
+    {
+        addParameterizedCommand(tlmCmds,
+                                "DELETE FROM "
+                                         + InternalTable.TLM_SCHEDULER.getTableName()
+                                         + " WHERE "
+                                         + TlmSchedulerColumn.MEMBER.getColumnName()
+                                         + " ~ ?",
+                                getEscapeStringValue("^.*"
+                                                     + tlmSchSeparator
+                                                     + tlmPath));
+    }
+
     /**************************************************************************
      * Build the command to delete the specified variable references from the
      * telemetry scheduler table
@@ -4947,21 +6236,241 @@ public class CcddDbTableCommandHandler
     }
 
     /**************************************************************************
-     * Retrieve a list of internal table data from the database
+     * Retrieve a list of internal table data from the database
+     *
+     * @param intTable
+     *            type of internal table to retrieve
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return List of the items in the internal table. An empty list is
+     *         returned if the specified table is empty or doesn't exist. The
+     *         list for a table stored in the project snapshot is read-only
+     *         and its rows must not be altered
+     *************************************************************************/
+    protected List<String[]> retrieveInformationTable(InternalTable intTable,
+                                                      Component parent)
+    {
+        return retrieveInformationTable(intTable, false, null, parent);
+    }
+
+    /**************************************************************************
+     * Retrieve the data field definitions belonging to the specified owner.
+     * The definitions are obtained from the project snapshot's owner index,
+     * so the data fields table is read from the database only if it isn't
+     * already stored in the snapshot
+     *
+     * @param ownerName
+     *            name of the data field owner (table name, including the path
+     *            if this table references a structure, group name, or table
+     *            type name); case insensitive
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return List of copies of the owner's data field definitions, which
+     *         the caller can alter. An empty list is returned if the owner has
+     *         no data fields
+     *************************************************************************/
+    protected List<String[]> retrieveFieldDefinitions(String ownerName,
+                                                      Component parent)
+    {
+        // Get the owner's fields from the project snapshot
+        List<String[]> ownerFields = snapshot.getFieldDefinitions(ownerName);
+
+        // Check if the data fields table isn't stored in the snapshot
+        if (ownerFields == null)
+        {
+            // Load the data fields table; this stores it in the snapshot
+            List<String[]> fields = retrieveInformationTable(InternalTable.FIELDS,
+                                                             parent);
+
+            // Get the owner's fields from the project snapshot
+            ownerFields = snapshot.getFieldDefinitions(ownerName);
+
+            // Check if the table couldn't be stored in the snapshot (e.g., a
+            // change was made while it was loading)
+            if (ownerFields == null)
+            {
+                ownerFields = new ArrayList<String[]>();
+
+                // Step through each data field definition
+                for (String[] field : fields)
+                {
+                    // Check if the field belongs to the specified owner
+                    if (field[FieldsColumn.OWNER_NAME.ordinal()].equalsIgnoreCase(ownerName))
+                    {
+                        ownerFields.add(field);
+                    }
+                }
+            }
+        }
+
+        List<String[]> fieldDefns = new ArrayList<String[]>(ownerFields.size());
+
+        // Step through each of the owner's field definitions
+        for (String[] field : ownerFields)
+        {
+            // Copy the definition so that changes made by the caller don't
+            // alter the project snapshot's shared rows
+            fieldDefns.add(Arrays.copyOf(field, field.length));
+        }
+
+        return fieldDefns;
+    }
+
+    /**************************************************************************
+     * Read the rows of an internal table from the results of a query
+     *
+     * @param infoData
+     *            results of the query on the internal table; these are closed
+     *            after the rows are read
+     *
+     * @return List of the rows read from the query results. A null column
+     *         value is replaced by a blank
+     *
+     * @throws SQLException
+     *             If an error occurs reading the query results
+     *************************************************************************/
+    private List<String[]> readInformationRows(ResultSet infoData) throws SQLException
+    {
+        List<String[]> tableData = new ArrayList<String[]>();
+
+        // Step through each of the query results
+        while (infoData.next())
+        {
+            // Create an array to contain the column values
+            String[] columnValues = new String[infoData.getMetaData().getColumnCount()];
+
+            // Step through each column in the row
+            for (int column = 0; column < infoData.getMetaData().getColumnCount(); column++)
+            {
+                // Add the column value to the array. Note that the first
+                // column's index in the database is 1, not 0
+                columnValues[column] = infoData.getString(column + 1);
+
+                // Check if the value is null
+                if (columnValues[column] == null)
+                {
+                    // Replace the null with a blank
+                    columnValues[column] = "";
+                }
+            }
+
+            // Add the row data to the list
+            tableData.add(columnValues);
+        }
+
+        infoData.close();
+
+        return tableData;
+    }
+
+    /**************************************************************************
+     * Update the project snapshot following a change to the specified data
+     * tables. The rows in the specified internal tables that refer to the
+     * changed tables are reloaded from the database and replace the ones
+     * stored in the snapshot, so that the remainder of each internal table
+     * needn't be reloaded. An internal table that isn't stored in the
+     * snapshot, or whose rows can't be reloaded, is invalidated instead
      *
-     * @param intTable
-     *            type of internal table to retrieve
+     * @param tableNames
+     *            array of the changed tables' names (prototype names or table
+     *            paths)
+     *
+     * @param intTables
+     *            array of the internal tables that may refer to the changed
+     *            tables: FIELDS, GROUPS, LINKS, and/or VALUES
+     *
+     * @param invalidateMembers
+     *            true if the change affects the table members
      *
      * @param parent
      *            GUI component calling this method
-     *
-     * @return List of the items in the internal table. An empty list is
-     *         returned if the specified table is empty or doesn't exist
      *************************************************************************/
-    protected List<String[]> retrieveInformationTable(InternalTable intTable,
-                                                      Component parent)
+    private void patchSnapshotReferences(String[] tableNames,
+                                         InternalTable[] intTables,
+                                         boolean invalidateMembers,
+                                         Component parent)
     {
-        return retrieveInformationTable(intTable, false, null, parent);
+        Map<InternalTable, List<String[]>> reloadedRows = new HashMap<InternalTable, List<String[]>>();
+
+        // Get the snapshot revision prior to querying the database
+        long revision = snapshot.getRevision();
+
+        // Step through each internal table that may refer to the tables
+        for (InternalTable intTable : intTables)
+        {
+            List<String[]> rows = null;
+
+            // Check if the table's contents are stored in the snapshot
+            if (snapshot.getInformationTable(intTable) != null)
+            {
+                // Get the name of the column containing the table references
+                String column = intTable.getColumnName(CcddProjectSnapshotHandler.getReferenceColumn(intTable));
+                StringBuilder condition = new StringBuilder();
+
+                // Step through each table name
+                for (String tableName : tableNames)
+                {
+                    // Add the conditions that match a reference to the table:
+                    // the table itself, a path with the table as the root, or
+                    // a path with a variable having the table as its
+                    // prototype
+                    condition.append(condition.length() == 0
+                                                              ? ""
+                                                              : " OR ")
+                             .append(column)
+                             .append(" = ")
+                             .append(delimitText(tableName))
+                             .append(" OR substr(")
+                             .append(column)
+                             .append(", 1, ")
+                             .append(tableName.length() + 1)
+                             .append(") = ")
+                             .append(delimitText(tableName + ","))
+                             .append(" OR strpos(")
+                             .append(column)
+                             .append(", ")
+                             .append(delimitText("," + tableName + "."))
+                             .append(") != 0");
+                }
+
+                try
+                {
+                    // Reload the rows that refer to the tables
+                    rows = readInformationRows(dbCommand.executeDbQuery("SELECT * FROM "
+                                                                        + intTable.getTableName()
+                                                                        + " WHERE "
+                                                                        + condition
+                                                                        + " ORDER BY OID;",
+                                                                        parent));
+                }
+                catch (SQLException se)
+                {
+                    // Log the failure; the table is invalidated in the
+                    // snapshot so that it's reloaded when next needed
+                    eventLog.logFailEvent(parent,
+                                          "Cannot reload internal table '"
+                                                  + intTable.getTableName()
+                                                  + "' references; cause '"
+                                                  + se.getMessage()
+                                                  + "'",
+                                          "<html><b>Cannot reload internal table '</b>"
+                                                                   + intTable.getTableName()
+                                                                   + "<b>' references");
+                }
+            }
+
+            reloadedRows.put(intTable, rows);
+        }
+
+        // Replace the rows in the snapshot
+        snapshot.patchTableReferences(tableNames,
+                                      reloadedRows,
+                                      invalidateMembers,
+                                      revision);
     }
 
     /**************************************************************************
@@ -4978,7 +6487,9 @@ public class CcddDbTableCommandHandler
      *            GUI component calling this method
      *
      * @return List of the items in the internal table. An empty list is
-     *         returned if the specified table is empty or doesn't exist
+     *         returned if the specified table is empty or doesn't exist. The
+     *         list for a table stored in the project snapshot is read-only
+     *         and its rows must not be altered
      *************************************************************************/
     protected List<String[]> retrieveInformationTable(InternalTable intTable,
                                                       boolean includeOID,
@@ -5005,19 +6516,42 @@ public class CcddDbTableCommandHandler
      *            GUI component calling this method
      *
      * @return List of the items in the internal table. An empty list is
-     *         returned if the specified table is empty or doesn't exist
+     *         returned if the specified table is empty or doesn't exist. The
+     *         list for a table stored in the project snapshot is read-only
+     *         and its rows must not be altered
      *************************************************************************/
     protected List<String[]> retrieveInformationTable(InternalTable intTable,
                                                       boolean includeOID,
                                                       String scriptName,
                                                       Component parent)
     {
+        // Check if the table contents are stored in the project snapshot. The
+        // snapshot doesn't include the OID column
+        boolean isSnapshot = !includeOID
+                             && CcddProjectSnapshotHandler.isSnapshotTable(intTable);
+
+        // Check if the table can be retrieved from the snapshot
+        if (isSnapshot)
+        {
+            // Get the table contents from the snapshot
+            List<String[]> snapshotData = snapshot.getInformationTable(intTable);
+
+            // Check if the table contents are stored in the snapshot
+            if (snapshotData != null)
+            {
+                return snapshotData;
+            }
+        }
+
         // Create a list to contain the internal table items
         List<String[]> tableData = new ArrayList<String[]>();
 
         // Get the internal table name
         String intTableName = intTable.getTableName(scriptName);
 
+        // Get the snapshot revision prior to querying the database
+        long revision = snapshot.getRevision();
+
         try
         {
             // Check that the internal table exists in the database
@@ -5033,32 +6567,15 @@ public class CcddDbTableCommandHandler
                                                               + " ORDER BY OID;",
                                                               parent);
 
-                // Step through each of the query results
-                while (infoData.next())
-                {
-                    // Create an array to contain the column values
-                    String[] columnValues = new String[infoData.getMetaData().getColumnCount()];
-
-                    // Step through each column in the row
-                    for (int column = 0; column < infoData.getMetaData().getColumnCount(); column++)
-                    {
-                        // Add the column value to the array. Note that the
-                        // first column's index in the database is 1, not 0
-                        columnValues[column] = infoData.getString(column + 1);
-
-                        // Check if the value is null
-                        if (columnValues[column] == null)
-                        {
-                            // Replace the null with a blank
-                            columnValues[column] = "";
-                        }
-                    }
-
-                    // Add the row data to the list
-                    tableData.add(columnValues);
-                }
+                // Read the rows from the query results
+                tableData = readInformationRows(infoData);
+            }
 
-                infoData.close();
+            // Check if the table contents are stored in the snapshot
+            if (isSnapshot)
+            {
+                // Store the table contents in the snapshot
+                snapshot.setInformationTable(intTable, tableData, revision);
             }
         }
         catch (SQLException se)
@@ -5248,6 +6765,10 @@ public class CcddDbTableCommandHandler
         {
             String command = "";
 
+            // Create storage for the commands that store the table. These are
+            // executed following any command in the command string
+            List<BatchCommand> storeCommands = new ArrayList<BatchCommand>();
+
             switch (intTable)
             {
                 case GROUPS:
@@ -5277,24 +6798,23 @@ public class CcddDbTableCommandHandler
                 case RESERVED_MSG_IDS:
                 case SCRIPT:
                 case TLM_SCHEDULER:
-                    // Build the command for storing the script configurations,
-                    // groups, links, etc. table
-                    command += storeNonTableTypesInfoTableCommand(intTable,
-                                                                  tableData,
-                                                                  tableComment,
-                                                                  parent);
+                    // Build the commands for storing the changes to the
+                    // script configurations, groups, links, etc. table
+                    storeCommands.addAll(storeNonTableTypesInfoTableChanges(intTable,
+                                                                            tableData,
+                                                                            tableComment,
+                                                                            parent));
                     break;
 
                 case LINKS:
-                    // Build the commands for storing the links table and for
-                    // deleting any invalid references in the telemetry
-                    // scheduler table
-                    command += storeNonTableTypesInfoTableCommand(intTable,
-                                                                  tableData,
-                                                                  tableComment,
-                                                                  parent)
-                               + deleteTlmPathRefs(invalidLinkVars);
-
+                    // Build the commands for storing the changes to the links
+                    // table and for deleting any invalid references in the
+                    // telemetry scheduler table
+                    storeCommands.addAll(storeNonTableTypesInfoTableChanges(intTable,
+                                                                            tableData,
+                                                                            tableComment,
+                                                                            parent));
+                    storeCommands.add(new BatchCommand(deleteTlmPathRefs(invalidLinkVars)));
                     break;
 
                 case TABLE_TYPES:
@@ -5307,8 +6827,52 @@ public class CcddDbTableCommandHandler
                     break;
             }
 
-            // Execute the database update
-            dbCommand.executeDbUpdate(command, parent);
+            // Execute the database update as a single change
+            storeCommands.add(0, new BatchCommand(command));
+            dbCommand.executeDbBatchUpdate(storeCommands, parent);
+
+            // Check if the table's entire contents were stored
+            if (intTable == InternalTable.FIELDS
+                || intTable == InternalTable.GROUPS
+                || intTable == InternalTable.LINKS)
+            {
+                // Replace the table's contents in the project snapshot with
+                // the stored contents so that the table needn't be reloaded
+                snapshot.replaceInformationTable(intTable, tableData);
+
+                // Check if any group data fields were changed
+                if (intTable == InternalTable.GROUPS
+                    && (!deletedGroups.isEmpty() || !fieldInformationList.isEmpty()))
+                {
+                    List<String> ownerNames = new ArrayList<String>();
+
+                    // Step through each deleted group
+                    for (String groupName : deletedGroups)
+                    {
+                        ownerNames.add(CcddFieldHandler.getFieldGroupName(groupName));
+                    }
+
+                    // Step through each group's data field information list
+                    for (List<FieldInformation> fieldInformation : fieldInformationList)
+                    {
+                        ownerNames.add(fieldInformation.get(0).getOwnerName());
+                    }
+
+                    // Update the project snapshot's data fields belonging to
+                    // the changed groups
+                    patchSnapshotReferences(ownerNames.toArray(new String[0]),
+                                            new InternalTable[] {InternalTable.FIELDS},
+                                            false,
+                                            parent);
+                }
+            }
+            // The table's contents are stored in another form
+            else
+            {
+                // Discard the project snapshot items that depend on the
+                // internal table
+                snapshot.invalidateInformationTable(intTable);
+            }
 
             // Inform the user that the update succeeded
             eventLog.logEvent(SUCCESS_MSG,
@@ -5399,6 +6963,317 @@ public class CcddDbTableCommandHandler
         }
     }
 
+    /**************************************************************************
+     * Build the commands for storing the groups, script associations, links
+     * table, data fields, or script. If the internal table exists then the
+     * table's committed rows are compared to the supplied table data and only
+     * the rows that differ are deleted, updated, or inserted, using
+     * parameterized batch commands. The row order (which is the order of the
+     * rows' OIDs) is preserved. If the table doesn't exist, or its committed
+     * rows can't be read, then the table is deleted and recreated
+     *
+     * @param intTable
+     *            type of internal table to store
+     *
+     * @param tableData
+     *            list containing the table data to store
+     *
+     * @param tableComment
+     *            table comment; null if unchanged
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return List of commands for storing the specified table
+     *************************************************************************/
+    private List<BatchCommand> storeNonTableTypesInfoTableChanges(InternalTable intTable,
+                                                                  List<String[]> tableData,
+                                                                  String tableComment,
+                                                                  Component parent)
+    {
+        List<BatchCommand> commands = new ArrayList<BatchCommand>();
+
+        // Get the internal table's name
+        String tableName = intTable.getTableName(tableComment);
+
+        // Load the table's committed rows, with each row's OID as the last
+        // column
+        List<String[]> committedRows = loadCommittedRows(intTable,
+                                                         tableName,
+                                                         tableData,
+                                                         parent);
+
+        // Check if the committed rows can't be compared to the table data
+        if (committedRows == null)
+        {
+            // Build the command to delete and recreate the table
+            commands.add(new BatchCommand(storeNonTableTypesInfoTableCommand(intTable,
+                                                                             tableData,
+                                                                             tableComment,
+                                                                             parent)));
+        }
+        // The committed rows are available
+        else
+        {
+            int numCommitted = committedRows.size();
+            int numRows = tableData.size();
+            int numColumns = intTable.getNumColumns();
+
+            // Determine the number of rows at the beginning of the table that
+            // are unchanged
+            int prefix = 0;
+
+            while (prefix < numCommitted
+                   && prefix < numRows
+                   && isSameRow(committedRows.get(prefix), tableData.get(prefix)))
+            {
+                prefix++;
+            }
+
+            // Determine the number of rows at the end of the table that are
+            // unchanged
+            int suffix = 0;
+
+            while (suffix < numCommitted - prefix
+                   && suffix < numRows - prefix
+                   && isSameRow(committedRows.get(numCommitted - suffix - 1),
+                                tableData.get(numRows - suffix - 1)))
+            {
+                suffix++;
+            }
+
+            // Check if rows are added between the unchanged rows. Inserted
+            // rows are placed after all of the existing rows, so the rows
+            // following the insertion point are updated in place instead of
+            // being retained
+            if (numRows - suffix - prefix > numCommitted - suffix - prefix)
+            {
+                suffix = 0;
+            }
+
+            // Create storage for the row changes
+            List<Object[]> deletions = new ArrayList<Object[]>();
+            List<Object[]> modifications = new ArrayList<Object[]>();
+            List<Object[]> additions = new ArrayList<Object[]>();
+
+            // Step through each row between the unchanged rows
+            for (int row = prefix; row < Math.max(numCommitted, numRows) - suffix; row++)
+            {
+                // Check if the row is beyond the end of the committed rows
+                if (row >= numCommitted - suffix)
+                {
+                    // Add the new row
+                    additions.add(tableData.get(row));
+                }
+                // Check if the row is beyond the end of the new rows
+                else if (row >= numRows - suffix)
+                {
+                    // Delete the committed row using its OID
+                    deletions.add(new Object[] {committedRows.get(row)[numColumns]});
+                }
+                // Check if the row changed
+                else if (!isSameRow(committedRows.get(row), tableData.get(row)))
+                {
+                    // Update the committed row in place, which retains its
+                    // OID and therefore its position in the table
+                    Object[] values = Arrays.copyOf(tableData.get(row),
+                                                    numColumns + 1,
+                                                    Object[].class);
+                    values[numColumns] = committedRows.get(row)[numColumns];
+                    modifications.add(values);
+                }
+            }
+
+            StringBuilder setColumns = new StringBuilder();
+            StringBuilder insertValues = new StringBuilder();
+
+            // Step through each column in the table
+            for (int column = 0; column < numColumns; column++)
+            {
+                // Add the column's assignment and value placeholders
+                setColumns.append("\"" + intTable.getColumnName(column) + "\" = ?, ");
+                insertValues.append("?, ");
+            }
+
+            // Add the row deletion, update, and insertion commands. The
+            // deletions and updates precede the insertions so that the new
+            // rows' OIDs follow those of the retained rows
+            commands.add(new BatchCommand("DELETE FROM "
+                                          + tableName
+                                          + " WHERE OID = ?",
+                                          deletions));
+            commands.add(new BatchCommand("UPDATE "
+                                          + tableName
+                                          + " SET "
+                                          + CcddUtilities.removeTrailer(setColumns.toString(), ", ")
+                                          + " WHERE OID = ?",
+                                          modifications));
+            commands.add(new BatchCommand("INSERT INTO "
+                                          + tableName
+                                          + " VALUES ("
+                                          + CcddUtilities.removeTrailer(insertValues.toString(), ", ")
+                                          + ")",
+                                          additions));
+
+            // Check if a comment is provided
+            if (tableComment != null)
+            {
+                // Add the command to update the table's comment
+                commands.add(new BatchCommand("COMMENT ON TABLE "
+                                              + tableName
+                                              + " IS "
+                                              + delimitText(tableComment)
+                                              + ";"));
+            }
+
+            // Check if the macros are stored and any macro changed
+            if (intTable == InternalTable.MACROS
+                && !(deletions.isEmpty()
+                     && modifications.isEmpty()
+                     && additions.isEmpty()))
+            {
+                // Rebuild the table member catalog since a macro's value
+                // determines if an array size column containing the macro
+                // indicates an array definition
+                commands.add(new BatchCommand("DO $$ BEGIN PERFORM rebuild_table_members(); END $$;"));
+            }
+        }
+
+        return commands;
+    }
+
+    /**************************************************************************
+     * Load the committed rows of the specified internal table in the order of
+     * the rows' OIDs, with the OID appended to each row
+     *
+     * @param intTable
+     *            type of internal table
+     *
+     * @param tableName
+     *            internal table name
+     *
+     * @param tableData
+     *            list containing the table data to be stored; used to verify
+     *            that the rows can be compared
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return List containing the committed rows; null if the table doesn't
+     *         exist, its rows can't be read, or its columns don't match those
+     *         of the internal table or the supplied table data
+     *************************************************************************/
+    private List<String[]> loadCommittedRows(InternalTable intTable,
+                                             String tableName,
+                                             List<String[]> tableData,
+                                             Component parent)
+    {
+        List<String[]> committedRows = null;
+        int numColumns = intTable.getNumColumns();
+
+        // Step through each row of the table data
+        for (String[] row : tableData)
+        {
+            // Check if the number of columns in the row doesn't match the
+            // number in the internal table
+            if (row.length != numColumns)
+            {
+                // The rows can't be compared
+                return null;
+            }
+        }
+
+        try
+        {
+            // Check that the internal table exists in the database
+            if (isTableExists(tableName, parent))
+            {
+                // Get the table's rows and OIDs
+                ResultSet rowData = dbCommand.executeDbQuery("SELECT *, OID FROM "
+                                                             + tableName
+                                                             + " ORDER BY OID;",
+                                                             parent);
+
+                // Check if the table's columns match the internal table's
+                if (rowData.getMetaData().getColumnCount() == numColumns + 1)
+                {
+                    committedRows = new ArrayList<String[]>();
+
+                    // Step through each of the query results
+                    while (rowData.next())
+                    {
+                        // Create an array to contain the column values
+                        String[] columnValues = new String[numColumns + 1];
+
+                        // Step through each column in the row
+                        for (int column = 0; column <= numColumns; column++)
+                        {
+                            // Add the column value to the array, replacing a
+                            // null with a blank. Note that the first column's
+                            // index in the database is 1, not 0
+                            columnValues[column] = rowData.getString(column + 1);
+
+                            if (columnValues[column] == null)
+                            {
+                                columnValues[column] = "";
+                            }
+                        }
+
+                        committedRows.add(columnValues);
+                    }
+                }
+
+                rowData.close();
+            }
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that loading the committed rows failed. The
+            // table is rewritten in its entirety instead
+            eventLog.logEvent(STATUS_MSG,
+                              "Cannot load committed rows for internal table '"
+                                          + tableName
+                                          + "'; cause '"
+                                          + se.getMessage()
+                                          + "'");
+            committedRows = null;
+        }
+
+        return committedRows;
+    }
+
+    /**************************************************************************
+     * Check if a committed internal table row matches a row of table data
+     *
+     * @param committedRow
+     *            committed row; may include the row's OID as an additional
+     *            final column
+     *
+     * @param row
+     *            row of table data
+     *
+     * @return true if the row's column values match the committed row's
+     *************************************************************************/
+    private boolean isSameRow(String[] committedRow, String[] row)
+    {
+        boolean isSame = true;
+
+        // Step through each column in the row
+        for (int column = 0; column < row.length; column++)
+        {
+            // Check if the column value differs (a null matches a blank)
+            if (!committedRow[column].equals(row[column] == null
+                                                                 ? ""
+                                                                 : row[column]))
+            {
+                isSame = false;
+                break;
+            }
+        }
+
+        return isSame;
+    }
+
     /**************************************************************************
      * Build the command for storing the groups, script associations, links
      * table, data fields, or script
@@ -5515,6 +7390,46 @@ public class CcddDbTableCommandHandler
             command.append("; ");
         }
 
+        // Check if the macros are stored
+        if (intTable == InternalTable.MACROS)
+        {
+            // Rebuild the table member catalog since a macro's value
+            // determines if an array size column containing the macro
+            // indicates an array definition
+            command.append("DO $$ BEGIN PERFORM rebuild_table_members(); END $$; ");
+        }
+
+        // Create the search indices for the recreated table
+        command.append(searchIndexHandler.buildCreateIndicesCommand(tableName));
+
+        return command.toString();
+    }
+
+    /**************************************************************************
+     * Build the command to update the table member catalog entries for the
+     * specified table(s). The command returns no result so that it can be
+     * combined with a database update command
+     *
+     * @param tableNames
+     *            names of the tables that are created, modified, or deleted
+     *
+     * @return Command to update the table member catalog
+     *************************************************************************/
+    private String refreshMemberCatalogCommand(String... tableNames)
+    {
+        StringBuilder command = new StringBuilder("DO $$ BEGIN ");
+
+        // Step through each table name
+        for (String tableName : tableNames)
+        {
+            // Add the command to update the table's catalog entries
+            command.append("PERFORM refresh_table_members('"
+                           + tableName.toLowerCase()
+                           + "'); ");
+        }
+
+        command.append("END $$; ");
+
         return command.toString();
     }
 
@@ -5579,7 +7494,8 @@ public class CcddDbTableCommandHandler
             }
         }
 
-        // Replace the trailing comma with a semicolon
+        // Replace the trailing comma with a semicolon, and create the search
+        // indices for the recreated table
         command = CcddUtilities.removeTrailer(command, ", ")
                                .append("; ")
                                .append(dbControl.buildOwnerCommand(DatabaseObject.TABLE,
@@ -5729,6 +7645,10 @@ public class CcddDbTableCommandHandler
                     // Execute the command to change the table's type name
                     dbCommand.executeDbCommand(command.toString(), typeDialog);
 
+                    // Discard the project snapshot since it no longer reflects the
+                    // database contents
+                    snapshot.invalidate();
+
                     // Log that renaming the table succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table '"
@@ -5825,6 +7745,10 @@ public class CcddDbTableCommandHandler
                     // Execute the command to change the table's type name
                     dbCommand.executeDbCommand(command, typeDialog);
 
+                    // Discard the project snapshot since it no longer reflects the
+                    // database contents
+                    snapshot.invalidate();
+
                     // Log that renaming the table succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table type '"
@@ -5975,6 +7899,10 @@ public class CcddDbTableCommandHandler
                         // Delete the table(s)
                         dbCommand.executeDbUpdate(command, parent);
 
+                        // Discard the project snapshot since it no longer reflects the
+                        // database contents
+                        snapshot.invalidate();
+
                         // Execute the command to reset the rate for links that
                         // no longer contain any variables
                         dbCommand.executeDbQuery("SELECT reset_link_rate();", parent);
@@ -6749,6 +8677,10 @@ public class CcddDbTableCommandHandler
                     names = " and table(s) '</b>"
                             + getShortenedTableNames(tableNames)
                             + "<b>'";
+
+                    // Build the command to create the search indices for any
+                    // columns added to the tables
+                    command.append(searchIndexHandler.buildCreateIndicesCommand(tableNames));
                 }
 
                 // Build the command to update the data fields table and the
@@ -6763,6 +8695,10 @@ public class CcddDbTableCommandHandler
                 // of this type
                 dbCommand.executeDbCommand(command.toString(), editorDialog);
 
+                // Discard the project snapshot since it no longer reflects the
+                // database contents
+                snapshot.invalidate();
+
                 // Log that updating the table type succeeded
                 eventLog.logEvent(SUCCESS_MSG,
                                   "Table type '"
@@ -7163,6 +9099,10 @@ public class CcddDbTableCommandHandler
                     // Execute the command to change the data fields
                     dbCommand.executeDbCommand(command.toString(), editorWindow);
 
+                    // Discard the project snapshot since it no longer reflects the
+                    // database contents
+                    snapshot.invalidate();
+
                     // Log that updating the data fields succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table data fields updated");
@@ -7632,14 +9572,13 @@ public class CcddDbTableCommandHandler
                     }
                 }
 
+                // Begin a transaction in case an error occurs while modifying
+                // a table. This prevents committing the changes to the
+                // database until after all tables are modified
+                Transaction transaction = dbCommand.beginTransaction();
+
                 try
                 {
-                    // Enable creation of a save point in case an error occurs
-                    // while modifying a table. This prevents committing the
-                    // changes to the database until after all tables are
-                    // modified
-                    dbCommand.setSavePointEnable(true);
-
                     // Check if only a change in data type name, data size
                     // (same size or smaller), or macro name occurred; if so
                     // then the internal table update process is simplified in
@@ -7825,7 +9764,11 @@ public class CcddDbTableCommandHandler
                                               dialog);
 
                     // Commit the change(s) to the database
-                    dbCommand.getConnection().commit();
+                    transaction.commit();
+
+                    // Discard the project snapshot since it no longer
+                    // reflects the database contents
+                    snapshot.invalidate();
 
                     // Inform the user that the update succeeded
                     eventLog.logEvent(SUCCESS_MSG,
@@ -7847,10 +9790,11 @@ public class CcddDbTableCommandHandler
 
                         // Revert the changes to the tables that were
                         // successfully updated prior the current table
-                        dbCommand.executeDbCommand("ROLLBACK TO SAVEPOINT "
-                                                   + DB_SAVE_POINT_NAME
-                                                   + ";",
-                                                   dialog);
+                        transaction.rollback(dialog);
+
+                        // Discard the project snapshot since it may contain
+                        // items loaded prior to the changes being reverted
+                        snapshot.invalidate();
                     }
                     catch (SQLException se2)
                     {
@@ -7873,8 +9817,8 @@ public class CcddDbTableCommandHandler
                 }
                 finally
                 {
-                    // Reset the flag for creating a save point
-                    dbCommand.setSavePointEnable(false);
+                    // End the transaction
+                    transaction.end();
                 }
             }
 
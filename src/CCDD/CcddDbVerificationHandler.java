@@ -10,7 +10,6 @@ package CCDD;
 
 import static CCDD.CcddConstants.CANCEL_BUTTON;
 import static CCDD.CcddConstants.CANCEL_ICON;
-import static CCDD.CcddConstants.DB_SAVE_POINT_NAME;
 import static CCDD.CcddConstants.GROUP_DATA_FIELD_IDENT;
 import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
 import static CCDD.CcddConstants.ASSN_TABLE_SEPARATOR;
@@ -75,6 +74,7 @@ import CCDD.CcddConstants.TableCommentIndex;
 import CCDD.CcddConstants.TableSelectionMode;
 import CCDD.CcddConstants.TableTreeType;
 import CCDD.CcddConstants.VerificationColumnInfo;
+import CCDD.CcddDbCommandHandler.Transaction;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /******************************************************************************
@@ -1918,15 +1918,12 @@ public class CcddDbVerificationHandler
         // data
         tableStorage = new ArrayList<TableStorage>();
 
+        // Create storage for the paths of the tables to verify
+        List<String> tablePaths = new ArrayList<String>();
+
         // Step through the root node's children
         for (Enumeration<?> element = tableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
         {
-            // Check if the user canceled verification
-            if (canceled)
-            {
-                break;
-            }
-
             // Get the referenced node and the path to the node
             ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
             TreePath path = new TreePath(tableNode.getPath());
@@ -1934,211 +1931,221 @@ public class CcddDbVerificationHandler
             // Check if the path references a table
             if (path.getPathCount() > tableTree.getHeaderNodeLevel())
             {
-                // Get the information from the database for the specified
-                // table
-                TableInformation tableInfo = dbTable.loadTableData(tableTree.getFullVariablePath(path.getPath()),
-                                                                   rootStructure.contains(path.getLastPathComponent().toString()),
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   ccddMain.getMainFrame());
-
-                // Check if the table loaded successfully and that the table
-                // has data
-                if (!tableInfo.isErrorFlag() && tableInfo.getData().length > 0)
-                {
-                    // Create storage for the table data as it exists in the
-                    // database
-                    String[][] committedData = new String[tableInfo.getData().length][tableInfo.getData()[0].length];
+                // Add the table's path to the list
+                tablePaths.add(tableTree.getFullVariablePath(path.getPath()));
+            }
+        }
 
-                    // Step through each row in the table
-                    for (int row = 0; row < tableInfo.getData().length && !canceled; row++)
+        // Load the information from the database for every table in the list
+        // and step through each table
+        for (TableInformation tableInfo : dbTable.loadTableDataBatch(tablePaths,
+                                                                     rootStructure,
+                                                                     false,
+                                                                     false,
+                                                                     false,
+                                                                     ccddMain.getMainFrame()))
+        {
+            // Check if the user canceled verification
+            if (canceled)
+            {
+                break;
+            }
+
+            // Check if the table loaded successfully and that the table
+            // has data
+            if (!tableInfo.isErrorFlag() && tableInfo.getData().length > 0)
+            {
+                // Create storage for the table data as it exists in the
+                // database
+                String[][] committedData = new String[tableInfo.getData().length][tableInfo.getData()[0].length];
+
+                // Step through each row in the table
+                for (int row = 0; row < tableInfo.getData().length && !canceled; row++)
+                {
+                    // Step through each column in the table
+                    for (int column = 0; column < tableInfo.getData()[0].length && !canceled; column++)
                     {
-                        // Step through each column in the table
-                        for (int column = 0; column < tableInfo.getData()[0].length && !canceled; column++)
-                        {
-                            // Store the table value into the committed storage
-                            // array
-                            committedData[row][column] = tableInfo.getData()[row][column];
-                        }
+                        // Store the table value into the committed storage
+                        // array
+                        committedData[row][column] = tableInfo.getData()[row][column];
                     }
+                }
 
-                    // Add the table information and data to the list
-                    tableStorage.add(new TableStorage(tableInfo, committedData));
+                // Add the table information and data to the list
+                tableStorage.add(new TableStorage(tableInfo, committedData));
 
-                    // Get the table's type definition
-                    typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
-
-                    // Get the variable name, data type, and array size column
-                    // indices for this table type
-                    variableNameIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
-                    dataTypeIndex = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
-                    arraySizeIndex = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
-
-                    // Initialize the array check parameters: array data type,
-                    // name, number of members, array dimension sizes, and
-                    // current index position
-                    String dataType = "";
-                    String arrayName = "";
-                    membersRemaining = 0;
-                    totalArraySize = new int[0];
-                    currentArrayIndex = new int[0];
-
-                    // Initialize the array definition and last missing array
-                    // member row indices
-                    definitionRow = 0;
-                    int lastMissingRow = 0;
-
-                    // Step through each row in the table
-                    for (int row = 0; row < tableInfo.getData().length && !canceled; row++)
+                // Get the table's type definition
+                typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+                // Get the variable name, data type, and array size column
+                // indices for this table type
+                variableNameIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+                dataTypeIndex = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
+                arraySizeIndex = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
+
+                // Initialize the array check parameters: array data type,
+                // name, number of members, array dimension sizes, and
+                // current index position
+                String dataType = "";
+                String arrayName = "";
+                membersRemaining = 0;
+                totalArraySize = new int[0];
+                currentArrayIndex = new int[0];
+
+                // Initialize the array definition and last missing array
+                // member row indices
+                definitionRow = 0;
+                int lastMissingRow = 0;
+
+                // Step through each row in the table
+                for (int row = 0; row < tableInfo.getData().length && !canceled; row++)
+                {
+                    // Step through each column in the table
+                    for (int column = 0; column < tableInfo.getData()[row].length && !canceled; column++)
                     {
-                        // Step through each column in the table
-                        for (int column = 0; column < tableInfo.getData()[row].length && !canceled; column++)
-                        {
-                            // Check if the cell value doesn't match the cell's
-                            // input type
-                            checkInputType(tableInfo, row, column);
-                        }
+                        // Check if the cell value doesn't match the cell's
+                        // input type
+                        checkInputType(tableInfo, row, column);
+                    }
 
-                        // Check if this is a structure table
-                        if (typeDefn.isStructure())
+                    // Check if this is a structure table
+                    if (typeDefn.isStructure())
+                    {
+                        // Check if the array size isn't blank
+                        if (tableInfo.getData()[row][arraySizeIndex] != null
+                            && !tableInfo.getData()[row][arraySizeIndex].isEmpty())
                         {
-                            // Check if the array size isn't blank
-                            if (tableInfo.getData()[row][arraySizeIndex] != null
-                                && !tableInfo.getData()[row][arraySizeIndex].isEmpty())
+                            // Check if this is the first pass through the
+                            // array; an array definition is expected
+                            if (membersRemaining == 0)
                             {
-                                // Check if this is the first pass through the
-                                // array; an array definition is expected
-                                if (membersRemaining == 0)
+                                // Get the variable name for this row
+                                arrayName = tableInfo.getData()[row][variableNameIndex];
+
+                                // Store the index of the array definition
+                                // row
+                                definitionRow = row;
+
+                                // Check that no extra array member exists
+                                if (!checkExcessArrayMember(tableInfo,
+                                                            row,
+                                                            arrayName))
                                 {
-                                    // Get the variable name for this row
-                                    arrayName = tableInfo.getData()[row][variableNameIndex];
+                                    // Get the number of array members
+                                    // remaining and data type for this row
+                                    // and initialize the array index
+                                    totalArraySize = ArrayVariable.getArrayIndexFromSize(macroHandler.getMacroExpansion(tableInfo.getData()[row][arraySizeIndex]));
+
+                                    // Get the total number of members for
+                                    // this array
+                                    membersRemaining = ArrayVariable.getNumMembersFromArrayDimension(totalArraySize);
+
+                                    // Initialize the current array index
+                                    // values
+                                    currentArrayIndex = new int[totalArraySize.length];
 
-                                    // Store the index of the array definition
-                                    // row
-                                    definitionRow = row;
+                                    // Get the data type
+                                    dataType = tableInfo.getData()[row][dataTypeIndex];
 
-                                    // Check that no extra array member exists
-                                    if (!checkExcessArrayMember(tableInfo,
+                                    // Check if the expected array
+                                    // definition is missing
+                                    if (checkForArrayDefinition(tableInfo,
                                                                 row,
                                                                 arrayName))
                                     {
-                                        // Get the number of array members
-                                        // remaining and data type for this row
-                                        // and initialize the array index
-                                        totalArraySize = ArrayVariable.getArrayIndexFromSize(macroHandler.getMacroExpansion(tableInfo.getData()[row][arraySizeIndex]));
-
-                                        // Get the total number of members for
-                                        // this array
-                                        membersRemaining = ArrayVariable.getNumMembersFromArrayDimension(totalArraySize);
-
-                                        // Initialize the current array index
-                                        // values
-                                        currentArrayIndex = new int[totalArraySize.length];
-
-                                        // Get the data type
-                                        dataType = tableInfo.getData()[row][dataTypeIndex];
-
-                                        // Check if the expected array
-                                        // definition is missing
-                                        if (checkForArrayDefinition(tableInfo,
-                                                                    row,
-                                                                    arrayName))
-                                        {
-                                            // Remove the array index from the
-                                            // array variable name and back up
-                                            // a row so that the array members
-                                            // can be checked
-                                            arrayName = ArrayVariable.removeArrayIndex(arrayName);
-                                            row--;
-                                        }
-                                    }
-                                }
-                                // This is not the first pass through this
-                                // array; i.e., an array member is expected
-                                else
-                                {
-                                    // Check if the array definition and all of
-                                    // its members don't have the same variable
-                                    // name
-                                    if (checkArrayNamesMatch(tableInfo,
-                                                             row,
-                                                             arrayName))
-                                    {
-                                        // Back up a row so that it can be
-                                        // checked as a separate variable
+                                        // Remove the array index from the
+                                        // array variable name and back up
+                                        // a row so that the array members
+                                        // can be checked
+                                        arrayName = ArrayVariable.removeArrayIndex(arrayName);
                                         row--;
                                     }
-                                    // The array names match
-                                    else
-                                    {
-                                        // Check if the array definition and
-                                        // all of its members have the same
-                                        // array size
-                                        checkArraySizesMatch(tableInfo,
-                                                             row,
-                                                             arrayName,
-                                                             tableInfo.getData()[row][arraySizeIndex]);
-
-                                        // Check if the array definition and
-                                        // all of its members have the same
-                                        // data type
-                                        checkDataTypesMatch(tableInfo,
-                                                            row,
-                                                            arrayName,
-                                                            dataType);
-                                    }
-
-                                    // Update the array member counters
-                                    membersRemaining--;
-
-                                    // Update the current array index value(s)
-                                    goToNextArrayMember();
                                 }
                             }
-                            // Check if there are remaining array members that
-                            // don't exist
+                            // This is not the first pass through this
+                            // array; i.e., an array member is expected
                             else
                             {
-                                // Check if an array member is expected but not
-                                // present
-                                checkForMissingArrayMember(tableInfo,
-                                                           row,
-                                                           arrayName);
-
-                                // Store the row number for use if other
-                                // members are found to be missing after all
-                                // other rows have been checked
-                                lastMissingRow = row;
+                                // Check if the array definition and all of
+                                // its members don't have the same variable
+                                // name
+                                if (checkArrayNamesMatch(tableInfo,
+                                                         row,
+                                                         arrayName))
+                                {
+                                    // Back up a row so that it can be
+                                    // checked as a separate variable
+                                    row--;
+                                }
+                                // The array names match
+                                else
+                                {
+                                    // Check if the array definition and
+                                    // all of its members have the same
+                                    // array size
+                                    checkArraySizesMatch(tableInfo,
+                                                         row,
+                                                         arrayName,
+                                                         tableInfo.getData()[row][arraySizeIndex]);
+
+                                    // Check if the array definition and
+                                    // all of its members have the same
+                                    // data type
+                                    checkDataTypesMatch(tableInfo,
+                                                        row,
+                                                        arrayName,
+                                                        dataType);
+                                }
+
+                                // Update the array member counters
+                                membersRemaining--;
+
+                                // Update the current array index value(s)
+                                goToNextArrayMember();
                             }
                         }
-                    }
-
-                    // Check if this is a structure table
-                    if (typeDefn.isStructure())
-                    {
-                        // Perform for each remaining missing array member
-                        while (membersRemaining != 0)
+                        // Check if there are remaining array members that
+                        // don't exist
+                        else
                         {
-                            // Check if there are remaining array members that
-                            // don't exist
+                            // Check if an array member is expected but not
+                            // present
                             checkForMissingArrayMember(tableInfo,
-                                                       lastMissingRow,
+                                                       row,
                                                        arrayName);
+
+                            // Store the row number for use if other
+                            // members are found to be missing after all
+                            // other rows have been checked
+                            lastMissingRow = row;
                         }
                     }
+                }
 
-                    // Check if the flag to make changes is not already set
-                    if (!isChanges)
+                // Check if this is a structure table
+                if (typeDefn.isStructure())
+                {
+                    // Perform for each remaining missing array member
+                    while (membersRemaining != 0)
                     {
-                        // Check if a row is missing based on the row indices
-                        checkForRowIndexMismatch(tableInfo);
+                        // Check if there are remaining array members that
+                        // don't exist
+                        checkForMissingArrayMember(tableInfo,
+                                                   lastMissingRow,
+                                                   arrayName);
                     }
+                }
 
-                    // Check if columns marked as unique contain duplicate
-                    // values
-                    checkForDuplicates(tableInfo);
+                // Check if the flag to make changes is not already set
+                if (!isChanges)
+                {
+                    // Check if a row is missing based on the row indices
+                    checkForRowIndexMismatch(tableInfo);
                 }
+
+                // Check if columns marked as unique contain duplicate
+                // values
+                checkForDuplicates(tableInfo);
             }
         }
     }
@@ -2955,18 +2962,17 @@ public class CcddDbVerificationHandler
                                          "Perform Corrections",
                                          true) == OK_BUTTON)
             {
+                // Begin a transaction in case an error occurs while modifying
+                // a table. This prevents committing the changes to the
+                // database until after all tables are modified
+                Transaction transaction = dbCommand.beginTransaction();
+
                 try
                 {
                     String command = "";
                     int row = 0;
                     boolean isSomeIgnored = false;
 
-                    // Enable creation of a save point in case an error occurs
-                    // while modifying a table. This prevents committing the
-                    // changes to the database until after all tables are
-                    // modified
-                    dbCommand.setSavePointEnable(true);
-
                     // Step through each issue detected
                     for (TableIssue issue : issues)
                     {
@@ -2998,6 +3004,10 @@ public class CcddDbVerificationHandler
                         // Make the changes to the table(s) in the database
                         dbCommand.executeDbCommand(command,
                                                    ccddMain.getMainFrame());
+
+                        // Discard the project snapshot since it no longer
+                        // reflects the database contents
+                        ccddMain.getProjectSnapshotHandler().invalidate();
                     }
 
                     boolean isErrors = false;
@@ -3104,7 +3114,7 @@ public class CcddDbVerificationHandler
                     if (!isErrors)
                     {
                         // Commit the change(s) to the database
-                        dbCommand.getConnection().commit();
+                        transaction.commit();
 
                         // Update the various handlers so that the updated
                         // internal tables will now be in use
@@ -3153,10 +3163,11 @@ public class CcddDbVerificationHandler
 
                         // Revert the changes to the tables that were
                         // successfully updated prior the current table
-                        dbCommand.executeDbCommand("ROLLBACK TO SAVEPOINT "
-                                                   + DB_SAVE_POINT_NAME
-                                                   + ";",
-                                                   dialog);
+                        transaction.rollback(dialog);
+
+                        // Discard the project snapshot since it may contain
+                        // items loaded prior to the changes being reverted
+                        ccddMain.getProjectSnapshotHandler().invalidate();
                     }
                     catch (SQLException se2)
                     {
@@ -3171,8 +3182,8 @@ public class CcddDbVerificationHandler
                 }
                 finally
                 {
-                    // Reset the flag for creating a save point
-                    dbCommand.setSavePointEnable(false);
+                    // End the transaction
+                    transaction.end();
                 }
             }
 
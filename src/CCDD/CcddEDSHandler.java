@@ -13,21 +13,31 @@ import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
 
 import java.awt.Component;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
+import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.ccsds.schema.sois.seds.CommandArgumentType;
 import org.ccsds.schema.sois.seds.DataSheetType;
@@ -91,13 +101,20 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
     private List<TableDefinition> tableDefinitions;
 
     // JAXB and EDS object references
-    private JAXBElement<DataSheetType> project;
     private Marshaller marshaller;
     private Unmarshaller unmarshaller;
     private ObjectFactory factory;
-    private DeviceType device;
     private DataSheetType dataSheet;
 
+    // EDS namespace and schema location
+    private static final String EDS_NAMESPACE = "http://www.ccsds.org/schema/sois/seds";
+    private static final String EDS_SCHEMA_LOCATION = "http://www.ccsds.org/schema/sois/seds";
+
+    // Name spaces created but not yet output, in the order in which they're
+    // created. Maps each name space's name to the name space so that an
+    // existing name space is located without searching
+    private Map<String, NamespaceType> nameSpaceIndex;
+
     // Name of the data field containing the system name
     private String systemFieldName;
 
@@ -226,12 +243,12 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
         try
         {
             // Create the XML marshaller used to convert the CCDD project data
-            // into EDS XML format
+            // into EDS XML format. The name spaces are output one at a time,
+            // so the marshaller converts each one as a fragment of the
+            // document
             JAXBContext context = JAXBContext.newInstance("org.ccsds.schema.sois.seds");
             marshaller = context.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
-                                   "http://www.ccsds.org/schema/sois/seds");
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT,
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT,
                                    new Boolean(true));
 
             // Create the factory for building the data sheet objects
@@ -389,39 +406,18 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
 
         try
         {
-            // Convert the table data into EDS format
-            convertTablesToEDS(tableNames,
+            // Convert the table data into EDS format and output it to the
+            // specified file
+            convertTablesToEDS(exportFile,
+                               tableNames,
                                replaceMacros,
                                includeReservedMsgIDs,
                                includeVariablePaths,
                                variableHandler,
                                separators,
                                extraInfo[0]);
-
-            try
-            {
-                // Output the file creation information
-                marshaller.setProperty("com.sun.xml.internal.bind.xmlHeaders",
-                                       "\n<!-- Created "
-                                                                               + new Date().toString()
-                                                                               + " : project = "
-                                                                               + dbControl.getDatabase()
-                                                                               + " : host = "
-                                                                               + dbControl.getServer()
-                                                                               + " : user = "
-                                                                               + dbControl.getUser()
-                                                                               + " -->");
-            }
-            catch (JAXBException je)
-            {
-                // Ignore the error if setting this property fails; the comment
-                // is not included
-            }
-
-            // Output the XML to the specified file
-            marshaller.marshal(project, exportFile);
         }
-        catch (JAXBException je)
+        catch (JAXBException | XMLStreamException je)
         {
             // Inform the user that the database export failed
             new CcddDialogHandler().showMessageDialog(parent,
@@ -435,6 +431,18 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
                                                       DialogOption.OK_OPTION);
             errorFlag = true;
         }
+        catch (IOException ioe)
+        {
+            // Inform the user that the data file cannot be written to
+            new CcddDialogHandler().showMessageDialog(parent,
+                                                      "<html><b>Cannot write to export file '</b>"
+                                                              + exportFile.getAbsolutePath()
+                                                              + "<b>'",
+                                                      "File Error",
+                                                      JOptionPane.ERROR_MESSAGE,
+                                                      DialogOption.OK_OPTION);
+            errorFlag = true;
+        }
         catch (Exception e)
         {
             // Display a dialog providing details on the unanticipated error
@@ -446,7 +454,12 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
     }
 
     /**************************************************************************
-     * Convert the project database contents to EDS XML format
+     * Convert the project database contents to EDS XML format and output it
+     * to the specified file. Each name space is output as soon as it's
+     * complete, so that only one table's data is held in memory at a time
+     *
+     * @param exportFile
+     *            reference to the user-specified output file
      *
      * @param tableNames
      *            array of table names to convert to EDS format
@@ -476,64 +489,193 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
      *
      * @param system
      *            name of the data field containing the system name
+     *
+     * @throws JAXBException
+     *             If an error occurs converting a name space to XML
+     *
+     * @throws XMLStreamException
+     *             If an error occurs writing the XML
+     *
+     * @throws IOException
+     *             If the export file can't be written
      *************************************************************************/
-    private void convertTablesToEDS(String[] tableNames,
+    private void convertTablesToEDS(File exportFile,
+                                    String[] tableNames,
                                     boolean replaceMacros,
                                     boolean includeReservedMsgIDs,
                                     boolean includeVariablePaths,
                                     CcddVariableConversionHandler variableHandler,
                                     String[] separators,
-                                    String system)
+                                    String system) throws JAXBException,
+                                                   XMLStreamException,
+                                                   IOException
     {
         referencedTableTypes = new ArrayList<String>();
         referencedDataTypes = new ArrayList<String>();
         referencedMacros = new ArrayListCaseInsensitive();
         referencedVariablePaths = new ArrayList<String[]>();
+        nameSpaceIndex = new LinkedHashMap<String, NamespaceType>();
 
         // Store the macro replacement flag and the system field name
         this.replaceMacros = replaceMacros;
         systemFieldName = system;
 
-        // Create the project's data sheet and device
-        dataSheet = factory.createDataSheetType();
-        project = factory.createDataSheet(dataSheet);
-        device = factory.createDeviceType();
-        device.setName(dbControl.getDatabase());
-        device.setShortDescription(dbControl.getDatabaseDescription(dbControl.getDatabase()));
-        dataSheet.setDevice(device);
+        BufferedWriter exportWriter = null;
+        XMLStreamWriter xmlWriter = null;
+
+        try
+        {
+            // Create the export file and output the XML declaration
+            exportWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(exportFile),
+                                                                     "UTF-8"));
+            exportWriter.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+            xmlWriter = new CcddIndentingXMLStreamWriter(exportWriter, 0);
+            xmlWriter.setDefaultNamespace(EDS_NAMESPACE);
+
+            // Output the file creation information
+            xmlWriter.writeComment(" Created "
+                                   + new Date().toString()
+                                   + " : project = "
+                                   + dbControl.getDatabase()
+                                   + " : host = "
+                                   + dbControl.getServer()
+                                   + " : user = "
+                                   + dbControl.getUser()
+                                   + " ");
+
+            // Output the start of the project's data sheet, declaring the EDS
+            // and schema instance namespaces
+            xmlWriter.writeStartElement(EDS_NAMESPACE, "DataSheet");
+            xmlWriter.writeDefaultNamespace(EDS_NAMESPACE);
+            xmlWriter.writeNamespace("xsi",
+                                     XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+            xmlWriter.writeAttribute("xsi",
+                                     XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+                                     "schemaLocation",
+                                     EDS_SCHEMA_LOCATION);
+
+            // Create the project's device and output it
+            DeviceType device = factory.createDeviceType();
+            device.setName(dbControl.getDatabase());
+            device.setShortDescription(dbControl.getDatabaseDescription(dbControl.getDatabase()));
+            writeElement(xmlWriter, "Device", DeviceType.class, device);
+
+            // Add the project's name spaces, parameters, and commands
+            buildNameSpaces(xmlWriter,
+                            tableNames,
+                            includeVariablePaths,
+                            variableHandler,
+                            separators);
+
+            // Build a name space for the table types
+            buildTableTypesNameSpace();
+
+            // Build a name space for the primitive data types
+            buildDataTypesNameSpace();
+
+            // Check if the macro names are to be retained
+            if (!replaceMacros)
+            {
+                // Create a name space and populate it with the macro
+                // definitions
+                buildMacrosNameSpace();
+            }
 
-        // Add the project's name spaces, parameters, and commands
-        buildNameSpaces(tableNames,
-                        includeVariablePaths,
-                        variableHandler,
-                        separators);
+            // Check if the user elected to store the reserved message IDs
+            if (includeReservedMsgIDs)
+            {
+                // Build a name space for the reserved message IDs
+                buildReservedMsgIDNameSpace();
+            }
 
-        // Build a name space for the table types
-        buildTableTypesNameSpace();
+            // Check if the user elected to store the variable paths
+            if (includeVariablePaths)
+            {
+                // Build a name space for the variable paths (if any)
+                buildVariablePathNameSpace(variableHandler, separators);
+            }
 
-        // Build a name space for the primitive data types
-        buildDataTypesNameSpace();
+            // Output the table type, data type, macro, reserved message ID,
+            // and variable path name spaces
+            writeNameSpaces(xmlWriter);
 
-        // Check if the macro names are to be retained
-        if (!replaceMacros)
-        {
-            // Create a name space and populate it with the macro definitions
-            buildMacrosNameSpace();
+            // Complete the data sheet
+            xmlWriter.writeEndElement();
+            xmlWriter.writeEndDocument();
+            xmlWriter.flush();
         }
-
-        // Check if the user elected to store the reserved message IDs
-        if (includeReservedMsgIDs)
+        finally
         {
-            // Build a name space for the reserved message IDs
-            buildReservedMsgIDNameSpace();
+            // Check if the XML stream writer was created
+            if (xmlWriter != null)
+            {
+                xmlWriter.close();
+            }
+
+            // Check if the export file was opened
+            if (exportWriter != null)
+            {
+                // Close the export file
+                exportWriter.close();
+            }
         }
+    }
 
-        // Check if the user elected to store the variable paths
-        if (includeVariablePaths)
+    /**************************************************************************
+     * Output the name spaces that have been created but not yet output, in
+     * the order in which they were created. The name spaces are then
+     * discarded
+     *
+     * @param xmlWriter
+     *            XML stream writer
+     *
+     * @throws JAXBException
+     *             If an error occurs converting a name space to XML
+     *************************************************************************/
+    private void writeNameSpaces(XMLStreamWriter xmlWriter) throws JAXBException
+    {
+        // Step through each name space that hasn't been output
+        for (NamespaceType nameSpace : nameSpaceIndex.values())
         {
-            // Build a name space for the variable paths (if any)
-            buildVariablePathNameSpace(variableHandler, separators);
+            // Output the name space
+            writeElement(xmlWriter,
+                         "Namespace",
+                         NamespaceType.class,
+                         nameSpace);
         }
+
+        nameSpaceIndex.clear();
+    }
+
+    /**************************************************************************
+     * Convert an element of the data sheet to XML and output it
+     *
+     * @param xmlWriter
+     *            XML stream writer
+     *
+     * @param elementName
+     *            EDS element name
+     *
+     * @param type
+     *            class of the element's value
+     *
+     * @param value
+     *            element value
+     *
+     * @throws JAXBException
+     *             If an error occurs converting the element to XML
+     *************************************************************************/
+    private <T> void writeElement(XMLStreamWriter xmlWriter,
+                                  String elementName,
+                                  Class<T> type,
+                                  T value) throws JAXBException
+    {
+        // Output the element as a fragment of the document
+        marshaller.marshal(new JAXBElement<T>(new QName(EDS_NAMESPACE,
+                                                        elementName),
+                                              type,
+                                              value),
+                           xmlWriter);
     }
 
     /**************************************************************************
@@ -1912,7 +2054,12 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
     }
 
     /**************************************************************************
-     * Build the name spaces for the list of tables specified
+     * Build the name spaces for the list of tables specified. A table's name
+     * space is output once the last reference to the table in the list is
+     * processed, so that the name spaces aren't all held in memory
+     *
+     * @param xmlWriter
+     *            XML stream writer
      *
      * @param tableNames
      *            array of table names
@@ -1931,16 +2078,32 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
      *            character(s), show/hide data types flag ('true' or 'false'),
      *            and data type/variable name separator character(s); null if
      *            includeVariablePaths is false
+     *
+     * @throws JAXBException
+     *             If an error occurs converting a name space to XML
      *************************************************************************/
-    private void buildNameSpaces(String[] tableNames,
+    private void buildNameSpaces(XMLStreamWriter xmlWriter,
+                                 String[] tableNames,
                                  boolean includeVariablePaths,
                                  CcddVariableConversionHandler variableHandler,
-                                 String[] separators)
+                                 String[] separators) throws JAXBException
     {
+        // A table's name space name is determined by the table's path and
+        // system, so the table's name space is complete after the last
+        // reference to the table. Store the index of the last reference to
+        // each table
+        Map<String, Integer> lastTableIndex = new HashMap<String, Integer>();
+
+        for (int index = 0; index < tableNames.length; index++)
+        {
+            lastTableIndex.put(tableNames[index], index);
+        }
+
         // Step through each table name
-        for (String tableName : tableNames)
+        for (int index = 0; index < tableNames.length; index++)
         {
             NamespaceType nameSpace;
+            String tableName = tableNames[index];
 
             // Get the information from the database for the specified table
             TableInformation tableInfo = dbTable.loadTableData(tableName,
@@ -2179,6 +2342,13 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
                     }
                 }
             }
+
+            // Check if this is the last reference to the table
+            if (lastTableIndex.get(tableName) == index)
+            {
+                // Output the table's name space, which is now complete
+                writeNameSpaces(xmlWriter);
+            }
         }
     }
 
@@ -2272,8 +2442,8 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
                             + systemName;
         }
 
-        // Search the existing name spaces for one with this name
-        NamespaceType nameSpace = searchNameSpacesForName(nameSpaceName);
+        // Get the existing name space with this name, if any
+        NamespaceType nameSpace = nameSpaceIndex.get(nameSpaceName);
 
         // Check if the name space doesn't already exist
         if (nameSpace == null)
@@ -2294,41 +2464,13 @@ public class CcddEDSHandler extends CcddImportSupportHandler implements CcddImpo
             // Create an interface set for the name space
             nameSpace.setDeclaredInterfaceSet(factory.createInterfaceDeclarationSetType());
 
-            // Add the new names space
-            dataSheet.getNamespace().add(nameSpace);
+            // Add the new name space to those awaiting output
+            nameSpaceIndex.put(nameSpaceName, nameSpace);
         }
 
         return nameSpace;
     }
 
-    /**************************************************************************
-     * Search for the name space with the same name as the search name
-     *
-     * @param nameSpaceName
-     *            name of the name space to search for within the name space
-     *            hierarchy
-     *
-     * @return Reference to the name space with the same name as the search
-     *         name; null if no name space name matches the search name
-     *************************************************************************/
-    private NamespaceType searchNameSpacesForName(String nameSpaceName)
-    {
-        NamespaceType foundNameSpace = null;
-
-        for (NamespaceType nameSpace : dataSheet.getNamespace())
-        {
-            // Check if the current name space's name matches the search name
-            if (nameSpace.getName().equals(nameSpaceName))
-            {
-                // Store the reference to the matching name space
-                foundNameSpace = nameSpace;
-                break;
-            }
-        }
-
-        return foundNameSpace;
-    }
-
     /**************************************************************************
      * Add a variable to the specified data sheet
      *
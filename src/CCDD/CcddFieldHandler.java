@@ -13,7 +13,10 @@ import static CCDD.CcddConstants.TYPE_DATA_FIELD_IDENT;
 
 import java.awt.Component;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddConstants.ApplicabilityType;
@@ -36,6 +39,18 @@ public class CcddFieldHandler
     // List of field definitions
     private List<String[]> fieldDefinitions;
 
+    // Flag that indicates if the list of field definitions is shared with
+    // another class (e.g., the project snapshot's read-only list), in which
+    // case the list is copied before the definitions can be altered
+    private boolean isSharedDefinitions;
+
+    // Field definitions stored by owner name (in lower case); null if the
+    // index must be rebuilt from the field definitions
+    private Map<String, List<String[]>> ownerIndex;
+
+    // Number of field definitions at the time the owner index was built
+    private int ownerIndexSize;
+
     // List of field information
     private List<FieldInformation> fieldInformation;
 
@@ -73,9 +88,11 @@ public class CcddFieldHandler
 
         this.parent = parent;
 
-        // Load the data field definitions from the database
+        // Load the data field definitions from the database. These are
+        // shared with the project snapshot
         fieldDefinitions = ccddMain.getDbTableCommandHandler().retrieveInformationTable(InternalTable.FIELDS,
                                                                                         parent);
+        isSharedDefinitions = true;
 
         // Use the field definitions to create the data field information
         buildFieldInformation(fieldDefinitions.toArray(new String[0][0]),
@@ -83,12 +100,33 @@ public class CcddFieldHandler
     }
 
     /**************************************************************************
-     * Get the data field definitions
+     * Get the data field definitions. The list and its rows are copied first
+     * if these are shared so that the caller can alter them
      *
      * @return data field definitions
      *************************************************************************/
     protected List<String[]> getFieldDefinitions()
     {
+        // Check if the list of definitions is shared
+        if (isSharedDefinitions)
+        {
+            List<String[]> definitions = new ArrayList<String[]>(fieldDefinitions.size());
+
+            // Step through each definition. The rows are copied along with the
+            // list since callers alter the definitions in place, and changes
+            // to the shared rows would alter the project snapshot's contents
+            for (String[] fieldDefn : fieldDefinitions)
+            {
+                definitions.add(Arrays.copyOf(fieldDefn, fieldDefn.length));
+            }
+
+            fieldDefinitions = definitions;
+            isSharedDefinitions = false;
+        }
+
+        // The caller may alter the definitions, so discard the owner index
+        ownerIndex = null;
+
         return fieldDefinitions;
     }
 
@@ -101,6 +139,66 @@ public class CcddFieldHandler
     protected void setFieldDefinitions(List<String[]> fieldDefinitions)
     {
         this.fieldDefinitions = fieldDefinitions;
+        isSharedDefinitions = true;
+        ownerIndex = null;
+    }
+
+    /**************************************************************************
+     * Get the field definitions belonging to the specified owner. The field
+     * definitions are indexed by owner name the first time this is called
+     * following a change to the definitions
+     *
+     * @param ownerName
+     *            name of the data field owner (table name, including the path
+     *            if this table references a structure, group name, or table
+     *            type name); null or blank to get all data fields
+     *
+     * @return Array of the owner's field definitions
+     *************************************************************************/
+    private String[][] getOwnerFieldDefinitions(String ownerName)
+    {
+        List<String[]> ownerFields;
+
+        // Check if all of the field definitions are requested
+        if (ownerName == null || ownerName.isEmpty())
+        {
+            ownerFields = fieldDefinitions;
+        }
+        // Get the specified owner's field definitions
+        else
+        {
+            // Check if the owner index doesn't exist or if the number of
+            // definitions has changed since it was built
+            if (ownerIndex == null || ownerIndexSize != fieldDefinitions.size())
+            {
+                ownerIndex = new HashMap<String, List<String[]>>();
+                ownerIndexSize = fieldDefinitions.size();
+
+                // Step through each field definition
+                for (String[] fieldDefn : fieldDefinitions)
+                {
+                    // Get the list of definitions for this field's owner
+                    String owner = fieldDefn[FieldsColumn.OWNER_NAME.ordinal()].toLowerCase();
+                    List<String[]> fieldList = ownerIndex.get(owner);
+
+                    // Check if this is the first field for this owner
+                    if (fieldList == null)
+                    {
+                        // Create a list for the owner's fields
+                        fieldList = new ArrayList<String[]>();
+                        ownerIndex.put(owner, fieldList);
+                    }
+
+                    fieldList.add(fieldDefn);
+                }
+            }
+
+            ownerFields = ownerIndex.get(ownerName.toLowerCase());
+        }
+
+        return ownerFields != null
+                                  ? ownerFields.toArray(new String[0][0])
+                                  : new String[0][0];
     }
 
     /**************************************************************************
@@ -223,7 +321,7 @@ public class CcddFieldHandler
      *************************************************************************/
     protected void buildFieldInformation(String ownerName)
     {
-        buildFieldInformation(fieldDefinitions.toArray(new String[0][0]),
+        buildFieldInformation(getOwnerFieldDefinitions(ownerName),
                               ownerName,
                               null);
     }
@@ -263,7 +361,7 @@ public class CcddFieldHandler
      *************************************************************************/
     protected void buildFieldInformation(String ownerName, Boolean isRootStruct)
     {
-        buildFieldInformation(fieldDefinitions.toArray(new String[0][0]),
+        buildFieldInformation(getOwnerFieldDefinitions(ownerName),
                               ownerName,
                               isRootStruct);
     }
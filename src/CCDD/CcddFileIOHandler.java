@@ -8,9 +8,11 @@
  */
 package CCDD;
 
+import static CCDD.CcddConstants.BULK_IMPORT_CELL_LIMIT;
+import static CCDD.CcddConstants.BULK_IMPORT_TABLE_LIMIT;
 import static CCDD.CcddConstants.CCDD_PROJECT_IDENTIFIER;
 import static CCDD.CcddConstants.DATABASE_COMMENT_SEPARATOR;
-import static CCDD.CcddConstants.DB_SAVE_POINT_NAME;
+import static CCDD.CcddConstants.DB_CONNECTION_POOL_SIZE;
 import static CCDD.CcddConstants.OK_BUTTON;
 import static CCDD.CcddConstants.SCRIPT_DESCRIPTION_TAG;
 import static CCDD.CcddConstants.USERS_GUIDE;
@@ -35,7 +37,18 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import javax.swing.BorderFactory;
@@ -63,7 +76,9 @@ import CCDD.CcddConstants.ModifiableFontInfo;
 import CCDD.CcddConstants.ModifiablePathInfo;
 import CCDD.CcddConstants.ModifiableSpacingInfo;
 import CCDD.CcddConstants.TableTreeType;
+import CCDD.CcddDbCommandHandler.Transaction;
 import CCDD.CcddImportExportInterface.ImportType;
+import CCDD.CcddImportExportInterface.TableDefinitionListener;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /******************************************************************************
@@ -536,6 +551,13 @@ public class CcddFileIOHandler
      *            if the field names match. Only valid when replaceExisting and
      *            appendExistingFields are true
      *
+     * @param bulkImport
+     *            true to create new prototype tables and load their rows using
+     *            the database's bulk copy operation. The table editor isn't
+     *            used, so the imported cell values aren't validated. The
+     *            prototype tables are created while the file(s) are read;
+     *            child tables are created once reading completes
+     *
      * @param parent
      *            GUI component calling this method
      *************************************************************************/
@@ -544,6 +566,7 @@ public class CcddFileIOHandler
                               final boolean replaceExisting,
                               final boolean appendExistingFields,
                               final boolean useExistingFields,
+                              final boolean bulkImport,
                               final Component parent)
     {
         // Create a data field handler
@@ -562,6 +585,10 @@ public class CcddFileIOHandler
         {
             List<TableDefinition> allTableDefinitions = new ArrayList<TableDefinition>();
             List<String> duplicateDefinitions = new ArrayList<String>();
+            Set<String> importedTableNames = new HashSet<String>();
+            BulkTableLoader bulkLoader = null;
+            Transaction transaction = null;
+            File importFile = null;
 
             boolean errorFlag = false;
 
@@ -584,9 +611,42 @@ public class CcddFileIOHandler
                     backupDatabaseToFile(false);
                 }
 
+                // Begin a transaction in case an error occurs while creating
+                // or modifying a table. This prevents committing the changes
+                // to the database until after all database transactions are
+                // complete. The transaction begins before the file(s) are
+                // read since tables can be created while reading
+                transaction = dbCommand.beginTransaction();
+
+                // Check if the prototype tables are created using the bulk
+                // copy operation
+                if (bulkImport)
+                {
+                    // Create the loader that creates the prototype tables as
+                    // these are read
+                    bulkLoader = new BulkTableLoader(replaceExisting, parent);
+                }
+
+                // Create the listener that receives each table definition as
+                // it's read from an import file
+                TableDefinitionListener tableDefnListener = new TableDefinitionListener()
+                {
+                    /**********************************************************
+                     * Handle a table definition read from the import file
+                     *********************************************************/
+                    @Override
+                    public void tableDefinitionRead(TableDefinition tableDefn) throws CCDDException
+                    {
+                        // Add the table definition to those to create
+                        addTableDefinition(tableDefn);
+                    }
+                };
+
                 // Step through each selected file
                 for (File file : dataFile)
                 {
+                    importFile = file;
+
                     try
                     {
                         // Check if the file doesn't exist
@@ -637,99 +697,18 @@ public class CcddFileIOHandler
                         // conversion handler
                         if (!ioHandler.getErrorStatus())
                         {
-                            // Import the table definition(s) from the file
+                            // Import the table definition(s) from the file.
+                            // Each table definition is handed to the listener
+                            // as it's read, if supported by the file format
+                            ioHandler.setTableDefinitionListener(tableDefnListener);
                             ioHandler.importFromFile(file, ImportType.IMPORT_ALL);
 
-                            // Check if the user elected to append any new data
-                            // fields to any existing ones for a table
-                            if (appendExistingFields)
-                            {
-                                // Step through each table definition
-                                for (TableDefinition tableDefn : ioHandler.getTableDefinitions())
-                                {
-                                    // Build the field information for this
-                                    // table
-                                    fieldHandler.buildFieldInformation(tableDefn.getName());
-
-                                    // Step through the imported data fields.
-                                    // The order is reversed so that field
-                                    // definitions can be removed if needed
-                                    for (int index = tableDefn.getDataFields().size() - 1; index >= 0; index--)
-                                    {
-                                        String[] fieldDefn = tableDefn.getDataFields().get(index);
-
-                                        // Get the reference to the data field
-                                        // based on the table name and field
-                                        // name
-                                        FieldInformation fieldInfo = fieldHandler.getFieldInformationByName(fieldDefn[FieldsColumn.OWNER_NAME.ordinal()],
-                                                                                                            fieldDefn[FieldsColumn.FIELD_NAME.ordinal()]);
-
-                                        // Check if the data field already
-                                        // exists
-                                        if (fieldInfo != null)
-                                        {
-                                            // Check if the original data field
-                                            // information supersedes the
-                                            // imported one
-                                            if (useExistingFields)
-                                            {
-                                                // Remove the new data field
-                                                // definition
-                                                tableDefn.getDataFields().remove(index);
-                                            }
-                                            // The imported data field
-                                            // information replaces the
-                                            // original
-                                            else
-                                            {
-                                                // Remove the original data
-                                                // field definition
-                                                fieldHandler.getFieldInformation().remove(fieldInfo);
-                                            }
-                                        }
-                                    }
-
-                                    // Combine the imported and existing data
-                                    // fields
-                                    tableDefn.getDataFields().addAll(fieldHandler.getFieldDefinitionList());
-                                }
-                            }
-
-                            // Step through each table definition from the
-                            // import file
-                            for (TableDefinition newDefn : ioHandler.getTableDefinitions())
+                            // Step through each table definition that isn't
+                            // handed to the listener
+                            for (TableDefinition tableDefn : ioHandler.getTableDefinitions())
                             {
-                                boolean isFound = false;
-
-                                // Step through each table definition already
-                                // in the list
-                                for (TableDefinition existingDefn : allTableDefinitions)
-                                {
-                                    // Check if the table is already defined in
-                                    // the list
-                                    if (newDefn.getName().equals(existingDefn.getName()))
-                                    {
-                                        // Add the table name and associated
-                                        // file name to the list of duplicates
-                                        duplicateDefinitions.add(newDefn.getName()
-                                                                 + " (file: "
-                                                                 + file.getName()
-                                                                 + ")");
-
-                                        // Set the flag indicating the table
-                                        // definition is a duplicate and stop
-                                        // searching
-                                        isFound = true;
-                                        break;
-                                    }
-                                }
-
-                                // Check if the table is not already defined
-                                if (!isFound)
-                                {
-                                    // Add the table definition to the list
-                                    allTableDefinitions.add(newDefn);
-                                }
+                                // Add the table definition to those to create
+                                addTableDefinition(tableDefn);
                             }
                         }
                         // An error occurred creating the format conversion
@@ -776,6 +755,89 @@ public class CcddFileIOHandler
                         errorFlag = true;
                     }
                 }
+
+                // Check if no errors occurred importing the table(s) and the
+                // prototype tables are created using the bulk copy operation
+                if (!errorFlag && bulkLoader != null)
+                {
+                    try
+                    {
+                        // Create the prototype tables read since the loader
+                        // last created tables
+                        bulkLoader.createTables();
+                    }
+                    catch (CCDDException ce)
+                    {
+                        // The loader has already informed the user of the
+                        // error
+                        errorFlag = true;
+                    }
+                }
+            }
+
+            /******************************************************************
+             * Add a table definition read from an import file to those from
+             * which to create tables. A table definition with the same name as
+             * one already read is ignored. If the prototype tables are
+             * created using the bulk copy operation then a prototype's
+             * definition is handed to the bulk loader, which creates the
+             * table while the file(s) continue to be read; the remaining
+             * definitions are stored and their tables are created once all of
+             * the files are read
+             *
+             * @param tableDefn
+             *            table definition
+             *
+             * @throws CCDDException
+             *             If the table path/name is invalid or the bulk loader
+             *             can't create the tables
+             *****************************************************************/
+            private void addTableDefinition(TableDefinition tableDefn) throws CCDDException
+            {
+                // Check if the user elected to append any new data fields to
+                // any existing ones for a table
+                if (appendExistingFields)
+                {
+                    // Combine the imported and existing data fields
+                    combineDataFields(tableDefn, fieldHandler, useExistingFields);
+                }
+
+                // Check if the table is already defined
+                if (!importedTableNames.add(tableDefn.getName()))
+                {
+                    // Add the table name and associated file name to the list
+                    // of duplicates
+                    duplicateDefinitions.add(tableDefn.getName()
+                                             + " (file: "
+                                             + importFile.getName()
+                                             + ")");
+                }
+                // Check if the prototype tables are created using the bulk
+                // copy operation and that this is a prototype table with cell
+                // data (creation of empty tables is not allowed)
+                else if (bulkLoader != null
+                         && !tableDefn.getName().contains(",")
+                         && !tableDefn.getData().isEmpty())
+                {
+                    // Check that the table name is valid
+                    checkTableName(tableDefn);
+
+                    // Check if no error has occurred importing the table(s).
+                    // Once an error occurs the changes are reverted, so no
+                    // further tables are created
+                    if (!errorFlag)
+                    {
+                        // Hand the table to the bulk loader
+                        bulkLoader.addTable(createTableInformation(tableDefn),
+                                            tableDefn.getData());
+                    }
+                }
+                // The table is created once all of the files are read
+                else
+                {
+                    // Add the table definition to the list
+                    allTableDefinitions.add(tableDefn);
+                }
             }
 
             /******************************************************************
@@ -784,52 +846,63 @@ public class CcddFileIOHandler
             @Override
             protected void complete()
             {
-                // Check if no errors occurred importing the table(s)
-                if (!errorFlag)
+                // Take ownership of the transaction begun in execute() so that
+                // the remaining tables can be created and the changes
+                // committed or reverted on this thread
+                transaction.transferToCurrentThread();
+
+                try
                 {
-                    try
+                    // Check if no errors occurred importing the table(s)
+                    if (!errorFlag)
                     {
-                        // Enable creation of a save point in case an error
-                        // occurs while creating or modifying a table. This
-                        // prevents committing the changes to the database
-                        // until after all database transactions are complete
-                        dbCommand.setSavePointEnable(true);
-
                         // Create the data tables from the imported table
-                        // definitions from all files
+                        // definitions from all files that weren't created
+                        // while the files were read
                         createTablesFromDefinitions(allTableDefinitions,
                                                     replaceExisting,
+                                                    bulkLoader,
                                                     parent);
 
                         // Commit the change(s) to the database
-                        dbCommand.getConnection().commit();
+                        transaction.commit();
                     }
-                    catch (CCDDException | SQLException cse)
-                    {
-                        errorFlag = true;
-
-                        // Check if this is an internally generated exception
-                        // and that an error message is provided
-                        if (cse instanceof CCDDException && !cse.getMessage().isEmpty())
-                        {
-                            // Inform the user that an error occurred reading
-                            // the import file
-                            new CcddDialogHandler().showMessageDialog(parent,
-                                                                      "<html><b>"
-                                                                              + cse.getMessage(),
-                                                                      "File Error",
-                                                                      ((CCDDException) cse).getMessageType(),
-                                                                      DialogOption.OK_OPTION);
-                        }
+                }
+                catch (CCDDException | SQLException cse)
+                {
+                    errorFlag = true;
 
+                    // Check if this is an internally generated exception and
+                    // that an error message is provided
+                    if (cse instanceof CCDDException && !cse.getMessage().isEmpty())
+                    {
+                        // Inform the user that an error occurred reading the
+                        // import file
+                        new CcddDialogHandler().showMessageDialog(parent,
+                                                                  "<html><b>"
+                                                                          + cse.getMessage(),
+                                                                  "File Error",
+                                                                  ((CCDDException) cse).getMessageType(),
+                                                                  DialogOption.OK_OPTION);
+                    }
+                }
+                finally
+                {
+                    // Check if an error occurred importing or creating the
+                    // table(s)
+                    if (errorFlag)
+                    {
                         try
                         {
                             // Revert the changes to the tables that were
-                            // successfully updated prior the current table
-                            dbCommand.executeDbCommand("ROLLBACK TO SAVEPOINT "
-                                                       + DB_SAVE_POINT_NAME
-                                                       + ";",
-                                                       parent);
+                            // successfully updated prior to the error,
+                            // including any created while the files were read
+                            transaction.rollback(parent);
+
+                            // Discard the project snapshot since it may
+                            // contain items loaded prior to the changes being
+                            // reverted
+                            ccddMain.getProjectSnapshotHandler().invalidate();
                         }
                         catch (SQLException se)
                         {
@@ -842,11 +915,9 @@ public class CcddFileIOHandler
                                                   "<html><b>Cannot revert changes to table(s)");
                         }
                     }
-                    finally
-                    {
-                        // Reset the flag for creating a save point
-                        dbCommand.setSavePointEnable(false);
-                    }
+
+                    // End the transaction
+                    transaction.end();
                 }
 
                 // Check if no errors occurred importing and creating the
@@ -908,6 +979,85 @@ public class CcddFileIOHandler
         });
     }
 
+    /**************************************************************************
+     * Import the prototype tables in a CSV file, creating the tables and
+     * loading their rows using the database's bulk copy operation. The file is
+     * read and the tables are created in the calling thread, with no project
+     * backup, no table editors, and no prompts to replace existing tables (an
+     * existing table is skipped). Used to measure the import throughput
+     *
+     * @param file
+     *            CSV file to import
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @throws Exception
+     *             If the file can't be read, it contains a table that isn't a
+     *             prototype with cell data, or an error occurs creating the
+     *             tables
+     *************************************************************************/
+    protected void importCSVInBulk(File file, Component parent) throws Exception
+    {
+        // Create the CSV handler and the loader that creates the prototype
+        // tables as these are read
+        CcddCSVHandler ioHandler = new CcddCSVHandler(ccddMain,
+                                                      new CcddFieldHandler(ccddMain, null, parent),
+                                                      parent);
+        final BulkTableLoader bulkLoader = new BulkTableLoader(false, parent);
+
+        // Check if an error occurred creating the CSV handler
+        if (ioHandler.getErrorStatus())
+        {
+            throw new CCDDException("Cannot create CSV handler");
+        }
+
+        // Create the listener that hands each table definition read from the
+        // file to the bulk loader
+        TableDefinitionListener tableDefnListener = new TableDefinitionListener()
+        {
+            /******************************************************************
+             * Handle a table definition read from the import file
+             *****************************************************************/
+            @Override
+            public void tableDefinitionRead(TableDefinition tableDefn) throws CCDDException
+            {
+                // Check if this isn't a prototype table with cell data
+                if (tableDefn.getName().contains(",")
+                    || tableDefn.getData().isEmpty())
+                {
+                    throw new CCDDException("Table '</b>"
+                                            + tableDefn.getName()
+                                            + "<b>' can't be created using the bulk copy operation");
+                }
+
+                // Check that the table name is valid
+                checkTableName(tableDefn);
+
+                // Hand the table to the bulk loader
+                bulkLoader.addTable(createTableInformation(tableDefn),
+                                    tableDefn.getData());
+            }
+        };
+
+        // Import the table definitions from the file. Each table definition
+        // is handed to the listener as it's read
+        ioHandler.setTableDefinitionListener(tableDefnListener);
+        ioHandler.importFromFile(file, ImportType.IMPORT_ALL);
+
+        // Step through each table definition that isn't handed to the listener
+        // (a table whose type is defined later in the file)
+        for (TableDefinition tableDefn : ioHandler.getTableDefinitions())
+        {
+            // Hand the table to the bulk loader
+            tableDefnListener.tableDefinitionRead(tableDefn);
+        }
+
+        // Create the prototype tables read since the loader last created
+        // tables
+        bulkLoader.createTables();
+    }
+
     /**************************************************************************
      * Create one or more data tables from the supplied table definitions
      *
@@ -917,16 +1067,23 @@ public class CcddFileIOHandler
      * @param replaceExisting
      *            true to replace a table that already exists in the database
      *
+     * @param bulkLoader
+     *            loader used to create the prototype tables and load their
+     *            rows using the database's bulk copy operation instead of the
+     *            table editor; null to use the table editor
+     *
      * @param parent
      *            GUI component calling this method
      *************************************************************************/
     private void createTablesFromDefinitions(List<TableDefinition> tableDefinitions,
                                              boolean replaceExisting,
+                                             BulkTableLoader bulkLoader,
                                              final Component parent) throws CCDDException
     {
         cancelImport = false;
         boolean prototypesOnly = true;
         List<String> skippedTables = new ArrayList<String>();
+        Set<String> prototypeTables = null;
 
         // Get the list of all tables, including the paths for child structure
         // tables
@@ -942,20 +1099,8 @@ public class CcddFileIOHandler
             // Step through each table definition
             for (TableDefinition tableDefn : tableDefinitions)
             {
-                // Check if the table path/name format is valid
-                if (!tableDefn.getName().matches(InputDataType.VARIABLE.getInputMatch()
-                                                 + "(?:$|(?:,"
-                                                 + InputDataType.VARIABLE.getInputMatch()
-                                                 + "\\."
-                                                 + InputDataType.VARIABLE.getInputMatch()
-                                                 + ")+)"))
-                {
-                    // Inform the user the table path/name isn't in the correct
-                    // format
-                    throw new CCDDException("Invalid table path/name '</b>"
-                                            + tableDefn.getName()
-                                            + "<b>' format");
-                }
+                // Check that the table path/name format is valid
+                checkTableName(tableDefn);
 
                 // Check if the table import was canceled by the user
                 if (cancelImport)
@@ -979,17 +1124,36 @@ public class CcddFileIOHandler
                     int numColumns = typeDefn.getColumnCountVisible();
 
                     // Create the table information for the new table
-                    TableInformation tableInfo = new TableInformation(tableDefn.getTypeName(),
-                                                                      tableDefn.getName(),
-                                                                      new String[0][0],
-                                                                      tableTypeHandler.getDefaultColumnOrder(tableDefn.getTypeName()),
-                                                                      tableDefn.getDescription(),
-                                                                      !tableDefn.getName().contains("."),
-                                                                      tableDefn.getDataFields().toArray(new Object[0][0]));
+                    TableInformation tableInfo = createTableInformation(tableDefn);
+
+                    // Check if the prototype tables are created using the
+                    // bulk copy operation
+                    if (bulkLoader != null && tableInfo.isPrototype())
+                    {
+                        // Add the table and its cell data to those the bulk
+                        // loader creates
+                        bulkLoader.addTable(tableInfo, tableDefn.getData());
+                        continue;
+                    }
 
                     // Check if the new table is not a prototype
                     if (!tableInfo.isPrototype())
                     {
+                        // Check if the list of existing prototype tables
+                        // hasn't been loaded
+                        if (prototypeTables == null)
+                        {
+                            prototypeTables = new HashSet<String>();
+
+                            // Step through each prototype table in the
+                            // database
+                            for (String tableName : dbTable.queryTableList(ccddMain.getMainFrame()))
+                            {
+                                // Add the table name to the list
+                                prototypeTables.add(tableName.toLowerCase());
+                            }
+                        }
+
                         // Break the path into the individual structure
                         // variable references
                         String[] ancestors = tableInfo.getTablePath().split(",");
@@ -1004,9 +1168,12 @@ public class CcddFileIOHandler
 
                             // Check if the ancestor prototype table doesn't
                             // exist
-                            if (!dbTable.isTableExists(typeAndVar[0].toLowerCase(),
-                                                       ccddMain.getMainFrame()))
+                            if (!prototypeTables.contains(typeAndVar[0].toLowerCase()))
                             {
+                                // Add the prototype to the list of existing
+                                // tables so that it's only created once
+                                prototypeTables.add(typeAndVar[0].toLowerCase());
+
                                 // Create the table information for the new
                                 // prototype table
                                 TableInformation descendantInfo = new TableInformation(tableDefn.getTypeName(),
@@ -1122,9 +1289,29 @@ public class CcddFileIOHandler
                 }
             }
 
+            // Check if the prototype tables are created using the bulk copy
+            // operation
+            if (bulkLoader != null)
+            {
+                // Create the prototype tables not yet created by the loader,
+                // then close any editors associated with the tables these
+                // replace (including those created while the import file(s)
+                // were read)
+                bulkLoader.createTables();
+                bulkLoader.closeReplacedTableEditors();
+            }
+
             prototypesOnly = false;
         }
 
+        // Check if the prototype tables are created using the bulk copy
+        // operation
+        if (bulkLoader != null)
+        {
+            // Add the tables the loader skipped to the list
+            skippedTables.addAll(bulkLoader.getSkippedTables());
+        }
+
         // Check if any tables were skipped
         if (!skippedTables.isEmpty())
         {
@@ -1174,6 +1361,287 @@ public class CcddFileIOHandler
         }
     }
 
+    /**************************************************************************
+     * Check that the table path/name in a table definition is in the correct
+     * format
+     *
+     * @param tableDefn
+     *            table definition
+     *
+     * @throws CCDDException
+     *             If the table path/name format is invalid
+     *************************************************************************/
+    private void checkTableName(TableDefinition tableDefn) throws CCDDException
+    {
+        // Check if the table path/name format is valid
+        if (!tableDefn.getName().matches(InputDataType.VARIABLE.getInputMatch()
+                                         + "(?:$|(?:,"
+                                         + InputDataType.VARIABLE.getInputMatch()
+                                         + "\\."
+                                         + InputDataType.VARIABLE.getInputMatch()
+                                         + ")+)"))
+        {
+            // Inform the user the table path/name isn't in the correct format
+            throw new CCDDException("Invalid table path/name '</b>"
+                                    + tableDefn.getName()
+                                    + "<b>' format");
+        }
+    }
+
+    /**************************************************************************
+     * Create the table information for a new table from its table definition
+     *
+     * @param tableDefn
+     *            table definition
+     *
+     * @return Table information for the new table, with no cell data
+     *************************************************************************/
+    private TableInformation createTableInformation(TableDefinition tableDefn)
+    {
+        return new TableInformation(tableDefn.getTypeName(),
+                                    tableDefn.getName(),
+                                    new String[0][0],
+                                    tableTypeHandler.getDefaultColumnOrder(tableDefn.getTypeName()),
+                                    tableDefn.getDescription(),
+                                    !tableDefn.getName().contains("."),
+                                    tableDefn.getDataFields().toArray(new Object[0][0]));
+    }
+
+    /**************************************************************************
+     * Combine the imported data fields in a table definition with the table's
+     * existing data fields
+     *
+     * @param tableDefn
+     *            table definition
+     *
+     * @param fieldHandler
+     *            data field handler containing the existing data fields
+     *
+     * @param useExistingFields
+     *            true to keep an existing data field in place of an imported
+     *            one if the field names match; false to replace the existing
+     *            data field with the imported one
+     *************************************************************************/
+    private void combineDataFields(TableDefinition tableDefn,
+                                   CcddFieldHandler fieldHandler,
+                                   boolean useExistingFields)
+    {
+        // Build the field information for this table
+        fieldHandler.buildFieldInformation(tableDefn.getName());
+
+        // Step through the imported data fields. The order is reversed so
+        // that field definitions can be removed if needed
+        for (int index = tableDefn.getDataFields().size() - 1; index >= 0; index--)
+        {
+            String[] fieldDefn = tableDefn.getDataFields().get(index);
+
+            // Get the reference to the data field based on the table name and
+            // field name
+            FieldInformation fieldInfo = fieldHandler.getFieldInformationByName(fieldDefn[FieldsColumn.OWNER_NAME.ordinal()],
+                                                                                fieldDefn[FieldsColumn.FIELD_NAME.ordinal()]);
+
+            // Check if the data field already exists
+            if (fieldInfo != null)
+            {
+                // Check if the original data field information supersedes the
+                // imported one
+                if (useExistingFields)
+                {
+                    // Remove the new data field definition
+                    tableDefn.getDataFields().remove(index);
+                }
+                // The imported data field information replaces the original
+                else
+                {
+                    // Remove the original data field definition
+                    fieldHandler.getFieldInformation().remove(fieldInfo);
+                }
+            }
+        }
+
+        // Combine the imported and existing data fields
+        tableDefn.getDataFields().addAll(fieldHandler.getFieldDefinitionList());
+    }
+
+    /**************************************************************************
+     * Bulk table loader class. Collects the prototype tables that are created
+     * using the database's bulk copy operation, and creates the collected
+     * tables each time the number of tables or cells reaches the bulk import
+     * limit. The tables can therefore be created while the import file(s) are
+     * read, and only the tables not yet created are held in memory
+     *************************************************************************/
+    private class BulkTableLoader
+    {
+        private final boolean replaceExisting;
+        private final Component parent;
+
+        // Tables to create, their cell data, and the total number of cells
+        private final List<TableInformation> bulkTables;
+        private final List<List<String>> bulkData;
+        private int numCells;
+
+        // Names of the existing tables to delete since these are replaced by
+        // the tables to create
+        private final List<String> replacedNames;
+
+        // Names of the replaced tables for which any table editors are closed
+        private final List<String[]> replacedTables;
+
+        // Paths of the tables not created since these already exist
+        private final List<String> skippedTables;
+
+        // Names of the prototype tables that exist in the database
+        private final Set<String> existingTables;
+
+        /**********************************************************************
+         * Bulk table loader class constructor
+         *
+         * @param replaceExisting
+         *            true to replace a table that already exists in the
+         *            database
+         *
+         * @param parent
+         *            GUI component calling this method
+         *********************************************************************/
+        BulkTableLoader(boolean replaceExisting, Component parent)
+        {
+            this.replaceExisting = replaceExisting;
+            this.parent = parent;
+            bulkTables = new ArrayList<TableInformation>();
+            bulkData = new ArrayList<List<String>>();
+            numCells = 0;
+            replacedNames = new ArrayList<String>();
+            replacedTables = new ArrayList<String[]>();
+            skippedTables = new ArrayList<String>();
+            existingTables = new HashSet<String>(Arrays.asList(dbTable.queryTableList(parent)));
+        }
+
+        /**********************************************************************
+         * Add a prototype table to those to create. The collected tables are
+         * created if the bulk import limit is reached
+         *
+         * @param tableInfo
+         *            table information for the table to create
+         *
+         * @param cellData
+         *            list containing the table's cell data
+         *
+         * @throws CCDDException
+         *             If an error occurs creating the tables
+         *********************************************************************/
+        void addTable(TableInformation tableInfo,
+                      List<String> cellData) throws CCDDException
+        {
+            // Check if the table exists and if the user didn't elect to
+            // replace existing tables
+            if (existingTables.contains(tableInfo.getTablePath())
+                && !replaceExisting)
+            {
+                // Add the table to the list of those skipped
+                skippedTables.add(tableInfo.getTablePath());
+            }
+            // The table doesn't exist or the user elected to replace it
+            else
+            {
+                // Check if the table exists
+                if (existingTables.contains(tableInfo.getTablePath()))
+                {
+                    // Add the prototype table name to the list of tables to
+                    // delete
+                    replacedNames.add(tableInfo.getPrototypeName());
+                }
+
+                // Add the table and its cell data to the lists of those to
+                // create
+                bulkTables.add(tableInfo);
+                bulkData.add(cellData);
+                numCells += cellData.size();
+
+                // Check if the number of tables or cells collected reaches the
+                // bulk import limit
+                if (bulkTables.size() >= BULK_IMPORT_TABLE_LIMIT
+                    || numCells >= BULK_IMPORT_CELL_LIMIT)
+                {
+                    // Create the collected tables
+                    createTables();
+                }
+            }
+        }
+
+        /**********************************************************************
+         * Create the collected tables and load their rows, replacing any
+         * existing tables with the same names
+         *
+         * @throws CCDDException
+         *             If an error occurs deleting or creating the tables
+         *********************************************************************/
+        void createTables() throws CCDDException
+        {
+            // Check if any tables are collected
+            if (!bulkTables.isEmpty())
+            {
+                // Check if any existing tables are replaced
+                if (!replacedNames.isEmpty())
+                {
+                    // Delete the existing tables from the database
+                    if (dbTable.deleteTable(replacedNames.toArray(new String[0]),
+                                            null,
+                                            ccddMain.getMainFrame()))
+                    {
+                        throw new CCDDException();
+                    }
+
+                    // Step through each replaced table
+                    for (String tableName : replacedNames)
+                    {
+                        // Add the table to the list of those for which the
+                        // editors are closed
+                        replacedTables.add(new String[] {tableName, null});
+                    }
+
+                    replacedNames.clear();
+                }
+
+                // Create the tables and load their rows
+                if (dbTable.createTablesInBulk(bulkTables, bulkData, parent))
+                {
+                    throw new CCDDException();
+                }
+
+                bulkTables.clear();
+                bulkData.clear();
+                numCells = 0;
+            }
+        }
+
+        /**********************************************************************
+         * Close any editors associated with the tables replaced by the tables
+         * created. The editors are closed once importing completes since
+         * tables can be created while the import file(s) are read
+         *********************************************************************/
+        void closeReplacedTableEditors()
+        {
+            // Check if any existing tables were replaced
+            if (!replacedTables.isEmpty())
+            {
+                // Close any editors associated with the replaced tables
+                dbTable.closeDeletedTableEditors(replacedTables,
+                                                 ccddMain.getMainFrame());
+                replacedTables.clear();
+            }
+        }
+
+        /**********************************************************************
+         * Get the paths of the tables not created since these already exist
+         *
+         * @return List containing the paths of the skipped tables
+         *********************************************************************/
+        List<String> getSkippedTables()
+        {
+            return skippedTables;
+        }
+    }
+
     /**************************************************************************
      * Create a new data table or replace an existing one and paste the
      * supplied cell data into it
@@ -1550,7 +2018,9 @@ public class CcddFileIOHandler
      * file. This method is executed in a separate thread since it can take a
      * noticeable amount time to complete, and by using a separate thread the
      * GUI is allowed to continue to update. The GUI menu commands, however,
-     * are disabled until the database method completes execution
+     * are disabled until the database method completes execution. If each
+     * table is stored in a separate file then the tables are exported
+     * concurrently by a pool of worker threads
      *
      * @param filePath
      *            path to the folder in which to store the exported tables.
@@ -1647,14 +2117,8 @@ public class CcddFileIOHandler
             protected void execute()
             {
                 File file = null;
-                CcddImportExportInterface ioHandler = null;
                 List<String> skippedTables = new ArrayList<String>();
 
-                // Create a data field handler
-                CcddFieldHandler fieldHandler = new CcddFieldHandler(ccddMain,
-                                                                     null,
-                                                                     parent);
-
                 // Check if the user elected to store all tables in a single
                 // file. The path must include a file name
                 if (singleFile)
@@ -1679,30 +2143,9 @@ public class CcddFileIOHandler
                     path += File.separator;
                 }
 
-                // Check if the output format is CSV
-                if (fileExtn == FileExtension.CSV)
-                {
-                    // Create a CSV handler
-                    ioHandler = new CcddCSVHandler(ccddMain, fieldHandler, parent);
-                }
-                // Check if the output format is EDS XML
-                else if (fileExtn == FileExtension.EDS)
-                {
-                    // Create an EDS handler
-                    ioHandler = new CcddEDSHandler(ccddMain, fieldHandler, parent);
-                }
-                // Check if the output format is JSON
-                else if (fileExtn == FileExtension.JSON)
-                {
-                    // Create an JSON handler
-                    ioHandler = new CcddJSONHandler(ccddMain, fieldHandler, parent);
-                }
-                // Check if the output format is XTCE XML
-                else if (fileExtn == FileExtension.XTCE)
-                {
-                    // Create an XTCE handler, fieldHandler
-                    ioHandler = new CcddXTCEHandler(ccddMain, fieldHandler, parent);
-                }
+                // Create the format conversion handler
+                CcddImportExportInterface ioHandler = createExportHandler(fileExtn,
+                                                                          parent);
 
                 // Check that no error occurred creating the format conversion
                 // handler
@@ -1745,46 +2188,28 @@ public class CcddFileIOHandler
                     // Export the table(s) to individual files
                     else
                     {
-                        // Step through each table
-                        for (String tablePath : tablePaths)
+                        // Export the tables using a pool of worker threads
+                        if (exportTablesToSeparateFiles(ioHandler,
+                                                        path,
+                                                        tablePaths,
+                                                        overwriteFile,
+                                                        replaceMacros,
+                                                        includeReservedMsgIDs,
+                                                        includeVariablePaths,
+                                                        variableHandler,
+                                                        separators,
+                                                        fileExtn,
+                                                        system,
+                                                        version,
+                                                        validationStatus,
+                                                        classification1,
+                                                        classification2,
+                                                        classification3,
+                                                        skippedTables,
+                                                        Runtime.getRuntime().availableProcessors(),
+                                                        parent))
                         {
-                            // Create the file using a name derived from the
-                            // table name
-                            file = new File(path
-                                            + tablePath.replaceAll("[,\\.\\[\\]]", "_")
-                                            + fileExtn.getExtension());
-
-                            // Check if the file doesn't exist, or if it does
-                            // and the user elects to overwrite it
-                            if (isOverwriteExportFileIfExists(file,
-                                                              overwriteFile,
-                                                              parent))
-                            {
-                                // Export the formatted table data; the file
-                                // name is derived from the table name
-                                if (ioHandler.exportToFile(file,
-                                                           new String[] {tablePath},
-                                                           replaceMacros,
-                                                           includeReservedMsgIDs,
-                                                           includeVariablePaths,
-                                                           variableHandler,
-                                                           separators,
-                                                           system,
-                                                           version,
-                                                           validationStatus,
-                                                           classification1,
-                                                           classification2,
-                                                           classification3))
-                                {
-                                    errorFlag = true;
-                                }
-                            }
-                            // The table is skipped
-                            else
-                            {
-                                // Add the skipped table to the list
-                                skippedTables.add(tablePath);
-                            }
+                            errorFlag = true;
                         }
                     }
 
@@ -1840,6 +2265,400 @@ public class CcddFileIOHandler
         });
     }
 
+    /**************************************************************************
+     * Create the format conversion handler for the specified export file type.
+     * Each handler is given its own data field handler so that handlers used
+     * by different threads don't share one
+     *
+     * @param fileExtn
+     *            file extension type
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return Format conversion handler for the export file type
+     *************************************************************************/
+    private CcddImportExportInterface createExportHandler(FileExtension fileExtn,
+                                                          Component parent)
+    {
+        CcddImportExportInterface ioHandler = null;
+
+        // Create a data field handler
+        CcddFieldHandler fieldHandler = new CcddFieldHandler(ccddMain,
+                                                             null,
+                                                             parent);
+
+        // Check if the output format is CSV
+        if (fileExtn == FileExtension.CSV)
+        {
+            // Create a CSV handler
+            ioHandler = new CcddCSVHandler(ccddMain, fieldHandler, parent);
+        }
+        // Check if the output format is EDS XML
+        else if (fileExtn == FileExtension.EDS)
+        {
+            // Create an EDS handler
+            ioHandler = new CcddEDSHandler(ccddMain, fieldHandler, parent);
+        }
+        // Check if the output format is JSON
+        else if (fileExtn == FileExtension.JSON)
+        {
+            // Create an JSON handler
+            ioHandler = new CcddJSONHandler(ccddMain, fieldHandler, parent);
+        }
+        // Check if the output format is XTCE XML
+        else if (fileExtn == FileExtension.XTCE)
+        {
+            // Create an XTCE handler
+            ioHandler = new CcddXTCEHandler(ccddMain, fieldHandler, parent);
+        }
+
+        return ioHandler;
+    }
+
+    /**************************************************************************
+     * Export each of the specified tables to a separate file. The tables are
+     * exported concurrently by a pool of worker threads, each using its own
+     * format conversion handler and read-only database connection. The number
+     * of workers is limited by the specified maximum and the size of the
+     * database connection pool
+     *
+     * @param ioHandler
+     *            format conversion handler used by the first worker
+     *
+     * @param path
+     *            path to the folder in which to store the exported tables,
+     *            ending with a name separator character
+     *
+     * @param tablePaths
+     *            table path for each table to export
+     *
+     * @param overwriteFile
+     *            true to store overwrite an existing file; false skip
+     *            exporting a table to a file that already exists
+     *
+     * @param replaceMacros
+     *            true to replace macros with their corresponding values; false
+     *            to leave the macros intact
+     *
+     * @param includeReservedMsgIDs
+     *            true to include the contents of the reserved message ID table
+     *            in the export file
+     *
+     * @param includeVariablePaths
+     *            true to include the variable path for each variable in a
+     *            structure table, both in application format and using the
+     *            user-defined separator characters
+     *
+     * @param variableHandler
+     *            variable handler class reference; null if
+     *            includeVariablePaths is false
+     *
+     * @param separators
+     *            string array containing the variable path separator
+     *            character(s), show/hide data types flag ('true' or 'false'),
+     *            and data type/variable name separator character(s); null if
+     *            includeVariablePaths is false
+     *
+     * @param fileExtn
+     *            file extension type
+     *
+     * @param system
+     *            name of the data field containing the system name
+     *
+     * @param version
+     *            version attribute (XTCE only)
+     *
+     * @param validationStatus
+     *            validation status attribute (XTCE only)
+     *
+     * @param classification1
+     *            first level classification attribute (XTCE only)
+     *
+     * @param classification2
+     *            second level classification attribute (XTCE only)
+     *
+     * @param classification3
+     *            third level classification attribute (XTCE only)
+     *
+     * @param skippedTables
+     *            list to which to add the paths of any tables not exported
+     *            because the output file already exists or can't be created.
+     *            The paths are added in the order supplied
+     *
+     * @param maxWorkers
+     *            maximum number of worker threads; normally the number of
+     *            processors
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return true if an error occurred exporting any of the tables
+     *************************************************************************/
+    private boolean exportTablesToSeparateFiles(final CcddImportExportInterface ioHandler,
+                                                final String path,
+                                                final String[] tablePaths,
+                                                final boolean overwriteFile,
+                                                final boolean replaceMacros,
+                                                final boolean includeReservedMsgIDs,
+                                                final boolean includeVariablePaths,
+                                                final CcddVariableConversionHandler variableHandler,
+                                                final String[] separators,
+                                                final FileExtension fileExtn,
+                                                final String system,
+                                                final String version,
+                                                final String validationStatus,
+                                                final String classification1,
+                                                final String classification2,
+                                                final String classification3,
+                                                List<String> skippedTables,
+                                                int maxWorkers,
+                                                final Component parent)
+    {
+        final AtomicBoolean errorFlag = new AtomicBoolean(false);
+        final boolean[] isSkipped = new boolean[tablePaths.length];
+        Map<String, List<Integer>> tablesByFile = new LinkedHashMap<String, List<Integer>>();
+
+        // Step through each table
+        for (int index = 0; index < tablePaths.length; index++)
+        {
+            // Create the file name, derived from the table name
+            String fileName = path
+                              + tablePaths[index].replaceAll("[,\\.\\[\\]]", "_")
+                              + fileExtn.getExtension();
+
+            // Check if this is the first table exported to this file
+            if (!tablesByFile.containsKey(fileName))
+            {
+                tablesByFile.put(fileName, new ArrayList<Integer>());
+            }
+
+            // Add the table's index to the list of those exported to the file.
+            // Tables with the same file name are exported by the same worker
+            // in the order supplied, so the result is the same as if the
+            // tables are exported one at a time
+            tablesByFile.get(fileName).add(index);
+        }
+
+        final List<Map.Entry<String, List<Integer>>> exportFiles = new ArrayList<Map.Entry<String, List<Integer>>>(tablesByFile.entrySet());
+        final AtomicInteger nextFile = new AtomicInteger(0);
+
+        // Determine the number of workers. Each worker holds a read-only
+        // database connection while exporting a table, so there's no benefit
+        // to having more workers than connections
+        int numWorkers = Math.max(1,
+                                  Math.min(Math.min(maxWorkers,
+                                                    DB_CONNECTION_POOL_SIZE),
+                                           exportFiles.size()));
+
+        List<Callable<Void>> workers = new ArrayList<Callable<Void>>();
+
+        // Step through each worker
+        for (int worker = 0; worker < numWorkers; worker++)
+        {
+            final boolean isFirstWorker = worker == 0;
+
+            // Create the worker
+            workers.add(new Callable<Void>()
+            {
+                /**************************************************************
+                 * Export tables until none remain or the export is cancelled
+                 *************************************************************/
+                @Override
+                public Void call()
+                {
+                    // The first worker uses the handler already created; the
+                    // others create their own since a handler's export state
+                    // can't be shared between threads
+                    CcddImportExportInterface workerHandler = isFirstWorker
+                                                                            ? ioHandler
+                                                                            : createExportHandler(fileExtn,
+                                                                                                  parent);
+
+                    // Check if an error occurred creating the format
+                    // conversion handler
+                    if (workerHandler.getErrorStatus())
+                    {
+                        errorFlag.set(true);
+                    }
+                    // The handler was created successfully
+                    else
+                    {
+                        int fileIndex;
+
+                        // Continue to get the next file to export until none
+                        // remain or the export is cancelled
+                        while (!Thread.currentThread().isInterrupted()
+                               && (fileIndex = nextFile.getAndIncrement()) < exportFiles.size())
+                        {
+                            File file = new File(exportFiles.get(fileIndex).getKey());
+
+                            // Step through each table exported to this file
+                            for (int index : exportFiles.get(fileIndex).getValue())
+                            {
+                                // Obtain a read-only database connection so
+                                // that this worker's table queries don't wait
+                                // on those made by the other workers
+                                dbCommand.acquireReadOnlyConnection(parent);
+
+                                try
+                                {
+                                    // Check if the file doesn't exist, or if it
+                                    // does and the user elects to overwrite it
+                                    if (isOverwriteExportFileIfExists(file,
+                                                                      overwriteFile,
+                                                                      parent))
+                                    {
+                                        // Export the formatted table data; the
+                                        // file name is derived from the table
+                                        // name
+                                        if (workerHandler.exportToFile(file,
+                                                                       new String[] {tablePaths[index]},
+                                                                       replaceMacros,
+                                                                       includeReservedMsgIDs,
+                                                                       includeVariablePaths,
+                                                                       variableHandler,
+                                                                       separators,
+                                                                       system,
+                                                                       version,
+                                                                       validationStatus,
+                                                                       classification1,
+                                                                       classification2,
+                                                                       classification3))
+                                        {
+                                            errorFlag.set(true);
+                                        }
+                                    }
+                                    // The table is skipped
+                                    else
+                                    {
+                                        isSkipped[index] = true;
+                                    }
+                                }
+                                finally
+                                {
+                                    // Release the read-only database connection
+                                    dbCommand.releaseReadOnlyConnection();
+                                }
+                            }
+                        }
+                    }
+
+                    return null;
+                }
+            });
+        }
+
+        // Create the pool of worker threads
+        ExecutorService executor = Executors.newFixedThreadPool(numWorkers);
+
+        try
+        {
+            // Start the workers and wait for them to complete. Step through
+            // the result from each worker
+            for (Future<Void> result : executor.invokeAll(workers))
+            {
+                try
+                {
+                    // Check if the worker terminated due to an error
+                    result.get();
+                }
+                catch (ExecutionException ee)
+                {
+                    // Display a dialog providing details on the unanticipated
+                    // error
+                    CcddUtilities.displayException(ee, parent);
+                    errorFlag.set(true);
+                }
+            }
+        }
+        catch (InterruptedException ie)
+        {
+            // The export was cancelled before all of the workers completed;
+            // the workers that haven't completed are cancelled. Restore the
+            // interrupt status so that the calling thread detects the
+            // cancellation
+            Thread.currentThread().interrupt();
+            errorFlag.set(true);
+        }
+        finally
+        {
+            // Stop the worker threads
+            executor.shutdownNow();
+        }
+
+        // Step through each table
+        for (int index = 0; index < tablePaths.length; index++)
+        {
+            // Check if the table was skipped
+            if (isSkipped[index])
+            {
+                // Add the skipped table to the list
+                skippedTables.add(tablePaths[index]);
+            }
+        }
+
+        return errorFlag.get();
+    }
+
+    /**************************************************************************
+     * Export each of the specified tables to a separate file, overwriting any
+     * existing file, using the specified maximum number of worker threads.
+     * This method returns once the export completes. The tables are exported
+     * with the macros intact and no reserved message IDs, variable paths, or
+     * system attributes. Used to measure how the export scales with the number
+     * of workers
+     *
+     * @param path
+     *            path to the folder in which to store the exported tables,
+     *            ending with a name separator character
+     *
+     * @param tablePaths
+     *            table path for each table to export
+     *
+     * @param fileExtn
+     *            file extension type
+     *
+     * @param maxWorkers
+     *            maximum number of worker threads
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return true if an error occurred exporting any of the tables
+     *************************************************************************/
+    protected boolean exportTablesToSeparateFiles(String path,
+                                                  String[] tablePaths,
+                                                  FileExtension fileExtn,
+                                                  int maxWorkers,
+                                                  Component parent)
+    {
+        // Create the format conversion handler used by the first worker
+        CcddImportExportInterface ioHandler = createExportHandler(fileExtn,
+                                                                  parent);
+
+        return ioHandler.getErrorStatus()
+               || exportTablesToSeparateFiles(ioHandler,
+                                              path,
+                                              tablePaths,
+                                              true,
+                                              false,
+                                              false,
+                                              false,
+                                              null,
+                                              null,
+                                              fileExtn,
+                                              "",
+                                              "",
+                                              "",
+                                              "",
+                                              "",
+                                              "",
+                                              new ArrayList<String>(),
+                                              maxWorkers,
+                                              parent);
+    }
+
     /**************************************************************************
      * Check if the specified data file exists and, if so, whether or not the
      * user elects to overwrite it
@@ -29,6 +29,25 @@ public interface CcddImportExportInterface
         FIRST_DATA_ONLY
     }
 
+    /**************************************************************************
+     * Table definition listener interface. A listener receives each table
+     * definition as soon as the table's information is read from the import
+     * file
+     *************************************************************************/
+    interface TableDefinitionListener
+    {
+        /**********************************************************************
+         * Handle a table definition read from the import file
+         * 
+         * @param tableDefn
+         *            table definition
+         * 
+         * @throws CCDDException
+         *             If an error occurs handling the table definition
+         *********************************************************************/
+        void tableDefinitionRead(TableDefinition tableDefn) throws CCDDException;
+    }
+
     /**************************************************************************
      * Get the status of the conversion setup error flag
      * 
@@ -43,6 +62,19 @@ public interface CcddImportExportInterface
      *************************************************************************/
     abstract List<TableDefinition> getTableDefinitions();
 
+    /**************************************************************************
+     * Set the listener to which each table definition is handed as it's read
+     * from the import file. The table definitions handed to the listener
+     * aren't included in the list returned by getTableDefinitions(); an import
+     * format that can't hand over the definitions as these are read returns
+     * them in the list instead
+     * 
+     * @param listener
+     *            table definition listener; null to store the table
+     *            definitions in the list
+     *************************************************************************/
+    abstract void setTableDefinitionListener(TableDefinitionListener listener);
+
     /**************************************************************************
      * Build the information from the table definition(s) in the current file
      * 
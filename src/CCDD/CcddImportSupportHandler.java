@@ -12,6 +12,7 @@ import static CCDD.CcddConstants.CANCEL_BUTTON;
 import static CCDD.CcddConstants.IGNORE_BUTTON;
 
 import java.awt.Component;
+import java.util.List;
 
 import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddClasses.TableDefinition;
@@ -20,12 +21,72 @@ import CCDD.CcddConstants.ApplicabilityType;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable.FieldsColumn;
 import CCDD.CcddConstants.TableTypeEditorColumnInfo;
+import CCDD.CcddImportExportInterface.TableDefinitionListener;
 
 /******************************************************************************
  * CFS Command & Data Dictionary import support handler class
  *****************************************************************************/
 public class CcddImportSupportHandler
 {
+    // Listener to which the table definitions are handed as these are read;
+    // null if the table definitions are stored
+    private TableDefinitionListener tableDefnListener = null;
+
+    /**************************************************************************
+     * Set the listener to which each table definition is handed as it's read
+     * from the import file
+     *
+     * @param listener
+     *            table definition listener; null to store the table
+     *            definitions
+     *************************************************************************/
+    public void setTableDefinitionListener(TableDefinitionListener listener)
+    {
+        tableDefnListener = listener;
+    }
+
+    /**************************************************************************
+     * Check if the table definitions are handed to a listener as these are
+     * read instead of being stored
+     *
+     * @return true if a table definition listener is set
+     *************************************************************************/
+    protected boolean isTableDefinitionListenerSet()
+    {
+        return tableDefnListener != null;
+    }
+
+    /**************************************************************************
+     * Hand a table definition to the table definition listener, if one is
+     * set; otherwise add the definition to the list of table definitions
+     *
+     * @param tableDefinitions
+     *            list of table definitions
+     *
+     * @param tableDefn
+     *            table definition read from the import file
+     *
+     * @throws CCDDException
+     *             If the listener encounters an error handling the table
+     *             definition
+     *************************************************************************/
+    protected void addTableDefinition(List<TableDefinition> tableDefinitions,
+                                      TableDefinition tableDefn) throws CCDDException
+    {
+        // Check if a table definition listener is set
+        if (tableDefnListener != null)
+        {
+            // Hand the table definition to the listener
+            tableDefnListener.tableDefinitionRead(tableDefn);
+        }
+        // No listener is set
+        else
+        {
+            // Add the table definition to the list
+            tableDefinitions.add(tableDefn);
+        }
+    }
+
     /**************************************************************************
      * Add a table type column definition after verifying the input parameters
      *
@@ -0,0 +1,738 @@
+/**
+ * CFS Command & Data Dictionary indenting XML stream writer.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator
+ * of the National Aeronautics and Space Administration. No copyright is
+ * claimed in the United States under Title 17, U.S. Code. All Other Rights
+ * Reserved.
+ */
+package CCDD;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary indenting XML stream writer class. Writes an
+ * XML document to the output as it's built, with each element placed on a
+ * separate, indented line. The output matches the formatted output produced by
+ * a JAXB marshaller: an element with no content is output as an empty element,
+ * and special characters are escaped in the same manner. This allows a
+ * document to be assembled from fragments converted by a JAXB marshaller
+ * without holding the entire document in memory
+ *****************************************************************************/
+public class CcddIndentingXMLStreamWriter implements XMLStreamWriter
+{
+    // Number of spaces to indent each nesting level
+    private static final int INDENT_SIZE = 4;
+
+    // Writer to which to output the XML document
+    private final Writer writer;
+
+    // Nesting level of the document outside of the elements written by this
+    // writer
+    private final int baseDepth;
+
+    // Qualified names of the currently open elements. The innermost element's
+    // name is first
+    private final Deque<String> elementNames;
+
+    // Flags indicating if the currently open elements have any child
+    // elements. The flag for the innermost element is first
+    private final Deque<Boolean> hasChildElements;
+
+    // Namespace prefix bindings for each of the currently open elements, in
+    // the format <prefix, namespace URI>; the default namespace's prefix is
+    // blank. The innermost element's bindings are first, and the last entry
+    // contains the bindings made outside of any element
+    private final Deque<Map<String, String>> namespaces;
+
+    // Namespace context to search if a prefix or namespace URI isn't bound by
+    // this writer; null if none
+    private NamespaceContext rootContext;
+
+    // Flag indicating if the innermost element's start tag hasn't been closed;
+    // i.e., attributes can still be added to the element
+    private boolean isStartTagOpen;
+
+    // Flag indicating if the innermost element is an empty element
+    private boolean isEmptyElement;
+
+    /**************************************************************************
+     * Indenting XML stream writer class constructor
+     *
+     * @param writer
+     *            writer to which to output the XML document
+     *
+     * @param baseDepth
+     *            nesting level at which the elements written by this writer
+     *            begin; 0 if writing an entire document
+     *************************************************************************/
+    CcddIndentingXMLStreamWriter(Writer writer, int baseDepth)
+    {
+        this.writer = writer;
+        this.baseDepth = baseDepth;
+        elementNames = new ArrayDeque<String>();
+        hasChildElements = new ArrayDeque<Boolean>();
+        namespaces = new ArrayDeque<Map<String, String>>();
+        namespaces.push(new HashMap<String, String>());
+        rootContext = null;
+        isStartTagOpen = false;
+        isEmptyElement = false;
+    }
+
+    /**************************************************************************
+     * Output text
+     *
+     * @param text
+     *            text to output
+     *
+     * @throws XMLStreamException
+     *             If the output can't be written
+     *************************************************************************/
+    private void write(String text) throws XMLStreamException
+    {
+        try
+        {
+            writer.write(text);
+        }
+        catch (IOException ioe)
+        {
+            throw new XMLStreamException(ioe);
+        }
+    }
+
+    /**************************************************************************
+     * Output text with any characters that have special meaning in XML
+     * replaced by character references
+     *
+     * @param text
+     *            text to output
+     *
+     * @param isAttribute
+     *            true if the text is an attribute value. The quote character
+     *            and whitespace other than the space character are also
+     *            replaced in an attribute value
+     *
+     * @throws XMLStreamException
+     *             If the output can't be written
+     *************************************************************************/
+    private void writeEscaped(String text,
+                              boolean isAttribute) throws XMLStreamException
+    {
+        StringBuilder escaped = new StringBuilder(text.length());
+
+        // Step through each character in the text
+        for (int index = 0; index < text.length(); index++)
+        {
+            char character = text.charAt(index);
+
+            switch (character)
+            {
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+
+                case '"':
+                    escaped.append(isAttribute
+                                               ? "&quot;"
+                                               : "\"");
+                    break;
+
+                case '\t':
+                    escaped.append(isAttribute
+                                               ? "&#x9;"
+                                               : "\t");
+                    break;
+
+                case '\n':
+                    escaped.append(isAttribute
+                                               ? "&#xA;"
+                                               : "\n");
+                    break;
+
+                case '\r':
+                    escaped.append("&#xD;");
+                    break;
+
+                default:
+                    escaped.append(character);
+                    break;
+            }
+        }
+
+        write(escaped.toString());
+    }
+
+    /**************************************************************************
+     * Start a new line, indented to the specified nesting level
+     *
+     * @param depth
+     *            nesting level within the elements written by this writer
+     *
+     * @throws XMLStreamException
+     *             If the output can't be written
+     *************************************************************************/
+    private void writeNewLine(int depth) throws XMLStreamException
+    {
+        StringBuilder indent = new StringBuilder("\n");
+
+        // Step through each space of indentation
+        for (int count = (baseDepth + depth) * INDENT_SIZE; count > 0; count--)
+        {
+            indent.append(' ');
+        }
+
+        write(indent.toString());
+    }
+
+    /**************************************************************************
+     * Close the innermost element's start tag if it's open. If the element is
+     * an empty element then the element is complete
+     *
+     * @throws XMLStreamException
+     *             If the output can't be written
+     *************************************************************************/
+    private void closeStartTag() throws XMLStreamException
+    {
+        // Check if the start tag is open
+        if (isStartTagOpen)
+        {
+            isStartTagOpen = false;
+
+            // Check if the element is an empty element
+            if (isEmptyElement)
+            {
+                // Complete the element
+                isEmptyElement = false;
+                write("/>");
+                removeElement();
+            }
+            // The element may have content
+            else
+            {
+                write(">");
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Remove the innermost element from the list of open elements
+     *************************************************************************/
+    private void removeElement()
+    {
+        elementNames.pop();
+        hasChildElements.pop();
+        namespaces.pop();
+    }
+
+    /**************************************************************************
+     * Prepare to output a child item (element, comment, or processing
+     * instruction) of the current element. The current element's start tag is
+     * closed, if open, and the item is placed on its own line
+     *
+     * @throws XMLStreamException
+     *             If the output can't be written
+     *************************************************************************/
+    private void beginChildItem() throws XMLStreamException
+    {
+        closeStartTag();
+
+        // Check if an element is open
+        if (!hasChildElements.isEmpty())
+        {
+            // Indicate that the element has a child
+            hasChildElements.pop();
+            hasChildElements.push(true);
+        }
+
+        writeNewLine(elementNames.size());
+    }
+
+    /**************************************************************************
+     * Output an element's start tag. The tag is left open so that attributes
+     * and namespace declarations can be added
+     *
+     * @param prefix
+     *            element prefix; null or blank if the element has no prefix
+     *
+     * @param localName
+     *            element local name
+     *
+     * @param isEmpty
+     *            true if the element is an empty element
+     *
+     * @throws XMLStreamException
+     *             If the output can't be written
+     *************************************************************************/
+    private void startElement(String prefix,
+                              String localName,
+                              boolean isEmpty) throws XMLStreamException
+    {
+        beginChildItem();
+
+        // Get the element's qualified name
+        String name = prefix == null || prefix.isEmpty()
+                                                         ? localName
+                                                         : prefix + ":" + localName;
+
+        write("<" + name);
+        elementNames.push(name);
+        hasChildElements.push(false);
+        namespaces.push(new HashMap<String, String>());
+        isStartTagOpen = true;
+        isEmptyElement = isEmpty;
+    }
+
+    /**************************************************************************
+     * Get the prefix bound to the specified namespace URI, including the
+     * default namespace's (blank) prefix
+     *
+     * @param namespaceURI
+     *            namespace URI
+     *
+     * @return Prefix bound to the namespace URI
+     *
+     * @throws XMLStreamException
+     *             If the namespace URI isn't bound to a prefix
+     *************************************************************************/
+    private String getBoundPrefix(String namespaceURI) throws XMLStreamException
+    {
+        String prefix = getPrefix(namespaceURI);
+
+        // Check if the namespace URI isn't bound to a prefix
+        if (prefix == null)
+        {
+            throw new XMLStreamException("namespace URI '"
+                                         + namespaceURI
+                                         + "' isn't bound to a prefix");
+        }
+
+        return prefix;
+    }
+
+    /**************************************************************************
+     * Add an attribute to the innermost element's start tag
+     *
+     * @param prefix
+     *            attribute prefix; null or blank if the attribute has no
+     *            prefix
+     *
+     * @param localName
+     *            attribute local name
+     *
+     * @param value
+     *            attribute value
+     *
+     * @throws XMLStreamException
+     *             If the element's start tag is closed or the output can't be
+     *             written
+     *************************************************************************/
+    private void addAttribute(String prefix,
+                              String localName,
+                              String value) throws XMLStreamException
+    {
+        // Check if the element's start tag is closed
+        if (!isStartTagOpen)
+        {
+            throw new XMLStreamException("attribute '"
+                                         + localName
+                                         + "' isn't within a start tag");
+        }
+
+        write(" "
+              + (prefix == null || prefix.isEmpty()
+                                                    ? ""
+                                                    : prefix + ":")
+              + localName
+              + "=\"");
+        writeEscaped(value, true);
+        write("\"");
+    }
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException
+    {
+        startElement(null, localName, false);
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI,
+                                  String localName) throws XMLStreamException
+    {
+        startElement(getBoundPrefix(namespaceURI), localName, false);
+    }
+
+    @Override
+    public void writeStartElement(String prefix,
+                                  String localName,
+                                  String namespaceURI) throws XMLStreamException
+    {
+        startElement(prefix, localName, false);
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI,
+                                  String localName) throws XMLStreamException
+    {
+        startElement(getBoundPrefix(namespaceURI), localName, true);
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix,
+                                  String localName,
+                                  String namespaceURI) throws XMLStreamException
+    {
+        startElement(prefix, localName, true);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException
+    {
+        startElement(null, localName, true);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException
+    {
+        // Check if the innermost element is an empty element
+        if (isEmptyElement)
+        {
+            // Complete the empty element
+            closeStartTag();
+        }
+
+        // Check if the element has no content
+        if (isStartTagOpen)
+        {
+            // Output the element as an empty element
+            isStartTagOpen = false;
+            write("/>");
+        }
+        // The element has content
+        else
+        {
+            // Check if the element has child elements
+            if (hasChildElements.peek())
+            {
+                // Place the end tag on its own line
+                writeNewLine(elementNames.size() - 1);
+            }
+
+            write("</" + elementNames.peek() + ">");
+        }
+
+        removeElement();
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException
+    {
+        closeStartTag();
+
+        // Step through each open element
+        while (!elementNames.isEmpty())
+        {
+            // Complete the element
+            writeEndElement();
+        }
+
+        // Terminate the document's last line
+        write("\n");
+    }
+
+    @Override
+    public void close() throws XMLStreamException
+    {
+    }
+
+    @Override
+    public void flush() throws XMLStreamException
+    {
+        try
+        {
+            writer.flush();
+        }
+        catch (IOException ioe)
+        {
+            throw new XMLStreamException(ioe);
+        }
+    }
+
+    @Override
+    public void writeAttribute(String localName,
+                               String value) throws XMLStreamException
+    {
+        addAttribute(null, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(String prefix,
+                               String namespaceURI,
+                               String localName,
+                               String value) throws XMLStreamException
+    {
+        addAttribute(prefix, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI,
+                               String localName,
+                               String value) throws XMLStreamException
+    {
+        addAttribute(getBoundPrefix(namespaceURI), localName, value);
+    }
+
+    @Override
+    public void writeNamespace(String prefix,
+                               String namespaceURI) throws XMLStreamException
+    {
+        // Check if the prefix is for the default namespace
+        if (prefix == null
+            || prefix.isEmpty()
+            || prefix.equals(XMLConstants.XMLNS_ATTRIBUTE))
+        {
+            writeDefaultNamespace(namespaceURI);
+        }
+        // The prefix isn't for the default namespace
+        else
+        {
+            addAttribute(XMLConstants.XMLNS_ATTRIBUTE, prefix, namespaceURI);
+            namespaces.peek().put(prefix, namespaceURI);
+        }
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException
+    {
+        addAttribute(null, XMLConstants.XMLNS_ATTRIBUTE, namespaceURI);
+        namespaces.peek().put(XMLConstants.DEFAULT_NS_PREFIX, namespaceURI);
+    }
+
+    @Override
+    public void writeComment(String data) throws XMLStreamException
+    {
+        beginChildItem();
+        write("<!--" + data + "-->");
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) throws XMLStreamException
+    {
+        beginChildItem();
+        write("<?" + target + "?>");
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target,
+                                           String data) throws XMLStreamException
+    {
+        beginChildItem();
+        write("<?" + target + " " + data + "?>");
+    }
+
+    @Override
+    public void writeCData(String data) throws XMLStreamException
+    {
+        closeStartTag();
+        write("<![CDATA[" + data + "]]>");
+    }
+
+    @Override
+    public void writeDTD(String dtd) throws XMLStreamException
+    {
+        write(dtd);
+    }
+
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException
+    {
+        closeStartTag();
+        write("&" + name + ";");
+    }
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException
+    {
+        writeStartDocument("UTF-8", "1.0");
+    }
+
+    @Override
+    public void writeStartDocument(String version) throws XMLStreamException
+    {
+        writeStartDocument("UTF-8", version);
+    }
+
+    @Override
+    public void writeStartDocument(String encoding,
+                                   String version) throws XMLStreamException
+    {
+        write("<?xml version=\""
+              + version
+              + "\" encoding=\""
+              + encoding
+              + "\"?>");
+    }
+
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException
+    {
+        closeStartTag();
+        writeEscaped(text, false);
+    }
+
+    @Override
+    public void writeCharacters(char[] text,
+                                int start,
+                                int len) throws XMLStreamException
+    {
+        writeCharacters(new String(text, start, len));
+    }
+
+    @Override
+    public String getPrefix(String uri) throws XMLStreamException
+    {
+        return getNamespaceContext().getPrefix(uri);
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) throws XMLStreamException
+    {
+        namespaces.peek().put(prefix, uri);
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) throws XMLStreamException
+    {
+        namespaces.peek().put(XMLConstants.DEFAULT_NS_PREFIX, uri);
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) throws XMLStreamException
+    {
+        rootContext = context;
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext()
+    {
+        return new NamespaceContext()
+        {
+            /******************************************************************
+             * Get the namespace URI bound to the specified prefix in the
+             * current scope
+             *****************************************************************/
+            @Override
+            public String getNamespaceURI(String prefix)
+            {
+                String namespaceURI = null;
+
+                // Step through the bindings, beginning with the innermost
+                // element's
+                for (Map<String, String> bindings : namespaces)
+                {
+                    namespaceURI = bindings.get(prefix);
+
+                    // Check if the prefix is bound
+                    if (namespaceURI != null)
+                    {
+                        break;
+                    }
+                }
+
+                // Check if the prefix isn't bound by this writer and a root
+                // namespace context is set
+                if (namespaceURI == null && rootContext != null)
+                {
+                    namespaceURI = rootContext.getNamespaceURI(prefix);
+                }
+
+                return namespaceURI;
+            }
+
+            /******************************************************************
+             * Get a prefix bound to the specified namespace URI in the current
+             * scope
+             *****************************************************************/
+            @Override
+            public String getPrefix(String namespaceURI)
+            {
+                Iterator<String> prefixes = getPrefixes(namespaceURI);
+
+                return prefixes.hasNext()
+                                          ? prefixes.next()
+                                          : null;
+            }
+
+            /******************************************************************
+             * Get the prefixes bound to the specified namespace URI in the
+             * current scope
+             *****************************************************************/
+            @Override
+            public Iterator<String> getPrefixes(String namespaceURI)
+            {
+                List<String> prefixes = new ArrayList<String>();
+
+                // Step through the bindings, beginning with the innermost
+                // element's
+                for (Map<String, String> bindings : namespaces)
+                {
+                    // Step through each binding
+                    for (Map.Entry<String, String> binding : bindings.entrySet())
+                    {
+                        // Check if the prefix is bound to the namespace URI
+                        // and isn't redefined in an inner scope
+                        if (binding.getValue().equals(namespaceURI)
+                            && !prefixes.contains(binding.getKey())
+                            && namespaceURI.equals(getNamespaceURI(binding.getKey())))
+                        {
+                            prefixes.add(binding.getKey());
+                        }
+                    }
+                }
+
+                // Check if no prefix is bound by this writer and a root
+                // namespace context is set
+                if (prefixes.isEmpty() && rootContext != null)
+                {
+                    String prefix = rootContext.getPrefix(namespaceURI);
+
+                    // Check if the root namespace context binds a prefix
+                    if (prefix != null)
+                    {
+                        prefixes.add(prefix);
+                    }
+                }
+
+                return prefixes.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Object getProperty(String name) throws IllegalArgumentException
+    {
+        throw new IllegalArgumentException("property '"
+                                           + name
+                                           + "' isn't supported");
+    }
+}
@@ -113,6 +113,23 @@ public abstract class CcddInformationTreeHandler extends CcddCommonTreeHandler
         // Check that the information definitions loaded successfully
         if (infoDefinitions != null)
         {
+            // Check if the tree can be edited
+            if (undoHandler != null)
+            {
+                List<String[]> definitions = new ArrayList<String[]>(infoDefinitions.size());
+
+                // Step through each definition
+                for (String[] definition : infoDefinitions)
+                {
+                    // Copy the definition. The definitions may be shared with
+                    // the project snapshot, which must not be altered by the
+                    // edits
+                    definitions.add(definition.clone());
+                }
+
+                infoDefinitions = definitions;
+            }
+
             this.filterValue = filterValue;
 
             // Create the tree's root node
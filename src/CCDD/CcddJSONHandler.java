@@ -21,18 +21,16 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
 import javax.swing.JOptionPane;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 import CCDD.CcddClasses.CCDDException;
@@ -79,6 +77,11 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
     // definitions
     private List<TableDefinition> tableDefinitions;
 
+    // Flags indicating if importing should continue after a table column or
+    // data field input error is detected
+    private boolean continueOnColumnError;
+    private boolean continueOnDataFieldError;
+
     /**************************************************************************
      * JSON handler class constructor
      *
@@ -267,7 +270,11 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
     }
 
     /**************************************************************************
-     * Build the information from the table definition(s) in the current file
+     * Build the information from the table definition(s) in the current file.
+     * The file is read one definition at a time so that only the definition
+     * being processed is held in memory. A table that references a table type
+     * that isn't yet defined is held until the end of the file in case the
+     * table type definition follows the table
      *
      * @param importFile
      *            import file reference
@@ -299,190 +306,212 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
         try
         {
             List<TableTypeDefinition> tableTypeDefinitions = new ArrayList<TableTypeDefinition>();
+            List<String[]> dataTypeDefns = new ArrayList<String[]>();
+            List<String[]> macroDefns = new ArrayList<String[]>();
+            List<String[]> reservedMsgIDDefns = new ArrayList<String[]>();
             tableDefinitions = new ArrayList<TableDefinition>();
 
+            // Table definitions for the tables having a type that isn't
+            // defined when the table is read, and the position in the table
+            // definitions list at which each belongs
+            List<JSONObject> deferredTables = new ArrayList<JSONObject>();
+            List<Integer> deferredIndices = new ArrayList<Integer>();
+
+            // Flag indicating if the table type definitions have been read
+            boolean isTableTypesRead = false;
+
+            // Flag indicating if any further table definitions are ignored
+            boolean skipTables = false;
+
             // Flags indicating if importing should continue after an input
             // error is detected
             boolean continueOnTableTypeError = false;
             boolean continueOnDataTypeError = false;
             boolean continueOnMacroError = false;
             boolean continueOnReservedMsgIDError = false;
-            boolean continueOnColumnError = false;
-            boolean continueOnDataFieldError = false;
             boolean continueOnTableTypeFieldError = false;
+            continueOnColumnError = false;
+            continueOnDataFieldError = false;
 
-            // Create a JSON parser and use it to parse the import file
-            // contents
-            JSONParser jsonParser = new JSONParser();
-            JSONObject jsonObject = (JSONObject) jsonParser.parse(new FileReader(importFile));
-
-            // Get the table type definitions JSON object
-            Object defn = jsonObject.get(JSONTags.TABLE_TYPE_DEFN.getTag());
+            // Create a JSON stream reader for the import file
+            br = new BufferedReader(new FileReader(importFile));
+            CcddJSONStreamReader jsonReader = new CcddJSONStreamReader(br);
 
-            // Check if the table type definitions exist
-            if (defn != null && defn instanceof JSONArray)
+            // Read the import file one definition at a time
+            while (jsonReader.next())
             {
-                // Step through each table type definition
-                for (JSONObject tableTypeJO : parseJSONArray(defn))
+                // Get the name of the section containing the definition
+                String section = jsonReader.getSectionKey();
+
+                // Check if the end of a section was reached
+                if (jsonReader.isSectionEnd())
                 {
-                    // Get the table type definition components
-                    String typeName = getString(tableTypeJO,
-                                                JSONTags.TABLE_TYPE_NAME.getTag());
-                    String typeDesc = getString(tableTypeJO,
-                                                JSONTags.TABLE_TYPE_DESCRIPTION.getTag());
-                    Object typeColumn = getObject(tableTypeJO,
-                                                  JSONTags.TABLE_TYPE_COLUMN.getTag());
-
-                    // Check if the expected inputs are present
-                    if (!typeName.isEmpty()
-                        && typeColumn != null
-                        && typeColumn instanceof JSONArray)
+                    // Check if this is the end of the table type definitions
+                    if (JSONTags.TABLE_TYPE_DEFN.getTag().equals(section))
                     {
-                        // Create a new table type definition
-                        TableTypeDefinition tableTypeDefn = new TableTypeDefinition(typeName,
-                                                                                    typeDesc);
+                        // Add the table type if it's new or match it to an
+                        // existing one with the same name if the type
+                        // definitions are the same. This is done before
+                        // reading any further so that the tables following
+                        // can reference the table types
+                        String badDefn = tableTypeHandler.updateTableTypes(tableTypeDefinitions,
+                                                                           fieldHandler);
+
+                        // Check if a table type isn't new and doesn't match
+                        // an existing one with the same name
+                        if (badDefn != null)
+                        {
+                            throw new CCDDException("Imported table type '"
+                                                    + badDefn
+                                                    + "' doesn't match the existing definition");
+                        }
 
-                        int columnNumber = 0;
+                        isTableTypesRead = true;
+                    }
+                }
+                // A definition was read
+                else
+                {
+                    // Get the definition. A definition that isn't a JSON
+                    // object is treated as if it has no inputs
+                    JSONObject itemJO = jsonReader.getItem() instanceof JSONObject
+                                                                                   ? (JSONObject) jsonReader.getItem()
+                                                                                   : new JSONObject();
+
+                    // Check if this is a table type definition
+                    if (JSONTags.TABLE_TYPE_DEFN.getTag().equals(section))
+                    {
+                        // Get the table type definition components
+                        String typeName = getString(itemJO,
+                                                    JSONTags.TABLE_TYPE_NAME.getTag());
+                        String typeDesc = getString(itemJO,
+                                                    JSONTags.TABLE_TYPE_DESCRIPTION.getTag());
+                        Object typeColumn = getObject(itemJO,
+                                                      JSONTags.TABLE_TYPE_COLUMN.getTag());
 
-                        // Step through each table type column definition
-                        for (JSONObject typeJO : parseJSONArray(typeColumn))
+                        // Check if the expected inputs are present
+                        if (!typeName.isEmpty()
+                            && typeColumn != null
+                            && typeColumn instanceof JSONArray)
                         {
-                            // Check if the expected input is present
-                            if (typeJO.keySet().size() == TableTypeEditorColumnInfo.values().length - 1)
-                            {
-                                // Add the table type column definition,
-                                // checking for (and if possible, correcting)
-                                // errors
-                                continueOnTableTypeError = addImportedTableTypeDefinition(continueOnTableTypeError,
-                                                                                          tableTypeDefn,
-                                                                                          new String[] {String.valueOf(columnNumber),
-                                                                                                        getString(typeJO,
-                                                                                                                  TableTypeEditorColumnInfo.NAME.getColumnName()),
-                                                                                                        getString(typeJO,
-                                                                                                                  TableTypeEditorColumnInfo.DESCRIPTION.getColumnName()),
-                                                                                                        getString(typeJO,
-                                                                                                                  TableTypeEditorColumnInfo.INPUT_TYPE.getColumnName()),
-                                                                                                        getString(typeJO,
-                                                                                                                  TableTypeEditorColumnInfo.UNIQUE.getColumnName()),
-                                                                                                        getString(typeJO,
-                                                                                                                  TableTypeEditorColumnInfo.REQUIRED.getColumnName()),
-                                                                                                        getString(typeJO,
-                                                                                                                  CcddUtilities.removeHTMLTags(TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.getColumnName())),
-                                                                                                        getString(typeJO,
-                                                                                                                  CcddUtilities.removeHTMLTags(TableTypeEditorColumnInfo.POINTER_ALLOWED.getColumnName()))},
-                                                                                          importFile.getAbsolutePath(),
-                                                                                          parent);
-
-                                // Update the column index number for the next
-                                // column definition
-                                columnNumber++;
-                            }
-                            // The number of inputs is incorrect
-                            else
+                            // Create a new table type definition
+                            TableTypeDefinition tableTypeDefn = new TableTypeDefinition(typeName,
+                                                                                        typeDesc);
+
+                            int columnNumber = 0;
+
+                            // Step through each table type column definition
+                            for (JSONObject typeJO : parseJSONArray(typeColumn))
                             {
-                                // Check if the error should be ignored or the
-                                // import canceled
-                                continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
-                                                                            "<html><b>Table type '"
-                                                                                                      + typeName
-                                                                                                      + "' definition has missing or extra "
-                                                                                                      + "input(s) in import file '</b>"
-                                                                                                      + importFile.getAbsolutePath()
-                                                                                                      + "<b>'; continue?",
-                                                                            "Table Type Error",
-                                                                            "Ignore this table type",
-                                                                            "Ignore this and any remaining invalid table types",
-                                                                            "Stop importing",
-                                                                            parent);
+                                // Check if the expected input is present
+                                if (typeJO.keySet().size() == TableTypeEditorColumnInfo.values().length - 1)
+                                {
+                                    // Add the table type column definition,
+                                    // checking for (and if possible, correcting)
+                                    // errors
+                                    continueOnTableTypeError = addImportedTableTypeDefinition(continueOnTableTypeError,
+                                                                                              tableTypeDefn,
+                                                                                              new String[] {String.valueOf(columnNumber),
+                                                                                                            getString(typeJO,
+                                                                                                                      TableTypeEditorColumnInfo.NAME.getColumnName()),
+                                                                                                            getString(typeJO,
+                                                                                                                      TableTypeEditorColumnInfo.DESCRIPTION.getColumnName()),
+                                                                                                            getString(typeJO,
+                                                                                                                      TableTypeEditorColumnInfo.INPUT_TYPE.getColumnName()),
+                                                                                                            getString(typeJO,
+                                                                                                                      TableTypeEditorColumnInfo.UNIQUE.getColumnName()),
+                                                                                                            getString(typeJO,
+                                                                                                                      TableTypeEditorColumnInfo.REQUIRED.getColumnName()),
+                                                                                                            getString(typeJO,
+                                                                                                                      CcddUtilities.removeHTMLTags(TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.getColumnName())),
+                                                                                                            getString(typeJO,
+                                                                                                                      CcddUtilities.removeHTMLTags(TableTypeEditorColumnInfo.POINTER_ALLOWED.getColumnName()))},
+                                                                                              importFile.getAbsolutePath(),
+                                                                                              parent);
+
+                                    // Update the column index number for the next
+                                    // column definition
+                                    columnNumber++;
+                                }
+                                // The number of inputs is incorrect
+                                else
+                                {
+                                    // Check if the error should be ignored or the
+                                    // import canceled
+                                    continueOnTableTypeError = getErrorResponse(continueOnTableTypeError,
+                                                                                "<html><b>Table type '"
+                                                                                                          + typeName
+                                                                                                          + "' definition has missing or extra "
+                                                                                                          + "input(s) in import file '</b>"
+                                                                                                          + importFile.getAbsolutePath()
+                                                                                                          + "<b>'; continue?",
+                                                                                "Table Type Error",
+                                                                                "Ignore this table type",
+                                                                                "Ignore this and any remaining invalid table types",
+                                                                                "Stop importing",
+                                                                                parent);
+                                }
                             }
-                        }
 
-                        // Get the data fields for this table type
-                        Object typeField = getObject(tableTypeJO,
-                                                     JSONTags.TABLE_TYPE_FIELD.getTag());
+                            // Get the data fields for this table type
+                            Object typeField = getObject(itemJO,
+                                                         JSONTags.TABLE_TYPE_FIELD.getTag());
 
-                        // Check if any data fields exists for this table type
-                        if (typeField != null)
-                        {
-                            // Step through each table type data field
-                            // definition
-                            for (JSONObject typeJO : parseJSONArray(typeField))
+                            // Check if any data fields exists for this table type
+                            if (typeField != null)
                             {
-                                // Add the data field definition, checking for
-                                // (and if possible, correcting) errors
-                                continueOnTableTypeFieldError = addImportedDataFieldDefinition(continueOnTableTypeFieldError,
-                                                                                               tableTypeDefn,
-                                                                                               new String[] {CcddFieldHandler.getFieldTypeName(tableTypeDefn.getTypeName()),
-                                                                                                             getString(typeJO,
-                                                                                                                       FieldEditorColumnInfo.NAME.getColumnName()),
-                                                                                                             getString(typeJO,
-                                                                                                                       FieldEditorColumnInfo.DESCRIPTION.getColumnName()),
-                                                                                                             getString(typeJO,
-                                                                                                                       FieldEditorColumnInfo.SIZE.getColumnName()),
-                                                                                                             getString(typeJO,
-                                                                                                                       FieldEditorColumnInfo.INPUT_TYPE.getColumnName()),
-                                                                                                             getString(typeJO,
-                                                                                                                       FieldEditorColumnInfo.REQUIRED.getColumnName()),
-                                                                                                             getString(typeJO,
-                                                                                                                       FieldEditorColumnInfo.APPLICABILITY.getColumnName()),
-                                                                                                             getString(typeJO,
-                                                                                                                       FieldEditorColumnInfo.VALUE.getColumnName())},
-                                                                                               importFile.getAbsolutePath(),
-                                                                                               parent);
+                                // Step through each table type data field
+                                // definition
+                                for (JSONObject typeJO : parseJSONArray(typeField))
+                                {
+                                    // Add the data field definition, checking for
+                                    // (and if possible, correcting) errors
+                                    continueOnTableTypeFieldError = addImportedDataFieldDefinition(continueOnTableTypeFieldError,
+                                                                                                   tableTypeDefn,
+                                                                                                   new String[] {CcddFieldHandler.getFieldTypeName(tableTypeDefn.getTypeName()),
+                                                                                                                 getString(typeJO,
+                                                                                                                           FieldEditorColumnInfo.NAME.getColumnName()),
+                                                                                                                 getString(typeJO,
+                                                                                                                           FieldEditorColumnInfo.DESCRIPTION.getColumnName()),
+                                                                                                                 getString(typeJO,
+                                                                                                                           FieldEditorColumnInfo.SIZE.getColumnName()),
+                                                                                                                 getString(typeJO,
+                                                                                                                           FieldEditorColumnInfo.INPUT_TYPE.getColumnName()),
+                                                                                                                 getString(typeJO,
+                                                                                                                           FieldEditorColumnInfo.REQUIRED.getColumnName()),
+                                                                                                                 getString(typeJO,
+                                                                                                                           FieldEditorColumnInfo.APPLICABILITY.getColumnName()),
+                                                                                                                 getString(typeJO,
+                                                                                                                           FieldEditorColumnInfo.VALUE.getColumnName())},
+                                                                                                   importFile.getAbsolutePath(),
+                                                                                                   parent);
+                                }
                             }
-                        }
 
-                        // Add the table type definition to the list
-                        tableTypeDefinitions.add(tableTypeDefn);
+                            // Add the table type definition to the list
+                            tableTypeDefinitions.add(tableTypeDefn);
+                        }
                     }
-                }
-            }
-
-            // Add the table type if it's new or match it to an existing one
-            // with the same name if the type definitions are the same
-            String badDefn = tableTypeHandler.updateTableTypes(tableTypeDefinitions,
-                                                               fieldHandler);
-
-            // Check if a table type isn't new and doesn't match an existing
-            // one with the same name
-            if (badDefn != null)
-            {
-                throw new CCDDException("Imported table type '"
-                                        + badDefn
-                                        + "' doesn't match the existing definition");
-            }
-
-            // Check if all definitions are to be loaded
-            if (importType == ImportType.IMPORT_ALL)
-            {
-                List<String[]> dataTypeDefns = new ArrayList<String[]>();
-                List<String[]> macroDefns = new ArrayList<String[]>();
-                List<String[]> reservedMsgIDDefns = new ArrayList<String[]>();
-
-                // Get the data type definitions JSON object
-                defn = jsonObject.get(JSONTags.DATA_TYPE_DEFN.getTag());
-
-                // Check if the data type definitions exist
-                if (defn != null && defn instanceof JSONArray)
-                {
-                    // Step through each data type definition
-                    for (JSONObject typeJO : parseJSONArray(defn))
+                    // Check if this is a data type definition and all
+                    // definitions are to be loaded
+                    else if (JSONTags.DATA_TYPE_DEFN.getTag().equals(section)
+                             && importType == ImportType.IMPORT_ALL)
                     {
                         // Get the data type definition components
-                        String userName = getString(typeJO,
+                        String userName = getString(itemJO,
                                                     DataTypeEditorColumnInfo.USER_NAME.getColumnName());
-                        String cName = getString(typeJO,
+                        String cName = getString(itemJO,
                                                  DataTypeEditorColumnInfo.C_NAME.getColumnName());
-                        String size = getString(typeJO,
+                        String size = getString(itemJO,
                                                 DataTypeEditorColumnInfo.SIZE.getColumnName());
-                        String baseType = getString(typeJO,
+                        String baseType = getString(itemJO,
                                                     DataTypeEditorColumnInfo.BASE_TYPE.getColumnName());
 
                         // Check if the expected inputs are present
                         if ((!userName.isEmpty() || !cName.isEmpty())
                             && !size.isEmpty()
                             && !baseType.isEmpty()
-                            && typeJO.keySet().size() < DataTypeEditorColumnInfo.values().length)
+                            && itemJO.keySet().size() < DataTypeEditorColumnInfo.values().length)
                         {
                             // Add the data type definition (add a blank to
                             // represent the OID)
@@ -509,26 +538,20 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                                                                        parent);
                         }
                     }
-                }
-
-                // Get the macro definitions JSON object
-                defn = jsonObject.get(JSONTags.MACRO_DEFN.getTag());
-
-                // Check if the macro definitions exist
-                if (defn != null && defn instanceof JSONArray)
-                {
-                    // Step through each macro definition
-                    for (JSONObject macroJO : parseJSONArray(defn))
+                    // Check if this is a macro definition and all definitions
+                    // are to be loaded
+                    else if (JSONTags.MACRO_DEFN.getTag().equals(section)
+                             && importType == ImportType.IMPORT_ALL)
                     {
                         // Get the macro definition components
-                        String name = getString(macroJO,
+                        String name = getString(itemJO,
                                                 MacroEditorColumnInfo.NAME.getColumnName());
-                        String value = getString(macroJO,
+                        String value = getString(itemJO,
                                                  MacroEditorColumnInfo.VALUE.getColumnName());
 
                         // Check if the expected inputs are present
                         if (!name.isEmpty()
-                            && macroJO.keySet().size() < MacroEditorColumnInfo.values().length)
+                            && itemJO.keySet().size() < MacroEditorColumnInfo.values().length)
                         {
                             // Add the macro definition (add a blank to
                             // represent the OID)
@@ -551,26 +574,20 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                                                                     parent);
                         }
                     }
-                }
-
-                // Get the reserved message ID definitions JSON object
-                defn = jsonObject.get(JSONTags.RESERVED_MSG_ID_DEFN.getTag());
-
-                // Check if the reserved message ID definitions exist
-                if (defn != null && defn instanceof JSONArray)
-                {
-                    // Step through each reserved message ID definition
-                    for (JSONObject reservedMsgIDJO : parseJSONArray(defn))
+                    // Check if this is a reserved message ID definition and
+                    // all definitions are to be loaded
+                    else if (JSONTags.RESERVED_MSG_ID_DEFN.getTag().equals(section)
+                             && importType == ImportType.IMPORT_ALL)
                     {
                         // Get the reserved message ID definition components
-                        String name = getString(reservedMsgIDJO,
+                        String name = getString(itemJO,
                                                 ReservedMsgIDEditorColumnInfo.MSG_ID.getColumnName());
-                        String value = getString(reservedMsgIDJO,
+                        String value = getString(itemJO,
                                                  ReservedMsgIDEditorColumnInfo.DESCRIPTION.getColumnName());
 
                         // Check if the expected inputs are present
                         if (!name.isEmpty()
-                            && reservedMsgIDJO.keySet().size() < ReservedMsgIDEditorColumnInfo.values().length)
+                            && itemJO.keySet().size() < ReservedMsgIDEditorColumnInfo.values().length)
                         {
                             // Add the reserved message ID definition (add a
                             // blank to represent the OID)
@@ -593,11 +610,63 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                                                                             parent);
                         }
                     }
+                    // Check if this is a table definition and table
+                    // definitions aren't being ignored
+                    else if (JSONTags.TABLE_DEFN.getTag().equals(section)
+                             && !skipTables)
+                    {
+                        // Check if the table's type isn't defined and the
+                        // table type definitions haven't been read
+                        if (!isTableTypesRead
+                            && tableTypeHandler.getTypeDefinition(getString(itemJO,
+                                                                            JSONTags.TABLE_TYPE.getTag())) == null)
+                        {
+                            // Hold the table until the end of the file in case
+                            // its type is defined later in the file
+                            deferredTables.add(itemJO);
+                            deferredIndices.add(tableDefinitions.size());
+                        }
+                        // The table's type is defined, or won't be defined
+                        else
+                        {
+                            // Build the table's definition
+                            TableDefinition tableDefn = buildTableDefinition(itemJO,
+                                                                             importType,
+                                                                             importFile.getAbsolutePath());
+
+                            // Check if the table definition is valid
+                            if (tableDefn != null)
+                            {
+                                // Add the table's definition to the list
+                                tableDefinitions.add(tableDefn);
+                            }
+                        }
+
+                        // Check if only the data from the first table is to be
+                        // read
+                        if (importType == ImportType.FIRST_DATA_ONLY)
+                        {
+                            // Check if the table was processed
+                            if (deferredTables.isEmpty())
+                            {
+                                // Stop reading the file
+                                break;
+                            }
+
+                            // Ignore the remaining tables while the file is
+                            // read for the first table's type definition
+                            skipTables = true;
+                        }
+                    }
                 }
+            }
 
+            // Check if all definitions are to be loaded
+            if (importType == ImportType.IMPORT_ALL)
+            {
                 // Add the data type if it's new or match it to an existing one
                 // with the same name if the type definitions are the same
-                badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
+                String badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
 
                 // Check if a data type isn't new and doesn't match an
                 // existing one with the same name
@@ -625,155 +694,31 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                 }
             }
 
-            // Get the table definitions JSON object
-            defn = jsonObject.get(JSONTags.TABLE_DEFN.getTag());
+            int numInserted = 0;
 
-            // Check if the table definitions exist
-            if (defn != null && defn instanceof JSONArray)
+            // Step through each table that was held because its type wasn't
+            // defined when the table was read
+            for (int index = 0; index < deferredTables.size(); index++)
             {
-                // Step through each table definition
-                for (JSONObject tableJO : parseJSONArray(defn))
-                {
-                    // Get the table definition components
-                    String tableName = getString(tableJO,
-                                                 JSONTags.TABLE_NAME.getTag());
-                    String tableType = getString(tableJO,
-                                                 JSONTags.TABLE_TYPE.getTag());
-                    String tableDesc = getString(tableJO,
-                                                 JSONTags.TABLE_DESCRIPTION.getTag());
-                    Object tableDataJA = getObject(tableJO,
-                                                   JSONTags.TABLE_DATA.getTag());
-                    Object dataFieldsJA = getObject(tableJO,
-                                                    JSONTags.TABLE_FIELD.getTag());
-
-                    // Check if the expected inputs are present
-                    if (!tableName.isEmpty()
-                        && tableDataJA != null && tableDataJA instanceof JSONArray
-                        && (dataFieldsJA == null || dataFieldsJA instanceof JSONArray))
-                    {
-                        // Create a new table type definition
-                        TableDefinition tableDefn = new TableDefinition(tableName,
-                                                                        tableDesc);
-
-                        // Get the table's type definition
-                        TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableType);
-
-                        // Check if the table type doesn't exist
-                        if (typeDefn == null)
-                        {
-                            throw new CCDDException("Unknown table type '"
-                                                    + tableType
-                                                    + "'");
-                        }
-
-                        // Store the table's type name
-                        tableDefn.setTypeName(tableType);
+                // Build the table's definition
+                TableDefinition tableDefn = buildTableDefinition(deferredTables.get(index),
+                                                                 importType,
+                                                                 importFile.getAbsolutePath());
 
-                        // Get the number of expected columns (the hidden
-                        // columns, primary key and row index, should not be
-                        // included in the JSON file)
-                        int numColumns = typeDefn.getColumnCountVisible();
-
-                        // Create storage for the row of cell data
-                        String[] rowData = new String[numColumns];
-
-                        // Step through each row of data
-                        for (JSONObject rowDataJO : parseJSONArray(tableDataJA))
-                        {
-                            // Initialize the column values to blanks
-                            Arrays.fill(rowData, "");
-
-                            // Step through each key (column name)
-                            for (Object columnName : rowDataJO.keySet())
-                            {
-                                // Get the column index based on the column
-                                // name
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName.toString());
-
-                                // Check if a column by this name exists
-                                if (column != -1)
-                                {
-                                    // Get the value from the JSON input, if
-                                    // present; use a blank if a value for this
-                                    // column doesn't exist
-                                    rowData[column] = getString(rowDataJO,
-                                                                typeDefn.getColumnNamesVisible()[column]);
-                                }
-                                // The number of inputs is incorrect
-                                else
-                                {
-                                    // Check if the error should be ignored or
-                                    // the import canceled
-                                    continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                             "<html><b>Table '</b>"
-                                                                                                    + tableName
-                                                                                                    + "<b>' column name '</b>"
-                                                                                                    + columnName
-                                                                                                    + "<b>' unrecognized in import file '</b>"
-                                                                                                    + importFile.getAbsolutePath()
-                                                                                                    + "<b>'; continue?",
-                                                                             "Column Error",
-                                                                             "Ignore this invalid column name",
-                                                                             "Ignore this and any remaining invalid column names",
-                                                                             "Stop importing",
-                                                                             parent);
-                                }
-                            }
-
-                            // Add the row of data read in from the file to the
-                            // cell data list
-                            tableDefn.addData(rowData);
-                        }
-
-                        // Check if all definitions are to be loaded and if any
-                        // data fields are defined
-                        if (importType == ImportType.IMPORT_ALL
-                            && dataFieldsJA != null)
-                        {
-                            // Step through each data field definition
-                            for (JSONObject dataFieldJO : parseJSONArray(dataFieldsJA))
-                            {
-                                // Add the data field definition, checking for
-                                // (and if possible, correcting) errors
-                                continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
-                                                                                          tableDefn,
-                                                                                          new String[] {tableName,
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.NAME.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.DESCRIPTION.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.SIZE.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.INPUT_TYPE.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.REQUIRED.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.APPLICABILITY.getColumnName()),
-                                                                                                        getString(dataFieldJO,
-                                                                                                                  FieldEditorColumnInfo.VALUE.getColumnName())},
-                                                                                          importFile.getAbsolutePath(),
-                                                                                          parent);
-                            }
-                        }
-
-                        // Add the table's definition to the list
-                        tableDefinitions.add(tableDefn);
-                    }
-
-                    // Check if only the data from the first table is to be
-                    // read
-                    if (importType == ImportType.FIRST_DATA_ONLY)
-                    {
-                        // Stop reading table definitions
-                        break;
-                    }
+                // Check if the table definition is valid
+                if (tableDefn != null)
+                {
+                    // Add the table's definition to the list at the position
+                    // corresponding to the table's location in the file
+                    tableDefinitions.add(deferredIndices.get(index) + numInserted,
+                                         tableDefn);
+                    numInserted++;
                 }
             }
         }
         catch (ParseException pe)
         {
-            // Inform the user that the file cannot be closed
+            // Inform the user that the file cannot be parsed
             new CcddDialogHandler().showMessageDialog(parent,
                                                       "<html><b>Cannot parse import file<br>'</b>"
                                                               + importFile.getAbsolutePath()
@@ -809,6 +754,161 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
         }
     }
 
+    /**************************************************************************
+     * Build the definition for a table read from the import file
+     *
+     * @param tableJO
+     *            JSON object containing the table definition
+     *
+     * @param importType
+     *            ImportType.IMPORT_ALL to import the table's data fields;
+     *            ImportType.FIRST_DATA_ONLY to load only the table's data
+     *
+     * @param fileName
+     *            import file name
+     *
+     * @return Table definition; null if the table name or data is missing
+     *
+     * @throws CCDDException
+     *             If the table type is unknown, or if an input error is
+     *             detected and the user elects to stop importing
+     *
+     * @throws ParseException
+     *             If the table data or data fields can't be parsed
+     *************************************************************************/
+    private TableDefinition buildTableDefinition(JSONObject tableJO,
+                                                 ImportType importType,
+                                                 String fileName) throws CCDDException,
+                                                                  ParseException
+    {
+        TableDefinition tableDefn = null;
+
+        // Get the table definition components
+        String tableName = getString(tableJO,
+                                     JSONTags.TABLE_NAME.getTag());
+        String tableType = getString(tableJO,
+                                     JSONTags.TABLE_TYPE.getTag());
+        String tableDesc = getString(tableJO,
+                                     JSONTags.TABLE_DESCRIPTION.getTag());
+        Object tableDataJA = getObject(tableJO,
+                                       JSONTags.TABLE_DATA.getTag());
+        Object dataFieldsJA = getObject(tableJO,
+                                        JSONTags.TABLE_FIELD.getTag());
+
+        // Check if the expected inputs are present
+        if (!tableName.isEmpty()
+            && tableDataJA != null && tableDataJA instanceof JSONArray
+            && (dataFieldsJA == null || dataFieldsJA instanceof JSONArray))
+        {
+            // Create a new table type definition
+            tableDefn = new TableDefinition(tableName, tableDesc);
+
+            // Get the table's type definition
+            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableType);
+
+            // Check if the table type doesn't exist
+            if (typeDefn == null)
+            {
+                throw new CCDDException("Unknown table type '"
+                                        + tableType
+                                        + "'");
+            }
+
+            // Store the table's type name
+            tableDefn.setTypeName(tableType);
+
+            // Get the number of expected columns (the hidden
+            // columns, primary key and row index, should not be
+            // included in the JSON file)
+            int numColumns = typeDefn.getColumnCountVisible();
+
+            // Create storage for the row of cell data
+            String[] rowData = new String[numColumns];
+
+            // Step through each row of data
+            for (JSONObject rowDataJO : parseJSONArray(tableDataJA))
+            {
+                // Initialize the column values to blanks
+                Arrays.fill(rowData, "");
+
+                // Step through each key (column name)
+                for (Object columnName : rowDataJO.keySet())
+                {
+                    // Get the column index based on the column
+                    // name
+                    int column = typeDefn.getVisibleColumnIndexByUserName(columnName.toString());
+
+                    // Check if a column by this name exists
+                    if (column != -1)
+                    {
+                        // Get the value from the JSON input, if
+                        // present; use a blank if a value for this
+                        // column doesn't exist
+                        rowData[column] = getString(rowDataJO,
+                                                    typeDefn.getColumnNamesVisible()[column]);
+                    }
+                    // The number of inputs is incorrect
+                    else
+                    {
+                        // Check if the error should be ignored or
+                        // the import canceled
+                        continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                 "<html><b>Table '</b>"
+                                                                                        + tableName
+                                                                                        + "<b>' column name '</b>"
+                                                                                        + columnName
+                                                                                        + "<b>' unrecognized in import file '</b>"
+                                                                                        + fileName
+                                                                                        + "<b>'; continue?",
+                                                                 "Column Error",
+                                                                 "Ignore this invalid column name",
+                                                                 "Ignore this and any remaining invalid column names",
+                                                                 "Stop importing",
+                                                                 parent);
+                    }
+                }
+
+                // Add the row of data read in from the file to the
+                // cell data list
+                tableDefn.addData(rowData);
+            }
+
+            // Check if all definitions are to be loaded and if any
+            // data fields are defined
+            if (importType == ImportType.IMPORT_ALL
+                && dataFieldsJA != null)
+            {
+                // Step through each data field definition
+                for (JSONObject dataFieldJO : parseJSONArray(dataFieldsJA))
+                {
+                    // Add the data field definition, checking for
+                    // (and if possible, correcting) errors
+                    continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
+                                                                              tableDefn,
+                                                                              new String[] {tableName,
+                                                                                            getString(dataFieldJO,
+                                                                                                      FieldEditorColumnInfo.NAME.getColumnName()),
+                                                                                            getString(dataFieldJO,
+                                                                                                      FieldEditorColumnInfo.DESCRIPTION.getColumnName()),
+                                                                                            getString(dataFieldJO,
+                                                                                                      FieldEditorColumnInfo.SIZE.getColumnName()),
+                                                                                            getString(dataFieldJO,
+                                                                                                      FieldEditorColumnInfo.INPUT_TYPE.getColumnName()),
+                                                                                            getString(dataFieldJO,
+                                                                                                      FieldEditorColumnInfo.REQUIRED.getColumnName()),
+                                                                                            getString(dataFieldJO,
+                                                                                                      FieldEditorColumnInfo.APPLICABILITY.getColumnName()),
+                                                                                            getString(dataFieldJO,
+                                                                                                      FieldEditorColumnInfo.VALUE.getColumnName())},
+                                                                              fileName,
+                                                                              parent);
+                }
+            }
+        }
+
+        return tableDefn;
+    }
+
     /**************************************************************************
      * Export the project in JSON format to the specified file
      *
@@ -847,7 +947,6 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
      * @return true if an error occurred preventing exporting the project to
      *         the file
      *************************************************************************/
-    @SuppressWarnings("unchecked")
     @Override
     public boolean exportToFile(File exportFile,
                                 String[] tableNames,
@@ -878,22 +977,66 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
             bw = new BufferedWriter(fw);
             pw = new PrintWriter(bw);
 
-            // Create the file creation comment
-            JSONObject outputJO = new JSONObject();
-            outputJO.put(JSONTags.FILE_DESCRIPTION.getTag(),
-                         "Created "
-                                                             + new Date().toString()
-                                                             + " : project = "
-                                                             + dbControl.getDatabase()
-                                                             + " : host = "
-                                                             + dbControl.getServer()
-                                                             + " : user = "
-                                                             + dbControl.getUser());
+            // Create a JSON stream writer so that each table is written to the
+            // file as soon as it's loaded instead of building the entire
+            // output in memory
+            CcddJSONStreamWriter jsonWriter = new CcddJSONStreamWriter(bw,
+                                                                       true,
+                                                                       true);
+            jsonWriter.beginObject();
+
+            // Output the file creation comment
+            jsonWriter.name(JSONTags.FILE_DESCRIPTION.getTag())
+                      .value("Created "
+                             + new Date().toString()
+                             + " : project = "
+                             + dbControl.getDatabase()
+                             + " : host = "
+                             + dbControl.getServer()
+                             + " : user = "
+                             + dbControl.getUser());
 
             // Check if any tables are provided
             if (tableNames.length != 0)
             {
-                JSONArray tableJA = new JSONArray();
+                // Get the table type for every prototype table. The type of
+                // each table is determined before its data is loaded so that
+                // the table type definitions can be output ahead of the tables
+                // (this allows the tables to be imported as they're read)
+                Map<String, String> prototypeTypes = new HashMap<String, String>();
+
+                // Step through each prototype table name and type
+                for (String[] nameAndType : dbTable.queryTableAndTypeList(parent))
+                {
+                    prototypeTypes.put(nameAndType[0].toLowerCase(),
+                                       nameAndType[2]);
+                }
+
+                // Step through each table
+                for (String tblName : tableNames)
+                {
+                    // Get the table's type definition based on its prototype
+                    String typeName = prototypeTypes.get(TableInformation.getPrototypeName(tblName).toLowerCase());
+                    TypeDefinition typeDefn = typeName != null
+                                                               ? tableTypeHandler.getTypeDefinition(typeName)
+                                                               : null;
+
+                    // Check if the table type exists and is not already in
+                    // the list
+                    if (typeDefn != null
+                        && !referencedTableTypes.contains(typeDefn.getName()))
+                    {
+                        // Add the table type to the list of those referenced
+                        referencedTableTypes.add(typeDefn.getName());
+                    }
+                }
+
+                // Output the referenced table type definition(s), if any
+                jsonWriter.members(getTableTypeDefinitions(referencedTableTypes,
+                                                           new JSONObject()));
+
+                // Start the table definitions
+                jsonWriter.name(JSONTags.TABLE_DEFN.getTag()).beginArray();
 
                 // Step through each table
                 for (String tblName : tableNames)
@@ -903,25 +1046,18 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                                                                  !replaceMacros,
                                                                  includeVariablePaths,
                                                                  variableHandler,
-                                                                 separators);
+                                                                 separators,
+                                                                 null);
 
                     // Check if the table's data successfully loaded
                     if (tableInfoJO != null && !tableInfoJO.isEmpty())
                     {
-                        // Add the wrapper for the table
-                        tableJA.add(tableInfoJO);
+                        // Output the table's information
+                        jsonWriter.value(tableInfoJO);
 
                         // Get the table type definition based on the type name
                         TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
 
-                        // Check if this table type is not already output
-                        if (!referencedTableTypes.contains(tableInfo.getType()))
-                        {
-                            // Add the table type to the list of those
-                            // referenced
-                            referencedTableTypes.add(tableInfo.getType());
-                        }
-
                         // Get the visible column names based on the table's
                         // type
                         String[] columnNames = typeDefn.getColumnNamesUser();
@@ -992,48 +1128,36 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                     }
                 }
 
-                // Check if any tables were processed successfully
-                if (tableJA != null)
-                {
-                    // Add the table information to the JSON output
-                    outputJO.put(JSONTags.TABLE_DEFN.getTag(), tableJA);
-                }
+                // End the table definitions
+                jsonWriter.endArray();
             }
 
-            // Add the referenced table type definition(s), if any, to the
-            // output
-            outputJO = getTableTypeDefinitions(referencedTableTypes, outputJO);
-
-            // Add the referenced data type definition(s), if any, to the
-            // output
-            outputJO = getDataTypeDefinitions(referencedDataTypes, outputJO);
+            // Output the referenced data type definition(s), if any
+            jsonWriter.members(getDataTypeDefinitions(referencedDataTypes,
+                                                      new JSONObject()));
 
-            // Add the referenced macro definition(s), if any, to the output
-            outputJO = getMacroDefinitions(referencedMacros, outputJO);
+            // Output the referenced macro definition(s), if any
+            jsonWriter.members(getMacroDefinitions(referencedMacros,
+                                                   new JSONObject()));
 
             // Check if the user elected to store the reserved message IDs
             if (includeReservedMsgIDs)
             {
-                // Add the reserved message ID definition(s), if any, to the
-                // output
-                outputJO = getReservedMsgIDDefinitions(outputJO);
+                // Output the reserved message ID definition(s), if any
+                jsonWriter.members(getReservedMsgIDDefinitions(new JSONObject()));
             }
 
             // Check if variable paths are to be output
             if (includeVariablePaths)
             {
-                // Add the variable paths, if any, to the output
-                outputJO = getVariablePaths(variablePaths, outputJO);
+                // Output the variable paths, if any
+                jsonWriter.members(getVariablePaths(variablePaths,
+                                                    new JSONObject()));
             }
 
-            // Create a JavaScript engine for use in formatting the JSON output
-            ScriptEngineManager manager = new ScriptEngineManager();
-            ScriptEngine scriptEngine = manager.getEngineByName("JavaScript");
-
-            // Output the formatted JSON object to the file
-            scriptEngine.put("jsonString", outputJO.toString());
-            scriptEngine.eval("result = JSON.stringify(JSON.parse(jsonString), null, 2)");
-            pw.println((String) scriptEngine.get("result"));
+            // Complete the JSON output
+            jsonWriter.endObject();
+            pw.println();
         }
         catch (IOException ioe)
         {
@@ -1047,18 +1171,6 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                                                       DialogOption.OK_OPTION);
             errorFlag = true;
         }
-        catch (ScriptException se)
-        {
-            // Inform the user that formatting the JSON output failed
-            new CcddDialogHandler().showMessageDialog(parent,
-                                                      "<html><b>Cannot format JSON output using JavaScript; cause '"
-                                                              + se.getMessage()
-                                                              + "'",
-                                                      "JavaScript Error",
-                                                      JOptionPane.ERROR_MESSAGE,
-                                                      DialogOption.OK_OPTION);
-            errorFlag = true;
-        }
         catch (Exception e)
         {
             // Display a dialog providing details on the unanticipated error
@@ -1136,6 +1248,10 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
      *            and data type/variable name separator character(s); null if
      *            isIncludePath is false
      *
+     * @param columnNames
+     *            array of the (user) names of the columns to include; null to
+     *            include all columns
+     *
      * @param outputJO
      *            JSON object to which the data types are added
      *
@@ -1150,16 +1266,19 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                                       boolean includeVariablePaths,
                                       CcddVariableConversionHandler variableHandler,
                                       String[] separators,
+                                      String[] columnNames,
                                       JSONObject outputJO)
     {
         JSONArray tableDataJA = null;
 
-        // Get the information from the database for the specified table
+        // Get the information from the database for the specified table,
+        // retrieving only the specified columns
         tableInfo = dbTable.loadTableData(tableName,
                                           true,
                                           !getDescription,
                                           false,
                                           false,
+                                          columnNames,
                                           ccddMain.getMainFrame());
 
         // Check if the table exists and successfully loaded
@@ -1181,7 +1300,30 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
             {
                 // Get the column names for this table's type definition
                 TypeDefinition typeDefn = ccddMain.getTableTypeHandler().getTypeDefinition(tableInfo.getType());
-                String[] columnNames = typeDefn.getColumnNamesUser();
+                String[] typeColumnNames = typeDefn.getColumnNamesUser();
+
+                // Create storage for the flags indicating which columns are
+                // included in the output
+                boolean[] isIncluded = new boolean[typeColumnNames.length];
+                Arrays.fill(isIncluded, columnNames == null);
+
+                // Check if only the specified columns are included
+                if (columnNames != null)
+                {
+                    // Step through each specified column name
+                    for (String columnName : columnNames)
+                    {
+                        // Get the column's index
+                        int column = typeDefn.getColumnIndexByUserName(columnName);
+
+                        // Check if the column exists
+                        if (column != -1)
+                        {
+                            // Set the flag to include the column
+                            isIncluded[column] = true;
+                        }
+                    }
+                }
 
                 // Step through each table row
                 for (int row = 0; row < tableInfo.getData().length; row++)
@@ -1191,11 +1333,13 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                     // Step through each table column
                     for (int column = NUM_HIDDEN_COLUMNS; column < tableInfo.getData()[row].length; column++)
                     {
-                        // Check if a cell isn't blank
-                        if (!tableInfo.getData()[row][column].isEmpty())
+                        // Check if the column is included and the cell
+                        // isn't blank
+                        if (isIncluded[column]
+                            && !tableInfo.getData()[row][column].isEmpty())
                         {
                             // Add the column name and value to the cell object
-                            columnJO.put(columnNames[column],
+                            columnJO.put(typeColumnNames[column],
                                          tableInfo.getData()[row][column]);
 
                             // Check if the table represents a structure, that
@@ -1345,6 +1489,10 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
      *            character(s), show/hide data types flag ('true' or 'false'),
      *            and data type/variable name separator character(s)
      *
+     * @param columnNames
+     *            array of the (user) names of the columns to include in the
+     *            table data; null to include all columns
+     *
      * @return JSON encoded string containing the specified table information;
      *         null if the specified table doesn't exist or fails to load
      *************************************************************************/
@@ -1353,7 +1501,8 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                                              boolean replaceMacros,
                                              boolean includeVariablePaths,
                                              CcddVariableConversionHandler variableHandler,
-                                             String[] separators)
+                                             String[] separators,
+                                             String[] columnNames)
     {
         // Store the table's data
         JSONObject tableInformation = getTableData(tableName,
@@ -1362,6 +1511,7 @@ public class CcddJSONHandler extends CcddImportSupportHandler implements CcddImp
                                                    includeVariablePaths,
                                                    variableHandler,
                                                    separators,
+                                                   columnNames,
                                                    new JSONObject());
 
         // Check that the table loaded successfully
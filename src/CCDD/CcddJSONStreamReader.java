@@ -0,0 +1,384 @@
+/**
+ * CFS Command & Data Dictionary JSON stream reader.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator
+ * of the National Aeronautics and Space Administration. No copyright is
+ * claimed in the United States under Title 17, U.S. Code. All Other Rights
+ * Reserved.
+ */
+package CCDD;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary JSON stream reader class. Reads a JSON
+ * document one item at a time instead of parsing the entire document into
+ * memory. The document's top level object is made up of sections (the key and
+ * value pairs in the object). If a section's value is an array then each
+ * member of the array is an item; otherwise the section's value is the item.
+ * Only the item currently being read is held in memory
+ *****************************************************************************/
+public class CcddJSONStreamReader implements ContentHandler
+{
+    // Reader for the JSON document
+    private final Reader reader;
+
+    // JSON parser. The parser stops each time an item is complete and resumes
+    // where it left off when the next item is requested
+    private final JSONParser parser;
+
+    // JSON objects and arrays that make up the item currently being read
+    private final Deque<Object> containers;
+
+    // Keys for the JSON object entries in the item currently being read
+    private final Deque<String> keys;
+
+    // Nesting level of the document outside of the item currently being read:
+    // 0 = outside the top level object, 1 = within the top level object, 2 =
+    // within a section's array
+    private int level;
+
+    // Flag indicating if parsing of the document has begun
+    private boolean isStarted;
+
+    // Flag indicating if the end of the document has been reached
+    private boolean isEnd;
+
+    // Key of the section currently being read
+    private String sectionKey;
+
+    // Item most recently read
+    private Object item;
+
+    // Flag indicating if the end of the current section has been reached
+    private boolean isSectionEnd;
+
+    // Flag indicating if an item or the end of a section has been read
+    private boolean isReady;
+
+    // Flag indicating if the end of the current section has been reached but
+    // not yet reported. The parser doesn't report the end of a section having
+    // a primitive value if parsing stops on the value, so this is reported by
+    // the next call to next() instead
+    private boolean isSectionEndPending;
+
+    /**************************************************************************
+     * JSON stream reader class constructor
+     *
+     * @param reader
+     *            reader for the JSON document
+     *************************************************************************/
+    CcddJSONStreamReader(Reader reader)
+    {
+        this.reader = reader;
+        parser = new JSONParser();
+        containers = new ArrayDeque<Object>();
+        keys = new ArrayDeque<String>();
+        level = 0;
+        isStarted = false;
+        isEnd = false;
+        isSectionEndPending = false;
+    }
+
+    /**************************************************************************
+     * Read the next item, or the end of the current section, from the JSON
+     * document
+     *
+     * @return true if an item or the end of a section is read; false if the
+     *         end of the document is reached
+     *
+     * @throws IOException
+     *             If the document can't be read
+     *
+     * @throws ParseException
+     *             If the document isn't valid JSON
+     *************************************************************************/
+    protected boolean next() throws IOException, ParseException
+    {
+        item = null;
+        isSectionEnd = false;
+        isReady = false;
+
+        // Check if the end of the section was reached when the previous item
+        // was read
+        if (isSectionEndPending)
+        {
+            // Indicate the end of the section
+            isSectionEndPending = false;
+            isSectionEnd = true;
+            isReady = true;
+        }
+        // Check if the end of the document hasn't been reached
+        else if (!isEnd)
+        {
+            // Parse the document until the next item or section end is read
+            // (or the end of the document is reached). After the first call
+            // the parser resumes from the point at which it stopped
+            parser.parse(reader, this, isStarted);
+            isStarted = true;
+        }
+
+        return isReady;
+    }
+
+    /**************************************************************************
+     * Get the key of the section containing the item most recently read
+     *
+     * @return Key of the section containing the item most recently read; null
+     *         if the document's top level isn't an object
+     *************************************************************************/
+    protected String getSectionKey()
+    {
+        return sectionKey;
+    }
+
+    /**************************************************************************
+     * Get the item most recently read
+     *
+     * @return Item most recently read (JSONObject, JSONArray, String, Number,
+     *         Boolean, or null); null if the end of a section was read
+     *************************************************************************/
+    protected Object getItem()
+    {
+        return item;
+    }
+
+    /**************************************************************************
+     * Check if the end of a section was read
+     *
+     * @return true if the end of a section was read instead of an item
+     *************************************************************************/
+    protected boolean isSectionEnd()
+    {
+        return isSectionEnd;
+    }
+
+    /**************************************************************************
+     * Add a value to the item currently being read. If the value is the item
+     * itself then store it as the item read
+     *
+     * @param value
+     *            value to add
+     *
+     * @return true if the value is part of an item that isn't complete; false
+     *         if the value completes the item (this stops the parser)
+     *************************************************************************/
+    @SuppressWarnings("unchecked")
+    private boolean addValue(Object value)
+    {
+        boolean isContinue = true;
+
+        // Check if the value is the item itself
+        if (containers.isEmpty())
+        {
+            // Store the item and stop parsing
+            item = value;
+            isReady = true;
+            isContinue = false;
+        }
+        // Check if the value is a member of an array
+        else if (containers.peek() instanceof JSONArray)
+        {
+            ((JSONArray) containers.peek()).add(value);
+        }
+        // The value is a member of an object
+        else
+        {
+            ((JSONObject) containers.peek()).put(keys.peek(), value);
+        }
+
+        return isContinue;
+    }
+
+    /**************************************************************************
+     * Complete the JSON object or array currently being read
+     *
+     * @return true if the object or array is part of an item that isn't
+     *         complete; false if it completes the item (this stops the parser)
+     *************************************************************************/
+    private boolean endContainer()
+    {
+        return addValue(containers.pop());
+    }
+
+    /**************************************************************************
+     * Handle the start of the JSON document
+     *************************************************************************/
+    @Override
+    public void startJSON()
+    {
+    }
+
+    /**************************************************************************
+     * Handle the end of the JSON document
+     *************************************************************************/
+    @Override
+    public void endJSON()
+    {
+        isEnd = true;
+    }
+
+    /**************************************************************************
+     * Handle the start of a JSON object
+     *************************************************************************/
+    @Override
+    public boolean startObject()
+    {
+        // Check if this is the document's top level object
+        if (containers.isEmpty() && level == 0)
+        {
+            level = 1;
+        }
+        // The object is an item or is within an item
+        else
+        {
+            containers.push(new JSONObject());
+        }
+
+        return true;
+    }
+
+    /**************************************************************************
+     * Handle the end of a JSON object
+     *************************************************************************/
+    @Override
+    public boolean endObject()
+    {
+        boolean isContinue = true;
+
+        // Check if this is the end of the document's top level object
+        if (containers.isEmpty())
+        {
+            level = 0;
+        }
+        // The object is an item or is within an item
+        else
+        {
+            isContinue = endContainer();
+        }
+
+        return isContinue;
+    }
+
+    /**************************************************************************
+     * Handle the start of a JSON object entry
+     *
+     * @param key
+     *            entry key
+     *************************************************************************/
+    @Override
+    public boolean startObjectEntry(String key)
+    {
+        // Check if this is a section in the document's top level object
+        if (containers.isEmpty())
+        {
+            sectionKey = key;
+        }
+        // The entry is within an item
+        else
+        {
+            keys.push(key);
+        }
+
+        return true;
+    }
+
+    /**************************************************************************
+     * Handle the end of a JSON object entry
+     *************************************************************************/
+    @Override
+    public boolean endObjectEntry()
+    {
+        boolean isContinue = true;
+
+        // Check if this is the end of a section in the document's top level
+        // object
+        if (containers.isEmpty())
+        {
+            // Indicate the end of the section and stop parsing
+            isSectionEnd = true;
+            isReady = true;
+            isContinue = false;
+        }
+        // The entry is within an item
+        else
+        {
+            keys.pop();
+        }
+
+        return isContinue;
+    }
+
+    /**************************************************************************
+     * Handle the start of a JSON array
+     *************************************************************************/
+    @Override
+    public boolean startArray()
+    {
+        // Check if this is a section's array (or the document's top level
+        // array)
+        if (containers.isEmpty() && level < 2)
+        {
+            level = 2;
+        }
+        // The array is an item or is within an item
+        else
+        {
+            containers.push(new JSONArray());
+        }
+
+        return true;
+    }
+
+    /**************************************************************************
+     * Handle the end of a JSON array
+     *************************************************************************/
+    @Override
+    public boolean endArray()
+    {
+        boolean isContinue = true;
+
+        // Check if this is the end of a section's array
+        if (containers.isEmpty())
+        {
+            level = 1;
+        }
+        // The array is an item or is within an item
+        else
+        {
+            isContinue = endContainer();
+        }
+
+        return isContinue;
+    }
+
+    /**************************************************************************
+     * Handle a JSON primitive value (string, number, boolean, or null)
+     *
+     * @param value
+     *            primitive value
+     *************************************************************************/
+    @Override
+    public boolean primitive(Object value)
+    {
+        // Check if the value is a section's value (and not a member of a
+        // section's array or within an item)
+        if (containers.isEmpty() && level == 1)
+        {
+            // Set the flag so that the end of the section is reported with the
+            // next call to next()
+            isSectionEndPending = true;
+        }
+
+        return addValue(value);
+    }
+}
@@ -0,0 +1,419 @@
+/**
+ * CFS Command & Data Dictionary JSON stream writer.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator
+ * of the National Aeronautics and Space Administration. No copyright is
+ * claimed in the United States under Title 17, U.S. Code. All Other Rights
+ * Reserved.
+ */
+package CCDD;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary JSON stream writer class. Writes a JSON
+ * document to the output as it's built instead of assembling the entire
+ * document in memory. Objects and arrays can be opened and closed explicitly,
+ * so that their members are written one at a time, and any JSON object, array,
+ * or primitive value can be written in its entirety. The output is either
+ * compact or formatted with each member on a separate, indented line
+ *****************************************************************************/
+public class CcddJSONStreamWriter
+{
+    // Number of spaces to indent each nesting level in formatted output
+    private static final int INDENT_SIZE = 2;
+
+    // Writer to which to output the JSON document
+    private final Writer writer;
+
+    // Flag indicating if the output is formatted
+    private final boolean isFormatted;
+
+    // Flag indicating if backslash characters in string values are escaped
+    private final boolean isEscapeBackslash;
+
+    // Flags indicating if the currently open objects and arrays have any
+    // members. The flag for the innermost object or array is first
+    private final Deque<Boolean> hasMembers;
+
+    // Flag indicating if an object member name has been written and its value
+    // is expected next
+    private boolean isNameWritten;
+
+    /**************************************************************************
+     * JSON stream writer class constructor
+     *
+     * @param writer
+     *            writer to which to output the JSON document
+     *
+     * @param isFormatted
+     *            true to place each object and array member on a separate,
+     *            indented line; false to output the document without
+     *            whitespace
+     *
+     * @param isEscapeBackslash
+     *            true to escape backslash characters in string values; false
+     *            to output them as is
+     *************************************************************************/
+    CcddJSONStreamWriter(Writer writer,
+                         boolean isFormatted,
+                         boolean isEscapeBackslash)
+    {
+        this.writer = writer;
+        this.isFormatted = isFormatted;
+        this.isEscapeBackslash = isEscapeBackslash;
+        hasMembers = new ArrayDeque<Boolean>();
+        isNameWritten = false;
+    }
+
+    /**************************************************************************
+     * Open a JSON object
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    protected CcddJSONStreamWriter beginObject() throws IOException
+    {
+        return begin('{');
+    }
+
+    /**************************************************************************
+     * Close the currently open JSON object
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    protected CcddJSONStreamWriter endObject() throws IOException
+    {
+        return end('}');
+    }
+
+    /**************************************************************************
+     * Open a JSON array
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    protected CcddJSONStreamWriter beginArray() throws IOException
+    {
+        return begin('[');
+    }
+
+    /**************************************************************************
+     * Close the currently open JSON array
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    protected CcddJSONStreamWriter endArray() throws IOException
+    {
+        return end(']');
+    }
+
+    /**************************************************************************
+     * Write the name of a member of the currently open JSON object. The
+     * member's value must be written next
+     *
+     * @param name
+     *            member name
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    protected CcddJSONStreamWriter name(String name) throws IOException
+    {
+        writeSeparator();
+        writeString(name);
+        writer.write(isFormatted
+                                 ? ": "
+                                 : ":");
+        isNameWritten = true;
+        return this;
+    }
+
+    /**************************************************************************
+     * Write a value. The value is written as a member of the currently open
+     * JSON array, or as the value for the object member name just written
+     *
+     * @param value
+     *            value to write. A Map is written as a JSON object, a List as
+     *            a JSON array, a Number or Boolean as is, null as a JSON null,
+     *            and any other object as a string using its toString() method
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    protected CcddJSONStreamWriter value(Object value) throws IOException
+    {
+        // Check if the value is a JSON object
+        if (value instanceof Map)
+        {
+            // Write the object's members inside the object's braces
+            beginObject();
+            members((Map<?, ?>) value);
+            endObject();
+        }
+        // Check if the value is a JSON array
+        else if (value instanceof List)
+        {
+            beginArray();
+
+            // Step through each member of the array
+            for (Object member : (List<?>) value)
+            {
+                // Write the array member
+                value(member);
+            }
+
+            endArray();
+        }
+        // The value is a primitive
+        else
+        {
+            writeSeparator();
+
+            // Check if the value is null or a number that has no JSON
+            // representation
+            if (value == null
+                || (value instanceof Double
+                    && (((Double) value).isNaN() || ((Double) value).isInfinite()))
+                || (value instanceof Float
+                    && (((Float) value).isNaN() || ((Float) value).isInfinite())))
+            {
+                writer.write("null");
+            }
+            // Check if the value is a number or boolean
+            else if (value instanceof Number || value instanceof Boolean)
+            {
+                writer.write(value.toString());
+            }
+            // The value is a string
+            else
+            {
+                writeString(value.toString());
+            }
+        }
+
+        return this;
+    }
+
+    /**************************************************************************
+     * Write the entries in the supplied map as members of the currently open
+     * JSON object
+     *
+     * @param map
+     *            map containing the member names and values
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    protected CcddJSONStreamWriter members(Map<?, ?> map) throws IOException
+    {
+        // Step through each entry in the map
+        for (Map.Entry<?, ?> entry : map.entrySet())
+        {
+            // Write the member name and value
+            name(String.valueOf(entry.getKey()));
+            value(entry.getValue());
+        }
+
+        return this;
+    }
+
+    /**************************************************************************
+     * Flush the output
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    protected void flush() throws IOException
+    {
+        writer.flush();
+    }
+
+    /**************************************************************************
+     * Open a JSON object or array
+     *
+     * @param bracket
+     *            opening brace or bracket character
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    private CcddJSONStreamWriter begin(char bracket) throws IOException
+    {
+        writeSeparator();
+        writer.write(bracket);
+        hasMembers.push(false);
+        return this;
+    }
+
+    /**************************************************************************
+     * Close the currently open JSON object or array
+     *
+     * @param bracket
+     *            closing brace or bracket character
+     *
+     * @return Reference to this JSON stream writer
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    private CcddJSONStreamWriter end(char bracket) throws IOException
+    {
+        // Check if the object or array has members and the output is
+        // formatted
+        if (hasMembers.pop() && isFormatted)
+        {
+            // Place the closing character on its own line
+            writeNewLine();
+        }
+
+        writer.write(bracket);
+        return this;
+    }
+
+    /**************************************************************************
+     * Write the separator that precedes a value or object member name. No
+     * separator is written if the value follows an object member name
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    private void writeSeparator() throws IOException
+    {
+        // Check if the value follows an object member name
+        if (isNameWritten)
+        {
+            isNameWritten = false;
+        }
+        // Check if the value is within an object or array
+        else if (!hasMembers.isEmpty())
+        {
+            // Check if this isn't the first member of the object or array
+            if (hasMembers.pop())
+            {
+                // Separate the member from the previous one
+                writer.write(',');
+            }
+
+            hasMembers.push(true);
+
+            // Check if the output is formatted
+            if (isFormatted)
+            {
+                // Place the member on its own line
+                writeNewLine();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Start a new line, indented to the current nesting level
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    private void writeNewLine() throws IOException
+    {
+        writer.write('\n');
+
+        // Step through each space of indentation
+        for (int count = hasMembers.size() * INDENT_SIZE; count > 0; count--)
+        {
+            writer.write(' ');
+        }
+    }
+
+    /**************************************************************************
+     * Write a string value, enclosed in double quotes and with any special
+     * characters escaped
+     *
+     * @param text
+     *            string to write
+     *
+     * @throws IOException
+     *             If the output can't be written
+     *************************************************************************/
+    private void writeString(String text) throws IOException
+    {
+        writer.write('"');
+
+        // Step through each character in the string
+        for (int index = 0; index < text.length(); index++)
+        {
+            char character = text.charAt(index);
+
+            switch (character)
+            {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+
+                case '\\':
+                    writer.write(isEscapeBackslash
+                                                   ? "\\\\"
+                                                   : "\\");
+                    break;
+
+                case '\b':
+                    writer.write("\\b");
+                    break;
+
+                case '\f':
+                    writer.write("\\f");
+                    break;
+
+                case '\n':
+                    writer.write("\\n");
+                    break;
+
+                case '\r':
+                    writer.write("\\r");
+                    break;
+
+                case '\t':
+                    writer.write("\\t");
+                    break;
+
+                default:
+                    // Check if the character is a control character
+                    if (character < ' ')
+                    {
+                        // Output the character's Unicode escape sequence
+                        writer.write(String.format("\\u%04x", (int) character));
+                    }
+                    // The character doesn't need to be escaped
+                    else
+                    {
+                        writer.write(character);
+                    }
+
+                    break;
+            }
+        }
+
+        writer.write('"');
+    }
+}
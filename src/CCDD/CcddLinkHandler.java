@@ -10,17 +10,16 @@ package CCDD;
 
 import java.awt.Component;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
-
-import javax.swing.tree.TreeNode;
+import java.util.Map;
 
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.RateInformation;
-import CCDD.CcddClasses.ToolTipTreeNode;
+import CCDD.CcddClasses.TableMembers;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.LinksColumn;
-import CCDD.CcddConstants.TableTreeType;
+import CCDD.CcddConstants.TableMemberType;
 
 /******************************************************************************
  * CFS Command & Data Dictionary link handler class
@@ -47,6 +46,18 @@ public class CcddLinkHandler
     private List<String> structureAndVariablePaths;
     private List<Integer> structureAndVariableOffsets;
 
+    // Map containing the index into the path and offset lists for every
+    // structure and variable path
+    private Map<String, Integer> structureAndVariableIndices;
+
+    // Maps containing the link member definitions (i.e., not the link
+    // rate/description definitions), stored by the member's macro-expanded
+    // variable path, and by the link's rate and link names. The definitions
+    // in each list are in the same order as in the link definitions list. The
+    // maps are null if they must be rebuilt from the link definitions
+    private Map<String, List<String[]>> linksByMember;
+    private Map<String, List<String[]>> membersByLink;
+
     /**************************************************************************
      * Link handler class constructor
      *
@@ -92,12 +103,14 @@ public class CcddLinkHandler
     }
 
     /**************************************************************************
-     * Get the reference to all link definitions
+     * Get the reference to all link definitions. Since the caller may alter
+     * the list the link member maps are rebuilt when next needed
      *
      * @return List of all link definitions
      *************************************************************************/
     protected List<String[]> getLinkDefinitions()
     {
+        invalidateLinkMaps();
         return linkDefinitions;
     }
 
@@ -111,6 +124,157 @@ public class CcddLinkHandler
     {
         this.linkDefinitions.clear();
         this.linkDefinitions.addAll(linkDefinitions);
+        invalidateLinkMaps();
+    }
+
+    /**************************************************************************
+     * Discard the link member maps so that they're rebuilt from the link
+     * definitions when next needed
+     *************************************************************************/
+    private void invalidateLinkMaps()
+    {
+        linksByMember = null;
+        membersByLink = null;
+    }
+
+    /**************************************************************************
+     * Build the maps of link member definitions by variable path and by rate
+     * and link names, if not already built. The link definitions are stepped
+     * through once, so that subsequent link member searches don't require
+     * scanning every link definition
+     *************************************************************************/
+    private void buildLinkMaps()
+    {
+        // Check if the maps need to be built
+        if (linksByMember == null || membersByLink == null)
+        {
+            linksByMember = new HashMap<String, List<String[]>>();
+            membersByLink = new HashMap<String, List<String[]>>();
+
+            // Step through each link definition
+            for (String[] linkDefn : linkDefinitions)
+            {
+                // Extract the link rate/description or member
+                String linkMember = linkDefn[LinksColumn.MEMBER.ordinal()];
+
+                // Check if this is not a link description entry (these are
+                // indicated if the first character is a digit, which is the
+                // link rate)
+                if (!linkMember.matches("\\d.*"))
+                {
+                    // Add the definition to the lists for its variable and for
+                    // its link
+                    addToMap(linksByMember,
+                             macroHandler.getMacroExpansion(linkMember),
+                             linkDefn);
+                    addToMap(membersByLink,
+                             getLinkKey(linkDefn[LinksColumn.RATE_NAME.ordinal()],
+                                        linkDefn[LinksColumn.LINK_NAME.ordinal()]),
+                             linkDefn);
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Add a link definition to the list stored in the specified map for the
+     * specified key, creating the list if it doesn't exist
+     *
+     * @param map
+     *            map to which to add the link definition
+     *
+     * @param key
+     *            map key
+     *
+     * @param linkDefn
+     *            link definition
+     *************************************************************************/
+    private void addToMap(Map<String, List<String[]>> map,
+                          String key,
+                          String[] linkDefn)
+    {
+        List<String[]> definitions = map.get(key);
+
+        // Check if this is the first definition for this key
+        if (definitions == null)
+        {
+            definitions = new ArrayList<String[]>();
+            map.put(key, definitions);
+        }
+
+        definitions.add(linkDefn);
+    }
+
+    /**************************************************************************
+     * Get the key used to store a link's member definitions
+     *
+     * @param rateName
+     *            data stream rate column name
+     *
+     * @param linkName
+     *            link name
+     *
+     * @return Link member map key
+     *************************************************************************/
+    private String getLinkKey(String rateName, String linkName)
+    {
+        return rateName + "\n" + linkName;
+    }
+
+    /**************************************************************************
+     * Get the link member definitions for the specified link
+     *
+     * @param rateName
+     *            data stream rate column name
+     *
+     * @param linkName
+     *            link name
+     *
+     * @return List of the link's member definitions; an empty list if the link
+     *         has no members
+     *************************************************************************/
+    private List<String[]> getLinkMembers(String rateName, String linkName)
+    {
+        buildLinkMaps();
+        List<String[]> definitions = membersByLink.get(getLinkKey(rateName,
+                                                                  linkName));
+        return definitions != null
+                                   ? definitions
+                                   : new ArrayList<String[]>();
+    }
+
+    /**************************************************************************
+     * Get the link member definitions that reference the specified variable
+     *
+     * @param variable
+     *            variable path and name
+     *
+     * @return List of the link member definitions referencing the variable; an
+     *         empty list if the variable doesn't belong to a link
+     *************************************************************************/
+    private List<String[]> getVariableMembers(String variable)
+    {
+        buildLinkMaps();
+        List<String[]> definitions = linksByMember.get(macroHandler.getMacroExpansion(variable));
+        return definitions != null
+                                   ? definitions
+                                   : new ArrayList<String[]>();
+    }
+
+    /**************************************************************************
+     * Get the index into the structure and variable path and offset lists for
+     * the specified path
+     *
+     * @param path
+     *            structure or variable path
+     *
+     * @return Index into the path and offset lists; -1 if the path isn't in
+     *         the lists
+     *************************************************************************/
+    private int getPathIndex(String path)
+    {
+        Integer index = structureAndVariableIndices.get(path);
+        return index != null ? index : -1;
     }
 
     /**************************************************************************
@@ -157,23 +321,8 @@ public class CcddLinkHandler
     protected List<String[]> getLinkDefinitionsByName(String linkName,
                                                       String linkRate)
     {
-        List<String[]> definitions = new ArrayList<String[]>();
-
-        // Step through the link definitions
-        for (int index = 0; index < linkDefinitions.size(); index++)
-        {
-            // Check if the link names match and that this is not the link's
-            // rate/description row
-            if (linkRate.equals(linkDefinitions.get(index)[LinksColumn.RATE_NAME.ordinal()])
-                && linkName.equals(linkDefinitions.get(index)[LinksColumn.LINK_NAME.ordinal()])
-                && !linkDefinitions.get(index)[LinksColumn.MEMBER.ordinal()].matches("\\d.*"))
-            {
-                // Add the definition to the list
-                definitions.add(linkDefinitions.get(index));
-            }
-        }
-
-        return definitions;
+        // Return a copy of the link's member definitions
+        return new ArrayList<String[]>(getLinkMembers(linkRate, linkName));
     }
 
     /**************************************************************************
@@ -196,40 +345,31 @@ public class CcddLinkHandler
     {
         List<String[]> links = new ArrayList<String[]>();
 
-        // Step through each link definition
-        for (String[] linkDefn : linkDefinitions)
+        // Step through each link member definition that matches the target
+        // variable
+        for (String[] linkDefn : getVariableMembers(variable))
         {
-            // Extract the rate name, link name, and rate/description or member
+            // Extract the rate name and link name
             String rateName = linkDefn[LinksColumn.RATE_NAME.ordinal()];
             String linkName = linkDefn[LinksColumn.LINK_NAME.ordinal()];
-            String linkMember = linkDefn[LinksColumn.MEMBER.ordinal()];
 
-            // Check if this is not a link description entry (these are
-            // indicated if the first character is a digit, which is the link
-            // rate) and if the link member matches the target variable
-            if (!linkMember.matches("\\d.*")
-                && macroHandler.getMacroExpansion(variable).equals(macroHandler.getMacroExpansion(linkMember)))
+            // Check if the data stream name should be returned instead of the
+            // rate column name
+            if (useDataStream)
             {
-                // Check if the data stream name should be returned instead of
-                // the rate column name
-                if (useDataStream)
-                {
-                    // Get the rate information based on the rate column name
-                    RateInformation rateInfo = ccddMain.getRateParameterHandler().getRateInformationByRateName(rateName);
+                // Get the rate information based on the rate column name
+                RateInformation rateInfo = ccddMain.getRateParameterHandler().getRateInformationByRateName(rateName);
 
-                    // Check if the rate information exists for this rate
-                    // column
-                    if (rateInfo != null)
-                    {
-                        // Substitute the data stream name for the rate column
-                        // name
-                        rateName = rateInfo.getStreamName();
-                    }
+                // Check if the rate information exists for this rate column
+                if (rateInfo != null)
+                {
+                    // Substitute the data stream name for the rate column name
+                    rateName = rateInfo.getStreamName();
                 }
-
-                // Add the link to the list
-                links.add(new String[] {rateName, linkName});
             }
+
+            // Add the link to the list
+            links.add(new String[] {rateName, linkName});
         }
 
         return links.toArray(new String[0][0]);
@@ -252,18 +392,13 @@ public class CcddLinkHandler
     {
         String linkName = null;
 
-        // Step through each link definition
-        for (String[] linkDefn : linkDefinitions)
+        // Step through each link member definition that references the target
+        // variable
+        for (String[] linkDefn : getVariableMembers(variable))
         {
-            // Extract the link rate/description or member
-            String linkMember = linkDefn[LinksColumn.MEMBER.ordinal()];
-
-            // Check if this is not a link description entry (these are
-            // indicated if the first character is a digit, which is the link
-            // rate), and if the link member matches the target variable and
-            // rate
-            if (!linkMember.matches("\\d.*")
-                && variable.equals(linkMember)
+            // Check if the link member matches the target variable (without
+            // macro expansion) and rate
+            if (variable.equals(linkDefn[LinksColumn.MEMBER.ordinal()])
                 && rateName.equals(linkDefn[LinksColumn.RATE_NAME.ordinal()]))
             {
                 // Get the link name and stop searching
@@ -296,24 +431,20 @@ public class CcddLinkHandler
         int lastOffset = -1;
         int size = 0;
 
-        // Step through each link definition
-        for (String[] linkDefn : linkDefinitions)
+        // Step through each member definition for the target link
+        for (String[] linkDefn : getLinkMembers(rateName, name))
         {
-            // Extract the rate name, link name, and rate/description or member
+            // Extract the rate name, link name, and member
             String linkRate = linkDefn[LinksColumn.RATE_NAME.ordinal()];
             String linkName = linkDefn[LinksColumn.LINK_NAME.ordinal()];
             String linkMember = linkDefn[LinksColumn.MEMBER.ordinal()];
 
-            // Check if the rate name and link name for this entry matches the
-            // target, and that this is the link information entry
-            if (linkRate.equals(rateName)
-                && linkName.equals(name)
-                && linkMember.contains(".")
-                && !linkMember.matches("\\d.*"))
+            // Check that the member is a variable
+            if (linkMember.contains("."))
             {
                 // Get the offset of this variable relative to its root
                 // structure. A variable's bit length is ignored if provided
-                int index = structureAndVariablePaths.indexOf(macroHandler.getMacroExpansion(linkMember).replaceFirst(":.+$", ""));
+                int index = getPathIndex(macroHandler.getMacroExpansion(linkMember).replaceFirst(":.+$", ""));
                 int offset = structureAndVariableOffsets.get(index);
 
                 // Check if this variable is not bit-packed with the previous
@@ -514,7 +645,7 @@ public class CcddLinkHandler
         {
             // Get the index in the path list for the specified structure or
             // variable. Remove the bit length if provided
-            int index = structureAndVariablePaths.indexOf(dataType);
+            int index = getPathIndex(dataType);
 
             // Check if the target exists
             if (index != -1)
@@ -548,7 +679,7 @@ public class CcddLinkHandler
 
         // Get the index into the variable path list for the specified
         // structure/variable. A variable's bit length is ignored if present
-        int index = structureAndVariablePaths.indexOf(macroHandler.getMacroExpansion(targetVariable).replaceFirst(":.+$", ""));
+        int index = getPathIndex(macroHandler.getMacroExpansion(targetVariable).replaceFirst(":.+$", ""));
 
         // Check that the structure/variable exists
         if (index != -1)
@@ -573,28 +704,70 @@ public class CcddLinkHandler
     }
 
     /**************************************************************************
-     * Using a variable tree create two lists: one that contains a reference to
-     * every structure and variable (keeping the child structures and variables
-     * in the order in which they appear relative to their root structure), and
-     * another list that has the offset for the variable relative to its root
-     * structure. The total structure size in bytes is stored in place of the
-     * offset value for each root structure entry in the list
+     * Get the paths to every structure and variable, in the same order as in
+     * a table tree containing all of the structures, both prototypes and
+     * instances, including primitive variables: the name of each prototype
+     * structure, followed by each structure (as a root) with its child
+     * structures and variables. Structures with no variables are omitted
+     * from the latter. The paths are obtained from the table member graph
+     * instead of creating the tree's nodes
+     *
+     * @return List containing the path to every structure and variable
      *************************************************************************/
-    private void buildPathAndOffsetLists()
+    private List<String> getStructureAndVariableTreePaths()
     {
-        // Create a tree containing all of the structures, both prototypes and
-        // instances, including primitive variables. This is used for
-        // determining bit-packing, variable relative position, variable
-        // offsets, and structure sizes
-        CcddTableTreeHandler allVariableTree = new CcddTableTreeHandler(ccddMain,
-                                                                        TableTreeType.STRUCTURES_WITH_PRIMITIVES,
-                                                                        ccddMain.getMainFrame());
+        CcddTableTypeHandler tableTypeHandler = ccddMain.getTableTypeHandler();
+        List<String> treePaths = new ArrayList<String>();
+        List<TableMembers> structures = new ArrayList<TableMembers>();
+
+        // Load the structure and variable members of every table
+        CcddTableMemberGraph memberGraph = new CcddTableMemberGraph(ccddMain,
+                                                                    TableMemberType.INCLUDE_PRIMITIVES,
+                                                                    false,
+                                                                    ccddMain.getMainFrame());
+
+        // Step through each table
+        for (TableMembers member : memberGraph.getTableMembers())
+        {
+            // Check if the table is a structure
+            if (tableTypeHandler.getTypeDefinition(member.getTableType()).isStructure())
+            {
+                // Add the prototype structure name to the list
+                treePaths.add(member.getTableName());
+                structures.add(member);
+            }
+        }
 
-        // Expand the tree so that all nodes are 'visible'
-        allVariableTree.setTreeExpansion(true);
+        // Step through each structure
+        for (TableMembers member : structures)
+        {
+            // Check if the structure contains a variable
+            if (memberGraph.hasVariables(member, member.getTableName()))
+            {
+                // Add the structure and the paths to its child structures and
+                // variables
+                treePaths.addAll(memberGraph.getVariablePaths(member));
+            }
+        }
 
+        return treePaths;
+    }
+
+    /**************************************************************************
+     * Using the structure and variable paths create two lists: one that
+     * contains a reference to every structure and variable (keeping the child
+     * structures and variables in the order in which they appear relative to
+     * their root structure), and another list that has the offset for the
+     * variable relative to its root structure. The total structure size in
+     * bytes is stored in place of the offset value for each root structure
+     * entry in the list. A map of each path to its index in the lists is also
+     * created
+     *************************************************************************/
+    private void buildPathAndOffsetLists()
+    {
         structureAndVariablePaths = new ArrayList<String>();
         structureAndVariableOffsets = new ArrayList<Integer>();
+        structureAndVariableIndices = new HashMap<String, Integer>();
 
         // Initialize the offset, bit count, and the previous variable's size,
         // type, and bit length
@@ -604,128 +777,115 @@ public class CcddLinkHandler
         lastDataType = "";
         lastBitLength = 0;
 
-        int lastIndex = 0;
-        int structIndex = 0;
+        // Index of the current prototype structure in the lists; -1 until the
+        // first prototype structure is detected
+        int structIndex = -1;
 
-        // Step through all of the nodes in the variable tree
-        for (Enumeration<?> element = allVariableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        // Step through the path to every structure and variable. This is used
+        // for determining bit-packing, variable relative position, variable
+        // offsets, and structure sizes
+        for (String treePath : getStructureAndVariableTreePaths())
         {
-            // Get the path to this node
-            TreeNode[] nodePath = ((ToolTipTreeNode) element.nextElement()).getPath();
+            // Expand any macros contained in the variable name(s)
+            String varPath = macroHandler.getMacroExpansion(treePath);
 
-            // Check if the path references a structure or variable (instead of
-            // the tree's root or header nodes)
-            if (nodePath.length > allVariableTree.getHeaderNodeLevel())
+            // Check if the path contains a data type
+            if (varPath.matches(".+,.+\\..+"))
             {
-                // Get the variable path for this tree node. Expand any macros
-                // contained in the variable name(s)
-                String varPath = macroHandler.getMacroExpansion(allVariableTree.getFullVariablePath(nodePath));
+                // Extract the data type from the variable path
+                String dataType = varPath.substring(varPath.lastIndexOf(",") + 1,
+                                                    varPath.lastIndexOf("."));
 
-                // Check if the path contains a data type
-                if (varPath.matches(".+,.+\\..+"))
+                // Check if this references a primitive data type
+                if (dataTypeHandler.isPrimitive(dataType))
                 {
-                    // Extract the data type from the variable path
-                    String dataType = varPath.substring(varPath.lastIndexOf(",") + 1,
-                                                        varPath.lastIndexOf("."));
-
-                    // Check if this references a primitive data type
-                    if (dataTypeHandler.isPrimitive(dataType))
-                    {
-                        String bitLength = "";
-
-                        int bitIndex = varPath.indexOf(":");
+                    String bitLength = "";
 
-                        // Check if this variable has a bit length
-                        if (bitIndex != -1)
-                        {
-                            // Extract the bit length from the variable path
-                            bitLength = varPath.substring(bitIndex + 1);
+                    int bitIndex = varPath.indexOf(":");
 
-                            // Remove the bit length from the variable path
-                            varPath = varPath.substring(0, bitIndex);
-                        }
-
-                        // Adjust the offset to account for bit-packing
-                        offset = adjustVariableOffset(dataType, bitLength, offset);
-                    }
-                    // Not a primitive data type (i.e., it's a structure)
-                    else
+                    // Check if this variable has a bit length
+                    if (bitIndex != -1)
                     {
-                        // Add the last variable's byte size to the offset
-                        // total
-                        offset += lastByteSize;
-
-                        // Reinitialize the bit count, and the previous
-                        // variable's size, type, and bit length
-                        bitCount = 0;
-                        lastByteSize = 0;
-                        lastDataType = "";
-                        lastBitLength = 0;
+                        // Extract the bit length from the variable path
+                        bitLength = varPath.substring(bitIndex + 1);
+
+                        // Remove the bit length from the variable path
+                        varPath = varPath.substring(0, bitIndex);
                     }
+
+                    // Adjust the offset to account for bit-packing
+                    offset = adjustVariableOffset(dataType, bitLength, offset);
                 }
-                // The path doesn't contain a data type; i.e., it's a prototype
-                // structure reference
+                // Not a primitive data type (i.e., it's a structure)
                 else
                 {
-                    // Check that this isn't the first prototype structure
-                    // detected. The size is stored once the end of the
-                    // structure is reached
-                    if (lastIndex != 0)
-                    {
-                        // Adjust the offset to account for bit-packing
-                        offset = adjustVariableOffset(lastDataType, "", offset);
+                    // Add the last variable's byte size to the offset
+                    // total
+                    offset += lastByteSize;
 
-                        // Store the offset as the size for this structure
-                        structureAndVariableOffsets.set(structIndex, offset);
-
-                        // Store the index of the prototype structure
-                        structIndex = lastIndex;
-                    }
-
-                    // Reset the offset since this indicates the start of a new
-                    // root structure. Initialize the bit count, and the
-                    // previous variable's size, type, and bit length
-                    offset = 0;
+                    // Reinitialize the bit count, and the previous
+                    // variable's size, type, and bit length
                     bitCount = 0;
                     lastByteSize = 0;
                     lastDataType = "";
                     lastBitLength = 0;
                 }
-
-                // Check the list for this variable path. Due to the
-                // construction of the table tree a prototype structure
-                // reference can occur twice
-                int index = structureAndVariablePaths.indexOf(varPath);
-
-                // Check if the variable path (prototype table) is already in
-                // the list
-                if (index != -1)
-                {
-                    // The first listing is the prototype table only (no
-                    // variables); the second includes the variables and is the
-                    // one required. Remove the existing reference from the
-                    // list and update the index pointer to the structure to
-                    // account for the removal
-                    structureAndVariablePaths.remove(index);
-                    structureAndVariableOffsets.remove(index);
-                    structIndex--;
-                }
-                // This is the first reference to this variable path
-                else
+            }
+            // The path doesn't contain a data type; i.e., it's a prototype
+            // structure reference
+            else
+            {
+                // Check that this isn't the first prototype structure
+                // detected. The size is stored once the end of the
+                // structure is reached
+                if (structIndex != -1)
                 {
-                    // Update the index pointing to the last member of the
-                    // structure
-                    lastIndex++;
+                    // Adjust the offset to account for bit-packing
+                    offset = adjustVariableOffset(lastDataType, "", offset);
+
+                    // Store the offset as the size for this structure
+                    structureAndVariableOffsets.set(structIndex, offset);
                 }
 
-                // Add the variable path and its offset to the lists
-                structureAndVariablePaths.add(varPath);
-                structureAndVariableOffsets.add(offset);
+                // Store the index of the prototype structure
+                structIndex = structureAndVariablePaths.size();
+
+                // Reset the offset since this indicates the start of a new
+                // root structure. Initialize the bit count, and the
+                // previous variable's size, type, and bit length
+                offset = 0;
+                bitCount = 0;
+                lastByteSize = 0;
+                lastDataType = "";
+                lastBitLength = 0;
+            }
+
+            // Store the index for this variable path, and get the index of
+            // the existing reference to the path, if any. Due to the order of
+            // the tree paths a prototype structure reference can occur twice
+            Integer index = structureAndVariableIndices.put(varPath,
+                                                            structureAndVariablePaths.size());
+
+            // Check if the variable path (prototype table) is already in
+            // the list
+            if (index != null)
+            {
+                // The first listing is the prototype table only (no
+                // variables); the second includes the variables and is the
+                // one required. Mark the existing reference as removed;
+                // removed references are discarded once the lists are
+                // complete so that the remaining indices don't shift while
+                // the lists are built
+                structureAndVariablePaths.set(index, null);
             }
+
+            // Add the variable path and its offset to the lists
+            structureAndVariablePaths.add(varPath);
+            structureAndVariableOffsets.add(offset);
         }
 
         // Check that a prototype structure was detected
-        if (lastIndex != 0)
+        if (structIndex != -1)
         {
             // Adjust the offset to account for bit-packing
             offset = adjustVariableOffset(lastDataType, "", offset);
@@ -733,6 +893,27 @@ public class CcddLinkHandler
             // Store the offset as the size for this structure
             structureAndVariableOffsets.set(structIndex, offset);
         }
+
+        List<String> paths = new ArrayList<String>(structureAndVariableIndices.size());
+        List<Integer> offsets = new ArrayList<Integer>(structureAndVariableIndices.size());
+
+        // Step through the path list
+        for (int index = 0; index < structureAndVariablePaths.size(); index++)
+        {
+            // Check if the reference wasn't removed
+            if (structureAndVariablePaths.get(index) != null)
+            {
+                // Store the path's index in the compacted lists, then add the
+                // path and its offset to the lists
+                structureAndVariableIndices.put(structureAndVariablePaths.get(index),
+                                                paths.size());
+                paths.add(structureAndVariablePaths.get(index));
+                offsets.add(structureAndVariableOffsets.get(index));
+            }
+        }
+
+        structureAndVariablePaths = paths;
+        structureAndVariableOffsets = offsets;
     }
 
     /**************************************************************************
@@ -810,14 +991,19 @@ public class CcddLinkHandler
             // definition) and that the variable isn't in the link tree
             if (linkMember.contains(".")
                 && !linkMember.matches("\\d.*")
-                && structureAndVariablePaths.indexOf(linkMember.replaceFirst(":.+$", "")) == -1)
+                && getPathIndex(linkMember.replaceFirst(":.+$", "")) == -1)
             {
                 // Store the invalid link
                 invalidLinks.add(linkDefn);
             }
         }
 
-        // Remove any invalid link definitions
-        linkDefinitions.removeAll(invalidLinks);
+        // Check if any invalid link definitions were found
+        if (!invalidLinks.isEmpty())
+        {
+            // Remove the invalid link definitions
+            linkDefinitions.removeAll(invalidLinks);
+            invalidateLinkMaps();
+        }
     }
 }
@@ -8,6 +8,7 @@
  */
 package CCDD;
 
+import static CCDD.CcddConstants.MACRO_EXPANSION_CACHE_SIZE;
 import static CCDD.CcddConstants.MACRO_IDENTIFIER;
 
 import java.awt.BorderLayout;
@@ -23,9 +24,10 @@ import java.awt.event.KeyEvent;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.BorderFactory;
 import javax.swing.JComboBox;
@@ -41,7 +43,6 @@ import javax.swing.text.Highlighter;
 import javax.swing.text.JTextComponent;
 
 import CCDD.CcddClasses.PaddedComboBox;
-import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.MacrosColumn;
@@ -55,7 +56,7 @@ import CCDD.CcddConstants.SearchType;
 public class CcddMacroHandler
 {
     // Class reference
-    private CcddDbCommandHandler dbCommand;
+    private CcddSearchIndexHandler searchIndexHandler;
 
     // Pop-up combo box for displaying the macro names and the dialog to
     // contain it
@@ -65,8 +66,13 @@ public class CcddMacroHandler
     // List containing the macro names and associated values
     private List<String[]> macros;
 
-    // Macro name pattern
-    private final Pattern macroPattern;
+    // Macro values, stored by macro name (in lower case, since macro names
+    // are case insensitive)
+    private volatile Map<String, String> macroValues;
+
+    // Expanded text strings, stored by the text string prior to expansion.
+    // The stored expansions are discarded whenever the macros change
+    private volatile Map<String, String> expansionCache;
 
     /**************************************************************************
      * Macro location class
@@ -125,15 +131,8 @@ public class CcddMacroHandler
     {
         this.macros = macros;
 
-        // Create the macro name search pattern
-        macroPattern = Pattern.compile("^.*?("
-                                       + MACRO_IDENTIFIER
-                                       + "([^"
-                                       + MACRO_IDENTIFIER
-                                       + "]+)"
-                                       + MACRO_IDENTIFIER
-                                       + ").*$",
-                                       Pattern.CASE_INSENSITIVE);
+        // Store the macro values by name
+        updateMacroValues();
     }
 
     /**************************************************************************
@@ -148,7 +147,7 @@ public class CcddMacroHandler
         this(ccddMain.getDbTableCommandHandler().retrieveInformationTable(InternalTable.MACROS,
                                                                           true,
                                                                           ccddMain.getMainFrame()));
-        dbCommand = ccddMain.getDbCommandHandler();
+        searchIndexHandler = ccddMain.getSearchIndexHandler();
     }
 
     /**************************************************************************
@@ -172,6 +171,39 @@ public class CcddMacroHandler
     protected void setMacroData(List<String[]> macros)
     {
         this.macros = new ArrayList<String[]>(macros);
+
+        // Update the stored macro values by name
+        updateMacroValues();
+    }
+
+    /**************************************************************************
+     * Store the macro values by macro name and discard any stored macro
+     * expansions. This must be called whenever the macro data changes
+     *************************************************************************/
+    private void updateMacroValues()
+    {
+        Map<String, String> values = new HashMap<String, String>(macros.size() * 2);
+
+        // Step through each defined macro
+        for (String[] macro : macros)
+        {
+            // Get the macro name in lower case
+            String macroName = macro[MacrosColumn.MACRO_NAME.ordinal()].toLowerCase();
+
+            // Check if the macro name isn't already stored. The first of any
+            // macros with the same name (ignoring case) is used
+            if (!values.containsKey(macroName))
+            {
+                // Store the macro value by its name
+                values.put(macroName, macro[MacrosColumn.VALUE.ordinal()]);
+            }
+        }
+
+        // Store the macro values, then replace the stored expansions. The
+        // values are updated first so that an expansion using the previous
+        // values can't be stored with the new values
+        macroValues = values;
+        expansionCache = new ConcurrentHashMap<String, String>();
     }
 
     /**************************************************************************
@@ -197,53 +229,52 @@ public class CcddMacroHandler
      *************************************************************************/
     private List<MacroLocation> getMacroLocation(String text)
     {
-        Matcher matcher;
-        int start = 0;
-
         // Create storage for the macro name locations
         List<MacroLocation> locations = new ArrayList<MacroLocation>();
 
-        do
+        // Locate the first macro delimiter in the text string
+        int start = text.indexOf(MACRO_IDENTIFIER);
+
+        // Step through the text string until no more macro delimiters are
+        // found
+        while (start != -1)
         {
-            // Locate the macro name pattern within the text string
-            matcher = macroPattern.matcher(text);
+            // Find the end of the potential macro name. The name ends at the
+            // first character that's part of the macro delimiter
+            int nameStart = start + MACRO_IDENTIFIER.length();
+            int nameEnd = nameStart;
 
-            // Check if the macro name pattern is present
-            if (matcher.matches())
+            while (nameEnd < text.length()
+                   && MACRO_IDENTIFIER.indexOf(text.charAt(nameEnd)) == -1)
             {
-                // Get the macro name, with the macro delimiters
-                String macroName = matcher.group(1);
-
-                // Store the index of the macro name pattern
-                int position = text.indexOf(macroName);
+                nameEnd++;
+            }
 
-                // Check if the pattern matches a defined macro. This uses the
-                // macro name without the delimiters
-                if (isMacroExists(matcher.group(2)))
-                {
-                    // Update the macro name starting position and remove the
-                    // characters from the beginning of the text string to the
-                    // end of the macro name
-                    start += position;
-                    text = text.substring(position + macroName.length());
+            // Check if the name isn't empty, is followed by a macro
+            // delimiter, and matches a defined macro
+            if (nameEnd != nameStart
+                && text.startsWith(MACRO_IDENTIFIER, nameEnd)
+                && macroValues.containsKey(text.substring(nameStart,
+                                                          nameEnd)
+                                               .toLowerCase()))
+            {
+                // Get the end of the macro name, including the delimiter
+                int end = nameEnd + MACRO_IDENTIFIER.length();
 
-                    // Store the location for this macro
-                    locations.add(new MacroLocation(macroName, start));
+                // Store the location for this macro
+                locations.add(new MacroLocation(text.substring(start, end),
+                                                start));
 
-                    // Update the start index to skip the macro name
-                    start += macroName.length();
-                }
-                // Looks like a macro but doesn't match a defined name
-                else
-                {
-                    // Remove the first character in the text, advance the
-                    // starting position by 1, and try matching again
-                    text = text.substring(position + 1);
-                    start += position + 1;
-                }
+                // Look for the next macro following this one
+                start = text.indexOf(MACRO_IDENTIFIER, end);
+            }
+            // Looks like a macro but doesn't match a defined name
+            else
+            {
+                // Advance the starting position by 1 and try matching again
+                start = text.indexOf(MACRO_IDENTIFIER, start + 1);
             }
-        } while (matcher.matches());
-        // Process the text string until no macro names are found
+        }
 
         return locations;
     }
@@ -549,21 +580,7 @@ public class CcddMacroHandler
      *************************************************************************/
     protected String getMacroValue(String macroName)
     {
-        String macroValue = null;
-
-        // Step through each defined macro
-        for (String[] macro : macros)
-        {
-            // Check if the supplied name matches this macro's name
-            if (macroName.equalsIgnoreCase(macro[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Get the associated macro value and stop searching
-                macroValue = macro[MacrosColumn.VALUE.ordinal()];
-                break;
-            }
-        }
-
-        return macroValue;
+        return macroValues.get(macroName.toLowerCase());
     }
 
     /**************************************************************************
@@ -593,22 +610,7 @@ public class CcddMacroHandler
      *************************************************************************/
     protected boolean isMacroExists(String macroName)
     {
-        boolean isExists = false;
-
-        // Step through each defined macro
-        for (String[] macro : macros)
-        {
-            // Check if the macro name matches the supplied name
-            if (macroName.equalsIgnoreCase(macro[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Set the flag to indicate the macro name already exists and
-                // stop searching
-                isExists = true;
-                break;
-            }
-        }
-
-        return isExists;
+        return macroValues.containsKey(macroName.toLowerCase());
     }
 
     /**************************************************************************
@@ -623,23 +625,52 @@ public class CcddMacroHandler
      *************************************************************************/
     protected String getMacroExpansion(String text)
     {
-        String expandedText = "";
-        int lastEnd = 0;
+        // Check if the text doesn't contain a macro delimiter, in which case
+        // it has no macros to expand
+        if (text.indexOf(MACRO_IDENTIFIER) == -1)
+        {
+            return text;
+        }
 
-        // Step through each macro in the text string
-        for (MacroLocation location : getMacroLocation(text))
+        // Check if the text has already been expanded
+        Map<String, String> cache = expansionCache;
+        String expandedText = cache.get(text);
+
+        if (expandedText == null)
         {
-            // Append the text leading to the macro name, then add macro value
-            // in place of the name
-            expandedText += text.substring(lastEnd, location.getStart())
-                            + getMacroValue(location.getMacroName().replaceAll(MACRO_IDENTIFIER, ""));
+            StringBuilder expanded = new StringBuilder(text.length());
+            int lastEnd = 0;
+
+            // Step through each macro in the text string
+            for (MacroLocation location : getMacroLocation(text))
+            {
+                // Append the text leading to the macro name, then add macro
+                // value in place of the name
+                String macroName = location.getMacroName();
+                expanded.append(text, lastEnd, location.getStart())
+                        .append(getMacroValue(macroName.substring(MACRO_IDENTIFIER.length(),
+                                                                  macroName.length()
+                                                                                           - MACRO_IDENTIFIER.length())));
+
+                // Store the end position of the macro name for the next pass
+                lastEnd = location.getStart() + macroName.length();
+            }
+
+            // Append any remaining text
+            expandedText = expanded.append(text, lastEnd, text.length()).toString();
 
-            // Store the end position of the macro name for the next pass
-            lastEnd = location.getStart() + location.getMacroName().length();
+            // Check if the maximum number of stored expansions is reached
+            if (cache.size() >= MACRO_EXPANSION_CACHE_SIZE)
+            {
+                // Discard the stored expansions
+                cache.clear();
+            }
+
+            // Store the expansion so that it can be reused
+            cache.put(text, expandedText);
         }
 
-        // Append any remaining text
-        return expandedText += text.substring(lastEnd);
+        return expandedText;
     }
 
     /**************************************************************************
@@ -686,7 +717,9 @@ public class CcddMacroHandler
         for (MacroLocation location : getMacroLocation(text))
         {
             // Strip the macro delimiters from the name
-            String macroName = location.getMacroName().replaceAll(MACRO_IDENTIFIER, "");
+            String macroName = location.getMacroName().substring(MACRO_IDENTIFIER.length(),
+                                                                 location.getMacroName().length()
+                                                                                             - MACRO_IDENTIFIER.length());
 
             // Check if the macro is not already in the list (case insensitive)
             if (!CcddUtilities.contains(macroName, referenced))
@@ -714,18 +747,12 @@ public class CcddMacroHandler
      *************************************************************************/
     protected String[] getMacroReferences(String macroName, Component parent)
     {
-        return dbCommand.getList(DatabaseListCommand.SEARCH,
-                                 new String[][] {{"_search_text_",
-                                                  macroName},
-                                                 {"_case_insensitive_",
-                                                  "true"},
-                                                 {"_allow_regex_",
-                                                  "false"},
-                                                 {"_selected_tables_",
-                                                  SearchType.DATA.toString()},
-                                                 {"_columns_",
-                                                  ""}},
-                                 parent);
+        return searchIndexHandler.searchTables(macroName,
+                                               true,
+                                               false,
+                                               SearchType.DATA.toString(),
+                                               "",
+                                               parent);
     }
 
     /**************************************************************************
@@ -829,17 +856,26 @@ public class CcddMacroHandler
     {
         String badType = null;
 
+        // Copy the stored macro values so that the added macros are found by
+        // subsequent checks without altering the values in use by other
+        // threads until the update is complete
+        Map<String, String> values = new HashMap<String, String>(macroValues);
+        boolean isAdded = false;
+
         // Step through each imported macro definition
         for (String[] macroDefn : macroDefinitions)
         {
             // Get the macro value associated with this macro name
-            String macro = getMacroValue(macroDefn[MacrosColumn.MACRO_NAME.ordinal()]);
+            String macroName = macroDefn[MacrosColumn.MACRO_NAME.ordinal()].toLowerCase();
+            String macro = values.get(macroName);
 
             // Check if the macro doesn't already exist
             if (macro == null)
             {
-                // Add the macro
+                // Add the macro and its value
                 macros.add(macroDefn);
+                values.put(macroName, macroDefn[MacrosColumn.VALUE.ordinal()]);
+                isAdded = true;
             }
             // The macro exists; check if the macro value provided matches the
             // existing macro value
@@ -852,6 +888,15 @@ public class CcddMacroHandler
             }
         }
 
+        // Check if any macros were added
+        if (isAdded)
+        {
+            // Store the updated macro values, then replace the stored
+            // expansions
+            macroValues = values;
+            expansionCache = new ConcurrentHashMap<String, String>();
+        }
+
         return badType;
     }
 }
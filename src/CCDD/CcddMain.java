@@ -12,7 +12,6 @@ import static CCDD.CcddConstants.CANCEL_BUTTON;
 import static CCDD.CcddConstants.CCDD_AUTHOR;
 import static CCDD.CcddConstants.CCDD_ICON;
 import static CCDD.CcddConstants.DATABASE;
-import static CCDD.CcddConstants.DB_SAVE_POINT_NAME;
 import static CCDD.CcddConstants.DEFAULT_DATABASE;
 import static CCDD.CcddConstants.DEFAULT_POSTGRESQL_HOST;
 import static CCDD.CcddConstants.DEFAULT_POSTGRESQL_PORT;
@@ -88,6 +87,7 @@ import CCDD.CcddConstants.ModifiableSpacingInfo;
 import CCDD.CcddConstants.ScriptIOType;
 import CCDD.CcddConstants.SearchDialogType;
 import CCDD.CcddConstants.ServerPropertyDialogType;
+import CCDD.CcddDbCommandHandler.Transaction;
 
 /******************************************************************************
  * CFS Command & Data Dictionary main class
@@ -98,6 +98,8 @@ public class CcddMain
     private final CcddDbCommandHandler dbCommand;
     private final CcddDbControlHandler dbControl;
     private final CcddDbTableCommandHandler dbTable;
+    private final CcddProjectSnapshotHandler snapshotHandler;
+    private final CcddSearchIndexHandler searchIndexHandler;
     private CcddDataTypeHandler dataTypeHandler;
     private CcddTableTypeHandler tableTypeHandler;
     private CcddTableTypeEditorDialog tableTypeEditorDialog;
@@ -166,6 +168,7 @@ public class CcddMain
     private JMenuItem mntmEditDataField;
     private JMenuItem mntmShowVariables;
     private JMenuItem mntmSearchTable;
+    private JCheckBoxMenuItem mntmSearchIndex;
     private JMenuItem mntmManageLinks;
     private JMenuItem mntmManageTlm;
     private JMenuItem mntmManageApps;
@@ -246,8 +249,11 @@ public class CcddMain
         dbCommand.setEventLog();
         dbControl.setEventLog();
 
-        // Create the handler classes for database table commands, file I/O,
-        // scripts, and application parameters
+        // Create the handler classes for the project snapshot, search index,
+        // database table commands, file I/O, scripts, and application
+        // parameters
+        snapshotHandler = new CcddProjectSnapshotHandler();
+        searchIndexHandler = new CcddSearchIndexHandler(CcddMain.this);
         dbTable = new CcddDbTableCommandHandler(CcddMain.this);
         fileIOHandler = new CcddFileIOHandler(CcddMain.this);
         scriptHandler = new CcddScriptHandler(CcddMain.this);
@@ -477,6 +483,16 @@ public class CcddMain
         return dbCommand;
     }
 
+    /**************************************************************************
+     * Get the CCDD version
+     *
+     * @return CCDD version
+     *************************************************************************/
+    protected String getCCDDVersion()
+    {
+        return ccddVersion;
+    }
+
     /**************************************************************************
      * Get the table command handler
      *
@@ -487,6 +503,26 @@ public class CcddMain
         return dbTable;
     }
 
+    /**************************************************************************
+     * Get the project snapshot handler
+     *
+     * @return Project snapshot handler
+     *************************************************************************/
+    protected CcddProjectSnapshotHandler getProjectSnapshotHandler()
+    {
+        return snapshotHandler;
+    }
+
+    /**************************************************************************
+     * Get the search index handler
+     *
+     * @return Search index handler
+     *************************************************************************/
+    protected CcddSearchIndexHandler getSearchIndexHandler()
+    {
+        return searchIndexHandler;
+    }
+
     /**************************************************************************
      * Create the handler classes that rely on a successful connection to a
      * project database (other than the default): table type, macro, and rate
@@ -495,6 +531,10 @@ public class CcddMain
      *************************************************************************/
     protected void setDbSpecificHandlers()
     {
+        // Discard any project information stored from the previously opened
+        // database
+        snapshotHandler.invalidate();
+
         // Read the table type definitions from the database
         tableTypeHandler = new CcddTableTypeHandler(CcddMain.this);
 
@@ -849,6 +889,7 @@ public class CcddMain
         mntmEditDataField.setEnabled(dbControl.isDatabaseConnected());
         mntmShowVariables.setEnabled(dbControl.isDatabaseConnected());
         mntmSearchTable.setEnabled(dbControl.isDatabaseConnected());
+        mntmSearchIndex.setEnabled(dbControl.isDatabaseConnected());
         mntmManageLinks.setEnabled(dbControl.isDatabaseConnected());
         mntmManageTlm.setEnabled(dbControl.isDatabaseConnected());
         mntmManageApps.setEnabled(dbControl.isDatabaseConnected());
@@ -1346,6 +1387,7 @@ public class CcddMain
         mntmShowVariables = createMenuItem(mnData, "Show variables", KeyEvent.VK_V, 1, "Display all of the variable paths + names in various formats");
         mnData.addSeparator();
         mntmSearchTable = createMenuItem(mnData, "Search tables", KeyEvent.VK_S, 1, "Search the project database tables");
+        mntmSearchIndex = createCheckBoxMenuItem(mnData, "Search index", KeyEvent.VK_H, 1, "Index the data table columns to speed up table, macro, and data type searches in large projects. Table updates are slower while the index is enabled", searchIndexHandler.isIndexEnabled());
 
         // Create the Scheduling menu and menu items
         JMenu mnScheduling = createMenu(menuBar, "Scheduling", KeyEvent.VK_C, 1, null);
@@ -2057,6 +2099,20 @@ public class CcddMain
             }
         });
 
+        // Add a listener for the Search index check box menu item
+        mntmSearchIndex.addActionListener(new ActionListener()
+        {
+            /******************************************************************
+             * Enable or disable the search index
+             *****************************************************************/
+            @Override
+            public void actionPerformed(ActionEvent ae)
+            {
+                searchIndexHandler.setIndexEnabled(mntmSearchIndex.isSelected(),
+                                                   frameCCDD);
+            }
+        });
+
         // Add a listener for the Manage script associations menu item
         mntmManageScripts.addActionListener(new ActionListener()
         {
@@ -2349,18 +2405,24 @@ public class CcddMain
                     // Check if the database control handler exists
                     if (dbControl != null)
                     {
-                        // Check if the database command handler exists and
-                        // that a save point is active
-                        if (dbCommand != null && dbCommand.getSavePointEnable())
+                        // Get the transaction in progress, if any
+                        Transaction transaction = dbCommand != null
+                                                                    ? dbCommand.getActiveTransaction()
+                                                                    : null;
+
+                        // Check if a transaction with a save point is active
+                        if (transaction != null && transaction.isSavePointCreated())
                         {
                             try
                             {
                                 // Revert the changes to the tables that were
                                 // successfully updated prior the current table
-                                dbCommand.executeDbCommand("ROLLBACK TO SAVEPOINT "
-                                                           + DB_SAVE_POINT_NAME
-                                                           + ";",
-                                                           frameCCDD);
+                                transaction.rollback(frameCCDD);
+
+                                // Discard the project snapshot since it may
+                                // contain items loaded prior to the changes
+                                // being reverted
+                                snapshotHandler.invalidate();
                             }
                             catch (SQLException se)
                             {
@@ -2378,8 +2440,8 @@ public class CcddMain
                             }
                             finally
                             {
-                                // Reset the flag for creating a save point
-                                dbCommand.setSavePointEnable(false);
+                                // End the transaction
+                                transaction.end();
                             }
                         }
 
@@ -12,10 +12,14 @@ import static CCDD.CcddConstants.CCDD_PROJECT_IDENTIFIER;
 import static CCDD.CcddConstants.DATABASE_COMMENT_SEPARATOR;
 import static CCDD.CcddConstants.ASSN_TABLE_SEPARATOR;
 import static CCDD.CcddConstants.OK_BUTTON;
+import static CCDD.CcddConstants.VALUES_PARENT_INDEX;
+import static CCDD.CcddConstants.VALUES_PARENT_PATH;
+import static CCDD.CcddConstants.VALUES_PATH_INDEX;
 import static CCDD.CcddConstants.EventLogMessageType.SUCCESS_MSG;
 
 import java.io.File;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -33,6 +37,7 @@ import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.FieldsColumn;
 import CCDD.CcddConstants.InternalTable.TableTypesColumn;
+import CCDD.CcddConstants.InternalTable.ValuesColumn;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /******************************************************************************
@@ -42,6 +47,15 @@ public class CcddPatchHandler
 {
     private final CcddMain ccddMain;
 
+    // Patch level of a project database to which all of the patches have been
+    // applied. This must be updated to the newest patch number whenever a
+    // patch is added
+    private static final String PATCH_LEVEL = "10162017";
+
+    // Name of the database function in which the patch level is stored (as
+    // the function's comment)
+    private static final String PATCH_LEVEL_FUNCTION = "delete_function";
+
     /**************************************************************************
      * CFS Command & Data Dictionary project database patch handler class
      * constructor. THe patch handler is used to integrate application changes
@@ -58,22 +72,157 @@ public class CcddPatchHandler
     {
         this.ccddMain = ccddMain;
 
-        // Patch #01262017: Rename the table types table and alter its content
-        // to include the database name with capitalization intact
-        updateTableTypesTable();
+        // Check if the project database isn't already at the current patch
+        // level. If it is then checking each of the patches is skipped
+        if (!PATCH_LEVEL.equals(ccddMain.getDbControlHandler().getFunctionComment(PATCH_LEVEL_FUNCTION)))
+        {
+            // Patch #01262017: Rename the table types table and alter its
+            // content to include the database name with capitalization intact
+            updateTableTypesTable();
+
+            // Patch #07112017: Update the database comment to include the
+            // project name with capitalization intact
+            boolean isPatched = updateDataBaseComment();
+
+            // Patch #0712017: Update the associations table to include a
+            // description column and to change the table separator characters
+            // in the member_table column
+            updateAssociationsTable();
+
+            // Patch #09272017: Update the data fields table applicability
+            // column to change "Parents only" to "Roots only"
+            updateFieldApplicability();
+
+            // Patch #10162017: Add the table path and parent path indices to
+            // the custom values table
+            isPatched &= updateValuesTableIndices();
+
+            // Check if all of the patches are applied. If any patch failed
+            // then the patch level isn't stored so that the patches are
+            // checked again the next time the project is opened
+            if (isPatched)
+            {
+                // Store the patch level now that all of the patches are
+                // applied
+                storePatchLevel();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Store the patch level in the project database. The patch level is
+     * stored as the comment for a CCDD database function
+     *************************************************************************/
+    private void storePatchLevel()
+    {
+        CcddDbControlHandler dbControl = ccddMain.getDbControlHandler();
+
+        try
+        {
+            // Store the patch level as the function's comment
+            ccddMain.getDbCommandHandler().executeDbCommand(dbControl.buildFunctionComment(PATCH_LEVEL_FUNCTION
+                                                                                           + "(function_name text)",
+                                                                                           PATCH_LEVEL),
+                                                            ccddMain.getMainFrame());
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that storing the patch level failed. The
+            // patches are checked again the next time the project is opened
+            ccddMain.getSessionEventLog().logFailEvent(ccddMain.getMainFrame(),
+                                                       "Cannot store project '"
+                                                                               + dbControl.getProject()
+                                                                               + "' patch level; cause '"
+                                                                               + se.getMessage()
+                                                                               + "'",
+                                                       "<html><b>Cannot store project '</b>"
+                                                                                      + dbControl.getProject()
+                                                                                      + "<b>' patch level");
+        }
+    }
+
+    /**************************************************************************
+     * Add the table path and parent path indices to the custom values table.
+     * The parent path index allows the custom values for a table instance to
+     * be retrieved without scanning the entire table. Older versions of CCDD
+     * are compatible with the project database after applying this patch
+     *
+     * @return true if the patch is applied (or was already applied); false if
+     *         an error occurred applying the patch
+     *************************************************************************/
+    private boolean updateValuesTableIndices()
+    {
+        boolean isPatched = true;
+        CcddEventLogDialog eventLog = ccddMain.getSessionEventLog();
+        CcddDbControlHandler dbControl = ccddMain.getDbControlHandler();
+
+        try
+        {
+            CcddDbCommandHandler dbCommand = ccddMain.getDbCommandHandler();
 
-        // Patch #07112017: Update the database comment to include the project
-        // name with capitalization intact
-        updateDataBaseComment();
+            // Get the number of custom values table indices that exist
+            ResultSet indexData = dbCommand.executeDbQuery("SELECT count(*) FROM pg_indexes WHERE "
+                                                           + "schemaname = 'public' AND tablename = '"
+                                                           + InternalTable.VALUES.getTableName()
+                                                           + "' AND indexname IN ('"
+                                                           + VALUES_PATH_INDEX
+                                                           + "', '"
+                                                           + VALUES_PARENT_INDEX
+                                                           + "');",
+                                                           ccddMain.getMainFrame());
+            indexData.next();
+            int numIndices = indexData.getInt(1);
+            indexData.close();
 
-        // Patch #0712017: Update the associations table to include a
-        // description column and to change the table separator characters in
-        // the member_table column
-        updateAssociationsTable();
+            // Check if the patch hasn't already been applied
+            if (numIndices != 2)
+            {
+                // Create the custom values table indices, replacing any
+                // existing one
+                dbCommand.executeDbCommand("DROP INDEX IF EXISTS "
+                                           + VALUES_PATH_INDEX
+                                           + "; DROP INDEX IF EXISTS "
+                                           + VALUES_PARENT_INDEX
+                                           + "; CREATE INDEX "
+                                           + VALUES_PATH_INDEX
+                                           + " ON "
+                                           + InternalTable.VALUES.getTableName()
+                                           + " ("
+                                           + ValuesColumn.TABLE_PATH.getColumnName()
+                                           + " text_pattern_ops); CREATE INDEX "
+                                           + VALUES_PARENT_INDEX
+                                           + " ON "
+                                           + InternalTable.VALUES.getTableName()
+                                           + " (("
+                                           + VALUES_PARENT_PATH
+                                           + "));",
+                                           ccddMain.getMainFrame());
 
-        // Patch #09272017: Update the data fields table applicability column
-        // to change "Parents only" to "Roots only"
-        updateFieldApplicability();
+                // Inform the user that updating the custom values table
+                // completed
+                eventLog.logEvent(EventLogMessageType.SUCCESS_MSG,
+                                  "Project '"
+                                      + dbControl.getProject()
+                                      + "' custom values table indexing complete");
+            }
+        }
+        catch (Exception e)
+        {
+            // Inform the user that indexing the custom values table failed.
+            // The custom values are still accessible without the indices
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot index project '"
+                                      + dbControl.getProject()
+                                      + "' custom values table; cause '"
+                                      + e.getMessage()
+                                      + "'",
+                                  "<html><b>Cannot index project '"
+                                      + dbControl.getProject()
+                                      + "' custom values table");
+            isPatched = false;
+        }
+
+        return isPatched;
     }
 
     /**************************************************************************
@@ -309,9 +458,13 @@ public class CcddPatchHandler
      * <CCDD project identifier string><lock status, 0 or 1>;<project name with
      * capitalization intact>;<project description>. Older versions of CCDD are
      * compatible with the project database after applying this patch
+     *
+     * @return true if the patch is applied (or was already applied); false if
+     *         an error occurred applying the patch
      *************************************************************************/
-    private void updateDataBaseComment()
+    private boolean updateDataBaseComment()
     {
+        boolean isPatched = true;
         CcddEventLogDialog eventLog = ccddMain.getSessionEventLog();
         CcddDbControlHandler dbControl = ccddMain.getDbControlHandler();
 
@@ -370,7 +523,10 @@ public class CcddPatchHandler
                                   "<html><b>Cannot convert project '"
                                       + dbControl.getProject()
                                       + "' comment to new format");
+            isPatched = false;
         }
+
+        return isPatched;
     }
 
     /**************************************************************************
@@ -0,0 +1,793 @@
+/**
+ * CFS Command & Data Dictionary project snapshot handler.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator
+ * of the National Aeronautics and Space Administration. No copyright is
+ * claimed in the United States under Title 17, U.S. Code. All Other Rights
+ * Reserved.
+ */
+package CCDD;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import CCDD.CcddClasses.TableMembers;
+import CCDD.CcddConstants.InternalTable;
+import CCDD.CcddConstants.InternalTable.FieldsColumn;
+import CCDD.CcddConstants.InternalTable.GroupsColumn;
+import CCDD.CcddConstants.InternalTable.LinksColumn;
+import CCDD.CcddConstants.InternalTable.ValuesColumn;
+import CCDD.CcddConstants.TableMemberType;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary project snapshot handler class. The snapshot
+ * is an in-memory copy of the project information that is read by the table
+ * tree, link, variable conversion, data field, and group handlers: the table
+ * members, data table comments, table descriptions, and the contents of the
+ * data field, group, link, and custom values internal tables. Each item is
+ * loaded from the database the first time it's requested and is then reused
+ * until a database change invalidates it. The stored items are shared with
+ * the callers as read-only lists and arrays, so no copies are made when an
+ * item is requested; a caller that alters the contents must make its own
+ * copy. The database table command handler updates the affected items
+ * whenever it commits a change: the rows referring to the changed tables are
+ * replaced by those reloaded from the database, or the item is invalidated if
+ * the change can't be applied to it. Every change increments the snapshot's
+ * revision number. An item loaded while a change is being committed is
+ * discarded instead of stored by comparing the revision number at the start
+ * of the load to the current one
+ *****************************************************************************/
+public class CcddProjectSnapshotHandler
+{
+    // Internal tables that are stored in the snapshot
+    private static final InternalTable[] SNAPSHOT_TABLES = new InternalTable[] {InternalTable.FIELDS,
+                                                                                 InternalTable.GROUPS,
+                                                                                 InternalTable.LINKS,
+                                                                                 InternalTable.VALUES};
+
+    // Table members, stored by member type and sort order
+    private final Map<String, List<TableMembers>> tableMembers;
+
+    // Data table comments, each divided into its component parts
+    private String[][] tableComments;
+
+    // Table paths and descriptions for those tables with descriptions
+    private String[][] tableDescriptions;
+
+    // Internal table contents, stored by internal table type
+    private final Map<InternalTable, List<String[]>> internalTables;
+
+    // Data field definitions from the fields internal table, stored by owner
+    // name (in lower case). This is built from the stored fields table
+    // contents the first time an owner's fields are requested
+    private Map<String, List<String[]>> fieldsByOwner;
+
+    // Custom values from the custom values internal table, stored by column
+    // name. This is built from the stored custom values table contents the
+    // first time a column's values are requested
+    private Map<String, List<String[]>> valuesByColumn;
+
+    // Snapshot revision number. This is incremented each time the snapshot
+    // (or part of it) is invalidated
+    private long revision;
+
+    /**************************************************************************
+     * Project snapshot handler class constructor
+     *************************************************************************/
+    CcddProjectSnapshotHandler()
+    {
+        tableMembers = new HashMap<String, List<TableMembers>>();
+        internalTables = new HashMap<InternalTable, List<String[]>>();
+        revision = 0;
+    }
+
+    /**************************************************************************
+     * Get the snapshot revision number. This is incremented each time a
+     * database change invalidates any part of the snapshot
+     *
+     * @return Snapshot revision number
+     *************************************************************************/
+    protected synchronized long getRevision()
+    {
+        return revision;
+    }
+
+    /**************************************************************************
+     * Check if the specified internal table's contents are stored in the
+     * snapshot
+     *
+     * @param intTable
+     *            internal table type
+     *
+     * @return true if the internal table's contents are stored in the
+     *         snapshot
+     *************************************************************************/
+    protected static boolean isSnapshotTable(InternalTable intTable)
+    {
+        boolean isSnapshot = false;
+
+        // Step through each internal table stored in the snapshot
+        for (InternalTable snapshotTable : SNAPSHOT_TABLES)
+        {
+            // Check if the table matches the specified one
+            if (snapshotTable == intTable)
+            {
+                // Set the flag to indicate the table is stored and stop
+                // searching
+                isSnapshot = true;
+                break;
+            }
+        }
+
+        return isSnapshot;
+    }
+
+    /**************************************************************************
+     * Build the key used to store the table members for the specified member
+     * type and sort order
+     *
+     * @param memberType
+     *            type of table members
+     *
+     * @param sortByName
+     *            true if the members are sorted by variable name; false if
+     *            sorted by row index
+     *
+     * @return Table members storage key
+     *************************************************************************/
+    private String getMembersKey(TableMemberType memberType, boolean sortByName)
+    {
+        return memberType.toString() + "," + sortByName;
+    }
+
+    /**************************************************************************
+     * Get the table members for the specified member type and sort order
+     *
+     * @param memberType
+     *            type of table members: TABLES_ONLY or INCLUDE_PRIMITIVES
+     *
+     * @param sortByName
+     *            true if the members are sorted by variable name; false if
+     *            sorted by row index
+     *
+     * @return Read-only list of table members; null if the members aren't
+     *         stored in the snapshot
+     *************************************************************************/
+    protected synchronized List<TableMembers> getTableMembers(TableMemberType memberType,
+                                                              boolean sortByName)
+    {
+        return tableMembers.get(getMembersKey(memberType, sortByName));
+    }
+
+    /**************************************************************************
+     * Store the table members for the specified member type and sort order
+     *
+     * @param memberType
+     *            type of table members: TABLES_ONLY or INCLUDE_PRIMITIVES
+     *
+     * @param sortByName
+     *            true if the members are sorted by variable name; false if
+     *            sorted by row index
+     *
+     * @param members
+     *            list of table members. The snapshot takes ownership of the
+     *            list; it must not be altered after it's stored
+     *
+     * @param loadRevision
+     *            snapshot revision number at the time the members were loaded
+     *            from the database
+     *************************************************************************/
+    protected synchronized void setTableMembers(TableMemberType memberType,
+                                                boolean sortByName,
+                                                List<TableMembers> members,
+                                                long loadRevision)
+    {
+        // Check that the snapshot hasn't changed since the members were loaded
+        if (loadRevision == revision)
+        {
+            tableMembers.put(getMembersKey(memberType, sortByName),
+                             Collections.unmodifiableList(members));
+        }
+    }
+
+    /**************************************************************************
+     * Get the data table comments
+     *
+     * @return Array of data table comments; null if the comments aren't
+     *         stored in the snapshot. The array is shared and must not be
+     *         altered
+     *************************************************************************/
+    protected synchronized String[][] getTableComments()
+    {
+        return tableComments;
+    }
+
+    /**************************************************************************
+     * Store the data table comments
+     *
+     * @param comments
+     *            array of data table comments. The snapshot takes ownership
+     *            of the array; it must not be altered after it's stored
+     *
+     * @param loadRevision
+     *            snapshot revision number at the time the comments were loaded
+     *            from the database
+     *************************************************************************/
+    protected synchronized void setTableComments(String[][] comments,
+                                                 long loadRevision)
+    {
+        // Check that the snapshot hasn't changed since the comments were
+        // loaded
+        if (loadRevision == revision)
+        {
+            tableComments = comments;
+        }
+    }
+
+    /**************************************************************************
+     * Get the table descriptions
+     *
+     * @return Array of table paths and descriptions; null if the
+     *         descriptions aren't stored in the snapshot. The array is shared
+     *         and must not be altered
+     *************************************************************************/
+    protected synchronized String[][] getTableDescriptions()
+    {
+        return tableDescriptions;
+    }
+
+    /**************************************************************************
+     * Store the table descriptions
+     *
+     * @param descriptions
+     *            array of table paths and descriptions. The snapshot takes
+     *            ownership of the array; it must not be altered after it's
+     *            stored
+     *
+     * @param loadRevision
+     *            snapshot revision number at the time the descriptions were
+     *            loaded from the database
+     *************************************************************************/
+    protected synchronized void setTableDescriptions(String[][] descriptions,
+                                                     long loadRevision)
+    {
+        // Check that the snapshot hasn't changed since the descriptions were
+        // loaded
+        if (loadRevision == revision)
+        {
+            tableDescriptions = descriptions;
+        }
+    }
+
+    /**************************************************************************
+     * Get the contents of the specified internal table
+     *
+     * @param intTable
+     *            internal table type
+     *
+     * @return Read-only list of the internal table's contents; null if the
+     *         table's contents aren't stored in the snapshot. The rows are
+     *         shared and must not be altered
+     *************************************************************************/
+    protected synchronized List<String[]> getInformationTable(InternalTable intTable)
+    {
+        return internalTables.get(intTable);
+    }
+
+    /**************************************************************************
+     * Store the contents of the specified internal table
+     *
+     * @param intTable
+     *            internal table type
+     *
+     * @param tableData
+     *            internal table contents. The snapshot takes ownership of the
+     *            list and its rows; these must not be altered after they're
+     *            stored
+     *
+     * @param loadRevision
+     *            snapshot revision number at the time the table was loaded
+     *            from the database
+     *************************************************************************/
+    protected synchronized void setInformationTable(InternalTable intTable,
+                                                    List<String[]> tableData,
+                                                    long loadRevision)
+    {
+        // Check that the table is one stored in the snapshot and that the
+        // snapshot hasn't changed since the table was loaded
+        if (isSnapshotTable(intTable) && loadRevision == revision)
+        {
+            internalTables.put(intTable,
+                               Collections.unmodifiableList(tableData));
+
+            // Discard the indices built from the table so that these are
+            // rebuilt from the updated table contents
+            discardIndices(intTable);
+        }
+    }
+
+    /**************************************************************************
+     * Replace the contents of the specified internal table with those just
+     * committed to the database. This is used in place of invalidating the
+     * table when the entire table is stored
+     *
+     * @param intTable
+     *            internal table type
+     *
+     * @param tableData
+     *            internal table contents as committed to the database. The
+     *            rows are copied, so the caller may continue to alter these
+     *************************************************************************/
+    protected synchronized void replaceInformationTable(InternalTable intTable,
+                                                        List<String[]> tableData)
+    {
+        // Check if the table is one stored in the snapshot
+        if (isSnapshotTable(intTable))
+        {
+            List<String[]> rows = new ArrayList<String[]>(tableData.size());
+
+            // Step through each row of the table
+            for (String[] row : tableData)
+            {
+                // Store a copy of the row so that the caller's changes don't
+                // alter the snapshot
+                String[] rowCopy = Arrays.copyOf(row, intTable.getNumColumns());
+
+                // Step through each column in the row
+                for (int column = 0; column < rowCopy.length; column++)
+                {
+                    // Check if the value is null
+                    if (rowCopy[column] == null)
+                    {
+                        // Replace the null with a blank, as when the table
+                        // is loaded from the database
+                        rowCopy[column] = "";
+                    }
+                }
+
+                rows.add(rowCopy);
+            }
+
+            internalTables.put(intTable, Collections.unmodifiableList(rows));
+            discardIndices(intTable);
+        }
+
+        revision++;
+    }
+
+    /**************************************************************************
+     * Update the stored items affected by a change to the specified data
+     * tables. In each of the specified internal tables the rows that refer to
+     * one of the tables are replaced by the reloaded rows. The table
+     * descriptions are updated from the reloaded custom values rows, and the
+     * table members are invalidated if specified. An internal table is
+     * invalidated instead if no reloaded rows are provided for it or if the
+     * snapshot changed since the rows were reloaded
+     *
+     * @param tableNames
+     *            array of the changed tables' names (prototype names or table
+     *            paths)
+     *
+     * @param reloadedRows
+     *            map containing the rows reloaded from the database that refer
+     *            to the changed tables, stored by internal table type; the
+     *            rows for an internal table are null if they weren't reloaded
+     *
+     * @param invalidateMembers
+     *            true to invalidate the table members
+     *
+     * @param loadRevision
+     *            snapshot revision number at the time the rows were reloaded
+     *            from the database
+     *************************************************************************/
+    protected synchronized void patchTableReferences(String[] tableNames,
+                                                     Map<InternalTable, List<String[]>> reloadedRows,
+                                                     boolean invalidateMembers,
+                                                     long loadRevision)
+    {
+        // Step through each internal table to update
+        for (Map.Entry<InternalTable, List<String[]>> entry : reloadedRows.entrySet())
+        {
+            InternalTable intTable = entry.getKey();
+            List<String[]> tableData = internalTables.get(intTable);
+
+            // Check if the table is stored, the rows were reloaded, and the
+            // snapshot hasn't changed since the rows were reloaded
+            if (tableData != null
+                && entry.getValue() != null
+                && loadRevision == revision)
+            {
+                // Get the index of the column containing the table references
+                int pathColumn = getReferenceColumn(intTable);
+                List<String[]> rows = new ArrayList<String[]>(tableData.size()
+                                                              + entry.getValue().size());
+
+                // Step through each stored row
+                for (String[] row : tableData)
+                {
+                    // Check if the row doesn't refer to a changed table
+                    if (!isTableReference(row[pathColumn], tableNames))
+                    {
+                        // Keep the row
+                        rows.add(row);
+                    }
+                }
+
+                // Add the reloaded rows in place of those removed
+                rows.addAll(entry.getValue());
+                internalTables.put(intTable, Collections.unmodifiableList(rows));
+
+                // Check if this is the custom values table and the
+                // descriptions are stored
+                if (intTable == InternalTable.VALUES && tableDescriptions != null)
+                {
+                    // Update the descriptions from the reloaded rows
+                    patchTableDescriptions(tableNames, entry.getValue());
+                }
+            }
+            // The table can't be updated
+            else
+            {
+                // Remove the table's contents from the snapshot
+                internalTables.remove(intTable);
+
+                // Check if this is the custom values table
+                if (intTable == InternalTable.VALUES)
+                {
+                    tableDescriptions = null;
+                }
+            }
+
+            discardIndices(intTable);
+        }
+
+        // Check if the table members are affected by the change
+        if (invalidateMembers)
+        {
+            tableMembers.clear();
+        }
+
+        revision++;
+    }
+
+    /**************************************************************************
+     * Replace the descriptions of the tables that refer to the changed tables
+     * with those in the reloaded custom values rows
+     *
+     * @param tableNames
+     *            array of the changed tables' names
+     *
+     * @param reloadedValues
+     *            custom values rows reloaded from the database that refer to
+     *            the changed tables
+     *************************************************************************/
+    private void patchTableDescriptions(String[] tableNames,
+                                        List<String[]> reloadedValues)
+    {
+        List<String[]> descriptions = new ArrayList<String[]>();
+
+        // Step through each stored description
+        for (String[] description : tableDescriptions)
+        {
+            // Check if the description's table isn't a changed table
+            if (!isTableReference(description[0], tableNames))
+            {
+                // Keep the description
+                descriptions.add(description);
+            }
+        }
+
+        // Step through each reloaded custom values row
+        for (String[] row : reloadedValues)
+        {
+            // Check if the row contains a table description
+            if (row[ValuesColumn.COLUMN_NAME.ordinal()].isEmpty()
+                && !row[ValuesColumn.VALUE.ordinal()].isEmpty())
+            {
+                // Add the table path and description
+                descriptions.add(new String[] {row[ValuesColumn.TABLE_PATH.ordinal()],
+                                               row[ValuesColumn.VALUE.ordinal()]});
+            }
+        }
+
+        // Sort the descriptions by table path to match the order in which
+        // they're loaded
+        Collections.sort(descriptions, new Comparator<String[]>()
+        {
+            @Override
+            public int compare(String[] desc1, String[] desc2)
+            {
+                return desc1[0].compareTo(desc2[0]);
+            }
+        });
+
+        tableDescriptions = descriptions.toArray(new String[0][0]);
+    }
+
+    /**************************************************************************
+     * Get the index of the column in the specified internal table that
+     * contains the references to data tables
+     *
+     * @param intTable
+     *            internal table type: FIELDS, GROUPS, LINKS, or VALUES
+     *
+     * @return Index of the column containing the table references
+     *************************************************************************/
+    protected static int getReferenceColumn(InternalTable intTable)
+    {
+        int column;
+
+        switch (intTable)
+        {
+            case FIELDS:
+                // Data fields refer to the table by the owner name
+                column = FieldsColumn.OWNER_NAME.ordinal();
+                break;
+
+            case GROUPS:
+                // Groups refer to the table by the member name
+                column = GroupsColumn.MEMBERS.ordinal();
+                break;
+
+            case LINKS:
+                // Links refer to the table by the member variable path
+                column = LinksColumn.MEMBER.ordinal();
+                break;
+
+            default:
+                // Custom values refer to the table by the table path
+                column = ValuesColumn.TABLE_PATH.ordinal();
+                break;
+        }
+
+        return column;
+    }
+
+    /**************************************************************************
+     * Check if a table path or variable path refers to any of the specified
+     * tables. The path refers to a table if the path is the table's name, if
+     * the table is the path's root table, or if the table is the prototype of
+     * one of the path's variables
+     *
+     * @param path
+     *            table path or variable path
+     *
+     * @param tableNames
+     *            array of table names (prototype names or table paths)
+     *
+     * @return true if the path refers to one of the tables
+     *************************************************************************/
+    private static boolean isTableReference(String path, String[] tableNames)
+    {
+        boolean isReference = false;
+
+        // Step through each table name
+        for (String tableName : tableNames)
+        {
+            // Check if the path refers to the table
+            if (path.equals(tableName)
+                || path.startsWith(tableName + ",")
+                || path.contains("," + tableName + "."))
+            {
+                // Set the flag to indicate a reference and stop searching
+                isReference = true;
+                break;
+            }
+        }
+
+        return isReference;
+    }
+
+    /**************************************************************************
+     * Get the data field definitions belonging to the specified owner
+     *
+     * @param ownerName
+     *            name of the data field owner (table path, table type, or
+     *            group); case insensitive
+     *
+     * @return Read-only list of the owner's data field definitions (an empty
+     *         list if the owner has no data fields); null if the data fields
+     *         table's contents aren't stored in the snapshot. The rows are
+     *         shared and must not be altered
+     *************************************************************************/
+    protected synchronized List<String[]> getFieldDefinitions(String ownerName)
+    {
+        List<String[]> ownerFields = null;
+
+        // Get the data fields table contents
+        List<String[]> fields = internalTables.get(InternalTable.FIELDS);
+
+        // Check if the data fields table's contents are stored
+        if (fields != null)
+        {
+            // Check if the owner index needs to be built
+            if (fieldsByOwner == null)
+            {
+                fieldsByOwner = new HashMap<String, List<String[]>>();
+
+                // Step through each data field definition
+                for (String[] field : fields)
+                {
+                    // Get the list of fields for this field's owner
+                    String owner = field[FieldsColumn.OWNER_NAME.ordinal()].toLowerCase();
+                    List<String[]> fieldList = fieldsByOwner.get(owner);
+
+                    // Check if this is the first field for this owner
+                    if (fieldList == null)
+                    {
+                        // Create a list for the owner's fields
+                        fieldList = new ArrayList<String[]>();
+                        fieldsByOwner.put(owner, fieldList);
+                    }
+
+                    fieldList.add(field);
+                }
+            }
+
+            // Get the owner's fields
+            ownerFields = fieldsByOwner.get(ownerName.toLowerCase());
+
+            // Check if the owner has no fields
+            if (ownerFields == null)
+            {
+                ownerFields = Collections.emptyList();
+            }
+            // The owner has fields
+            else
+            {
+                ownerFields = Collections.unmodifiableList(ownerFields);
+            }
+        }
+
+        return ownerFields;
+    }
+
+    /**************************************************************************
+     * Get the rows from the custom values table for the specified column name
+     *
+     * @param columnName
+     *            name to match in the custom values table 'column name' column
+     *
+     * @return Read-only list of the custom values table rows with the
+     *         specified column name (an empty list if there are no matching
+     *         rows); null if the custom values table's contents aren't stored
+     *         in the snapshot. The rows are shared and must not be altered
+     *************************************************************************/
+    protected synchronized List<String[]> getCustomValues(String columnName)
+    {
+        List<String[]> columnValues = null;
+
+        // Get the custom values table contents
+        List<String[]> values = internalTables.get(InternalTable.VALUES);
+
+        // Check if the custom values table's contents are stored
+        if (values != null)
+        {
+            // Check if the column name index needs to be built
+            if (valuesByColumn == null)
+            {
+                valuesByColumn = new HashMap<String, List<String[]>>();
+
+                // Step through each custom value
+                for (String[] value : values)
+                {
+                    // Get the list of values for this value's column name
+                    String column = value[ValuesColumn.COLUMN_NAME.ordinal()];
+                    List<String[]> valueList = valuesByColumn.get(column);
+
+                    // Check if this is the first value for this column name
+                    if (valueList == null)
+                    {
+                        // Create a list for the column name's values
+                        valueList = new ArrayList<String[]>();
+                        valuesByColumn.put(column, valueList);
+                    }
+
+                    valueList.add(value);
+                }
+            }
+
+            // Get the column name's values
+            columnValues = valuesByColumn.get(columnName);
+
+            // Check if the column name has no values
+            if (columnValues == null)
+            {
+                columnValues = Collections.emptyList();
+            }
+            // The column name has values
+            else
+            {
+                columnValues = Collections.unmodifiableList(columnValues);
+            }
+        }
+
+        return columnValues;
+    }
+
+    /**************************************************************************
+     * Discard the indices built from the specified internal table's contents
+     *
+     * @param intTable
+     *            internal table type
+     *************************************************************************/
+    private void discardIndices(InternalTable intTable)
+    {
+        // Check if this is the data fields table
+        if (intTable == InternalTable.FIELDS)
+        {
+            fieldsByOwner = null;
+        }
+        // Check if this is the custom values table
+        else if (intTable == InternalTable.VALUES)
+        {
+            valuesByColumn = null;
+        }
+    }
+
+    /**************************************************************************
+     * Invalidate the contents of the specified internal table. The table
+     * descriptions are also invalidated if the custom values table is
+     * specified since the descriptions are stored in it. The entire snapshot
+     * is invalidated if the table type, data type, or macro definitions are
+     * specified since the stored items depend on these. Changes to any other
+     * internal table only increment the revision number
+     *
+     * @param intTable
+     *            internal table type
+     *************************************************************************/
+    protected synchronized void invalidateInformationTable(InternalTable intTable)
+    {
+        switch (intTable)
+        {
+            case FIELDS:
+            case GROUPS:
+            case LINKS:
+            case VALUES:
+                // Remove the table's contents from the snapshot
+                internalTables.remove(intTable);
+                discardIndices(intTable);
+
+                // Check if this is the custom values table
+                if (intTable == InternalTable.VALUES)
+                {
+                    tableDescriptions = null;
+                }
+
+                revision++;
+                break;
+
+            case TABLE_TYPES:
+            case DATA_TYPES:
+            case MACROS:
+                // Invalidate the entire snapshot
+                invalidate();
+                break;
+
+            default:
+                // The table isn't stored in the snapshot, but its change is
+                // reflected in the revision number
+                revision++;
+                break;
+        }
+    }
+
+    /**************************************************************************
+     * Invalidate the entire snapshot
+     *************************************************************************/
+    protected synchronized void invalidate()
+    {
+        tableMembers.clear();
+        tableComments = null;
+        tableDescriptions = null;
+        internalTables.clear();
+        fieldsByOwner = null;
+        valuesByColumn = null;
+        revision++;
+    }
+}
@@ -61,6 +61,7 @@ public class CcddScriptDataAccessHandler
 {
     // Class references
     private final CcddMain ccddMain;
+    private final CcddDbCommandHandler dbCommand;
     private final CcddDbTableCommandHandler dbTable;
     private final CcddDbControlHandler dbControl;
     private final CcddTableTypeHandler tableTypeHandler;
@@ -140,6 +141,7 @@ public class CcddScriptDataAccessHandler
         this.scriptFileName = scriptFileName;
         this.groupNames = groupNames;
         this.parent = scriptDialog;
+        dbCommand = ccddMain.getDbCommandHandler();
         dbTable = ccddMain.getDbTableCommandHandler();
         dbControl = ccddMain.getDbControlHandler();
         tableTypeHandler = ccddMain.getTableTypeHandler();
@@ -707,7 +709,7 @@ public class CcddScriptDataAccessHandler
             }
         }
         // Check if the data type matches a table name (i.e., it's a structure)
-        else if (dbTable.isTableExists(dataType, ccddMain.getMainFrame()))
+        else if (isTableExists(dataType))
         {
             // Use the supplied data type, unmodified, as the encoded type
             encodedType = dataType;
@@ -716,6 +718,32 @@ public class CcddScriptDataAccessHandler
         return encodedType;
     }
 
+    /**************************************************************************
+     * Check if a table with the specified name exists in the database. The
+     * query uses a read-only database connection
+     *
+     * @param tableName
+     *            table name
+     *
+     * @return true if the table exists
+     *************************************************************************/
+    private boolean isTableExists(String tableName)
+    {
+        // Obtain a read-only database connection so that the query doesn't
+        // wait on those made by other threads or on database changes
+        dbCommand.acquireReadOnlyConnection(parent);
+
+        try
+        {
+            return dbTable.isTableExists(tableName, ccddMain.getMainFrame());
+        }
+        finally
+        {
+            // Release the read-only database connection
+            dbCommand.releaseReadOnlyConnection();
+        }
+    }
+
     /**************************************************************************
      * Get the ITOS limit name based on the supplied index value
      *
@@ -4333,8 +4361,21 @@ public class CcddScriptDataAccessHandler
      *************************************************************************/
     public String getTableDescription(String tableName)
     {
-        // Get the description for the table
-        return dbTable.queryTableDescription(tableName, ccddMain.getMainFrame());
+        // Obtain a read-only database connection so that the query doesn't
+        // wait on those made by other threads or on database changes
+        dbCommand.acquireReadOnlyConnection(parent);
+
+        try
+        {
+            // Get the description for the table
+            return dbTable.queryTableDescription(tableName,
+                                                 ccddMain.getMainFrame());
+        }
+        finally
+        {
+            // Release the read-only database connection
+            dbCommand.releaseReadOnlyConnection();
+        }
     }
 
     /**************************************************************************
@@ -4357,8 +4398,7 @@ public class CcddScriptDataAccessHandler
     public String getTableDescriptionByRow(String tableType, int row)
     {
         // Get the description for the table
-        return dbTable.queryTableDescription(getPathByRow(tableType, row),
-                                             ccddMain.getMainFrame());
+        return getTableDescription(getPathByRow(tableType, row));
     }
 
     /**************************************************************************
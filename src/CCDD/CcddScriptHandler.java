@@ -1598,7 +1598,11 @@ public class CcddScriptHandler
                     scriptBindings.put("ccdds", staticHandler);
                     scriptEngine.setBindings(scriptBindings, ScriptContext.ENGINE_SCOPE);
 
-                    // Execute the script
+                    // Execute the script. The script data access handler
+                    // obtains a read-only database connection for each of its
+                    // read-only queries. Database statements supplied by the
+                    // script can alter the database, so these use the primary
+                    // connection
                     scriptEngine.eval(new FileReader(scriptFileName));
                 }
                 catch (FileNotFoundException fnfe)
@@ -27,7 +27,6 @@ import java.util.regex.Pattern;
 import javax.swing.JOptionPane;
 
 import CCDD.CcddClasses.ArrayVariable;
-import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.DefaultColumn;
 import CCDD.CcddConstants.DialogOption;
 import CCDD.CcddConstants.EventColumns;
@@ -56,7 +55,7 @@ import CCDD.CcddTableTypeHandler.TypeDefinition;
 public class CcddSearchHandler extends CcddDialogHandler
 {
     // Class references
-    private final CcddDbCommandHandler dbCommand;
+    private final CcddSearchIndexHandler searchIndexHandler;
     private final CcddTableTypeHandler tableTypeHandler;
     private final CcddEventLogDialog eventLog;
 
@@ -88,7 +87,7 @@ public class CcddSearchHandler extends CcddDialogHandler
         this.eventLog = eventLog;
 
         // Create references to shorten subsequent calls
-        dbCommand = ccddMain.getDbCommandHandler();
+        searchIndexHandler = ccddMain.getSearchIndexHandler();
         tableTypeHandler = ccddMain.getTableTypeHandler();
     }
 
@@ -149,18 +148,12 @@ public class CcddSearchHandler extends CcddDialogHandler
                                                                     : SearchType.SCRIPT.toString();
 
         // Search the database for the text
-        String[] hits = dbCommand.getList(DatabaseListCommand.SEARCH,
-                                          new String[][] { {"_search_text_",
-                                                            searchText},
-                                                          {"_case_insensitive_",
-                                                           String.valueOf(ignoreCase)},
-                                                          {"_allow_regex_",
-                                                           String.valueOf(allowRegex)},
-                                                          {"_selected_tables_",
-                                                           searchType},
-                                                          {"_columns_",
-                                                           searchColumns}},
-                                          CcddSearchHandler.this);
+        String[] hits = searchIndexHandler.searchTables(searchText,
+                                                        ignoreCase,
+                                                        allowRegex,
+                                                        searchType,
+                                                        searchColumns,
+                                                        CcddSearchHandler.this);
 
         // Step through each table/column containing the search text
         for (String hit : hits)
@@ -0,0 +1,309 @@
+/**
+ * CFS Command & Data Dictionary search index handler.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator
+ * of the National Aeronautics and Space Administration. No copyright is
+ * claimed in the United States under Title 17, U.S. Code. All Other Rights
+ * Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.SEARCH_INDEX;
+import static CCDD.CcddConstants.EventLogMessageType.STATUS_MSG;
+
+import java.awt.Component;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import CCDD.CcddBackgroundCommand.BackgroundCommand;
+import CCDD.CcddConstants.DatabaseListCommand;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary search index handler class. The search
+ * indices are trigram indices on the columns read by the table, macro, and
+ * data type searches: the text columns of the project's data tables and the
+ * value column of the custom values table (these require that the pg_trgm
+ * extension is installed in the database). The table search function
+ * compares the search text to each column of the selected tables; the
+ * indices allow these comparisons to locate the matching rows without
+ * scanning the tables. Since the database server maintains the indices as
+ * the tables are modified, searches always reflect the current database
+ * contents, including changes made by other users. The indices slow table
+ * updates, so the search index is disabled by default. When the user enables
+ * it the indices are created for the existing tables of the open project,
+ * and thereafter for new tables when these are created; disabling it removes
+ * the indices. Searches scan the tables when no indices exist
+ *****************************************************************************/
+public class CcddSearchIndexHandler
+{
+    // Class references
+    private final CcddMain ccddMain;
+    private final CcddDbCommandHandler dbCommand;
+
+    /**************************************************************************
+     * Search index handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *************************************************************************/
+    CcddSearchIndexHandler(CcddMain ccddMain)
+    {
+        this.ccddMain = ccddMain;
+        dbCommand = ccddMain.getDbCommandHandler();
+    }
+
+    /**************************************************************************
+     * Check if the search index is enabled
+     *
+     * @return true if the search index is enabled
+     *************************************************************************/
+    protected boolean isIndexEnabled()
+    {
+        return ccddMain.getProgPrefs().getBoolean(SEARCH_INDEX, false);
+    }
+
+    /**************************************************************************
+     * Enable or disable the search index. The indices are created for (or
+     * removed from) the tables in the open project database in a background
+     * thread
+     *
+     * @param enable
+     *            true to enable the search index and create the indices;
+     *            false to disable the search index and remove the indices
+     *
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    protected void setIndexEnabled(final boolean enable, final Component parent)
+    {
+        // Store the search index preference
+        ccddMain.getProgPrefs().putBoolean(SEARCH_INDEX, enable);
+
+        // Check if a project database is open
+        if (ccddMain.getDbControlHandler().isDatabaseConnected())
+        {
+            // Execute the command in the background
+            CcddBackgroundCommand.executeInBackground(ccddMain, new BackgroundCommand()
+            {
+                /**************************************************************
+                 * Create or remove the search indices
+                 *************************************************************/
+                @Override
+                protected void execute()
+                {
+                    // Check if the search index is enabled
+                    if (enable)
+                    {
+                        // Create the search indices
+                        createIndices(parent);
+                    }
+                    // The search index is disabled
+                    else
+                    {
+                        // Remove the search indices
+                        dropIndices(parent);
+                    }
+                }
+            });
+        }
+    }
+
+    /**************************************************************************
+     * Search the project database tables for the specified text
+     *
+     * @param searchText
+     *            text string to search for in the database
+     *
+     * @param ignoreCase
+     *            true to ignore case when looking for matching text
+     *
+     * @param allowRegex
+     *            true to allow a regular expression search string
+     *
+     * @param searchType
+     *            SearchType (ALL, PROTO, DATA, or SCRIPT) as a string
+     *
+     * @param searchColumns
+     *            string containing the names of columns, separated by commas,
+     *            to which to constrain a table search; blank to search all
+     *            columns
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return Array containing the matches. Each match contains the table
+     *         name, column name, table comment, and the contents of the row
+     *         containing the match, separated by TABLE_DESCRIPTION_SEPARATOR
+     *************************************************************************/
+    protected String[] searchTables(String searchText,
+                                    boolean ignoreCase,
+                                    boolean allowRegex,
+                                    String searchType,
+                                    String searchColumns,
+                                    Component parent)
+    {
+        // Obtain a read-only database connection so that the search doesn't
+        // wait on database changes
+        dbCommand.acquireReadOnlyConnection(parent);
+
+        try
+        {
+            // Search the database for the text
+            return dbCommand.getList(DatabaseListCommand.SEARCH,
+                                     new String[][] { {"_search_text_",
+                                                       searchText},
+                                                     {"_case_insensitive_",
+                                                      String.valueOf(ignoreCase)},
+                                                     {"_allow_regex_",
+                                                      String.valueOf(allowRegex)},
+                                                     {"_selected_tables_",
+                                                      searchType},
+                                                     {"_columns_",
+                                                      searchColumns}},
+                                     parent);
+        }
+        finally
+        {
+            // Release the read-only database connection
+            dbCommand.releaseReadOnlyConnection();
+        }
+    }
+
+    /**************************************************************************
+     * Create the search indices for every table in the project database that
+     * doesn't already have them, if the search index is enabled. The indices
+     * persist in the database, so only those for tables created or altered
+     * while the search index was disabled (or by other means, e.g., an
+     * earlier version of the application) are created
+     *
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    protected void createIndices(Component parent)
+    {
+        // Check if the search index is enabled
+        if (isIndexEnabled())
+        {
+            try
+            {
+                long startTime = System.currentTimeMillis();
+
+                // Create the search indices for any table that doesn't have
+                // them
+                ResultSet result = dbCommand.executeDbQuery("SELECT create_search_indices();",
+                                                            parent);
+                result.next();
+                int numCreated = result.getInt(1);
+                result.close();
+
+                // Check if any indices were created
+                if (numCreated != 0)
+                {
+                    // Log the number of indices created and the time needed
+                    // to create them
+                    ccddMain.getSessionEventLog().logEvent(STATUS_MSG,
+                                                           "Search indices created; "
+                                                                       + numCreated
+                                                                       + " indices in "
+                                                                       + (System.currentTimeMillis() - startTime)
+                                                                       + " msec");
+                }
+            }
+            catch (SQLException se)
+            {
+                // Inform the user that creating the search indices failed.
+                // Searches are performed without the indices
+                ccddMain.getSessionEventLog().logFailEvent(parent,
+                                                           "Cannot create search indices; cause '"
+                                                                   + se.getMessage()
+                                                                   + "'",
+                                                           "<html><b>Cannot create search indices");
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Remove the search indices from every table in the project database
+     *
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    protected void dropIndices(Component parent)
+    {
+        try
+        {
+            long startTime = System.currentTimeMillis();
+
+            // Remove the search indices
+            ResultSet result = dbCommand.executeDbQuery("SELECT drop_search_indices();",
+                                                        parent);
+            result.next();
+            int numDropped = result.getInt(1);
+            result.close();
+
+            // Log the number of indices removed and the time needed to remove
+            // them
+            ccddMain.getSessionEventLog().logEvent(STATUS_MSG,
+                                                   "Search indices removed; "
+                                                               + numDropped
+                                                               + " indices in "
+                                                               + (System.currentTimeMillis() - startTime)
+                                                               + " msec");
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that removing the search indices failed
+            ccddMain.getSessionEventLog().logFailEvent(parent,
+                                                       "Cannot remove search indices; cause '"
+                                                               + se.getMessage()
+                                                               + "'",
+                                                       "<html><b>Cannot remove search indices");
+        }
+    }
+
+    /**************************************************************************
+     * Build the command to create the search indices for the specified
+     * tables, if the search index is enabled. The command is included with
+     * the command that creates or alters the tables so that the indices are
+     * created in the same transaction
+     *
+     * @param tableNames
+     *            names of the tables for which to create the indices; no
+     *            names to create the indices for every table that doesn't
+     *            have them
+     *
+     * @return Command to create the search indices; blank if the search index
+     *         is disabled
+     *************************************************************************/
+    protected String buildCreateIndicesCommand(String... tableNames)
+    {
+        String command = "";
+
+        // Check if the search index is enabled
+        if (isIndexEnabled())
+        {
+            StringBuilder names = new StringBuilder();
+
+            // Step through each table name
+            for (String tableName : tableNames)
+            {
+                // Add the table name to the array of names
+                names.append(names.length() == 0
+                                                 ? "ARRAY['"
+                                                 : ", '")
+                     .append(tableName.toLowerCase())
+                     .append("'");
+            }
+
+            // Build the command to create the indices. The function is called
+            // within a code block since its result isn't used
+            command = "DO $$ BEGIN PERFORM create_search_indices("
+                      + (names.length() == 0
+                                             ? ""
+                                             : names.append("]").toString())
+                      + "); END $$; ";
+        }
+
+        return command;
+    }
+}
@@ -88,6 +88,7 @@ public class CcddTableManagerDialog extends CcddDialogHandler
     private JCheckBox useExistingFieldsCb;
     private JCheckBox singleFileCb;
     private JCheckBox backupFirstCb;
+    private JCheckBox bulkImportCb;
     private JCheckBox replaceMacrosCb;
     private JCheckBox includeReservedMsgIDsCb;
     private JCheckBox includeVariablePaths;
@@ -634,6 +635,7 @@ public class CcddTableManagerDialog extends CcddDialogHandler
                                                          replaceExistingTablesCb.isSelected(),
                                                          appendExistingFieldsCb.isSelected(),
                                                          useExistingFieldsCb.isSelected(),
+                                                         bulkImportCb.isSelected(),
                                                          CcddTableManagerDialog.this);
                             }
 
@@ -956,6 +958,20 @@ public class CcddTableManagerDialog extends CcddDialogHandler
         gbc.gridy++;
         dialogPnl.add(useExistingFieldsCb, gbc);
 
+        // Create a check box for indicating that the prototype tables should
+        // be loaded using the database's bulk copy operation
+        bulkImportCb = new JCheckBox("Bulk load new tables");
+        bulkImportCb.setFont(ModifiableFontInfo.LABEL_BOLD.getFont());
+        bulkImportCb.setBorder(emptyBorder);
+        bulkImportCb.setToolTipText(CcddUtilities.wrapText("Create the prototype tables and load their rows "
+                                                           + "using the database's bulk copy operation. This "
+                                                           + "is much faster when importing many tables, but "
+                                                           + "the imported cell values aren't validated",
+                                                           ModifiableSizeInfo.MAX_TOOL_TIP_LENGTH.getSize()));
+        gbc.insets.left = ModifiableSpacingInfo.LABEL_HORIZONTAL_SPACING.getSpacing() / 2;
+        gbc.gridy++;
+        dialogPnl.add(bulkImportCb, gbc);
+
         // Create a check box for indicating that the project should be backed
         // up prior to importing tables
         backupFirstCb = new JCheckBox("Backup project before importing");
@@ -0,0 +1,639 @@
+/**
+ * CFS Command & Data Dictionary table member graph.
+ *
+ * Copyright 2017 United States Government as represented by the Administrator
+ * of the National Aeronautics and Space Administration. No copyright is
+ * claimed in the United States under Title 17, U.S. Code. All Other Rights
+ * Reserved.
+ */
+package CCDD;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import CCDD.CcddClasses.TableMembers;
+import CCDD.CcddConstants.TableMemberType;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary table member graph class. The graph contains
+ * the members of every table, indexed by table name, along with the tables
+ * that reference each table. It's used to step through the structure
+ * instances and variables of a table (in the same order and with the same
+ * recursion checks and data rate filtering as the table tree) without
+ * creating tree nodes. Paths are built incrementally from the parent's path
+ *****************************************************************************/
+public class CcddTableMemberGraph
+{
+    // Class reference
+    private final CcddDataTypeHandler dataTypeHandler;
+
+    // Table members, in the order loaded from the database and stored by
+    // table name
+    private final List<TableMembers> tableMembers;
+    private final Map<String, TableMembers> memberMap;
+
+    // Names of the tables that reference each table (not including the table
+    // itself), stored by table name
+    private final Map<String, List<String>> referencingTables;
+
+    // Data rate used to filter the variables; null if the variables aren't
+    // filtered by rate
+    private String rateFilter;
+
+    // Index into the table member rate parameters
+    private int rateIndex;
+
+    // Rate values from the custom values table, stored by variable path, and
+    // the root table and variable paths of the structures containing these
+    // variables
+    private final Map<String, String> rateOverrides;
+    private final Set<String> rateOverridePaths;
+
+    // Flags indicating if a prototype structure contains a variable that
+    // passes the rate filter, stored by prototype name
+    private final Map<String, Boolean> hasVariablesCache;
+
+    /**************************************************************************
+     * Table member graph class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *
+     * @param tableMembers
+     *            list of table members
+     *************************************************************************/
+    CcddTableMemberGraph(CcddMain ccddMain, List<TableMembers> tableMembers)
+    {
+        dataTypeHandler = ccddMain.getDataTypeHandler();
+        this.tableMembers = tableMembers;
+        memberMap = new HashMap<String, TableMembers>();
+        referencingTables = new HashMap<String, List<String>>();
+        rateFilter = null;
+        rateIndex = 0;
+        rateOverrides = new HashMap<String, String>();
+        rateOverridePaths = new HashSet<String>();
+        hasVariablesCache = new HashMap<String, Boolean>();
+
+        // Step through each table
+        for (TableMembers member : tableMembers)
+        {
+            // Store the table's members by table name
+            memberMap.put(member.getTableName(), member);
+
+            // Step through each data type referenced by the table
+            for (String dataType : member.getDataTypes())
+            {
+                // Check that the data type isn't a primitive or a reference to
+                // the table itself
+                if (!dataTypeHandler.isPrimitive(dataType)
+                    && !dataType.equals(member.getTableName()))
+                {
+                    List<String> tables = referencingTables.get(dataType);
+
+                    // Check if this is the first reference to the data type
+                    if (tables == null)
+                    {
+                        tables = new ArrayList<String>();
+                        referencingTables.put(dataType, tables);
+                    }
+
+                    // Check if the table isn't already listed (a table can
+                    // reference the same structure more than once)
+                    if (tables.isEmpty()
+                        || !tables.get(tables.size() - 1).equals(member.getTableName()))
+                    {
+                        tables.add(member.getTableName());
+                    }
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Table member graph class constructor. Load the table members from the
+     * project database
+     *
+     * @param ccddMain
+     *            main class
+     *
+     * @param memberType
+     *            type of table members to load: TABLES_ONLY or
+     *            INCLUDE_PRIMITIVES
+     *
+     * @param sortByName
+     *            true to sort the members by variable name; false to keep the
+     *            order defined in the tables
+     *
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    CcddTableMemberGraph(CcddMain ccddMain,
+                         TableMemberType memberType,
+                         boolean sortByName,
+                         Component parent)
+    {
+        this(ccddMain,
+             getTableMembers(ccddMain, memberType, sortByName, parent));
+    }
+
+    /**************************************************************************
+     * Load the table members from the project database
+     *
+     * @param ccddMain
+     *            main class
+     *
+     * @param memberType
+     *            type of table members to load
+     *
+     * @param sortByName
+     *            true to sort the members by variable name
+     *
+     * @param parent
+     *            GUI component calling this method
+     *
+     * @return List of table members; an empty list if the members can't be
+     *         loaded
+     *************************************************************************/
+    private static List<TableMembers> getTableMembers(CcddMain ccddMain,
+                                                      TableMemberType memberType,
+                                                      boolean sortByName,
+                                                      Component parent)
+    {
+        List<TableMembers> members = ccddMain.getDbTableCommandHandler().loadTableMembers(memberType,
+                                                                                          sortByName,
+                                                                                          parent);
+        return members != null
+                               ? members
+                               : new ArrayList<TableMembers>();
+    }
+
+    /**************************************************************************
+     * Get the list of table members
+     *
+     * @return List of table members, in the order loaded from the database
+     *************************************************************************/
+    protected List<TableMembers> getTableMembers()
+    {
+        return tableMembers;
+    }
+
+    /**************************************************************************
+     * Get the members of the specified table
+     *
+     * @param tableName
+     *            table name
+     *
+     * @return Members of the specified table; null if the table doesn't exist
+     *************************************************************************/
+    protected TableMembers getMembers(String tableName)
+    {
+        return memberMap.get(tableName);
+    }
+
+    /**************************************************************************
+     * Check if the specified table is referenced by another table
+     *
+     * @param tableName
+     *            table name
+     *
+     * @param nameList
+     *            list of the table names to check for references; null to
+     *            check every table
+     *
+     * @return true if the table is referenced by another table in the list
+     *************************************************************************/
+    protected boolean isReferenced(String tableName, List<String> nameList)
+    {
+        boolean isReferenced = false;
+        List<String> tables = referencingTables.get(tableName);
+
+        // Check if any table references the specified one
+        if (tables != null)
+        {
+            // Check if all tables are checked
+            if (nameList == null)
+            {
+                isReferenced = true;
+            }
+            // Only the tables in the list are checked
+            else
+            {
+                // Step through each table that references the specified one
+                for (String table : tables)
+                {
+                    // Check if the table is in the list
+                    if (nameList.contains(table))
+                    {
+                        isReferenced = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return isReferenced;
+    }
+
+    /**************************************************************************
+     * Set the data rate filter applied to the variables
+     *
+     * @param rateFilter
+     *            data rate used to filter the variables; null if the
+     *            variables aren't filtered by rate
+     *
+     * @param rateIndex
+     *            index into the table member rate parameters for the rate
+     *            column used to filter the variables
+     *
+     * @param rateValues
+     *            list containing the table path, column name, and value from
+     *            the custom values table for each variable with a rate
+     *            specific to that variable; null if there are none
+     *************************************************************************/
+    protected void setRateFilter(String rateFilter,
+                                 int rateIndex,
+                                 List<String[]> rateValues)
+    {
+        this.rateFilter = rateFilter;
+        this.rateIndex = rateIndex;
+        rateOverrides.clear();
+        rateOverridePaths.clear();
+        hasVariablesCache.clear();
+
+        // Check if a rate filter is in effect and any variable-specific rates
+        // are provided
+        if (rateFilter != null && rateValues != null)
+        {
+            // Step through each rate value from the custom values table
+            for (String[] rateValue : rateValues)
+            {
+                // Check if this is the first rate value for this variable
+                if (!rateOverrides.containsKey(rateValue[0]))
+                {
+                    // Store the rate value by variable path
+                    rateOverrides.put(rateValue[0], rateValue[2]);
+
+                    // Store the path for each structure containing the
+                    // variable
+                    for (int index = rateValue[0].indexOf(","); index != -1; index = rateValue[0].indexOf(",",
+                                                                                                        index + 1))
+                    {
+                        rateOverridePaths.add(rateValue[0].substring(0, index));
+                    }
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Check if the specified variable's rate matches the rate filter
+     *
+     * @param member
+     *            table members for the variable's structure
+     *
+     * @param memIndex
+     *            index of the variable in the table members
+     *
+     * @param variablePath
+     *            root table and variable path for the variable's structure
+     *
+     * @return true if no rate filter is in effect or if the variable's rate
+     *         matches the filter
+     *************************************************************************/
+    protected boolean isRateMatch(TableMembers member,
+                                  int memIndex,
+                                  String variablePath)
+    {
+        boolean isMatch = true;
+
+        // Check if a rate filter is in effect
+        if (rateFilter != null)
+        {
+            String rate = null;
+
+            // Check if the variable has a path (i.e., this is not a
+            // prototype's variable)
+            if (variablePath.contains(","))
+            {
+                // Get the rate value specific to this variable, if any
+                rate = rateOverrides.get(variablePath
+                                         + ","
+                                         + member.getDataTypes().get(memIndex)
+                                         + "."
+                                         + member.getVariableNames().get(memIndex));
+            }
+
+            // Check if the variable doesn't have a specific rate assigned
+            if (rate == null)
+            {
+                // Use the prototype's rate
+                rate = member.getRates().get(memIndex)[rateIndex];
+            }
+
+            isMatch = rate.equals(rateFilter);
+        }
+
+        return isMatch;
+    }
+
+    /**************************************************************************
+     * Check if the specified node name is in the variable path. A structure
+     * in its own path is a recursive reference
+     *
+     * @param nodeName
+     *            node name, in the form dataType.variableName
+     *
+     * @param variablePath
+     *            root table and variable path
+     *
+     * @return true if the node name is in the path
+     *************************************************************************/
+    protected static boolean isInPath(String nodeName, String variablePath)
+    {
+        return ("," + variablePath + ",").contains("," + nodeName + ",");
+    }
+
+    /**************************************************************************
+     * Check if a structure contains a primitive variable that passes the rate
+     * filter. The result is stored by prototype structure unless a variable in
+     * the structure has an instance-specific rate
+     *
+     * @param member
+     *            table members for the structure
+     *
+     * @param variablePath
+     *            root table and variable path for the structure
+     *
+     * @return true if the structure contains a primitive variable that passes
+     *         the rate filter
+     *************************************************************************/
+    protected boolean hasVariables(TableMembers member, String variablePath)
+    {
+        Boolean hasVariables = null;
+
+        // The result depends only on the prototype if no rate filter is in
+        // effect, or if no variable in the structure has a specific rate
+        boolean isStored = rateFilter == null
+                           || !rateOverridePaths.contains(variablePath);
+
+        // Check if the result for this prototype is stored
+        if (isStored)
+        {
+            hasVariables = hasVariablesCache.get(member.getTableName());
+        }
+
+        // Check if the result needs to be determined
+        if (hasVariables == null)
+        {
+            hasVariables = false;
+
+            // Step through each table/variable referenced by the table member
+            for (int memIndex = 0; memIndex < member.getDataTypes().size(); memIndex++)
+            {
+                String dataType = member.getDataTypes().get(memIndex);
+
+                // Check if this is a primitive variable
+                if (dataTypeHandler.isPrimitive(dataType))
+                {
+                    // Check if the variable's rate matches the filter
+                    if (isRateMatch(member, memIndex, variablePath))
+                    {
+                        hasVariables = true;
+                        break;
+                    }
+                }
+                // The data type is a structure
+                else
+                {
+                    TableMembers childMember = memberMap.get(dataType);
+                    String nodeName = dataType
+                                      + "."
+                                      + member.getVariableNames().get(memIndex);
+
+                    // Check if the child structure exists, isn't a recursive
+                    // reference, and contains a variable
+                    if (childMember != null
+                        && !isInPath(nodeName, variablePath)
+                        && hasVariables(childMember, variablePath + "," + nodeName))
+                    {
+                        hasVariables = true;
+                        break;
+                    }
+                }
+            }
+
+            // Check if the result can be stored for the prototype
+            if (isStored)
+            {
+                hasVariablesCache.put(member.getTableName(), hasVariables);
+            }
+        }
+
+        return hasVariables;
+    }
+
+    /**************************************************************************
+     * Get the names of the child nodes for a structure and, for child
+     * structures, the structure's table members. Primitive variables that
+     * don't pass the rate filter, recursive references, and structures that
+     * contain no primitive variables are omitted
+     *
+     * @param member
+     *            table members for the structure
+     *
+     * @param variablePath
+     *            root table and variable path for the structure
+     *
+     * @param names
+     *            list to which to add the child node names. A primitive
+     *            variable name is in the form dataType.variableName[:bits]
+     *            and a structure name in the form dataType.variableName
+     *
+     * @param members
+     *            list to which to add the table members for each child; null
+     *            for a primitive variable
+     *************************************************************************/
+    protected void getChildren(TableMembers member,
+                               String variablePath,
+                               List<String> names,
+                               List<TableMembers> members)
+    {
+        // Step through each table/variable referenced by the table member
+        for (int memIndex = 0; memIndex < member.getDataTypes().size(); memIndex++)
+        {
+            String dataType = member.getDataTypes().get(memIndex);
+
+            // Check if this data type is a primitive
+            if (dataTypeHandler.isPrimitive(dataType))
+            {
+                // Check if the variable's rate matches the rate filter (if
+                // any)
+                if (isRateMatch(member, memIndex, variablePath))
+                {
+                    names.add(member.getFullVariableNameWithBits(memIndex));
+                    members.add(null);
+                }
+            }
+            // Data type is not a primitive, it's a structure
+            else
+            {
+                // Get the structure's members and build the node name
+                TableMembers childMember = memberMap.get(dataType);
+                String nodeName = dataType
+                                  + "."
+                                  + member.getVariableNames().get(memIndex);
+
+                // Check that the structure exists, that it isn't already in
+                // its own path, and that it contains a variable
+                if (childMember != null
+                    && !isInPath(nodeName, variablePath)
+                    && hasVariables(childMember, variablePath + "," + nodeName))
+                {
+                    names.add(nodeName);
+                    members.add(childMember);
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Get the paths for a root structure and every structure instance and
+     * primitive variable it contains, in the order these appear in the table
+     * tree
+     *
+     * @param member
+     *            table members for the root structure
+     *
+     * @return List containing the root structure name followed by the paths
+     *         to each structure and variable within it, in the form
+     *         rootTable[,dataType1.variable1[:bits][,...]]
+     *************************************************************************/
+    protected List<String> getVariablePaths(TableMembers member)
+    {
+        List<String> paths = new ArrayList<String>();
+        paths.add(member.getTableName());
+        addVariablePaths(member, member.getTableName(), paths);
+        return paths;
+    }
+
+    /**************************************************************************
+     * Add the paths for the structures and variables within a structure to
+     * the list. This is a recursive method
+     *
+     * @param member
+     *            table members for the structure
+     *
+     * @param variablePath
+     *            root table and variable path for the structure
+     *
+     * @param paths
+     *            list to which to add the paths
+     *************************************************************************/
+    private void addVariablePaths(TableMembers member,
+                                  String variablePath,
+                                  List<String> paths)
+    {
+        List<String> names = new ArrayList<String>();
+        List<TableMembers> members = new ArrayList<TableMembers>();
+        getChildren(member, variablePath, names, members);
+
+        // Step through each child
+        for (int index = 0; index < names.size(); index++)
+        {
+            String childPath = variablePath + "," + names.get(index);
+            paths.add(childPath);
+
+            // Check if the child is a structure
+            if (members.get(index) != null)
+            {
+                // Add the paths for the child structure's members
+                addVariablePaths(members.get(index), childPath, paths);
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Check a table and the structures it references for a recursive
+     * reference (a structure that references itself, either directly or via
+     * one of its child structures)
+     *
+     * @param member
+     *            table members for the table to check
+     *
+     * @return Name of the recursively referenced structure; null if there are
+     *         no recursive references
+     *************************************************************************/
+    protected String findRecursiveReference(TableMembers member)
+    {
+        return findRecursiveReference(member,
+                                      new HashSet<String>(),
+                                      new HashSet<String>());
+    }
+
+    /**************************************************************************
+     * Check a table and the structures it references for a recursive
+     * reference. This is a recursive method
+     *
+     * @param member
+     *            table members for the table to check
+     *
+     * @param pathTables
+     *            names of the structures in the current reference path
+     *
+     * @param checkedTables
+     *            names of the structures already found to have no recursive
+     *            references
+     *
+     * @return Name of the recursively referenced structure; null if there are
+     *         no recursive references
+     *************************************************************************/
+    private String findRecursiveReference(TableMembers member,
+                                          Set<String> pathTables,
+                                          Set<String> checkedTables)
+    {
+        String recursion = null;
+        pathTables.add(member.getTableName());
+
+        // Step through each data type referenced by the table
+        for (String dataType : member.getDataTypes())
+        {
+            // Check if the data type is a structure in the reference path
+            if (pathTables.contains(dataType))
+            {
+                recursion = dataType;
+                break;
+            }
+
+            TableMembers childMember = memberMap.get(dataType);
+
+            // Check if the data type is a structure that hasn't been checked
+            if (childMember != null && !checkedTables.contains(dataType))
+            {
+                recursion = findRecursiveReference(childMember,
+                                                   pathTables,
+                                                   checkedTables);
+
+                // Check if a recursive reference was found
+                if (recursion != null)
+                {
+                    break;
+                }
+            }
+        }
+
+        pathTables.remove(member.getTableName());
+
+        // Check if no recursive reference was found
+        if (recursion == null)
+        {
+            checkedTables.add(member.getTableName());
+        }
+
+        return recursion;
+    }
+}
@@ -33,8 +33,11 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.swing.BorderFactory;
 import javax.swing.JCheckBox;
@@ -55,7 +58,6 @@ import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 
-import CCDD.CcddClasses.ArrayListMultiple;
 import CCDD.CcddClasses.GroupInformation;
 import CCDD.CcddClasses.TableMembers;
 import CCDD.CcddClasses.ToolTipTreeNode;
@@ -135,9 +137,25 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     // filter check boxes for alignment purposes with an adjacent tree
     private final boolean addHiddenCheckBox;
 
-    // List containing variable paths from the custom values table that match
-    // the current rate column name and rate value
-    private ArrayListMultiple rateValues;
+    // Flag indicating if the child nodes of the structure nodes are created
+    // when first needed (i.e., when the node is expanded or the tree is
+    // searched) instead of when the tree is built. This applies to the
+    // structure instance trees that include primitive variables, which can
+    // have a very large number of nodes
+    private final boolean isLazy;
+
+    // Flag indicating if creating the child nodes of lazy nodes is suspended
+    // (e.g., while traversing only the existing nodes)
+    private boolean isLoadSuspended;
+
+    // Table members, indexed by table name, used to step through the
+    // structure instances and variables without searching the member list
+    private CcddTableMemberGraph memberGraph;
+
+    // Excluded and linked variable paths, used to determine the enable state
+    // of the variable and structure nodes
+    private Set<String> excludedVariableSet;
+    private Set<String> linkedVariableSet;
 
     /**************************************************************************
      * Table tree handler class constructor
@@ -226,6 +244,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         dataTypeHandler = ccddMain.getDataTypeHandler();
         dbTable = ccddMain.getDbTableCommandHandler();
         dbControl = ccddMain.getDbControlHandler();
+        isLazy = treeType == INSTANCE_STRUCTURES_WITH_PRIMITIVES
+                 || treeType == INSTANCE_STRUCTURES_WITH_PRIMITIVES_AND_RATES;
+        isLoadSuspended = false;
 
         // Get the table information from the database and use it to build the
         // table tree
@@ -452,6 +473,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         linkedVariables.clear();
         linkedVariables.addAll(linkedVars);
+
+        // Update the excluded and linked variable sets
+        updateExclusionSets();
     }
 
     /**************************************************************************
@@ -464,6 +488,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         this.excludedVariables = excludedVariables;
 
+        // Update the excluded and linked variable sets
+        updateExclusionSets();
+
         // Set the node enable state (by setting the node name color) based on
         // whether or not the name is in the exclusion list
         setNodeEnableByExcludeList();
@@ -473,6 +500,30 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         setNodeEnableByChildState(root);
     }
 
+    /**************************************************************************
+     * Expand or collapse all of the nodes in the tree. The child nodes of lazy
+     * nodes aren't created when the tree is collapsed
+     *
+     * @param isExpanded
+     *            true if all tree nodes should be expanded
+     *************************************************************************/
+    @Override
+    protected void setTreeExpansion(boolean isExpanded)
+    {
+        // Collapsing a node whose child nodes don't exist has no effect, so
+        // don't create these when collapsing the tree
+        isLoadSuspended = !isExpanded;
+
+        try
+        {
+            super.setTreeExpansion(isExpanded);
+        }
+        finally
+        {
+            isLoadSuspended = false;
+        }
+    }
+
     /**************************************************************************
      * Override the table tree's tool tip text handler to provide the
      * descriptions of the nodes
@@ -534,6 +585,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         {
             linkedVariables = new ArrayList<String>();
 
+            // Index the table members by table name
+            memberGraph = new CcddTableMemberGraph(ccddMain, tableMembers);
+
             // Store the tree's current expansion state
             String expState = getExpansionState();
 
@@ -573,18 +627,24 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         this.rateName = rateName;
         this.rateFilter = rateFilter;
 
+        List<String[]> rateValues = null;
+
         // Check if a rate filter is in effect and a filter name is provided
         if (rateFilter != null && rateName != null)
         {
             // Load all references to rate column values from the custom values
             // table that match the rate name
-            rateValues = new ArrayListMultiple();
-            rateValues.addAll(dbTable.getCustomValues(rateName, null, parent));
+            rateValues = dbTable.getCustomValues(rateName, null, parent);
         }
 
         // Get the index into the table member rate array
         rateIndex = ccddMain.getRateParameterHandler().getRateInformationIndexByRateName(rateName);
 
+        // Apply the rate filter to the table members and update the excluded
+        // and linked variables
+        memberGraph.setRateFilter(rateFilter, rateIndex, rateValues);
+        updateExclusionSets();
+
         // Set the flag to indicate that the table tree is being built. This
         // flag is used to inhibit actions involving tree selection value
         // changes during the build process
@@ -954,43 +1014,57 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                                                   getTableDescription(member.getTableName(),
                                                                       "")));
 
-                boolean isParent = true;
+                // Check if all tables are included or, if only parent
+                // tables should be included, that no other table has this
+                // table as a member (if the tree is filtered by group then
+                // only the tables in the group are checked)
+                boolean isParent = treeType == STRUCTURES_WITH_PRIMITIVES
+                                   || !memberGraph.isReferenced(member.getTableName(),
+                                                                isByGroup
+                                                                          ? (nameList != null
+                                                                                              ? nameList
+                                                                                              : new ArrayList<String>())
+                                                                          : null);
 
-                // Check if only parent tables should be included
-                if (treeType != STRUCTURES_WITH_PRIMITIVES)
+                // Check if this is a parent table
+                if (isParent)
                 {
-                    // Step through each table
-                    for (TableMembers otherMember : tableMembers)
+                    recursionTable = null;
+
+                    // Check if the tree's structure nodes are created when
+                    // needed
+                    if (isLazy)
                     {
-                        // Check if the current table has this table as a
-                        // member, that the table isn't referencing itself,
-                        // and, if the tree is filtered by group, that this
-                        // table is a member of the group
-                        if (otherMember.getDataTypes().contains(member.getTableName())
-                            && !member.equals(otherMember)
-                            && (!isByGroup ||
-                                (nameList != null && nameList.contains(otherMember.getTableName()))))
+                        // Check if the table contains a variable displayed in
+                        // the tree
+                        if (memberGraph.hasVariables(member, member.getTableName()))
                         {
-                            // Clear the flag indicating this is a parent table
-                            // and stop searching
-                            isParent = false;
-                            break;
+                            // Add the node for the table. Its child nodes are
+                            // created when first needed
+                            instNode.add(new LazyTreeNode(member.getTableName(),
+                                                          getTableDescription(member.getTableName(),
+                                                                              ""),
+                                                          member,
+                                                          member.getTableName()));
                         }
-                    }
-                }
 
-                // Check if this is a parent table
-                if (isParent)
-                {
-                    recursionTable = null;
+                        // Check the table for a recursive reference
+                        recursionTable = memberGraph.findRecursiveReference(member);
+                    }
+                    // All of the tree's nodes are created when the tree is
+                    // built
+                    else
+                    {
+                        // Build the nodes in the tree for this table and its
+                        // member tables
+                        buildNodes(member,
+                                   instNode,
+                                   new ToolTipTreeNode(member.getTableName(),
+                                                       getTableDescription(member.getTableName(),
+                                                                           "")),
+                                   "");
+                    }
 
-                    // Build the nodes in the tree for this table and its
-                    // member tables
-                    buildNodes(member,
-                               instNode,
-                               new ToolTipTreeNode(member.getTableName(),
-                                                   getTableDescription(member.getTableName(),
-                                                                       "")));
                     // Check if a recursive reference was detected
                     if (recursionTable != null)
                     {
@@ -1024,135 +1098,110 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
      *
      * @param childNode
      *            new child node to add to the working node
+     *
+     * @param parentPath
+     *            root table and variable path for the working node; blank if
+     *            the child node is a root table
      *************************************************************************/
     private void buildNodes(TableMembers thisMember,
                             ToolTipTreeNode parentNode,
-                            ToolTipTreeNode childNode)
+                            ToolTipTreeNode childNode,
+                            String parentPath)
     {
-        boolean recursionError = false;
+        String childName = childNode.getUserObject().toString();
 
-        // Step through each node in the parent's path
-        for (TreeNode node : parentNode.getPath())
+        // Check if the child is in its parent's path
+        if (!parentPath.isEmpty()
+            && CcddTableMemberGraph.isInPath(childName, parentPath))
         {
-            if (((ToolTipTreeNode) node).getLevel() >= getHeaderNodeLevel())
-            {
-                // Check if the child is in the path
-                if (((ToolTipTreeNode) node).getUserObject().toString().equals(childNode.getUserObject().toString()))
-                {
-                    // Store the name of the recursively referenced node and
-                    // set the error flag
-                    recursionTable = childNode.getUserObject().toString();
-                    recursionError = true;
-                    break;
-                }
-            }
+            // Store the name of the recursively referenced node. The node
+            // isn't added; this prevents an infinite loop from occurring
+            recursionTable = childName;
         }
-
-        // Check that a recursion error wasn't found; this prevents an infinite
-        // loop from occurring
-        if (!recursionError)
+        // The child isn't a recursive reference
+        else
         {
             // Add the child node to its parent
             parentNode.add(childNode);
 
             // Get the parent table and variable path for this variable
-            String fullTablePath = getFullVariablePath(childNode.getPath());
+            String fullTablePath = parentPath.isEmpty()
+                                                        ? childName
+                                                        : parentPath
+                                                          + ","
+                                                          + childName;
 
             // Step through each table/variable referenced by the table member
             for (int memIndex = 0; memIndex < thisMember.getDataTypes().size(); memIndex++)
             {
+                String dataType = thisMember.getDataTypes().get(memIndex);
+
                 // Check if this data type is a primitive
-                if (dataTypeHandler.isPrimitive(thisMember.getDataTypes().get(memIndex)))
+                if (dataTypeHandler.isPrimitive(dataType))
                 {
-                    String tablePath = fullTablePath;
-
-                    // Set to true if the variable has a path (i.e., this is
-                    // not a prototype's variable)
-                    boolean isChildVariable = tablePath.contains(",");
-
-                    // Check if the variable has a path
-                    if (isChildVariable)
-                    {
-                        // Add the data type and variable name to the variable
-                        // path
-                        tablePath += ","
-                                     + thisMember.getDataTypes().get(memIndex)
-                                     + "."
-                                     + thisMember.getVariableNames().get(memIndex);
-                    }
-
-                    String rate = null;
-
-                    // Check if a rate filter is in effect
-                    if (rateFilter != null)
-                    {
-                        // Get the rate value for this variable. Use the
-                        // prototype's value if the variable doesn't have a
-                        // specific rate assigned
-                        int index = rateValues.indexOf(tablePath);
-                        rate = isChildVariable
-                               && index != -1
-                                              ? rateValues.get(index)[2]
-                                              : thisMember.getRates().get(memIndex)[rateIndex];
-                    }
-
                     // Check if no rate filter is in effect or, if not, that
                     // the rate matches the specified rate filter
-                    if (rateFilter == null || rate.equals(rateFilter))
+                    if (memberGraph.isRateMatch(thisMember,
+                                                memIndex,
+                                                fullTablePath))
                     {
+                        String tablePath = fullTablePath;
+
+                        // Check if the variable has a path (i.e., this is not
+                        // a prototype's variable)
+                        if (tablePath.contains(","))
+                        {
+                            // Add the data type and variable name to the
+                            // variable path
+                            tablePath += ","
+                                         + dataType
+                                         + "."
+                                         + thisMember.getVariableNames().get(memIndex);
+                        }
+
                         // Get the full variable name in the form
                         // data_type.variable_name[:bit_length]
                         String variable = thisMember.getFullVariableNameWithBits(memIndex);
 
-                        // Check that no exclusion list is supplied, or if one
-                        // is in effect that the variable, using its full path
-                        // and name, is not in the exclusion list
-                        if (excludedVariables == null
-                            || !excludedVariables.contains(tablePath))
-                        {
-                            // Add the primitive as a node to this child node
-                            childNode.add(new ToolTipTreeNode(variable, ""));
-                        }
-                        // The variable is in the exclusion list
-                        else
-                        {
-                            // Add the variable with the node text grayed out
-                            childNode.add(new ToolTipTreeNode(DISABLED_TEXT_COLOR
-                                                              + variable,
-                                                              ""));
-                        }
+                        // Add the primitive as a node to this child node. If
+                        // the variable, using its full path and name, is in
+                        // the exclusion list then gray out the node text
+                        childNode.add(new ToolTipTreeNode((excludedVariableSet.contains(tablePath)
+                                                                                                   ? DISABLED_TEXT_COLOR
+                                                                                                   : "")
+                                                          + variable,
+                                                          ""));
                     }
                 }
                 // Data type is not a primitive, it's a structure
                 else
                 {
-                    // Step through the other tables
-                    for (TableMembers member : tableMembers)
+                    // Get the members of the structure
+                    TableMembers member = memberGraph.getMembers(dataType);
+
+                    // Check if the structure exists
+                    if (member != null)
                     {
-                        // Check if the table is a member of the target table
-                        if (thisMember.getDataTypes().get(memIndex).equals(member.getTableName()))
-                        {
-                            // Build the node name from the prototype and
-                            // variable names
-                            String nodeName = thisMember.getDataTypes().get(memIndex)
-                                              + "."
-                                              + thisMember.getVariableNames().get(memIndex);
-
-                            // Get the variable name path to this node
-                            String tablePath = fullTablePath + "," + nodeName;
-
-                            // Add this table to the current table's node. The
-                            // node name is in the format
-                            // 'dataType.variableName<[arrayIndex]>'. If a
-                            // specific description exists for the table then
-                            // use it for the tool tip text; otherwise use the
-                            // prototype's description
-                            buildNodes(member,
-                                       childNode,
-                                       new ToolTipTreeNode(nodeName,
-                                                           getTableDescription(tablePath,
-                                                                               thisMember.getDataTypes().get(memIndex))));
-                        }
+                        // Build the node name from the prototype and variable
+                        // names
+                        String nodeName = dataType
+                                          + "."
+                                          + thisMember.getVariableNames().get(memIndex);
+
+                        // Add this table to the current table's node. The node
+                        // name is in the format
+                        // 'dataType.variableName<[arrayIndex]>'. If a specific
+                        // description exists for the table then use it for the
+                        // tool tip text; otherwise use the prototype's
+                        // description
+                        buildNodes(member,
+                                   childNode,
+                                   new ToolTipTreeNode(nodeName,
+                                                       getTableDescription(fullTablePath
+                                                                           + ","
+                                                                           + nodeName,
+                                                                           dataType)),
+                                   fullTablePath);
                     }
                 }
             }
@@ -1170,6 +1219,469 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         }
     }
 
+    /**************************************************************************
+     * Table tree node for a structure whose child nodes are created the first
+     * time that they're accessed (e.g., when the node is expanded or a search
+     * of the tree reaches the node) instead of when the tree is built
+     *************************************************************************/
+    @SuppressWarnings("serial")
+    private class LazyTreeNode extends ToolTipTreeNode
+    {
+        private final TableMembers member;
+        private final String variablePath;
+        private boolean isLoaded;
+
+        /**********************************************************************
+         * Lazy tree node class constructor
+         *
+         * @param nodeName
+         *            node name
+         *
+         * @param toolTipText
+         *            text to display when mouse pointer hovers over the node
+         *
+         * @param member
+         *            table members for the structure represented by the node
+         *
+         * @param variablePath
+         *            root table and variable path for the node, in the form
+         *            rootTable[,dataType1.variable1[,...]], with no HTML tags
+         *********************************************************************/
+        LazyTreeNode(String nodeName,
+                     String toolTipText,
+                     TableMembers member,
+                     String variablePath)
+        {
+            super(nodeName, toolTipText);
+
+            this.member = member;
+            this.variablePath = variablePath;
+            isLoaded = false;
+        }
+
+        /**********************************************************************
+         * Get the table members for the structure represented by the node
+         *
+         * @return Table members for the structure represented by the node
+         *********************************************************************/
+        protected TableMembers getMember()
+        {
+            return member;
+        }
+
+        /**********************************************************************
+         * Get the root table and variable path for the node
+         *
+         * @return Root table and variable path for the node, with no HTML tags
+         *********************************************************************/
+        protected String getVariablePath()
+        {
+            return variablePath;
+        }
+
+        /**********************************************************************
+         * Check if the node's child nodes have been created
+         *
+         * @return true if the node's child nodes have been created
+         *********************************************************************/
+        protected boolean isLoaded()
+        {
+            return isLoaded;
+        }
+
+        /**********************************************************************
+         * Create the node's child nodes if these haven't already been created
+         * and creating child nodes isn't suspended
+         *********************************************************************/
+        private void loadChildren()
+        {
+            // Check if the child nodes need to be created
+            if (!isLoaded && !isLoadSuspended)
+            {
+                // Set the flag first since adding the child nodes accesses the
+                // node's child count
+                isLoaded = true;
+                addLazyChildNodes(this);
+            }
+        }
+
+        /**********************************************************************
+         * Get the number of child nodes, creating them if needed
+         *********************************************************************/
+        @Override
+        public int getChildCount()
+        {
+            loadChildren();
+            return super.getChildCount();
+        }
+
+        /**********************************************************************
+         * Get the child node at the specified index, creating the child nodes
+         * if needed
+         *********************************************************************/
+        @Override
+        public TreeNode getChildAt(int index)
+        {
+            loadChildren();
+            return super.getChildAt(index);
+        }
+
+        /**********************************************************************
+         * Get the child nodes, creating them if needed
+         *********************************************************************/
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        @Override
+        public Enumeration children()
+        {
+            loadChildren();
+            return super.children();
+        }
+
+        /**********************************************************************
+         * Check if the node has no children. A node that hasn't created its
+         * child nodes always has children, since a node is only created for a
+         * structure containing a variable displayed in the tree
+         *********************************************************************/
+        @Override
+        public boolean isLeaf()
+        {
+            return isLoaded
+                            ? super.isLeaf()
+                            : false;
+        }
+    }
+
+    /**************************************************************************
+     * Check if the specified node is a lazy node whose child nodes haven't
+     * been created
+     *
+     * @param node
+     *            tree node
+     *
+     * @return true if the node is a lazy node whose child nodes haven't been
+     *         created
+     *************************************************************************/
+    private boolean isUnloaded(TreeNode node)
+    {
+        return node instanceof LazyTreeNode && !((LazyTreeNode) node).isLoaded();
+    }
+
+    /**************************************************************************
+     * Get the nodes in the tree, starting at the specified node, in preorder.
+     * The child nodes of lazy nodes that haven't been created are not created
+     * (and therefore aren't included)
+     *
+     * @param startNode
+     *            starting node
+     *
+     * @return List containing the starting node and the existing nodes below
+     *         it, in preorder
+     *************************************************************************/
+    private List<ToolTipTreeNode> getLoadedNodes(DefaultMutableTreeNode startNode)
+    {
+        List<ToolTipTreeNode> nodes = new ArrayList<ToolTipTreeNode>();
+
+        // Prevent the traversal from creating the child nodes of lazy nodes
+        isLoadSuspended = true;
+
+        try
+        {
+            // Step through each element and child of this node
+            for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
+            {
+                nodes.add((ToolTipTreeNode) element.nextElement());
+            }
+        }
+        finally
+        {
+            isLoadSuspended = false;
+        }
+
+        return nodes;
+    }
+
+    /**************************************************************************
+     * Create the child nodes of the lazy nodes along the specified path, so
+     * that the path's node (if it exists) is present in the tree. Lazy nodes
+     * not on the path are left as is
+     *
+     * @param targetPath
+     *            root table and variable path of the node to create, with no
+     *            HTML tags
+     *************************************************************************/
+    private void loadNodesInPath(String targetPath)
+    {
+        List<TreeNode> pending = new ArrayList<TreeNode>();
+        pending.add(root);
+
+        // Continue while nodes remain to be checked
+        while (!pending.isEmpty())
+        {
+            TreeNode node = pending.remove(pending.size() - 1);
+
+            // Check if this isn't a lazy node, or if it is that the node is on
+            // the target path
+            if (!(node instanceof LazyTreeNode)
+                || targetPath.equals(((LazyTreeNode) node).getVariablePath())
+                || targetPath.startsWith(((LazyTreeNode) node).getVariablePath() + ","))
+            {
+                // Step through the node's child nodes, creating them if needed
+                for (int index = 0; index < node.getChildCount(); index++)
+                {
+                    pending.add(node.getChildAt(index));
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Create the child nodes for a lazy node. The child structure nodes are
+     * themselves lazy nodes. The child node names include the HTML tag
+     * indicating the node is disabled based on the current exclusion lists
+     *
+     * @param node
+     *            lazy node for which to create the child nodes
+     *************************************************************************/
+    private void addLazyChildNodes(LazyTreeNode node)
+    {
+        List<String> names = new ArrayList<String>();
+        List<TableMembers> members = new ArrayList<TableMembers>();
+
+        // Get the node's children
+        boolean isUnlinked = isUnlinkedNode(node);
+        memberGraph.getChildren(node.getMember(), node.getVariablePath(), names, members);
+
+        // Step through each child
+        for (int index = 0; index < names.size(); index++)
+        {
+            // Get the variable path for the child
+            String childPath = node.getVariablePath() + "," + names.get(index);
+
+            // Check if the child is a primitive variable
+            if (members.get(index) == null)
+            {
+                // Add the variable node, grayed out if the variable is
+                // excluded
+                node.add(new ToolTipTreeNode((isVariableExcluded(childPath,
+                                                                 isUnlinked)
+                                                                             ? DISABLED_TEXT_COLOR
+                                                                             : "")
+                                             + names.get(index),
+                                             ""));
+            }
+            // The child is a structure
+            else
+            {
+                // Add the structure node, grayed out if all of its variables
+                // are excluded
+                node.add(new LazyTreeNode((hasEnabledVariable(members.get(index),
+                                                              childPath,
+                                                              isUnlinked)
+                                                                          ? ""
+                                                                          : DISABLED_TEXT_COLOR)
+                                          + names.get(index),
+                                          getTableDescription(childPath,
+                                                              members.get(index).getTableName()),
+                                          members.get(index),
+                                          childPath));
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Check if a structure contains a variable that's displayed in the tree
+     * and isn't excluded
+     *
+     * @param member
+     *            table members for the structure
+     *
+     * @param variablePath
+     *            root table and variable path for the structure
+     *
+     * @param isUnlinked
+     *            true if the structure is in the unlinked variables node
+     *
+     * @return true if the structure contains a variable that isn't excluded
+     *************************************************************************/
+    private boolean hasEnabledVariable(TableMembers member,
+                                       String variablePath,
+                                       boolean isUnlinked)
+    {
+        // A structure always contains a variable, so it's enabled if no
+        // variables are excluded
+        boolean isEnabled = excludedVariableSet.isEmpty()
+                            && (!isUnlinked || linkedVariableSet.isEmpty());
+
+        // Check if the structure's variables need to be checked
+        if (!isEnabled)
+        {
+            List<String> names = new ArrayList<String>();
+            List<TableMembers> members = new ArrayList<TableMembers>();
+            memberGraph.getChildren(member, variablePath, names, members);
+
+            // Step through each child
+            for (int index = 0; index < names.size(); index++)
+            {
+                String childPath = variablePath + "," + names.get(index);
+
+                // Check if the child is a variable that isn't excluded, or a
+                // structure that contains one
+                if (members.get(index) == null
+                                               ? !isVariableExcluded(childPath, isUnlinked)
+                                               : hasEnabledVariable(members.get(index),
+                                                                    childPath,
+                                                                    isUnlinked))
+                {
+                    isEnabled = true;
+                    break;
+                }
+            }
+        }
+
+        return isEnabled;
+    }
+
+    /**************************************************************************
+     * Get the node paths for the nodes that would be created below a lazy node
+     * whose child nodes haven't been created. The exclusion sets must be
+     * updated prior to calling this method
+     *
+     * @param node
+     *            lazy node
+     *
+     * @return List containing the node path arrays (node names with any HTML
+     *         tags), in preorder
+     *************************************************************************/
+    private List<Object[]> getUnloadedNodePaths(LazyTreeNode node)
+    {
+        List<Object[]> nodePaths = new ArrayList<Object[]>();
+        addUnloadedNodePaths(node.getMember(),
+                             node.getVariablePath(),
+                             node.getUserObjectPath(),
+                             isUnlinkedNode(node),
+                             nodePaths);
+        return nodePaths;
+    }
+
+    /**************************************************************************
+     * Add the node paths for the child nodes of a structure to the list. This
+     * is a recursive method
+     *
+     * @param member
+     *            table members for the structure
+     *
+     * @param variablePath
+     *            root table and variable path for the structure
+     *
+     * @param nodePath
+     *            node path array for the structure
+     *
+     * @param isUnlinked
+     *            true if the structure is in the unlinked variables node
+     *
+     * @param nodePaths
+     *            list to which to add the node paths
+     *
+     * @return true if the structure contains a variable that isn't excluded
+     *************************************************************************/
+    private boolean addUnloadedNodePaths(TableMembers member,
+                                         String variablePath,
+                                         Object[] nodePath,
+                                         boolean isUnlinked,
+                                         List<Object[]> nodePaths)
+    {
+        boolean isEnabled = false;
+        List<String> names = new ArrayList<String>();
+        List<TableMembers> members = new ArrayList<TableMembers>();
+        memberGraph.getChildren(member, variablePath, names, members);
+
+        // Step through each child
+        for (int index = 0; index < names.size(); index++)
+        {
+            String childPath = variablePath + "," + names.get(index);
+
+            // Create the child's node path
+            Object[] childNodePath = Arrays.copyOf(nodePath, nodePath.length + 1);
+            childNodePath[nodePath.length] = names.get(index);
+            int firstIndex = nodePaths.size();
+            nodePaths.add(childNodePath);
+
+            // Check if the child is a variable or a structure that contains a
+            // variable that isn't excluded
+            if (members.get(index) == null
+                                           ? !isVariableExcluded(childPath, isUnlinked)
+                                           : addUnloadedNodePaths(members.get(index),
+                                                                  childPath,
+                                                                  childNodePath,
+                                                                  isUnlinked,
+                                                                  nodePaths))
+            {
+                isEnabled = true;
+            }
+            // The child is disabled
+            else
+            {
+                // Gray out the child's name in its path and in the paths of
+                // its descendants
+                for (int pathIndex = firstIndex; pathIndex < nodePaths.size(); pathIndex++)
+                {
+                    nodePaths.get(pathIndex)[nodePath.length] = DISABLED_TEXT_COLOR
+                                                                + names.get(index);
+                }
+            }
+        }
+
+        return isEnabled;
+    }
+
+    /**************************************************************************
+     * Check if the specified node is in the unlinked variables node
+     *
+     * @param node
+     *            tree node
+     *
+     * @return true if the node is in the unlinked variables node
+     *************************************************************************/
+    private boolean isUnlinkedNode(TreeNode node)
+    {
+        TreeNode[] path = ((DefaultMutableTreeNode) node).getPath();
+
+        return path.length > 1
+               && removeExtraText(path[1].toString()).equals(UNLINKED_VARIABLES_NODE_NAME);
+    }
+
+    /**************************************************************************
+     * Check if the specified variable is in the exclusion lists. The exclusion
+     * sets must be updated prior to calling this method
+     *
+     * @param variablePath
+     *            root table and variable path for the variable
+     *
+     * @param isUnlinked
+     *            true if the variable is in the unlinked variables node
+     *
+     * @return true if the variable is excluded
+     *************************************************************************/
+    private boolean isVariableExcluded(String variablePath, boolean isUnlinked)
+    {
+        return excludedVariableSet.contains(variablePath)
+               || (isUnlinked && linkedVariableSet.contains(variablePath));
+    }
+
+    /**************************************************************************
+     * Update the excluded and linked variable sets from the current exclusion
+     * lists. This must be called whenever either list changes
+     *************************************************************************/
+    private void updateExclusionSets()
+    {
+        excludedVariableSet = excludedVariables != null
+                                                        ? new HashSet<String>(excludedVariables)
+                                                        : new HashSet<String>();
+        linkedVariableSet = linkedVariables != null
+                                                    ? new HashSet<String>(linkedVariables)
+                                                    : new HashSet<String>();
+    }
+
     /**************************************************************************
      * Get the description for the specified table
      *
@@ -1329,6 +1841,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         tablePathList = getTableTreePathArray(searchName, startNode, maxLevel);
 
         List<String> variablePaths = new ArrayList<String>();
+        Set<String> addedPaths = new HashSet<String>();
 
         // Step through each path
         for (Object[] path : tablePathList)
@@ -1340,7 +1853,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
 
             // Check if the path is not already in the list and that the path
             // isn't blank
-            if (!variablePaths.contains(variable) && !variable.isEmpty())
+            if (!variable.isEmpty() && addedPaths.add(variable))
             {
                 // Add the path to the list
                 variablePaths.add(variable);
@@ -1396,12 +1909,10 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // Initialize the path list
         tablePathList = new ArrayList<Object[]>();
 
-        // Step through each element and child of this node
-        for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
+        // Step through each element and child of this node. Nodes that
+        // haven't been created are handled below
+        for (ToolTipTreeNode node : getLoadedNodes(startNode))
         {
-            // Get the node reference
-            ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
-
             // Check if the node's table name matches the search table's name
             // and that the node name isn't empty
             if ((searchName == null
@@ -1412,6 +1923,26 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                 // Add the table's path to the list
                 tablePathList.add(node.getUserObjectPath());
             }
+
+            // Check if this is a lazy node whose child nodes haven't been
+            // created
+            if (isUnloaded(node))
+            {
+                // Step through the paths of the nodes that would be created
+                // below the lazy node
+                for (Object[] path : getUnloadedNodePaths((LazyTreeNode) node))
+                {
+                    // Check if the node's table name matches the search
+                    // table's name and the node's level is within the limit
+                    if ((searchName == null
+                         || searchName.equals(getTableFromNodeName(path[path.length - 1].toString())))
+                        && (maxLevel == -1 || path.length - 1 <= maxLevel))
+                    {
+                        // Add the table's path to the list
+                        tablePathList.add(path);
+                    }
+                }
+            }
         }
 
         return tablePathList;
@@ -1430,12 +1961,16 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         boolean isInTree = false;
 
-        // Step through the table tree
-        for (Enumeration<?> element = getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        // Check if the tree's structure nodes are created when needed
+        if (isLazy)
         {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
+            // Create the nodes along the target path
+            loadNodesInPath(targetPath);
+        }
 
+        // Step through the table tree
+        for (ToolTipTreeNode tableNode : getLoadedNodes(getRootNode()))
+        {
             // Check if the target path matches the path in the tree (skipping
             // header nodes such as the project database and filter nodes)
             if (targetPath.equals(removeExtraText(getFullVariablePath(tableNode.getPath()))))
@@ -1498,12 +2033,16 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         ToolTipTreeNode node = null;
 
-        // Step through the root node's children, if any
-        for (Enumeration<?> element = getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        // Check if the tree's structure nodes are created when needed
+        if (isLazy)
         {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
+            // Create the nodes along the target path
+            loadNodesInPath(nodePath);
+        }
 
+        // Step through the root node's children, if any
+        for (ToolTipTreeNode tableNode : getLoadedNodes(getRootNode()))
+        {
             // Check if the node matches the target node's path
             if (removeExtraText(getFullVariablePath(tableNode.getUserObjectPath())).equals(nodePath))
             {
@@ -1782,32 +2321,29 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // Create storage for the primitive variable paths
         List<String> allPrimitivePaths = new ArrayList<String>();
 
-        // Step through each element and child of this node
-        for (Enumeration<?> element = startNode.preorderEnumeration(); element.hasMoreElements();)
+        // Step through each element and child of this node. Nodes that
+        // haven't been created are handled below
+        for (ToolTipTreeNode node : getLoadedNodes(startNode))
         {
-            // Get the node
-            ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
-
-            // Check if disabled nodes should be included, or if not, that the
-            // node isn't disabled
-            if (!ignoreDisabled
-                || !node.getUserObject().toString().contains(DISABLED_TEXT_COLOR))
+            // Add the node's path to the list if it represents a primitive
+            // variable
+            addPrimitiveVariablePath(node.getUserObjectPath(),
+                                     ignoreDisabled,
+                                     allPrimitivePaths);
+
+            // Check if this is a lazy node whose child nodes haven't been
+            // created
+            if (isUnloaded(node))
             {
-                // Get the data type for this node
-                String dataType = getTableFromNodeName(ignoreDisabled
-                                                                      ? node.getUserObject().toString()
-                                                                      : removeExtraText(node.getUserObject().toString()));
-
-                // Check if the data type is a primitive (versus a structure)
-                if (dataTypeHandler.isPrimitive(dataType))
+                // Step through the paths of the nodes that would be created
+                // below the lazy node
+                for (Object[] path : getUnloadedNodePaths((LazyTreeNode) node))
                 {
-                    // Convert the node path array to a string
-                    String nodePath = CcddUtilities.convertArrayToString(node.getPath()).replaceAll(", ", ",");
-
-                    // Add the variable's entire node path to the list
-                    allPrimitivePaths.add(ignoreDisabled
-                                                         ? nodePath
-                                                         : removeExtraText(nodePath));
+                    // Add the node's path to the list if it represents a
+                    // primitive variable
+                    addPrimitiveVariablePath(path,
+                                             ignoreDisabled,
+                                             allPrimitivePaths);
                 }
             }
         }
@@ -1815,18 +2351,60 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         return allPrimitivePaths;
     }
 
+    /**************************************************************************
+     * Add the specified node path to the list if the node represents a
+     * primitive variable. Disabled nodes may be ignored if desired
+     *
+     * @param path
+     *            array of node names in the path to the node
+     *
+     * @param ignoreDisabled
+     *            true to ignore nodes that are flagged as disabled (via HTML
+     *            color tag)
+     *
+     * @param allPrimitivePaths
+     *            list to which to add the node path
+     *************************************************************************/
+    private void addPrimitiveVariablePath(Object[] path,
+                                          boolean ignoreDisabled,
+                                          List<String> allPrimitivePaths)
+    {
+        // Get the node name
+        String nodeName = path[path.length - 1].toString();
+
+        // Check if disabled nodes should be included, or if not, that the node
+        // isn't disabled
+        if (!ignoreDisabled || !nodeName.contains(DISABLED_TEXT_COLOR))
+        {
+            // Get the data type for this node
+            String dataType = getTableFromNodeName(ignoreDisabled
+                                                                  ? nodeName
+                                                                  : removeExtraText(nodeName));
+
+            // Check if the data type is a primitive (versus a structure)
+            if (dataTypeHandler.isPrimitive(dataType))
+            {
+                // Convert the node path array to a string
+                String nodePath = CcddUtilities.convertArrayToString(path).replaceAll(", ", ",");
+
+                // Add the variable's entire node path to the list
+                allPrimitivePaths.add(ignoreDisabled
+                                                     ? nodePath
+                                                     : removeExtraText(nodePath));
+            }
+        }
+    }
+
     /**************************************************************************
      * Update the text color for the nodes that represent a primitive variable
      * based on the variable exclusion list
      *************************************************************************/
     private void setNodeEnableByExcludeList()
     {
-        // Step through elements and children of this node
-        for (Enumeration<?> element = root.preorderEnumeration(); element.hasMoreElements();)
+        // Step through elements and children of this node. The enable state
+        // for nodes that haven't been created is set when they're created
+        for (ToolTipTreeNode node : getLoadedNodes(root))
         {
-            // Get the node reference
-            ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
-
             // Check if this is node has no children, which indicates is may be
             // a variable, and that the node is for a structure or variable
             if (node.isLeaf() && node.getLevel() >= getHeaderNodeLevel())
@@ -1857,9 +2435,8 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
 
                 // Set the flag indicating the variable is excluded if it's in
                 // the exclusion lists
-                boolean isExcluded = excludedVariables.contains(variablePath)
-                                     || (nodes[1].equals(UNLINKED_VARIABLES_NODE_NAME)
-                                         && linkedVariables.contains(variablePath));
+                boolean isExcluded = isVariableExcluded(variablePath,
+                                                        nodes[1].equals(UNLINKED_VARIABLES_NODE_NAME));
 
                 // Check if the variable exclusion state has changed
                 if (wasExcluded != isExcluded)
@@ -1881,7 +2458,8 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     /**************************************************************************
      * Set the node text color based on the enable state of its child nodes. If
      * all children are disabled then disable the parent, otherwise enable the
-     * parent. This is a recursive method
+     * parent. This is a recursive method. The exclusion sets must be updated
+     * prior to calling this method
      *
      * @param node
      *            node for which to adjust the text and color
@@ -1892,8 +2470,16 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         boolean isEnabled;
 
+        // Check if this is a lazy node whose child nodes haven't been created
+        if (isUnloaded(node))
+        {
+            // Determine the enable state from the node's structure members
+            isEnabled = hasEnabledVariable(((LazyTreeNode) node).getMember(),
+                                           ((LazyTreeNode) node).getVariablePath(),
+                                           isUnlinkedNode(node));
+        }
         // Check if this node has any children
-        if (node.getChildCount() != 0)
+        else if (node.getChildCount() != 0)
         {
             isEnabled = false;
 
@@ -15,6 +15,7 @@ import java.awt.Color;
 import java.awt.Component;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -260,7 +261,45 @@ public class CcddUtilities
      *************************************************************************/
     protected static String[] splitAndRemoveQuotes(String text)
     {
-        return splitAndRemoveQuotes(text, ",", -1, true);
+        List<String> parts = new ArrayList<String>();
+        int end = text.length();
+
+        // Flag indicating if the number of double quotes following the
+        // current character is even
+        boolean isEven = true;
+
+        // Step backwards through each character in the text. This is
+        // equivalent to splitting the text using the comma separator followed
+        // by SPLIT_IGNORE_QUOTES (a comma is a separator if it's followed by
+        // an even number of double quotes), but without rescanning the
+        // remainder of the text for every comma, which is significant for
+        // long lines such as rows in a large import file
+        for (int index = text.length() - 1; index >= 0; index--)
+        {
+            char character = text.charAt(index);
+
+            // Check if the character is a double quote
+            if (character == '"')
+            {
+                isEven = !isEven;
+            }
+            // Check if the character is a comma that isn't within quotes
+            else if (character == ',' && isEven)
+            {
+                // Store the text following the comma, with the excess double
+                // quotes removed
+                parts.add(removeExcessQuotes(text.substring(index + 1, end)));
+                end = index;
+            }
+        }
+
+        // Store the text preceding the first separator comma
+        parts.add(removeExcessQuotes(text.substring(0, end)));
+
+        // Put the parts in the order in which they appear in the text
+        Collections.reverse(parts);
+
+        return parts.toArray(new String[0]);
     }
 
     /**************************************************************************
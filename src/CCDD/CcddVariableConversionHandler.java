@@ -26,8 +26,8 @@ public class CcddVariableConversionHandler
     // commas and brackets to underscores. Only variable's where the converted
     // name matches another variable's are saved in the latter two lists
     private final List<String> allVariableNameList;
-    private List<String> originalVariableNameList;
-    private List<String> convertedVariableNameList;
+    private volatile List<String> originalVariableNameList;
+    private volatile List<String> convertedVariableNameList;
 
     /**************************************************************************
      * Variable conversion handler class constructor for a list of supplied
@@ -285,54 +285,66 @@ public class CcddVariableConversionHandler
      * append an underscore to the duplicate's name. Once all variable names
      * are processed trim the list to include only those variables that are
      * modified to prevent a duplicate. These lists are used by
-     * getFullVariableName() so that it always returns a unique name
+     * getFullVariableName() so that it always returns a unique name. The lists
+     * are created only once, even if requested by multiple threads
      * 
      * @param allVariableNameList
      *            list of variable names to process
      *************************************************************************/
-    private void createConvertedVariableNameList(List<String> allVariableNameList)
+    private synchronized void createConvertedVariableNameList(List<String> allVariableNameList)
     {
-        originalVariableNameList = new ArrayList<String>();
-        convertedVariableNameList = new ArrayList<String>();
-
-        // Step through each variable
-        for (String variableName : allVariableNameList)
+        // Check if the lists weren't created by another thread while this one
+        // waited
+        if (originalVariableNameList == null)
         {
-            // Convert the variable path + name using underscores to separate
-            // the variables in the path, and retain the data types
-            String fullName = convertVariableName(variableName, "_", false, ".");
+            List<String> originalList = new ArrayList<String>();
+            List<String> convertedList = new ArrayList<String>();
 
-            // Compare the converted variable name to those already added to
-            // the list
-            while (convertedVariableNameList.contains(fullName))
+            // Step through each variable
+            for (String variableName : allVariableNameList)
             {
-                // A matching name already exists; append an underscore to this
-                // variable's name
-                fullName += "_";
-            }
+                // Convert the variable path + name using underscores to
+                // separate the variables in the path, and retain the data
+                // types
+                String fullName = convertVariableName(variableName, "_", false, ".");
 
-            // Add the variable name to the converted variable name list
-            convertedVariableNameList.add(fullName);
-        }
+                // Compare the converted variable name to those already added
+                // to the list
+                while (convertedList.contains(fullName))
+                {
+                    // A matching name already exists; append an underscore to
+                    // this variable's name
+                    fullName += "_";
+                }
 
-        // Step through the converted variable name list
-        for (int index = convertedVariableNameList.size() - 1; index >= 0; index--)
-        {
-            // Check if this variable isn't one that is modified
-            if (!convertedVariableNameList.get(index).endsWith("_"))
-            {
-                // Remove the variable from the list. This shortens the list
-                // and allows all other variables to have their full name built
-                // "on-the-fly"
-                convertedVariableNameList.remove(index);
+                // Add the variable name to the converted variable name list
+                convertedList.add(fullName);
             }
-            // This variable was modified
-            else
+
+            // Step through the converted variable name list
+            for (int index = convertedList.size() - 1; index >= 0; index--)
             {
-                // Add the variable to the list (add at the beginning to keep
-                // the order consistent with the converted list)
-                originalVariableNameList.add(0, convertedVariableNameList.get(index));
+                // Check if this variable isn't one that is modified
+                if (!convertedList.get(index).endsWith("_"))
+                {
+                    // Remove the variable from the list. This shortens the
+                    // list and allows all other variables to have their full
+                    // name built "on-the-fly"
+                    convertedList.remove(index);
+                }
+                // This variable was modified
+                else
+                {
+                    // Add the variable to the list (add at the beginning to
+                    // keep the order consistent with the converted list)
+                    originalList.add(0, convertedList.get(index));
+                }
             }
+
+            // Store the lists. The converted name list is stored first since
+            // the original name list is used to determine if the lists exist
+            convertedVariableNameList = convertedList;
+            originalVariableNameList = originalList;
         }
     }
 }
@@ -13,12 +13,23 @@ import static CCDD.CcddConstants.NUM_HIDDEN_COLUMNS;
 import static CCDD.CcddConstants.TRUE_OR_FALSE;
 import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_DATA_FIELD_IDENT;
+import static CCDD.CcddConstants.WEB_SERVER_COMPRESSION_THRESHOLD;
+import static CCDD.CcddConstants.WEB_SERVER_OUTPUT_BUFFER_SIZE;
+import static CCDD.CcddConstants.WEB_SERVER_RESPONSE_CACHE_SIZE;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -54,6 +65,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
 {
     // Class references
     private final CcddMain ccddMain;
+    private final CcddDbCommandHandler dbCommand;
     private final CcddDbControlHandler dbControl;
     private final CcddDbTableCommandHandler dbTable;
     private final CcddEventLogDialog eventLog;
@@ -61,22 +73,110 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     private CcddRateParameterHandler rateHandler;
     private CcddVariableConversionHandler variableHandler;
     private CcddLinkHandler linkHandler;
-    private TableTreeType tableTreeType;
-    private CcddJSONHandler jsonHandler;
-    private CcddFieldHandler fieldHandler;
 
-    // Flag that indicates if the macro name(s) in the table cells is to be
-    // replaced by the corresponding macro values
-    private boolean isReplaceMacro;
+    // Project snapshot revision at the time the variable and link handlers
+    // were created. The handlers are recreated if the project changes
+    private long variableHandlerRevision;
+    private long linkHandlerRevision;
 
-    // Flag that indicates if the variable paths are to be appended to
-    // structure table data
-    private boolean isIncludePath;
+    // Responses to previous requests, stored by request path and query. The
+    // least recently used response is removed when the cache is full
+    private final Map<String, CachedResponse> responseCache;
 
-    // Flag that indicates if the table tree path list should only include
-    // table names to a specified level in the tree. This is used to get the
-    // root tables
-    private boolean isMaxLevel;
+    /**************************************************************************
+     * Cached web server response class. Contains a request's JSON response,
+     * the response's entity tag, and the project snapshot revision at the time
+     * the response was created. The response is valid as long as the revision
+     * is unchanged
+     *************************************************************************/
+    private class CachedResponse
+    {
+        private final long revision;
+        private final String response;
+        private final String entityTag;
+
+        /**********************************************************************
+         * Cached web server response class constructor
+         *
+         * @param revision
+         *            project snapshot revision at the time the response was
+         *            created
+         *
+         * @param response
+         *            JSON encoded response
+         *********************************************************************/
+        CachedResponse(long revision, String response)
+        {
+            this.revision = revision;
+            this.response = response;
+
+            // Create the entity tag from the revision and the response
+            // contents
+            entityTag = "\""
+                        + Long.toHexString(revision)
+                        + "-"
+                        + Integer.toHexString(response.hashCode())
+                        + "\"";
+        }
+    }
+
+    /**************************************************************************
+     * Web request context class. The request context contains the options and
+     * handlers that apply to a single web server request. A new context is
+     * created for each request so that simultaneous requests don't interfere
+     * with one another
+     *************************************************************************/
+    private class RequestContext
+    {
+        // Flag that indicates if the macro name(s) in the table cells is to be
+        // replaced by the corresponding macro values
+        private boolean isReplaceMacro;
+
+        // Flag that indicates if the variable paths are to be appended to
+        // structure table data
+        private boolean isIncludePath;
+
+        // Flag that indicates if the table tree path list should only include
+        // table names to a specified level in the tree. This is used to get
+        // the root tables
+        private boolean isMaxLevel;
+
+        // Table tree type (instance, prototype, or both)
+        private TableTreeType tableTreeType;
+
+        // Index of the first table, and the maximum number of tables (-1 for
+        // no limit), to include when all tables are requested
+        private int offset;
+        private int limit;
+
+        // Names of the columns to include in the table data; null to include
+        // all columns
+        private String[] columnNames;
+
+        // Data field and JSON handlers for this request
+        private final CcddFieldHandler fieldHandler;
+        private final CcddJSONHandler jsonHandler;
+
+        /**********************************************************************
+         * Web request context class constructor
+         *********************************************************************/
+        RequestContext()
+        {
+            isReplaceMacro = true;
+            isIncludePath = false;
+            isMaxLevel = false;
+            tableTreeType = TableTreeType.TABLES;
+            offset = 0;
+            limit = -1;
+            columnNames = null;
+            fieldHandler = new CcddFieldHandler(ccddMain,
+                                                null,
+                                                ccddMain.getMainFrame());
+            jsonHandler = new CcddJSONHandler(ccddMain,
+                                              fieldHandler,
+                                              ccddMain.getMainFrame());
+        }
+    }
 
     /**************************************************************************
      * Web data access handler class constructor
@@ -84,28 +184,91 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * @param ccddMain
      *            main class
      *************************************************************************/
+    @SuppressWarnings("serial")
     CcddWebDataAccessHandler(CcddMain ccddMain)
     {
         this.ccddMain = ccddMain;
+        dbCommand = ccddMain.getDbCommandHandler();
         dbControl = ccddMain.getDbControlHandler();
         dbTable = ccddMain.getDbTableCommandHandler();
         eventLog = ccddMain.getSessionEventLog();
+
+        // Create the response cache, ordered by access so that the least
+        // recently used response is removed first when the cache is full
+        responseCache = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true)
+        {
+            /******************************************************************
+             * Remove the least recently used response when the cache is full
+             *****************************************************************/
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest)
+            {
+                return size() > WEB_SERVER_RESPONSE_CACHE_SIZE;
+            }
+        };
     }
 
     /**************************************************************************
-     * Set the reference to the rate parameter, data field, and JSON handler
-     * classes
+     * Set the reference to the table type and rate parameter handler classes
      *************************************************************************/
     protected void setHandlers()
     {
         tableTypeHandler = ccddMain.getTableTypeHandler();
         rateHandler = ccddMain.getRateParameterHandler();
-        fieldHandler = new CcddFieldHandler(ccddMain,
-                                            null,
-                                            ccddMain.getMainFrame());
-        jsonHandler = new CcddJSONHandler(ccddMain,
-                                          fieldHandler,
-                                          ccddMain.getMainFrame());
+
+        // Discard the variable and link handlers so that these are recreated
+        // using the current project database
+        synchronized (this)
+        {
+            variableHandler = null;
+            linkHandler = null;
+        }
+    }
+
+    /**************************************************************************
+     * Get the variable conversion handler shared by all requests. The handler
+     * is created if it doesn't exist or if the project has changed since it
+     * was created
+     *
+     * @return Variable conversion handler
+     *************************************************************************/
+    private synchronized CcddVariableConversionHandler getVariableHandler()
+    {
+        // Get the current project snapshot revision
+        long revision = ccddMain.getProjectSnapshotHandler().getRevision();
+
+        // Check if the variable handler hasn't been created or is out of date
+        if (variableHandler == null || variableHandlerRevision != revision)
+        {
+            // Create the variable handler
+            variableHandler = new CcddVariableConversionHandler(ccddMain);
+            variableHandlerRevision = revision;
+        }
+
+        return variableHandler;
+    }
+
+    /**************************************************************************
+     * Get the link handler shared by all requests. The handler is created if
+     * it doesn't exist or if the project has changed since it was created
+     *
+     * @return Link handler
+     *************************************************************************/
+    private synchronized CcddLinkHandler getLinkHandler()
+    {
+        // Get the current project snapshot revision
+        long revision = ccddMain.getProjectSnapshotHandler().getRevision();
+
+        // Check if the link handler hasn't been created or is out of date
+        if (linkHandler == null || linkHandlerRevision != revision)
+        {
+            // Create a link handler
+            linkHandler = new CcddLinkHandler(ccddMain,
+                                              ccddMain.getMainFrame());
+            linkHandlerRevision = revision;
+        }
+
+        return linkHandler;
     }
 
     /**************************************************************************
@@ -136,14 +299,107 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             query = "";
         }
 
-        // Process the request and get the information encoded as a JSON
-        // string. The leading '/' is removed from the request path
-        String jsonResponse = getQueryResults(target.replaceFirst("^/", ""),
-                                              query);
+        String jsonResponse = null;
+        String entityTag = null;
+
+        // Remove the leading '/' from the request path
+        String component = target.replaceFirst("^/", "");
+
+        // Get the project snapshot revision prior to processing the request.
+        // The revision changes whenever a change to the project database is
+        // committed
+        long revision = ccddMain.getProjectSnapshotHandler().getRevision();
+
+        // Build the cache key from the request path and query
+        String cacheKey = component + "?" + query;
+
+        // Check if the request is for the data or information for every table.
+        // These responses can be very large, so they're written to the
+        // requester as each table is loaded instead of being built in memory
+        // (and are therefore not cached)
+        if (isStreamedRequest(component, query))
+        {
+            // Since the response isn't held, create the entity tag from the
+            // revision and the request instead of from the response contents.
+            // The response to an identical request is the same until the
+            // revision changes
+            entityTag = "\""
+                        + Long.toHexString(revision)
+                        + "-r"
+                        + Integer.toHexString(cacheKey.hashCode())
+                        + "\"";
+
+            // Check if the requester's copy of the response isn't current
+            if (!isRequesterCopyCurrent(request, response, entityTag))
+            {
+                // Load and write the table data or information to the
+                // requester
+                streamTableResults(component, query, request, response);
+            }
+
+            return;
+        }
+
+        // Authentication requests aren't cached since these contain the
+        // user's password and their result doesn't depend on the project
+        // contents
+        boolean isCacheable = !component.contains("authentic");
+
+        // Check if the response can be cached
+        if (isCacheable)
+        {
+            CachedResponse cached;
+
+            synchronized (responseCache)
+            {
+                // Get the response to a previous identical request
+                cached = responseCache.get(cacheKey);
+            }
+
+            // Check if a response exists and the project hasn't changed since
+            // it was created
+            if (cached != null && cached.revision == revision)
+            {
+                // Use the cached response
+                jsonResponse = cached.response;
+                entityTag = cached.entityTag;
+            }
+        }
+
+        // Check if no valid cached response exists
+        if (jsonResponse == null)
+        {
+            // Process the request and get the information encoded as a JSON
+            // string
+            jsonResponse = processRequest(component, query);
+
+            // Check if the response loaded successfully and can be cached
+            if (jsonResponse != null && isCacheable)
+            {
+                // Store the response in the cache
+                CachedResponse cached = new CachedResponse(revision,
+                                                           jsonResponse);
+                entityTag = cached.entityTag;
+
+                synchronized (responseCache)
+                {
+                    responseCache.put(cacheKey, cached);
+                }
+            }
+        }
 
         // Check if the specified content was loaded successfully
         if (jsonResponse != null)
         {
+            // Check if the response has an entity tag and the requester's
+            // copy of the response is current
+            if (entityTag != null
+                && isRequesterCopyCurrent(request, response, entityTag))
+            {
+                // No response body is returned
+                return;
+            }
+
             // Set the flag indicating the response is valid
             response.setStatus(HttpServletResponse.SC_OK);
         }
@@ -158,13 +414,282 @@ public class CcddWebDataAccessHandler extends AbstractHandler
 
         try
         {
-            // Set the response type and length
+            // Set the response type
             response.setContentType("text/json");
-            response.setContentLength(jsonResponse.length());
+            response.setCharacterEncoding("UTF-8");
+
+            // Check if the response is large enough to benefit from
+            // compression and the requester accepts a compressed response
+            if (jsonResponse.length() >= WEB_SERVER_COMPRESSION_THRESHOLD
+                && isCompressionAccepted(request))
+            {
+                // Return the compressed response to the requester. The length
+                // isn't set since the response is sent in chunks
+                Writer writer = openResponseWriter(response, true);
+                writer.write(jsonResponse);
+                writer.close();
+            }
+            // The response isn't compressed
+            else
+            {
+                // Convert the response to bytes so that the length is correct
+                // if the response contains multi-byte characters
+                byte[] responseBytes = jsonResponse.getBytes(StandardCharsets.UTF_8);
+
+                // Return the response to the requester
+                response.setContentLength(responseBytes.length);
+                response.getOutputStream().write(responseBytes);
+                response.flushBuffer();
+            }
+        }
+        catch (IOException ioe)
+        {
+            // Inform the user that processing the web server request failed
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Web Server Error",
+                                  "Cannot respond to web server request; cause '"
+                                                      + ioe.getMessage()
+                                                      + "'",
+                                  "<html><b>Cannot respond to web server request");
+        }
+    }
+
+    /**************************************************************************
+     * Process a web request using a read-only database connection and return
+     * the results encoded as a JSON string. The response cache isn't used
+     *
+     * @param component
+     *            component for which to request data
+     *
+     * @param query
+     *            decoded request query
+     *
+     * @return Query results encoded as a JSON string; null if the request
+     *         fails
+     *************************************************************************/
+    protected String processRequest(String component, String query)
+    {
+        // Obtain a read-only database connection so that the request's queries
+        // don't wait on those from other requests or on database changes
+        dbCommand.acquireReadOnlyConnection(ccddMain.getMainFrame());
+
+        try
+        {
+            // Process the request and get the information encoded as a JSON
+            // string
+            return getQueryResults(component, query);
+        }
+        finally
+        {
+            // Release the read-only database connection
+            dbCommand.releaseReadOnlyConnection();
+        }
+    }
+
+    /**************************************************************************
+     * Set the response's entity tag and check if the requester already holds a
+     * current copy of the response. If so, set the response status to
+     * indicate that the requester's copy is current
+     *
+     * @param request
+     *            web request
+     *
+     * @param response
+     *            web response
+     *
+     * @param entityTag
+     *            entity tag for the response
+     *
+     * @return true if the requester's copy of the response is current, in
+     *         which case no response body is to be returned
+     *************************************************************************/
+    private boolean isRequesterCopyCurrent(HttpServletRequest request,
+                                           HttpServletResponse response,
+                                           String entityTag)
+    {
+        // Set the entity tag and require the requester to revalidate its copy
+        // of the response with each request
+        response.setHeader("ETag", entityTag);
+        response.setHeader("Cache-Control", "no-cache");
+
+        // Get the entity tag(s) of the response(s) already held by the
+        // requester, if any
+        String ifNoneMatch = request.getHeader("If-None-Match");
+
+        // Determine if the requester's copy of the response is current
+        boolean isCurrent = ifNoneMatch != null
+                            && (ifNoneMatch.trim().equals("*")
+                                || Arrays.asList(ifNoneMatch.split("\\s*,\\s*")).contains(entityTag));
+
+        // Check if the requester's copy of the response is current
+        if (isCurrent)
+        {
+            // Inform the requester that its copy is current
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        }
+
+        return isCurrent;
+    }
+
+    /**************************************************************************
+     * Check if the web request is one for which the response is streamed to
+     * the requester. This is the case for a request for the data or the
+     * information for every table
+     *
+     * @param component
+     *            component for which to request data
+     *
+     * @param item
+     *            item in the component
+     *
+     * @return true if the response to the request is streamed
+     *************************************************************************/
+    private boolean isStreamedRequest(String component, String item)
+    {
+        boolean isStreamed = false;
+
+        // Check if this is a table-related request
+        if (isTableRequest(component))
+        {
+            // Extract the item's attribute and name
+            String[] attributeAndName = getParts(getParts(item, ";", 2, false)[0],
+                                                 "=",
+                                                 2,
+                                                 false);
+
+            // Set the flag if the data or information for every table is
+            // requested
+            isStreamed = attributeAndName[1].isEmpty()
+                         && (attributeAndName[0].equals("all")
+                             || attributeAndName[0].isEmpty()
+                             || attributeAndName[0].equals("data"));
+        }
+
+        return isStreamed;
+    }
+
+    /**************************************************************************
+     * Load the data or the information for every table and write it to the
+     * requester. Each table's data or information is written as soon as it's
+     * loaded so that the entire response doesn't need to be held in memory.
+     * The response is sent in chunks, and is compressed if the requester
+     * accepts compressed responses
+     *
+     * @param component
+     *            table component for which to request data
+     *
+     * @param item
+     *            item in the component
+     *
+     * @param request
+     *            web request
+     *
+     * @param response
+     *            web response
+     *************************************************************************/
+    private void streamTableResults(String component,
+                                    String item,
+                                    HttpServletRequest request,
+                                    HttpServletResponse response)
+    {
+        Writer writer = null;
+
+        // Log the web server request
+        eventLog.logEvent(EventLogMessageType.SERVER_MSG,
+                          "Request component '"
+                                                          + component
+                                                          + "' item '"
+                                                          + item
+                                                          + "'");
+
+        // Obtain a read-only database connection so that the request's
+        // queries don't wait on those from other requests or on database
+        // changes
+        dbCommand.acquireReadOnlyConnection(ccddMain.getMainFrame());
+
+        try
+        {
+            // Separate the attribute from the other flag(s) (if present)
+            String[] itemAndOther = getParts(item, ";", 2, false);
+
+            // Create the context for this request and set the table tree
+            // type, macro, and variable path flags
+            RequestContext context = new RequestContext();
+            String[] separators = parseRequestOptions(context, itemAndOther[1]);
+            setTableTreeType(context, component);
+
+            // Set the flag to true if only the table data is requested
+            boolean isDataOnly = getParts(itemAndOther[0], "=", 2, false)[0].equals("data");
+
+            // Get the list of all data table names
+            List<String> tableNameList = getTableList(context);
+
+            // Check that at least one table exists in the project database
+            if (!tableNameList.isEmpty())
+            {
+                // Set the response status and type. The length isn't set since
+                // the response is sent in chunks
+                response.setStatus(HttpServletResponse.SC_OK);
+                response.setContentType("text/json");
+                response.setCharacterEncoding("UTF-8");
+                writer = openResponseWriter(response,
+                                            isCompressionAccepted(request));
+
+                // Create a JSON stream writer for the response. Backslashes
+                // aren't escaped so that the output matches that of the
+                // non-streamed responses (see removeEncoderEscapes())
+                CcddJSONStreamWriter jsonWriter = new CcddJSONStreamWriter(writer,
+                                                                           false,
+                                                                           false);
+                jsonWriter.beginArray();
+
+                // Step through each table name
+                for (String name : tableNameList)
+                {
+                    // Get the data or information for this table
+                    JSONObject tableJO = isDataOnly
+                                                    ? loadTableData(context,
+                                                                    name,
+                                                                    true,
+                                                                    separators)
+                                                    : loadTableInformation(context,
+                                                                           name,
+                                                                           separators);
+
+                    // Check if the table loaded successfully
+                    if (tableJO != null)
+                    {
+                        // Write the table to the requester
+                        jsonWriter.value(tableJO);
+                    }
+                }
+
+                jsonWriter.endArray();
+            }
+            // The project has no data tables
+            else
+            {
+                // Set the flag indicating the response is invalid
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                response.setContentLength(0);
+            }
+        }
+        catch (CCDDException ce)
+        {
+            // Inform the user that the web server request is invalid
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Web Server Error",
+                                  "Invalid web server request; cause '"
+                                                      + ce.getMessage()
+                                                      + "'",
+                                  "<html><b>Invalid web server request");
 
-            // Return the response to the requester
-            response.getWriter().write(jsonResponse);
-            response.flushBuffer();
+            // Check if nothing has been sent to the requester
+            if (!response.isCommitted())
+            {
+                // Set the flag indicating the response is invalid
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
         }
         catch (IOException ioe)
         {
@@ -176,6 +701,226 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                       + "'",
                                   "<html><b>Cannot respond to web server request");
         }
+        catch (Exception e)
+        {
+            // Display a dialog providing details on the unanticipated error
+            CcddUtilities.displayException(e, ccddMain.getMainFrame());
+        }
+        finally
+        {
+            // Release the read-only database connection
+            dbCommand.releaseReadOnlyConnection();
+
+            // Check if the response writer was opened
+            if (writer != null)
+            {
+                try
+                {
+                    // Send any remaining output and complete the compression
+                    // (if used)
+                    writer.close();
+                }
+                catch (IOException ioe)
+                {
+                    // Ignore the error since the requester has disconnected
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Check if the requester accepts a compressed (gzip) response
+     *
+     * @param request
+     *            web request
+     *
+     * @return true if the requester accepts a compressed response
+     *************************************************************************/
+    private boolean isCompressionAccepted(HttpServletRequest request)
+    {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+
+        return acceptEncoding != null
+               && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    /**************************************************************************
+     * Open a buffered writer to the web response's output stream, compressing
+     * the output if specified
+     *
+     * @param response
+     *            web response
+     *
+     * @param isCompressed
+     *            true to compress the output using gzip
+     *
+     * @return Writer to the web response's output stream
+     *
+     * @throws IOException
+     *             If the output stream can't be opened
+     *************************************************************************/
+    private Writer openResponseWriter(HttpServletResponse response,
+                                      boolean isCompressed) throws IOException
+    {
+        // Indicate that the response's encoding depends on the request
+        response.setHeader("Vary", "Accept-Encoding");
+
+        OutputStream outputStream = response.getOutputStream();
+
+        // Check if the output is compressed
+        if (isCompressed)
+        {
+            // Indicate the response is compressed and compress the output
+            response.setHeader("Content-Encoding", "gzip");
+            outputStream = new GZIPOutputStream(outputStream,
+                                                WEB_SERVER_OUTPUT_BUFFER_SIZE);
+        }
+
+        return new BufferedWriter(new OutputStreamWriter(outputStream,
+                                                         StandardCharsets.UTF_8),
+                                  WEB_SERVER_OUTPUT_BUFFER_SIZE);
+    }
+
+    /**************************************************************************
+     * Check if the request component is table-related
+     *
+     * @param component
+     *            component for which to request data
+     *
+     * @return true if the component is table-related
+     *************************************************************************/
+    private boolean isTableRequest(String component)
+    {
+        return component.equals("table")
+               || component.equals("proto_table")
+               || component.equals("root_table")
+               || component.equals("instance_table");
+    }
+
+    /**************************************************************************
+     * Set the table tree type (instance, prototype, or both) and maximum level
+     * flag in the request context based on the table request component
+     *
+     * @param context
+     *            web request context
+     *
+     * @param component
+     *            table component for which to request data
+     *************************************************************************/
+    private void setTableTreeType(RequestContext context, String component)
+    {
+        // Set the tree type (instance, prototype, or both) based on the
+        // command
+        context.tableTreeType = component.equals("table")
+                                                          ? TableTreeType.TABLES
+                                                          : (component.equals("proto_table")
+                                                                                             ? TableTreeType.PROTOTYPE_TABLES
+                                                                                             : TableTreeType.INSTANCE_TABLES);
+
+        // Set the maximum level flag if only root table information is
+        // requested
+        context.isMaxLevel = component.equals("root_table");
+    }
+
+    /**************************************************************************
+     * Set the macro and variable path flags, table paging, and table column
+     * projection in the request context based on the options provided with
+     * the request
+     *
+     * @param context
+     *            web request context
+     *
+     * @param options
+     *            request options, separated by semicolons
+     *
+     * @return String array containing the variable path separator
+     *         character(s), show/hide data types flag ('true' or 'false'), and
+     *         data type/variable name separator character(s); null if the
+     *         variable path option isn't present. An exception is thrown if
+     *         the variable path separator format or a paging value is invalid
+     *************************************************************************/
+    private String[] parseRequestOptions(RequestContext context,
+                                         String options) throws CCDDException
+    {
+        String[] separators = null;
+
+        // Step through the option flags, if present
+        for (String option : getParts(options, ";", -1, false))
+        {
+            // Split the option from any parameter values
+            String[] parts = getParts(option, "[,=]", 2, false);
+
+            switch (parts[0].toLowerCase())
+            {
+                // Display macro names command
+                case "macro":
+                case "macros":
+                    // Set the flag so that the macro names (in place of macro
+                    // values) are displayed
+                    context.isReplaceMacro = false;
+                    break;
+
+                // Include variable paths command
+                case "path":
+                case "paths":
+                    // Set the flag to include the variable paths and parse the
+                    // variable path separators
+                    context.isIncludePath = true;
+                    separators = getVariablePathSeparators(parts[1]);
+                    break;
+
+                // Table paging commands
+                case "offset":
+                case "limit":
+                    // Check if the value isn't a non-negative integer
+                    if (!parts[1].matches("\\d+"))
+                    {
+                        throw new CCDDException("invalid "
+                                                + parts[0].toLowerCase()
+                                                + " value '"
+                                                + parts[1]
+                                                + "'");
+                    }
+
+                    // Store the index of the first table or the maximum
+                    // number of tables
+                    if (parts[0].equalsIgnoreCase("offset"))
+                    {
+                        context.offset = Integer.valueOf(parts[1]);
+                    }
+                    else
+                    {
+                        context.limit = Integer.valueOf(parts[1]);
+                    }
+
+                    break;
+
+                // Table column projection command
+                case "column":
+                case "columns":
+                    // Store the names of the columns to include in the table
+                    // data
+                    context.columnNames = getParts(parts[1], ",", -1, true);
+                    break;
+            }
+        }
+
+        return separators;
+    }
+
+    /**************************************************************************
+     * Remove the extraneous escape (\) characters that the JSON encoder
+     * inserts into a JSON encoded string
+     *
+     * @param json
+     *            JSON encoded string
+     *
+     * @return JSON encoded string with the extraneous escape characters
+     *         removed
+     *************************************************************************/
+    private String removeEncoderEscapes(String json)
+    {
+        return json.replaceAll("\\\\\\\\", "\\\\").replaceAll("\\\\/", "/");
     }
 
     /**************************************************************************
@@ -332,63 +1077,24 @@ public class CcddWebDataAccessHandler extends AbstractHandler
 
         try
         {
-            String[] separators = null;
-
             // Separate the component/attribute/name from the other flag(s) (if
             // present)
             String[] itemAndOther = getParts(item, ";", 2, false);
 
-            // Set the default macro and variable path flag values
-            isReplaceMacro = true;
-            isIncludePath = false;
-
-            // Step through the macro and/or variable path flags, if present
-            for (String macroAndPath : getParts(itemAndOther[1], ";", 2, false))
-            {
-                // Split the macro/path option from any parameter values
-                String[] parts = getParts(macroAndPath, ",", 2, false);
-
-                switch (parts[0].toLowerCase())
-                {
-                    // Display macro names command
-                    case "macro":
-                    case "macros":
-                        // Set the flag so that the macro names (in place of
-                        // macro values) are displayed
-                        isReplaceMacro = false;
-                        break;
-
-                    // Include variable paths command
-                    case "path":
-                    case "paths":
-                        // Set the flag to include the variable paths and parse
-                        // the variable path separators
-                        isIncludePath = true;
-                        separators = getVariablePathSeparators(parts[1]);
-                        break;
-                }
-            }
+            // Create the context for this request and set the macro and
+            // variable path flags
+            RequestContext context = new RequestContext();
+            String[] separators = parseRequestOptions(context, itemAndOther[1]);
 
             // Extract the item's attribute and name
             String[] attributeAndName = getParts(itemAndOther[0], "=", 2, false);
 
             // Check if this is a table-related request
-            if (component.equals("table")
-                || component.equals("proto_table")
-                || component.equals("root_table")
-                || component.equals("instance_table"))
+            if (isTableRequest(component))
             {
-                // Set the tree type (instance, prototype, or both) based on
-                // the command
-                tableTreeType = component.equals("table")
-                                                          ? TableTreeType.TABLES
-                                                          : (component.equals("proto_table")
-                                                                                             ? TableTreeType.PROTOTYPE_TABLES
-                                                                                             : TableTreeType.INSTANCE_TABLES);
-
-                // Set the maximum level flag if only root table information is
-                // requested
-                isMaxLevel = component.equals("root_table");
+                // Set the tree type (instance, prototype, or both) and the
+                // maximum level flag based on the command
+                setTableTreeType(context, component);
 
                 // Use the attribute to determine the request
                 switch (attributeAndName[0])
@@ -398,14 +1104,15 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         // Get the name, type, description, data, and data
                         // fields for the specified table (or all tables if no
                         // table name is specified)
-                        response = getTableInformation(attributeAndName[1],
+                        response = getTableInformation(context,
+                                                       attributeAndName[1],
                                                        separators);
                         break;
 
                     case "data":
                         // Get the data for the specified table (or all tables
                         // if no table name is specified)
-                        response = getTableData(attributeAndName[1], true, separators);
+                        response = getTableData(context, attributeAndName[1], true, separators);
                         break;
 
                     case "description":
@@ -417,13 +1124,13 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                     case "fields":
                         // Get a data field information for the specified table
                         // (or all tables if no table name is specified)
-                        response = getTableFields(attributeAndName[1], true);
+                        response = getTableFields(context, attributeAndName[1], true);
                         break;
 
                     case "names":
                         // Get the names of the data tables of the specified
                         // type (or all tables if no table name is specified)
-                        response = getTableNames(attributeAndName[1]);
+                        response = getTableNames(context, attributeAndName[1]);
                         break;
 
                     case "size":
@@ -463,7 +1170,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         // Get the name, application status, description, and
                         // data fields for the specified group (or all groups
                         // if no group name is specified)
-                        response = getGroupInformation(attributeAndName[1],
+                        response = getGroupInformation(context,
+                                                       attributeAndName[1],
                                                        applicationOnly,
                                                        new CcddGroupHandler(ccddMain,
                                                                             null,
@@ -495,7 +1203,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                     case "fields":
                         // Get a data field information for the specified group
                         // (or all groups if no group name is specified)
-                        response = getGroupFields(attributeAndName[1],
+                        response = getGroupFields(context,
+                                                  attributeAndName[1],
                                                   applicationOnly,
                                                   true,
                                                   new CcddGroupHandler(ccddMain,
@@ -527,7 +1236,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 {
                     case "telemetry":
                         // Get the telemetry scheduler copy table
-                        response = getTelemetrySchedulerData(attributeAndName[1]);
+                        response = getTelemetrySchedulerData(context, attributeAndName[1]);
                         break;
 
                     case "application":
@@ -552,31 +1261,31 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             else if (component.equals("telemetry"))
             {
                 // Get the telemetered variable information
-                response = getTelemetryInformation(attributeAndName[0]);
+                response = getTelemetryInformation(context, attributeAndName[0]);
             }
             // Check if this is a command parameter request
             else if (component.equals("command"))
             {
                 // Get the command information
-                response = getCommandInformation(attributeAndName[0]);
+                response = getCommandInformation(context, attributeAndName[0]);
             }
             // Check if this is a table type definition request
             else if (component.equals("table_type"))
             {
                 // Get the table type definitions
-                response = getTableTypeDefinitions();
+                response = getTableTypeDefinitions(context);
             }
             // Check if this is a data type definition request
             else if (component.equals("data_type"))
             {
                 // Get the data type definitions
-                response = getDataTypeDefinitions();
+                response = getDataTypeDefinitions(context);
             }
             // Check if this is a macro definition request
             else if (component.equals("macro"))
             {
                 // Get the macro definitions
-                response = getMacroDefinitions();
+                response = getMacroDefinitions(context);
             }
             // Check if this is a user authentication request
             else if (component.equals("authenticate"))
@@ -638,9 +1347,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         {
             // Remove the extraneous escape (\) characters that the JSON
             // encoder inserts into the string
-            response = response.replaceAll("\\\\\\\\",
-                                           "\\\\")
-                               .replaceAll("\\\\/", "/");
+            response = removeEncoderEscapes(response);
         }
 
         return response;
@@ -840,29 +1547,54 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     /**************************************************************************
      * Get a list containing the names and paths of every data table. The tree
      * type (prototype only or instances only) is determined by the server
-     * command
+     * command. If an offset or limit is specified in the request then only
+     * the tables within the requested range are included
+     *
+     * @param context
+     *            web request context
      *
-     * @return List containing the names and paths of every data table
+     * @return List containing the names and paths of every data table within
+     *         the requested range
      *************************************************************************/
-    private List<String> getTableList()
+    private List<String> getTableList(RequestContext context)
     {
         // Build the table tree, including the primitive variables
         CcddTableTreeHandler allTablesTree = new CcddTableTreeHandler(ccddMain,
-                                                                      tableTreeType,
+                                                                      context.tableTreeType,
                                                                       ccddMain.getMainFrame());
 
         // Convert the table tree to a list of table paths
-        return allTablesTree.getTableTreePathList(null,
-                                                  (ToolTipTreeNode) allTablesTree.getRootNode(),
-                                                  isMaxLevel
-                                                             ? allTablesTree.getHeaderNodeLevel()
-                                                             : -1);
+        List<String> tableList = allTablesTree.getTableTreePathList(null,
+                                                                    (ToolTipTreeNode) allTablesTree.getRootNode(),
+                                                                    context.isMaxLevel
+                                                                                       ? allTablesTree.getHeaderNodeLevel()
+                                                                                       : -1);
+
+        // Check if only a range of the tables is requested
+        if (context.offset != 0 || context.limit != -1)
+        {
+            // Get the indices of the first table and the table following the
+            // last one in the range
+            int start = Math.min(context.offset, tableList.size());
+            int end = context.limit == -1
+                                          ? tableList.size()
+                                          : (int) Math.min((long) start + context.limit,
+                                                           tableList.size());
+
+            // Keep only the tables in the requested range
+            tableList = new ArrayList<String>(tableList.subList(start, end));
+        }
+
+        return tableList;
     }
 
     /**************************************************************************
      * Get the data for the specified data table, or for all data tables if no
      * table name is provided
      *
+     * @param context
+     *            web request context
+     *
      * @param tableName
      *            table name and path in the format
      *            rootTable[,dataType1.variable1[,...]]. Blank to return the
@@ -883,7 +1615,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         Empty cells are included
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableData(String tableName,
+    private String getTableData(RequestContext context,
+                                String tableName,
                                 boolean getDescription,
                                 String[] separators) throws CCDDException
     {
@@ -893,32 +1626,28 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         if (tableName.isEmpty())
         {
             // Get the list of all data table names
-            List<String> tableNameList = getTableList();
+            List<String> tableNameList = getTableList(context);
 
             // Check that at least one table exists in the project database
             if (!tableNameList.isEmpty())
             {
                 JSONArray responseJA = new JSONArray();
-                JSONParser parser = new JSONParser();
                 response = "";
 
                 // Step through each table name
                 for (String name : tableNameList)
                 {
-                    try
-                    {
-                        // Get the data for this table as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getTableData(name,
-                                                                 true,
-                                                                 separators)));
-                    }
-                    catch (ParseException pe)
+                    // Get the data for this table
+                    JSONObject tableNameAndData = loadTableData(context,
+                                                                name,
+                                                                true,
+                                                                separators);
+
+                    // Check if the table data loaded successfully
+                    if (tableNameAndData != null)
                     {
-                        throw new CCDDException("error parsing table data");
+                        // Add the table data to the response array
+                        responseJA.add(tableNameAndData);
                     }
                 }
 
@@ -929,29 +1658,15 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         // A table name is provided
         else
         {
-            // Check if variable paths are to be included and the variable
-            // handler hasn't been created already
-            if (isIncludePath && variableHandler == null)
-            {
-                // Create the variable handler
-                variableHandler = new CcddVariableConversionHandler(ccddMain);
-            }
-
             // Get the table data
-            JSONObject tableNameAndData = jsonHandler.getTableData(tableName,
-                                                                   getDescription,
-                                                                   isReplaceMacro,
-                                                                   isIncludePath,
-                                                                   variableHandler,
-                                                                   separators,
-                                                                   new JSONObject());
+            JSONObject tableNameAndData = loadTableData(context,
+                                                        tableName,
+                                                        getDescription,
+                                                        separators);
 
             // Check if the table data loaded successfully
             if (tableNameAndData != null)
             {
-                // Add the table name. If the table has no data then the table
-                // data shows empty
-                tableNameAndData.put(JSONTags.TABLE_NAME.getTag(), tableName);
                 response = tableNameAndData.toString();
             }
         }
@@ -959,6 +1674,57 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         return response;
     }
 
+    /**************************************************************************
+     * Load the data for the specified table
+     *
+     * @param context
+     *            web request context
+     *
+     * @param tableName
+     *            table name and path in the format
+     *            rootTable[,dataType1.variable1[,...]]
+     *
+     * @param getDescription
+     *            true to get the table description when loading the table data
+     *
+     * @param separators
+     *            string array containing the variable path separator
+     *            character(s), show/hide data types flag ('true' or 'false'),
+     *            and data type/variable name separator character(s)
+     *
+     * @return JSON object containing the table name and the specified table
+     *         cell data; null if the table doesn't exist or fails to load
+     *************************************************************************/
+    @SuppressWarnings("unchecked")
+    private JSONObject loadTableData(RequestContext context,
+                                     String tableName,
+                                     boolean getDescription,
+                                     String[] separators)
+    {
+        // Get the table data. The variable handler is only needed if variable
+        // paths are to be included
+        JSONObject tableNameAndData = context.jsonHandler.getTableData(tableName,
+                                                                       getDescription,
+                                                                       context.isReplaceMacro,
+                                                                       context.isIncludePath,
+                                                                       context.isIncludePath
+                                                                                             ? getVariableHandler()
+                                                                                             : null,
+                                                                       separators,
+                                                                       context.columnNames,
+                                                                       new JSONObject());
+
+        // Check if the table data loaded successfully
+        if (tableNameAndData != null)
+        {
+            // Add the table name. If the table has no data then the table data
+            // shows empty
+            tableNameAndData.put(JSONTags.TABLE_NAME.getTag(), tableName);
+        }
+
+        return tableNameAndData;
+    }
+
     /**************************************************************************
      * Get the description for the specified table, or all tables with a
      * description if no table name is provided
@@ -1047,6 +1813,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * Get the data field information for the specified table, or for all
      * tables if no table name is provided
      *
+     * @param context
+     *            web request context
+     *
      * @param tableName
      *            table name and path in the format
      *            rootTable[,dataType1.variable1[,...]]. If blank then every
@@ -1061,7 +1830,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         database contains no data tables
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableFields(String tableName,
+    private String getTableFields(RequestContext context,
+                                  String tableName,
                                   boolean checkExists) throws CCDDException
     {
         String response = null;
@@ -1075,7 +1845,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 List<String> tableNames = new ArrayList<String>();
 
                 // Step through the data fields
-                for (FieldInformation fieldInfo : fieldHandler.getFieldInformation())
+                for (FieldInformation fieldInfo : context.fieldHandler.getFieldInformation())
                 {
                     // Check if the table name isn't already in the list and
                     // that this is not a table type or group data field
@@ -1102,7 +1872,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         // to the response array. This is needed to get the
                         // brackets and commas in the JSON formatted string
                         // correct
-                        responseJA.add(parser.parse(getTableFields(name, false)));
+                        responseJA.add(parser.parse(getTableFields(context, name, false)));
                     }
                     catch (ParseException pe)
                     {
@@ -1122,9 +1892,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             // Add the table name and data field information to the output
             JSONObject tableNameAndFields = new JSONObject();
             tableNameAndFields.put(JSONTags.TABLE_NAME.getTag(), tableName);
-            tableNameAndFields = jsonHandler.getDataFields(tableName,
-                                                           JSONTags.TABLE_FIELD.getTag(),
-                                                           tableNameAndFields);
+            tableNameAndFields = context.jsonHandler.getDataFields(tableName,
+                                                                   JSONTags.TABLE_FIELD.getTag(),
+                                                                   tableNameAndFields);
             response = tableNameAndFields.toString();
         }
 
@@ -1135,6 +1905,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * Get the names of all tables of the specified table type, or all tables
      * names and their types if no table type is provided
      *
+     * @param context
+     *            web request context
+     *
      * @param tableType
      *            table type. The type is case insensitive. If blank then every
      *            data table and its type is returned
@@ -1145,7 +1918,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         no data tables exist in the project database
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableNames(String tableType)
+    private String getTableNames(RequestContext context,
+                                 String tableType)
     {
         String response = null;
 
@@ -1186,7 +1960,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                     JSONArray namesJA = new JSONArray();
 
                     // Step through each table name
-                    for (String tableName : getTableList())
+                    for (String tableName : getTableList(context))
                     {
                         // Locate the table's prototype in the list
                         int index = protoNamesAndTableTypes.indexOf(tableName.replaceFirst(",.*$",
@@ -1280,21 +2054,13 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 {
                     responseJO = new JSONObject();
 
-                    // Check if the link handler exists
-                    if (linkHandler == null)
-                    {
-                        // Create a link handler
-                        linkHandler = new CcddLinkHandler(ccddMain,
-                                                          ccddMain.getMainFrame());
-                    }
-
                     // Store the table name and its size in bytes
                     responseJO.put(JSONTags.TABLE_NAME.getTag(),
                                    (isSingle
                                              ? tableName
                                              : namesAndType[0]));
                     responseJO.put(JSONTags.TABLE_BYTE_SIZE.getTag(),
-                                   linkHandler.getDataTypeSizeInBytes(namesAndType[0]));
+                                   getLinkHandler().getDataTypeSizeInBytes(namesAndType[0]));
 
                     // Check if only one table is being processed
                     if (isSingle)
@@ -1330,6 +2096,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * Get the type, description, size, data, and data fields for the specified
      * data table
      *
+     * @param context
+     *            web request context
+     *
      * @param tableName
      *            table name and path in the format
      *            rootTable[,dataType1.variable1[,...]]. Blank to return the
@@ -1345,11 +2114,10 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         if no data tables exist in the project database
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableInformation(String tableName,
+    private String getTableInformation(RequestContext context,
+                                       String tableName,
                                        String[] separators) throws CCDDException
     {
-        JSONArray responseJA = new JSONArray();
-        JSONParser parser = new JSONParser();
         String response = null;
 
         // Check if no table name is provided (i.e., get the information for
@@ -1357,29 +2125,26 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         if (tableName.isEmpty())
         {
             // Get the list of all data table names
-            List<String> tableNameList = getTableList();
+            List<String> tableNameList = getTableList(context);
 
             // Check that at least one table exists in the project database
             if (!tableNameList.isEmpty())
             {
-                response = "";
+                JSONArray responseJA = new JSONArray();
 
                 // Step through each table name
                 for (String name : tableNameList)
                 {
-                    try
-                    {
-                        // Get the fields for this table as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getTableInformation(name,
-                                                                        separators)));
-                    }
-                    catch (ParseException pe)
+                    // Get the information for this table
+                    JSONObject tableInfoJO = loadTableInformation(context,
+                                                                  name,
+                                                                  separators);
+
+                    // Check if the table loaded successfully
+                    if (tableInfoJO != null)
                     {
-                        throw new CCDDException("error parsing table information");
+                        // Add the table's information to the response array
+                        responseJA.add(tableInfoJO);
                     }
                 }
 
@@ -1388,21 +2153,12 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             }
         }
         // A table name is provided
+        else
         {
-            // Check if variable paths are to be included and the variable
-            // handler hasn't been created already
-            if (isIncludePath && variableHandler == null)
-            {
-                // Create the variable handler
-                variableHandler = new CcddVariableConversionHandler(ccddMain);
-            }
-
-            // Get the tables information
-            JSONObject tableInfoJO = jsonHandler.getTableInformation(tableName,
-                                                                     isReplaceMacro,
-                                                                     isIncludePath,
-                                                                     variableHandler,
-                                                                     separators);
+            // Get the table's information
+            JSONObject tableInfoJO = loadTableInformation(context,
+                                                          tableName,
+                                                          separators);
 
             // Check if the table loaded successfully
             if (tableInfoJO != null)
@@ -1415,6 +2171,41 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         return response;
     }
 
+    /**************************************************************************
+     * Load the type, description, size, data, and data fields for the
+     * specified data table
+     *
+     * @param context
+     *            web request context
+     *
+     * @param tableName
+     *            table name and path in the format
+     *            rootTable[,dataType1.variable1[,...]]
+     *
+     * @param separators
+     *            string array containing the variable path separator
+     *            character(s), show/hide data types flag ('true' or 'false'),
+     *            and data type/variable name separator character(s)
+     *
+     * @return JSON object containing the specified table information; null if
+     *         the table doesn't exist or fails to load
+     *************************************************************************/
+    private JSONObject loadTableInformation(RequestContext context,
+                                            String tableName,
+                                            String[] separators)
+    {
+        // Get the table's information. The variable handler is only needed if
+        // variable paths are to be included
+        return context.jsonHandler.getTableInformation(tableName,
+                                                       context.isReplaceMacro,
+                                                       context.isIncludePath,
+                                                       context.isIncludePath
+                                                                             ? getVariableHandler()
+                                                                             : null,
+                                                       separators,
+                                                       context.columnNames);
+    }
+
     /**************************************************************************
      * Get the tables associated with the specified group or application, or
      * for all groups/applications if no group name is provided
@@ -1670,6 +2461,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * Get the data field information for the specified group or application,
      * or for all groups/applications if no group name is provided
      *
+     * @param context
+     *            web request context
+     *
      * @param groupName
      *            group name. If blank then every data table's data fields are
      *            returned
@@ -1690,7 +2484,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         data fields
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getGroupFields(String groupName,
+    private String getGroupFields(RequestContext context,
+                                  String groupName,
                                   boolean applicationOnly,
                                   boolean includeNameTag,
                                   CcddGroupHandler groupHandler) throws CCDDException
@@ -1720,7 +2515,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         // to the response array. This is needed to get the
                         // brackets and commas in the JSON formatted string
                         // correct
-                        responseJA.add(parser.parse(getGroupFields(name,
+                        responseJA.add(parser.parse(getGroupFields(context,
+                                                                   name,
                                                                    applicationOnly,
                                                                    true,
                                                                    groupHandler)));
@@ -1755,16 +2551,16 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 JSONArray groupFieldsJA = new JSONArray();
 
                 // Build the field information list for this group
-                fieldHandler.buildFieldInformation(CcddFieldHandler.getFieldGroupName(groupName));
+                context.fieldHandler.buildFieldInformation(CcddFieldHandler.getFieldGroupName(groupName));
 
                 // Check if the group has any fields
-                if (!fieldHandler.getFieldInformation().isEmpty())
+                if (!context.fieldHandler.getFieldInformation().isEmpty())
                 {
                     // Get the group data fields (extract the data field array
                     // from the table field tag)
-                    JSONObject fieldsJO = jsonHandler.getDataFields(CcddFieldHandler.getFieldGroupName(groupName),
-                                                                    JSONTags.GROUP_FIELD.getTag(),
-                                                                    new JSONObject());
+                    JSONObject fieldsJO = context.jsonHandler.getDataFields(CcddFieldHandler.getFieldGroupName(groupName),
+                                                                            JSONTags.GROUP_FIELD.getTag(),
+                                                                            new JSONObject());
                     groupFieldsJA = (JSONArray) fieldsJO.get(JSONTags.GROUP_FIELD.getTag());
                 }
 
@@ -1846,6 +2642,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * Get the description, associated table(s), and data fields for the
      * specified group or application
      *
+     * @param context
+     *            web request context
+     *
      * @param groupName
      *            group name. If blank then every data table's data fields are
      *            returned
@@ -1863,7 +2662,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         exist in the project database
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getGroupInformation(String groupName,
+    private String getGroupInformation(RequestContext context,
+                                       String groupName,
                                        boolean applicationOnly,
                                        CcddGroupHandler groupHandler) throws CCDDException
     {
@@ -1917,7 +2717,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         // to the response array. This is needed to get the
                         // brackets and commas in the JSON formatted string
                         // correct
-                        responseJA.add(parser.parse(getGroupInformation(name,
+                        responseJA.add(parser.parse(getGroupInformation(context,
+                                                                        name,
                                                                         applicationOnly,
                                                                         groupHandler)));
                     }
@@ -1963,7 +2764,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                                 false,
                                                                 groupHandler)));
                     groupInfoJO.put(dataFieldTag,
-                                    parser.parse(getGroupFields(groupName,
+                                    parser.parse(getGroupFields(context,
+                                                                groupName,
                                                                 applicationOnly,
                                                                 false,
                                                                 groupHandler)));
@@ -1987,6 +2789,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     /**************************************************************************
      * Get the telemetry scheduler's copy table entries
      *
+     * @param context
+     *            web request context
+     *
      * @param parameters
      *            comma-separated string containing the data stream name,
      *            header size (in bytes), message ID name data field name, and
@@ -1996,7 +2801,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         null if the number of parameters or their formats are incorrect
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTelemetrySchedulerData(String parameters) throws CCDDException
+    private String getTelemetrySchedulerData(RequestContext context,
+                                             String parameters) throws CCDDException
     {
         String response = null;
 
@@ -2040,7 +2846,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                                messageIDNameField,
                                                                null,
                                                                optimize,
-                                                               isReplaceMacro);
+                                                               context.isReplaceMacro);
 
             // Check if there are any entries in the table
             if (copyTable.length != 0)
@@ -2138,12 +2944,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             boolean hideDataTypes = Boolean.valueOf(separators[1]);
             String typeNameSeparator = separators[2];
 
-            // Check if the variable handler hasn't been created already
-            if (variableHandler == null)
-            {
-                // Create the variable handler
-                variableHandler = new CcddVariableConversionHandler(ccddMain);
-            }
+            // Get the variable handler
+            CcddVariableConversionHandler variableHandler = getVariableHandler();
 
             // Check if a variable path is specified
             if (!variablePath.isEmpty())
@@ -2189,6 +2991,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * information, and enumeration information for each telemetered variable
      * matching the specified filters
      *
+     * @param context
+     *            web request context
+     *
      * @param telemetryFilter
      *            group (or application) name, data stream name, and/or rate
      *            value filter(s). A table must belong to the specified group
@@ -2206,7 +3011,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         array if no variables are telemetered
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTelemetryInformation(String telemetryFilter) throws CCDDException
+    private String getTelemetryInformation(RequestContext context,
+                                           String telemetryFilter) throws CCDDException
     {
         JSONArray telemetryJA = new JSONArray();
         TypeDefinition typeDefn = null;
@@ -2279,20 +3085,21 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         if (groupFilter.isEmpty())
         {
             // Get a list of all root and child tables
-            tableTreeType = TableTreeType.INSTANCE_TABLES;
-            allTableNameList = getTableList();
+            context.tableTreeType = TableTreeType.INSTANCE_TABLES;
+            allTableNameList = getTableList(context);
         }
 
-        // Step through each structure table
-        for (String table : allTableNameList)
+        // Load the information from the database for every table in the list
+        // and step through each structure table
+        for (TableInformation tableInfo : dbTable.loadTableDataBatch(allTableNameList,
+                                                                     null,
+                                                                     false,
+                                                                     false,
+                                                                     false,
+                                                                     ccddMain.getMainFrame()))
         {
-            // Get the information from the database for the specified table
-            TableInformation tableInfo = dbTable.loadTableData(table,
-                                                               false,
-                                                               false,
-                                                               false,
-                                                               false,
-                                                               ccddMain.getMainFrame());
+            // Get the table's path
+            String table = tableInfo.getTablePath();
 
             // Check if the table loaded successfully
             if (!tableInfo.isErrorFlag())
@@ -2371,7 +3178,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
 
                     // Check if the macro names should be replaced with the
                     // corresponding macro values
-                    if (isReplaceMacro)
+                    if (context.isReplaceMacro)
                     {
                         // Replace all macros in the table
                         tableInfo.setData(ccddMain.getMacroHandler().replaceAllMacros(tableInfo.getData()));
@@ -2481,6 +3288,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     /**************************************************************************
      * Get the information for each command matching the specified filters
      *
+     * @param context
+     *            web request context
+     *
      * @param groupFilter
      *            group (or application) name. A table must belong to the
      *            specified group in order for its telemetered variables to be
@@ -2491,7 +3301,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         matching the specified filters
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getCommandInformation(String groupFilter) throws CCDDException
+    private String getCommandInformation(RequestContext context,
+                                         String groupFilter) throws CCDDException
     {
         JSONArray commandsJA = new JSONArray();
         TypeDefinition typeDefn = null;
@@ -2524,6 +3335,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             groupTables = groupInfo.getTablesAndAncestors();
         }
 
+        List<String> commandTables = new ArrayList<String>();
+
         // Step through each command table
         for (String commandTable : dbTable.getPrototypeTablesOfType(TYPE_COMMAND))
         {
@@ -2533,186 +3346,193 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             if (groupFilter.isEmpty()
                 || groupTables.contains(commandTable))
             {
-                // Get the information from the database for the specified
-                // table
-                TableInformation tableInfo = dbTable.loadTableData(commandTable,
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   ccddMain.getMainFrame());
-
-                // Check if the table loaded successfully
-                if (!tableInfo.isErrorFlag())
-                {
-                    // Check if the table type changed. This accounts for
-                    // multiple table types that represent commands, and
-                    // prevents reloading the table type information for every
-                    // table
-                    if (!tableInfo.getType().equals(lastType))
-                    {
-                        String descColName;
-                        commandDescriptionIndex = -1;
+                // Add the table to the list of those to load
+                commandTables.add(commandTable);
+            }
+        }
 
-                        // Store the table type name
-                        lastType = tableInfo.getType();
+        // Load the information from the database for every command table in
+        // the list and step through each one
+        for (TableInformation tableInfo : dbTable.loadTableDataBatch(commandTables,
+                                                                     null,
+                                                                     false,
+                                                                     false,
+                                                                     false,
+                                                                     ccddMain.getMainFrame()))
+        {
+            // Get the command table's name
+            String commandTable = tableInfo.getTablePath();
 
-                        // Get the table's type definition
-                        typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+            // Check if the table loaded successfully
+            if (!tableInfo.isErrorFlag())
+            {
+                // Check if the table type changed. This accounts for
+                // multiple table types that represent commands, and
+                // prevents reloading the table type information for every
+                // table
+                if (!tableInfo.getType().equals(lastType))
+                {
+                    String descColName;
+                    commandDescriptionIndex = -1;
 
-                        // Get the command name column
-                        commandNameIndex = typeDefn.getColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_NAME));
+                    // Store the table type name
+                    lastType = tableInfo.getType();
 
-                        // Get the command name column
-                        commandCodeIndex = typeDefn.getColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_CODE));
+                    // Get the table's type definition
+                    typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
 
-                        // Check if a command description column exists
-                        if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
-                        {
-                            // Get the command description column
-                            commandDescriptionIndex = typeDefn.getColumnIndexByUserName(descColName);
-                        }
+                    // Get the command name column
+                    commandNameIndex = typeDefn.getColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_NAME));
 
-                        // Get the list containing command argument column
-                        // indices for each argument grouping
-                        commandArguments = typeDefn.getAssociatedCommandArgumentColumns(false);
-                    }
+                    // Get the command name column
+                    commandCodeIndex = typeDefn.getColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_CODE));
 
-                    // Check if the macro names should be replaced with the
-                    // corresponding macro values
-                    if (!isReplaceMacro)
+                    // Check if a command description column exists
+                    if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
                     {
-                        // Replace all macros in the table
-                        tableInfo.setData(ccddMain.getMacroHandler().replaceAllMacros(tableInfo.getData()));
+                        // Get the command description column
+                        commandDescriptionIndex = typeDefn.getColumnIndexByUserName(descColName);
                     }
 
-                    // Step through each command in the command table
-                    for (int row = 0; row < tableInfo.getData().length; row++)
+                    // Get the list containing command argument column
+                    // indices for each argument grouping
+                    commandArguments = typeDefn.getAssociatedCommandArgumentColumns(false);
+                }
+
+                // Check if the macro names should be replaced with the
+                // corresponding macro values
+                if (!context.isReplaceMacro)
+                {
+                    // Replace all macros in the table
+                    tableInfo.setData(ccddMain.getMacroHandler().replaceAllMacros(tableInfo.getData()));
+                }
+
+                // Step through each command in the command table
+                for (int row = 0; row < tableInfo.getData().length; row++)
+                {
+                    JSONObject commandJO = new JSONObject();
+                    String cellValue;
+
+                    // Check if the command name is present. If not then
+                    // all the command data on this row is skipped
+                    if (!(cellValue = tableInfo.getData()[row][commandNameIndex]).isEmpty())
                     {
-                        JSONObject commandJO = new JSONObject();
-                        String cellValue;
+                        JSONArray commandArgumentsJA = new JSONArray();
 
-                        // Check if the command name is present. If not then
-                        // all the command data on this row is skipped
-                        if (!(cellValue = tableInfo.getData()[row][commandNameIndex]).isEmpty())
-                        {
-                            JSONArray commandArgumentsJA = new JSONArray();
+                        // Store the name of the command table from which
+                        // this command is taken
+                        commandJO.put("Command Table Name", commandTable);
 
-                            // Store the name of the command table from which
-                            // this command is taken
-                            commandJO.put("Command Table Name", commandTable);
+                        // Store the command name in the JSON output
+                        commandJO.put(typeDefn.getColumnNamesUser()[commandNameIndex],
+                                      cellValue);
 
-                            // Store the command name in the JSON output
-                            commandJO.put(typeDefn.getColumnNamesUser()[commandNameIndex],
+                        // Check if the command code is present
+                        if (!(cellValue = tableInfo.getData()[row][commandCodeIndex]).isEmpty())
+                        {
+                            // Store the command code in the JSON output
+                            commandJO.put(typeDefn.getColumnNamesUser()[commandCodeIndex],
                                           cellValue);
+                        }
 
-                            // Check if the command code is present
-                            if (!(cellValue = tableInfo.getData()[row][commandCodeIndex]).isEmpty())
-                            {
-                                // Store the command code in the JSON output
-                                commandJO.put(typeDefn.getColumnNamesUser()[commandCodeIndex],
-                                              cellValue);
-                            }
+                        // Check if the command description is present
+                        if (commandDescriptionIndex != -1
+                            && !(cellValue = tableInfo.getData()[row][commandDescriptionIndex]).isEmpty())
+                        {
+                            // Store the command description in the JSON
+                            // output
+                            commandJO.put(typeDefn.getColumnNamesUser()[commandDescriptionIndex],
+                                          cellValue);
+                        }
 
-                            // Check if the command description is present
-                            if (commandDescriptionIndex != -1
-                                && !(cellValue = tableInfo.getData()[row][commandDescriptionIndex]).isEmpty())
-                            {
-                                // Store the command description in the JSON
-                                // output
-                                commandJO.put(typeDefn.getColumnNamesUser()[commandDescriptionIndex],
-                                              cellValue);
-                            }
+                        // Step through each command argument associated
+                        // with the current command row
+                        for (AssociatedColumns cmdArgument : commandArguments)
+                        {
+                            JSONObject commandArgumentJO = new JSONObject();
 
-                            // Step through each command argument associated
-                            // with the current command row
-                            for (AssociatedColumns cmdArgument : commandArguments)
+                            // Check if the command argument name column
+                            // has a value. If not, all associated argument
+                            // values are skipped
+                            if (!(cellValue = tableInfo.getData()[row][cmdArgument.getName()]).isEmpty())
                             {
-                                JSONObject commandArgumentJO = new JSONObject();
-
-                                // Check if the command argument name column
-                                // has a value. If not, all associated argument
-                                // values are skipped
-                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getName()]).isEmpty())
+                                // Store the command argument name in the
+                                // JSON output
+                                commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getName()],
+                                                      cellValue);
+
+                                // Check if the command argument data type
+                                // column has a value
+                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getDataType()]).isEmpty())
                                 {
-                                    // Store the command argument name in the
-                                    // JSON output
-                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getName()],
+                                    // Store the data type in the JSON
+                                    // output
+                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getDataType()],
                                                           cellValue);
+                                }
 
-                                    // Check if the command argument data type
-                                    // column has a value
-                                    if (!(cellValue = tableInfo.getData()[row][cmdArgument.getDataType()]).isEmpty())
-                                    {
-                                        // Store the data type in the JSON
-                                        // output
-                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getDataType()],
-                                                              cellValue);
-                                    }
+                                // Check if the command argument
+                                // enumeration column has a value
+                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getEnumeration()]).isEmpty())
+                                {
+                                    // Store the enumeration in the JSON
+                                    // output
+                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getEnumeration()],
+                                                          cellValue);
+                                }
 
-                                    // Check if the command argument
-                                    // enumeration column has a value
-                                    if (!(cellValue = tableInfo.getData()[row][cmdArgument.getEnumeration()]).isEmpty())
-                                    {
-                                        // Store the enumeration in the JSON
-                                        // output
-                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getEnumeration()],
-                                                              cellValue);
-                                    }
+                                // Check if the command argument minimum
+                                // column has a value
+                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getMinimum()]).isEmpty())
+                                {
+                                    // Store the minimum value in the JSON
+                                    // output
+                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getMinimum()],
+                                                          cellValue);
+                                }
 
-                                    // Check if the command argument minimum
-                                    // column has a value
-                                    if (!(cellValue = tableInfo.getData()[row][cmdArgument.getMinimum()]).isEmpty())
-                                    {
-                                        // Store the minimum value in the JSON
-                                        // output
-                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getMinimum()],
-                                                              cellValue);
-                                    }
+                                // Check if the command argument maximum
+                                // column has a value
+                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getMaximum()]).isEmpty())
+                                {
+                                    // Store the maximum value in the JSON
+                                    // output
+                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getMaximum()],
+                                                          cellValue);
+                                }
 
-                                    // Check if the command argument maximum
-                                    // column has a value
-                                    if (!(cellValue = tableInfo.getData()[row][cmdArgument.getMaximum()]).isEmpty())
+                                // Step through any other columns
+                                // associated with this command argument
+                                for (int otherArg : cmdArgument.getOther())
+                                {
+                                    // Check if the other argument column
+                                    // has a value
+                                    if (!(cellValue = tableInfo.getData()[row][otherArg]).isEmpty())
                                     {
-                                        // Store the maximum value in the JSON
+                                        // Store the value in the JSON
                                         // output
-                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getMaximum()],
+                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[otherArg],
                                                               cellValue);
                                     }
-
-                                    // Step through any other columns
-                                    // associated with this command argument
-                                    for (int otherArg : cmdArgument.getOther())
-                                    {
-                                        // Check if the other argument column
-                                        // has a value
-                                        if (!(cellValue = tableInfo.getData()[row][otherArg]).isEmpty())
-                                        {
-                                            // Store the value in the JSON
-                                            // output
-                                            commandArgumentJO.put(typeDefn.getColumnNamesUser()[otherArg],
-                                                                  cellValue);
-                                        }
-                                    }
                                 }
-
-                                // Store the command arguments in the JSON
-                                // array
-                                commandArgumentsJA.add(commandArgumentJO);
                             }
 
-                            // Check if the command has an argument
-                            if (!commandArgumentsJA.isEmpty())
-                            {
-                                // Store the command arguments in the JSON
-                                // output
-                                commandJO.put("Arguments", commandArgumentsJA);
-                            }
+                            // Store the command arguments in the JSON
+                            // array
+                            commandArgumentsJA.add(commandArgumentJO);
                         }
 
-                        // Add the command to the JSON array
-                        commandsJA.add(commandJO);
+                        // Check if the command has an argument
+                        if (!commandArgumentsJA.isEmpty())
+                        {
+                            // Store the command arguments in the JSON
+                            // output
+                            commandJO.put("Arguments", commandArgumentsJA);
+                        }
                     }
+
+                    // Add the command to the JSON array
+                    commandsJA.add(commandJO);
                 }
             }
         }
@@ -2723,42 +3543,51 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     /**************************************************************************
      * Get the table type definitions
      *
+     * @param context
+     *            web request context
+     *
      * @return JSON encoded string containing the table type definitions; an
      *         empty list if no table type definition exists
      *************************************************************************/
-    private String getTableTypeDefinitions()
+    private String getTableTypeDefinitions(RequestContext context)
     {
         // Add the table type definitions to the output
-        return jsonHandler.getTableTypeDefinitions(null,
-                                                   new JSONObject())
-                          .toJSONString();
+        return context.jsonHandler.getTableTypeDefinitions(null,
+                                                           new JSONObject())
+                                  .toJSONString();
     }
 
     /**************************************************************************
      * Get the data type definitions
      *
+     * @param context
+     *            web request context
+     *
      * @return JSON encoded string containing the data type definitions; an
      *         empty list if no data type definition exists
      *************************************************************************/
-    private String getDataTypeDefinitions()
+    private String getDataTypeDefinitions(RequestContext context)
     {
         // Add the data type definitions to the output
-        return jsonHandler.getDataTypeDefinitions(null,
-                                                  new JSONObject())
-                          .toJSONString();
+        return context.jsonHandler.getDataTypeDefinitions(null,
+                                                          new JSONObject())
+                                  .toJSONString();
     }
 
     /**************************************************************************
      * Get the macro definitions
      *
+     * @param context
+     *            web request context
+     *
      * @return JSON encoded string containing the macro definitions; an empty
      *         list if no macro definition exists
      *************************************************************************/
-    private String getMacroDefinitions()
+    private String getMacroDefinitions(RequestContext context)
     {
         // Add the macro definitions to the output
-        return jsonHandler.getMacroDefinitions(null,
-                                               new JSONObject())
-                          .toJSONString();
+        return context.jsonHandler.getMacroDefinitions(null,
+                                                       new JSONObject())
+                                  .toJSONString();
     }
 }
@@ -9,7 +9,11 @@
 package CCDD;
 
 import static CCDD.CcddConstants.DEFAULT_WEB_SERVER_PORT;
+import static CCDD.CcddConstants.WEB_SERVER_MAX_QUEUED_REQUESTS;
+import static CCDD.CcddConstants.WEB_SERVER_MAX_THREADS;
+import static CCDD.CcddConstants.WEB_SERVER_MIN_THREADS;
 import static CCDD.CcddConstants.WEB_SERVER_PORT;
+import static CCDD.CcddConstants.WEB_SERVER_THREAD_IDLE_TIMEOUT;
 
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -22,9 +26,11 @@ import org.eclipse.jetty.security.authentication.BasicAuthenticator;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.UserIdentity;
+import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.log.Logger;
 import org.eclipse.jetty.util.security.Constraint;
 import org.eclipse.jetty.util.security.Credential;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
 import CCDD.CcddConstants.EventLogMessageType;
 
@@ -86,9 +92,27 @@ public class CcddWebServer
     {
         try
         {
-            // Create the web server using the currently specified port
-            server = new Server(Integer.valueOf(ccddMain.getProgPrefs().get(WEB_SERVER_PORT,
-                                                                            DEFAULT_WEB_SERVER_PORT)));
+            // Create the pool of threads used to process the web server
+            // requests. The number of threads and the number of requests
+            // waiting for a thread are bounded so that a burst of requests
+            // can't exhaust the application's resources
+            QueuedThreadPool threadPool = new QueuedThreadPool(WEB_SERVER_MAX_THREADS,
+                                                               WEB_SERVER_MIN_THREADS,
+                                                               WEB_SERVER_THREAD_IDLE_TIMEOUT,
+                                                               new BlockingArrayQueue<Runnable>(WEB_SERVER_MIN_THREADS,
+                                                                                                WEB_SERVER_MIN_THREADS,
+                                                                                                WEB_SERVER_MAX_QUEUED_REQUESTS));
+            threadPool.setName("CCDD web server");
+
+            // Create the web server using the thread pool
+            server = new Server(threadPool);
+
+            // Create the connector that listens for requests on the currently
+            // specified port
+            ServerConnector connector = new ServerConnector(server);
+            connector.setPort(Integer.valueOf(ccddMain.getProgPrefs().get(WEB_SERVER_PORT,
+                                                                          DEFAULT_WEB_SERVER_PORT)));
+            server.addConnector(connector);
 
             // Stop the web server when the application exits
             server.setStopAtShutdown(true);
@@ -105,44 +129,53 @@ public class CcddWebServer
                 {
                     UserIdentity identity = null;
 
-                    try
+                    // Convert the password object to a string
+                    String passwordS = password.toString();
+
+                    // Since requests are handled concurrently, only allow one
+                    // request at a time to check and update the authenticated
+                    // user+password
+                    synchronized (CcddWebServer.this)
                     {
-                        // Convert the password object to a string
-                        String passwordS = password.toString();
-
-                        // Check if the user+password hasn't been set of if
-                        // either has changed. This prevents contacting the
-                        // PostgreSQL server with each request after the
-                        // user+password is authenticated initially
-                        if (validUser == null
-                            || !validUser.equals(user)
-                            || !validPassword.equals(passwordS))
+                        try
                         {
-                            // Attempt to connect to the database using the
-                            // supplied user and password
-                            DriverManager.getConnection(dbControl.getDatabaseURL(dbControl.getDatabase()),
-                                                        user,
-                                                        passwordS);
-
-                            // Store the authenticated user and password for
-                            // future login requests
-                            validUser = user;
-                            validPassword = passwordS;
+                            // Check if the user+password hasn't been set of if
+                            // either has changed. This prevents contacting the
+                            // PostgreSQL server with each request after the
+                            // user+password is authenticated initially
+                            if (validUser == null
+                                || !validUser.equals(user)
+                                || !validPassword.equals(passwordS))
+                            {
+                                // Attempt to connect to the database using the
+                                // supplied user and password, then close the
+                                // connection since it's no longer needed
+                                DriverManager.getConnection(dbControl.getDatabaseURL(dbControl.getDatabase()),
+                                                            user,
+                                                            passwordS)
+                                             .close();
+
+                                // Store the authenticated user and password
+                                // for future login requests
+                                validUser = user;
+                                validPassword = passwordS;
+                            }
+
+                            // User+password combination is valid, so set the
+                            // user identity using the generic login
+                            // credentials
+                            identity = super.login("valid", "valid");
                         }
+                        catch (SQLException se)
+                        {
+                            validUser = null;
+                            validPassword = null;
 
-                        // User+password combination is valid, so set the user
-                        // identity using the generic login credentials
-                        identity = super.login("valid", "valid");
-                    }
-                    catch (SQLException se)
-                    {
-                        validUser = null;
-                        validPassword = null;
-
-                        // The supplied user+password combination is not valid;
-                        // set the user identity using invalid credentials so
-                        // that the request is rejected
-                        identity = super.login("invalid", "invalid");
+                            // The supplied user+password combination is not
+                            // valid; set the user identity using invalid
+                            // credentials so that the request is rejected
+                            identity = super.login("invalid", "invalid");
+                        }
                     }
 
                     return identity;
@@ -13,22 +13,38 @@ import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
 
 import java.awt.Component;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
+import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
-
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.omg.space.xtce.AliasSetType;
 import org.omg.space.xtce.ArgumentTypeSetType;
 import org.omg.space.xtce.ArgumentTypeSetType.FloatArgumentType;
 import org.omg.space.xtce.ArgumentTypeSetType.IntegerArgumentType;
@@ -105,7 +121,6 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     private List<TableDefinition> tableDefinitions;
 
     // JAXB and XTCE object references
-    private JAXBElement<SpaceSystemType> project;
     private Marshaller marshaller;
     private Unmarshaller unmarshaller;
     private ObjectFactory factory;
@@ -134,6 +149,52 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     private List<String> referencedMacros;
     private List<String[]> referencedVariablePaths;
 
+    // Flags indicating if importing should continue after an input error is
+    // detected
+    private boolean continueOnColumnError;
+    private boolean continueOnDataFieldError;
+
+    // Name of the XTCE space system element
+    private static final String SPACE_SYSTEM_ELEMENT = "SpaceSystem";
+
+    // XTCE namespace and schema location
+    private static final String XTCE_NAMESPACE = "http://www.omg.org/space/xtce";
+    private static final String XTCE_SCHEMA_LOCATION = "http://www.omg.org/spec/XTCE/20061101/06-11-06.xsd";
+
+    // Space system hierarchy index. Maps each space system's name to the node
+    // representing it so that an existing system is located without
+    // searching the hierarchy
+    private Map<String, SpaceSystemNode> spaceSystemIndex;
+
+    /**************************************************************************
+     * Space system hierarchy node class. Describes the position of a space
+     * system in the exported hierarchy without holding its contents, which
+     * are created only when the space system is output
+     *************************************************************************/
+    private class SpaceSystemNode
+    {
+        private final String name;
+        private final String tableName;
+        private final List<SpaceSystemNode> children;
+
+        /**********************************************************************
+         * Space system hierarchy node class constructor
+         *
+         * @param name
+         *            space system name
+         *
+         * @param tableName
+         *            name of the table the space system represents; null if
+         *            the space system represents a system
+         *********************************************************************/
+        SpaceSystemNode(String name, String tableName)
+        {
+            this.name = name;
+            this.tableName = tableName;
+            children = new ArrayList<SpaceSystemNode>();
+        }
+    }
+
     // XTCE data types
     private enum XTCEDataType
     {
@@ -256,12 +317,12 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
         try
         {
             // Create the XML marshaller used to convert the CCDD project data
-            // into XTCE XML format
+            // into XTCE XML format. The space systems are output one at a
+            // time, so the marshaller converts the contents of each system as
+            // a fragment of the document
             JAXBContext context = JAXBContext.newInstance("org.omg.space.xtce");
             marshaller = context.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
-                                   "http://www.omg.org/spec/XTCE/20061101/06-11-06.xsd");
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT,
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT,
                                    new Boolean(true));
 
             // Create the factory for building the space system objects
@@ -335,13 +396,31 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                                                       IOException,
                                                       Exception
     {
+        XMLStreamReader reader = null;
+        FileInputStream inputStream = null;
+
         try
         {
-            // Import the XML from the specified file
-            JAXBElement<?> jaxbElement = (JAXBElement<?>) unmarshaller.unmarshal(importFile);
+            // Create a stream reader for the XML in the specified file. The
+            // space systems are read and converted one at a time so that the
+            // entire file isn't held in memory. If a table definition
+            // listener is set then each space system's table definition is
+            // handed to it once the system is converted, so the table
+            // definitions aren't held in memory either
+            inputStream = new FileInputStream(importFile);
+            reader = XMLInputFactory.newInstance().createXMLStreamReader(inputStream);
+
+            // Move to the top-level space system
+            reader.nextTag();
+
+            // Check if the top-level element isn't a space system
+            if (!reader.getLocalName().equals(SPACE_SYSTEM_ELEMENT))
+            {
+                throw new CCDDException("Invalid XTCE file; top-level element isn't a space system");
+            }
 
-            // Get the top-level space system
-            SpaceSystemType rootSystem = (SpaceSystemType) jaxbElement.getValue();
+            // Get the top-level space system, excluding its child systems
+            SpaceSystemType rootSystem = readSpaceSystem(reader);
 
             // Import the table type, if present
             importTableTypeDefinitions(rootSystem, importFile.getAbsolutePath());
@@ -356,17 +435,26 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
             }
 
             tableDefinitions = new ArrayList<TableDefinition>();
+            continueOnColumnError = false;
+            continueOnDataFieldError = false;
 
-            // Step through each system name (tables not assigned to a system
+            // Step through each system (tables not assigned to a system
             // should be placed under DefaultSystem)
-            for (SpaceSystemType spaceSystem : rootSystem.getSpaceSystem())
+            while (reader.isStartElement())
             {
-                // Recursively step through the XTCE-formatted data and extract
-                // the telemetry and command information
-                unbuildSpaceSystems(spaceSystem,
-                                    spaceSystem.getName(),
-                                    importType,
-                                    importFile.getAbsolutePath());
+                // Read the system's information; only its child systems
+                // (tables) are used
+                readSpaceSystem(reader);
+
+                // Step through each of the system's tables
+                while (reader.isStartElement())
+                {
+                    // Extract the telemetry and command information for the
+                    // table and, if importing all tables, its child tables
+                    importSpaceSystem(reader,
+                                      importType,
+                                      importFile.getAbsolutePath());
+                }
 
                 // Check if only the data from the first table is to be read
                 if (importType == ImportType.FIRST_DATA_ONLY)
@@ -374,9 +462,12 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                     // Stop reading table definitions
                     break;
                 }
+
+                // Move past the end of the system
+                reader.nextTag();
             }
         }
-        catch (JAXBException je)
+        catch (JAXBException | XMLStreamException je)
         {
             // Inform the user that the database import failed
             new CcddDialogHandler().showMessageDialog(parent,
@@ -389,6 +480,222 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                                                       JOptionPane.ERROR_MESSAGE,
                                                       DialogOption.OK_OPTION);
         }
+        finally
+        {
+            // Check if the stream reader was created
+            if (reader != null)
+            {
+                // Close the stream reader
+                reader.close();
+            }
+
+            // Check if the input file was opened
+            if (inputStream != null)
+            {
+                // Close the input file
+                inputStream.close();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Read the space system at the stream reader's current position and
+     * extract the telemetry and command information for the table it
+     * represents. If all tables are imported then the space system's child
+     * systems (tables) are read and processed in turn; otherwise the child
+     * systems are skipped. Only one space system at a time is held in memory
+     *
+     * @param reader
+     *            XML stream reader positioned at the start of the space system
+     *            element. On return the reader is positioned at the next
+     *            element following the space system
+     *
+     * @param importType
+     *            ImportType.IMPORT_ALL to import the table data fields along
+     *            with the data from the table; ImportType.FIRST_DATA_ONLY to
+     *            load only the data for the table
+     *
+     * @param importFileName
+     *            import file name
+     *
+     * @throws CCDDException
+     *             If a data is missing, extraneous, or in error in the import
+     *             file
+     *
+     * @throws XMLStreamException
+     *             If an error occurs reading the XML
+     *
+     * @throws JAXBException
+     *             If an error occurs converting the XML to a space system
+     *************************************************************************/
+    private void importSpaceSystem(XMLStreamReader reader,
+                                   ImportType importType,
+                                   String importFileName) throws CCDDException,
+                                                          XMLStreamException,
+                                                          JAXBException
+    {
+        // Read the space system, excluding its child systems, and extract the
+        // table's information
+        unbuildSpaceSystem(readSpaceSystem(reader),
+                           importType,
+                           importFileName);
+
+        // Step through each of the space system's child systems. Only
+        // structure tables can have child tables, and all child tables are
+        // structure tables
+        while (reader.isStartElement())
+        {
+            // Check if the data from all tables is to be read
+            if (importType == ImportType.IMPORT_ALL
+                && reader.getLocalName().equals(SPACE_SYSTEM_ELEMENT))
+            {
+                // Process the child system and its children, if any
+                importSpaceSystem(reader, importType, importFileName);
+            }
+            // The child system isn't processed
+            else
+            {
+                // Skip the element
+                skipElement(reader);
+            }
+        }
+
+        // Move past the end of the space system
+        reader.nextTag();
+    }
+
+    /**************************************************************************
+     * Read the space system at the stream reader's current position, omitting
+     * its child space systems. Since the XTCE schema places the child space
+     * systems after all of a space system's other elements, the reader is left
+     * positioned at the start of the first child space system (or at the end
+     * of the space system if it has no children) so that the children can be
+     * read in turn
+     *
+     * @param reader
+     *            XML stream reader positioned at the start of a space system
+     *            element
+     *
+     * @return Space system containing the attributes and elements, other than
+     *         the child space systems, of the space system element
+     *
+     * @throws XMLStreamException
+     *             If an error occurs reading the XML
+     *
+     * @throws JAXBException
+     *             If an error occurs converting an element of the space
+     *             system
+     *************************************************************************/
+    private SpaceSystemType readSpaceSystem(XMLStreamReader reader) throws XMLStreamException,
+                                                                    JAXBException
+    {
+        // Create the space system and store its attributes
+        SpaceSystemType spaceSystem = factory.createSpaceSystemType();
+        spaceSystem.setName(reader.getAttributeValue(null, "name"));
+        spaceSystem.setShortDescription(reader.getAttributeValue(null, "shortDescription"));
+        spaceSystem.setOperationalStatus(reader.getAttributeValue(null, "operationalStatus"));
+
+        // Move to the space system's first child element, if any
+        reader.nextTag();
+
+        // Step through each child element until a child space system or the
+        // end of the space system is reached
+        while (reader.isStartElement()
+               && !reader.getLocalName().equals(SPACE_SYSTEM_ELEMENT))
+        {
+            switch (reader.getLocalName())
+            {
+                case "LongDescription":
+                    spaceSystem.setLongDescription(unmarshaller.unmarshal(reader,
+                                                                          String.class)
+                                                               .getValue());
+                    break;
+
+                case "AliasSet":
+                    spaceSystem.setAliasSet(unmarshaller.unmarshal(reader,
+                                                                   AliasSetType.class)
+                                                        .getValue());
+                    break;
+
+                case "AncillaryDataSet":
+                    spaceSystem.setAncillaryDataSet(unmarshaller.unmarshal(reader,
+                                                                           AncillaryDataSet.class)
+                                                                .getValue());
+                    break;
+
+                case "Header":
+                    spaceSystem.setHeader(unmarshaller.unmarshal(reader,
+                                                                 HeaderType.class)
+                                                      .getValue());
+                    break;
+
+                case "TelemetryMetaData":
+                    spaceSystem.setTelemetryMetaData(unmarshaller.unmarshal(reader,
+                                                                            TelemetryMetaDataType.class)
+                                                                 .getValue());
+                    break;
+
+                case "CommandMetaData":
+                    spaceSystem.setCommandMetaData(unmarshaller.unmarshal(reader,
+                                                                          CommandMetaDataType.class)
+                                                               .getValue());
+                    break;
+
+                default:
+                    // Skip any other element (e.g., the service set) since
+                    // it isn't used by the import
+                    skipElement(reader);
+                    continue;
+            }
+
+            // Check if the reader isn't positioned at an element following
+            // the converted element (i.e., it's at intervening whitespace)
+            if (!reader.isStartElement() && !reader.isEndElement())
+            {
+                // Move to the next element
+                reader.nextTag();
+            }
+        }
+
+        return spaceSystem;
+    }
+
+    /**************************************************************************
+     * Skip the element, including its contents, at the stream reader's
+     * current position
+     *
+     * @param reader
+     *            XML stream reader positioned at the start of the element to
+     *            skip. On return the reader is positioned at the next element
+     *            following the skipped one
+     *
+     * @throws XMLStreamException
+     *             If an error occurs reading the XML
+     *************************************************************************/
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException
+    {
+        int depth = 1;
+
+        // Step through the XML until the end of the element is reached
+        while (depth != 0)
+        {
+            // Get the next event
+            int event = reader.next();
+
+            // Check if this is the start of a nested element
+            if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                depth++;
+            }
+            // Check if this is the end of an element
+            else if (event == XMLStreamConstants.END_ELEMENT)
+            {
+                depth--;
+            }
+        }
+
+        // Move to the next element
+        reader.nextTag();
     }
 
     /**************************************************************************
@@ -448,8 +755,10 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
 
         try
         {
-            // Convert the table data into XTCE XML format
-            convertTablesToXTCE(tableNames,
+            // Convert the table data into XTCE XML format and output it to the
+            // specified file
+            convertTablesToXTCE(exportFile,
+                                tableNames,
                                 replaceMacros,
                                 includeReservedMsgIDs,
                                 includeVariablePaths,
@@ -461,31 +770,8 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                                 extraInfo[3],
                                 extraInfo[4],
                                 extraInfo[5]);
-
-            try
-            {
-                // Output the file creation information
-                marshaller.setProperty("com.sun.xml.internal.bind.xmlHeaders",
-                                       "\n<!-- Created "
-                                                                               + new Date().toString()
-                                                                               + " : project = "
-                                                                               + dbControl.getDatabase()
-                                                                               + " : host = "
-                                                                               + dbControl.getServer()
-                                                                               + " : user = "
-                                                                               + dbControl.getUser()
-                                                                               + " -->");
-            }
-            catch (JAXBException je)
-            {
-                // Ignore the error if setting this property fails; the comment
-                // is not included
-            }
-
-            // Output the XML to the specified file
-            marshaller.marshal(project, exportFile);
         }
-        catch (JAXBException je)
+        catch (JAXBException | XMLStreamException je)
         {
             // Inform the user that the database export failed
             new CcddDialogHandler().showMessageDialog(parent,
@@ -499,6 +785,18 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                                                       DialogOption.OK_OPTION);
             errorFlag = true;
         }
+        catch (IOException ioe)
+        {
+            // Inform the user that the data file cannot be written to
+            new CcddDialogHandler().showMessageDialog(parent,
+                                                      "<html><b>Cannot write to export file '</b>"
+                                                              + exportFile.getAbsolutePath()
+                                                              + "<b>'",
+                                                      "File Error",
+                                                      JOptionPane.ERROR_MESSAGE,
+                                                      DialogOption.OK_OPTION);
+            errorFlag = true;
+        }
         catch (Exception e)
         {
             // Display a dialog providing details on the unanticipated error
@@ -510,7 +808,14 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     }
 
     /**************************************************************************
-     * Convert the project database contents to XTCE XML format
+     * Convert the project database contents to XTCE XML format and output it
+     * to the specified file. The space system hierarchy is determined first
+     * from the tables' system data fields; each space system is then created
+     * and output in turn, so that only one table's data is held in memory at a
+     * time
+     *
+     * @param exportFile
+     *            reference to the user-specified output file
      *
      * @param tableNames
      *            array of table names to convert
@@ -555,8 +860,20 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
      *
      * @param classification3
      *            third level classification attribute
+     *
+     * @throws JAXBException
+     *             If an error occurs converting a space system's contents to
+     *             XML
+     *
+     * @throws XMLStreamException
+     *             If an error occurs writing the XML
+     *
+     * @throws IOException
+     *             If the export file or the temporary file used to hold the
+     *             space systems can't be written
      *************************************************************************/
-    private void convertTablesToXTCE(String[] tableNames,
+    private void convertTablesToXTCE(File exportFile,
+                                     String[] tableNames,
                                      boolean replaceMacros,
                                      boolean includeReservedMsgIDs,
                                      boolean includeVariablePaths,
@@ -567,7 +884,9 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                                      String validationStatus,
                                      String classification1,
                                      String classification2,
-                                     String classification3)
+                                     String classification3) throws JAXBException,
+                                                             XMLStreamException,
+                                                             IOException
     {
         referencedTableTypes = new ArrayList<String>();
         referencedDataTypes = new ArrayList<String>();
@@ -584,66 +903,327 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
         classification2Attr = classification2;
         classification3Attr = classification3;
 
-        // Create the root space system
-        SpaceSystemType rootSystem = addSpaceSystem(null,
-                                                    dbControl.getDatabase(),
-                                                    dbControl.getDatabaseDescription(dbControl.getDatabase()),
-                                                    classification1Attr,
-                                                    validationStatusAttr,
-                                                    versionAttr,
-                                                    null);
+        // Create the root of the space system hierarchy and the index used
+        // to locate the space systems by name
+        spaceSystemIndex = new HashMap<String, SpaceSystemNode>();
+        SpaceSystemNode rootNode = new SpaceSystemNode(dbControl.getDatabase(),
+                                                       null);
+        spaceSystemIndex.put(rootNode.name, rootNode);
 
-        // Add the project's space systems, parameters, and commands
-        buildSpaceSystems(tableNames,
-                          includeVariablePaths,
-                          variableHandler,
-                          separators,
-                          rootSystem);
+        // Determine the position of each table's space system in the
+        // hierarchy
+        buildSpaceSystemHierarchy(tableNames, rootNode);
 
-        List<String[]> otherAttrs = new ArrayList<String[]>();
+        File systemFile = null;
+        BufferedWriter systemWriter = null;
+        XMLStreamWriter systemXMLWriter = null;
+        BufferedWriter exportWriter = null;
+        XMLStreamWriter exportXMLWriter = null;
 
-        // Add the table type and data type definitions to list
-        otherAttrs.addAll(exportTableTypeDefinitions());
-        otherAttrs.addAll(exportDataTypeDefinitions());
+        try
+        {
+            // Create a temporary file to hold the root space system's child
+            // systems. The child systems are output first since the root
+            // system's ancillary data lists the table types, data types,
+            // macros, and variable paths referenced by the tables, and the
+            // XTCE schema places the ancillary data ahead of the child systems
+            systemFile = File.createTempFile(exportFile.getName(), "");
+            systemWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(systemFile),
+                                                                     "UTF-8"));
+            systemXMLWriter = createXMLStreamWriter(systemWriter, 1);
+
+            // Step through each of the root space system's child systems
+            for (SpaceSystemNode childNode : rootNode.children)
+            {
+                // Output the child system and its child systems
+                writeSpaceSystem(systemXMLWriter,
+                                 childNode,
+                                 includeVariablePaths,
+                                 variableHandler,
+                                 separators);
+            }
+
+            systemXMLWriter.flush();
+            systemWriter.flush();
+
+            // Create the root space system
+            SpaceSystemType rootSystem = createSpaceSystem(dbControl.getDatabase(),
+                                                           dbControl.getDatabaseDescription(dbControl.getDatabase()),
+                                                           classification1Attr,
+                                                           validationStatusAttr,
+                                                           versionAttr,
+                                                           new Date().toString(),
+                                                           null);
+
+            List<String[]> otherAttrs = new ArrayList<String[]>();
+
+            // Add the table type and data type definitions to list
+            otherAttrs.addAll(exportTableTypeDefinitions());
+            otherAttrs.addAll(exportDataTypeDefinitions());
+
+            // Check if the macro names are to be retained
+            if (!replaceMacros)
+            {
+                // Add the macro definitions to the list
+                otherAttrs.addAll(exportMacroDefinitions());
+            }
+
+            // Check if the user elected to store the reserved message IDs
+            if (includeReservedMsgIDs)
+            {
+                // Add the reserved message ID definitions to the list
+                otherAttrs.addAll(exportReservedMsgIDDefinitions());
+            }
 
-        // Check if the macro names are to be retained
-        if (!replaceMacros)
+            // Check if the user elected to store the variable paths
+            if (includeVariablePaths)
+            {
+                // Add the variable paths to the list
+                otherAttrs.addAll(exportVariablePaths());
+            }
+
+            // Check if other attributes exist
+            if (!otherAttrs.isEmpty())
+            {
+                // Store the other data as ancillary data
+                rootSystem.setAncillaryDataSet(storeOtherAttributes(otherAttrs));
+            }
+
+            // Create the export file and output the XML declaration
+            exportWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(exportFile),
+                                                                     "UTF-8"));
+            exportWriter.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+            exportXMLWriter = createXMLStreamWriter(exportWriter, 0);
+
+            // Output the file creation information
+            exportXMLWriter.writeComment(" Created "
+                                         + new Date().toString()
+                                         + " : project = "
+                                         + dbControl.getDatabase()
+                                         + " : host = "
+                                         + dbControl.getServer()
+                                         + " : user = "
+                                         + dbControl.getUser()
+                                         + " ");
+
+            // Output the root space system's attributes and contents
+            writeSpaceSystemStart(exportXMLWriter, rootSystem, true);
+            exportXMLWriter.flush();
+
+            BufferedReader systemReader = null;
+
+            try
+            {
+                // Copy the child systems from the temporary file into the
+                // export file
+                systemReader = new BufferedReader(new InputStreamReader(new FileInputStream(systemFile),
+                                                                        "UTF-8"));
+                char[] buffer = new char[8192];
+                int length;
+
+                while ((length = systemReader.read(buffer)) != -1)
+                {
+                    exportWriter.write(buffer, 0, length);
+                }
+            }
+            finally
+            {
+                // Check if the temporary file was opened
+                if (systemReader != null)
+                {
+                    // Close the temporary file
+                    systemReader.close();
+                }
+            }
+
+            // Complete the root space system
+            exportXMLWriter.writeEndElement();
+            exportXMLWriter.writeEndDocument();
+            exportXMLWriter.flush();
+        }
+        finally
         {
-            // Add the macro definitions to the list
-            otherAttrs.addAll(exportMacroDefinitions());
+            // Check if the XML stream writers were created
+            if (systemXMLWriter != null)
+            {
+                systemXMLWriter.close();
+            }
+
+            if (exportXMLWriter != null)
+            {
+                exportXMLWriter.close();
+            }
+
+            // Check if the temporary file was opened
+            if (systemWriter != null)
+            {
+                // Close the temporary file
+                systemWriter.close();
+            }
+
+            // Check if the export file was opened
+            if (exportWriter != null)
+            {
+                // Close the export file
+                exportWriter.close();
+            }
+
+            // Check if the temporary file was created
+            if (systemFile != null)
+            {
+                // Delete the temporary file
+                systemFile.delete();
+            }
         }
+    }
+
+    /**************************************************************************
+     * Create an XML stream writer for outputting the XTCE XML. The output is
+     * indented to match the formatted output produced by the JAXB marshaller,
+     * and the elements are placed in the (unprefixed) XTCE namespace
+     *
+     * @param writer
+     *            writer to which to output the XML
+     *
+     * @param baseDepth
+     *            nesting level at which the elements written begin; 0 if
+     *            writing the entire document
+     *
+     * @return XML stream writer
+     *
+     * @throws XMLStreamException
+     *             If the XML stream writer can't be created
+     *************************************************************************/
+    private XMLStreamWriter createXMLStreamWriter(BufferedWriter writer,
+                                                  int baseDepth) throws XMLStreamException
+    {
+        XMLStreamWriter xmlWriter = new CcddIndentingXMLStreamWriter(writer,
+                                                                     baseDepth);
+        xmlWriter.setDefaultNamespace(XTCE_NAMESPACE);
+        return xmlWriter;
+    }
+
+    /**************************************************************************
+     * Output the start of a space system element, along with its attributes
+     * and contents. The element's child systems, if any, must be output next,
+     * followed by the end of the element
+     *
+     * @param xmlWriter
+     *            XML stream writer
+     *
+     * @param system
+     *            space system to output
+     *
+     * @param isRoot
+     *            true if this is the root space system; the namespace
+     *            declarations and schema location are output with the root
+     *            space system
+     *
+     * @throws JAXBException
+     *             If an error occurs converting the space system's contents
+     *             to XML
+     *
+     * @throws XMLStreamException
+     *             If an error occurs writing the XML
+     *************************************************************************/
+    private void writeSpaceSystemStart(XMLStreamWriter xmlWriter,
+                                       SpaceSystemType system,
+                                       boolean isRoot) throws JAXBException,
+                                                       XMLStreamException
+    {
+        xmlWriter.writeStartElement(XTCE_NAMESPACE, SPACE_SYSTEM_ELEMENT);
 
-        // Check if the user elected to store the reserved message IDs
-        if (includeReservedMsgIDs)
+        // Check if this is the root space system
+        if (isRoot)
         {
-            // Add the reserved message ID definitions to the list
-            otherAttrs.addAll(exportReservedMsgIDDefinitions());
+            // Declare the XTCE and schema instance namespaces
+            xmlWriter.writeDefaultNamespace(XTCE_NAMESPACE);
+            xmlWriter.writeNamespace("xsi",
+                                     XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
         }
 
-        // Check if the user elected to store the variable paths
-        if (includeVariablePaths)
+        xmlWriter.writeAttribute("name", system.getName());
+
+        // Check if the space system has a description
+        if (system.getShortDescription() != null)
         {
-            // Add the variable paths to the list
-            otherAttrs.addAll(exportVariablePaths());
+            xmlWriter.writeAttribute("shortDescription",
+                                     system.getShortDescription());
         }
 
-        // Check if other attributes exist
-        if (otherAttrs != null && !otherAttrs.isEmpty())
+        // Check if this is the root space system
+        if (isRoot)
         {
-            // Store the other data as ancillary data
-            rootSystem.setAncillaryDataSet(storeOtherAttributes(otherAttrs));
+            // Set the schema location
+            xmlWriter.writeAttribute("xsi",
+                                     XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+                                     "schemaLocation",
+                                     XTCE_SCHEMA_LOCATION);
         }
+
+        // Output the space system's contents in the order specified by the
+        // XTCE schema
+        writeElement(xmlWriter,
+                     "AncillaryDataSet",
+                     AncillaryDataSet.class,
+                     system.getAncillaryDataSet());
+        writeElement(xmlWriter,
+                     "Header",
+                     HeaderType.class,
+                     system.getHeader());
+        writeElement(xmlWriter,
+                     "TelemetryMetaData",
+                     TelemetryMetaDataType.class,
+                     system.getTelemetryMetaData());
+        writeElement(xmlWriter,
+                     "CommandMetaData",
+                     CommandMetaDataType.class,
+                     system.getCommandMetaData());
     }
 
     /**************************************************************************
-     * Recursively step through the XTCE-formatted data and extract the
-     * telemetry and command information
+     * Convert an element of a space system's contents to XML and output it
      *
-     * @param parentSystem
-     *            parent space system nest level
+     * @param xmlWriter
+     *            XML stream writer
      *
-     * @param systemName
-     *            system name
+     * @param elementName
+     *            XTCE element name
+     *
+     * @param type
+     *            class of the element's value
+     *
+     * @param value
+     *            element value; null if the element isn't present (nothing is
+     *            output)
+     *
+     * @throws JAXBException
+     *             If an error occurs converting the element to XML
+     *************************************************************************/
+    private <T> void writeElement(XMLStreamWriter xmlWriter,
+                                  String elementName,
+                                  Class<T> type,
+                                  T value) throws JAXBException
+    {
+        // Check if the element is present
+        if (value != null)
+        {
+            // Output the element as a fragment of the document
+            marshaller.marshal(new JAXBElement<T>(new QName(XTCE_NAMESPACE,
+                                                            elementName),
+                                                  type,
+                                                  value),
+                               xmlWriter);
+        }
+    }
+
+    /**************************************************************************
+     * Extract the telemetry and command information from the XTCE-formatted
+     * data for a single space system (table). The space system's child
+     * systems, if any, are not processed
+     *
+     * @param childSystem
+     *            space system representing the table
      *
      * @param importAll
      *            ImportType.IMPORT_ALL to import the table data fields along
@@ -652,901 +1232,887 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
      *
      * @param importFileName
      *            import file name
+     *
+     * @throws CCDDException
+     *             If the table information is in error or the table definition
+     *             listener can't handle the table definition
      *************************************************************************/
-    private void unbuildSpaceSystems(SpaceSystemType parentSystem,
-                                     String systemName,
-                                     ImportType importType,
-                                     String importFileName) throws CCDDException
+    private void unbuildSpaceSystem(SpaceSystemType childSystem,
+                                    ImportType importType,
+                                    String importFileName) throws CCDDException
     {
-        // Get the list of this parent system's child systems
-        List<SpaceSystemType> childSystems = parentSystem.getSpaceSystem();
-
-        int numColumns = 0;
+        // Get the number of columns for the current table type, if any. A
+        // table without a table type uses the type of the previous table
+        int numColumns = typeDefn != null
+                                          ? typeDefn.getColumnCountVisible()
+                                          : 0;
+
+        // Create a table definition for this table
+        TableDefinition tableDefn = new TableDefinition(childSystem.getName(),
+                                                        childSystem.getShortDescription());
+
+        // Structure table description
+        if (childSystem.getShortDescription() != null
+            && !childSystem.getShortDescription().isEmpty())
+        {
+            tableDefn.setDescription(childSystem.getShortDescription());
+        }
 
-        // Flags indicating if importing should continue after an input
-        // error is detected
-        boolean continueOnColumnError = false;
-        boolean continueOnDataFieldError = false;
+        /**********************************************************************
+         * Other data processing
+         *******************************************************************/
+        // Get the table type and data fields for this table. Also, if this
+        // table's type isn't a structure or a command then get the table's
+        // column information
+        AncillaryDataSet ancillarySet = childSystem.getAncillaryDataSet();
 
-        // Step through each child system, if any. Only structure tables can
-        // have child tables, and all child tables are structure tables
-        for (SpaceSystemType childSystem : childSystems)
+        // Check if any extra data exists
+        if (ancillarySet != null)
         {
-            // Create a table definition for this table
-            TableDefinition tableDefn = new TableDefinition(childSystem.getName(),
-                                                            childSystem.getShortDescription());
-
-            // Structure table description
-            if (childSystem.getShortDescription() != null
-                && !childSystem.getShortDescription().isEmpty())
+            // Step through the extra data
+            for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
             {
-                tableDefn.setDescription(childSystem.getShortDescription());
-            }
+                // Check if this is the table type
+                if (ancillaryData.getName().equals(XTCETags.TABLE_TYPE.getTag()))
+                {
+                    // Store the table's type name
+                    tableDefn.setTypeName(ancillaryData.getValue());
 
-            /******************************************************************
-             * Other data processing
-             ***************************************************************/
-            // Get the table type and data fields for this table. Also, if this
-            // table's type isn't a structure or a command then get the table's
-            // column information
-            AncillaryDataSet ancillarySet = childSystem.getAncillaryDataSet();
+                    // Get the table's type definition based on the type
+                    // name
+                    typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getTypeName());
 
-            // Check if any extra data exists
-            if (ancillarySet != null)
-            {
-                // Step through the extra data
-                for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
-                {
-                    // Check if this is the table type
-                    if (ancillaryData.getName().equals(XTCETags.TABLE_TYPE.getTag()))
+                    // Check if the table type isn't recognized
+                    if (typeDefn == null)
                     {
-                        // Store the table's type name
-                        tableDefn.setTypeName(ancillaryData.getValue());
-
-                        // Get the table's type definition based on the type
-                        // name
-                        typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getTypeName());
+                        throw new CCDDException("unknown table type '"
+                                                + tableDefn.getTypeName()
+                                                + "'");
+                    }
 
-                        // Check if the table type isn't recognized
-                        if (typeDefn == null)
-                        {
-                            throw new CCDDException("unknown table type '"
-                                                    + tableDefn.getTypeName()
-                                                    + "'");
-                        }
+                    // Get the number of columns defined in this table
+                    // type
+                    numColumns = typeDefn.getColumnCountVisible();
+                }
+                // Check if data fields are to be imported and this is a
+                // data field definition
+                else if (importType == ImportType.IMPORT_ALL
+                         && ancillaryData.getName().startsWith(XTCETags.DATA_FIELD.getTag()))
+                {
+                    // Get the data field inputs. If not present use a
+                    // blank to prevent an error when separating the inputs
+                    String inputs = ancillaryData.getValue() != null
+                                                                     ? ancillaryData.getValue()
+                                                                     : "";
+
+                    // Parse data field. The values are comma-separated;
+                    // however, commas within quotes are ignored - this
+                    // allows commas to be included in the data values
+                    String[] fieldDefn = CcddUtilities.splitAndRemoveQuotes("\""
+                                                                            + tableDefn.getName()
+                                                                            + "\","
+                                                                            + inputs);
 
-                        // Get the number of columns defined in this table
-                        // type
-                        numColumns = typeDefn.getColumnCountVisible();
+                    // Check if the expected number of inputs is present
+                    if (fieldDefn.length == FieldEditorColumnInfo.values().length + 1)
+                    {
+                        // Add the data field
+                        // definition, checking for
+                        // (and if possible,
+                        // correcting) errors
+                        continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
+                                                                                  tableDefn,
+                                                                                  fieldDefn,
+                                                                                  importFileName,
+                                                                                  parent);
                     }
-                    // Check if data fields are to be imported and this is a
-                    // data field definition
-                    else if (importType == ImportType.IMPORT_ALL
-                             && ancillaryData.getName().startsWith(XTCETags.DATA_FIELD.getTag()))
+                    // The number of inputs is incorrect
+                    else
                     {
-                        // Get the data field inputs. If not present use a
-                        // blank to prevent an error when separating the inputs
-                        String inputs = ancillaryData.getValue() != null
-                                                                         ? ancillaryData.getValue()
-                                                                         : "";
-
-                        // Parse data field. The values are comma-separated;
-                        // however, commas within quotes are ignored - this
-                        // allows commas to be included in the data values
-                        String[] fieldDefn = CcddUtilities.splitAndRemoveQuotes("\""
-                                                                                + tableDefn.getName()
-                                                                                + "\","
-                                                                                + inputs);
-
-                        // Check if the expected number of inputs is present
-                        if (fieldDefn.length == FieldEditorColumnInfo.values().length + 1)
-                        {
-                            // Add the data field
-                            // definition, checking for
-                            // (and if possible,
-                            // correcting) errors
-                            continueOnDataFieldError = addImportedDataFieldDefinition(continueOnDataFieldError,
-                                                                                      tableDefn,
-                                                                                      fieldDefn,
-                                                                                      importFileName,
-                                                                                      parent);
-                        }
-                        // The number of inputs is incorrect
-                        else
-                        {
-                            // Check if the error should be ignored or the
-                            // import canceled
-                            continueOnDataFieldError = getErrorResponse(continueOnDataFieldError,
-                                                                        "<html><b>Table '</b>"
-                                                                                                  + tableDefn.getName()
-                                                                                                  + "<b>' has missing or extra data "
-                                                                                                  + "field input(s) in import file '</b>"
-                                                                                                  + importFileName
-                                                                                                  + "<b>'; continue?",
-                                                                        "Data Field Error",
-                                                                        "Ignore this invalid data field",
-                                                                        "Ignore this and any remaining invalid data fields",
-                                                                        "Stop importing",
-                                                                        parent);
-                        }
+                        // Check if the error should be ignored or the
+                        // import canceled
+                        continueOnDataFieldError = getErrorResponse(continueOnDataFieldError,
+                                                                    "<html><b>Table '</b>"
+                                                                                              + tableDefn.getName()
+                                                                                              + "<b>' has missing or extra data "
+                                                                                              + "field input(s) in import file '</b>"
+                                                                                              + importFileName
+                                                                                              + "<b>'; continue?",
+                                                                    "Data Field Error",
+                                                                    "Ignore this invalid data field",
+                                                                    "Ignore this and any remaining invalid data fields",
+                                                                    "Stop importing",
+                                                                    parent);
                     }
-                    // Check if this is a table column value. This is for
-                    // tables that aren't structure or command tables
-                    else if (ancillaryData.getName().startsWith(XTCETags.COLUMN.getTag()))
+                }
+                // Check if this is a table column value. This is for
+                // tables that aren't structure or command tables
+                else if (ancillaryData.getName().startsWith(XTCETags.COLUMN.getTag()))
+                {
+                    // Extract the column name and row number, and use the
+                    // column name to get the column index
+                    String[] parts = ancillaryData.getName().split(":");
+                    String columnName = parts[1].trim();
+                    int row = Integer.valueOf(parts[3].trim());
+                    int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                    // Check that the column exists in the table
+                    if (column != -1)
                     {
-                        // Extract the column name and row number, and use the
-                        // column name to get the column index
-                        String[] parts = ancillaryData.getName().split(":");
-                        String columnName = parts[1].trim();
-                        int row = Integer.valueOf(parts[3].trim());
-                        int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                        // Check that the column exists in the table
-                        if (column != -1)
+                        // Add one or more rows until the row is created
+                        // containing this column value
+                        while (row * numColumns >= tableDefn.getData().size())
                         {
-                            // Add one or more rows until the row is created
-                            // containing this column value
-                            while (row * numColumns >= tableDefn.getData().size())
-                            {
-                                // Create a row with empty columns and add the
-                                // new row to the table data
-                                String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                                Arrays.fill(newRow, "");
-                                tableDefn.addData(newRow);
-                            }
-
-                            // Replace the value for the specified column
-                            tableDefn.getData().set(row
-                                                    * numColumns
-                                                    + column,
-                                                    ancillaryData.getValue());
-                        }
-                        // The column doesn't exist
-                        else
-                        {
-                            // Check if the error should be ignored or the
-                            // import canceled
-                            continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                     "<html><b>Table '</b>"
-                                                                                            + tableDefn.getName()
-                                                                                            + "<b>' column name '</b>"
-                                                                                            + columnName
-                                                                                            + "<b>' unrecognized in import file '</b>"
-                                                                                            + importFileName
-                                                                                            + "<b>'; continue?",
-                                                                     "Column Error",
-                                                                     "Ignore this invalid column name",
-                                                                     "Ignore this and any remaining invalid column names",
-                                                                     "Stop importing",
-                                                                     parent);
+                            // Create a row with empty columns and add the
+                            // new row to the table data
+                            String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                            Arrays.fill(newRow, "");
+                            tableDefn.addData(newRow);
                         }
+
+                        // Replace the value for the specified column
+                        tableDefn.getData().set(row
+                                                * numColumns
+                                                + column,
+                                                ancillaryData.getValue());
+                    }
+                    // The column doesn't exist
+                    else
+                    {
+                        // Check if the error should be ignored or the
+                        // import canceled
+                        continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                 "<html><b>Table '</b>"
+                                                                                        + tableDefn.getName()
+                                                                                        + "<b>' column name '</b>"
+                                                                                        + columnName
+                                                                                        + "<b>' unrecognized in import file '</b>"
+                                                                                        + importFileName
+                                                                                        + "<b>'; continue?",
+                                                                 "Column Error",
+                                                                 "Ignore this invalid column name",
+                                                                 "Ignore this and any remaining invalid column names",
+                                                                 "Stop importing",
+                                                                 parent);
                     }
                 }
             }
+        }
 
-            /******************************************************************
-             * Telemetry processing
-             ***************************************************************/
-            // Get the child system's telemetry metadata information
-            TelemetryMetaDataType tlmMetaData = childSystem.getTelemetryMetaData();
-
-            // Check if the telemetry metadata information exists and that the
-            // table type is recognized
-            if (tlmMetaData != null && typeDefn != null)
+        /**********************************************************************
+         * Telemetry processing
+         *******************************************************************/
+        // Get the child system's telemetry metadata information
+        TelemetryMetaDataType tlmMetaData = childSystem.getTelemetryMetaData();
+
+        // Check if the telemetry metadata information exists and that the
+        // table type is recognized
+        if (tlmMetaData != null && typeDefn != null)
+        {
+            // Get variable name, data type, enumeration, description, and
+            // units column indices
+            int variableNameIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE));
+            int dataTypeIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT));
+            int enumerationIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.ENUMERATION));
+            int descriptionIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION));
+            int unitsIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.UNITS));
+
+            // Get the telemetry information
+            ParameterSetType parmSetType = tlmMetaData.getParameterSet();
+
+            // Check if the telemetry information exists
+            if (parmSetType != null)
             {
-                // Get variable name, data type, enumeration, description, and
-                // units column indices
-                int variableNameIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE));
-                int dataTypeIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT));
-                int enumerationIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.ENUMERATION));
-                int descriptionIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION));
-                int unitsIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.UNITS));
-
-                // Get the telemetry information
-                ParameterSetType parmSetType = tlmMetaData.getParameterSet();
-
-                // Check if the telemetry information exists
-                if (parmSetType != null)
-                {
-                    // Get the list of telemetry parameters
-                    List<Object> tlms = parmSetType.getParameterOrParameterRef();
+                // Get the list of telemetry parameters
+                List<Object> tlms = parmSetType.getParameterOrParameterRef();
 
-                    // Step through each telemetry parameter
-                    for (Object tlm : tlms)
-                    {
-                        Parameter parm = (Parameter) tlm;
+                // Step through each telemetry parameter
+                for (Object tlm : tlms)
+                {
+                    Parameter parm = (Parameter) tlm;
 
-                        // Create a new row of data in the table definition to
-                        // contain this structures's information. Initialize
-                        // all columns to blanks except for the variable name
-                        String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                        Arrays.fill(newRow, "");
-                        newRow[variableNameIndex] = parm.getName();
+                    // Create a new row of data in the table definition to
+                    // contain this structures's information. Initialize
+                    // all columns to blanks except for the variable name
+                    String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                    Arrays.fill(newRow, "");
+                    newRow[variableNameIndex] = parm.getName();
 
-                        // Get a reference to any extra data for this parameter
-                        ancillarySet = parm.getAncillaryDataSet();
+                    // Get a reference to any extra data for this parameter
+                    ancillarySet = parm.getAncillaryDataSet();
 
-                        // Check if the parameter set ancillary data exists
-                        if (ancillarySet != null)
+                    // Check if the parameter set ancillary data exists
+                    if (ancillarySet != null)
+                    {
+                        // Step through each ancillary data entry
+                        for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
                         {
-                            // Step through each ancillary data entry
-                            for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
+                            // Split the ancillary data into the column
+                            // name and row number (each with an
+                            // identifier, which are ignored)
+                            String[] parts = ancillaryData.getName().split(":");
+                            String columnName = parts[XTCETags.getColumnNameIndex()].trim();
+
+                            // Get the column index for the column
+                            // described in the ancillary data
+                            int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                            // Check if the column exists in the table type
+                            // definition
+                            if (column != -1)
                             {
-                                // Split the ancillary data into the column
-                                // name and row number (each with an
-                                // identifier, which are ignored)
-                                String[] parts = ancillaryData.getName().split(":");
-                                String columnName = parts[XTCETags.getColumnNameIndex()].trim();
-
-                                // Get the column index for the column
-                                // described in the ancillary data
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                                // Check if the column exists in the table type
-                                // definition
-                                if (column != -1)
-                                {
-                                    newRow[column] = ancillaryData.getValue();
-                                }
-                                // The column doesn't exist
-                                else
-                                {
-                                    // Check if the error should be ignored or
-                                    // the import canceled
-                                    continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                             "<html><b>Table '</b>"
-                                                                                                    + tableDefn.getName()
-                                                                                                    + "<b>' column name '</b>"
-                                                                                                    + columnName
-                                                                                                    + "<b>' unrecognized in import file '</b>"
-                                                                                                    + importFileName
-                                                                                                    + "<b>'; continue?",
-                                                                             "Column Error",
-                                                                             "Ignore this invalid column name",
-                                                                             "Ignore this and any remaining invalid column names",
-                                                                             "Stop importing",
-                                                                             parent);
-                                }
+                                newRow[column] = ancillaryData.getValue();
+                            }
+                            // The column doesn't exist
+                            else
+                            {
+                                // Check if the error should be ignored or
+                                // the import canceled
+                                continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                         "<html><b>Table '</b>"
+                                                                                                + tableDefn.getName()
+                                                                                                + "<b>' column name '</b>"
+                                                                                                + columnName
+                                                                                                + "<b>' unrecognized in import file '</b>"
+                                                                                                + importFileName
+                                                                                                + "<b>'; continue?",
+                                                                         "Column Error",
+                                                                         "Ignore this invalid column name",
+                                                                         "Ignore this and any remaining invalid column names",
+                                                                         "Stop importing",
+                                                                         parent);
                             }
                         }
-
-                        // Add the new row to the table definition
-                        tableDefn.addData(newRow);
                     }
+
+                    // Add the new row to the table definition
+                    tableDefn.addData(newRow);
                 }
+            }
 
-                ParameterTypeSetType parmTypeSetType = tlmMetaData.getParameterTypeSet();
+            ParameterTypeSetType parmTypeSetType = tlmMetaData.getParameterTypeSet();
 
-                // Check if the telemetry information exists
-                if (parmTypeSetType != null)
-                {
-                    // Get the list of telemetry parameters
-                    List<NameDescriptionType> tlms = parmTypeSetType.getStringParameterTypeOrEnumeratedParameterTypeOrIntegerParameterType();
+            // Check if the telemetry information exists
+            if (parmTypeSetType != null)
+            {
+                // Get the list of telemetry parameters
+                List<NameDescriptionType> tlms = parmTypeSetType.getStringParameterTypeOrEnumeratedParameterTypeOrIntegerParameterType();
 
-                    // Step through each telemetry parameter
-                    for (NameDescriptionType tlm : tlms)
+                // Step through each telemetry parameter
+                for (NameDescriptionType tlm : tlms)
+                {
+                    String dataType = "";
+                    String sizeInBits = null;
+                    String enumeration = null;
+                    UnitSet unitSet = null;
+
+                    // Based on the parameter data type get the size in
+                    // bits and unit attributes, and reconstruct the
+                    // original data type from the parameter type, encoding
+                    // type, and/or bit size or width. If the ancillary
+                    // data contains the data type then it overwrites the
+                    // data type constructed here
+
+                    // Integer data type
+                    if (tlm instanceof IntegerParameterType)
                     {
-                        String dataType = "";
-                        String sizeInBits = null;
-                        String enumeration = null;
-                        UnitSet unitSet = null;
+                        IntegerParameterType itlm = (IntegerParameterType) tlm;
+                        sizeInBits = itlm.getSizeInBits().toString();
+                        unitSet = itlm.getUnitSet();
 
-                        // Based on the parameter data type get the size in
-                        // bits and unit attributes, and reconstruct the
-                        // original data type from the parameter type, encoding
-                        // type, and/or bit size or width. If the ancillary
-                        // data contains the data type then it overwrites the
-                        // data type constructed here
-
-                        // Integer data type
-                        if (tlm instanceof IntegerParameterType)
+                        // Check if integer encoding is set to 'unsigned'
+                        if (itlm.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
                         {
-                            IntegerParameterType itlm = (IntegerParameterType) tlm;
-                            sizeInBits = itlm.getSizeInBits().toString();
-                            unitSet = itlm.getUnitSet();
-
-                            // Check if integer encoding is set to 'unsigned'
-                            if (itlm.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
-                            {
-                                dataType = "u";
-                            }
-
-                            dataType += "int" + sizeInBits;
+                            dataType = "u";
                         }
-                        // Floating point data type
-                        else if (tlm instanceof FloatParameterType)
+
+                        dataType += "int" + sizeInBits;
+                    }
+                    // Floating point data type
+                    else if (tlm instanceof FloatParameterType)
+                    {
+                        FloatParameterType ftlm = (FloatParameterType) tlm;
+                        BigInteger size = ftlm.getSizeInBits();
+                        sizeInBits = size.toString();
+                        unitSet = ftlm.getUnitSet();
+                        dataType = "float";
+                    }
+                    // String data type
+                    else if (tlm instanceof StringParameterType)
+                    {
+                        StringParameterType stlm = (StringParameterType) tlm;
+                        BigInteger size = stlm.getCharacterWidth();
+                        sizeInBits = size.toString();
+                        unitSet = stlm.getUnitSet();
+
+                        // Use the character width to determine character
+                        // versus string
+                        if (size.intValue() == 1)
                         {
-                            FloatParameterType ftlm = (FloatParameterType) tlm;
-                            BigInteger size = ftlm.getSizeInBits();
-                            sizeInBits = size.toString();
-                            unitSet = ftlm.getUnitSet();
-                            dataType = "float";
+                            dataType = DefaultPrimitiveTypeInfo.CHAR.getUserName();
                         }
-                        // String data type
-                        else if (tlm instanceof StringParameterType)
+                        else
                         {
-                            StringParameterType stlm = (StringParameterType) tlm;
-                            BigInteger size = stlm.getCharacterWidth();
-                            sizeInBits = size.toString();
-                            unitSet = stlm.getUnitSet();
-
-                            // Use the character width to determine character
-                            // versus string
-                            if (size.intValue() == 1)
-                            {
-                                dataType = DefaultPrimitiveTypeInfo.CHAR.getUserName();
-                            }
-                            else
-                            {
-                                dataType = DefaultPrimitiveTypeInfo.STRING.getUserName();
-                            }
+                            dataType = DefaultPrimitiveTypeInfo.STRING.getUserName();
                         }
-                        // Enumerated data type
-                        else if (tlm instanceof EnumeratedParameterType)
+                    }
+                    // Enumerated data type
+                    else if (tlm instanceof EnumeratedParameterType)
+                    {
+                        // Get the enumeration parameters
+                        EnumeratedParameterType etlm = (EnumeratedParameterType) tlm;
+                        EnumerationList enumList = etlm.getEnumerationList();
+
+                        // Check if any enumeration parameters are defined
+                        if (enumList != null)
                         {
-                            // Get the enumeration parameters
-                            EnumeratedParameterType etlm = (EnumeratedParameterType) tlm;
-                            EnumerationList enumList = etlm.getEnumerationList();
+                            ancillarySet = etlm.getAncillaryDataSet();
 
-                            // Check if any enumeration parameters are defined
-                            if (enumList != null)
+                            // Step through each enumeration parameter
+                            for (ValueEnumerationType enumType : enumList.getEnumeration())
                             {
-                                ancillarySet = etlm.getAncillaryDataSet();
-
-                                // Step through each enumeration parameter
-                                for (ValueEnumerationType enumType : enumList.getEnumeration())
+                                // Check if this is the first parameter
+                                if (enumeration == null)
                                 {
-                                    // Check if this is the first parameter
-                                    if (enumeration == null)
-                                    {
-                                        // Initialize the enumeration string
-                                        enumeration = "";
-                                    }
-                                    // Not the first parameter
-                                    else
-                                    {
-                                        // Add the separator for the
-                                        // enumerations
-                                        enumeration += ",";
-                                    }
-
-                                    // Begin building this enumeration
-                                    enumeration += enumType.getValue()
-                                                   + " | "
-                                                   + enumType.getLabel();
+                                    // Initialize the enumeration string
+                                    enumeration = "";
                                 }
-
-                                sizeInBits = etlm.getIntegerDataEncoding().getSizeInBits().toString();
-                                unitSet = etlm.getUnitSet();
-
-                                // Check if integer encoding is set to
-                                // 'unsigned'
-                                if (etlm.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
+                                // Not the first parameter
+                                else
                                 {
-                                    dataType = "u";
+                                    // Add the separator for the
+                                    // enumerations
+                                    enumeration += ",";
                                 }
 
-                                dataType += "int" + sizeInBits;
+                                // Begin building this enumeration
+                                enumeration += enumType.getValue()
+                                               + " | "
+                                               + enumType.getLabel();
                             }
-                        }
 
-                        // Get the row index that refers to this variable
-                        int row = typeDefn.getRowIndexByColumnValue(tableDefn.getData(),
-                                                                    numColumns,
-                                                                    tlm.getName(),
-                                                                    variableNameIndex);
+                            sizeInBits = etlm.getIntegerDataEncoding().getSizeInBits().toString();
+                            unitSet = etlm.getUnitSet();
 
-                        // Check if the variable exists
-                        if (row != -1)
-                        {
-                            // Check if a data type exists and isn't already
-                            // extracted from the ancillary data
-                            if (dataTypeIndex != -1
-                                && !dataType.isEmpty()
-                                && tableDefn.getData().get(row
-                                                           * numColumns
-                                                           + dataTypeIndex)
-                                            .isEmpty())
+                            // Check if integer encoding is set to
+                            // 'unsigned'
+                            if (etlm.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
                             {
-                                // Store the data type
-                                tableDefn.getData().set(row
-                                                        * numColumns
-                                                        + dataTypeIndex,
-                                                        dataType);
+                                dataType = "u";
                             }
 
-                            // Check if a description exists and isn't already
-                            // extracted from the ancillary data
-                            if (descriptionIndex != -1
-                                && tlm.getShortDescription() != null
-                                && tableDefn.getData().get(row
-                                                           * numColumns
-                                                           + descriptionIndex)
-                                            .isEmpty())
-                            {
-                                // Store the description
-                                tableDefn.getData().set(row
-                                                        * numColumns
-                                                        + descriptionIndex,
-                                                        tlm.getShortDescription());
-                            }
+                            dataType += "int" + sizeInBits;
+                        }
+                    }
 
-                            // Check if a units exists and isn't already
-                            // extracted from the ancillary data
-                            if (unitsIndex != -1
-                                && unitSet != null
-                                && tableDefn.getData().get(row
-                                                           * numColumns
-                                                           + unitsIndex)
-                                            .isEmpty())
-                            {
-                                List<UnitType> unitType = unitSet.getUnit();
+                    // Get the row index that refers to this variable
+                    int row = typeDefn.getRowIndexByColumnValue(tableDefn.getData(),
+                                                                numColumns,
+                                                                tlm.getName(),
+                                                                variableNameIndex);
 
-                                // Check if the units exist
-                                if (!unitType.isEmpty())
-                                {
-                                    // Store the units for this variable
-                                    tableDefn.getData().set(row
-                                                            * numColumns
-                                                            + unitsIndex,
-                                                            unitType.get(0).getContent());
-                                }
-                            }
+                    // Check if the variable exists
+                    if (row != -1)
+                    {
+                        // Check if a data type exists and isn't already
+                        // extracted from the ancillary data
+                        if (dataTypeIndex != -1
+                            && !dataType.isEmpty()
+                            && tableDefn.getData().get(row
+                                                       * numColumns
+                                                       + dataTypeIndex)
+                                        .isEmpty())
+                        {
+                            // Store the data type
+                            tableDefn.getData().set(row
+                                                    * numColumns
+                                                    + dataTypeIndex,
+                                                    dataType);
+                        }
+
+                        // Check if a description exists and isn't already
+                        // extracted from the ancillary data
+                        if (descriptionIndex != -1
+                            && tlm.getShortDescription() != null
+                            && tableDefn.getData().get(row
+                                                       * numColumns
+                                                       + descriptionIndex)
+                                        .isEmpty())
+                        {
+                            // Store the description
+                            tableDefn.getData().set(row
+                                                    * numColumns
+                                                    + descriptionIndex,
+                                                    tlm.getShortDescription());
+                        }
 
-                            // Check if an enumeration exists and isn't already
-                            // extracted from the ancillary data
-                            if (enumerationIndex != -1
-                                && enumeration != null
-                                && tableDefn.getData().get(row
-                                                           * numColumns
-                                                           + enumerationIndex)
-                                            .isEmpty())
+                        // Check if a units exists and isn't already
+                        // extracted from the ancillary data
+                        if (unitsIndex != -1
+                            && unitSet != null
+                            && tableDefn.getData().get(row
+                                                       * numColumns
+                                                       + unitsIndex)
+                                        .isEmpty())
+                        {
+                            List<UnitType> unitType = unitSet.getUnit();
+
+                            // Check if the units exist
+                            if (!unitType.isEmpty())
                             {
-                                // Store the enumeration parameters. This
-                                // accounts only for the first enumeration for
-                                // a variable. If the variable has more than
-                                // one enumeration column then the ancillary
-                                // data contains the other enumeration
-                                // column(s) parameters
+                                // Store the units for this variable
                                 tableDefn.getData().set(row
                                                         * numColumns
-                                                        + enumerationIndex,
-                                                        enumeration);
+                                                        + unitsIndex,
+                                                        unitType.get(0).getContent());
                             }
                         }
+
+                        // Check if an enumeration exists and isn't already
+                        // extracted from the ancillary data
+                        if (enumerationIndex != -1
+                            && enumeration != null
+                            && tableDefn.getData().get(row
+                                                       * numColumns
+                                                       + enumerationIndex)
+                                        .isEmpty())
+                        {
+                            // Store the enumeration parameters. This
+                            // accounts only for the first enumeration for
+                            // a variable. If the variable has more than
+                            // one enumeration column then the ancillary
+                            // data contains the other enumeration
+                            // column(s) parameters
+                            tableDefn.getData().set(row
+                                                    * numColumns
+                                                    + enumerationIndex,
+                                                    enumeration);
+                        }
                     }
                 }
             }
+        }
 
-            /******************************************************************
-             * Command processing
-             ***************************************************************/
-            // Get the child system's command metadata information
-            CommandMetaDataType cmdMetaData = childSystem.getCommandMetaData();
-
-            // Check if the command metadata information exists and that the
-            // table type is recognized
-            if (cmdMetaData != null && typeDefn != null)
+        /**********************************************************************
+         * Command processing
+         *******************************************************************/
+        // Get the child system's command metadata information
+        CommandMetaDataType cmdMetaData = childSystem.getCommandMetaData();
+
+        // Check if the command metadata information exists and that the
+        // table type is recognized
+        if (cmdMetaData != null && typeDefn != null)
+        {
+            // Get the list containing command argument name, data type,
+            // enumeration, minimum, maximum, and other associated column
+            // indices for each argument grouping
+            List<AssociatedColumns> commandArguments = typeDefn.getAssociatedCommandArgumentColumns(true);
+
+            // Get the command name and description columns
+            int commandNameIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.COMMAND_NAME));
+            int cmdDescriptionIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION));
+
+            // Check if the description column belongs to a command
+            // argument
+            if (commandArguments.size() != 0
+                && cmdDescriptionIndex > commandArguments.get(0).getName())
             {
-                // Get the list containing command argument name, data type,
-                // enumeration, minimum, maximum, and other associated column
-                // indices for each argument grouping
-                List<AssociatedColumns> commandArguments = typeDefn.getAssociatedCommandArgumentColumns(true);
-
-                // Get the command name and description columns
-                int commandNameIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.COMMAND_NAME));
-                int cmdDescriptionIndex = CcddTableTypeHandler.getVisibleColumnIndex(typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION));
-
-                // Check if the description column belongs to a command
-                // argument
-                if (commandArguments.size() != 0
-                    && cmdDescriptionIndex > commandArguments.get(0).getName())
-                {
-                    // Reset the command description index to indicate no
-                    // description exists
-                    cmdDescriptionIndex = -1;
-                }
+                // Reset the command description index to indicate no
+                // description exists
+                cmdDescriptionIndex = -1;
+            }
 
-                // Get the description column name
-                // Get the command set information
-                MetaCommandSet metaCmdSet = cmdMetaData.getMetaCommandSet();
+            // Get the description column name
+            // Get the command set information
+            MetaCommandSet metaCmdSet = cmdMetaData.getMetaCommandSet();
 
-                // Check if the command set information exists
-                if (metaCmdSet != null)
-                {
-                    // Get the list of command sets
-                    List<Object> cmds = metaCmdSet.getMetaCommandOrMetaCommandRefOrBlockMetaCommand();
+            // Check if the command set information exists
+            if (metaCmdSet != null)
+            {
+                // Get the list of command sets
+                List<Object> cmds = metaCmdSet.getMetaCommandOrMetaCommandRefOrBlockMetaCommand();
 
-                    // Step through each command set
-                    for (Object cmd : cmds)
+                // Step through each command set
+                for (Object cmd : cmds)
+                {
+                    MetaCommandType cmdType = (MetaCommandType) cmd;
+
+                    // Create a new row of data in the table definition to
+                    // contain this command's information. Initialize all
+                    // columns to blanks except for the command name
+                    String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                    Arrays.fill(newRow, "");
+                    newRow[commandNameIndex] = cmdType.getName();
+
+                    // Check if the command description is present and the
+                    // description column exists in the table type
+                    // definition
+                    if (cmdType.getShortDescription() != null
+                        && cmdDescriptionIndex != -1)
                     {
-                        MetaCommandType cmdType = (MetaCommandType) cmd;
-
-                        // Create a new row of data in the table definition to
-                        // contain this command's information. Initialize all
-                        // columns to blanks except for the command name
-                        String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                        Arrays.fill(newRow, "");
-                        newRow[commandNameIndex] = cmdType.getName();
-
-                        // Check if the command description is present and the
-                        // description column exists in the table type
-                        // definition
-                        if (cmdType.getShortDescription() != null
-                            && cmdDescriptionIndex != -1)
-                        {
-                            // Store the command description in the row's
-                            // description column
-                            newRow[cmdDescriptionIndex] = cmdType.getShortDescription();
-                        }
+                        // Store the command description in the row's
+                        // description column
+                        newRow[cmdDescriptionIndex] = cmdType.getShortDescription();
+                    }
 
-                        // Add the new row to the table definition
-                        tableDefn.addData(newRow);
+                    // Add the new row to the table definition
+                    tableDefn.addData(newRow);
 
-                        // Get a reference to the command metadata ancillary
-                        // data
-                        ancillarySet = cmdType.getAncillaryDataSet();
+                    // Get a reference to the command metadata ancillary
+                    // data
+                    ancillarySet = cmdType.getAncillaryDataSet();
 
-                        // Check if the command metadata ancillary data exists
-                        if (ancillarySet != null)
+                    // Check if the command metadata ancillary data exists
+                    if (ancillarySet != null)
+                    {
+                        // Step through each ancillary data entry
+                        for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
                         {
-                            // Step through each ancillary data entry
-                            for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
+                            // Split the ancillary data into the column
+                            // name and row number (each with an
+                            // identifier, which are ignored)
+                            String[] parts = ancillaryData.getName().split(":");
+                            String columnName = parts[XTCETags.getColumnNameIndex()].trim();
+                            int row = Integer.valueOf(parts[XTCETags.getRowIndex()].trim());
+
+                            // Get the column index for the column
+                            // described in the ancillary data
+                            int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                            // Check if the column exists in the table type
+                            // definition
+                            if (column != -1)
                             {
-                                // Split the ancillary data into the column
-                                // name and row number (each with an
-                                // identifier, which are ignored)
-                                String[] parts = ancillaryData.getName().split(":");
-                                String columnName = parts[XTCETags.getColumnNameIndex()].trim();
-                                int row = Integer.valueOf(parts[XTCETags.getRowIndex()].trim());
-
-                                // Get the column index for the column
-                                // described in the ancillary data
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                                // Check if the column exists in the table type
-                                // definition
-                                if (column != -1)
-                                {
-                                    // Check if the cell hasn't already been
-                                    // populated by other command metadata
-                                    if (tableDefn.getData().get(row
-                                                                * numColumns
-                                                                + column)
-                                                 .isEmpty())
-                                    {
-                                        // Update the table data at the row and
-                                        // column specified with the value from
-                                        // the ancillary data
-                                        tableDefn.getData().set(row
-                                                                * numColumns
-                                                                + column,
-                                                                ancillaryData.getValue());
-                                    }
-                                }
-                                // The column doesn't exist
-                                else
+                                // Check if the cell hasn't already been
+                                // populated by other command metadata
+                                if (tableDefn.getData().get(row
+                                                            * numColumns
+                                                            + column)
+                                             .isEmpty())
                                 {
-                                    // Check if the error should be ignored or
-                                    // the import canceled
-                                    continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                             "<html><b>Table '</b>"
-                                                                                                    + tableDefn.getName()
-                                                                                                    + "<b>' column name '</b>"
-                                                                                                    + columnName
-                                                                                                    + "<b>' unrecognized in import file '</b>"
-                                                                                                    + importFileName
-                                                                                                    + "<b>'; continue?",
-                                                                             "Column Error",
-                                                                             "Ignore this invalid column name",
-                                                                             "Ignore this and any remaining invalid column names",
-                                                                             "Stop importing",
-                                                                             parent);
+                                    // Update the table data at the row and
+                                    // column specified with the value from
+                                    // the ancillary data
+                                    tableDefn.getData().set(row
+                                                            * numColumns
+                                                            + column,
+                                                            ancillaryData.getValue());
                                 }
                             }
+                            // The column doesn't exist
+                            else
+                            {
+                                // Check if the error should be ignored or
+                                // the import canceled
+                                continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                         "<html><b>Table '</b>"
+                                                                                                + tableDefn.getName()
+                                                                                                + "<b>' column name '</b>"
+                                                                                                + columnName
+                                                                                                + "<b>' unrecognized in import file '</b>"
+                                                                                                + importFileName
+                                                                                                + "<b>'; continue?",
+                                                                         "Column Error",
+                                                                         "Ignore this invalid column name",
+                                                                         "Ignore this and any remaining invalid column names",
+                                                                         "Stop importing",
+                                                                         parent);
+                            }
                         }
                     }
                 }
+            }
 
-                // Get the command argument information
-                ArgumentTypeSetType argSetType = cmdMetaData.getArgumentTypeSet();
+            // Get the command argument information
+            ArgumentTypeSetType argSetType = cmdMetaData.getArgumentTypeSet();
 
-                // Check if the command argument information exists
-                if (argSetType != null)
-                {
-                    // Get the list of command arguments
-                    List<NameDescriptionType> cmds = argSetType.getStringArgumentTypeOrEnumeratedArgumentTypeOrIntegerArgumentType();
+            // Check if the command argument information exists
+            if (argSetType != null)
+            {
+                // Get the list of command arguments
+                List<NameDescriptionType> cmds = argSetType.getStringArgumentTypeOrEnumeratedArgumentTypeOrIntegerArgumentType();
 
-                    int cmdArgIndex = -1;
-                    String command = "";
+                int cmdArgIndex = -1;
+                String command = "";
 
-                    // Step through each command argument
-                    for (NameDescriptionType cmd : cmds)
+                // Step through each command argument
+                for (NameDescriptionType cmd : cmds)
+                {
+                    String dataType = "";
+                    String sizeInBits = null;
+                    String description = null;
+                    String enumeration = null;
+                    String units = null;
+                    UnitSet unitSet = null;
+
+                    // Check if the command name changed
+                    if (!((BaseDataType) cmd).getBaseType().equals(command))
                     {
-                        String dataType = "";
-                        String sizeInBits = null;
-                        String description = null;
-                        String enumeration = null;
-                        String units = null;
-                        UnitSet unitSet = null;
+                        // Reset the argument index
+                        cmdArgIndex = -1;
+                    }
 
-                        // Check if the command name changed
-                        if (!((BaseDataType) cmd).getBaseType().equals(command))
-                        {
-                            // Reset the argument index
-                            cmdArgIndex = -1;
-                        }
+                    // Increment the argument index and store the command
+                    // name for which this argument is a member
+                    cmdArgIndex++;
+                    command = ((BaseDataType) cmd).getBaseType();
+
+                    // Based on the command argument data type get the size
+                    // in bits and unit attributes, and reconstruct the
+                    // original data type from the parameter type, encoding
+                    // type, and/or bit size or width
+                    // Integer data type
+                    if (cmd instanceof IntegerArgumentType)
+                    {
+                        IntegerArgumentType icmd = (IntegerArgumentType) cmd;
+                        sizeInBits = icmd.getSizeInBits().toString();
+                        unitSet = icmd.getUnitSet();
 
-                        // Increment the argument index and store the command
-                        // name for which this argument is a member
-                        cmdArgIndex++;
-                        command = ((BaseDataType) cmd).getBaseType();
-
-                        // Based on the command argument data type get the size
-                        // in bits and unit attributes, and reconstruct the
-                        // original data type from the parameter type, encoding
-                        // type, and/or bit size or width
-                        // Integer data type
-                        if (cmd instanceof IntegerArgumentType)
+                        // Check if integer encoding is set to 'unsigned'
+                        if (icmd.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
                         {
-                            IntegerArgumentType icmd = (IntegerArgumentType) cmd;
-                            sizeInBits = icmd.getSizeInBits().toString();
-                            unitSet = icmd.getUnitSet();
-
-                            // Check if integer encoding is set to 'unsigned'
-                            if (icmd.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
-                            {
-                                dataType = "u";
-                            }
-
-                            dataType += "int" + sizeInBits;
+                            dataType = "u";
                         }
-                        // Floating point data type
-                        else if (cmd instanceof FloatArgumentType)
+
+                        dataType += "int" + sizeInBits;
+                    }
+                    // Floating point data type
+                    else if (cmd instanceof FloatArgumentType)
+                    {
+                        FloatArgumentType fcmd = (FloatArgumentType) cmd;
+                        BigInteger size = fcmd.getSizeInBits();
+                        sizeInBits = size.toString();
+                        unitSet = fcmd.getUnitSet();
+                        dataType = "float";
+                    }
+                    // String data type
+                    else if (cmd instanceof StringDataType)
+                    {
+                        StringDataType scmd = (StringDataType) cmd;
+                        BigInteger size = scmd.getCharacterWidth();
+                        sizeInBits = size.toString();
+                        unitSet = scmd.getUnitSet();
+
+                        // Use the character width to determine character
+                        // versus string
+                        if (size.intValue() == 1)
                         {
-                            FloatArgumentType fcmd = (FloatArgumentType) cmd;
-                            BigInteger size = fcmd.getSizeInBits();
-                            sizeInBits = size.toString();
-                            unitSet = fcmd.getUnitSet();
-                            dataType = "float";
+                            dataType = DefaultPrimitiveTypeInfo.CHAR.getUserName();
                         }
-                        // String data type
-                        else if (cmd instanceof StringDataType)
+                        else
                         {
-                            StringDataType scmd = (StringDataType) cmd;
-                            BigInteger size = scmd.getCharacterWidth();
-                            sizeInBits = size.toString();
-                            unitSet = scmd.getUnitSet();
-
-                            // Use the character width to determine character
-                            // versus string
-                            if (size.intValue() == 1)
-                            {
-                                dataType = DefaultPrimitiveTypeInfo.CHAR.getUserName();
-                            }
-                            else
-                            {
-                                dataType = DefaultPrimitiveTypeInfo.STRING.getUserName();
-                            }
+                            dataType = DefaultPrimitiveTypeInfo.STRING.getUserName();
                         }
-                        // Enumerated data type
-                        else if (cmd instanceof EnumeratedDataType)
+                    }
+                    // Enumerated data type
+                    else if (cmd instanceof EnumeratedDataType)
+                    {
+                        EnumeratedDataType ecmd = (EnumeratedDataType) cmd;
+                        EnumerationList enumList = ecmd.getEnumerationList();
+
+                        // Check if any enumeration parameters are defined
+                        if (enumList != null)
                         {
-                            EnumeratedDataType ecmd = (EnumeratedDataType) cmd;
-                            EnumerationList enumList = ecmd.getEnumerationList();
+                            ancillarySet = ecmd.getAncillaryDataSet();
 
-                            // Check if any enumeration parameters are defined
-                            if (enumList != null)
+                            // Step through each enumeration parameter
+                            for (ValueEnumerationType enumType : enumList.getEnumeration())
                             {
-                                ancillarySet = ecmd.getAncillaryDataSet();
-
-                                // Step through each enumeration parameter
-                                for (ValueEnumerationType enumType : enumList.getEnumeration())
+                                // Check if this is the first parameter
+                                if (enumeration == null)
                                 {
-                                    // Check if this is the first parameter
-                                    if (enumeration == null)
-                                    {
-                                        // Initialize the enumeration string
-                                        enumeration = "";
-                                    }
-                                    // Not the first parameter
-                                    else
-                                    {
-                                        // Add the separator for the
-                                        // enumerations
-                                        enumeration += ", ";
-                                    }
-
-                                    // Begin building this enumeration
-                                    enumeration += enumType.getValue()
-                                                   + " | "
-                                                   + enumType.getLabel();
+                                    // Initialize the enumeration string
+                                    enumeration = "";
+                                }
+                                // Not the first parameter
+                                else
+                                {
+                                    // Add the separator for the
+                                    // enumerations
+                                    enumeration += ", ";
                                 }
 
-                                sizeInBits = ecmd.getIntegerDataEncoding().getSizeInBits().toString();
-                                unitSet = ecmd.getUnitSet();
+                                // Begin building this enumeration
+                                enumeration += enumType.getValue()
+                                               + " | "
+                                               + enumType.getLabel();
+                            }
+
+                            sizeInBits = ecmd.getIntegerDataEncoding().getSizeInBits().toString();
+                            unitSet = ecmd.getUnitSet();
+
+                            // Check if integer encoding is set to
+                            // 'unsigned'
+                            if (ecmd.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
+                            {
+                                dataType = "u";
+                            }
+
+                            dataType += "int" + sizeInBits;
+                        }
+                    }
 
-                                // Check if integer encoding is set to
-                                // 'unsigned'
-                                if (ecmd.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
-                                {
-                                    dataType = "u";
-                                }
+                    // Check if the description exists
+                    if (cmd.getShortDescription() != null)
+                    {
+                        // Store the description
+                        description = cmd.getShortDescription();
+                    }
 
-                                dataType += "int" + sizeInBits;
-                            }
-                        }
+                    // Check if the units exists
+                    if (unitSet != null)
+                    {
+                        List<UnitType> unitType = unitSet.getUnit();
 
-                        // Check if the description exists
-                        if (cmd.getShortDescription() != null)
+                        // Check if the units is set
+                        if (!unitType.isEmpty())
                         {
-                            // Store the description
-                            description = cmd.getShortDescription();
+                            // Store the units
+                            units = unitType.get(0).getContent();
                         }
+                    }
 
-                        // Check if the units exists
-                        if (unitSet != null)
+                    // Step through each row of table data
+                    for (int row = 0; row < tableDefn.getData().size(); row += numColumns)
+                    {
+                        // Check if the command name matches the one in the
+                        // table data for this row
+                        if (tableDefn.getData().get(row + commandNameIndex) != null
+                            && tableDefn.getData().get(row + commandNameIndex).equals(command)
+                            && cmdArgIndex < commandArguments.size())
                         {
-                            List<UnitType> unitType = unitSet.getUnit();
+                            // Get the command argument reference
+                            AssociatedColumns cmdArg = commandArguments.get(cmdArgIndex);
 
-                            // Check if the units is set
-                            if (!unitType.isEmpty())
+                            // Check if the command argument name is
+                            // present
+                            if (cmdArg.getName() != -1
+                                && !cmd.getName().isEmpty())
                             {
-                                // Store the units
-                                units = unitType.get(0).getContent();
+                                // Store the command argument name
+                                tableDefn.getData().set(row
+                                                        + cmdArg.getName(),
+                                                        cmd.getName());
                             }
-                        }
 
-                        // Step through each row of table data
-                        for (int row = 0; row < tableDefn.getData().size(); row += numColumns)
-                        {
-                            // Check if the command name matches the one in the
-                            // table data for this row
-                            if (tableDefn.getData().get(row + commandNameIndex) != null
-                                && tableDefn.getData().get(row + commandNameIndex).equals(command)
-                                && cmdArgIndex < commandArguments.size())
+                            // Check if the command argument data type is
+                            // present
+                            if (cmdArg.getDataType() != -1
+                                && !dataType.isEmpty())
                             {
-                                // Get the command argument reference
-                                AssociatedColumns cmdArg = commandArguments.get(cmdArgIndex);
-
-                                // Check if the command argument name is
-                                // present
-                                if (cmdArg.getName() != -1
-                                    && !cmd.getName().isEmpty())
-                                {
-                                    // Store the command argument name
-                                    tableDefn.getData().set(row
-                                                            + cmdArg.getName(),
-                                                            cmd.getName());
-                                }
-
-                                // Check if the command argument data type is
-                                // present
-                                if (cmdArg.getDataType() != -1
-                                    && !dataType.isEmpty())
-                                {
-                                    // Store the command argument data type
-                                    tableDefn.getData().set(row
-                                                            + cmdArg.getDataType(),
-                                                            dataType);
-                                }
+                                // Store the command argument data type
+                                tableDefn.getData().set(row
+                                                        + cmdArg.getDataType(),
+                                                        dataType);
+                            }
 
-                                // Check if the command argument enumeration is
-                                // present
-                                if (cmdArg.getEnumeration() != -1
-                                    && enumeration != null)
-                                {
-                                    // Store the command argument enumeration
-                                    tableDefn.getData().set(row
-                                                            + cmdArg.getEnumeration(),
-                                                            enumeration);
-                                }
+                            // Check if the command argument enumeration is
+                            // present
+                            if (cmdArg.getEnumeration() != -1
+                                && enumeration != null)
+                            {
+                                // Store the command argument enumeration
+                                tableDefn.getData().set(row
+                                                        + cmdArg.getEnumeration(),
+                                                        enumeration);
+                            }
 
-                                // Check if the command argument description is
-                                // present
-                                if (cmdArg.getDescription() != -1
-                                    && description != null)
-                                {
-                                    // Store the command argument description
-                                    tableDefn.getData().set(row
-                                                            + cmdArg.getDescription(),
-                                                            description);
-                                }
+                            // Check if the command argument description is
+                            // present
+                            if (cmdArg.getDescription() != -1
+                                && description != null)
+                            {
+                                // Store the command argument description
+                                tableDefn.getData().set(row
+                                                        + cmdArg.getDescription(),
+                                                        description);
+                            }
 
-                                // Check if the command argument units is
-                                // present
-                                if (cmdArg.getUnits() != -1
-                                    && units != null)
-                                {
-                                    // Store the command argument units
-                                    tableDefn.getData().set(row
-                                                            + cmdArg.getUnits(),
-                                                            units);
-                                }
+                            // Check if the command argument units is
+                            // present
+                            if (cmdArg.getUnits() != -1
+                                && units != null)
+                            {
+                                // Store the command argument units
+                                tableDefn.getData().set(row
+                                                        + cmdArg.getUnits(),
+                                                        units);
                             }
                         }
+                    }
 
-                        // Get the other command argument columns
-                        ancillarySet = cmd.getAncillaryDataSet();
+                    // Get the other command argument columns
+                    ancillarySet = cmd.getAncillaryDataSet();
 
-                        // Check if there are any command argument columns
-                        if (ancillarySet != null)
+                    // Check if there are any command argument columns
+                    if (ancillarySet != null)
+                    {
+                        // Step though the command argument columns stored
+                        // in the ancillary data
+                        for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
                         {
-                            // Step though the command argument columns stored
-                            // in the ancillary data
-                            for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
+                            // Split the ancillary data into the column
+                            // name and row number (each with an
+                            // identifier, which are ignored)
+                            String[] parts = ancillaryData.getName().split(":");
+                            String columnName = parts[1].trim();
+                            int row = Integer.valueOf(parts[3].trim());
+
+                            // Get the column index for the column
+                            // described in the ancillary data
+                            int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                            // Check if the column exists in the table type
+                            // definition
+                            if (column != -1)
                             {
-                                // Split the ancillary data into the column
-                                // name and row number (each with an
-                                // identifier, which are ignored)
-                                String[] parts = ancillaryData.getName().split(":");
-                                String columnName = parts[1].trim();
-                                int row = Integer.valueOf(parts[3].trim());
-
-                                // Get the column index for the column
-                                // described in the ancillary data
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                                // Check if the column exists in the table type
-                                // definition
-                                if (column != -1)
-                                {
-                                    // Check if the cell hasn't already been
-                                    // populated by other command metadata
-                                    // (except for the data type)
-                                    if (tableDefn.getData().get(row
-                                                                * numColumns
-                                                                + column)
-                                                 .isEmpty()
-                                        || column == commandArguments.get(cmdArgIndex).getDataType())
-                                    {
-                                        // Update the table data at the row and
-                                        // column specified with the value from
-                                        // the ancillary data
-                                        tableDefn.getData().set(row
-                                                                * numColumns
-                                                                + column,
-                                                                ancillaryData.getValue());
-                                    }
-                                }
-                                // The column doesn't exist
-                                else
+                                // Check if the cell hasn't already been
+                                // populated by other command metadata
+                                // (except for the data type)
+                                if (tableDefn.getData().get(row
+                                                            * numColumns
+                                                            + column)
+                                             .isEmpty()
+                                    || column == commandArguments.get(cmdArgIndex).getDataType())
                                 {
-                                    // Check if the error should be ignored or
-                                    // the import canceled
-                                    continueOnColumnError = getErrorResponse(continueOnColumnError,
-                                                                             "<html><b>Table '</b>"
-                                                                                                    + tableDefn.getName()
-                                                                                                    + "<b>' column name '</b>"
-                                                                                                    + columnName
-                                                                                                    + "<b>' unrecognized in import file '</b>"
-                                                                                                    + importFileName
-                                                                                                    + "<b>'; continue?",
-                                                                             "Column Error",
-                                                                             "Ignore this invalid column name",
-                                                                             "Ignore this and any remaining invalid column names",
-                                                                             "Stop importing",
-                                                                             parent);
+                                    // Update the table data at the row and
+                                    // column specified with the value from
+                                    // the ancillary data
+                                    tableDefn.getData().set(row
+                                                            * numColumns
+                                                            + column,
+                                                            ancillaryData.getValue());
                                 }
                             }
+                            // The column doesn't exist
+                            else
+                            {
+                                // Check if the error should be ignored or
+                                // the import canceled
+                                continueOnColumnError = getErrorResponse(continueOnColumnError,
+                                                                         "<html><b>Table '</b>"
+                                                                                                + tableDefn.getName()
+                                                                                                + "<b>' column name '</b>"
+                                                                                                + columnName
+                                                                                                + "<b>' unrecognized in import file '</b>"
+                                                                                                + importFileName
+                                                                                                + "<b>'; continue?",
+                                                                         "Column Error",
+                                                                         "Ignore this invalid column name",
+                                                                         "Ignore this and any remaining invalid column names",
+                                                                         "Stop importing",
+                                                                         parent);
+                            }
                         }
                     }
                 }
             }
-
-            // Add the table definition to the list
-            tableDefinitions.add(tableDefn);
-
-            // Check if the data from all tables is to be read
-            if (importType == ImportType.IMPORT_ALL)
-            {
-                // Process this child system's children, if any
-                unbuildSpaceSystems(childSystem,
-                                    systemName,
-                                    importType,
-                                    importFileName);
-            }
         }
+
+        // Add the table definition to the list, or, if a table definition
+        // listener is set, hand it to the listener so that the table can be
+        // created while the remaining space systems are read
+        addTableDefinition(tableDefinitions, tableDefn);
     }
 
     /**************************************************************************
@@ -2108,10 +2674,121 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     }
 
     /**************************************************************************
-     * Build the space systems
+     * Determine the position of each table's space system in the space system
+     * hierarchy. A table's space system is placed within the system named by
+     * the table's system data field (or the default system if the field is
+     * missing or empty). If no space system with that name exists then the
+     * system is created as a child of the previous table's space system. The
+     * tables' data isn't loaded
+     *
+     * @param tableNames
+     *            array of table names to convert
+     *
+     * @param rootNode
+     *            root of the space system hierarchy
+     *************************************************************************/
+    private void buildSpaceSystemHierarchy(String[] tableNames,
+                                           SpaceSystemNode rootNode)
+    {
+        // Create a field handler for retrieving the tables' system data field
+        CcddFieldHandler systemFieldHandler = new CcddFieldHandler(ccddMain);
+
+        SpaceSystemNode parentNode = rootNode;
+
+        // Step through each table name
+        for (String tableName : tableNames)
+        {
+            String systemName;
+
+            // Build the table's data field information in the same manner as
+            // when the table's data is loaded
+            systemFieldHandler.buildFieldInformation(dbTable.retrieveFieldDefinitions(tableName,
+                                                                                      parent)
+                                                            .toArray(new String[0][0]),
+                                                     tableName,
+                                                     true);
+
+            // Get the table's system from the system name data field, if it
+            // exists
+            FieldInformation fieldInfo = systemFieldHandler.getFieldInformationByName(tableName,
+                                                                                      systemFieldName);
+
+            // Check that the system data field exists and isn't empty
+            if (fieldInfo != null && !fieldInfo.getValue().isEmpty())
+            {
+                // Store the system name
+                systemName = fieldInfo.getValue();
+            }
+            // The field value doesn't exist
+            else
+            {
+                // Assign a default system name
+                systemName = "DefaultSystem";
+            }
+
+            // Get the existing space system with this name, if any
+            SpaceSystemNode systemNode = spaceSystemIndex.get(systemName);
+
+            // Check if no space system with this name exists
+            if (systemNode == null)
+            {
+                // Create a new space system using the system name from the
+                // table's data field
+                systemNode = addSpaceSystemNode(parentNode, systemName, null);
+            }
+
+            // Add the table's space system to the system
+            parentNode = addSpaceSystemNode(systemNode, tableName, tableName);
+        }
+    }
+
+    /**************************************************************************
+     * Add a space system to the space system hierarchy as a child of the
+     * specified space system
+     *
+     * @param parentNode
+     *            parent space system for the new system
+     *
+     * @param systemName
+     *            name for the new space system
+     *
+     * @param tableName
+     *            name of the table the new space system represents; null if
+     *            the space system represents a system
+     *
+     * @return Reference to the new space system
+     *************************************************************************/
+    private SpaceSystemNode addSpaceSystemNode(SpaceSystemNode parentNode,
+                                               String systemName,
+                                               String tableName)
+    {
+        SpaceSystemNode node = new SpaceSystemNode(systemName, tableName);
+        parentNode.children.add(node);
+
+        // Check if no space system with this name is in the index. If more
+        // than one system has the same name then the first one added is the
+        // one located by name
+        if (!spaceSystemIndex.containsKey(systemName))
+        {
+            // Add the space system to the index
+            spaceSystemIndex.put(systemName, node);
+        }
+
+        return node;
+    }
+
+    /**************************************************************************
+     * Create the specified space system and output it, followed by its child
+     * systems. If the space system represents a table then the table's data is
+     * loaded and converted. If the table's data can't be loaded then the
+     * table's space system is omitted and its child systems are output in its
+     * place
+     *
+     * @param xmlWriter
+     *            XML stream writer
      *
      * @param node
-     *            current tree node
+     *            space system to output
      *
      * @param includeVariablePaths
      *            true to include the variable path for each variable in a
@@ -2128,262 +2805,356 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
      *            and data type/variable name separator character(s); null if
      *            includeVariablePaths is false
      *
-     * @param parentSystem
-     *            parent space system for this node
+     * @throws JAXBException
+     *             If an error occurs converting the space system's contents
+     *             to XML
+     *
+     * @throws XMLStreamException
+     *             If an error occurs writing the XML
      *************************************************************************/
-    private void buildSpaceSystems(String[] tableNames,
-                                   boolean includeVariablePaths,
-                                   CcddVariableConversionHandler variableHandler,
-                                   String[] separators,
-                                   SpaceSystemType parentSystem)
+    private void writeSpaceSystem(XMLStreamWriter xmlWriter,
+                                  SpaceSystemNode node,
+                                  boolean includeVariablePaths,
+                                  CcddVariableConversionHandler variableHandler,
+                                  String[] separators) throws JAXBException,
+                                                       XMLStreamException
     {
-        // Step through each table name
-        for (String tableName : tableNames)
+        // Output the start of the space system, along with its contents
+        boolean isOutput = startSpaceSystem(xmlWriter,
+                                            node,
+                                            includeVariablePaths,
+                                            variableHandler,
+                                            separators);
+
+        // Step through each of the space system's child systems
+        for (SpaceSystemNode childNode : node.children)
+        {
+            // Output the child system and its child systems
+            writeSpaceSystem(xmlWriter,
+                             childNode,
+                             includeVariablePaths,
+                             variableHandler,
+                             separators);
+        }
+
+        // Check if the space system was output
+        if (isOutput)
+        {
+            // Complete the space system
+            xmlWriter.writeEndElement();
+        }
+    }
+
+    /**************************************************************************
+     * Create the specified space system and output the start of its element,
+     * along with its attributes and contents. The space system is discarded
+     * once output
+     *
+     * @param xmlWriter
+     *            XML stream writer
+     *
+     * @param node
+     *            space system to output
+     *
+     * @param includeVariablePaths
+     *            true to include the variable path for each variable in a
+     *            structure table, both in application format and using the
+     *            user-defined separator characters
+     *
+     * @param variableHandler
+     *            variable handler class reference; null if
+     *            includeVariablePaths is false
+     *
+     * @param separators
+     *            string array containing the variable path separator
+     *            character(s), show/hide data types flag ('true' or 'false'),
+     *            and data type/variable name separator character(s); null if
+     *            includeVariablePaths is false
+     *
+     * @return true if the space system is output; false if the space system
+     *         represents a table for which the data can't be loaded
+     *
+     * @throws JAXBException
+     *             If an error occurs converting the space system's contents
+     *             to XML
+     *
+     * @throws XMLStreamException
+     *             If an error occurs writing the XML
+     *************************************************************************/
+    private boolean startSpaceSystem(XMLStreamWriter xmlWriter,
+                                     SpaceSystemNode node,
+                                     boolean includeVariablePaths,
+                                     CcddVariableConversionHandler variableHandler,
+                                     String[] separators) throws JAXBException,
+                                                          XMLStreamException
+    {
+        // Check if the space system represents a table; if so create the
+        // space system from the table's data, else create the system's space
+        // system
+        SpaceSystemType system = node.tableName != null
+                                                        ? buildTableSpaceSystem(node.tableName,
+                                                                                includeVariablePaths,
+                                                                                variableHandler,
+                                                                                separators)
+                                                        : createSpaceSystem(node.name,
+                                                                            null,
+                                                                            classification2Attr,
+                                                                            validationStatusAttr,
+                                                                            versionAttr,
+                                                                            null,
+                                                                            null);
+
+        // Check if the space system was created
+        if (system != null)
         {
-            // Get the information from the database for the specified table
-            TableInformation tableInfo = dbTable.loadTableData(tableName,
-                                                               true,
-                                                               true,
-                                                               false,
-                                                               true,
-                                                               parent);
+            // Output the space system's attributes and contents
+            writeSpaceSystemStart(xmlWriter, system, false);
+        }
+
+        return system != null;
+    }
 
-            // Check if the table's data successfully loaded
-            if (!tableInfo.isErrorFlag())
+    /**************************************************************************
+     * Load the specified table's data and create the space system
+     * representing it
+     *
+     * @param tableName
+     *            name of the table
+     *
+     * @param includeVariablePaths
+     *            true to include the variable path for each variable in a
+     *            structure table, both in application format and using the
+     *            user-defined separator characters
+     *
+     * @param variableHandler
+     *            variable handler class reference; null if
+     *            includeVariablePaths is false
+     *
+     * @param separators
+     *            string array containing the variable path separator
+     *            character(s), show/hide data types flag ('true' or 'false'),
+     *            and data type/variable name separator character(s); null if
+     *            includeVariablePaths is false
+     *
+     * @return Reference to the table's space system; null if the table's data
+     *         can't be loaded
+     *************************************************************************/
+    private SpaceSystemType buildTableSpaceSystem(String tableName,
+                                                  boolean includeVariablePaths,
+                                                  CcddVariableConversionHandler variableHandler,
+                                                  String[] separators)
+    {
+        SpaceSystemType tableSystem = null;
+
+        // Get the information from the database for the specified table
+        TableInformation tableInfo = dbTable.loadTableData(tableName,
+                                                           true,
+                                                           true,
+                                                           false,
+                                                           true,
+                                                           parent);
+
+        // Check if the table's data successfully loaded
+        if (!tableInfo.isErrorFlag())
+        {
+            // Get the table type and from the type get the type
+            // definition. The type definition can be a global parameter
+            // since if the table represents a structure, then all of its
+            // children are also structures, and if the table represents
+            // commands or other table type then it is processed within
+            // this nest level
+            typeDefn = ccddMain.getTableTypeHandler().getTypeDefinition(tableInfo.getType());
+
+            // Get the table's basic type - structure, command, or the
+            // original table type if not structure or command table
+            String tableType = typeDefn.isStructure()
+                                                      ? TYPE_STRUCTURE
+                                                      : typeDefn.isCommand()
+                                                                             ? TYPE_COMMAND
+                                                                             : tableInfo.getType();
+
+            // Check if the table type is valid
+            if (tableType != null)
             {
-                // Get the table type and from the type get the type
-                // definition. The type definition can be a global parameter
-                // since if the table represents a structure, then all of its
-                // children are also structures, and if the table represents
-                // commands or other table type then it is processed within
-                // this nest level
-                typeDefn = ccddMain.getTableTypeHandler().getTypeDefinition(tableInfo.getType());
-
-                // Get the table's basic type - structure, command, or the
-                // original table type if not structure or command table
-                String tableType = typeDefn.isStructure()
-                                                          ? TYPE_STRUCTURE
-                                                          : typeDefn.isCommand()
-                                                                                 ? TYPE_COMMAND
-                                                                                 : tableInfo.getType();
-
-                // Check if the table type is valid
-                if (tableType != null)
+                // Check if this type hasn't already been referenced
+                if (!referencedTableTypes.contains(tableInfo.getType()))
                 {
-                    // Check if this type hasn't already been referenced
-                    if (!referencedTableTypes.contains(tableInfo.getType()))
-                    {
-                        // Add the table type to the reference list
-                        referencedTableTypes.add(tableInfo.getType());
-                    }
+                    // Add the table type to the reference list
+                    referencedTableTypes.add(tableInfo.getType());
+                }
 
-                    // Check if the flag is set that indicates macros should be
-                    // replaced
-                    if (replaceMacros)
-                    {
-                        // Replace all macro names with their corresponding
-                        // values
-                        tableInfo.setData(macroHandler.replaceAllMacros(tableInfo.getData()));
-                    }
-                    // Macros are to be retained
-                    else
+                // Check if the flag is set that indicates macros should be
+                // replaced
+                if (replaceMacros)
+                {
+                    // Replace all macro names with their corresponding
+                    // values
+                    tableInfo.setData(macroHandler.replaceAllMacros(tableInfo.getData()));
+                }
+                // Macros are to be retained
+                else
+                {
+                    // Step through each row of data in the table
+                    for (String[] rowData : tableInfo.getData())
                     {
-                        // Step through each row of data in the table
-                        for (String[] rowData : tableInfo.getData())
+                        // Step through each column in the row
+                        for (String columnData : rowData)
                         {
-                            // Step through each column in the row
-                            for (String columnData : rowData)
+                            // Step through each macro referenced in the
+                            // column
+                            for (String macro : macroHandler.getReferencedMacros(columnData))
                             {
-                                // Step through each macro referenced in the
-                                // column
-                                for (String macro : macroHandler.getReferencedMacros(columnData))
+                                // Check if this macro asn't already been
+                                // referenced
+                                if (!referencedMacros.contains(macro))
                                 {
-                                    // Check if this macro asn't already been
-                                    // referenced
-                                    if (!referencedMacros.contains(macro))
-                                    {
-                                        // Add the macro to the reference list
-                                        referencedMacros.add(macro);
-                                    }
+                                    // Add the macro to the reference list
+                                    referencedMacros.add(macro);
                                 }
                             }
                         }
                     }
+                }
 
-                    String systemName;
+                // Create a list to contain the additional table
+                // information; e.g., the table's type and data field names
+                List<String[]> otherData = new ArrayList<String[]>();
 
-                    // Get the table's system from the system name data field,
-                    // if it exists
-                    FieldInformation fieldInfo = tableInfo.getFieldHandler().getFieldInformationByName(tableName,
-                                                                                                       systemFieldName);
+                // Add the table type to the list of extra data - this is
+                // the actual table type name (i.e., not reduced to its
+                // basic type, such as 'structure' or 'command')
+                otherData.add(new String[] {XTCETags.TABLE_TYPE.getTag(),
+                                            tableInfo.getType()});
 
-                    // Check that the system data field exists and isn't empty
-                    if (fieldInfo != null && !fieldInfo.getValue().isEmpty())
-                    {
-                        // Store the system name
-                        systemName = fieldInfo.getValue();
-                    }
-                    // The field value doesn't exist
-                    else
-                    {
-                        // Assign a default system name
-                        systemName = "DefaultSystem";
-                    }
+                // Store any data field names and values
+                storeDataFields(tableInfo.getFieldHandler().getFieldInformation(),
+                                null,
+                                otherData);
 
-                    // Search the existing space systems for one with this name
-                    SpaceSystemType existingSystem = getSpaceSystemByName(systemName);
-
-                    // Set the parent system to the existing system if found,
-                    // else create a new space system using the system name
-                    // from the table's data field
-                    parentSystem = (existingSystem == null)
-                                                            ? addSpaceSystem(parentSystem,
-                                                                             systemName,
-                                                                             null,
-                                                                             classification2Attr,
-                                                                             validationStatusAttr,
-                                                                             versionAttr,
-                                                                             null)
-                                                            : existingSystem;
-
-                    // Create a list to contain the additional table
-                    // information; e.g., the table's type and data field names
-                    List<String[]> otherData = new ArrayList<String[]>();
-
-                    // Add the table type to the list of extra data - this is
-                    // the actual table type name (i.e., not reduced to its
-                    // basic type, such as 'structure' or 'command')
-                    otherData.add(new String[] {XTCETags.TABLE_TYPE.getTag(),
-                                                tableInfo.getType()});
-
-                    // Store any data field names and values
-                    storeDataFields(tableInfo.getFieldHandler().getFieldInformation(),
-                                    null,
-                                    otherData);
-
-                    // Check if this is a node for a structure table
-                    if (tableType.equals(TYPE_STRUCTURE))
+                // Check if this is a node for a structure table
+                if (tableType.equals(TYPE_STRUCTURE))
+                {
+                    // Get the default column indices
+                    int varColumn = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+                    int typeColumn = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
+                    int sizeColumn = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
+                    int bitColumn = typeDefn.getColumnIndexByInputType(InputDataType.BIT_LENGTH);
+                    int enumColumn = typeDefn.getColumnIndexByInputType(InputDataType.ENUMERATION);
+                    int descColumn = typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION);
+                    int unitsColumn = typeDefn.getColumnIndexByInputType(InputDataType.UNITS);
+
+                    // Get the variable description column. If the default
+                    // structure description column name isn't used then
+                    // the first column containing 'description' is
+                    // selected
+
+                    // Add the structure
+                    tableSystem = createSpaceSystem(tableName,
+                                                    tableInfo.getDescription(),
+                                                    classification3Attr,
+                                                    validationStatusAttr,
+                                                    versionAttr,
+                                                    null,
+                                                    otherData);
+
+                    // Step through each row in the table
+                    for (int row = 0; row < tableInfo.getData().length; row++)
                     {
-                        // Get the default column indices
-                        int varColumn = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
-                        int typeColumn = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
-                        int sizeColumn = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
-                        int bitColumn = typeDefn.getColumnIndexByInputType(InputDataType.BIT_LENGTH);
-                        int enumColumn = typeDefn.getColumnIndexByInputType(InputDataType.ENUMERATION);
-                        int descColumn = typeDefn.getColumnIndexByInputType(InputDataType.DESCRIPTION);
-                        int unitsColumn = typeDefn.getColumnIndexByInputType(InputDataType.UNITS);
-
-                        // Get the variable description column. If the default
-                        // structure description column name isn't used then
-                        // the first column containing 'description' is
-                        // selected
-
-                        // Add the structure
-                        parentSystem = addSpaceSystem(parentSystem,
-                                                      tableName,
-                                                      tableInfo.getDescription(),
-                                                      classification3Attr,
-                                                      validationStatusAttr,
-                                                      versionAttr,
-                                                      otherData);
-
-                        // Step through each row in the table
-                        for (int row = 0; row < tableInfo.getData().length; row++)
+                        // Add the variable to the data sheet
+                        addSpaceSystemParameter(tableSystem,
+                                                tableInfo,
+                                                varColumn,
+                                                typeColumn,
+                                                sizeColumn,
+                                                bitColumn,
+                                                enumColumn,
+                                                unitsColumn,
+                                                descColumn,
+                                                tableInfo.getData()[row][typeColumn],
+                                                tableInfo.getData()[row][varColumn]);
+
+                        // Check if variable paths are to be output
+                        if (includeVariablePaths)
                         {
-                            // Add the variable to the data sheet
-                            addSpaceSystemParameter(parentSystem,
-                                                    tableInfo,
-                                                    varColumn,
-                                                    typeColumn,
-                                                    sizeColumn,
-                                                    bitColumn,
-                                                    enumColumn,
-                                                    unitsColumn,
-                                                    descColumn,
-                                                    tableInfo.getData()[row][typeColumn],
-                                                    tableInfo.getData()[row][varColumn]);
-
-                            // Check if variable paths are to be output
-                            if (includeVariablePaths)
-                            {
-                                // Get the variable path
-                                String variablePath = tableInfo.getTablePath()
-                                                      + ","
-                                                      + tableInfo.getData()[row][typeColumn]
-                                                      + "."
-                                                      + tableInfo.getData()[row][varColumn];
-
-                                // Add the path, in both application and
-                                // user-defined formats, to the list to be
-                                // output
-                                referencedVariablePaths.add(new String[] {variablePath,
-                                                                          variableHandler.getFullVariableName(variablePath,
-                                                                                                              separators[0],
-                                                                                                              Boolean.parseBoolean(separators[1]),
-                                                                                                              separators[2])});
-                            }
+                            // Get the variable path
+                            String variablePath = tableInfo.getTablePath()
+                                                  + ","
+                                                  + tableInfo.getData()[row][typeColumn]
+                                                  + "."
+                                                  + tableInfo.getData()[row][varColumn];
+
+                            // Add the path, in both application and
+                            // user-defined formats, to the list to be
+                            // output
+                            referencedVariablePaths.add(new String[] {variablePath,
+                                                                      variableHandler.getFullVariableName(variablePath,
+                                                                                                          separators[0],
+                                                                                                          Boolean.parseBoolean(separators[1]),
+                                                                                                          separators[2])});
                         }
                     }
-                    // Not a structure table node; i.e., it's a command or
+                }
+                // Not a structure table node; i.e., it's a command or
+                // user-defined table type
+                else
+                {
+                    // Check if this is a command table
+                    if (tableType.equals(TYPE_COMMAND))
+                    {
+                        // Add the user-defined table to the space system
+                        tableSystem = createSpaceSystem(tableName,
+                                                        tableInfo.getDescription(),
+                                                        classification3Attr,
+                                                        validationStatusAttr,
+                                                        versionAttr,
+                                                        null,
+                                                        otherData);
+
+                        // Add the command(s) from this table to the space
+                        // system
+                        addSpaceSystemCommands(tableSystem, tableInfo);
+                    }
+                    // Not a command (or structure) table; i.e., it's a
                     // user-defined table type
                     else
                     {
-                        // Check if this is a command table
-                        if (tableType.equals(TYPE_COMMAND))
-                        {
-                            // Add the user-defined table to the space system
-                            parentSystem = addSpaceSystem(parentSystem,
-                                                          tableName,
-                                                          tableInfo.getDescription(),
-                                                          classification3Attr,
-                                                          validationStatusAttr,
-                                                          versionAttr,
-                                                          otherData);
-
-                            // Add the command(s) from this table to the space
-                            // system
-                            addSpaceSystemCommands(parentSystem, tableInfo);
-                        }
-                        // Not a command (or structure) table; i.e., it's a
-                        // user-defined table type
-                        else
+                        // Store this table's data as ancillary data for
+                        // the current space system. Step through each row
+                        // of the table
+                        for (int row = 0; row < tableInfo.getData().length; row++)
                         {
-                            // Store this table's data as ancillary data for
-                            // the current space system. Step through each row
-                            // of the table
-                            for (int row = 0; row < tableInfo.getData().length; row++)
+                            // Step through each column in the row
+                            for (int column = 0; column < tableInfo.getData()[row].length; column++)
                             {
-                                // Step through each column in the row
-                                for (int column = 0; column < tableInfo.getData()[row].length; column++)
+                                // Check that this isn't the primary key or
+                                // row index column, and that the column
+                                // value isn't blank
+                                if (column != DefaultColumn.PRIMARY_KEY.ordinal()
+                                    && column != DefaultColumn.ROW_INDEX.ordinal()
+                                    && !tableInfo.getData()[row][column].isEmpty())
                                 {
-                                    // Check that this isn't the primary key or
-                                    // row index column, and that the column
-                                    // value isn't blank
-                                    if (column != DefaultColumn.PRIMARY_KEY.ordinal()
-                                        && column != DefaultColumn.ROW_INDEX.ordinal()
-                                        && !tableInfo.getData()[row][column].isEmpty())
-                                    {
-                                        // Store the data column name and value
-                                        otherData.add(new String[] {XTCETags.COLUMN.getColumnTag(typeDefn.getColumnNamesUser()[column],
-                                                                                                 row),
-                                                                    tableInfo.getData()[row][column]});
-                                    }
+                                    // Store the data column name and value
+                                    otherData.add(new String[] {XTCETags.COLUMN.getColumnTag(typeDefn.getColumnNamesUser()[column],
+                                                                                             row),
+                                                                tableInfo.getData()[row][column]});
                                 }
                             }
-
-                            // Add the user-defined table to the space system
-                            parentSystem = addSpaceSystem(parentSystem,
-                                                          tableName,
-                                                          tableInfo.getDescription(),
-                                                          classification3Attr,
-                                                          validationStatusAttr,
-                                                          versionAttr,
-                                                          otherData);
                         }
+
+                        // Add the user-defined table to the space system
+                        tableSystem = createSpaceSystem(tableName,
+                                                        tableInfo.getDescription(),
+                                                        classification3Attr,
+                                                        validationStatusAttr,
+                                                        versionAttr,
+                                                        null,
+                                                        otherData);
                     }
                 }
             }
         }
+
+        return tableSystem;
     }
 
     /**************************************************************************
@@ -2433,12 +3204,7 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
     }
 
     /**************************************************************************
-     * Create a new space system as a child of the specified space system. If
-     * the specified system is null then this is the root space system
-     *
-     * @param system
-     *            parent space system for the new system; null for the root
-     *            space system
+     * Create a new space system
      *
      * @param subsystemName
      *            name for the new space system
@@ -2455,19 +3221,23 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
      * @param version
      *            XML document version
      *
+     * @param date
+     *            XML document creation time and date; null if not specified
+     *            (only the root space system has the date)
+     *
      * @param otherAttrs
      *            list containing other attribute data in the format [attribute
      *            name][attribute value]
      *
      * @return Reference to the new space system
      *************************************************************************/
-    private SpaceSystemType addSpaceSystem(SpaceSystemType system,
-                                           String subsystemName,
-                                           String shortDescription,
-                                           String classification,
-                                           String validationStatus,
-                                           String version,
-                                           List<String[]> otherAttrs)
+    private SpaceSystemType createSpaceSystem(String subsystemName,
+                                              String shortDescription,
+                                              String classification,
+                                              String validationStatus,
+                                              String version,
+                                              String date,
+                                              List<String[]> otherAttrs)
     {
         // Create the new space system and set the name attribute
         SpaceSystemType subsystem = factory.createSpaceSystemType();
@@ -2485,20 +3255,7 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
                   classification,
                   validationStatus,
                   version,
-                  (system == null ? new Date().toString() : null));
-
-        // Check if this is the root space system
-        if (system == null)
-        {
-            // Set this space system as the root system
-            project = factory.createSpaceSystem(subsystem);
-        }
-        // Not the root space system
-        else
-        {
-            // Add the new space system as a child of the specified system
-            system.getSpaceSystem().add(subsystem);
-        }
+                  date);
 
         // Check if other attributes exist
         if (otherAttrs != null && !otherAttrs.isEmpty())
@@ -2510,77 +3267,6 @@ public class CcddXTCEHandler extends CcddImportSupportHandler implements CcddImp
         return subsystem;
     }
 
-    /**************************************************************************
-     * Get the reference to the space system with the specified name, starting
-     * at the root space system
-     *
-     * @param systemName
-     *            name to search for within the space system hierarchy
-     *
-     * @return Reference to the space system with the same name as the search
-     *         name; null if no space system name matches the search name
-     *************************************************************************/
-    private SpaceSystemType getSpaceSystemByName(String systemName)
-    {
-        // Search the space system hierarchy, beginning at the root system
-        return searchSpaceSystemsForName(systemName,
-                                         project.getValue(),
-                                         null);
-    }
-
-    /**************************************************************************
-     * Recursively search through the space system tree for the space system
-     * with the same name as the search name
-     *
-     * @param systemName
-     *            name to search for within the space system hierarchy
-     *
-     * @param system
-     *            current space system to check
-     *
-     * @param foundSystem
-     *            space system that matches the search name; null if no match
-     *            has been found
-     *
-     * @return Reference to the space system with the same name as the search
-     *         name; null if no space system name matches the search name
-     *************************************************************************/
-    private SpaceSystemType searchSpaceSystemsForName(String systemName,
-                                                      SpaceSystemType system,
-                                                      SpaceSystemType foundSystem)
-    {
-        // Check if the space system hasn't been found
-        if (foundSystem == null)
-        {
-            // Check if the current system's name matches the search name
-            if (system.getName().equals(systemName))
-            {
-                // Store the reference to the matching system
-                foundSystem = system;
-            }
-            // Check if the space system has subsystems
-            else if (!system.getSpaceSystem().isEmpty())
-            {
-                // Step through each subsystem
-                for (SpaceSystemType sys : system.getSpaceSystem())
-                {
-                    // Search the subsystem (and its subsystems, if any) for a
-                    // match
-                    foundSystem = searchSpaceSystemsForName(systemName, sys, null);
-
-                    // Check if a system with a matching name was found
-                    if (foundSystem != null)
-                    {
-                        // Stop searching
-                        break;
-                    }
-                }
-            }
-        }
-
-        return foundSystem;
-    }
-
     /**************************************************************************
      * Set the space system header attributes
      *